@@ -1,10 +1,15 @@
 package epam.com.esm.config;
 
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import epam.com.esm.config.pool.PoolMetrics;
+import epam.com.esm.config.pool.PoolProperties;
 import epam.com.esm.exception.types.UnexpectedException;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
 import org.springframework.orm.hibernate5.HibernateTransactionManager;
 import org.springframework.orm.hibernate5.LocalSessionFactoryBean;
 import org.springframework.scheduling.annotation.EnableScheduling;
@@ -12,6 +17,10 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 import javax.sql.DataSource;
 import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -29,8 +38,12 @@ import java.util.Properties;
  *     <li>Data Source Init, allows/disallows data initialization at application start</li>
  *     <li>Hibernate DDL Auto, specifies DDL mode</li>
  *     <li>Hibernate Show SQL, allows/disallows showing sql queries execution in console</li>
- *     <li>JDBC Max Size, specifies max number of connections for datasource connection pool</li>
- *     <li>JDBC Min Size, specifies min number of connections</li>
+ *     <li>Pool Max Size, specifies max number of connections for datasource connection pool</li>
+ *     <li>Pool Min Idle, specifies min number of idle connections, pool is warmed up to this size at start</li>
+ *     <li>Pool Max Lifetime, specifies max lifetime of pooled connection</li>
+ *     <li>Pool Connection Timeout, specifies max time of waiting for connection from pool</li>
+ *     <li>Pool Leak Detection Threshold, specifies time after which not returned connection is reported</li>
+ *     <li>MySQL Prepared Statements Cache, specifies driver prepared statements cache mode, size and limit</li>
  *     <li>JDBC Batch Size, specifies number of rows for update operations</li>
  *     <li>JDBC Fetch Size, specifies number of rows for select operations</li>
  *     <li>Hibernate Lazy Load No Trans, specifies lazy load for Hibernate</li>
@@ -40,6 +53,7 @@ import java.util.Properties;
 @Configuration
 @EnableTransactionManagement
 @EnableScheduling
+@EnableConfigurationProperties(PoolProperties.class)
 public class HibernateConfig {
 
     /**
@@ -77,16 +91,6 @@ public class HibernateConfig {
      */
     private static final String HIBERNATE_ENABLE_LAZY_LOAD_NO_TRANS = "hibernate.enable_lazy_load_no_trans";
 
-    /**
-     * Property name holder for JDBC Max Size property
-     */
-    private static final String MAX_SIZE = "hibernate.c3p0.max_size";
-
-    /**
-     * Property name holder for JDBC Min Size property
-     */
-    private static final String MIN_SIZE = "hibernate.c3p0.min_size";
-
     /**
      * Property name holder for JDBC Batch Size property
      */
@@ -162,18 +166,6 @@ public class HibernateConfig {
     @Value("${spring.jpa.show-sql}")
     private Boolean showSql;
 
-    /**
-     * Value holder for JDBC Max Size property
-     */
-    @Value("${spring.jpa.properties.hibernate.jdbc.max_size}")
-    private String maxSize;
-
-    /**
-     * Value holder for JDBC Min Size property
-     */
-    @Value("${spring.jpa.properties.hibernate.jdbc.min_size}")
-    private String minSize;
-
     /**
      * Value holder for JDBC Batch Size property
      */
@@ -193,20 +185,59 @@ public class HibernateConfig {
     private String lazyLoad;
 
     /**
-     * Creates and configures datasource bean by setting driver, url, username and password properties
+     * Holds size, time bounds and driver properties of connection pool
+     */
+    private final PoolProperties pool;
+
+    /**
+     * Constructs HibernateConfig with provided connection pool properties
+     *
+     * @param pool provided connection pool properties
+     */
+    @Autowired
+    public HibernateConfig(PoolProperties pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Creates and configures pooled datasource bean by setting driver, url, username, password and pool properties
+     * <p>
+     * Pool is warmed up to its min idle size before datasource is returned
      *
      * @return {@code DataSource} configured datasource
      */
-    @Bean
+    @Bean(destroyMethod = "close")
     public DataSource dataSource() {
-        DriverManagerDataSource dataSource = new DriverManagerDataSource();
-        dataSource.setDriverClassName(driver);
-        dataSource.setUrl(jdbcUrl);
-        dataSource.setUsername(username);
-        dataSource.setPassword(password);
+        HikariConfig config = new HikariConfig();
+        config.setDriverClassName(driver);
+        config.setJdbcUrl(jdbcUrl);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setPoolName(pool.getPoolName());
+        config.setMaximumPoolSize(pool.getMaximumPoolSize());
+        config.setMinimumIdle(pool.getMinimumIdle());
+        config.setMaxLifetime(pool.getMaxLifetime());
+        config.setConnectionTimeout(pool.getConnectionTimeout());
+        config.setLeakDetectionThreshold(pool.getLeakDetectionThreshold());
+        config.setRegisterMbeans(true);
+        config.setMetricsTrackerFactory(poolMetrics());
+        pool.getDataSourceProperties().forEach(config::addDataSourceProperty);
+
+        HikariDataSource dataSource = new HikariDataSource(config);
+        warmUp(dataSource);
         return dataSource;
     }
 
+    /**
+     * Creates connection pool metrics bean
+     *
+     * @return {@code PoolMetrics} connection pool metrics
+     */
+    @Bean
+    public PoolMetrics poolMetrics() {
+        return new PoolMetrics();
+    }
+
     /**
      * Creates and configures LocalSessionFactoryBean bean by setting datasource, packages for scan,
      * Hibernate properties
@@ -254,8 +285,6 @@ public class HibernateConfig {
         properties.put(HIBERNATE_HBM2DDL_AUTO, hbm2ddl);
         properties.put(HIBERNATE_SHOW_SQL, showSql);
         properties.put(HIBERNATE_ENABLE_LAZY_LOAD_NO_TRANS, lazyLoad);
-        properties.put(MAX_SIZE, maxSize);
-        properties.put(MIN_SIZE, minSize);
         properties.put(BATCH_SIZE, batchSize);
         properties.put(FETCH_SIZE, fetchSize);
         properties.put(HIBERNATE_SUFFIX, suffix);
@@ -263,4 +292,31 @@ public class HibernateConfig {
         properties.put(HIBERNATE_DATASOURCE_INITIALIZATION, datasourceInit);
         return properties;
     }
+
+    /**
+     * Fills connection pool to its min idle size by acquiring and releasing connections
+     * <p>
+     * May throw UnexpectedException if connection cannot be acquired
+     *
+     * @param dataSource provided pooled datasource
+     */
+    private void warmUp(HikariDataSource dataSource) {
+        List<Connection> connections = new ArrayList<>(pool.getMinimumIdle());
+
+        try {
+            for (int i = 0; i < pool.getMinimumIdle(); i++) {
+                connections.add(dataSource.getConnection());
+            }
+        } catch (SQLException e) {
+            throw new UnexpectedException("Connection pool warm up failed: " + e.getMessage());
+        } finally {
+            for (Connection connection : connections) {
+                try {
+                    connection.close();
+                } catch (SQLException ignored) {
+                    // connection is evicted by pool
+                }
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+package epam.com.esm.config.execution;
+
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
+import org.springframework.scheduling.concurrent.ConcurrentTaskScheduler;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * ExecutionConfig is the configuration class, runs request handling and background tasks on virtual threads
+ * <p>
+ * Active if execution.mode is virtual. Tomcat connector, async request processing and scheduled jobs (purchase
+ * status change) start virtual thread per task instead of taking pooled platform thread, so thread count no longer
+ * caps concurrency. Blocking work is bounded by connection pool instead: requests over maximum-pool-size wait for
+ * connection up to connection-timeout and then fail, so pool size is the real concurrency limit
+ */
+@Configuration
+@ConditionalOnProperty(name = "execution.mode", havingValue = "virtual")
+public class ExecutionConfig {
+
+    /**
+     * Sets virtual thread per request executor to Tomcat connector
+     *
+     * @return {@code TomcatProtocolHandlerCustomizer<ProtocolHandler>} protocol handler customizer
+     */
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadsProtocolHandlerCustomizer() {
+        return handler -> handler.setExecutor(VirtualThreads.newThreadPerTaskExecutor("http-vt-"));
+    }
+
+    /**
+     * Creates task executor of async request processing and async methods, replaces auto-configured pool
+     *
+     * @return {@code AsyncTaskExecutor} virtual thread per task executor
+     */
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+                  AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new ConcurrentTaskExecutor(VirtualThreads.newThreadPerTaskExecutor("task-vt-"));
+    }
+
+    /**
+     * Creates scheduled executor, scheduled jobs run on its virtual worker thread
+     *
+     * @return {@code ScheduledExecutorService} scheduled executor
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService scheduledExecutor() {
+        return Executors.newSingleThreadScheduledExecutor(VirtualThreads.newThreadFactory("scheduling-vt-"));
+    }
+
+    /**
+     * Creates task scheduler of scheduled jobs, replaces auto-configured scheduler
+     *
+     * @param scheduledExecutor provided scheduled executor
+     * @return {@code TaskScheduler} task scheduler
+     */
+    @Bean
+    public TaskScheduler taskScheduler(ScheduledExecutorService scheduledExecutor) {
+        return new ConcurrentTaskScheduler(scheduledExecutor);
+    }
+}
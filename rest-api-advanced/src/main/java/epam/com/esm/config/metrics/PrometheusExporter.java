@@ -0,0 +1,126 @@
+package epam.com.esm.config.metrics;
+
+import epam.com.esm.config.pool.PoolMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * PrometheusExporter is the service class, writes application metrics in Prometheus text format
+ * <p>
+ * Exports connection pool metrics. Durations are exported in seconds
+ */
+@Component
+public class PrometheusExporter {
+
+    /**
+     * Holds content type of Prometheus text format
+     */
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    /**
+     * Holds metric names prefix
+     */
+    private static final String PREFIX = "esm_";
+
+    /**
+     * Holds PoolMetrics object
+     */
+    private final PoolMetrics poolMetrics;
+
+    /**
+     * Constructs PrometheusExporter with provided metrics sources
+     *
+     * @param poolMetrics provided connection pool metrics
+     */
+    @Autowired
+    public PrometheusExporter(PoolMetrics poolMetrics) {
+        this.poolMetrics = poolMetrics;
+    }
+
+    /**
+     * Writes all metrics
+     *
+     * @return {@code String} metrics in Prometheus text format
+     */
+    public String export() {
+        StringBuilder sb = new StringBuilder(2048);
+        writePool(sb);
+        return sb.toString();
+    }
+
+    /**
+     * Writes connection pool metrics
+     *
+     * @param sb provided output
+     */
+    private void writePool(StringBuilder sb) {
+        String connections = PREFIX + "pool_connections";
+        header(sb, connections, "gauge", "Connections of pool by state");
+        sample(sb, connections, "state=\"active\"", poolMetrics.getActive());
+        sample(sb, connections, "state=\"idle\"", poolMetrics.getIdle());
+        sample(sb, connections, "state=\"total\"", poolMetrics.getTotal());
+        sample(sb, connections, "state=\"pending\"", poolMetrics.getPending());
+        metric(sb, PREFIX + "pool_acquire_total", "counter", "Acquired connections", poolMetrics.getAcquireCount());
+        metric(sb, PREFIX + "pool_acquire_seconds_total", "counter", "Total connection acquire time",
+               poolMetrics.getAcquireTotalMillis() / 1000);
+        metric(sb, PREFIX + "pool_acquire_max_seconds", "gauge", "Max connection acquire time",
+               poolMetrics.getAcquireMaxMillis() / 1000);
+        metric(sb, PREFIX + "pool_usage_seconds_total", "counter", "Total connection usage time",
+               poolMetrics.getUsageTotalMillis() / 1000.0);
+        metric(sb, PREFIX + "pool_timeouts_total", "counter", "Connection acquire timeouts",
+               poolMetrics.getTimeouts());
+    }
+
+    /**
+     * Writes metric with single sample
+     *
+     * @param sb provided output
+     * @param name provided metric name
+     * @param type provided metric type
+     * @param help provided metric description
+     * @param value provided sample value
+     */
+    private void metric(StringBuilder sb, String name, String type, String help, double value) {
+        header(sb, name, type, help);
+        sample(sb, name, null, value);
+    }
+
+    /**
+     * Writes metric help and type lines
+     *
+     * @param sb provided output
+     * @param name provided metric name
+     * @param type provided metric type
+     * @param help provided metric description
+     */
+    private void header(StringBuilder sb, String name, String type, String help) {
+        sb.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        sb.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    /**
+     * Writes sample line
+     *
+     * @param sb provided output
+     * @param name provided sample name
+     * @param labels provided sample labels, may be null
+     * @param value provided sample value
+     */
+    private void sample(StringBuilder sb, String name, String labels, double value) {
+        sb.append(name);
+
+        if (labels != null) {
+            sb.append('{').append(labels).append('}');
+        }
+
+        sb.append(' ');
+
+        if (value == Math.rint(value) && !Double.isInfinite(value) && Math.abs(value) < 1e15) {
+            sb.append((long) value);
+        } else {
+            sb.append(value);
+        }
+
+        sb.append('\n');
+    }
+}
@@ -6,6 +6,7 @@ import epam.com.esm.persistence.entity.impl.action.Order;
 import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
 import epam.com.esm.persistence.entity.impl.products.Tag;
 import epam.com.esm.persistence.entity.impl.user.User;
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
 import epam.com.esm.utils.search.request.builders.FilterBuilder;
 import epam.com.esm.utils.search.request.components.type.Joining;
 import epam.com.esm.utils.search.transport.request.SearchParamRequest;
@@ -41,12 +42,19 @@ public class OrderDaoImpl implements OrderDao {
     private final PurchaseDataDao purchaseDataDao;
 
     /**
-     * Constructs OrderDaoImpl object with provided dao object
+     * Holds FilterMetadataRegistry object
+     */
+    private final FilterMetadataRegistry registry;
+
+    /**
+     * Constructs OrderDaoImpl object with provided dao object and filter metadata registry
      *
      * @param purchaseDataDao service, provides operations for PurchaseData objects
+     * @param registry service, holds filter metadata of entities
      */
-    public OrderDaoImpl(PurchaseDataDao purchaseDataDao) {
+    public OrderDaoImpl(PurchaseDataDao purchaseDataDao, FilterMetadataRegistry registry) {
         this.purchaseDataDao = purchaseDataDao;
+        this.registry = registry;
     }
 
     /**
@@ -103,7 +111,8 @@ public class OrderDaoImpl implements OrderDao {
      */
     @Override
     public SearchParamResponse<Order> findAll(SearchParamRequest spReq) {
-        FilterBuilder<Order> fb = new FilterBuilder<>(entityManager, Order.class, GiftCertificate.class, User.class);
+        FilterBuilder<Order> fb = new FilterBuilder<>(entityManager, registry, Order.class, GiftCertificate.class,
+                                                      User.class);
         fb.applyRequest(spReq).addSearchPredicates(Joining.AND).buildPredicates(Joining.AND).addOrders();
         return initResponse(spReq, fb.count(true), new ArrayList<>(fb.runQuery(true)));
     }
@@ -131,7 +140,8 @@ public class OrderDaoImpl implements OrderDao {
      */
     @Override
     public SearchParamResponse<GiftCertificate> findGiftCertificates(Long orderId, SearchParamRequest spReq) {
-        FilterBuilder<GiftCertificate> fb = new FilterBuilder<>(entityManager, GiftCertificate.class, Tag.class);
+        FilterBuilder<GiftCertificate> fb = new FilterBuilder<>(entityManager, registry, GiftCertificate.class,
+                                                                Tag.class);
 
         Expression<Long> id = fb.getRoot().join("orders").get("id").as(Long.class);
         Predicate p = fb.getBuilder().and(fb.getBuilder().equal(id, orderId));
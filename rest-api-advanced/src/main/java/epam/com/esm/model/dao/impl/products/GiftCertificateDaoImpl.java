@@ -3,6 +3,7 @@ package epam.com.esm.model.dao.impl.products;
 import epam.com.esm.model.dao.interfaces.entity.products.GiftCertificateDao;
 import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
 import epam.com.esm.persistence.entity.impl.products.Tag;
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
 import epam.com.esm.utils.search.request.builders.FilterBuilder;
 import epam.com.esm.utils.search.request.components.type.Joining;
 import epam.com.esm.utils.search.transport.request.SearchParamRequest;
@@ -34,6 +35,20 @@ public class GiftCertificateDaoImpl implements GiftCertificateDao {
     @PersistenceContext
     private EntityManager entityManager;
 
+    /**
+     * Holds FilterMetadataRegistry object
+     */
+    private final FilterMetadataRegistry registry;
+
+    /**
+     * Constructs GiftCertificateDaoImpl object with provided filter metadata registry
+     *
+     * @param registry service, holds filter metadata of entities
+     */
+    public GiftCertificateDaoImpl(FilterMetadataRegistry registry) {
+        this.registry = registry;
+    }
+
     /**
      * Creates gift certificate
      *
@@ -88,7 +103,8 @@ public class GiftCertificateDaoImpl implements GiftCertificateDao {
      */
     @Override
     public SearchParamResponse<GiftCertificate> findAll(SearchParamRequest spReq) {
-        FilterBuilder<GiftCertificate> fb = new FilterBuilder<>(entityManager, GiftCertificate.class, Tag.class);
+        FilterBuilder<GiftCertificate> fb = new FilterBuilder<>(entityManager, registry, GiftCertificate.class,
+                                                                Tag.class);
         fb.applyRequest(spReq).addSearchPredicates(Joining.AND).buildPredicates(Joining.AND).addOrders();
         return initResponse(spReq, fb.count(true), new ArrayList<>(fb.runQuery(true)));
     }
@@ -144,7 +160,8 @@ public class GiftCertificateDaoImpl implements GiftCertificateDao {
      */
     @Override
     public SearchParamResponse<GiftCertificate> findAllTagged(SearchParamRequest spReq) {
-        FilterBuilder<GiftCertificate> fb = new FilterBuilder<>(entityManager, GiftCertificate.class, Tag.class);
+        FilterBuilder<GiftCertificate> fb = new FilterBuilder<>(entityManager, registry, GiftCertificate.class,
+                                                                Tag.class);
 
         Expression<Long> tagId = fb.getRoot().join("tags", JoinType.LEFT).get("id");
         Predicate c = fb.getBuilder().isNotNull(tagId);
@@ -166,7 +183,8 @@ public class GiftCertificateDaoImpl implements GiftCertificateDao {
      */
     @Override
     public SearchParamResponse<GiftCertificate> findAllNotTagged(SearchParamRequest spReq) {
-        FilterBuilder<GiftCertificate> fb = new FilterBuilder<>(entityManager, GiftCertificate.class, Tag.class);
+        FilterBuilder<GiftCertificate> fb = new FilterBuilder<>(entityManager, registry, GiftCertificate.class,
+                                                                Tag.class);
 
         Predicate c = fb.getBuilder().isNull(fb.getRoot().join("tags", JoinType.LEFT).get("id"));
 
@@ -198,7 +216,7 @@ public class GiftCertificateDaoImpl implements GiftCertificateDao {
      */
     @Override
     public SearchParamResponse<Tag> findTags(Long gCertId, SearchParamRequest spReq) {
-        FilterBuilder<Tag> fb = new FilterBuilder<>(entityManager, Tag.class, GiftCertificate.class);
+        FilterBuilder<Tag> fb = new FilterBuilder<>(entityManager, registry, Tag.class, GiftCertificate.class);
 
         Expression<Long> id = fb.getRoot().join("giftCertificates").get("id").as(Long.class);
         Predicate p = fb.getBuilder().and(fb.getBuilder().equal(id, gCertId));
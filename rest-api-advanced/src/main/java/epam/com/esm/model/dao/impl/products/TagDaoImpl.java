@@ -3,6 +3,7 @@ package epam.com.esm.model.dao.impl.products;
 import epam.com.esm.model.dao.interfaces.entity.products.TagDao;
 import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
 import epam.com.esm.persistence.entity.impl.products.Tag;
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
 import epam.com.esm.utils.search.request.builders.FilterBuilder;
 import epam.com.esm.utils.search.request.components.type.Joining;
 import epam.com.esm.utils.search.transport.request.SearchParamRequest;
@@ -34,6 +35,20 @@ public class TagDaoImpl implements TagDao {
     @PersistenceContext
     private EntityManager entityManager;
 
+    /**
+     * Holds FilterMetadataRegistry object
+     */
+    private final FilterMetadataRegistry registry;
+
+    /**
+     * Constructs TagDaoImpl object with provided filter metadata registry
+     *
+     * @param registry service, holds filter metadata of entities
+     */
+    public TagDaoImpl(FilterMetadataRegistry registry) {
+        this.registry = registry;
+    }
+
     /**
      * Creates tag
      *
@@ -76,7 +91,7 @@ public class TagDaoImpl implements TagDao {
      */
     @Override
     public SearchParamResponse<Tag> findAll(SearchParamRequest spReq) {
-        FilterBuilder<Tag> fb = new FilterBuilder<>(entityManager, Tag.class, GiftCertificate.class);
+        FilterBuilder<Tag> fb = new FilterBuilder<>(entityManager, registry, Tag.class, GiftCertificate.class);
         fb.applyRequest(spReq).addSearchPredicates(Joining.AND).buildPredicates(Joining.AND).addOrders();
         return initResponse(spReq, fb.count(true), new ArrayList<>(fb.runQuery(true)));
     }
@@ -132,7 +147,7 @@ public class TagDaoImpl implements TagDao {
      */
     @Override
     public SearchParamResponse<Tag> findAllCertificated(SearchParamRequest spReq) {
-        FilterBuilder<Tag> fb = new FilterBuilder<>(entityManager, Tag.class, GiftCertificate.class);
+        FilterBuilder<Tag> fb = new FilterBuilder<>(entityManager, registry, Tag.class, GiftCertificate.class);
 
         Expression<Long> gCertId = fb.getRoot().join("giftCertificates", JoinType.LEFT).get("id");
         Predicate c = fb.getBuilder().isNotNull(gCertId);
@@ -154,7 +169,7 @@ public class TagDaoImpl implements TagDao {
      */
     @Override
     public SearchParamResponse<Tag> findAllNotCertificated(SearchParamRequest spReq) {
-        FilterBuilder<Tag> fb = new FilterBuilder<>(entityManager, Tag.class, GiftCertificate.class);
+        FilterBuilder<Tag> fb = new FilterBuilder<>(entityManager, registry, Tag.class, GiftCertificate.class);
 
         Expression<Long> gCertId = fb.getRoot().join("giftCertificates", JoinType.LEFT).get("id");
         Predicate c = fb.getBuilder().isNull(gCertId);
@@ -188,7 +203,8 @@ public class TagDaoImpl implements TagDao {
      */
     @Override
     public SearchParamResponse<GiftCertificate> findGiftCertificates(Long tagId, SearchParamRequest spReq) {
-        FilterBuilder<GiftCertificate> fb = new FilterBuilder<>(entityManager, GiftCertificate.class, Tag.class);
+        FilterBuilder<GiftCertificate> fb = new FilterBuilder<>(entityManager, registry, GiftCertificate.class,
+                                                                Tag.class);
 
         Expression<Long> id = fb.getRoot().join("tags").get("id").as(Long.class);
         Predicate p = fb.getBuilder().and(fb.getBuilder().equal(id, tagId));
@@ -6,6 +6,7 @@ import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
 import epam.com.esm.persistence.entity.impl.products.Tag;
 import epam.com.esm.persistence.entity.impl.purchase.PurchaseData;
 import epam.com.esm.persistence.entity.impl.user.User;
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
 import epam.com.esm.utils.search.request.builders.FilterBuilder;
 import epam.com.esm.utils.search.request.components.type.Joining;
 import epam.com.esm.utils.search.transport.request.SearchParamRequest;
@@ -39,6 +40,20 @@ public class UserDaoImpl implements UserDao {
     @PersistenceContext
     private EntityManager entityManager;
 
+    /**
+     * Holds FilterMetadataRegistry object
+     */
+    private final FilterMetadataRegistry registry;
+
+    /**
+     * Constructs UserDaoImpl object with provided filter metadata registry
+     *
+     * @param registry service, holds filter metadata of entities
+     */
+    public UserDaoImpl(FilterMetadataRegistry registry) {
+        this.registry = registry;
+    }
+
     /**
      * Creates user
      *
@@ -92,7 +107,7 @@ public class UserDaoImpl implements UserDao {
      */
     @Override
     public SearchParamResponse<User> findAll(SearchParamRequest spReq) {
-        FilterBuilder<User> fb = new FilterBuilder<>(entityManager, User.class, Order.class);
+        FilterBuilder<User> fb = new FilterBuilder<>(entityManager, registry, User.class, Order.class);
         fb.applyRequest(spReq).addSearchPredicates(Joining.AND).buildPredicates(Joining.AND).addOrders();
         return initResponse(spReq, fb.count(true), new ArrayList<>(fb.runQuery(true)));
     }
@@ -163,7 +178,7 @@ public class UserDaoImpl implements UserDao {
      */
     @Override
     public SearchParamResponse<Order> findOrders(SearchParamRequest spReq, Long userId) {
-        FilterBuilder<Order> fb = new FilterBuilder<>(entityManager, Order.class, GiftCertificate.class);
+        FilterBuilder<Order> fb = new FilterBuilder<>(entityManager, registry, Order.class, GiftCertificate.class);
 
         Expression<Long> id = fb.getRoot().get("user").get("id").as(Long.class);
         Predicate p = fb.getBuilder().and(fb.getBuilder().equal(id, userId));
@@ -186,7 +201,7 @@ public class UserDaoImpl implements UserDao {
      */
     @Override
     public SearchParamResponse<PurchaseData> findPurchases(SearchParamRequest spReq, Long userId) {
-        FilterBuilder<PurchaseData> fb = new FilterBuilder<>(entityManager, PurchaseData.class,
+        FilterBuilder<PurchaseData> fb = new FilterBuilder<>(entityManager, registry, PurchaseData.class,
                                                                             GiftCertificate.class, User.class);
 
         Expression<Long> id = fb.getRoot().join("user").get("id").as(Long.class);
@@ -209,7 +224,7 @@ public class UserDaoImpl implements UserDao {
      */
     @Override
     public SearchParamResponse<Tag> findTags(SearchParamRequest spReq, Long userId) {
-        FilterBuilder<Tag> fb = new FilterBuilder<>(entityManager, Tag.class, GiftCertificate.class);
+        FilterBuilder<Tag> fb = new FilterBuilder<>(entityManager, registry, Tag.class, GiftCertificate.class);
 
         Expression<Long> id = fb.getRoot().join("giftCertificates")
                                           .join("orders")
@@ -7,6 +7,7 @@ import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
 import epam.com.esm.utils.search.data.AbstractDataHandler;
 import epam.com.esm.utils.search.data.impl.action.OrderUserDataHandler;
 import epam.com.esm.utils.search.data.impl.products.GiftCertificateDataHandler;
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
 import epam.com.esm.utils.search.transport.response.PageDataResponse;
 import epam.com.esm.utils.verifiers.action.OrderDtoVerifier;
 import epam.com.esm.view.dto.request.impl.audit.OrderDtoRequest;
@@ -37,15 +38,23 @@ public class OrderFacadeImpl implements OrderFacade {
     private final OrderDtoVerifier orderDtoVerifier;
 
     /**
-     * Constructs OrderFacadeImpl with OrderService and OrderDtoVerifier objects
+     * Holds FilterMetadataRegistry object
+     */
+    private final FilterMetadataRegistry registry;
+
+    /**
+     * Constructs OrderFacadeImpl with OrderService, OrderDtoVerifier and FilterMetadataRegistry objects
      *
      * @param orderService service, provides logic operations for orders
      * @param orderDtoVerifier service, provides validations operations for orders
+     * @param registry service, holds filter metadata of entities
      */
     @Autowired
-    public OrderFacadeImpl(OrderService orderService, OrderDtoVerifier orderDtoVerifier) {
+    public OrderFacadeImpl(OrderService orderService, OrderDtoVerifier orderDtoVerifier,
+                           FilterMetadataRegistry registry) {
         this.orderService = orderService;
         this.orderDtoVerifier = orderDtoVerifier;
+        this.registry = registry;
     }
 
     /**
@@ -105,7 +114,7 @@ public class OrderFacadeImpl implements OrderFacade {
      */
     @Override
     public PageDataResponse<OrderUserDtoResponse> findAll(WebRequest webRequest) {
-        AbstractDataHandler<Order, OrderUserDtoResponse> adh = new OrderUserDataHandler();
+        AbstractDataHandler<Order, OrderUserDtoResponse> adh = new OrderUserDataHandler(registry);
         return adh.processOutput(orderService.findAll(adh.processSearch(webRequest)));
     }
 
@@ -120,7 +129,7 @@ public class OrderFacadeImpl implements OrderFacade {
      */
     @Override
     public PageDataResponse<GiftCertificateDtoResponse> findGiftCertificates(Long orderId, WebRequest webRequest) {
-        AbstractDataHandler<GiftCertificate, GiftCertificateDtoResponse> adh = new GiftCertificateDataHandler();
+        AbstractDataHandler<GiftCertificate, GiftCertificateDtoResponse> adh = new GiftCertificateDataHandler(registry);
         return adh.processOutput(orderService.findGiftCertificates(orderId, adh.processSearch(webRequest)));
     }
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import epam.com.esm.persistence.entity.impl.products.Tag;
 import epam.com.esm.utils.search.data.AbstractDataHandler;
 import epam.com.esm.utils.search.data.impl.products.GiftCertificateDataHandler;
 import epam.com.esm.utils.search.data.impl.products.TagDataHandler;
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
 import epam.com.esm.utils.search.transport.response.PageDataResponse;
 import epam.com.esm.utils.verifiers.products.GiftCertificateDtoVerifier;
 import epam.com.esm.view.dto.request.impl.products.GiftCertificateDtoRequest;
@@ -38,15 +39,24 @@ public class GiftCertificateFacadeImpl implements GiftCertificateFacade {
     private final GiftCertificateDtoVerifier gcDtoVerifier;
 
     /**
-     * Constructs GiftCertificateFacadeImpl with GiftCertificateService and GiftCertificateDtoVerifier objects
+     * Holds FilterMetadataRegistry object
+     */
+    private final FilterMetadataRegistry registry;
+
+    /**
+     * Constructs GiftCertificateFacadeImpl with GiftCertificateService, GiftCertificateDtoVerifier and
+     * FilterMetadataRegistry objects
      *
      * @param gcService service, provides logic operations for gift certificates
      * @param gcDtoVerifier service, provides validations operations for gift certificates
+     * @param registry service, holds filter metadata of entities
      */
     @Autowired
-    public GiftCertificateFacadeImpl(GiftCertificateService gcService, GiftCertificateDtoVerifier gcDtoVerifier) {
+    public GiftCertificateFacadeImpl(GiftCertificateService gcService, GiftCertificateDtoVerifier gcDtoVerifier,
+                                     FilterMetadataRegistry registry) {
         this.gcService = gcService;
         this.gcDtoVerifier = gcDtoVerifier;
+        this.registry = registry;
     }
 
     /**
@@ -104,7 +114,7 @@ public class GiftCertificateFacadeImpl implements GiftCertificateFacade {
      */
     @Override
     public PageDataResponse<GiftCertificateDtoResponse> findAll(WebRequest webRequest) {
-        AbstractDataHandler<GiftCertificate, GiftCertificateDtoResponse> adh = new GiftCertificateDataHandler();
+        AbstractDataHandler<GiftCertificate, GiftCertificateDtoResponse> adh = new GiftCertificateDataHandler(registry);
         return adh.processOutput(gcService.findAll(adh.processSearch(webRequest)));
     }
 
@@ -118,7 +128,7 @@ public class GiftCertificateFacadeImpl implements GiftCertificateFacade {
      */
     @Override
     public PageDataResponse<GiftCertificateDtoResponse> findAllTagged(WebRequest webRequest) {
-        AbstractDataHandler<GiftCertificate, GiftCertificateDtoResponse> adh = new GiftCertificateDataHandler();
+        AbstractDataHandler<GiftCertificate, GiftCertificateDtoResponse> adh = new GiftCertificateDataHandler(registry);
         return adh.processOutput(gcService.findAllTagged(adh.processSearch(webRequest)));
     }
 
@@ -132,7 +142,7 @@ public class GiftCertificateFacadeImpl implements GiftCertificateFacade {
      */
     @Override
     public PageDataResponse<GiftCertificateDtoResponse> findAllNotTagged(WebRequest webRequest) {
-        AbstractDataHandler<GiftCertificate, GiftCertificateDtoResponse> adh = new GiftCertificateDataHandler();
+        AbstractDataHandler<GiftCertificate, GiftCertificateDtoResponse> adh = new GiftCertificateDataHandler(registry);
         return adh.processOutput(gcService.findAllNotTagged(adh.processSearch(webRequest)));
     }
 
@@ -146,7 +156,7 @@ public class GiftCertificateFacadeImpl implements GiftCertificateFacade {
      */
     @Override
     public PageDataResponse<TagDtoResponse> findTags(Long gCertId, WebRequest webRequest) {
-        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler();
+        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler(registry);
         return adh.processOutput(gcService.findTags(gCertId, adh.processSearch(webRequest)));
     }
 
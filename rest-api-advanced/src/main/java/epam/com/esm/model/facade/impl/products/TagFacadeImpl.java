@@ -7,6 +7,7 @@ import epam.com.esm.persistence.entity.impl.products.Tag;
 import epam.com.esm.utils.search.data.AbstractDataHandler;
 import epam.com.esm.utils.search.data.impl.products.GiftCertificateDataHandler;
 import epam.com.esm.utils.search.data.impl.products.TagDataHandler;
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
 import epam.com.esm.utils.search.transport.response.PageDataResponse;
 import epam.com.esm.utils.verifiers.products.TagDtoVerifier;
 import epam.com.esm.view.dto.request.impl.products.TagDtoRequest;
@@ -38,15 +39,22 @@ public class TagFacadeImpl implements TagFacade {
     private final TagDtoVerifier tagDtoVerifier;
 
     /**
-     * Constructs TagFacadeImpl with TagService and TagDtoVerifier objects
+     * Holds FilterMetadataRegistry object
+     */
+    private final FilterMetadataRegistry registry;
+
+    /**
+     * Constructs TagFacadeImpl with TagService, TagDtoVerifier and FilterMetadataRegistry objects
      *
      * @param tagService service, provides logic operations for tags
      * @param tagDtoVerifier service, provides validations operations for tags
+     * @param registry service, holds filter metadata of entities
      */
     @Autowired
-    public TagFacadeImpl(TagService tagService, TagDtoVerifier tagDtoVerifier) {
+    public TagFacadeImpl(TagService tagService, TagDtoVerifier tagDtoVerifier, FilterMetadataRegistry registry) {
         this.tagService = tagService;
         this.tagDtoVerifier = tagDtoVerifier;
+        this.registry = registry;
     }
 
     /**
@@ -91,7 +99,7 @@ public class TagFacadeImpl implements TagFacade {
      */
     @Override
     public PageDataResponse<TagDtoResponse> findAll(WebRequest webRequest) {
-        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler();
+        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler(registry);
         return adh.processOutput(tagService.findAll(adh.processSearch(webRequest)));
     }
 
@@ -105,7 +113,7 @@ public class TagFacadeImpl implements TagFacade {
      */
     @Override
     public PageDataResponse<TagDtoResponse> findAllCertificated(WebRequest webRequest) {
-        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler();
+        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler(registry);
         return adh.processOutput(tagService.findAllCertificated(adh.processSearch(webRequest)));
     }
 
@@ -119,7 +127,7 @@ public class TagFacadeImpl implements TagFacade {
      */
     @Override
     public PageDataResponse<TagDtoResponse> findAllNotCertificated(WebRequest webRequest) {
-        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler();
+        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler(registry);
         return adh.processOutput(tagService.findAllNotCertificated(adh.processSearch(webRequest)));
     }
 
@@ -134,7 +142,7 @@ public class TagFacadeImpl implements TagFacade {
      */
     @Override
     public PageDataResponse<GiftCertificateDtoResponse> findGiftCertificates(Long tagId, WebRequest webRequest) {
-        AbstractDataHandler<GiftCertificate, GiftCertificateDtoResponse> adh = new GiftCertificateDataHandler();
+        AbstractDataHandler<GiftCertificate, GiftCertificateDtoResponse> adh = new GiftCertificateDataHandler(registry);
         return adh.processOutput(tagService.findGiftCertificates(tagId, adh.processSearch(webRequest)));
     }
 
@@ -13,6 +13,7 @@ import epam.com.esm.utils.search.data.impl.action.OrderDataHandler;
 import epam.com.esm.utils.search.data.impl.products.TagDataHandler;
 import epam.com.esm.utils.search.data.impl.purchase.PurchaseDataHandler;
 import epam.com.esm.utils.search.data.impl.user.UserDataHandler;
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
 import epam.com.esm.utils.search.transport.response.PageDataResponse;
 import epam.com.esm.utils.statistics.facade.DtoDataTag;
 import epam.com.esm.utils.verifiers.action.OrderDtoVerifier;
@@ -56,17 +57,26 @@ public class UserFacadeImpl implements UserFacade {
     private final OrderDtoVerifier orderDtoVerifier;
 
     /**
-     * Constructs UserFacadeImpl with UserService, UserDtoVerifier and OrderDtoVerifier objects
+     * Holds FilterMetadataRegistry object
+     */
+    private final FilterMetadataRegistry registry;
+
+    /**
+     * Constructs UserFacadeImpl with UserService, UserDtoVerifier, OrderDtoVerifier and FilterMetadataRegistry
+     * objects
      *
      * @param uService service, provides logic operations for user
      * @param userDtoVerifier service, provides validations operations for user
      * @param orderDtoVerifier service, provides validations operations for order
+     * @param registry service, holds filter metadata of entities
      */
     @Autowired
-    public UserFacadeImpl(UserService uService, UserDtoVerifier userDtoVerifier, OrderDtoVerifier orderDtoVerifier) {
+    public UserFacadeImpl(UserService uService, UserDtoVerifier userDtoVerifier, OrderDtoVerifier orderDtoVerifier,
+                          FilterMetadataRegistry registry) {
         this.uService = uService;
         this.userDtoVerifier = userDtoVerifier;
         this.orderDtoVerifier = orderDtoVerifier;
+        this.registry = registry;
     }
 
     /**
@@ -123,7 +133,7 @@ public class UserFacadeImpl implements UserFacade {
      */
     @Override
     public PageDataResponse<UserDtoResponse> findAll(WebRequest webRequest) {
-        AbstractDataHandler<User, UserDtoResponse> adh = new UserDataHandler();
+        AbstractDataHandler<User, UserDtoResponse> adh = new UserDataHandler(registry);
         return adh.processOutput(uService.findAll(adh.processSearch(webRequest)));
     }
 
@@ -149,7 +159,7 @@ public class UserFacadeImpl implements UserFacade {
      */
     @Override
     public PageDataResponse<OrderDtoResponse> findOrders(WebRequest webRequest, Long userId) {
-        AbstractDataHandler<Order, OrderDtoResponse> adh = new OrderDataHandler();
+        AbstractDataHandler<Order, OrderDtoResponse> adh = new OrderDataHandler(registry);
         return adh.processOutput(uService.findOrders(adh.processSearch(webRequest), userId));
     }
 
@@ -163,7 +173,7 @@ public class UserFacadeImpl implements UserFacade {
      */
     @Override
     public PageDataResponse<TagDtoResponse> findTags(WebRequest webRequest, Long userId) {
-        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler();
+        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler(registry);
         return adh.processOutput(uService.findTags(adh.processSearch(webRequest), userId));
     }
 
@@ -178,7 +188,7 @@ public class UserFacadeImpl implements UserFacade {
      */
     @Override
     public PageDataResponse<PurchaseDataDtoResponse> findPurchases(WebRequest webRequest, Long userId) {
-        AbstractDataHandler<PurchaseData, PurchaseDataDtoResponse> adh = new PurchaseDataHandler();
+        AbstractDataHandler<PurchaseData, PurchaseDataDtoResponse> adh = new PurchaseDataHandler(registry);
         return adh.processOutput(uService.findPurchases(adh.processSearch(webRequest), userId));
     }
 
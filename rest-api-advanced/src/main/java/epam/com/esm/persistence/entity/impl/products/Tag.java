@@ -36,7 +36,7 @@ public class Tag extends BaseEntity {
             joinColumns = @JoinColumn(name = "tag_id"),
             inverseJoinColumns = @JoinColumn(name = "gift_certificate_id")
     )
-    @FilterObject(cls = GiftCertificate.class, path = "tags")
+    @FilterObject(cls = GiftCertificate.class, path = "giftCertificates")
     private List<GiftCertificate> giftCertificates;
 
     /**
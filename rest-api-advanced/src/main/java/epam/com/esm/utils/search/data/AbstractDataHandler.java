@@ -1,6 +1,7 @@
 package epam.com.esm.utils.search.data;
 
 import epam.com.esm.persistence.entity.BaseEntity;
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
 import epam.com.esm.utils.search.transport.request.SearchParamRequest;
 import epam.com.esm.utils.search.transport.response.PageDataResponse;
 import epam.com.esm.utils.search.transport.response.SearchParamResponse;
@@ -16,6 +17,20 @@ import org.springframework.web.context.request.WebRequest;
  */
 public abstract class AbstractDataHandler<E extends BaseEntity, A extends DtoResponse> {
 
+    /**
+     * Holds filter metadata registry
+     */
+    protected final FilterMetadataRegistry registry;
+
+    /**
+     * Constructor with filter metadata registry
+     *
+     * @param registry provided filter metadata registry
+     */
+    protected AbstractDataHandler(FilterMetadataRegistry registry) {
+        this.registry = registry;
+    }
+
     /**
      * Delegates contract for converting web request to search param request
      *
@@ -33,6 +33,21 @@ public final class WebRequestHandler {
      */
     private static final String DIVIDER = ":";
 
+    /**
+     * Holds cursor mode key
+     */
+    private static final String CURSOR = "cursor";
+
+    /**
+     * Holds after cursor key
+     */
+    private static final String AFTER = "after";
+
+    /**
+     * Holds before cursor key
+     */
+    private static final String BEFORE = "before";
+
     /**
      * Default constructor
      */
@@ -42,12 +57,14 @@ public final class WebRequestHandler {
      * Converts page data request to search param request for provided class with default loader
      *
      * @param pdr provided page data request
+     * @param registry provided filter metadata registry
      * @param cls provided class for filtering
      * @param dl provided default loader
      * @return {@code SearchParamRequest} generated search param request
      */
-    public static SearchParamRequest convertToParamRequest(PageDataRequest pdr, Class<?> cls, DefaultLoader dl) {
-        return initRequest(pdr, dl, new FilterAnnotationHandler(cls));
+    public static SearchParamRequest convertToParamRequest(PageDataRequest pdr, FilterMetadataRegistry registry,
+                                                           Class<?> cls, DefaultLoader dl) {
+        return initRequest(pdr, dl, registry.get(cls));
     }
 
     /**
@@ -66,6 +83,7 @@ public final class WebRequestHandler {
         loadSizeState(pdr, dl, spReq);
         loadPageState(pdr, dl, spReq);
         loadFold(pdr, dl, spReq);
+        loadCursorState(pdr, spReq, fah);
         return spReq;
     }
 
@@ -171,6 +189,47 @@ public final class WebRequestHandler {
         }
     }
 
+    /**
+     * Loads cursor state to search param request
+     * Cursor mode is enabled by cursor=on param or by presence of after/before cursor, requires single sort param
+     * of root class, which is used as seek field
+     *
+     * @param pdr provided page data request
+     * @param spReq provided search param request
+     * @param fah provided filter annotation handler
+     */
+    private static void loadCursorState(PageDataRequest pdr, SearchParamRequest spReq, FilterAnnotationHandler fah) {
+        Map<String, String[]> params = pdr.getFullParams();
+
+        if (params.containsKey(AFTER) && params.containsKey(BEFORE)) {
+            throw new IncorrectUrlParameterException("Only one of after and before cursors can be provided.");
+        }
+
+        spReq.setCursor(params.containsKey(AFTER) || params.containsKey(BEFORE)
+                        || (params.containsKey(CURSOR) && params.get(CURSOR)[0].equalsIgnoreCase("on")));
+
+        if (spReq.isCursor()) {
+            if (spReq.getSortParams().size() != 1
+                || spReq.getSortParams().values().iterator().next().size() != 1
+                || !spReq.getSortParams().keySet().iterator().next().startsWith(fah.getPrefix())) {
+                throw new IncorrectUrlParameterException(
+                        "Cursor pagination requires single sort parameter of requested entity (sort = " +
+                        spReq.getSortParams().keySet() + ")."
+                );
+            }
+
+            spReq.setSeekField(spReq.getSortParams().keySet().iterator().next().replace(fah.getPrefix(), ""));
+
+            if (params.containsKey(AFTER)) {
+                spReq.setAfter(params.get(AFTER)[0]);
+            }
+
+            if (params.containsKey(BEFORE)) {
+                spReq.setBefore(params.get(BEFORE)[0]);
+            }
+        }
+    }
+
     /**
      * Checks if string is integer
      *
@@ -1,7 +1,9 @@
 package epam.com.esm.utils.search.request.builders;
 
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
 import epam.com.esm.utils.search.request.components.CriteriaConfig;
 import epam.com.esm.utils.search.request.components.type.Joining;
+import epam.com.esm.utils.search.request.handlers.CursorHandler;
 import epam.com.esm.utils.search.request.handlers.RequestParameterHandler;
 import epam.com.esm.utils.search.transport.request.SearchParamRequest;
 
@@ -59,17 +61,18 @@ public class FilterBuilder<X> {
     private Predicate finalPredicate;
 
     /**
-     * Constructs FilterBuilder with provided entity manager, root class and joined classes
+     * Constructs FilterBuilder with provided entity manager, filter metadata registry, root class and joined classes
      *
      * @param em provided entity manager
+     * @param registry provided filter metadata registry
      * @param root provided root class
      * @param joined provided joineed classes
      */
-    public FilterBuilder(EntityManager em, Class<X> root, Class<?> ... joined) {
+    public FilterBuilder(EntityManager em, FilterMetadataRegistry registry, Class<X> root, Class<?> ... joined) {
         this.entityManager = em;
         this.joined = joined;
         this.config = new CriteriaConfig<>(em, root);
-        this.requestParameterHandler = new RequestParameterHandler(root);
+        this.requestParameterHandler = new RequestParameterHandler(registry, root);
         this.predicates = new ArrayList<>();
         this.orders = new ArrayList<>();
     }
@@ -120,14 +123,19 @@ public class FilterBuilder<X> {
 
     /**
      * Finalizes search by running query with defined predicate, orders and pagination data
+     * In cursor mode seek predicate is merged into final predicate and orders are replaced by seek orders
      *
      * @param distinct provided distinction mode
      * @return {@code List<X>} found items
      */
     public List<X> runQuery(boolean distinct) {
+        if (getRequest().isCursor()) {
+            applySeek();
+        }
+
         getQuery().select(getRoot()).distinct(distinct).where(finalPredicate).orderBy(orders);
         return getManager().createQuery(getQuery())
-                           .setFirstResult(getRequest().getPage())
+                           .setFirstResult(CursorHandler.fetchOffset(getRequest()))
                            .setMaxResults(getRequest().getSize())
                            .getResultList();
     }
@@ -168,6 +176,20 @@ public class FilterBuilder<X> {
         return this;
     }
 
+    /**
+     * Applies seek predicate and seek orders for cursor mode
+     */
+    private void applySeek() {
+        Predicate seek = getHandler().fetchSeekParams(getRequest(), getRoot(), getBuilder());
+
+        if (seek != null) {
+            finalPredicate = finalPredicate == null ? seek : getBuilder().and(finalPredicate, seek);
+        }
+
+        orders.clear();
+        orders.addAll(getHandler().fetchSeekOrderBy(getRequest(), getRoot(), getBuilder()));
+    }
+
     /**
      * Adds calculated root full predicates to filter builder
      *
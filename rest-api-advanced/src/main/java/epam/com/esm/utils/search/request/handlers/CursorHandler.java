@@ -0,0 +1,162 @@
+package epam.com.esm.utils.search.request.handlers;
+
+import epam.com.esm.exception.types.IncorrectUrlParameterException;
+import epam.com.esm.persistence.entity.BaseEntity;
+import epam.com.esm.utils.search.request.components.SeekCursor;
+import epam.com.esm.utils.search.transport.request.SearchParamRequest;
+import org.springframework.beans.BeanWrapperImpl;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * CursorHandler is the util class, provides methods for keyset (seek) pagination
+ * Cursor is an opaque URL-safe token, which holds id, seek field and seek field value of boundary item
+ */
+public final class CursorHandler {
+
+    /**
+     * Holds cursor token divider
+     */
+    private static final String DIVIDER = ":";
+
+    /**
+     * Default constructor
+     */
+    private CursorHandler() {}
+
+    /**
+     * Fetches first result offset for provided search param request
+     * In cursor mode rows are skipped by seek predicate, so offset is always 0
+     *
+     * @param spReq provided search param request
+     * @return {@code int} first result offset
+     */
+    public static int fetchOffset(SearchParamRequest spReq) {
+        return spReq.isCursor() ? 0 : spReq.getPage();
+    }
+
+    /**
+     * Checks if search param request seeks backwards (previous page is requested)
+     *
+     * @param spReq provided search param request
+     * @return {@code true} if before cursor is present
+     */
+    public static boolean isBackward(SearchParamRequest spReq) {
+        return spReq.isCursor() && spReq.getBefore() != null;
+    }
+
+    /**
+     * Fetches cursor token applied to search param request
+     *
+     * @param spReq provided search param request
+     * @return {@code String} applied after or before cursor token, or null if cursor token is absent
+     */
+    public static String fetchToken(SearchParamRequest spReq) {
+        return isBackward(spReq) ? spReq.getBefore() : spReq.getAfter();
+    }
+
+    /**
+     * Encodes cursor token for provided entity by provided seek field
+     *
+     * @param e provided entity
+     * @param field provided seek field
+     * @return {@code String} encoded cursor token
+     */
+    public static String encode(BaseEntity e, String field) {
+        Object value = new BeanWrapperImpl(e).getPropertyValue(field);
+        String raw = e.getId() + DIVIDER + field + DIVIDER + (value == null ? "" : asString(value));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes cursor token, checks that token was issued for provided seek field
+     *
+     * @param token provided cursor token
+     * @param field provided seek field
+     * @return {@code SeekCursor} decoded cursor
+     */
+    public static SeekCursor decode(String token, String field) {
+        String[] parts;
+
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(DIVIDER, 3);
+        } catch (IllegalArgumentException e) {
+            throw new IncorrectUrlParameterException("Cursor has incorrect format (cursor = " + token + ").");
+        }
+
+        if (parts.length != 3 || !parts[1].equals(field) || !isLong(parts[0])) {
+            throw new IncorrectUrlParameterException(
+                    "Cursor doesn't match current sort parameter. Check cursor (cursor = " + token + ")."
+            );
+        }
+
+        return new SeekCursor(parts[1], parts[2], Long.parseLong(parts[0]));
+    }
+
+    /**
+     * Converts decoded cursor value to seek field type
+     *
+     * @param value provided cursor value
+     * @param type provided seek field type
+     * @return {@code Comparable<?>} converted value
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Comparable<?> convert(String value, Class<?> type) {
+        try {
+            if (String.class.equals(type)) {
+                return value;
+            } else if (Long.class.equals(type)) {
+                return Long.parseLong(value);
+            } else if (Integer.class.equals(type)) {
+                return Integer.parseInt(value);
+            } else if (BigDecimal.class.equals(type)) {
+                return new BigDecimal(value);
+            } else if (LocalDateTime.class.equals(type)) {
+                return LocalDateTime.parse(value);
+            } else if (type.isEnum()) {
+                return Enum.valueOf((Class<Enum>) type, value);
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IncorrectUrlParameterException("Cursor holds incorrect value (value = " + value + ").");
+        }
+
+        throw new IncorrectUrlParameterException("Cursor pagination isn't supported for this sort parameter.");
+    }
+
+    /**
+     * Converts seek field value to string
+     *
+     * @param value provided seek field value
+     * @return {@code String} converted value
+     */
+    private static String asString(Object value) {
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toPlainString();
+        }
+
+        if (value instanceof Enum) {
+            return ((Enum<?>) value).name();
+        }
+
+        return value.toString();
+    }
+
+    /**
+     * Checks if string is long
+     *
+     * @param s provided string
+     * @return {@code true} if string is a long
+     */
+    private static boolean isLong(String s) {
+        try {
+            Long.parseLong(s);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package epam.com.esm.utils.search.request.handlers;
 
 import epam.com.esm.utils.search.filter.handlers.FilterAnnotationHandler;
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
+import epam.com.esm.utils.search.request.components.SeekCursor;
 import epam.com.esm.utils.search.request.components.type.Joining;
 import epam.com.esm.utils.search.transport.request.SearchParamRequest;
 
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Path;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 import java.util.ArrayList;
@@ -23,12 +26,13 @@ public class RequestParameterHandler {
     private final FilterAnnotationHandler fah;
 
     /**
-     * Constructs request parameter handler with provided class
+     * Constructs request parameter handler with filter metadata of provided class
      *
+     * @param registry provided filter metadata registry
      * @param cls provided class
      */
-    public RequestParameterHandler(Class<?> cls) {
-        this.fah = new FilterAnnotationHandler(cls);
+    public RequestParameterHandler(FilterMetadataRegistry registry, Class<?> cls) {
+        this.fah = registry.get(cls);
     }
 
     /**
@@ -196,4 +200,69 @@ public class RequestParameterHandler {
 
         return orders;
     }
-}
\ No newline at end of file
+
+    /**
+     * Generates seek predicate based on cursor token, selects items placed after (or before) cursor boundary item
+     * by {@code (seekField, id)} pair in sort direction
+     *
+     * @param spReq provided search param request
+     * @param root provided root
+     * @param cb provided criteria builder
+     * @return {@code Predicate} generated seek predicate, or null if cursor token is absent
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Predicate fetchSeekParams(SearchParamRequest spReq, Root<?> root, CriteriaBuilder cb) {
+        String token = CursorHandler.fetchToken(spReq);
+
+        if (token == null) {
+            return null;
+        }
+
+        SeekCursor sc = CursorHandler.decode(token, spReq.getSeekField());
+        boolean ascending = isSeekAscending(spReq) != CursorHandler.isBackward(spReq);
+        Path<Long> id = root.get("id");
+        Predicate idSeek = ascending ? cb.greaterThan(id, sc.getId()) : cb.lessThan(id, sc.getId());
+
+        if (spReq.getSeekField().equals("id")) {
+            return idSeek;
+        }
+
+        Path field = root.get(spReq.getSeekField());
+        Comparable value = CursorHandler.convert(sc.getValue(), field.getJavaType());
+        Predicate fieldSeek = ascending ? cb.greaterThan(field, value) : cb.lessThan(field, value);
+        return cb.or(fieldSeek, cb.and(cb.equal(field, value), idSeek));
+    }
+
+    /**
+     * Generates orders list for cursor mode, orders by seek field and id as tiebreaker
+     * Directions are reversed for backward seek
+     *
+     * @param spReq provided search param request
+     * @param root provided root
+     * @param cb provided criteria builder
+     * @return {@code List<Order>} generated orders
+     */
+    public List<Order> fetchSeekOrderBy(SearchParamRequest spReq, Root<?> root, CriteriaBuilder cb) {
+        List<Order> orders = new ArrayList<>();
+        boolean ascending = isSeekAscending(spReq) != CursorHandler.isBackward(spReq);
+
+        if (!spReq.getSeekField().equals("id")) {
+            Path<?> field = root.get(spReq.getSeekField());
+            orders.add(ascending ? cb.asc(field) : cb.desc(field));
+        }
+
+        orders.add(ascending ? cb.asc(root.get("id")) : cb.desc(root.get("id")));
+        return orders;
+    }
+
+    /**
+     * Checks if seek field is sorted in ascending order
+     *
+     * @param spReq provided search param request
+     * @return {@code true} if seek field sort order is ascending
+     */
+    private boolean isSeekAscending(SearchParamRequest spReq) {
+        List<String> order = spReq.getSortParams().get(fah.getPrefix() + spReq.getSeekField());
+        return order == null || order.isEmpty() || order.get(0).equalsIgnoreCase("asc");
+    }
+}
@@ -27,6 +27,7 @@ public final class ResponseHandler {
 
     /**
      * Generates search param response from provided search param request
+     * Items fetched by before cursor are fetched in reversed order, so they are reversed back
      *
      * @param spReq provided search param request
      * @param total total found items size
@@ -36,7 +37,13 @@ public final class ResponseHandler {
      */
     public static <E extends BaseEntity> SearchParamResponse<E> initResponse(SearchParamRequest spReq, int total,
                                                                              List<E> items) {
-        SearchParamResponse<E> spResp = scrubPaginationData(new ArrayList<>(items), total, spReq);
+        List<E> ordered = new ArrayList<>(items);
+
+        if (CursorHandler.isBackward(spReq)) {
+            Collections.reverse(ordered);
+        }
+
+        SearchParamResponse<E> spResp = scrubPaginationData(ordered, total, spReq);
         scrubParams(spReq, spResp);
         return spResp;
     }
@@ -210,6 +217,7 @@ public final class ResponseHandler {
         scrubPageUrlParams(spResp, sb, pageType);
         scrubSizeUrlParams(spResp, sb);
         scrubFoldParams(spResp, sb);
+        scrubCursorParams(spReq, spResp, sb, pageType);
         scrubFilterParams(spReq, sb);
         return sb.toString();
     }
@@ -261,6 +269,39 @@ public final class ResponseHandler {
         }
     }
 
+    /**
+     * Folds URL cursor params into string for search param response by page type for pagination
+     * Previous page is addressed by before cursor of first shown item, next page - by after cursor of last shown item,
+     * current page - by cursor of provided search param request
+     *
+     * @param spReq provided search param request
+     * @param spResp provided search param response
+     * @param sb provided string buffer
+     * @param pageType provided page type
+     */
+    private static void scrubCursorParams(SearchParamRequest spReq, SearchParamResponse<? extends BaseEntity> spResp,
+                                          StringBuffer sb, PageType pageType) {
+        if (spReq.isCursor()) {
+            sb.append("cursor").append("=").append("on").append("&");
+            List<? extends BaseEntity> items = spResp.getItems();
+
+            if (pageType.equals(PageType.PREV) && !items.isEmpty()) {
+                sb.append("before").append("=")
+                  .append(CursorHandler.encode(items.get(0), spReq.getSeekField())).append("&");
+            }
+
+            if (pageType.equals(PageType.CURRENT) && CursorHandler.fetchToken(spReq) != null) {
+                sb.append(CursorHandler.isBackward(spReq) ? "before" : "after").append("=")
+                  .append(CursorHandler.fetchToken(spReq)).append("&");
+            }
+
+            if (pageType.equals(PageType.NEXT) && !items.isEmpty()) {
+                sb.append("after").append("=")
+                  .append(CursorHandler.encode(items.get(items.size() - 1), spReq.getSeekField())).append("&");
+            }
+        }
+    }
+
     /**
      * Folds URL search params into string for search param response for pagination
      *
@@ -25,6 +25,27 @@ public class SearchParamRequest {
      */
     private boolean fold;
 
+    /**
+     * Holds cursor mode value
+     * If cursor mode is on - page is used only as label, items are fetched by seeking from after/before cursor
+     */
+    private boolean cursor;
+
+    /**
+     * Holds after cursor value
+     */
+    private String after;
+
+    /**
+     * Holds before cursor value
+     */
+    private String before;
+
+    /**
+     * Holds seek field value, name of root field used as cursor sort key
+     */
+    private String seekField;
+
     /**
      * Holds fullParams
      */
@@ -103,6 +124,78 @@ public class SearchParamRequest {
         this.fold = fold;
     }
 
+    /**
+     * Gets cursor mode value
+     *
+     * @return {@code boolean} cursor value
+     */
+    public boolean isCursor() {
+        return cursor;
+    }
+
+    /**
+     * Sets cursor mode
+     *
+     * @param cursor value for setting
+     */
+    public void setCursor(boolean cursor) {
+        this.cursor = cursor;
+    }
+
+    /**
+     * Gets value from after field
+     *
+     * @return {@code String} after cursor value
+     */
+    public String getAfter() {
+        return after;
+    }
+
+    /**
+     * Sets new value to after field
+     *
+     * @param after value for setting
+     */
+    public void setAfter(String after) {
+        this.after = after;
+    }
+
+    /**
+     * Gets value from before field
+     *
+     * @return {@code String} before cursor value
+     */
+    public String getBefore() {
+        return before;
+    }
+
+    /**
+     * Sets new value to before field
+     *
+     * @param before value for setting
+     */
+    public void setBefore(String before) {
+        this.before = before;
+    }
+
+    /**
+     * Gets value from seekField field
+     *
+     * @return {@code String} seek field value
+     */
+    public String getSeekField() {
+        return seekField;
+    }
+
+    /**
+     * Sets new value to seekField field
+     *
+     * @param seekField value for setting
+     */
+    public void setSeekField(String seekField) {
+        this.seekField = seekField;
+    }
+
     /**
      * Gets full params map
      *
@@ -169,7 +262,11 @@ public class SearchParamRequest {
         if (o == null || getClass() != o.getClass()) return false;
         SearchParamRequest that = (SearchParamRequest) o;
         return page == that.page && size == that.size
-               && fold == that.fold && Objects.equals(fullParams, that.fullParams)
+               && fold == that.fold && cursor == that.cursor
+               && Objects.equals(after, that.after)
+               && Objects.equals(before, that.before)
+               && Objects.equals(seekField, that.seekField)
+               && Objects.equals(fullParams, that.fullParams)
                && Objects.equals(partParams, that.partParams)
                && Objects.equals(sortParams, that.sortParams);
     }
@@ -181,6 +278,6 @@ public class SearchParamRequest {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(page, size, fold, fullParams, partParams, sortParams);
+        return Objects.hash(page, size, fold, cursor, after, before, seekField, fullParams, partParams, sortParams);
     }
 }
\ No newline at end of file
@@ -0,0 +1,62 @@
+package epam.com.esm.config.pool;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.boot.env.PropertiesPropertySourceLoader;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class PoolPropertiesTest {
+
+    private static final String PREFIX = "spring.datasource.hikari";
+
+    @Test
+    public void willBindPoolPropertiesFromApplicationConfig() throws IOException {
+        //initial data
+        List<PropertySource<?>> sources = new PropertiesPropertySourceLoader()
+                .load("application", new ClassPathResource("application.properties"));
+        Binder binder = new Binder(ConfigurationPropertySources.from(sources));
+
+        PoolProperties pool = binder.bind(PREFIX, Bindable.of(PoolProperties.class)).get();
+
+        Assertions.assertEquals("rest-api-advanced-pool", pool.getPoolName());
+        Assertions.assertEquals(25, pool.getMaximumPoolSize());
+        Assertions.assertEquals(5, pool.getMinimumIdle());
+        Assertions.assertEquals(1800000, pool.getMaxLifetime());
+        Assertions.assertEquals(30000, pool.getConnectionTimeout());
+        Assertions.assertEquals(60000, pool.getLeakDetectionThreshold());
+        Assertions.assertEquals("true", pool.getDataSourceProperties().get("cachePrepStmts"));
+        Assertions.assertEquals("250", pool.getDataSourceProperties().get("prepStmtCacheSize"));
+        Assertions.assertEquals("2048", pool.getDataSourceProperties().get("prepStmtCacheSqlLimit"));
+        Assertions.assertEquals("true", pool.getDataSourceProperties().get("useServerPrepStmts"));
+        Assertions.assertEquals("true", pool.getDataSourceProperties().get("rewriteBatchedStatements"));
+    }
+
+    @Test
+    public void willBindPoolPropertiesByRelaxedNames() {
+        //initial data
+        Map<String, String> properties = new HashMap<>();
+        properties.put(PREFIX + ".poolName", "pool");
+        properties.put(PREFIX + ".maximum-pool-size", "10");
+        properties.put(PREFIX + ".MINIMUM_IDLE", "2");
+        properties.put(PREFIX + ".data-source-properties.cachePrepStmts", "false");
+        Binder binder = new Binder(new MapConfigurationPropertySource(properties));
+
+        PoolProperties pool = binder.bind(PREFIX, Bindable.of(PoolProperties.class)).get();
+
+        Assertions.assertEquals("pool", pool.getPoolName());
+        Assertions.assertEquals(10, pool.getMaximumPoolSize());
+        Assertions.assertEquals(2, pool.getMinimumIdle());
+        Assertions.assertEquals(0, pool.getMaxLifetime());
+        Assertions.assertEquals("false", pool.getDataSourceProperties().get("cachePrepStmts"));
+    }
+}
@@ -6,6 +6,7 @@ import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
 import epam.com.esm.utils.search.data.AbstractDataHandler;
 import epam.com.esm.utils.search.data.impl.action.OrderUserDataHandler;
 import epam.com.esm.utils.search.data.impl.products.GiftCertificateDataHandler;
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
 import epam.com.esm.utils.search.transport.response.PageDataResponse;
 import epam.com.esm.utils.search.transport.response.SearchParamResponse;
 import epam.com.esm.utils.verifiers.action.OrderDtoVerifier;
@@ -17,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.context.request.WebRequest;
 
@@ -36,6 +38,9 @@ public class OrderFacadeImplTest {
     @Mock
     public OrderDtoVerifier orderDtoVerifier;
 
+    @Spy
+    public FilterMetadataRegistry registry = new FilterMetadataRegistry();
+
     @InjectMocks
     public OrderFacadeImpl orderFacade;
 
@@ -108,7 +113,7 @@ public class OrderFacadeImplTest {
         WebRequest webRequest = mock(WebRequest.class);
 
         //initial data
-        AbstractDataHandler<Order, OrderUserDtoResponse> adh = new OrderUserDataHandler();
+        AbstractDataHandler<Order, OrderUserDtoResponse> adh = new OrderUserDataHandler(registry);
         SearchParamResponse<Order> spResp = new SearchParamResponse<>();
 
         //find all
@@ -131,7 +136,7 @@ public class OrderFacadeImplTest {
 
         //initial data
         Order o = getProperOrder();
-        AbstractDataHandler<GiftCertificate, GiftCertificateDtoResponse> adh = new GiftCertificateDataHandler();
+        AbstractDataHandler<GiftCertificate, GiftCertificateDtoResponse> adh = new GiftCertificateDataHandler(registry);
         SearchParamResponse<GiftCertificate> spResp = new SearchParamResponse<>();
 
         //find gift certificates
@@ -6,6 +6,7 @@ import epam.com.esm.persistence.entity.impl.products.Tag;
 import epam.com.esm.utils.search.data.AbstractDataHandler;
 import epam.com.esm.utils.search.data.impl.products.GiftCertificateDataHandler;
 import epam.com.esm.utils.search.data.impl.products.TagDataHandler;
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
 import epam.com.esm.utils.search.transport.response.PageDataResponse;
 import epam.com.esm.utils.search.transport.response.SearchParamResponse;
 import epam.com.esm.utils.verifiers.products.GiftCertificateDtoVerifier;
@@ -18,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.context.request.WebRequest;
 
@@ -37,6 +39,9 @@ public class GiftCertificateFacadeImplTest {
     @Mock
     public GiftCertificateDtoVerifier gcDtoVerifier;
 
+    @Spy
+    public FilterMetadataRegistry registry = new FilterMetadataRegistry();
+
     @InjectMocks
     public GiftCertificateFacadeImpl gcFacade;
 
@@ -93,7 +98,7 @@ public class GiftCertificateFacadeImplTest {
     public void willFindAll() {
         WebRequest webRequest = mock(WebRequest.class);
 
-        AbstractDataHandler<GiftCertificate, GiftCertificateDtoResponse> adh = new GiftCertificateDataHandler();
+        AbstractDataHandler<GiftCertificate, GiftCertificateDtoResponse> adh = new GiftCertificateDataHandler(registry);
         SearchParamResponse<GiftCertificate> spResp = new SearchParamResponse<>();
 
         when(gcService.findAll(adh.processSearch(webRequest))).thenReturn(spResp);
@@ -111,7 +116,7 @@ public class GiftCertificateFacadeImplTest {
     public void willFindAllTagged() {
         WebRequest webRequest = mock(WebRequest.class);
 
-        AbstractDataHandler<GiftCertificate, GiftCertificateDtoResponse> adh = new GiftCertificateDataHandler();
+        AbstractDataHandler<GiftCertificate, GiftCertificateDtoResponse> adh = new GiftCertificateDataHandler(registry);
         SearchParamResponse<GiftCertificate> spResp = new SearchParamResponse<>();
 
         when(gcService.findAllTagged(adh.processSearch(webRequest))).thenReturn(spResp);
@@ -129,7 +134,7 @@ public class GiftCertificateFacadeImplTest {
     public void willFindAllNotTagged() {
         WebRequest webRequest = mock(WebRequest.class);
 
-        AbstractDataHandler<GiftCertificate, GiftCertificateDtoResponse> adh = new GiftCertificateDataHandler();
+        AbstractDataHandler<GiftCertificate, GiftCertificateDtoResponse> adh = new GiftCertificateDataHandler(registry);
         SearchParamResponse<GiftCertificate> spResp = new SearchParamResponse<>();
 
         when(gcService.findAllNotTagged(adh.processSearch(webRequest))).thenReturn(spResp);
@@ -148,7 +153,7 @@ public class GiftCertificateFacadeImplTest {
         WebRequest webRequest = mock(WebRequest.class);
 
         GiftCertificate gc = getProperGiftCertificate();
-        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler();
+        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler(registry);
         SearchParamResponse<Tag> spResp = new SearchParamResponse<>();
 
         when(gcService.findTags(gc.getId(), adh.processSearch(webRequest))).thenReturn(spResp);
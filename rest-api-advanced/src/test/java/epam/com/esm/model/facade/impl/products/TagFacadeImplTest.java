@@ -6,6 +6,7 @@ import epam.com.esm.persistence.entity.impl.products.Tag;
 import epam.com.esm.utils.search.data.AbstractDataHandler;
 import epam.com.esm.utils.search.data.impl.products.GiftCertificateDataHandler;
 import epam.com.esm.utils.search.data.impl.products.TagDataHandler;
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
 import epam.com.esm.utils.search.transport.response.PageDataResponse;
 import epam.com.esm.utils.search.transport.response.SearchParamResponse;
 import epam.com.esm.utils.verifiers.products.TagDtoVerifier;
@@ -18,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.context.request.WebRequest;
 
@@ -37,6 +39,9 @@ public class TagFacadeImplTest {
     @Mock
     public TagDtoVerifier tagDtoVerifier;
 
+    @Spy
+    public FilterMetadataRegistry registry = new FilterMetadataRegistry();
+
     @InjectMocks
     public TagFacadeImpl tagFacade;
 
@@ -90,7 +95,7 @@ public class TagFacadeImplTest {
         WebRequest webRequest = mock(WebRequest.class);
 
         //initial data
-        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler();
+        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler(registry);
         SearchParamResponse<Tag> spResp = new SearchParamResponse<>();
 
         //find all
@@ -112,7 +117,7 @@ public class TagFacadeImplTest {
         WebRequest webRequest = mock(WebRequest.class);
 
         //initial data
-        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler();
+        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler(registry);
         SearchParamResponse<Tag> spResp = new SearchParamResponse<>();
 
         //find all certificated
@@ -134,7 +139,7 @@ public class TagFacadeImplTest {
         WebRequest webRequest = mock(WebRequest.class);
 
         //initial data
-        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler();
+        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler(registry);
         SearchParamResponse<Tag> spResp = new SearchParamResponse<>();
 
         //find all not certificated
@@ -157,7 +162,7 @@ public class TagFacadeImplTest {
 
         //initial data
         Tag t = getProperTag();
-        AbstractDataHandler<GiftCertificate, GiftCertificateDtoResponse> adh = new GiftCertificateDataHandler();
+        AbstractDataHandler<GiftCertificate, GiftCertificateDtoResponse> adh = new GiftCertificateDataHandler(registry);
         SearchParamResponse<GiftCertificate> spResp = new SearchParamResponse<>();
 
         //find gift certificates
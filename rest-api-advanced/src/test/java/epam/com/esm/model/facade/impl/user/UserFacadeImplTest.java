@@ -12,6 +12,7 @@ import epam.com.esm.utils.search.data.impl.action.OrderDataHandler;
 import epam.com.esm.utils.search.data.impl.products.TagDataHandler;
 import epam.com.esm.utils.search.data.impl.purchase.PurchaseDataHandler;
 import epam.com.esm.utils.search.data.impl.user.UserDataHandler;
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
 import epam.com.esm.utils.search.transport.response.PageDataResponse;
 import epam.com.esm.utils.search.transport.response.SearchParamResponse;
 import epam.com.esm.utils.statistics.facade.DtoDataTag;
@@ -28,6 +29,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.context.request.WebRequest;
 
@@ -51,6 +53,9 @@ public class UserFacadeImplTest {
     @Mock
     public OrderDtoVerifier orderDtoVerifier;
 
+    @Spy
+    public FilterMetadataRegistry registry = new FilterMetadataRegistry();
+
     @InjectMocks
     public UserFacadeImpl userFacade;
 
@@ -121,7 +126,7 @@ public class UserFacadeImplTest {
         WebRequest webRequest = mock(WebRequest.class);
 
         //initial data
-        AbstractDataHandler<User, UserDtoResponse> adh = new UserDataHandler();
+        AbstractDataHandler<User, UserDtoResponse> adh = new UserDataHandler(registry);
         SearchParamResponse<User> spResp = new SearchParamResponse<>();
 
         //find all
@@ -161,7 +166,7 @@ public class UserFacadeImplTest {
 
         //initial data
         User user = getProperUser();
-        AbstractDataHandler<Order, OrderDtoResponse> adh = new OrderDataHandler();
+        AbstractDataHandler<Order, OrderDtoResponse> adh = new OrderDataHandler(registry);
         SearchParamResponse<Order> spResp = new SearchParamResponse<>();
 
         //find orders
@@ -184,7 +189,7 @@ public class UserFacadeImplTest {
 
         //initial data
         User user = getProperUser();
-        AbstractDataHandler<PurchaseData, PurchaseDataDtoResponse> adh = new PurchaseDataHandler();
+        AbstractDataHandler<PurchaseData, PurchaseDataDtoResponse> adh = new PurchaseDataHandler(registry);
         SearchParamResponse<PurchaseData> spResp = new SearchParamResponse<>();
 
         //find gift certificates
@@ -207,7 +212,7 @@ public class UserFacadeImplTest {
 
         //initial data
         User user = getProperUser();
-        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler();
+        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler(registry);
         SearchParamResponse<Tag> spResp = new SearchParamResponse<>();
 
         //find tags
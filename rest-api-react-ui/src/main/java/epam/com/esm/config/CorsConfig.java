@@ -24,7 +24,8 @@ public class CorsConfig {
                 registry.addMapping("/**")
                         .allowedOrigins("http://localhost:3030")
                         .allowedMethods("GET", "POST", "PUT", "DELETE")
-                        .allowedHeaders("Origin", "Content-Type", "Accept", "Authorization");
+                        .allowedHeaders("Origin", "Content-Type", "Accept", "Authorization", "If-None-Match")
+                        .exposedHeaders("ETag");
             }
         };
     }
@@ -0,0 +1,89 @@
+package epam.com.esm.config.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * CacheRegionProperties is the configuration properties class, holds size and time to live bounds of
+ * second level cache regions
+ */
+@ConfigurationProperties(prefix = "cache")
+public class CacheRegionProperties {
+
+    /**
+     * Holds region bounds by region name
+     */
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    /**
+     * Gets region bounds
+     *
+     * @return {@code Map<String, Region>} region bounds by region name
+     */
+    public Map<String, Region> getRegions() {
+        return regions;
+    }
+
+    /**
+     * Sets new region bounds
+     *
+     * @param regions region bounds by region name for setting
+     */
+    public void setRegions(Map<String, Region> regions) {
+        this.regions = regions;
+    }
+
+    /**
+     * Region is the data class, holds bounds of single cache region
+     */
+    public static class Region {
+
+        /**
+         * Holds max number of entries, entries above bound are evicted by W-TinyLFU policy
+         */
+        private long maxSize;
+
+        /**
+         * Holds time to live of entry after write in milliseconds, 0 means entries don't expire
+         */
+        private long ttl;
+
+        /**
+         * Gets value from maxSize field
+         *
+         * @return {@code long} maxSize value
+         */
+        public long getMaxSize() {
+            return maxSize;
+        }
+
+        /**
+         * Sets new value to maxSize field
+         *
+         * @param maxSize value for setting
+         */
+        public void setMaxSize(long maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        /**
+         * Gets value from ttl field
+         *
+         * @return {@code long} ttl value
+         */
+        public long getTtl() {
+            return ttl;
+        }
+
+        /**
+         * Sets new value to ttl field
+         *
+         * @param ttl value for setting
+         */
+        public void setTtl(long ttl) {
+            this.ttl = ttl;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package epam.com.esm.config.cache;
+
+/**
+ * CacheRegions is the util class, holds names of second level cache regions
+ * Each region must be configured in application properties, otherwise session factory fails to start
+ */
+public final class CacheRegions {
+
+    /**
+     * Holds gift certificate entity region name
+     */
+    public static final String GIFT_CERTIFICATE = "gift-certificate";
+
+    /**
+     * Holds gift certificate tags collection region name
+     */
+    public static final String GIFT_CERTIFICATE_TAGS = "gift-certificate-tags";
+
+    /**
+     * Holds tag entity region name
+     */
+    public static final String TAG = "tag";
+
+    /**
+     * Holds tag gift certificates collection region name
+     */
+    public static final String TAG_GIFT_CERTIFICATES = "tag-gift-certificates";
+
+    /**
+     * Holds role entity region name
+     */
+    public static final String ROLE = "role";
+
+    /**
+     * Holds user tag statistics region name, region holds results of user tag popularity query by user id
+     */
+    public static final String USER_TAG_STATISTICS = "user-tag-statistics";
+
+    /**
+     * Holds query cache hint name
+     */
+    public static final String CACHEABLE = "org.hibernate.cacheable";
+
+    /**
+     * Holds native query spaces hint name, limits cache invalidation of native update to listed tables
+     */
+    public static final String NATIVE_SPACES = "org.hibernate.query.native.spaces";
+
+    /**
+     * Default constructor
+     */
+    private CacheRegions() {}
+}
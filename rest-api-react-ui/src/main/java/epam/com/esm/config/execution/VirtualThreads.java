@@ -0,0 +1,69 @@
+package epam.com.esm.config.execution;
+
+import epam.com.esm.exception.types.UnexpectedException;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * VirtualThreads is the util class, creates virtual thread factories and executors
+ * <p>
+ * Application is compiled for Java 8, so virtual thread builder of Java 21 is resolved reflectively at runtime
+ */
+public final class VirtualThreads {
+
+    /**
+     * Default constructor
+     */
+    private VirtualThreads() {}
+
+    /**
+     * Checks if running Java supports virtual threads
+     *
+     * @return {@code true} if virtual threads are supported
+     */
+    public static boolean isSupported() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Creates factory of virtual threads named by provided prefix and sequence number
+     * Will throw UnexpectedException if running Java doesn't support virtual threads
+     *
+     * @param prefix provided thread name prefix
+     * @return {@code ThreadFactory} virtual thread factory
+     */
+    public static ThreadFactory newThreadFactory(String prefix) {
+        if (!isSupported()) {
+            throw new UnexpectedException("Virtual threads require Java 21+, running Java " +
+                                          System.getProperty("java.version"));
+        }
+
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Method name = builderType.getMethod("name", String.class, long.class);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(name.invoke(builder, prefix, 0L));
+        } catch (ReflectiveOperationException e) {
+            throw new UnexpectedException("Virtual thread factory can't be created: " + e);
+        }
+    }
+
+    /**
+     * Creates executor which starts new virtual thread for each task
+     * Will throw UnexpectedException if running Java doesn't support virtual threads
+     *
+     * @param prefix provided thread name prefix
+     * @return {@code Executor} thread per task executor
+     */
+    public static Executor newThreadPerTaskExecutor(String prefix) {
+        ThreadFactory factory = newThreadFactory(prefix);
+        return task -> factory.newThread(task).start();
+    }
+}
@@ -0,0 +1,69 @@
+package epam.com.esm.config.metrics;
+
+import epam.com.esm.config.metrics.type.Layer;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * LatencyMetrics is the utility class, holds latency timers of application operations by layer
+ * <p>
+ * Registry is static, so operations of static utility classes and objects created per request (request parsing,
+ * predicate building, dto conversion) are measured the same way as beans, which are measured by LatencyAspect
+ */
+public final class LatencyMetrics {
+
+    /**
+     * Holds timers by layer and operation name
+     */
+    private static final Map<Layer, Map<String, LatencyTimer>> TIMERS = new EnumMap<>(Layer.class);
+
+    static {
+        for (Layer layer : Layer.values()) {
+            TIMERS.put(layer, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Default constructor
+     */
+    private LatencyMetrics() {}
+
+    /**
+     * Gets timer of operation, timer is created on first use
+     *
+     * @param layer provided layer
+     * @param operation provided operation name
+     * @return {@code LatencyTimer} operation timer
+     */
+    public static LatencyTimer timer(Layer layer, String operation) {
+        Map<String, LatencyTimer> timers = TIMERS.get(layer);
+        LatencyTimer timer = timers.get(operation);
+        return timer != null ? timer : timers.computeIfAbsent(operation, o -> new LatencyTimer());
+    }
+
+    /**
+     * Records time of operation started at provided time
+     *
+     * @param layer provided layer
+     * @param operation provided operation name
+     * @param startNanos provided operation start time, value of {@link System#nanoTime()}
+     */
+    public static void record(Layer layer, String operation, long startNanos) {
+        timer(layer, operation).record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Gets timers of layer
+     *
+     * @param layer provided layer
+     * @return {@code SortedMap<String, LatencyTimer>} timers sorted by operation name
+     */
+    public static SortedMap<String, LatencyTimer> getTimers(Layer layer) {
+        return Collections.unmodifiableSortedMap(new TreeMap<>(TIMERS.get(layer)));
+    }
+}
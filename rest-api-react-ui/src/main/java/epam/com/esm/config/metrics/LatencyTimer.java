@@ -0,0 +1,138 @@
+package epam.com.esm.config.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LatencyTimer is the service class, collects call count and latency histogram of single operation
+ * <p>
+ * Histogram has fixed bucket bounds, each bucket counts calls not longer than its bound, calls longer than last
+ * bound are counted only by total count. Timer is lock free and safe for concurrent use
+ */
+public class LatencyTimer {
+
+    /**
+     * Holds bucket upper bounds in milliseconds
+     */
+    private static final double[] BOUNDS_MILLIS = {1, 2.5, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+
+    /**
+     * Holds bucket upper bounds in nanoseconds
+     */
+    private static final long[] BOUNDS_NANOS = new long[BOUNDS_MILLIS.length];
+
+    static {
+        for (int i = 0; i < BOUNDS_MILLIS.length; i++) {
+            BOUNDS_NANOS[i] = (long) (BOUNDS_MILLIS[i] * TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    /**
+     * Holds count of calls per bucket, call is counted only by first bucket it fits
+     */
+    private final LongAdder[] buckets;
+
+    /**
+     * Holds count of calls
+     */
+    private final LongAdder count;
+
+    /**
+     * Holds total time of calls in nanoseconds
+     */
+    private final LongAdder totalNanos;
+
+    /**
+     * Holds max time of call in nanoseconds
+     */
+    private final LongAccumulator maxNanos;
+
+    /**
+     * Constructs LatencyTimer with empty histogram
+     */
+    public LatencyTimer() {
+        this.buckets = new LongAdder[BOUNDS_NANOS.length];
+        this.count = new LongAdder();
+        this.totalNanos = new LongAdder();
+        this.maxNanos = new LongAccumulator(Math::max, 0);
+
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records call time
+     *
+     * @param nanos provided call time in nanoseconds
+     */
+    public void record(long nanos) {
+        int i = 0;
+
+        while (i < BOUNDS_NANOS.length && nanos > BOUNDS_NANOS[i]) {
+            i++;
+        }
+
+        if (i < buckets.length) {
+            buckets[i].increment();
+        }
+
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    /**
+     * Gets bucket upper bounds in milliseconds
+     *
+     * @return {@code double[]} bucket upper bounds
+     */
+    public static double[] getBoundsMillis() {
+        return BOUNDS_MILLIS.clone();
+    }
+
+    /**
+     * Gets cumulative count of calls per bucket, each value counts calls not longer than bucket bound
+     *
+     * @return {@code long[]} cumulative bucket counts
+     */
+    public long[] getCumulativeCounts() {
+        long[] counts = new long[buckets.length];
+        long sum = 0;
+
+        for (int i = 0; i < buckets.length; i++) {
+            sum += buckets[i].sum();
+            counts[i] = sum;
+        }
+
+        return counts;
+    }
+
+    /**
+     * Gets count of calls
+     *
+     * @return {@code long} calls count
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Gets total time of calls in seconds
+     *
+     * @return {@code double} total time in seconds
+     */
+    public double getTotalSeconds() {
+        return (double) totalNanos.sum() / TimeUnit.SECONDS.toNanos(1);
+    }
+
+    /**
+     * Gets max time of call in seconds
+     *
+     * @return {@code double} max time in seconds
+     */
+    public double getMaxSeconds() {
+        return (double) maxNanos.get() / TimeUnit.SECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,306 @@
+package epam.com.esm.config.metrics;
+
+import epam.com.esm.config.cache.CacheMetrics;
+import epam.com.esm.config.execution.ExecutionMode;
+import epam.com.esm.config.execution.PinningMonitor;
+import epam.com.esm.config.metrics.type.Layer;
+import epam.com.esm.config.pool.PoolMetrics;
+import epam.com.esm.exception.types.NotFoundException;
+import epam.com.esm.model.service.impl.products.CatalogImportService;
+import epam.com.esm.model.service.impl.purchase.PurchaseExpiryService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * PrometheusExporter is the service class, writes application metrics in Prometheus text format
+ * <p>
+ * Exports latency histograms of each layer, connection pool metrics, second level cache region metrics and
+ * purchase expiry, catalog import and virtual threads pinning metrics. Durations are exported in seconds
+ */
+@Component
+public class PrometheusExporter {
+
+    /**
+     * Holds content type of Prometheus text format
+     */
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    /**
+     * Holds metric names prefix
+     */
+    private static final String PREFIX = "esm_";
+
+    /**
+     * Holds PoolMetrics object
+     */
+    private final PoolMetrics poolMetrics;
+
+    /**
+     * Holds CacheMetrics object
+     */
+    private final CacheMetrics cacheMetrics;
+
+    /**
+     * Holds PurchaseExpiryService object
+     */
+    private final PurchaseExpiryService expiryService;
+
+    /**
+     * Holds CatalogImportService object
+     */
+    private final CatalogImportService importService;
+
+    /**
+     * Holds PinningMonitor object
+     */
+    private final PinningMonitor pinningMonitor;
+
+    /**
+     * Constructs PrometheusExporter with provided metrics sources
+     *
+     * @param poolMetrics provided connection pool metrics
+     * @param cacheMetrics provided cache metrics
+     * @param expiryService provided purchase expiry service
+     * @param importService provided catalog import service
+     * @param pinningMonitor provided pinned virtual threads monitor
+     */
+    @Autowired
+    public PrometheusExporter(PoolMetrics poolMetrics, CacheMetrics cacheMetrics,
+                              PurchaseExpiryService expiryService, CatalogImportService importService,
+                              PinningMonitor pinningMonitor) {
+        this.poolMetrics = poolMetrics;
+        this.cacheMetrics = cacheMetrics;
+        this.expiryService = expiryService;
+        this.importService = importService;
+        this.pinningMonitor = pinningMonitor;
+    }
+
+    /**
+     * Writes all metrics
+     *
+     * @return {@code String} metrics in Prometheus text format
+     */
+    public String export() {
+        StringBuilder sb = new StringBuilder(16384);
+        writeLatency(sb);
+        writePool(sb);
+        writeCache(sb);
+        writeExpiry(sb);
+        writeImport(sb);
+        writeExecution(sb);
+        return sb.toString();
+    }
+
+    /**
+     * Writes latency histograms and max latency of each layer operation
+     *
+     * @param sb provided output
+     */
+    private void writeLatency(StringBuilder sb) {
+        double[] bounds = LatencyTimer.getBoundsMillis();
+        String histogram = PREFIX + "latency_seconds";
+        String max = PREFIX + "latency_max_seconds";
+        header(sb, histogram, "histogram", "Latency of operation by layer");
+
+        for (Layer layer : Layer.values()) {
+            for (Map.Entry<String, LatencyTimer> e : LatencyMetrics.getTimers(layer).entrySet()) {
+                String labels = "layer=\"" + layer.getLabel() + "\",operation=\"" + escape(e.getKey()) + "\"";
+                LatencyTimer t = e.getValue();
+                long[] counts = t.getCumulativeCounts();
+
+                for (int i = 0; i < bounds.length; i++) {
+                    sample(sb, histogram + "_bucket", labels + ",le=\"" + bounds[i] / 1000 + "\"", counts[i]);
+                }
+
+                sample(sb, histogram + "_bucket", labels + ",le=\"+Inf\"", t.getCount());
+                sample(sb, histogram + "_sum", labels, t.getTotalSeconds());
+                sample(sb, histogram + "_count", labels, t.getCount());
+            }
+        }
+
+        header(sb, max, "gauge", "Max latency of operation by layer");
+
+        for (Layer layer : Layer.values()) {
+            for (Map.Entry<String, LatencyTimer> e : LatencyMetrics.getTimers(layer).entrySet()) {
+                sample(sb, max, "layer=\"" + layer.getLabel() + "\",operation=\"" + escape(e.getKey()) + "\"",
+                       e.getValue().getMaxSeconds());
+            }
+        }
+    }
+
+    /**
+     * Writes connection pool metrics
+     *
+     * @param sb provided output
+     */
+    private void writePool(StringBuilder sb) {
+        String connections = PREFIX + "pool_connections";
+        header(sb, connections, "gauge", "Connections of pool by state");
+        sample(sb, connections, "state=\"active\"", poolMetrics.getActive());
+        sample(sb, connections, "state=\"idle\"", poolMetrics.getIdle());
+        sample(sb, connections, "state=\"total\"", poolMetrics.getTotal());
+        sample(sb, connections, "state=\"pending\"", poolMetrics.getPending());
+        metric(sb, PREFIX + "pool_acquire_total", "counter", "Acquired connections", poolMetrics.getAcquireCount());
+        metric(sb, PREFIX + "pool_acquire_seconds_total", "counter", "Total connection acquire time",
+               poolMetrics.getAcquireTotalMillis() / 1000);
+        metric(sb, PREFIX + "pool_acquire_max_seconds", "gauge", "Max connection acquire time",
+               poolMetrics.getAcquireMaxMillis() / 1000);
+        metric(sb, PREFIX + "pool_usage_seconds_total", "counter", "Total connection usage time",
+               poolMetrics.getUsageTotalMillis() / 1000.0);
+        metric(sb, PREFIX + "pool_timeouts_total", "counter", "Connection acquire timeouts",
+               poolMetrics.getTimeouts());
+    }
+
+    /**
+     * Writes second level cache metrics of each region, regions without registered statistics are skipped
+     *
+     * @param sb provided output
+     */
+    private void writeCache(StringBuilder sb) {
+        cacheMetric(sb, "cache_hits_total", "counter", "Cache region hits", cacheMetrics::getHits);
+        cacheMetric(sb, "cache_misses_total", "counter", "Cache region misses", cacheMetrics::getMisses);
+        cacheMetric(sb, "cache_puts_total", "counter", "Cache region puts", cacheMetrics::getPuts);
+        cacheMetric(sb, "cache_removals_total", "counter", "Cache region removals", cacheMetrics::getRemovals);
+        cacheMetric(sb, "cache_evictions_total", "counter", "Cache region evictions", cacheMetrics::getEvictions);
+        cacheMetric(sb, "cache_size", "gauge", "Cache region estimated size", cacheMetrics::getSize);
+    }
+
+    /**
+     * Writes purchase expiry metrics
+     *
+     * @param sb provided output
+     */
+    private void writeExpiry(StringBuilder sb) {
+        metric(sb, PREFIX + "purchase_expiry_expired_total", "counter", "Expired purchases",
+               expiryService.getExpiredTotal());
+        metric(sb, PREFIX + "purchase_expiry_runs_total", "counter", "Purchase expiry runs",
+               expiryService.getRunsTotal());
+        metric(sb, PREFIX + "purchase_expiry_last_run_expired", "gauge", "Purchases expired by last run",
+               expiryService.getLastRunExpired());
+        metric(sb, PREFIX + "purchase_expiry_last_run_seconds", "gauge", "Duration of last run",
+               expiryService.getLastRunMillis() / 1000.0);
+        metric(sb, PREFIX + "purchase_expiry_watermark_seconds", "gauge", "Purchase expiry watermark",
+               expiryService.getWatermark().atZone(ZoneId.systemDefault()).toEpochSecond());
+    }
+
+    /**
+     * Writes catalog import metrics, throughput is rate of imported rows divided by rate of import duration
+     *
+     * @param sb provided output
+     */
+    private void writeImport(StringBuilder sb) {
+        String rows = PREFIX + "catalog_import_rows_total";
+        header(sb, rows, "counter", "Catalog import rows by result");
+        sample(sb, rows, "result=\"imported\"", importService.getImportedTotal());
+        sample(sb, rows, "result=\"rejected\"", importService.getRejectedTotal());
+        metric(sb, PREFIX + "catalog_import_runs_total", "counter", "Catalog imports", importService.getRunsTotal());
+        metric(sb, PREFIX + "catalog_import_seconds_total", "counter", "Total catalog import time",
+               importService.getNanosTotal() / 1e9);
+    }
+
+    /**
+     * Writes execution mode and pinned virtual threads metrics, pinned events are counted in virtual mode only
+     *
+     * @param sb provided output
+     */
+    private void writeExecution(StringBuilder sb) {
+        metric(sb, PREFIX + "execution_virtual_threads", "gauge", "Requests are served by virtual threads",
+               pinningMonitor.getMode() == ExecutionMode.VIRTUAL ? 1 : 0);
+        metric(sb, PREFIX + "virtual_threads_pinned_total", "counter", "Pinned virtual threads",
+               pinningMonitor.getPinnedTotal());
+        metric(sb, PREFIX + "virtual_threads_pinned_seconds_total", "counter", "Total pinned time",
+               pinningMonitor.getPinnedNanos() / 1e9);
+
+        String sites = PREFIX + "virtual_threads_pinned_site_total";
+        header(sb, sites, "counter", "Pinned virtual threads by first frame outside JDK");
+        pinningMonitor.getSites().forEach((site, count) -> sample(sb, sites, "site=\"" + escape(site) + "\"", count));
+    }
+
+    /**
+     * Writes metric of each cache region
+     *
+     * @param sb provided output
+     * @param name provided metric name without prefix
+     * @param type provided metric type
+     * @param help provided metric description
+     * @param value provided region value getter
+     */
+    private void cacheMetric(StringBuilder sb, String name, String type, String help, ToLongFunction<String> value) {
+        header(sb, PREFIX + name, type, help);
+
+        for (String region : cacheMetrics.getRegions()) {
+            try {
+                sample(sb, PREFIX + name, "region=\"" + escape(region) + "\"", value.applyAsLong(region));
+            } catch (NotFoundException e) {
+                // statistics of region aren't registered, region is skipped
+            }
+        }
+    }
+
+    /**
+     * Writes metric with single sample
+     *
+     * @param sb provided output
+     * @param name provided metric name
+     * @param type provided metric type
+     * @param help provided metric description
+     * @param value provided sample value
+     */
+    private void metric(StringBuilder sb, String name, String type, String help, double value) {
+        header(sb, name, type, help);
+        sample(sb, name, null, value);
+    }
+
+    /**
+     * Writes metric help and type lines
+     *
+     * @param sb provided output
+     * @param name provided metric name
+     * @param type provided metric type
+     * @param help provided metric description
+     */
+    private void header(StringBuilder sb, String name, String type, String help) {
+        sb.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        sb.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    /**
+     * Writes sample line
+     *
+     * @param sb provided output
+     * @param name provided sample name
+     * @param labels provided sample labels, may be null
+     * @param value provided sample value
+     */
+    private void sample(StringBuilder sb, String name, String labels, double value) {
+        sb.append(name);
+
+        if (labels != null) {
+            sb.append('{').append(labels).append('}');
+        }
+
+        sb.append(' ');
+
+        if (value == Math.rint(value) && !Double.isInfinite(value) && Math.abs(value) < 1e15) {
+            sb.append((long) value);
+        } else {
+            sb.append(value);
+        }
+
+        sb.append('\n');
+    }
+
+    /**
+     * Escapes label value
+     *
+     * @param value provided label value
+     * @return {@code String} escaped label value
+     */
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
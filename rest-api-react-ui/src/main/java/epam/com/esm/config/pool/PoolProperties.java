@@ -0,0 +1,175 @@
+package epam.com.esm.config.pool;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * PoolProperties is the configuration properties class, holds size, time bounds and driver properties
+ * of Hikari connection pool
+ */
+@ConfigurationProperties(prefix = "spring.datasource.hikari")
+public class PoolProperties {
+
+    /**
+     * Holds name of connection pool
+     */
+    private String poolName;
+
+    /**
+     * Holds max number of connections in pool, both idle and in use
+     */
+    private int maximumPoolSize;
+
+    /**
+     * Holds min number of idle connections, pool is warmed up to this size on start
+     */
+    private int minimumIdle;
+
+    /**
+     * Holds max lifetime of connection in pool in milliseconds
+     */
+    private long maxLifetime;
+
+    /**
+     * Holds max time of waiting for connection from pool in milliseconds
+     */
+    private long connectionTimeout;
+
+    /**
+     * Holds time of connection being out of pool before possible leak is logged in milliseconds
+     */
+    private long leakDetectionThreshold;
+
+    /**
+     * Holds properties passed to JDBC driver by property name
+     */
+    private Map<String, String> dataSourceProperties = new LinkedHashMap<>();
+
+    /**
+     * Gets value from poolName field
+     *
+     * @return {@code String} poolName value
+     */
+    public String getPoolName() {
+        return poolName;
+    }
+
+    /**
+     * Sets new value to poolName field
+     *
+     * @param poolName value for setting
+     */
+    public void setPoolName(String poolName) {
+        this.poolName = poolName;
+    }
+
+    /**
+     * Gets value from maximumPoolSize field
+     *
+     * @return {@code int} maximumPoolSize value
+     */
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    /**
+     * Sets new value to maximumPoolSize field
+     *
+     * @param maximumPoolSize value for setting
+     */
+    public void setMaximumPoolSize(int maximumPoolSize) {
+        this.maximumPoolSize = maximumPoolSize;
+    }
+
+    /**
+     * Gets value from minimumIdle field
+     *
+     * @return {@code int} minimumIdle value
+     */
+    public int getMinimumIdle() {
+        return minimumIdle;
+    }
+
+    /**
+     * Sets new value to minimumIdle field
+     *
+     * @param minimumIdle value for setting
+     */
+    public void setMinimumIdle(int minimumIdle) {
+        this.minimumIdle = minimumIdle;
+    }
+
+    /**
+     * Gets value from maxLifetime field
+     *
+     * @return {@code long} maxLifetime value
+     */
+    public long getMaxLifetime() {
+        return maxLifetime;
+    }
+
+    /**
+     * Sets new value to maxLifetime field
+     *
+     * @param maxLifetime value for setting
+     */
+    public void setMaxLifetime(long maxLifetime) {
+        this.maxLifetime = maxLifetime;
+    }
+
+    /**
+     * Gets value from connectionTimeout field
+     *
+     * @return {@code long} connectionTimeout value
+     */
+    public long getConnectionTimeout() {
+        return connectionTimeout;
+    }
+
+    /**
+     * Sets new value to connectionTimeout field
+     *
+     * @param connectionTimeout value for setting
+     */
+    public void setConnectionTimeout(long connectionTimeout) {
+        this.connectionTimeout = connectionTimeout;
+    }
+
+    /**
+     * Gets value from leakDetectionThreshold field
+     *
+     * @return {@code long} leakDetectionThreshold value
+     */
+    public long getLeakDetectionThreshold() {
+        return leakDetectionThreshold;
+    }
+
+    /**
+     * Sets new value to leakDetectionThreshold field
+     *
+     * @param leakDetectionThreshold value for setting
+     */
+    public void setLeakDetectionThreshold(long leakDetectionThreshold) {
+        this.leakDetectionThreshold = leakDetectionThreshold;
+    }
+
+    /**
+     * Gets driver properties
+     *
+     * @return {@code Map<String, String>} driver properties by property name
+     */
+    public Map<String, String> getDataSourceProperties() {
+        return dataSourceProperties;
+    }
+
+    /**
+     * Sets new driver properties
+     *
+     * @param dataSourceProperties driver properties by property name for setting
+     */
+    public void setDataSourceProperties(Map<String, String> dataSourceProperties) {
+        this.dataSourceProperties = dataSourceProperties;
+    }
+}
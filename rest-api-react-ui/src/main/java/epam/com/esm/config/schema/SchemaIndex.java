@@ -0,0 +1,169 @@
+package epam.com.esm.config.schema;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * SchemaIndex is the data class, describes index expected by application queries
+ * <p>
+ * Index is satisfied by any index of the same table which starts with the same columns, so unique keys and indexes
+ * created under other names are accepted. Full-text index is satisfied only by full-text index with the same columns
+ */
+public class SchemaIndex {
+
+    /**
+     * Holds table name
+     */
+    private final String table;
+
+    /**
+     * Holds index name
+     */
+    private final String name;
+
+    /**
+     * Holds full-text index value
+     */
+    private final boolean fullText;
+
+    /**
+     * Holds index columns
+     */
+    private final List<String> columns;
+
+    /**
+     * Constructs SchemaIndex with provided table, name, full-text flag and columns
+     *
+     * @param table provided table name
+     * @param name provided index name
+     * @param fullText provided full-text index value
+     * @param columns provided index columns
+     */
+    private SchemaIndex(String table, String name, boolean fullText, String... columns) {
+        this.table = table;
+        this.name = name;
+        this.fullText = fullText;
+        this.columns = Collections.unmodifiableList(Arrays.asList(columns));
+    }
+
+    /**
+     * Creates description of regular index
+     *
+     * @param table provided table name
+     * @param name provided index name
+     * @param columns provided index columns
+     * @return {@code SchemaIndex} index description
+     */
+    public static SchemaIndex index(String table, String name, String... columns) {
+        return new SchemaIndex(table, name, false, columns);
+    }
+
+    /**
+     * Creates description of full-text index
+     *
+     * @param table provided table name
+     * @param name provided index name
+     * @param columns provided index columns
+     * @return {@code SchemaIndex} index description
+     */
+    public static SchemaIndex fullText(String table, String name, String... columns) {
+        return new SchemaIndex(table, name, true, columns);
+    }
+
+    /**
+     * Checks if existing index satisfies this index
+     *
+     * @param existingTable provided existing index table name
+     * @param existingFullText provided existing index full-text value
+     * @param existingColumns provided existing index columns in index order
+     * @return {@code true} if existing index satisfies this index
+     */
+    public boolean isSatisfiedBy(String existingTable, boolean existingFullText, List<String> existingColumns) {
+        if (!table.equalsIgnoreCase(existingTable) || fullText != existingFullText
+            || existingColumns.size() < columns.size() || (fullText && existingColumns.size() != columns.size())) {
+            return false;
+        }
+
+        for (int i = 0; i < columns.size(); i++) {
+            if (!columns.get(i).equalsIgnoreCase(existingColumns.get(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Generates create index statement
+     *
+     * @return {@code String} create index statement
+     */
+    public String toDdl() {
+        return "CREATE " + (fullText ? "FULLTEXT " : "") + "INDEX `" + name + "` ON `" + table + "` (" +
+               columns.stream().map(c -> "`" + c + "`").collect(Collectors.joining(", ")) + ")";
+    }
+
+    /**
+     * Gets value from table field
+     *
+     * @return {@code String} table value
+     */
+    public String getTable() {
+        return table;
+    }
+
+    /**
+     * Gets value from name field
+     *
+     * @return {@code String} name value
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets full-text index value
+     *
+     * @return {@code boolean} full-text value
+     */
+    public boolean isFullText() {
+        return fullText;
+    }
+
+    /**
+     * Gets index columns
+     *
+     * @return {@code List<String>} columns value
+     */
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    /**
+     * Compares source object and target object for equality
+     *
+     * @param o target object
+     * @return {@code true} if objects are equal
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SchemaIndex that = (SchemaIndex) o;
+        return fullText == that.fullText && Objects.equals(table, that.table) && Objects.equals(name, that.name)
+               && Objects.equals(columns, that.columns);
+    }
+
+    /**
+     * Calculates hash for source object
+     *
+     * @return {@code int} hashcode integer value
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(table, name, fullText, columns);
+    }
+}
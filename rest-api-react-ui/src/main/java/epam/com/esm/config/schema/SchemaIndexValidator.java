@@ -0,0 +1,70 @@
+package epam.com.esm.config.schema;
+
+import epam.com.esm.exception.types.UnexpectedException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * SchemaIndexValidator is the component class, checks expected index set on start
+ * <p>
+ * Application start fails if any expected index is missing, so search and statistics queries don't silently
+ * fall back to full scans. Check can be disabled for databases without index metadata
+ */
+@Component
+public class SchemaIndexValidator implements ApplicationRunner {
+
+    /**
+     * Holds DataSource object
+     */
+    private final DataSource dataSource;
+
+    /**
+     * Holds check enabled flag
+     */
+    private final boolean enabled;
+
+    /**
+     * Constructs SchemaIndexValidator with provided DataSource object and check flag
+     *
+     * @param dataSource provided data source
+     * @param enabled provided check enabled flag
+     */
+    @Autowired
+    public SchemaIndexValidator(DataSource dataSource, @Value("${schema.index-check.enabled}") boolean enabled) {
+        this.dataSource = dataSource;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Checks expected index set
+     * Will throw UnexpectedException if any expected index is missing or index metadata can't be read
+     *
+     * @param args provided application arguments
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+
+        List<SchemaIndex> missing;
+
+        try (Connection c = dataSource.getConnection()) {
+            missing = SchemaIndexes.findMissing(c);
+        } catch (SQLException e) {
+            throw new UnexpectedException("Schema index check failed: " + e.getMessage());
+        }
+
+        if (!missing.isEmpty()) {
+            throw new UnexpectedException("Schema indexes are missing: " + SchemaIndexes.describe(missing));
+        }
+    }
+}
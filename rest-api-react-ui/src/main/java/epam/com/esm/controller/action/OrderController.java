@@ -2,12 +2,16 @@ package epam.com.esm.controller.action;
 
 import epam.com.esm.controller.AbstractController;
 import epam.com.esm.model.facade.interfaces.entity.action.OrderFacade;
+import epam.com.esm.utils.batch.facade.DtoBatchItem;
+import epam.com.esm.utils.export.ExportFormat;
 import epam.com.esm.utils.hateoas.annotations.ControllerLink;
+import epam.com.esm.utils.hateoas.wrappers.WrappedCollection;
 import epam.com.esm.utils.search.transport.response.PageDataResponse;
 import epam.com.esm.view.dto.request.impl.action.OrderDtoRequest;
 import epam.com.esm.view.dto.response.impl.action.OrderUserDtoResponse;
 import epam.com.esm.view.dto.response.impl.products.GiftCertificateDtoResponse;
 import epam.com.esm.view.resources.data.Resources;
+import epam.com.esm.view.resources.impl.action.OrderResourceModel;
 import epam.com.esm.view.resources.impl.action.OrderUserResourceModel;
 import epam.com.esm.view.resources.impl.products.GiftCertificateResourceModel;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,8 +19,10 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.annotation.security.RolesAllowed;
+import java.util.List;
 
 /**
  * OrderController class is the REST controller, which consumes requested OrderDtoRequest object, forwards to relevant
@@ -38,6 +44,11 @@ public class OrderController extends AbstractController {
      */
     private final OrderUserResourceModel ouResModel;
 
+    /**
+     * Holds OrderResourceModel service object
+     */
+    private final OrderResourceModel oResModel;
+
     /**
      * Holds GiftCertificateResourceModel service object
      */
@@ -48,13 +59,15 @@ public class OrderController extends AbstractController {
      *
      * @param orderFacade service, provides operations for OrderUserDtoRequest objects
      * @param ouResModel service, provides link building operations for OrderUserDtoResponse objects
+     * @param oResModel service, provides link building operations for OrderDtoResponse objects
      * @param gcResModel service, provides link building operations for GiftCertificateDtoResponse objects
      */
     @Autowired
-    public OrderController(OrderFacade orderFacade, OrderUserResourceModel ouResModel,
+    public OrderController(OrderFacade orderFacade, OrderUserResourceModel ouResModel, OrderResourceModel oResModel,
                            GiftCertificateResourceModel gcResModel) {
         this.orderFacade = orderFacade;
         this.ouResModel = ouResModel;
+        this.oResModel = oResModel;
         this.gcResModel = gcResModel;
     }
 
@@ -76,6 +89,23 @@ public class OrderController extends AbstractController {
         return ResponseEntity.ok().body(resp);
     }
 
+    /**
+     * Consumes list of OrderDtoRequest objects, creates WrappedCollection object as the result of facade create all
+     * operation, builds links for created orders and produces response entity, which contains result of each item
+     *
+     * @param ouDtoRequests objects with requested parameters
+     * @return {@code HttpEntity<WrappedCollection<DtoBatchItem>>} response entity, represents result of
+     * create all operation
+     */
+    @PostMapping("/batch")
+    @RolesAllowed("ROLE_ADMIN")
+    public HttpEntity<WrappedCollection<DtoBatchItem>> createAll(@RequestBody List<OrderDtoRequest> ouDtoRequests) {
+        WrappedCollection<DtoBatchItem> items = orderFacade.createAll(ouDtoRequests);
+        oResModel.buildLinksBatchItems(items, Resources.READ, Resources.GIFT_CERTIFICATES);
+        oResModel.addLinksMainPage(items, Resources.MAIN);
+        return ResponseEntity.ok().body(items);
+    }
+
     /**
      * Consumes path variable, creates OrderUserDtoResponse as the result of facade find by id operation,
      * builds links for this object and produces response entity
@@ -142,6 +172,22 @@ public class OrderController extends AbstractController {
         return ResponseEntity.ok().body(pdr);
     }
 
+    /**
+     * Consumes requested URL parameters from WebRequest and export format, produces response entity, which streams
+     * orders found by facade export operation without counting, paging and links
+     *
+     * @param webRequest object, holds requested URL parameters
+     * @param format requested parameter, holds export format name
+     * @return {@code ResponseEntity<StreamingResponseBody>} response entity, represents result of export operation
+     */
+    @GetMapping("/export")
+    @RolesAllowed("ROLE_ADMIN")
+    public ResponseEntity<StreamingResponseBody> export(WebRequest webRequest,
+                                                        @RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat ef = ExportFormat.of(format);
+        return toAttachment("orders", ef, orderFacade.export(webRequest, ef));
+    }
+
     /**
      * Consumes path variable and requested URL parameters from WebRequest, creates PageDataResponse object as the
      * result of facade find gift certificates operation, builds links and produces response entity, which contains
@@ -78,12 +78,18 @@ public class TagController extends AbstractController {
     /**
      * Consumes path variable, creates TagDtoResponse as the result of facade find by id operation,
      * builds links for this object and produces response entity
+     * Responds with Not Modified status without finding, if versions of tag match requested entity tag
      *
      * @param id path variable, represents id of searched tag
+     * @param webRequest object, holds requested headers
      * @return {@code HttpEntity<TagDtoResponse>} response entity, represents result of find by id operation
      */
     @GetMapping("/{id}")
-    public HttpEntity<TagDtoResponse> findById(@PathVariable Long id) {
+    public HttpEntity<TagDtoResponse> findById(@PathVariable Long id, WebRequest webRequest) {
+        if (checkNotModified(webRequest, tagFacade.findVersion(id))) {
+            return null;
+        }
+
         TagDtoResponse resp = tagFacade.findById(id);
 
         if (checkRole("ROLE_ADMIN")) {
@@ -119,6 +125,7 @@ public class TagController extends AbstractController {
     /**
      * Consumes requested URL parameters from WebRequest, creates PageDataResponse object as the result of facade
      * find all operation, builds links and produces response entity, which contains found items and requested params
+     * Responds with Not Modified status without finding, if versions of found tags match requested entity tag
      *
      * @param webRequest object, holds requested URL parameters
      * @return {@code HttpEntity<PageDataResponse<TagDtoResponse>>} response entity, represents result of
@@ -126,6 +133,10 @@ public class TagController extends AbstractController {
      */
     @GetMapping("/all")
     public HttpEntity<PageDataResponse<TagDtoResponse>> findAll(WebRequest webRequest) {
+        if (checkNotModified(webRequest, tagFacade.findAllVersion(webRequest))) {
+            return null;
+        }
+
         PageDataResponse<TagDtoResponse> pdr = tagFacade.findAll(webRequest);
 
         if (checkRole("ROLE_ADMIN")) {
@@ -7,8 +7,10 @@ import epam.com.esm.persistence.entity.impl.products.Tag;
 import epam.com.esm.utils.search.data.AbstractDataHandler;
 import epam.com.esm.utils.search.data.impl.products.GiftCertificateDataHandler;
 import epam.com.esm.utils.search.data.impl.products.TagDataHandler;
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
 import epam.com.esm.utils.search.transport.response.PageDataResponse;
 import epam.com.esm.utils.verifiers.products.TagDtoVerifier;
+import epam.com.esm.utils.versions.VersionStamp;
 import epam.com.esm.view.dto.request.impl.products.TagDtoRequest;
 import epam.com.esm.view.dto.request.impl.products.TagGiftCertificatesDtoRequest;
 import epam.com.esm.view.dto.response.impl.products.GiftCertificateDtoResponse;
@@ -38,15 +40,22 @@ public class TagFacadeImpl implements TagFacade {
     private final TagDtoVerifier tagDtoVerifier;
 
     /**
-     * Constructs TagFacadeImpl with TagService and TagDtoVerifier objects
+     * Holds FilterMetadataRegistry object
+     */
+    private final FilterMetadataRegistry registry;
+
+    /**
+     * Constructs TagFacadeImpl with TagService, TagDtoVerifier and FilterMetadataRegistry objects
      *
      * @param tagService service, provides logic operations for tags
      * @param tagDtoVerifier service, provides validations operations for tags
+     * @param registry service, holds filter metadata of entities
      */
     @Autowired
-    public TagFacadeImpl(TagService tagService, TagDtoVerifier tagDtoVerifier) {
+    public TagFacadeImpl(TagService tagService, TagDtoVerifier tagDtoVerifier, FilterMetadataRegistry registry) {
         this.tagService = tagService;
         this.tagDtoVerifier = tagDtoVerifier;
+        this.registry = registry;
     }
 
     /**
@@ -91,7 +100,7 @@ public class TagFacadeImpl implements TagFacade {
      */
     @Override
     public PageDataResponse<TagDtoResponse> findAll(WebRequest webRequest) {
-        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler();
+        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler(registry);
         return adh.processOutput(tagService.findAll(adh.processSearch(webRequest)));
     }
 
@@ -105,7 +114,7 @@ public class TagFacadeImpl implements TagFacade {
      */
     @Override
     public PageDataResponse<TagDtoResponse> findAllCertificated(WebRequest webRequest) {
-        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler();
+        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler(registry);
         return adh.processOutput(tagService.findAllCertificated(adh.processSearch(webRequest)));
     }
 
@@ -119,7 +128,7 @@ public class TagFacadeImpl implements TagFacade {
      */
     @Override
     public PageDataResponse<TagDtoResponse> findAllNotCertificated(WebRequest webRequest) {
-        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler();
+        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler(registry);
         return adh.processOutput(tagService.findAllNotCertificated(adh.processSearch(webRequest)));
     }
 
@@ -134,7 +143,7 @@ public class TagFacadeImpl implements TagFacade {
      */
     @Override
     public PageDataResponse<GiftCertificateDtoResponse> findGiftCertificates(Long tagId, WebRequest webRequest) {
-        AbstractDataHandler<GiftCertificate, GiftCertificateDtoResponse> adh = new GiftCertificateDataHandler();
+        AbstractDataHandler<GiftCertificate, GiftCertificateDtoResponse> adh = new GiftCertificateDataHandler(registry);
         return adh.processOutput(tagService.findGiftCertificates(tagId, adh.processSearch(webRequest)));
     }
 
@@ -167,4 +176,26 @@ public class TagFacadeImpl implements TagFacade {
                 tagService.deleteGiftCertificates(tagDtoVerifier.verifyChanges(dto, tagService.findById(id))), true
         );
     }
+
+    /**
+     * Consumes id parameter value and produces versions of tag if tag was found
+     *
+     * @param id requested parameter value, holds tag id value
+     * @return {@code VersionStamp} versions of tag and its linked entities
+     */
+    @Override
+    public VersionStamp findVersion(Long id) {
+        return tagService.findVersion(id);
+    }
+
+    /**
+     * Consumes web request and produces versions of tags found by its URL request params
+     *
+     * @param webRequest requested object, contains URL params
+     * @return {@code VersionStamp} versions of found tags and their linked entities
+     */
+    @Override
+    public VersionStamp findAllVersion(WebRequest webRequest) {
+        return tagService.findAllVersion(new TagDataHandler(registry).processSearch(webRequest));
+    }
 }
\ No newline at end of file
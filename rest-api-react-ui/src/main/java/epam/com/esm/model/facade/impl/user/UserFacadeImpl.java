@@ -6,13 +6,22 @@ import epam.com.esm.persistence.entity.impl.action.Order;
 import epam.com.esm.persistence.entity.impl.products.Tag;
 import epam.com.esm.persistence.entity.impl.purchase.PurchaseData;
 import epam.com.esm.persistence.entity.impl.user.User;
+import epam.com.esm.utils.batch.facade.DtoBatchItem;
+import epam.com.esm.utils.converters.dto.custom.DtoBatchItemConverter;
 import epam.com.esm.utils.converters.dto.custom.DtoDataTagConverter;
+import epam.com.esm.utils.dashboard.facade.DtoUserDashboard;
+import epam.com.esm.utils.dashboard.service.ObjectUserDashboard;
+import epam.com.esm.utils.export.ExportColumns;
+import epam.com.esm.utils.export.ExportFormat;
+import epam.com.esm.utils.export.writers.AbstractRowWriter;
 import epam.com.esm.utils.hateoas.wrappers.WrappedCollection;
 import epam.com.esm.utils.search.data.AbstractDataHandler;
 import epam.com.esm.utils.search.data.impl.action.OrderDataHandler;
 import epam.com.esm.utils.search.data.impl.products.TagDataHandler;
 import epam.com.esm.utils.search.data.impl.purchase.PurchaseDataHandler;
 import epam.com.esm.utils.search.data.impl.user.UserDataHandler;
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
+import epam.com.esm.utils.search.transport.request.SearchParamRequest;
 import epam.com.esm.utils.search.transport.response.PageDataResponse;
 import epam.com.esm.utils.statistics.facade.DtoDataTag;
 import epam.com.esm.utils.verifiers.action.OrderDtoVerifier;
@@ -26,8 +35,10 @@ import epam.com.esm.view.dto.response.impl.user.UserDtoResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Collectors;
 
 import static epam.com.esm.utils.converters.dto.user.UserDtoConverter.toDto;
@@ -56,17 +67,26 @@ public class UserFacadeImpl implements UserFacade {
     private final OrderDtoVerifier orderDtoVerifier;
 
     /**
-     * Constructs UserFacadeImpl with UserService, UserDtoVerifier and OrderDtoVerifier objects
+     * Holds FilterMetadataRegistry object
+     */
+    private final FilterMetadataRegistry registry;
+
+    /**
+     * Constructs UserFacadeImpl with UserService, UserDtoVerifier, OrderDtoVerifier and FilterMetadataRegistry
+     * objects
      *
      * @param uService service, provides logic operations for user
      * @param userDtoVerifier service, provides validations operations for user
      * @param orderDtoVerifier service, provides validations operations for order
+     * @param registry service, holds filter metadata of entities
      */
     @Autowired
-    public UserFacadeImpl(UserService uService, UserDtoVerifier userDtoVerifier, OrderDtoVerifier orderDtoVerifier) {
+    public UserFacadeImpl(UserService uService, UserDtoVerifier userDtoVerifier, OrderDtoVerifier orderDtoVerifier,
+                          FilterMetadataRegistry registry) {
         this.uService = uService;
         this.userDtoVerifier = userDtoVerifier;
         this.orderDtoVerifier = orderDtoVerifier;
+        this.registry = registry;
     }
 
     /**
@@ -123,7 +143,7 @@ public class UserFacadeImpl implements UserFacade {
      */
     @Override
     public PageDataResponse<UserDtoResponse> findAll(WebRequest webRequest) {
-        AbstractDataHandler<User, UserDtoResponse> adh = new UserDataHandler();
+        AbstractDataHandler<User, UserDtoResponse> adh = new UserDataHandler(registry);
         return adh.processOutput(uService.findAll(adh.processSearch(webRequest)));
     }
 
@@ -139,6 +159,22 @@ public class UserFacadeImpl implements UserFacade {
         return toDto(uService.makeOrder(userId, orderDtoVerifier.verifyWithoutUser(dto)), true);
     }
 
+    /**
+     * Consumes dto requests and id parameter value, validates each of them and produces wrapped collection with
+     * results of batch items processing
+     *
+     * @param userId requested parameter, holds user id value
+     * @param dtos requested objects, hold orders requested values
+     * @return {@code WrappedCollection<DtoBatchItem>} object, holds results of batch items processing
+     */
+    @Override
+    public WrappedCollection<DtoBatchItem> makeOrders(Long userId, List<OrderDtoRequest> dtos) {
+        return new WrappedCollection<>(uService.makeOrders(userId, orderDtoVerifier.verifyBatch(dtos, false))
+                                               .stream()
+                                               .map(DtoBatchItemConverter::toDto)
+                                               .collect(Collectors.toCollection(ArrayList::new)));
+    }
+
     /**
      * Consumes web request and user id parameter value, finds by its URL request params orders of significant
      * user and produces page data response as the result of search
@@ -149,7 +185,7 @@ public class UserFacadeImpl implements UserFacade {
      */
     @Override
     public PageDataResponse<OrderDtoResponse> findOrders(WebRequest webRequest, Long userId) {
-        AbstractDataHandler<Order, OrderDtoResponse> adh = new OrderDataHandler();
+        AbstractDataHandler<Order, OrderDtoResponse> adh = new OrderDataHandler(registry);
         return adh.processOutput(uService.findOrders(adh.processSearch(webRequest), userId));
     }
 
@@ -163,7 +199,7 @@ public class UserFacadeImpl implements UserFacade {
      */
     @Override
     public PageDataResponse<TagDtoResponse> findTags(WebRequest webRequest, Long userId) {
-        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler();
+        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler(registry);
         return adh.processOutput(uService.findTags(adh.processSearch(webRequest), userId));
     }
 
@@ -178,10 +214,30 @@ public class UserFacadeImpl implements UserFacade {
      */
     @Override
     public PageDataResponse<PurchaseDataDtoResponse> findPurchases(WebRequest webRequest, Long userId) {
-        AbstractDataHandler<PurchaseData, PurchaseDataDtoResponse> adh = new PurchaseDataHandler();
+        AbstractDataHandler<PurchaseData, PurchaseDataDtoResponse> adh = new PurchaseDataHandler(registry);
         return adh.processOutput(uService.findPurchases(adh.processSearch(webRequest), userId));
     }
 
+    /**
+     * Consumes web request and user id parameter value, parses URL request params and produces response body, which
+     * writes purchase data of significant user found by them in requested format row by row
+     *
+     * @param webRequest requested object, contains URL params
+     * @param userId requested parameter value, holds user id value
+     * @param format requested export format
+     * @return {@code StreamingResponseBody} response body, writes exported purchase data
+     */
+    @Override
+    public StreamingResponseBody exportPurchases(WebRequest webRequest, Long userId, ExportFormat format) {
+        SearchParamRequest spReq = new PurchaseDataHandler(registry).processSearch(webRequest);
+
+        return out -> {
+            try (AbstractRowWriter<PurchaseData> writer = format.open(out, ExportColumns.PURCHASE_DATA)) {
+                uService.exportPurchases(spReq, userId, writer::write);
+            }
+        };
+    }
+
     /**
      * Consumes user id parameter value, finds tags by popularity descended of significant user and produces wrapped
      * collection response as the result of search
@@ -211,4 +267,34 @@ public class UserFacadeImpl implements UserFacade {
                                                .map(DtoDataTagConverter::toDto)
                                                .collect(Collectors.toCollection(ArrayList::new)));
     }
-}
\ No newline at end of file
+
+    /**
+     * Consumes web request and already found user, finds first pages of its orders, purchase data and tags by URL
+     * request params and tags by popularity, produces dashboard as the result of search
+     * User is shown without orders, its orders are shown by first page of orders
+     *
+     * @param webRequest requested object, contains URL params applied to each page
+     * @param user requested object, holds already found user
+     * @return {@code DtoUserDashboard} object, holds found user, summary counts and found items
+     */
+    @Override
+    public DtoUserDashboard findDashboard(WebRequest webRequest, UserDtoResponse user) {
+        AbstractDataHandler<Order, OrderDtoResponse> odh = new OrderDataHandler(registry);
+        AbstractDataHandler<PurchaseData, PurchaseDataDtoResponse> pdh = new PurchaseDataHandler(registry);
+        AbstractDataHandler<Tag, TagDtoResponse> tdh = new TagDataHandler(registry);
+        ObjectUserDashboard dashboard = uService.findDashboard(user.getId(), odh.processSearch(webRequest),
+                                                               pdh.processSearch(webRequest),
+                                                               tdh.processSearch(webRequest));
+        List<DtoDataTag> popularTags = dashboard.getPopularTags()
+                                                .stream()
+                                                .map(DtoDataTagConverter::toDto)
+                                                .collect(Collectors.toCollection(ArrayList::new));
+        user.setOrders(null);
+
+        return new DtoUserDashboard(user,
+                                    odh.processOutput(dashboard.getOrders()),
+                                    pdh.processOutput(dashboard.getPurchases()),
+                                    tdh.processOutput(dashboard.getTags()),
+                                    new WrappedCollection<>(popularTags));
+    }
+}
@@ -1,11 +1,17 @@
 package epam.com.esm.model.facade.interfaces.entity.action;
 
 import epam.com.esm.model.facade.interfaces.base.CrdFacade;
+import epam.com.esm.utils.batch.facade.DtoBatchItem;
+import epam.com.esm.utils.export.ExportFormat;
+import epam.com.esm.utils.hateoas.wrappers.WrappedCollection;
 import epam.com.esm.utils.search.transport.response.PageDataResponse;
 import epam.com.esm.view.dto.request.impl.action.OrderDtoRequest;
 import epam.com.esm.view.dto.response.impl.action.OrderUserDtoResponse;
 import epam.com.esm.view.dto.response.impl.products.GiftCertificateDtoResponse;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 /**
  * OrderFacade is the interface that delegates CRUD contracts from ancestors and specific operations for
@@ -21,4 +27,21 @@ public interface OrderFacade extends CrdFacade<OrderDtoRequest, OrderUserDtoResp
      * response params
      */
     PageDataResponse<GiftCertificateDtoResponse> findGiftCertificates(Long orderId, WebRequest webRequest);
+
+    /**
+     * Contract for creating orders by batch of requested orders
+     *
+     * @param dtos requested objects, hold orders requested values
+     * @return {@code WrappedCollection<DtoBatchItem>} object, contains results of batch items processing
+     */
+    WrappedCollection<DtoBatchItem> createAll(List<OrderDtoRequest> dtos);
+
+    /**
+     * Contract for producing response body, which streams orders found by requested search params in requested format
+     *
+     * @param webRequest requested object, contains URL params
+     * @param format requested export format
+     * @return {@code StreamingResponseBody} response body, writes exported orders
+     */
+    StreamingResponseBody export(WebRequest webRequest, ExportFormat format);
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package epam.com.esm.model.facade.interfaces.entity.products;
 
 import epam.com.esm.model.facade.interfaces.base.CrdFacade;
 import epam.com.esm.utils.search.transport.response.PageDataResponse;
+import epam.com.esm.utils.versions.VersionStamp;
 import epam.com.esm.view.dto.request.impl.products.TagDtoRequest;
 import epam.com.esm.view.dto.request.impl.products.TagGiftCertificatesDtoRequest;
 import epam.com.esm.view.dto.response.impl.products.GiftCertificateDtoResponse;
@@ -56,4 +57,20 @@ public interface TagFacade extends CrdFacade<TagDtoRequest, TagDtoResponse, Long
      * @return {@code TagDtoResponse} response object
      */
     TagDtoResponse deleteGiftCertificates(Long id, TagGiftCertificatesDtoRequest dto);
+
+    /**
+     * Contract for finding versions of tag and producing VersionStamp as the result
+     *
+     * @param id requested parameter, holds requested tag id value
+     * @return {@code VersionStamp} versions of tag and its linked entities
+     */
+    VersionStamp findVersion(Long id);
+
+    /**
+     * Contract for finding versions of tags by URL params and producing VersionStamp as the result
+     *
+     * @param webRequest requested object, contains URL params
+     * @return {@code VersionStamp} versions of found tags and their linked entities
+     */
+    VersionStamp findAllVersion(WebRequest webRequest);
 }
\ No newline at end of file
@@ -1,6 +1,9 @@
 package epam.com.esm.model.facade.interfaces.entity.user;
 
 import epam.com.esm.model.facade.interfaces.base.CrudFacade;
+import epam.com.esm.utils.batch.facade.DtoBatchItem;
+import epam.com.esm.utils.dashboard.facade.DtoUserDashboard;
+import epam.com.esm.utils.export.ExportFormat;
 import epam.com.esm.utils.hateoas.wrappers.WrappedCollection;
 import epam.com.esm.utils.search.transport.response.PageDataResponse;
 import epam.com.esm.utils.statistics.facade.DtoDataTag;
@@ -11,6 +14,9 @@ import epam.com.esm.view.dto.response.impl.products.TagDtoResponse;
 import epam.com.esm.view.dto.response.impl.purchase.PurchaseDataDtoResponse;
 import epam.com.esm.view.dto.response.impl.user.UserDtoResponse;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 /**
  * UserFacade is the interface that delegates CRUD contracts from ancestors and specific operations for
@@ -27,6 +33,15 @@ public interface UserFacade extends CrudFacade<UserDtoRequest, UserDtoResponse,
      */
     UserDtoResponse makeOrder(Long userId, OrderDtoRequest order);
 
+    /**
+     * Contract for making orders by batch of requested orders and user id value
+     *
+     * @param userId requested parameter, holds user id value
+     * @param orders requested objects, hold orders requested values
+     * @return {@code WrappedCollection<DtoBatchItem>} object, contains results of batch items processing
+     */
+    WrappedCollection<DtoBatchItem> makeOrders(Long userId, List<OrderDtoRequest> orders);
+
     /**
      * Contract for finding orders by requested user id value and producing PageDataResponse as the result
      *
@@ -46,6 +61,17 @@ public interface UserFacade extends CrudFacade<UserDtoRequest, UserDtoResponse,
      */
     PageDataResponse<PurchaseDataDtoResponse> findPurchases(WebRequest webRequest, Long userId);
 
+    /**
+     * Contract for producing response body, which streams purchase data found by requested search params and user id
+     * value in requested format
+     *
+     * @param webRequest requested object, contains URL params
+     * @param userId requested parameter, holds requested user id value
+     * @param format requested export format
+     * @return {@code StreamingResponseBody} response body, writes exported purchase data
+     */
+    StreamingResponseBody exportPurchases(WebRequest webRequest, Long userId, ExportFormat format);
+
     /**
      * Contract for finding tags by requested user id value and producing PageDataResponse as the result
      *
@@ -71,4 +97,14 @@ public interface UserFacade extends CrudFacade<UserDtoRequest, UserDtoResponse,
      * @return {@code WrappedCollection<DtoDataTag>} found dto data tags
      */
     WrappedCollection<DtoDataTag> findTagsWithMaxCount(Long userId);
-}
\ No newline at end of file
+
+    /**
+     * Contract for finding user with summary counts and first pages of orders, purchase data, tags and
+     * tags by popularity
+     *
+     * @param webRequest requested object, contains URL params applied to each page
+     * @param user requested object, holds already found user
+     * @return {@code DtoUserDashboard} object, holds found user and found items
+     */
+    DtoUserDashboard findDashboard(WebRequest webRequest, UserDtoResponse user);
+}
@@ -11,19 +11,23 @@ import epam.com.esm.persistence.repository.BaseRepository;
 import epam.com.esm.persistence.repository.crud.BaseCrudRepository;
 import epam.com.esm.persistence.repository.impl.action.OrderRepository;
 import epam.com.esm.persistence.repository.impl.products.GiftCertificateRepository;
+import epam.com.esm.persistence.repository.scroll.ScrollRepository;
+import epam.com.esm.utils.batch.service.ObjectBatchItem;
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
 import epam.com.esm.utils.search.request.builders.SpecificationFilter;
 import epam.com.esm.utils.search.request.builders.SpecificationUtil;
 import epam.com.esm.utils.search.transport.request.SearchParamRequest;
 import epam.com.esm.utils.search.transport.response.SearchParamResponse;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
-import static epam.com.esm.utils.search.request.handlers.ResponseHandler.initResponse;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static epam.com.esm.utils.search.request.handlers.PageHandler.findPage;
 
 
 /**
@@ -54,23 +58,39 @@ public class OrderServiceImpl implements OrderService {
     private final PurchaseService purchaseService;
 
     /**
-     * Constructs OrderServiceImpl with OrderRepository, GiftCertificateRepository and
-     * BaseCrudRepository objects
+     * Holds ScrollRepository object
+     */
+    private final ScrollRepository scrollRepo;
+
+    /**
+     * Holds FilterMetadataRegistry object
+     */
+    private final FilterMetadataRegistry registry;
+
+    /**
+     * Constructs OrderServiceImpl with OrderRepository, GiftCertificateRepository, BaseCrudRepository,
+     * ScrollRepository and FilterMetadataRegistry objects
      *
      * @param oRepo     repository, provides jpa operations for order
      * @param gcRepo        repository, provides jpa operations for gift certificate
      * @param baseRepo  service, provides jpa crud operations
      * @param purchaseService service, provides purchase data operations
+     * @param scrollRepo repository, provides scrolling of found entities
+     * @param registry service, holds filter metadata of entities
      */
     @Autowired
     public OrderServiceImpl(OrderRepository oRepo,
                             GiftCertificateRepository gcRepo,
                             BaseCrudRepository<Order, BaseRepository<Order>> baseRepo,
-                            PurchaseService purchaseService) {
+                            PurchaseService purchaseService,
+                            ScrollRepository scrollRepo,
+                            FilterMetadataRegistry registry) {
         this.oRepo = oRepo;
         this.gcRepo = gcRepo;
         this.baseRepo = baseRepo;
         this.purchaseService = purchaseService;
+        this.scrollRepo = scrollRepo;
+        this.registry = registry;
     }
 
     /**
@@ -87,6 +107,20 @@ public class OrderServiceImpl implements OrderService {
         return baseRepo.create(oRepo, order);
     }
 
+    /**
+     * Creates orders by batch
+     * Orders with their join rows and purchase data are inserted by JDBC batches in single transaction
+     *
+     * @param items objects, hold requested orders and their positions in batch
+     * @return {@code List<ObjectBatchItem>} results of batch items processing
+     */
+    @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public List<ObjectBatchItem> createAll(List<ObjectBatchItem> items) {
+        oRepo.batchInsert(purchaseService.assembleOrders(items));
+        return items;
+    }
+
     /**
      * Finds order
      * Consumes order id parameter value and produces found order object as the response
@@ -128,6 +162,23 @@ public class OrderServiceImpl implements OrderService {
         return baseRepo.findAll(oRepo, spReq, Order.class, GiftCertificate.class, User.class);
     }
 
+    /**
+     * Exports all orders
+     * Orders are scrolled with their users and passed to consumer one by one, so they aren't counted or paged
+     *
+     * @param spReq object, holds requested params for search
+     * @param consumer provided consumer of found orders
+     * @return {@code long} number of exported orders
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long export(SearchParamRequest spReq, Consumer<Order> consumer) {
+        SpecificationFilter<Order> filterSpecs = new SpecificationFilter<>(
+                registry, spReq, Order.class, GiftCertificate.class, User.class
+        );
+        return scrollRepo.scroll(Order.class, filterSpecs, consumer, "user");
+    }
+
     /**
      * Finds gift certificates by specified order id
      *
@@ -143,16 +194,12 @@ public class OrderServiceImpl implements OrderService {
         checkOrderExistence(orderId);
 
         SpecificationFilter<GiftCertificate> filterSpecs = new SpecificationFilter<>(
-                spReq, GiftCertificate.class, Tag.class
+                registry, spReq, GiftCertificate.class, Tag.class
         );
         SpecificationUtil<GiftCertificate> util = new SpecificationUtil<>();
         Specification<GiftCertificate> spec = util.idJoinEquals(orderId, "orders", "id").and(filterSpecs);
-        PageRequest pageRequest = PageRequest.of(spReq.getPage(), spReq.getSize());
-
-        int total = gcRepo.findAll(spec).size();
-        Page<GiftCertificate> gCerts = gcRepo.findAll(spec, pageRequest);
 
-        return initResponse(spReq, total, gCerts.getContent());
+        return findPage(gcRepo, spec, spReq);
     }
 
     /**
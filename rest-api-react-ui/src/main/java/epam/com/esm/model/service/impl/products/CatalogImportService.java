@@ -0,0 +1,337 @@
+package epam.com.esm.model.service.impl.products;
+
+import epam.com.esm.exception.types.OperationFailedException;
+import epam.com.esm.persistence.cache.CatalogCacheEvictor;
+import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
+import epam.com.esm.persistence.entity.impl.products.Tag;
+import epam.com.esm.persistence.repository.impl.products.GiftCertificateRepository;
+import epam.com.esm.persistence.repository.impl.products.TagRepository;
+import epam.com.esm.utils.imports.ImportLine;
+import epam.com.esm.utils.imports.ImportMode;
+import epam.com.esm.utils.imports.ImportReport;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedRuntimeException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * CatalogImportService is the service class, imports gift certificates with their tags in bounded chunks
+ * <p>
+ * Each chunk is checked against existing names by one query, missing tags are created by one set-based insert and
+ * gift certificates with tag links are inserted by JDBC batches. In chunk mode every chunk is committed in own
+ * transaction, so failed chunk doesn't discard committed ones. In all mode import is committed only if no line
+ * was rejected, remaining lines are still validated after first rejection to report all errors
+ */
+@Service
+public class CatalogImportService {
+
+    /**
+     * Holds GiftCertificateRepository object
+     */
+    private final GiftCertificateRepository gcRepo;
+
+    /**
+     * Holds TagRepository object
+     */
+    private final TagRepository tRepo;
+
+    /**
+     * Holds CatalogCacheEvictor object
+     */
+    private final CatalogCacheEvictor cacheEvictor;
+
+    /**
+     * Holds TransactionTemplate object
+     */
+    private final TransactionTemplate transaction;
+
+    /**
+     * Holds max number of lines imported by one chunk
+     */
+    private final int chunkSize;
+
+    /**
+     * Holds total number of imported gift certificates
+     */
+    private final LongAdder importedTotal;
+
+    /**
+     * Holds total number of rejected lines
+     */
+    private final LongAdder rejectedTotal;
+
+    /**
+     * Holds total number of imports
+     */
+    private final LongAdder runsTotal;
+
+    /**
+     * Holds total duration of imports in nanoseconds
+     */
+    private final LongAdder nanosTotal;
+
+    /**
+     * Constructs CatalogImportService with provided repositories, cache evictor, transaction manager and chunk size
+     *
+     * @param gcRepo repository, provides jpa operations for gift certificate
+     * @param tRepo repository, provides jpa operations for tag
+     * @param cacheEvictor evictor, evicts cached gift certificate and tag collections
+     * @param transactionManager transaction manager, manages transactions of chunks
+     * @param chunkSize max number of lines imported by one chunk
+     */
+    @Autowired
+    public CatalogImportService(GiftCertificateRepository gcRepo, TagRepository tRepo,
+                                CatalogCacheEvictor cacheEvictor, PlatformTransactionManager transactionManager,
+                                @Value("${import.chunk-size}") int chunkSize) {
+        this.gcRepo = gcRepo;
+        this.tRepo = tRepo;
+        this.cacheEvictor = cacheEvictor;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.transaction.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.chunkSize = chunkSize;
+        this.importedTotal = new LongAdder();
+        this.rejectedTotal = new LongAdder();
+        this.runsTotal = new LongAdder();
+        this.nanosTotal = new LongAdder();
+    }
+
+    /**
+     * Imports provided lines in provided mode
+     *
+     * @param lines provided read lines
+     * @param mode provided import mode
+     * @return {@code ImportReport} import report
+     */
+    public ImportReport importCatalog(Iterator<ImportLine> lines, ImportMode mode) {
+        long started = System.nanoTime();
+        ImportReport report = new ImportReport(mode);
+        Set<String> seen = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+        if (mode == ImportMode.ALL) {
+            importAll(lines, report, seen);
+        } else {
+            while (lines.hasNext()) {
+                importChunk(readChunk(lines, report, seen), report);
+            }
+        }
+
+        long nanos = System.nanoTime() - started;
+        report.finish(nanos);
+        importedTotal.add(report.getImported());
+        rejectedTotal.add(report.getRejected());
+        runsTotal.increment();
+        nanosTotal.add(nanos);
+        return report;
+    }
+
+    /**
+     * Imports all lines in one transaction, transaction is rolled back if any line was rejected
+     * Failure of commit is reported as error of line 0
+     *
+     * @param lines provided read lines
+     * @param report provided import report
+     * @param seen provided case-insensitive names of already read gift certificates
+     */
+    private void importAll(Iterator<ImportLine> lines, ImportReport report, Set<String> seen) {
+        try {
+            transaction.executeWithoutResult(status -> {
+                while (lines.hasNext()) {
+                    List<ImportLine> chunk = readChunk(lines, report, seen);
+
+                    try {
+                        rejectExisting(chunk);
+
+                        if (!report.hasErrors() && chunk.stream().noneMatch(ImportLine::isRejected)) {
+                            report.commit(chunk.size(), insert(chunk));
+                        }
+                    } catch (DataAccessException e) {
+                        fail(chunk, e);
+                    }
+
+                    chunk.stream().filter(ImportLine::isRejected).forEach(report::reject);
+                }
+
+                if (report.hasErrors()) {
+                    status.setRollbackOnly();
+                    report.rollback();
+                }
+            });
+        } catch (TransactionException e) {
+            report.rollback();
+            report.reject(new ImportLine(0, "Import failed: " + e.getMostSpecificCause().getMessage()));
+        }
+    }
+
+    /**
+     * Imports provided chunk in own transaction, all lines of chunk are rejected if transaction failed
+     *
+     * @param chunk provided valid lines of chunk
+     * @param report provided import report
+     */
+    private void importChunk(List<ImportLine> chunk, ImportReport report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        try {
+            Integer tags = transaction.execute(status -> {
+                rejectExisting(chunk);
+                return insert(chunk.stream().filter(l -> !l.isRejected()).collect(Collectors.toList()));
+            });
+
+            report.commit((int) chunk.stream().filter(l -> !l.isRejected()).count(), tags == null ? 0 : tags);
+        } catch (DataAccessException | TransactionException e) {
+            fail(chunk, e);
+        }
+
+        chunk.stream().filter(ImportLine::isRejected).forEach(report::reject);
+    }
+
+    /**
+     * Reads next chunk of lines, lines rejected by reader and lines repeating already read names are reported
+     *
+     * @param lines provided read lines
+     * @param report provided import report
+     * @param seen provided case-insensitive names of already read gift certificates
+     * @return {@code List<ImportLine>} valid lines of chunk
+     */
+    private List<ImportLine> readChunk(Iterator<ImportLine> lines, ImportReport report, Set<String> seen) {
+        List<ImportLine> chunk = new ArrayList<>(chunkSize);
+        int read = 0;
+
+        while (read < chunkSize && lines.hasNext()) {
+            ImportLine line = lines.next();
+            read++;
+
+            if (!line.isRejected() && !seen.add(line.getGiftCertificate().getName())) {
+                line.reject("Gift Certificate with (name = " + line.getGiftCertificate().getName() +
+                            ") is repeated in import");
+            }
+
+            if (line.isRejected()) {
+                report.reject(line);
+            } else {
+                chunk.add(line);
+            }
+        }
+
+        report.read(read);
+        return chunk;
+    }
+
+    /**
+     * Rejects lines of gift certificates which already exist
+     *
+     * @param chunk provided lines
+     */
+    private void rejectExisting(List<ImportLine> chunk) {
+        Set<String> existing = gcRepo.findExistingNames(chunk.stream().map(l -> l.getGiftCertificate().getName())
+                                                             .collect(Collectors.toList()));
+
+        for (ImportLine line : chunk) {
+            if (existing.contains(line.getGiftCertificate().getName())) {
+                line.reject("Gift Certificate with (name = " + line.getGiftCertificate().getName() +
+                            ") already exists");
+            }
+        }
+    }
+
+    /**
+     * Creates missing tags and inserts gift certificates of provided lines, evicts affected cache regions
+     * Will throw OperationFailedException if created tag can't be found
+     *
+     * @param lines provided valid lines
+     * @return {@code int} number of created tags
+     */
+    private int insert(List<ImportLine> lines) {
+        if (lines.isEmpty()) {
+            return 0;
+        }
+
+        List<GiftCertificate> gcs = lines.stream().map(ImportLine::getGiftCertificate).collect(Collectors.toList());
+        Set<String> names = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        gcs.stream().filter(gc -> gc.getTags() != null).flatMap(gc -> gc.getTags().stream())
+           .forEach(t -> names.add(t.getName()));
+
+        int created = tRepo.upsertAll(names);
+        Map<String, Long> ids = tRepo.findIdsByName(names);
+
+        for (GiftCertificate gc : gcs) {
+            if (gc.getTags() != null) {
+                for (Tag tag : gc.getTags()) {
+                    if (!ids.containsKey(tag.getName())) {
+                        throw new OperationFailedException("Tag (name = " + tag.getName() + ") creation failed");
+                    }
+
+                    tag.setId(ids.get(tag.getName()));
+                }
+            }
+        }
+
+        gcRepo.batchInsert(gcs);
+        cacheEvictor.evictTagGiftCertificates(ids.values());
+        cacheEvictor.evictQueries();
+        return created;
+    }
+
+    /**
+     * Rejects not yet rejected lines of failed chunk
+     *
+     * @param chunk provided lines of failed chunk
+     * @param e provided failure
+     */
+    private void fail(List<ImportLine> chunk, NestedRuntimeException e) {
+        chunk.stream().filter(l -> !l.isRejected())
+             .forEach(l -> l.reject("Chunk failed: " + e.getMostSpecificCause().getMessage()));
+    }
+
+    /**
+     * Gets total number of imported gift certificates
+     *
+     * @return {@code long} total number of imported gift certificates
+     */
+    public long getImportedTotal() {
+        return importedTotal.sum();
+    }
+
+    /**
+     * Gets total number of rejected lines
+     *
+     * @return {@code long} total number of rejected lines
+     */
+    public long getRejectedTotal() {
+        return rejectedTotal.sum();
+    }
+
+    /**
+     * Gets total number of imports
+     *
+     * @return {@code long} total number of imports
+     */
+    public long getRunsTotal() {
+        return runsTotal.sum();
+    }
+
+    /**
+     * Gets total duration of imports in nanoseconds
+     *
+     * @return {@code long} total duration of imports in nanoseconds
+     */
+    public long getNanosTotal() {
+        return nanosTotal.sum();
+    }
+}
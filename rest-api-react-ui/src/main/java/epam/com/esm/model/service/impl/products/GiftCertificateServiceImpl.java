@@ -4,17 +4,21 @@ import epam.com.esm.exception.types.AlreadyExistsException;
 import epam.com.esm.exception.types.InputException;
 import epam.com.esm.exception.types.NotFoundException;
 import epam.com.esm.model.service.interfaces.entity.products.GiftCertificateService;
+import epam.com.esm.persistence.cache.CatalogCacheEvictor;
 import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
 import epam.com.esm.persistence.entity.impl.products.Tag;
 import epam.com.esm.persistence.repository.crud.BaseCrudRepository;
 import epam.com.esm.persistence.repository.impl.products.GiftCertificateRepository;
 import epam.com.esm.persistence.repository.impl.products.TagRepository;
+import epam.com.esm.persistence.repository.scroll.ScrollRepository;
+import epam.com.esm.persistence.repository.version.VersionRepository;
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
 import epam.com.esm.utils.search.request.builders.SpecificationFilter;
 import epam.com.esm.utils.search.request.builders.SpecificationUtil;
 import epam.com.esm.utils.search.transport.request.SearchParamRequest;
 import epam.com.esm.utils.search.transport.response.SearchParamResponse;
+import epam.com.esm.utils.versions.VersionStamp;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
@@ -27,7 +31,7 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import static epam.com.esm.utils.search.request.handlers.ResponseHandler.initResponse;
+import static epam.com.esm.utils.search.request.handlers.PageHandler.findPage;
 
 /**
  * GiftCertificateServiceImpl class is the service class and implementor of GiftCertificateService interface.
@@ -52,20 +56,53 @@ public class GiftCertificateServiceImpl implements GiftCertificateService {
     private final BaseCrudRepository<GiftCertificate, GiftCertificateRepository> crudRepo;
 
     /**
-     * Constructs GiftCertificateServiceImpl with GiftCertificateRepository, TagRepository and
-     * BaseCrudRepository objects
+     * Holds CatalogCacheEvictor object
+     */
+    private final CatalogCacheEvictor cacheEvictor;
+
+    /**
+     * Holds ScrollRepository object
+     */
+    private final ScrollRepository scrollRepo;
+
+    /**
+     * Holds VersionRepository object
+     */
+    private final VersionRepository versionRepo;
+
+    /**
+     * Holds FilterMetadataRegistry object
+     */
+    private final FilterMetadataRegistry registry;
+
+    /**
+     * Constructs GiftCertificateServiceImpl with GiftCertificateRepository, TagRepository,
+     * BaseCrudRepository, CatalogCacheEvictor, ScrollRepository, VersionRepository and FilterMetadataRegistry
+     * objects
      *
-     * @param gcRepo   repository, provides jpa operations for gift certificate
-     * @param tRepo    repository, provides jpa operations for tag
-     * @param crudRepo service, provides jpa crud operations
+     * @param gcRepo       repository, provides jpa operations for gift certificate
+     * @param tRepo        repository, provides jpa operations for tag
+     * @param crudRepo     service, provides jpa crud operations
+     * @param cacheEvictor component, evicts cached gift certificate and tag collections
+     * @param scrollRepo   repository, provides scrolling of found entities
+     * @param versionRepo  repository, provides version probes of found entities
+     * @param registry     service, holds filter metadata of entities
      */
     @Autowired
     public GiftCertificateServiceImpl(GiftCertificateRepository gcRepo,
                                       TagRepository tRepo,
-                                      BaseCrudRepository<GiftCertificate, GiftCertificateRepository> crudRepo) {
+                                      BaseCrudRepository<GiftCertificate, GiftCertificateRepository> crudRepo,
+                                      CatalogCacheEvictor cacheEvictor,
+                                      ScrollRepository scrollRepo,
+                                      VersionRepository versionRepo,
+                                      FilterMetadataRegistry registry) {
         this.gcRepo = gcRepo;
         this.tRepo = tRepo;
         this.crudRepo = crudRepo;
+        this.cacheEvictor = cacheEvictor;
+        this.scrollRepo = scrollRepo;
+        this.versionRepo = versionRepo;
+        this.registry = registry;
     }
 
     /**
@@ -81,6 +118,7 @@ public class GiftCertificateServiceImpl implements GiftCertificateService {
     public GiftCertificate create(GiftCertificate gCert) {
         checkNameExistence(gCert);
         refineGiftCertificate(gCert);
+        cacheEvictor.evictTagGiftCertificates(tagIds(gCert));
         return crudRepo.create(gcRepo, gCert);
     }
 
@@ -113,6 +151,7 @@ public class GiftCertificateServiceImpl implements GiftCertificateService {
         checkIdExistence(gCert.getId());
         checkNameOnUpdate(gCert);
         refineGiftCertificate(gCert);
+        cacheEvictor.evictTagGiftCertificates();
         return crudRepo.update(gcRepo, gCert);
     }
 
@@ -127,6 +166,7 @@ public class GiftCertificateServiceImpl implements GiftCertificateService {
     @Transactional(isolation = Isolation.REPEATABLE_READ)
     public GiftCertificate delete(Long id) {
         checkIdExistence(id);
+        cacheEvictor.evictTagGiftCertificates();
         return crudRepo.delete(gcRepo, id);
     }
 
@@ -143,6 +183,57 @@ public class GiftCertificateServiceImpl implements GiftCertificateService {
         return crudRepo.findAll(gcRepo, spReq, GiftCertificate.class, Tag.class);
     }
 
+    /**
+     * Exports all gift certificates
+     * Gift certificates are scrolled without tags and passed to consumer one by one, so they aren't counted or paged
+     *
+     * @param spReq object, holds requested params for search
+     * @param consumer provided consumer of found gift certificates
+     * @return {@code long} number of exported gift certificates
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long export(SearchParamRequest spReq, Consumer<GiftCertificate> consumer) {
+        SpecificationFilter<GiftCertificate> filterSpecs = new SpecificationFilter<>(
+                registry, spReq, GiftCertificate.class, Tag.class
+        );
+        return scrollRepo.scroll(GiftCertificate.class, filterSpecs, consumer);
+    }
+
+    /**
+     * Finds versions of gift certificate and its tags
+     *
+     * @param id requested parameter value, holds gift certificate id value
+     * @return {@code VersionStamp} versions of gift certificate and its tags
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public VersionStamp findVersion(Long id) {
+        SpecificationUtil<GiftCertificate> util = new SpecificationUtil<>();
+        VersionStamp stamp = versionRepo.probe(GiftCertificate.class, util.idEquals(id, "id"), "tags");
+
+        if (stamp.getFound() == 0) {
+            throw new NotFoundException("Gift Certificate with (id = " + id + ") not found");
+        }
+
+        return stamp;
+    }
+
+    /**
+     * Finds versions of all gift certificates and their tags
+     *
+     * @param spReq object, holds requested params for search
+     * @return {@code VersionStamp} versions of found gift certificates and their tags
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public VersionStamp findAllVersion(SearchParamRequest spReq) {
+        SpecificationFilter<GiftCertificate> filterSpecs = new SpecificationFilter<>(
+                registry, spReq, GiftCertificate.class, Tag.class
+        );
+        return versionRepo.probe(GiftCertificate.class, filterSpecs, "tags");
+    }
+
     /**
      * Finds all gift certificates with tags
      *
@@ -154,16 +245,12 @@ public class GiftCertificateServiceImpl implements GiftCertificateService {
     @Transactional(readOnly = true)
     public SearchParamResponse<GiftCertificate> findAllTagged(SearchParamRequest spReq) {
         SpecificationFilter<GiftCertificate> filterSpecs = new SpecificationFilter<>(
-                spReq, GiftCertificate.class, Tag.class
+                registry, spReq, GiftCertificate.class, Tag.class
         );
         SpecificationUtil<GiftCertificate> util = new SpecificationUtil<>();
         Specification<GiftCertificate> spec = util.notNullByParam("tags", "id", Long.class).and(filterSpecs);
-        PageRequest pageRequest = PageRequest.of(spReq.getPage(), spReq.getSize());
 
-        int total = gcRepo.findAll(spec).size();
-        List<GiftCertificate> gCerts = gcRepo.findAll(spec, pageRequest).getContent();
-
-        return initResponse(spReq, total, gCerts);
+        return findPage(gcRepo, spec, spReq);
     }
 
     /**
@@ -177,16 +264,12 @@ public class GiftCertificateServiceImpl implements GiftCertificateService {
     @Transactional(readOnly = true)
     public SearchParamResponse<GiftCertificate> findAllNotTagged(SearchParamRequest spReq) {
         SpecificationFilter<GiftCertificate> filterSpecs = new SpecificationFilter<>(
-                spReq, GiftCertificate.class, Tag.class
+                registry, spReq, GiftCertificate.class, Tag.class
         );
         SpecificationUtil<GiftCertificate> util = new SpecificationUtil<>();
         Specification<GiftCertificate> spec = util.nullByParam("tags", "id", Long.class).and(filterSpecs);
-        PageRequest pageRequest = PageRequest.of(spReq.getPage(), spReq.getSize());
-
-        int total = gcRepo.findAll(spec).size();
-        List<GiftCertificate> gCerts = gcRepo.findAll(spec, pageRequest).getContent();
 
-        return initResponse(spReq, total, gCerts);
+        return findPage(gcRepo, spec, spReq);
     }
 
     /**
@@ -201,15 +284,13 @@ public class GiftCertificateServiceImpl implements GiftCertificateService {
     public SearchParamResponse<Tag> findTags(Long gcId, SearchParamRequest spReq) {
         checkIdExistence(gcId);
 
-        SpecificationFilter<Tag> filterSpecs = new SpecificationFilter<>(spReq, Tag.class, GiftCertificate.class);
+        SpecificationFilter<Tag> filterSpecs = new SpecificationFilter<>(
+                registry, spReq, Tag.class, GiftCertificate.class
+        );
         SpecificationUtil<Tag> util = new SpecificationUtil<>();
         Specification<Tag> spec = util.idJoinEquals(gcId, "giftCertificates", "id").and(filterSpecs);
-        PageRequest pageRequest = PageRequest.of(spReq.getPage(), spReq.getSize());
-
-        int total = tRepo.findAll(spec).size();
-        List<Tag> tags = tRepo.findAll(spec, pageRequest).getContent();
 
-        return initResponse(spReq, total, tags);
+        return findPage(tRepo, spec, spReq);
     }
 
     /**
@@ -225,6 +306,7 @@ public class GiftCertificateServiceImpl implements GiftCertificateService {
         adjustUpdateTime(gCert);
         refineGiftCertificate(gCert);
         gCert.getTags().forEach(addTag(gCert));
+        cacheEvictor.evictTagGiftCertificates(tagIds(gCert));
         return getGiftCertificate(gCert.getId());
     }
 
@@ -241,6 +323,7 @@ public class GiftCertificateServiceImpl implements GiftCertificateService {
         adjustUpdateTime(gCert);
         refineGiftCertificate(gCert);
         gCert.getTags().forEach(deleteTag(gCert));
+        cacheEvictor.evictTagGiftCertificates(tagIds(gCert));
         return getGiftCertificate(gCert.getId());
     }
 
@@ -266,6 +349,20 @@ public class GiftCertificateServiceImpl implements GiftCertificateService {
         }
     }
 
+    /**
+     * Supplementary method, collects ids of gift certificate tags
+     *
+     * @param gCert requested gift certificate
+     * @return {@code List<Long>} tag ids, empty if gift certificate has no tags
+     */
+    private List<Long> tagIds(GiftCertificate gCert) {
+        if (gCert.getTags() == null) {
+            return new ArrayList<>();
+        }
+
+        return gCert.getTags().stream().map(Tag::getId).collect(Collectors.toList());
+    }
+
     /**
      * Function for refining tag's missing values
      *
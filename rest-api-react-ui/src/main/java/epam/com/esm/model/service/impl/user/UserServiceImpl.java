@@ -1,10 +1,12 @@
 package epam.com.esm.model.service.impl.user;
 
+import epam.com.esm.config.execution.QueryExecutor;
 import epam.com.esm.exception.types.AlreadyExistsException;
 import epam.com.esm.exception.types.InputException;
 import epam.com.esm.exception.types.NotFoundException;
 import epam.com.esm.model.service.impl.purchase.PurchaseService;
 import epam.com.esm.model.service.interfaces.entity.user.UserService;
+import epam.com.esm.persistence.cache.UserStatisticsCache;
 import epam.com.esm.persistence.entity.impl.action.Order;
 import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
 import epam.com.esm.persistence.entity.impl.products.Tag;
@@ -16,6 +18,10 @@ import epam.com.esm.persistence.repository.impl.products.TagRepository;
 import epam.com.esm.persistence.repository.impl.purchase.PurchaseDataRepository;
 import epam.com.esm.persistence.repository.impl.user.RoleRepository;
 import epam.com.esm.persistence.repository.impl.user.UserRepository;
+import epam.com.esm.persistence.repository.scroll.ScrollRepository;
+import epam.com.esm.utils.batch.service.ObjectBatchItem;
+import epam.com.esm.utils.dashboard.service.ObjectUserDashboard;
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
 import epam.com.esm.utils.search.request.builders.SpecificationFilter;
 import epam.com.esm.utils.search.request.builders.SpecificationUtil;
 import epam.com.esm.utils.search.transport.request.SearchParamRequest;
@@ -23,7 +29,6 @@ import epam.com.esm.utils.search.transport.response.SearchParamResponse;
 import epam.com.esm.utils.statistics.repository.ResultTag;
 import epam.com.esm.utils.statistics.service.ObjectDataTag;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -31,10 +36,12 @@ import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import static epam.com.esm.utils.search.request.handlers.ResponseHandler.initResponse;
+import static epam.com.esm.utils.search.request.handlers.PageHandler.findPage;
 
 /**
  * UserServiceImpl class is the service class and implementor of UserService interface.
@@ -84,8 +91,34 @@ public class UserServiceImpl implements UserService {
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
 
     /**
-     * Constructs UserServiceImpl with UserRepository, OrderRepository, GiftCertificateRepository, TagRepository
-     * and BaseCrudRepository objects
+     * Holds UserStatisticsCache object
+     */
+    private final UserStatisticsCache statisticsCache;
+
+    /**
+     * Holds ScrollRepository object
+     */
+    private final ScrollRepository scrollRepo;
+
+    /**
+     * Holds QueryExecutor object
+     */
+    private final QueryExecutor queryExecutor;
+
+    /**
+     * Holds FilterMetadataRegistry object
+     */
+    private final FilterMetadataRegistry registry;
+
+    /**
+     * Holds comparator of result tags by count and then by order cost
+     */
+    private static final Comparator<ResultTag> BY_COUNT_AND_COST = Comparator.comparing(ResultTag::getCount)
+                                                                             .thenComparing(ResultTag::getOrderCost);
+
+    /**
+     * Constructs UserServiceImpl with UserRepository, OrderRepository, GiftCertificateRepository, TagRepository,
+     * BaseCrudRepository, QueryExecutor and FilterMetadataRegistry objects
      *
      * @param uRepo                 repository, provides jpa operations for user
      * @param oRepo                 repository, provides jpa operations for order
@@ -95,6 +128,10 @@ public class UserServiceImpl implements UserService {
      * @param baseRepo              service, provides jpa crud operations
      * @param pService              service, provides purchase data operations
      * @param bCryptPasswordEncoder password encoder
+     * @param statisticsCache       component, caches user tag statistics
+     * @param scrollRepo            repository, provides scrolling of found entities
+     * @param queryExecutor         component, runs read-only queries concurrently
+     * @param registry              service, holds filter metadata of entities
      */
     @Autowired
     public UserServiceImpl(UserRepository uRepo,
@@ -103,7 +140,11 @@ public class UserServiceImpl implements UserService {
                            PurchaseDataRepository pdRepo,
                            RoleRepository rRepo,
                            BaseCrudRepository<User, UserRepository> baseRepo,
-                           PurchaseService pService, BCryptPasswordEncoder bCryptPasswordEncoder) {
+                           PurchaseService pService, BCryptPasswordEncoder bCryptPasswordEncoder,
+                           UserStatisticsCache statisticsCache,
+                           ScrollRepository scrollRepo,
+                           QueryExecutor queryExecutor,
+                           FilterMetadataRegistry registry) {
         this.uRepo = uRepo;
         this.oRepo = oRepo;
         this.tRepo = tRepo;
@@ -112,6 +153,10 @@ public class UserServiceImpl implements UserService {
         this.baseRepo = baseRepo;
         this.pService = pService;
         this.bCryptPasswordEncoder = bCryptPasswordEncoder;
+        this.statisticsCache = statisticsCache;
+        this.scrollRepo = scrollRepo;
+        this.queryExecutor = queryExecutor;
+        this.registry = registry;
     }
 
     /**
@@ -174,6 +219,7 @@ public class UserServiceImpl implements UserService {
     @Transactional(isolation = Isolation.REPEATABLE_READ)
     public User delete(Long id) {
         checkIdExistence(id);
+        statisticsCache.evict(Collections.singletonList(id));
         return baseRepo.delete(uRepo, id);
     }
 
@@ -205,6 +251,26 @@ public class UserServiceImpl implements UserService {
         return getUserOnOrderCreate(userId, order);
     }
 
+    /**
+     * Makes orders for user by batch
+     * User is loaded once, orders with their join rows and purchase data are inserted by JDBC batches
+     * in single transaction
+     *
+     * @param userId requested parameter value, holds user id value
+     * @param items objects, hold requested orders and their positions in batch
+     * @return {@code List<ObjectBatchItem>} results of batch items processing
+     */
+    @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public List<ObjectBatchItem> makeOrders(Long userId, List<ObjectBatchItem> items) {
+        User user = uRepo.findById(userId).orElseThrow(
+                () -> new NotFoundException("User with (id = " + userId + ") not found")
+        );
+        items.stream().filter(i -> !i.isRejected()).forEach(i -> i.getOrder().setUser(user));
+        oRepo.batchInsert(pService.assembleOrders(items));
+        return items;
+    }
+
     /**
      * Finds orders by specified user id
      *
@@ -216,16 +282,7 @@ public class UserServiceImpl implements UserService {
     @Transactional(readOnly = true)
     public SearchParamResponse<Order> findOrders(SearchParamRequest spReq, Long userId) {
         checkIdExistence(userId);
-
-        SpecificationFilter<Order> filterSpecs = new SpecificationFilter<>(spReq, Order.class, GiftCertificate.class);
-        SpecificationUtil<Order> util = new SpecificationUtil<>();
-        Specification<Order> spec = util.idGetEquals(userId, "user", "id").and(filterSpecs);
-        PageRequest pageRequest = PageRequest.of(spReq.getPage(), spReq.getSize());
-
-        int total = oRepo.findAll(spec).size();
-        List<Order> orders = oRepo.findAll(spec, pageRequest).getContent();
-
-        return initResponse(spReq, total, orders);
+        return searchOrders(spReq, userId);
     }
 
     /**
@@ -239,18 +296,31 @@ public class UserServiceImpl implements UserService {
     @Transactional(readOnly = true)
     public SearchParamResponse<PurchaseData> findPurchases(SearchParamRequest req, Long userId) {
         checkIdExistence(userId);
+        return searchPurchases(req, userId);
+    }
+
+    /**
+     * Exports purchase data by specified user id
+     * Purchase data are scrolled with their users and gift certificates and passed to consumer one by one, so they
+     * aren't counted or paged
+     *
+     * @param req requested object, holds search params values
+     * @param userId requested parameter value, holds user id value
+     * @param consumer provided consumer of found purchase data
+     * @return {@code long} number of exported purchase data
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exportPurchases(SearchParamRequest req, Long userId, Consumer<PurchaseData> consumer) {
+        checkIdExistence(userId);
 
         SpecificationFilter<PurchaseData> filterSpecs = new SpecificationFilter<>(
-                req, PurchaseData.class, GiftCertificate.class, User.class
+                registry, req, PurchaseData.class, GiftCertificate.class, User.class
         );
         SpecificationUtil<PurchaseData> util = new SpecificationUtil<>();
         Specification<PurchaseData> spec = util.idJoinEquals(userId, "user", "id").and(filterSpecs);
-        PageRequest pageRequest = PageRequest.of(req.getPage(), req.getSize());
 
-        int total = pdRepo.findAll(spec).size();
-        List<PurchaseData> purchases = pdRepo.findAll(spec, pageRequest).getContent();
-
-        return initResponse(req, total, purchases);
+        return scrollRepo.scroll(PurchaseData.class, spec, consumer, "user", "giftCertificate");
     }
 
     /**
@@ -264,17 +334,7 @@ public class UserServiceImpl implements UserService {
     @Transactional(readOnly = true)
     public SearchParamResponse<Tag> findTags(SearchParamRequest req, Long userId) {
         checkIdExistence(userId);
-
-        SpecificationFilter<Tag> filterSpecs = new SpecificationFilter<>(req, Tag.class, GiftCertificate.class);
-        SpecificationUtil<Tag> util = new SpecificationUtil<>();
-        Specification<Tag> spec = util.idEqualsJoins(userId, "id", "giftCertificates", "orders", "user")
-                                      .and(filterSpecs);
-        PageRequest pageRequest = PageRequest.of(req.getPage(), req.getSize());
-
-        int total = tRepo.findAll(spec).size();
-        List<Tag> tags = tRepo.findAll(spec, pageRequest).getContent();
-
-        return initResponse(req, total, tags);
+        return searchTags(req, userId);
     }
 
     /**
@@ -288,10 +348,7 @@ public class UserServiceImpl implements UserService {
     @Transactional(readOnly = true)
     public List<ObjectDataTag> findTagsByPopularity(Long userId) {
         checkIdExistence(userId);
-        return uRepo.findTagsByPopularityAndMaxCost(userId)
-                    .stream()
-                    .map(convertTagsToObjects())
-                    .collect(Collectors.toList());
+        return searchTagsByPopularity(userId);
     }
 
     /**
@@ -305,16 +362,102 @@ public class UserServiceImpl implements UserService {
     @Transactional(readOnly = true)
     public List<ObjectDataTag> findTagsWithMaxCount(Long userId) {
         checkIdExistence(userId);
-        List<ObjectDataTag> res = findTagsByPopularity(userId);
-
-        if (res != null && !res.isEmpty()) {
-            ObjectDataTag max = res.stream().max(Comparator.comparing(ObjectDataTag::getCount)
-                                                           .thenComparing(ObjectDataTag::getCost)).get();
-            return res.stream().filter(t -> t.getCount().equals(max.getCount()) && t.getCost().equals(max.getCost()))
-                               .collect(Collectors.toCollection(ArrayList::new));
-        } else {
-            return res;
-        }
+        return findMaxCountAndCost(findTagStatistics(userId)).stream()
+                                                             .map(convertTagsToObjects())
+                                                             .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * Finds first pages of orders, purchase data, tags and tags by popularity by specified user id
+     * Queries run concurrently, each in own read-only transaction, so response time is close to time of slowest query
+     * User existence isn't checked, caller provides id of already found user
+     *
+     * @param userId requested parameter value, holds user id value
+     * @param ordersRequest requested object, holds search params values for orders
+     * @param purchasesRequest requested object, holds search params values for purchase data
+     * @param tagsRequest requested object, holds search params values for tags
+     * @return {@code ObjectUserDashboard} object, holds found orders, purchase data, tags and tags by popularity
+     */
+    @Override
+    public ObjectUserDashboard findDashboard(Long userId, SearchParamRequest ordersRequest,
+                                             SearchParamRequest purchasesRequest, SearchParamRequest tagsRequest) {
+        CompletableFuture<SearchParamResponse<Order>> orders = queryExecutor.submit(
+                () -> searchOrders(ordersRequest, userId)
+        );
+        CompletableFuture<SearchParamResponse<PurchaseData>> purchases = queryExecutor.submit(
+                () -> searchPurchases(purchasesRequest, userId)
+        );
+        CompletableFuture<SearchParamResponse<Tag>> tags = queryExecutor.submit(() -> searchTags(tagsRequest, userId));
+        CompletableFuture<List<ObjectDataTag>> popularTags = queryExecutor.submit(
+                () -> searchTagsByPopularity(userId)
+        );
+
+        return new ObjectUserDashboard(queryExecutor.join(orders), queryExecutor.join(purchases),
+                                       queryExecutor.join(tags), queryExecutor.join(popularTags));
+    }
+
+    /**
+     * Supplementary method, finds page of orders by specified user id without user existence check
+     *
+     * @param spReq requested object, holds search params values
+     * @param userId requested parameter value, holds user id value
+     * @return {@code SearchParamResponse<Order>} object, holds response search params and found orders
+     */
+    private SearchParamResponse<Order> searchOrders(SearchParamRequest spReq, Long userId) {
+        SpecificationFilter<Order> filterSpecs = new SpecificationFilter<>(
+                registry, spReq, Order.class, GiftCertificate.class
+        );
+        SpecificationUtil<Order> util = new SpecificationUtil<>();
+        Specification<Order> spec = util.idGetEquals(userId, "user", "id").and(filterSpecs);
+
+        return findPage(oRepo, spec, spReq);
+    }
+
+    /**
+     * Supplementary method, finds page of purchase data by specified user id without user existence check
+     *
+     * @param req requested object, holds search params values
+     * @param userId requested parameter value, holds user id value
+     * @return {@code SearchParamResponse<PurchaseData>} object, holds response search params and found purchase data
+     */
+    private SearchParamResponse<PurchaseData> searchPurchases(SearchParamRequest req, Long userId) {
+        SpecificationFilter<PurchaseData> filterSpecs = new SpecificationFilter<>(
+                registry, req, PurchaseData.class, GiftCertificate.class, User.class
+        );
+        SpecificationUtil<PurchaseData> util = new SpecificationUtil<>();
+        Specification<PurchaseData> spec = util.idJoinEquals(userId, "user", "id").and(filterSpecs);
+
+        return findPage(pdRepo, spec, req);
+    }
+
+    /**
+     * Supplementary method, finds page of tags by specified user id without user existence check
+     *
+     * @param req requested object, holds search params values
+     * @param userId requested parameter value, holds user id value
+     * @return {@code SearchParamResponse<Tag>} object, holds response search params and found tags
+     */
+    private SearchParamResponse<Tag> searchTags(SearchParamRequest req, Long userId) {
+        SpecificationFilter<Tag> filterSpecs = new SpecificationFilter<>(
+                registry, req, Tag.class, GiftCertificate.class
+        );
+        SpecificationUtil<Tag> util = new SpecificationUtil<>();
+        Specification<Tag> spec = util.idEqualsJoins(userId, "id", "giftCertificates", "orders", "user")
+                                      .and(filterSpecs);
+
+        return findPage(tRepo, spec, req);
+    }
+
+    /**
+     * Supplementary method, finds tags by popularity by specified user id without user existence check
+     *
+     * @param userId requested parameter value, holds user id value
+     * @return {@code List<ObjectDataTag>} found tags by popularity
+     */
+    private List<ObjectDataTag> searchTagsByPopularity(Long userId) {
+        return findTagStatistics(userId).stream()
+                                        .map(convertTagsToObjects())
+                                        .collect(Collectors.toList());
     }
 
     /**
@@ -342,12 +485,61 @@ public class UserServiceImpl implements UserService {
     }
 
     /**
-     * Function, converts ResultTag to ObjectDataTag object
+     * Supplementary method, finds tag statistics of user in cache or by query, queried statistics are cached
+     *
+     * @param userId requested parameter value, holds user id value
+     * @return {@code List<ResultTag>} tag statistics ordered by count descended
+     */
+    private List<ResultTag> findTagStatistics(Long userId) {
+        Optional<List<ResultTag>> cached = statisticsCache.findTags(userId);
+
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        List<ResultTag> tags = uRepo.findTagsByPopularityAndMaxCost(userId);
+        statisticsCache.putTags(userId, tags);
+        return tags;
+    }
+
+    /**
+     * Supplementary method, selects result tags with max count and max order cost among them by single pass
+     *
+     * @param tags requested result tags
+     * @return {@code List<ResultTag>} result tags with max count and cost, empty if requested tags are empty
+     */
+    private static List<ResultTag> findMaxCountAndCost(List<ResultTag> tags) {
+        List<ResultTag> winners = new ArrayList<>();
+        ResultTag max = null;
+
+        for (ResultTag rt : tags) {
+            int comparison = max == null ? 1 : BY_COUNT_AND_COST.compare(rt, max);
+
+            if (comparison > 0) {
+                winners.clear();
+                max = rt;
+            }
+
+            if (comparison >= 0) {
+                winners.add(rt);
+            }
+        }
+
+        return winners;
+    }
+
+    /**
+     * Function, converts ResultTag to ObjectDataTag object, tag is built from selected tag id and name
      *
      * @return {@code Function<ResultTag, ObjectDataTag>} conversion function
      */
-    private Function<ResultTag, ObjectDataTag> convertTagsToObjects() {
-        return rt -> new ObjectDataTag(tRepo.findByName(rt.getName()).get(), rt.getOrderCost(), rt.getCount());
+    private static Function<ResultTag, ObjectDataTag> convertTagsToObjects() {
+        return rt -> {
+            Tag tag = new Tag();
+            tag.setId(rt.getId());
+            tag.setName(rt.getName());
+            return new ObjectDataTag(tag, rt.getOrderCost(), rt.getCount());
+        };
     }
 
     /**
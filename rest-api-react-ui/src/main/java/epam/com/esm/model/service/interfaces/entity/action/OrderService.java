@@ -3,9 +3,13 @@ package epam.com.esm.model.service.interfaces.entity.action;
 import epam.com.esm.model.service.interfaces.base.CrdService;
 import epam.com.esm.persistence.entity.impl.action.Order;
 import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
+import epam.com.esm.utils.batch.service.ObjectBatchItem;
 import epam.com.esm.utils.search.transport.request.SearchParamRequest;
 import epam.com.esm.utils.search.transport.response.SearchParamResponse;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 /**
  * OrderService is the interface that delegates CRUD contracts from ancestors and specific operations for
  * order logic contracts to implementor
@@ -21,4 +25,21 @@ public interface OrderService extends CrdService<Order, Long> {
      * @return {@code SearchParamResponse<GiftCertificate>} found gift certificates
      */
     SearchParamResponse<GiftCertificate> findGiftCertificates(Long orderId, SearchParamRequest searchParamRequest);
+
+    /**
+     * Contract for creating orders by batch
+     *
+     * @param items objects, hold requested orders and their positions in batch
+     * @return {@code List<ObjectBatchItem>} results of batch items processing
+     */
+    List<ObjectBatchItem> createAll(List<ObjectBatchItem> items);
+
+    /**
+     * Contract for passing orders found by requested search params to consumer one by one
+     *
+     * @param searchParamRequest requested object, holds search params values
+     * @param consumer provided consumer of found orders
+     * @return {@code long} number of exported orders
+     */
+    long export(SearchParamRequest searchParamRequest, Consumer<Order> consumer);
 }
\ No newline at end of file
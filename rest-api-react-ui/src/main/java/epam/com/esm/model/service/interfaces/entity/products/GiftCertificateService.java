@@ -5,6 +5,9 @@ import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
 import epam.com.esm.persistence.entity.impl.products.Tag;
 import epam.com.esm.utils.search.transport.request.SearchParamRequest;
 import epam.com.esm.utils.search.transport.response.SearchParamResponse;
+import epam.com.esm.utils.versions.VersionStamp;
+
+import java.util.function.Consumer;
 
 /**
  * GiftCertificateService is the interface that delegates CRUD contracts from ancestors and specific operations for
@@ -55,4 +58,29 @@ public interface GiftCertificateService  extends CrudService<GiftCertificate, Lo
      * @return {@code GiftCertificate} gift certificate with deleted tags
      */
     GiftCertificate deleteTags(GiftCertificate giftCertificate);
+
+    /**
+     * Contract for passing gift certificates found by requested search params to consumer one by one
+     *
+     * @param searchParamRequest requested object, holds search params values
+     * @param consumer provided consumer of found gift certificates
+     * @return {@code long} number of exported gift certificates
+     */
+    long export(SearchParamRequest searchParamRequest, Consumer<GiftCertificate> consumer);
+
+    /**
+     * Contract for producing VersionStamp object of gift certificate and its tags by provided id parameter value
+     *
+     * @param gCertId requested parameter value, holds id value
+     * @return {@code VersionStamp} versions of gift certificate and its tags
+     */
+    VersionStamp findVersion(Long gCertId);
+
+    /**
+     * Contract for producing VersionStamp object of gift certificates and their tags found by requested search params
+     *
+     * @param searchParamRequest requested object, holds search params values
+     * @return {@code VersionStamp} versions of found gift certificates and their tags
+     */
+    VersionStamp findAllVersion(SearchParamRequest searchParamRequest);
 }
\ No newline at end of file
@@ -0,0 +1,142 @@
+package epam.com.esm.persistence.cache;
+
+import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
+import epam.com.esm.persistence.entity.impl.products.Tag;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * CatalogCacheEvictor is the component class, evicts cached gift certificate and tag collections
+ * <p>
+ * Both gift certificate tags and tag gift certificates collections own the same join table, so write through one
+ * side doesn't invalidate cached collection of the other side. Stale collections are evicted on write and once
+ * again after transaction completion, so collection cached by concurrent reader before commit isn't kept
+ */
+@Component
+public class CatalogCacheEvictor {
+
+    /**
+     * Holds gift certificate tags collection role
+     */
+    private static final String GIFT_CERTIFICATE_TAGS = GiftCertificate.class.getName() + ".tags";
+
+    /**
+     * Holds tag gift certificates collection role
+     */
+    private static final String TAG_GIFT_CERTIFICATES = Tag.class.getName() + ".giftCertificates";
+
+    /**
+     * Holds EntityManagerFactory object
+     */
+    private final EntityManagerFactory emf;
+
+    /**
+     * Constructs CatalogCacheEvictor with provided EntityManagerFactory object
+     *
+     * @param emf provided entity manager factory
+     */
+    @Autowired
+    public CatalogCacheEvictor(EntityManagerFactory emf) {
+        this.emf = emf;
+    }
+
+    /**
+     * Evicts cached tags collections of provided gift certificates
+     *
+     * @param gcIds provided gift certificate ids
+     */
+    public void evictGiftCertificateTags(Collection<Long> gcIds) {
+        evict(GIFT_CERTIFICATE_TAGS, gcIds);
+    }
+
+    /**
+     * Evicts cached tags collections of all gift certificates
+     */
+    public void evictGiftCertificateTags() {
+        evict(GIFT_CERTIFICATE_TAGS);
+    }
+
+    /**
+     * Evicts cached gift certificates collections of provided tags
+     *
+     * @param tagIds provided tag ids
+     */
+    public void evictTagGiftCertificates(Collection<Long> tagIds) {
+        evict(TAG_GIFT_CERTIFICATES, tagIds);
+    }
+
+    /**
+     * Evicts cached gift certificates collections of all tags
+     */
+    public void evictTagGiftCertificates() {
+        evict(TAG_GIFT_CERTIFICATES);
+    }
+
+    /**
+     * Evicts cached query results, needed after rows were written by plain JDBC, which doesn't update timestamps
+     * of query cache
+     */
+    public void evictQueries() {
+        evictNowAndAfterCompletion(() -> cache().evictQueryRegions());
+    }
+
+    /**
+     * Evicts cached collections of provided role and owner ids, null ids are skipped
+     *
+     * @param role provided collection role
+     * @param ids provided owner ids
+     */
+    private void evict(String role, Collection<Long> ids) {
+        Set<Long> owners = ids.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+
+        if (!owners.isEmpty()) {
+            evictNowAndAfterCompletion(() -> owners.forEach(id -> cache().evictCollectionData(role, id)));
+        }
+    }
+
+    /**
+     * Evicts all cached collections of provided role
+     *
+     * @param role provided collection role
+     */
+    private void evict(String role) {
+        evictNowAndAfterCompletion(() -> cache().evictCollectionData(role));
+    }
+
+    /**
+     * Runs provided eviction and registers it for run after completion of active transaction
+     *
+     * @param eviction provided eviction
+     */
+    private void evictNowAndAfterCompletion(Runnable eviction) {
+        eviction.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    /**
+     * Gets second level cache of session factory
+     *
+     * @return {@code Cache} second level cache
+     */
+    private Cache cache() {
+        return emf.unwrap(SessionFactory.class).getCache();
+    }
+}
@@ -0,0 +1,104 @@
+package epam.com.esm.persistence.cache;
+
+import epam.com.esm.config.cache.CacheRegions;
+import epam.com.esm.exception.types.UnexpectedException;
+import epam.com.esm.utils.statistics.repository.ResultTag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * UserStatisticsCache is the component class, caches user tag popularity statistics by user id
+ * <p>
+ * Statistics of user are evicted when order is created for user. Order created in concurrent transaction may be
+ * missed by reader which cached statistics before commit, so statistics are evicted on write and once again after
+ * transaction completion. Changes of catalog don't evict statistics, they are bounded by region time to live
+ */
+@Component
+public class UserStatisticsCache {
+
+    /**
+     * Holds user tag statistics region
+     */
+    private final Cache<Object, Object> tagStatistics;
+
+    /**
+     * Constructs UserStatisticsCache with provided cache manager
+     * Will throw UnexpectedException if user tag statistics region isn't configured
+     *
+     * @param cacheManager provided cache manager
+     */
+    @Autowired
+    public UserStatisticsCache(CacheManager cacheManager) {
+        this.tagStatistics = cacheManager.getCache(CacheRegions.USER_TAG_STATISTICS);
+
+        if (tagStatistics == null) {
+            throw new UnexpectedException("Cache region (name = " + CacheRegions.USER_TAG_STATISTICS +
+                                          ") isn't configured");
+        }
+    }
+
+    /**
+     * Finds cached tag statistics of provided user
+     *
+     * @param userId provided user id
+     * @return {@code Optional<List<ResultTag>>} cached statistics, empty if statistics aren't cached
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<List<ResultTag>> findTags(Long userId) {
+        return Optional.ofNullable((List<ResultTag>) tagStatistics.get(userId));
+    }
+
+    /**
+     * Caches tag statistics of provided user, statistics are cached as unmodifiable copy
+     *
+     * @param userId provided user id
+     * @param tags provided statistics
+     */
+    public void putTags(Long userId, List<ResultTag> tags) {
+        tagStatistics.put(userId, Collections.unmodifiableList(new ArrayList<>(tags)));
+    }
+
+    /**
+     * Evicts cached statistics of provided users, null ids are skipped
+     *
+     * @param userIds provided user ids
+     */
+    public void evict(Collection<Long> userIds) {
+        Set<Long> users = userIds.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+
+        if (!users.isEmpty()) {
+            evictNowAndAfterCompletion(() -> tagStatistics.removeAll(users));
+        }
+    }
+
+    /**
+     * Runs provided eviction and registers it for run after completion of active transaction
+     *
+     * @param eviction provided eviction
+     */
+    private void evictNowAndAfterCompletion(Runnable eviction) {
+        eviction.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
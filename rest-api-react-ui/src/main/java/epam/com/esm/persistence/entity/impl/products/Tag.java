@@ -1,9 +1,13 @@
 package epam.com.esm.persistence.entity.impl.products;
 
+import epam.com.esm.config.cache.CacheRegions;
 import epam.com.esm.persistence.entity.BaseEntity;
 import epam.com.esm.utils.search.filter.annotations.FilterObject;
 import epam.com.esm.utils.search.filter.annotations.FilterParameter;
 import epam.com.esm.utils.search.filter.annotations.FilterPrefix;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.OptimisticLock;
 import org.hibernate.envers.Audited;
 
 import javax.persistence.*;
@@ -15,6 +19,7 @@ import java.util.Objects;
  */
 @Entity
 @Audited
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TAG)
 @Table(name = "tag")
 @FilterPrefix(prefix = "t.")
 public class Tag extends BaseEntity {
@@ -23,11 +28,13 @@ public class Tag extends BaseEntity {
      * Holds name value
      */
     @Column(name = "name")
-    @FilterParameter(fieldName = "name", alias = {"t.name", "tName", "tagName"})
+    @FilterParameter(fieldName = "name", alias = {"t.name", "tName", "tagName"}, fullText = true)
     private String name;
 
     /**
      * Holds giftCertificates values
+     * Changes of gift certificates don't increment version, because versioned cached collection can't be loaded lazily
+     * outside of transaction, links are tracked by version probe instead
      */
     @ManyToMany(cascade = {CascadeType.MERGE, CascadeType.DETACH, CascadeType.PERSIST, CascadeType.REFRESH})
     @JoinTable(
@@ -36,6 +43,8 @@ public class Tag extends BaseEntity {
             inverseJoinColumns = @JoinColumn(name = "gift_certificate_id")
     )
     @FilterObject(cls = GiftCertificate.class, path = "giftCertificates")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TAG_GIFT_CERTIFICATES)
+    @OptimisticLock(excluded = true)
     private List<GiftCertificate> giftCertificates;
 
     /**
@@ -18,7 +18,10 @@ import java.util.Objects;
  */
 @Entity
 @Audited
-@Table(name = "purchase_data")
+@Table(name = "purchase_data",
+       indexes = {@Index(name = "idx_purchase_data_status_end", columnList = "status, end"),
+                  @Index(name = "idx_purchase_data_start", columnList = "start"),
+                  @Index(name = "idx_purchase_data_end", columnList = "end")})
 @FilterPrefix(prefix = "pd.")
 public class PurchaseData extends BaseEntity {
 
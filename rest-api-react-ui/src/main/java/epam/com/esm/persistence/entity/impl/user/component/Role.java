@@ -1,7 +1,10 @@
 package epam.com.esm.persistence.entity.impl.user.component;
 
+import epam.com.esm.config.cache.CacheRegions;
 import epam.com.esm.persistence.entity.BaseEntity;
 import epam.com.esm.persistence.entity.impl.user.User;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.envers.Audited;
 
 import javax.persistence.*;
@@ -13,6 +16,7 @@ import java.util.Objects;
  */
 @Entity
 @Audited
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.ROLE)
 @Table(name = "roles")
 public class Role extends BaseEntity {
 
@@ -1,6 +1,9 @@
 package epam.com.esm.persistence.repository;
 
 import epam.com.esm.persistence.entity.BaseEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.repository.NoRepositoryBean;
@@ -11,4 +14,14 @@ import org.springframework.data.repository.NoRepositoryBean;
  * @param <E> describes entity type
  */
 @NoRepositoryBean
-public interface BaseRepository<E extends BaseEntity> extends JpaRepository<E, Long>, JpaSpecificationExecutor<E> {}
\ No newline at end of file
+public interface BaseRepository<E extends BaseEntity> extends JpaRepository<E, Long>, JpaSpecificationExecutor<E> {
+
+    /**
+     * Contract for finding slice of entities by specification without counting
+     *
+     * @param spec provided specification
+     * @param pageable provided pageable
+     * @return {@code Slice<E>} found slice of entities
+     */
+    Slice<E> findSlice(Specification<E> spec, Pageable pageable);
+}
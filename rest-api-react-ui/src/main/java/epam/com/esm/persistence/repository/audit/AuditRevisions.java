@@ -0,0 +1,45 @@
+package epam.com.esm.persistence.repository.audit;
+
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.DefaultRevisionEntity;
+import org.hibernate.envers.RevisionType;
+
+import javax.persistence.EntityManager;
+
+/**
+ * AuditRevisions utility class, provides Envers revision for writes which bypass Envers listeners
+ * <p>
+ * Bulk updates and JDBC batches aren't seen by Envers, so their audit rows are written by the same statements
+ * under revision of current transaction. Revision is shared with entities audited by Envers in this transaction
+ */
+public final class AuditRevisions {
+
+    /**
+     * Holds revision type of added rows
+     */
+    public static final byte ADD = RevisionType.ADD.getRepresentation();
+
+    /**
+     * Holds revision type of modified rows
+     */
+    public static final byte MOD = RevisionType.MOD.getRepresentation();
+
+    /**
+     * Default constructor
+     */
+    private AuditRevisions() {}
+
+    /**
+     * Gets revision number of current transaction, revision is created and flushed if it wasn't yet
+     * Must be called in transaction
+     *
+     * @param entityManager provided entity manager
+     * @return {@code int} revision number of current transaction
+     */
+    public static int current(EntityManager entityManager) {
+        DefaultRevisionEntity revision = AuditReaderFactory.get(entityManager)
+                                                           .getCurrentRevision(DefaultRevisionEntity.class, true);
+        entityManager.flush();
+        return revision.getId();
+    }
+}
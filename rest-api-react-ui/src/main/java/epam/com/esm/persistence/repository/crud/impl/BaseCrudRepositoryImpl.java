@@ -4,15 +4,16 @@ import epam.com.esm.exception.types.NotFoundException;
 import epam.com.esm.persistence.entity.BaseEntity;
 import epam.com.esm.persistence.repository.BaseRepository;
 import epam.com.esm.persistence.repository.crud.BaseCrudRepository;
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
 import epam.com.esm.utils.search.request.builders.SpecificationFilter;
 import epam.com.esm.utils.search.transport.request.SearchParamRequest;
 import epam.com.esm.utils.search.transport.response.SearchParamResponse;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
 
-import static epam.com.esm.utils.search.request.handlers.ResponseHandler.initResponse;
+import static epam.com.esm.utils.search.request.handlers.PageHandler.findPage;
 
 /**
  * BaseCrudRepositoryImpl is the service class, provides implementation of BaseCrudRepository interface contracts
@@ -24,6 +25,21 @@ import static epam.com.esm.utils.search.request.handlers.ResponseHandler.initRes
 public class BaseCrudRepositoryImpl<E extends BaseEntity, R extends BaseRepository<E>>
         implements BaseCrudRepository<E, R> {
 
+    /**
+     * Holds FilterMetadataRegistry object
+     */
+    private final FilterMetadataRegistry registry;
+
+    /**
+     * Constructs BaseCrudRepositoryImpl with FilterMetadataRegistry object
+     *
+     * @param registry service, holds filter metadata of entities
+     */
+    @Autowired
+    public BaseCrudRepositoryImpl(FilterMetadataRegistry registry) {
+        this.registry = registry;
+    }
+
     /**
      * Creates entity
      *
@@ -87,8 +103,7 @@ public class BaseCrudRepositoryImpl<E extends BaseEntity, R extends BaseReposito
      */
     @Override
     public SearchParamResponse<E> findAll(R rep, SearchParamRequest spReq, Class<?> target, Class<?> ... joined) {
-        SpecificationFilter<E> fs = new SpecificationFilter<>(spReq, target, joined);
-        PageRequest pageRequest = PageRequest.of(spReq.getPage(), spReq.getSize());
-        return initResponse(spReq, rep.findAll(fs).size(), rep.findAll(fs, pageRequest).getContent());
+        SpecificationFilter<E> fs = new SpecificationFilter<>(registry, spReq, target, joined);
+        return findPage(rep, fs, spReq);
     }
 }
\ No newline at end of file
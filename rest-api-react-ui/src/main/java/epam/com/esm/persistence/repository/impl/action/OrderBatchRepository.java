@@ -0,0 +1,19 @@
+package epam.com.esm.persistence.repository.impl.action;
+
+import epam.com.esm.persistence.entity.impl.action.Order;
+
+import java.util.List;
+
+/**
+ * OrderBatchRepository is the repository fragment, provides batch operations contracts for order
+ */
+public interface OrderBatchRepository {
+
+    /**
+     * Contract for inserting orders by JDBC batches
+     * Generated ids are set to provided orders, audit rows are written under revision of current transaction
+     *
+     * @param orders provided orders
+     */
+    void batchInsert(List<Order> orders);
+}
@@ -0,0 +1,30 @@
+package epam.com.esm.persistence.repository.impl.products;
+
+import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * GiftCertificateBatchRepository is the repository fragment, provides batch operations contracts for gift certificate
+ */
+public interface GiftCertificateBatchRepository {
+
+    /**
+     * Contract for finding names of existing gift certificates
+     *
+     * @param names provided gift certificate names
+     * @return {@code Set<String>} case-insensitive names of existing gift certificates
+     */
+    Set<String> findExistingNames(Collection<String> names);
+
+    /**
+     * Contract for inserting gift certificates and their tag links by JDBC batches
+     * Generated ids are set to provided gift certificates, tags should have ids,
+     * audit rows are written under revision of current transaction
+     *
+     * @param giftCertificates provided gift certificates
+     */
+    void batchInsert(List<GiftCertificate> giftCertificates);
+}
@@ -1,16 +1,21 @@
 package epam.com.esm.persistence.repository.impl.products;
 
+import epam.com.esm.config.cache.CacheRegions;
 import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
 import epam.com.esm.persistence.repository.BaseRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * GiftCertificateRepository is the repository, provides jpa operations contracts for gift certificate
  */
 @Repository
-public interface GiftCertificateRepository extends BaseRepository<GiftCertificate> {
+public interface GiftCertificateRepository extends BaseRepository<GiftCertificate>, GiftCertificateBatchRepository {
 
     /**
      * Contact for checking existence by name
@@ -18,6 +23,7 @@ public interface GiftCertificateRepository extends BaseRepository<GiftCertificat
      * @param name provided name
      * @return {@code true} if exists by name
      */
+    @QueryHints(@QueryHint(name = CacheRegions.CACHEABLE, value = "true"))
     Boolean existsByName(String name);
 
     /**
@@ -26,5 +32,15 @@ public interface GiftCertificateRepository extends BaseRepository<GiftCertificat
      * @param name provided name
      * @return {@code Optional<GiftCertificate>} result of finding
      */
+    @QueryHints(@QueryHint(name = CacheRegions.CACHEABLE, value = "true"))
     Optional<GiftCertificate> findByName(String name);
+
+    /**
+     * Contract for finding all by names
+     *
+     * @param names provided names
+     * @return {@code List<GiftCertificate>} found gift certificates
+     */
+    @QueryHints(@QueryHint(name = CacheRegions.CACHEABLE, value = "true"))
+    List<GiftCertificate> findAllByNameIn(Collection<String> names);
 }
\ No newline at end of file
@@ -0,0 +1,215 @@
+package epam.com.esm.persistence.repository.impl.products;
+
+import epam.com.esm.persistence.repository.audit.AuditRevisions;
+import org.hibernate.Session;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * TagBatchRepositoryImpl is the repository fragment, provides implementation of TagBatchRepository contracts
+ * <p>
+ * Tags are inserted by set-based multi-row statements on connection of current session, so missing tags of imported
+ * chunk are created by few round trips per 1000 names instead of existence check and insert per tag. Rows are
+ * inserted by plain JDBC, so they bypass persistence context, second level cache and Envers. Audit rows of created
+ * tags are copied from inserted rows under revision of current transaction, tags having audit rows are skipped, so tag
+ * created by concurrent import isn't audited twice
+ */
+public class TagBatchRepositoryImpl implements TagBatchRepository {
+
+    /**
+     * Holds max number of names bound to one statement
+     */
+    private static final int MAX_PARAMS = 1000;
+
+    /**
+     * Holds tag insert statement prefix
+     */
+    private static final String INSERT_TAGS = "INSERT INTO tag (name) VALUES ";
+
+    /**
+     * Holds tag insert statement suffix, existing names are skipped by unique key of name
+     */
+    private static final String ON_DUPLICATE_NAME = " ON DUPLICATE KEY UPDATE id = id";
+
+    /**
+     * Holds tag ids select statement prefix
+     */
+    private static final String SELECT_IDS = "SELECT id, name FROM tag WHERE name IN ";
+
+    /**
+     * Holds existing names select statement prefix
+     */
+    private static final String SELECT_NAMES = "SELECT name FROM tag WHERE name IN ";
+
+    /**
+     * Holds tag audit copy statement prefix, tags having audit rows are skipped
+     */
+    private static final String COPY_TAG_AUDIT =
+            "INSERT INTO tag_audit (id, REV, REVTYPE, name) SELECT t.id, ?, ?, t.name FROM tag t " +
+            "WHERE NOT EXISTS (SELECT 1 FROM tag_audit a WHERE a.id = t.id) AND t.name IN ";
+
+    /**
+     * Holds entity manager
+     */
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Inserts tags by names, names of existing tags are skipped
+     * Audit rows are copied from rows of names, which were missing before insert and have no audit rows yet.
+     * Concurrent insert of same name waits for commit of its transaction, which writes audit row of created tag
+     * too, so only tags created by this insert are audited and counted
+     *
+     * @param names provided tag names
+     * @return {@code int} number of created tags
+     */
+    @Override
+    public int upsertAll(Collection<String> names) {
+        if (names.isEmpty()) {
+            return 0;
+        }
+
+        int rev = AuditRevisions.current(entityManager);
+        return entityManager.unwrap(Session.class).doReturningWork(c -> {
+            int created = 0;
+
+            for (List<String> chunk : split(names)) {
+                List<String> missing = findMissing(c, chunk);
+
+                if (missing.isEmpty()) {
+                    continue;
+                }
+
+                StringBuilder sql = new StringBuilder(INSERT_TAGS);
+
+                for (int i = 0; i < missing.size(); i++) {
+                    sql.append(i == 0 ? "(?)" : ", (?)");
+                }
+
+                try (PreparedStatement ps = prepare(c, sql.append(ON_DUPLICATE_NAME).toString(), missing)) {
+                    ps.executeUpdate();
+                }
+
+                try (PreparedStatement ps = c.prepareStatement(COPY_TAG_AUDIT + placeholders(missing.size()))) {
+                    ps.setInt(1, rev);
+                    ps.setByte(2, AuditRevisions.ADD);
+
+                    for (int i = 0; i < missing.size(); i++) {
+                        ps.setString(i + 3, missing.get(i));
+                    }
+
+                    created += ps.executeUpdate();
+                }
+            }
+
+            return created;
+        });
+    }
+
+    /**
+     * Finds tag ids by names
+     *
+     * @param names provided tag names
+     * @return {@code Map<String, Long>} tag ids by case-insensitive names
+     */
+    @Override
+    public Map<String, Long> findIdsByName(Collection<String> names) {
+        Map<String, Long> ids = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+        if (!names.isEmpty()) {
+            entityManager.unwrap(Session.class).doWork(c -> {
+                for (List<String> chunk : split(names)) {
+                    try (PreparedStatement ps = prepare(c, SELECT_IDS + placeholders(chunk.size()), chunk);
+                         ResultSet rs = ps.executeQuery()) {
+                        while (rs.next()) {
+                            ids.put(rs.getString(2), rs.getLong(1));
+                        }
+                    }
+                }
+            });
+        }
+
+        return ids;
+    }
+
+    /**
+     * Finds names of chunk, which don't belong to existing tags
+     *
+     * @param c provided connection
+     * @param chunk provided names
+     * @return {@code List<String>} missing names
+     * @throws SQLException if select failed
+     */
+    private static List<String> findMissing(Connection c, List<String> chunk) throws SQLException {
+        Set<String> existing = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+        try (PreparedStatement ps = prepare(c, SELECT_NAMES + placeholders(chunk.size()), chunk);
+             ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                existing.add(rs.getString(1));
+            }
+        }
+
+        return chunk.stream().filter(n -> !existing.contains(n)).collect(Collectors.toList());
+    }
+
+    /**
+     * Builds parenthesized list of provided number of placeholders
+     *
+     * @param count provided number of placeholders
+     * @return {@code String} placeholders list
+     */
+    private static String placeholders(int count) {
+        return "(" + String.join(", ", Collections.nCopies(count, "?")) + ")";
+    }
+
+    /**
+     * Prepares statement and binds names to it
+     *
+     * @param c provided connection
+     * @param sql provided statement
+     * @param names provided names
+     * @return {@code PreparedStatement} prepared statement
+     * @throws SQLException if statement can't be prepared
+     */
+    private static PreparedStatement prepare(Connection c, String sql, List<String> names) throws SQLException {
+        PreparedStatement ps = c.prepareStatement(sql);
+
+        for (int i = 0; i < names.size(); i++) {
+            ps.setString(i + 1, names.get(i));
+        }
+
+        return ps;
+    }
+
+    /**
+     * Splits names to chunks of max number of names bound to one statement
+     *
+     * @param names provided names
+     * @return {@code List<List<String>>} chunks of names
+     */
+    private static List<List<String>> split(Collection<String> names) {
+        List<String> all = new ArrayList<>(names);
+        List<List<String>> chunks = new ArrayList<>();
+
+        for (int from = 0; from < all.size(); from += MAX_PARAMS) {
+            chunks.add(all.subList(from, Math.min(from + MAX_PARAMS, all.size())));
+        }
+
+        return chunks;
+    }
+}
@@ -1,16 +1,19 @@
 package epam.com.esm.persistence.repository.impl.products;
 
+import epam.com.esm.config.cache.CacheRegions;
 import epam.com.esm.persistence.entity.impl.products.Tag;
 import epam.com.esm.persistence.repository.BaseRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.util.Optional;
 
 /**
  * TagRepository is the repository, provides jpa operations contracts for tag
  */
 @Repository
-public interface TagRepository extends BaseRepository<Tag> {
+public interface TagRepository extends BaseRepository<Tag>, TagBatchRepository {
 
     /**
      * Contact for checking existence by name
@@ -18,6 +21,7 @@ public interface TagRepository extends BaseRepository<Tag> {
      * @param name provided name
      * @return {@code true} if exists by name
      */
+    @QueryHints(@QueryHint(name = CacheRegions.CACHEABLE, value = "true"))
     Boolean existsByName(String name);
 
     /**
@@ -26,5 +30,6 @@ public interface TagRepository extends BaseRepository<Tag> {
      * @param name provided name
      * @return {@code Optional<Tag>} result of finding
      */
+    @QueryHints(@QueryHint(name = CacheRegions.CACHEABLE, value = "true"))
     Optional<Tag> findByName(String name);
 }
\ No newline at end of file
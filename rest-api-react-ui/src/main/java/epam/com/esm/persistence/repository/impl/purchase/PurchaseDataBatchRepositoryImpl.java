@@ -0,0 +1,254 @@
+package epam.com.esm.persistence.repository.impl.purchase;
+
+import epam.com.esm.config.cache.CacheRegions;
+import epam.com.esm.exception.types.OperationFailedException;
+import epam.com.esm.persistence.entity.impl.purchase.PurchaseData;
+import epam.com.esm.persistence.repository.audit.AuditRevisions;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * PurchaseDataBatchRepositoryImpl is the repository fragment, provides implementation of
+ * PurchaseDataBatchRepository contracts
+ * <p>
+ * Purchase data id is generated by IDENTITY, which disables Hibernate insert batching, so purchase data and its
+ * join table rows are inserted by plain JDBC batches on connection of current session
+ * <p>
+ * Neither JDBC batches nor bulk updates are seen by Envers, so audit rows of purchase data and its join tables
+ * are written in the same batches under revision of current transaction
+ */
+public class PurchaseDataBatchRepositoryImpl implements PurchaseDataBatchRepository {
+
+    /**
+     * Holds purchase data insert statement
+     */
+    private static final String INSERT_PURCHASE_DATA =
+            "INSERT INTO purchase_data (start, `end`, status) VALUES (?, ?, ?)";
+
+    /**
+     * Holds purchase data user link insert statement
+     */
+    private static final String INSERT_USER_LINK =
+            "INSERT INTO user_purchase_data (purchase_data_id, user_id) VALUES (?, ?)";
+
+    /**
+     * Holds purchase data gift certificate link insert statement
+     */
+    private static final String INSERT_GIFT_CERTIFICATE_LINK =
+            "INSERT INTO purchase_data_gift_certificate (purchase_data_id, gift_certificate_id) VALUES (?, ?)";
+
+    /**
+     * Holds purchase data audit insert statement
+     */
+    private static final String INSERT_PURCHASE_DATA_AUDIT =
+            "INSERT INTO purchase_data_audit (id, REV, REVTYPE, start, `end`, status) VALUES (?, ?, ?, ?, ?, ?)";
+
+    /**
+     * Holds purchase data user link audit insert statement
+     */
+    private static final String INSERT_USER_LINK_AUDIT =
+            "INSERT INTO user_purchase_data_audit (purchase_data_id, REV, user_id) VALUES (?, ?, ?)";
+
+    /**
+     * Holds purchase data gift certificate link audit insert statement
+     */
+    private static final String INSERT_GIFT_CERTIFICATE_LINK_AUDIT =
+            "INSERT INTO purchase_data_gift_certificate_audit (purchase_data_id, REV, gift_certificate_id) " +
+            "VALUES (?, ?, ?)";
+
+    /**
+     * Holds expired purchase data ids select statement, selected rows are locked until transaction end
+     */
+    private static final String SELECT_EXPIRED_IDS =
+            "SELECT id FROM purchase_data WHERE status = 'ACTIVE' AND `end` >= :from AND `end` < :to " +
+            "LIMIT :limit FOR UPDATE";
+
+    /**
+     * Holds purchase data expire statement
+     */
+    private static final String EXPIRE_PURCHASE_DATA =
+            "UPDATE purchase_data SET status = 'EXPIRED', version = version + 1 WHERE id IN (:ids)";
+
+    /**
+     * Holds purchase data audit copy statement
+     */
+    private static final String COPY_PURCHASE_DATA_AUDIT =
+            "INSERT INTO purchase_data_audit (id, REV, REVTYPE, start, `end`, status) " +
+            "SELECT id, :rev, :type, start, `end`, status FROM purchase_data WHERE id IN (:ids)";
+
+    /**
+     * Holds entity manager
+     */
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Holds JDBC batch size
+     */
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int batchSize;
+
+    /**
+     * Inserts purchase data by JDBC batches
+     * Generated ids are set to provided purchase data, audit rows are inserted under revision of current transaction
+     *
+     * @param purchaseData provided purchase data
+     */
+    @Override
+    public void batchInsert(List<PurchaseData> purchaseData) {
+        if (!purchaseData.isEmpty()) {
+            int rev = AuditRevisions.current(entityManager);
+            entityManager.unwrap(Session.class).doWork(c -> {
+                insertPurchaseData(c, purchaseData, rev);
+                insertLinks(c, purchaseData, rev);
+            });
+        }
+    }
+
+    /**
+     * Inserts purchase data rows, fetches generated ids and inserts audit rows of each chunk
+     *
+     * @param c provided connection
+     * @param purchaseData provided purchase data
+     * @param rev provided revision number
+     * @throws SQLException if insert failed
+     */
+    private void insertPurchaseData(Connection c, List<PurchaseData> purchaseData, int rev) throws SQLException {
+        try (PreparedStatement ps = c.prepareStatement(INSERT_PURCHASE_DATA, Statement.RETURN_GENERATED_KEYS);
+             PreparedStatement audit = c.prepareStatement(INSERT_PURCHASE_DATA_AUDIT)) {
+            for (int from = 0; from < purchaseData.size(); from += batchSize) {
+                List<PurchaseData> chunk = purchaseData.subList(from, Math.min(from + batchSize, purchaseData.size()));
+
+                for (PurchaseData pd : chunk) {
+                    ps.setTimestamp(1, Timestamp.valueOf(pd.getStart()));
+                    ps.setTimestamp(2, Timestamp.valueOf(pd.getEnd()));
+                    ps.setString(3, pd.getStatus().name());
+                    ps.addBatch();
+                }
+
+                ps.executeBatch();
+                fetchIds(ps, chunk);
+
+                for (PurchaseData pd : chunk) {
+                    audit.setLong(1, pd.getId());
+                    audit.setInt(2, rev);
+                    audit.setByte(3, AuditRevisions.ADD);
+                    audit.setTimestamp(4, Timestamp.valueOf(pd.getStart()));
+                    audit.setTimestamp(5, Timestamp.valueOf(pd.getEnd()));
+                    audit.setString(6, pd.getStatus().name());
+                    audit.addBatch();
+                }
+
+                audit.executeBatch();
+            }
+        }
+    }
+
+    /**
+     * Sets generated ids to purchase data
+     * Will throw OperationFailedException if driver returned less ids than rows inserted
+     *
+     * @param ps provided executed statement
+     * @param chunk provided inserted purchase data
+     * @throws SQLException if generated keys cannot be read
+     */
+    private void fetchIds(PreparedStatement ps, List<PurchaseData> chunk) throws SQLException {
+        try (ResultSet keys = ps.getGeneratedKeys()) {
+            for (PurchaseData pd : chunk) {
+                if (!keys.next()) {
+                    throw new OperationFailedException("Purchase data creation failed");
+                }
+
+                pd.setId(keys.getLong(1));
+                pd.setVersion(0L);
+            }
+        }
+    }
+
+    /**
+     * Inserts user and gift certificate join table rows for purchase data and their audit rows
+     *
+     * @param c provided connection
+     * @param purchaseData provided purchase data with ids
+     * @param rev provided revision number
+     * @throws SQLException if insert failed
+     */
+    private void insertLinks(Connection c, List<PurchaseData> purchaseData, int rev) throws SQLException {
+        try (PreparedStatement user = c.prepareStatement(INSERT_USER_LINK);
+             PreparedStatement gc = c.prepareStatement(INSERT_GIFT_CERTIFICATE_LINK);
+             PreparedStatement userAudit = c.prepareStatement(INSERT_USER_LINK_AUDIT);
+             PreparedStatement gcAudit = c.prepareStatement(INSERT_GIFT_CERTIFICATE_LINK_AUDIT)) {
+            for (int i = 0; i < purchaseData.size(); i++) {
+                PurchaseData pd = purchaseData.get(i);
+                user.setLong(1, pd.getId());
+                user.setLong(2, pd.getUser().getId());
+                user.addBatch();
+                gc.setLong(1, pd.getId());
+                gc.setLong(2, pd.getGiftCertificate().getId());
+                gc.addBatch();
+                userAudit.setLong(1, pd.getId());
+                userAudit.setInt(2, rev);
+                userAudit.setLong(3, pd.getUser().getId());
+                userAudit.addBatch();
+                gcAudit.setLong(1, pd.getId());
+                gcAudit.setInt(2, rev);
+                gcAudit.setLong(3, pd.getGiftCertificate().getId());
+                gcAudit.addBatch();
+
+                if ((i + 1) % batchSize == 0 || i == purchaseData.size() - 1) {
+                    user.executeBatch();
+                    gc.executeBatch();
+                    userAudit.executeBatch();
+                    gcAudit.executeBatch();
+                }
+            }
+        }
+    }
+
+    /**
+     * Expires active purchases, which ended in provided period, and writes their audit rows
+     * Updates at most provided limit of rows, rows are locked by select, so update and audit copy
+     * touch the same chunk
+     *
+     * @param from provided period start (inclusive)
+     * @param to provided period end (exclusive)
+     * @param limit provided max number of updated rows
+     * @return {@code int} number of expired purchases
+     */
+    @Override
+    public int expireActive(LocalDateTime from, LocalDateTime to, int limit) {
+        List<?> ids = entityManager.createNativeQuery(SELECT_EXPIRED_IDS)
+                                   .setParameter("from", from)
+                                   .setParameter("to", to)
+                                   .setParameter("limit", limit)
+                                   .getResultList();
+
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        int rev = AuditRevisions.current(entityManager);
+        int expired = entityManager.createNativeQuery(EXPIRE_PURCHASE_DATA)
+                                   .setHint(CacheRegions.NATIVE_SPACES, "purchase_data")
+                                   .setParameter("ids", ids)
+                                   .executeUpdate();
+        entityManager.createNativeQuery(COPY_PURCHASE_DATA_AUDIT)
+                     .setHint(CacheRegions.NATIVE_SPACES, "purchase_data_audit")
+                     .setParameter("rev", rev)
+                     .setParameter("type", AuditRevisions.MOD)
+                     .setParameter("ids", ids)
+                     .executeUpdate();
+        return expired;
+    }
+}
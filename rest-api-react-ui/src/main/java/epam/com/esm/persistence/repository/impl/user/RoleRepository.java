@@ -1,9 +1,12 @@
 package epam.com.esm.persistence.repository.impl.user;
 
+import epam.com.esm.config.cache.CacheRegions;
 import epam.com.esm.persistence.entity.impl.user.component.Role;
 import epam.com.esm.persistence.repository.BaseRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.util.Optional;
 
 /**
@@ -18,5 +21,6 @@ public interface RoleRepository extends BaseRepository<Role> {
      * @param name provided name
      * @return {@code Optional<Role>} result of finding
      */
+    @QueryHints(@QueryHint(name = CacheRegions.CACHEABLE, value = "true"))
     Optional<Role> findByName(String name);
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,19 +33,29 @@ public interface UserRepository extends BaseRepository<User> {
      */
     Optional<User> findByUsername(String username);
 
+    /**
+     * Contract for finding all by usernames
+     *
+     * @param usernames provided usernames
+     * @return {@code List<User>} found users
+     */
+    List<User> findAllByUsernameIn(Collection<String> usernames);
+
     /**
      * Contract for finding tags by popularity and order max cost
+     * Tag id and name are selected by the same query, so result tags don't need tag lookup
      *
      * @param userId provided user id
      * @return {@code List<ResultTag>} collection of result tags objects
      */
-    @Query("SELECT new epam.com.esm.utils.statistics.repository.ResultTag(tag.name, MAX(o.cost), COUNT(tag.name)) " +
+    @Query("SELECT new epam.com.esm.utils.statistics.repository.ResultTag(tag.id, tag.name, MAX(o.cost), " +
+            "COUNT(tag.id)) " +
             "FROM User u " +
             "JOIN u.orders o " +
             "JOIN o.giftCertificates gc " +
             "JOIN gc.tags tag " +
             "WHERE u.id = :userId " +
-            "GROUP BY tag.name " +
-            "ORDER BY COUNT(tag.name) DESC")
+            "GROUP BY tag.id, tag.name " +
+            "ORDER BY COUNT(tag.id) DESC, tag.id")
     List<ResultTag> findTagsByPopularityAndMaxCost(@Param("userId") Long userId);
 }
\ No newline at end of file
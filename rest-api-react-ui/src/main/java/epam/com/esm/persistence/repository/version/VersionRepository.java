@@ -0,0 +1,74 @@
+package epam.com.esm.persistence.repository.version;
+
+import epam.com.esm.persistence.entity.BaseEntity;
+import epam.com.esm.utils.versions.VersionStamp;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+
+/**
+ * VersionRepository is the repository class, probes versions of entities found by specification
+ * <p>
+ * Probe is single aggregate query over found entities left joined with linked entities, entities aren't loaded,
+ * so probe is much cheaper than search with counting, paging and reading of linked entities. Specification
+ * receives tuple query and treats it as count query, so probe isn't ordered or paged
+ */
+@Repository
+public class VersionRepository {
+
+    /**
+     * Holds id attribute name
+     */
+    private static final String ID = "id";
+
+    /**
+     * Holds version attribute name
+     */
+    private static final String VERSION = "version";
+
+    /**
+     * Holds entity manager
+     */
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Probes versions of entities found by provided specification and of their linked entities
+     * Must be called in transaction
+     *
+     * @param type provided entity class
+     * @param spec provided specification
+     * @param linked provided to-many association with linked entities
+     * @param <E> describes entity type
+     * @return {@code VersionStamp} count and sums of ids and versions of found and linked entities
+     */
+    public <E extends BaseEntity> VersionStamp probe(Class<E> type, Specification<E> spec, String linked) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+        Root<E> root = cq.from(type);
+        Predicate predicate = spec.toPredicate(root, cq, cb);
+
+        if (predicate != null) {
+            cq.where(predicate);
+        }
+
+        Join<E, ?> join = root.join(linked, JoinType.LEFT);
+        cq.multiselect(cb.countDistinct(root),
+                       cb.sum(root.<Long>get(ID)), cb.sum(root.<Long>get(VERSION)),
+                       cb.count(join),
+                       cb.sum(join.<Long>get(ID)), cb.sum(join.<Long>get(VERSION)));
+
+        Tuple t = entityManager.createQuery(cq).getSingleResult();
+        return new VersionStamp(t.get(0, Long.class), t.get(1, Long.class), t.get(2, Long.class),
+                                t.get(3, Long.class), t.get(4, Long.class), t.get(5, Long.class));
+    }
+}
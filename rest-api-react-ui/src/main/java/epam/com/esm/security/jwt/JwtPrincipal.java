@@ -0,0 +1,103 @@
+package epam.com.esm.security.jwt;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * JwtPrincipal is the data class, holds principal values retrieved from verified token
+ */
+public class JwtPrincipal {
+
+    /**
+     * Holds username value
+     */
+    private final String username;
+
+    /**
+     * Holds granted authorities
+     */
+    private final List<GrantedAuthority> authorities;
+
+    /**
+     * Holds token expiration time in milliseconds
+     */
+    private final long expiration;
+
+    /**
+     * Constructs JwtPrincipal with provided username, authorities and token expiration time
+     *
+     * @param username    provided username
+     * @param authorities provided granted authorities
+     * @param expiration  provided token expiration time in milliseconds
+     */
+    public JwtPrincipal(String username, List<GrantedAuthority> authorities, long expiration) {
+        this.username = username;
+        this.authorities = authorities;
+        this.expiration = expiration;
+    }
+
+    /**
+     * Checks if token of principal is expired at provided time
+     *
+     * @param now provided time in milliseconds
+     * @return {@code true} if token is expired
+     */
+    public boolean isExpiredAt(long now) {
+        return now >= expiration;
+    }
+
+    /**
+     * Gets value from username field
+     *
+     * @return {@code String} username value
+     */
+    public String getUsername() {
+        return username;
+    }
+
+    /**
+     * Gets granted authorities
+     *
+     * @return {@code List<GrantedAuthority>} granted authorities
+     */
+    public List<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    /**
+     * Gets value from expiration field
+     *
+     * @return {@code long} expiration value
+     */
+    public long getExpiration() {
+        return expiration;
+    }
+
+    /**
+     * Compares source object and target object for equality
+     *
+     * @param o target object
+     * @return {@code true} if objects are equal
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        JwtPrincipal that = (JwtPrincipal) o;
+        return expiration == that.expiration
+               && Objects.equals(username, that.username)
+               && Objects.equals(authorities, that.authorities);
+    }
+
+    /**
+     * Calculates hash for source object
+     *
+     * @return {@code int} hashcode integer value
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(username, authorities, expiration);
+    }
+}
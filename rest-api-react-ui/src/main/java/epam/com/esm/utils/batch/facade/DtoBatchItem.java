@@ -0,0 +1,158 @@
+package epam.com.esm.utils.batch.facade;
+
+import epam.com.esm.view.dto.response.impl.action.OrderDtoResponse;
+import org.springframework.hateoas.RepresentationModel;
+
+import java.util.Objects;
+
+/**
+ * DtoBatchItem is the data class, serves as container for single order of batch operation,
+ * represents DTO result of order processing
+ */
+public class DtoBatchItem extends RepresentationModel<DtoBatchItem> {
+
+    /**
+     * Holds status of created item
+     */
+    public static final String CREATED = "CREATED";
+
+    /**
+     * Holds status of rejected item
+     */
+    public static final String REJECTED = "REJECTED";
+
+    /**
+     * Holds position of item in requested batch
+     */
+    private int index;
+
+    /**
+     * Holds item status value
+     */
+    private String status;
+
+    /**
+     * Holds created order dto response
+     */
+    private OrderDtoResponse order;
+
+    /**
+     * Holds rejection reason
+     */
+    private String message;
+
+    /**
+     * Constructs batch item with provided index, status, created order dto response and rejection reason
+     *
+     * @param index provided position of item in requested batch
+     * @param status provided item status
+     * @param order provided created order dto response
+     * @param message provided rejection reason
+     */
+    public DtoBatchItem(int index, String status, OrderDtoResponse order, String message) {
+        this.index = index;
+        this.status = status;
+        this.order = order;
+        this.message = message;
+    }
+
+    /**
+     * Gets value from index field
+     *
+     * @return {@code int} index value
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Sets new value to index field
+     *
+     * @param index value for setting
+     */
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    /**
+     * Gets value from status field
+     *
+     * @return {@code String} status value
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * Sets new value to status field
+     *
+     * @param status value for setting
+     */
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    /**
+     * Gets order dto response
+     *
+     * @return {@code OrderDtoResponse} order dto response
+     */
+    public OrderDtoResponse getOrder() {
+        return order;
+    }
+
+    /**
+     * Sets new order dto response
+     *
+     * @param order for setting
+     */
+    public void setOrder(OrderDtoResponse order) {
+        this.order = order;
+    }
+
+    /**
+     * Gets value from message field
+     *
+     * @return {@code String} message value
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Sets new value to message field
+     *
+     * @param message value for setting
+     */
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    /**
+     * Compares source object and target object for equality
+     *
+     * @param o target object
+     * @return {@code true} if objects are equal
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        DtoBatchItem that = (DtoBatchItem) o;
+        return index == that.index
+               && Objects.equals(status, that.status)
+               && Objects.equals(order, that.order)
+               && Objects.equals(message, that.message);
+    }
+
+    /**
+     * Calculates hash for source object
+     *
+     * @return {@code int} hashcode integer value
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), index, status, order, message);
+    }
+}
@@ -0,0 +1,147 @@
+package epam.com.esm.utils.batch.service;
+
+import epam.com.esm.persistence.entity.impl.action.Order;
+
+import java.util.Objects;
+
+/**
+ * ObjectBatchItem is the data class, serves as container for single order of batch operation,
+ * represents POJO result of order processing
+ */
+public class ObjectBatchItem {
+
+    /**
+     * Holds position of item in requested batch
+     */
+    private int index;
+
+    /**
+     * Holds order, null if item was rejected on verification
+     */
+    private Order order;
+
+    /**
+     * Holds rejection reason, null if item wasn't rejected
+     */
+    private String message;
+
+    /**
+     * Constructs batch item with provided index and order
+     *
+     * @param index provided position of item in requested batch
+     * @param order provided order
+     */
+    public ObjectBatchItem(int index, Order order) {
+        this.index = index;
+        this.order = order;
+    }
+
+    /**
+     * Constructs rejected batch item with provided index and rejection reason
+     *
+     * @param index provided position of item in requested batch
+     * @param message provided rejection reason
+     */
+    public ObjectBatchItem(int index, String message) {
+        this.index = index;
+        this.message = message;
+    }
+
+    /**
+     * Rejects item with provided reason
+     *
+     * @param message provided rejection reason
+     */
+    public void reject(String message) {
+        this.message = message;
+    }
+
+    /**
+     * Checks if item was rejected
+     *
+     * @return {@code true} if item was rejected
+     */
+    public boolean isRejected() {
+        return message != null;
+    }
+
+    /**
+     * Gets value from index field
+     *
+     * @return {@code int} index value
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Sets new value to index field
+     *
+     * @param index value for setting
+     */
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    /**
+     * Gets order
+     *
+     * @return {@code Order} order
+     */
+    public Order getOrder() {
+        return order;
+    }
+
+    /**
+     * Sets new order
+     *
+     * @param order for setting
+     */
+    public void setOrder(Order order) {
+        this.order = order;
+    }
+
+    /**
+     * Gets value from message field
+     *
+     * @return {@code String} message value
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Sets new value to message field
+     *
+     * @param message value for setting
+     */
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    /**
+     * Compares source object and target object for equality
+     *
+     * @param o target object
+     * @return {@code true} if objects are equal
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ObjectBatchItem that = (ObjectBatchItem) o;
+        return index == that.index
+               && Objects.equals(order, that.order)
+               && Objects.equals(message, that.message);
+    }
+
+    /**
+     * Calculates hash for source object
+     *
+     * @return {@code int} hashcode integer value
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, order, message);
+    }
+}
@@ -1,5 +1,7 @@
 package epam.com.esm.utils.converters.dto.action;
 
+import epam.com.esm.config.metrics.LatencyMetrics;
+import epam.com.esm.config.metrics.type.Layer;
 import epam.com.esm.persistence.entity.impl.action.Order;
 import epam.com.esm.view.dto.response.impl.action.OrderDtoResponse;
 import epam.com.esm.view.dto.response.impl.products.GiftCertificateDtoResponse;
@@ -12,6 +14,11 @@ import java.util.stream.Collectors;
  */
 public final class OrderDtoConverter {
 
+    /**
+     * Holds operation name of latency metrics
+     */
+    private static final String OPERATION = "OrderDtoConverter.toDto";
+
     /**
      * Default constructor
      */
@@ -26,13 +33,19 @@ public final class OrderDtoConverter {
      * @return {@code OrderDtoResponse} converted order dto response
      */
     public static OrderDtoResponse toDto(Order o, boolean full) {
-        OrderDtoResponse dtoResp = new OrderDtoResponse(o);
+        long started = System.nanoTime();
 
-        if (full) {
-            collectionToDto(o, dtoResp);
-        }
+        try {
+            OrderDtoResponse dtoResp = new OrderDtoResponse(o);
+
+            if (full) {
+                collectionToDto(o, dtoResp);
+            }
 
-        return dtoResp;
+            return dtoResp;
+        } finally {
+            LatencyMetrics.record(Layer.CONVERSION, OPERATION, started);
+        }
     }
 
     /**
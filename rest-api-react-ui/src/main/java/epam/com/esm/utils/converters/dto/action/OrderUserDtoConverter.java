@@ -1,5 +1,7 @@
 package epam.com.esm.utils.converters.dto.action;
 
+import epam.com.esm.config.metrics.LatencyMetrics;
+import epam.com.esm.config.metrics.type.Layer;
 import epam.com.esm.exception.types.NotFoundException;
 import epam.com.esm.persistence.entity.impl.action.Order;
 import epam.com.esm.view.dto.response.impl.action.OrderDtoResponse;
@@ -16,6 +18,11 @@ import java.util.stream.Collectors;
  */
 public final class OrderUserDtoConverter {
 
+    /**
+     * Holds operation name of latency metrics
+     */
+    private static final String OPERATION = "OrderUserDtoConverter.toDto";
+
     /**
      * Default constructor
      */
@@ -30,15 +37,21 @@ public final class OrderUserDtoConverter {
      * @return {@code OrderUserDtoResponse} converted order user dto response
      */
     public static OrderUserDtoResponse toDto(Order o, boolean full) {
-        OrderUserDtoResponse dtoResp = new OrderUserDtoResponse(o);
-        dtoResp.setPurchaseDate(o.getPurchaseDate());
+        long started = System.nanoTime();
 
-        if (full) {
-            dtoResp.setUser(userToReducedDto(o));
-            collectionToDto(o, dtoResp);
-        }
+        try {
+            OrderUserDtoResponse dtoResp = new OrderUserDtoResponse(o);
+            dtoResp.setPurchaseDate(o.getPurchaseDate());
+
+            if (full) {
+                dtoResp.setUser(userToReducedDto(o));
+                collectionToDto(o, dtoResp);
+            }
 
-        return dtoResp;
+            return dtoResp;
+        } finally {
+            LatencyMetrics.record(Layer.CONVERSION, OPERATION, started);
+        }
     }
 
     /**
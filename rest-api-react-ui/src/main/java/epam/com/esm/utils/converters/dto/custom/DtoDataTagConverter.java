@@ -1,5 +1,7 @@
 package epam.com.esm.utils.converters.dto.custom;
 
+import epam.com.esm.config.metrics.LatencyMetrics;
+import epam.com.esm.config.metrics.type.Layer;
 import epam.com.esm.utils.statistics.facade.DtoDataTag;
 import epam.com.esm.utils.statistics.service.ObjectDataTag;
 import epam.com.esm.view.dto.response.impl.products.TagDtoResponse;
@@ -9,6 +11,11 @@ import epam.com.esm.view.dto.response.impl.products.TagDtoResponse;
  */
 public final class DtoDataTagConverter {
 
+    /**
+     * Holds operation name of latency metrics
+     */
+    private static final String OPERATION = "DtoDataTagConverter.toDto";
+
     /**
      * Default constructor
      */
@@ -21,6 +28,12 @@ public final class DtoDataTagConverter {
      * @return {@code DtoDataTag} converted dto data tag
      */
     public static DtoDataTag toDto(ObjectDataTag o) {
-        return new DtoDataTag(new TagDtoResponse(o.getTag()), o.getCost(), o.getCount());
+        long started = System.nanoTime();
+
+        try {
+            return new DtoDataTag(new TagDtoResponse(o.getTag()), o.getCost(), o.getCount());
+        } finally {
+            LatencyMetrics.record(Layer.CONVERSION, OPERATION, started);
+        }
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package epam.com.esm.utils.converters.dto.products;
 
+import epam.com.esm.config.metrics.LatencyMetrics;
+import epam.com.esm.config.metrics.type.Layer;
 import epam.com.esm.persistence.entity.impl.products.Tag;
 import epam.com.esm.view.dto.response.impl.products.GiftCertificateDtoResponse;
 import epam.com.esm.view.dto.response.impl.products.TagDtoResponse;
@@ -12,6 +14,11 @@ import java.util.stream.Collectors;
  */
 public final class TagDtoConverter {
 
+    /**
+     * Holds operation name of latency metrics
+     */
+    private static final String OPERATION = "TagDtoConverter.toDto";
+
     /**
      * Default constructor
      */
@@ -26,13 +33,19 @@ public final class TagDtoConverter {
      * @return {@code TagDtoResponse} converted tag dto response
      */
     public static TagDtoResponse toDto(Tag t, boolean full) {
-        TagDtoResponse dtoResp = new TagDtoResponse(t);
+        long started = System.nanoTime();
 
-        if (full) {
-            collectionToDto(t, dtoResp);
-        }
+        try {
+            TagDtoResponse dtoResp = new TagDtoResponse(t);
+
+            if (full) {
+                collectionToDto(t, dtoResp);
+            }
 
-        return dtoResp;
+            return dtoResp;
+        } finally {
+            LatencyMetrics.record(Layer.CONVERSION, OPERATION, started);
+        }
     }
 
     /**
@@ -1,5 +1,7 @@
 package epam.com.esm.utils.converters.dto.user;
 
+import epam.com.esm.config.metrics.LatencyMetrics;
+import epam.com.esm.config.metrics.type.Layer;
 import epam.com.esm.persistence.entity.impl.user.User;
 import epam.com.esm.view.dto.response.impl.action.OrderDtoResponse;
 import epam.com.esm.view.dto.response.impl.user.UserDtoResponse;
@@ -12,6 +14,11 @@ import java.util.stream.Collectors;
  */
 public final class UserDtoConverter {
 
+    /**
+     * Holds operation name of latency metrics
+     */
+    private static final String OPERATION = "UserDtoConverter.toDto";
+
     /**
      * Default constructor
      */
@@ -26,13 +33,19 @@ public final class UserDtoConverter {
      * @return {@code UserDtoResponse} converted user dto response
      */
     public static UserDtoResponse toDto(User u, boolean full) {
-        UserDtoResponse dtoResp = new UserDtoResponse(u);
+        long started = System.nanoTime();
 
-        if (full) {
-            collectionToDto(u, dtoResp);
-        }
+        try {
+            UserDtoResponse dtoResp = new UserDtoResponse(u);
+
+            if (full) {
+                collectionToDto(u, dtoResp);
+            }
 
-        return dtoResp;
+            return dtoResp;
+        } finally {
+            LatencyMetrics.record(Layer.CONVERSION, OPERATION, started);
+        }
     }
 
     /**
@@ -0,0 +1,152 @@
+package epam.com.esm.utils.dashboard.service;
+
+import epam.com.esm.persistence.entity.impl.action.Order;
+import epam.com.esm.persistence.entity.impl.products.Tag;
+import epam.com.esm.persistence.entity.impl.purchase.PurchaseData;
+import epam.com.esm.utils.search.transport.response.SearchParamResponse;
+import epam.com.esm.utils.statistics.service.ObjectDataTag;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * ObjectUserDashboard is the data class, serves as container for first pages of user's orders, purchase data, tags
+ * and tags by popularity, represents POJO result of dashboard search
+ */
+public class ObjectUserDashboard {
+
+    /**
+     * Holds found orders with search params
+     */
+    private SearchParamResponse<Order> orders;
+
+    /**
+     * Holds found purchase data with search params
+     */
+    private SearchParamResponse<PurchaseData> purchases;
+
+    /**
+     * Holds found tags with search params
+     */
+    private SearchParamResponse<Tag> tags;
+
+    /**
+     * Holds found tags by popularity
+     */
+    private List<ObjectDataTag> popularTags;
+
+    /**
+     * Constructs user dashboard with provided orders, purchase data, tags and tags by popularity
+     *
+     * @param orders provided orders with search params
+     * @param purchases provided purchase data with search params
+     * @param tags provided tags with search params
+     * @param popularTags provided tags by popularity
+     */
+    public ObjectUserDashboard(SearchParamResponse<Order> orders, SearchParamResponse<PurchaseData> purchases,
+                               SearchParamResponse<Tag> tags, List<ObjectDataTag> popularTags) {
+        this.orders = orders;
+        this.purchases = purchases;
+        this.tags = tags;
+        this.popularTags = popularTags;
+    }
+
+    /**
+     * Gets found orders
+     *
+     * @return {@code SearchParamResponse<Order>} found orders with search params
+     */
+    public SearchParamResponse<Order> getOrders() {
+        return orders;
+    }
+
+    /**
+     * Sets new orders
+     *
+     * @param orders for setting
+     */
+    public void setOrders(SearchParamResponse<Order> orders) {
+        this.orders = orders;
+    }
+
+    /**
+     * Gets found purchase data
+     *
+     * @return {@code SearchParamResponse<PurchaseData>} found purchase data with search params
+     */
+    public SearchParamResponse<PurchaseData> getPurchases() {
+        return purchases;
+    }
+
+    /**
+     * Sets new purchase data
+     *
+     * @param purchases for setting
+     */
+    public void setPurchases(SearchParamResponse<PurchaseData> purchases) {
+        this.purchases = purchases;
+    }
+
+    /**
+     * Gets found tags
+     *
+     * @return {@code SearchParamResponse<Tag>} found tags with search params
+     */
+    public SearchParamResponse<Tag> getTags() {
+        return tags;
+    }
+
+    /**
+     * Sets new tags
+     *
+     * @param tags for setting
+     */
+    public void setTags(SearchParamResponse<Tag> tags) {
+        this.tags = tags;
+    }
+
+    /**
+     * Gets found tags by popularity
+     *
+     * @return {@code List<ObjectDataTag>} found tags by popularity
+     */
+    public List<ObjectDataTag> getPopularTags() {
+        return popularTags;
+    }
+
+    /**
+     * Sets new tags by popularity
+     *
+     * @param popularTags for setting
+     */
+    public void setPopularTags(List<ObjectDataTag> popularTags) {
+        this.popularTags = popularTags;
+    }
+
+    /**
+     * Compares source object and target object for equality
+     *
+     * @param o target object
+     * @return {@code true} if objects are equal
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ObjectUserDashboard that = (ObjectUserDashboard) o;
+        return Objects.equals(orders, that.orders)
+               && Objects.equals(purchases, that.purchases)
+               && Objects.equals(tags, that.tags)
+               && Objects.equals(popularTags, that.popularTags);
+    }
+
+    /**
+     * Calculates hash for source object
+     *
+     * @return {@code int} hashcode integer value
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(orders, purchases, tags, popularTags);
+    }
+}
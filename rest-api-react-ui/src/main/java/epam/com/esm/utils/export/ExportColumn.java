@@ -0,0 +1,51 @@
+package epam.com.esm.utils.export;
+
+import java.util.function.Function;
+
+/**
+ * ExportColumn is the data class, holds name of exported column and function which reads column value from entity
+ *
+ * @param <E> describes entity type
+ */
+public class ExportColumn<E> {
+
+    /**
+     * Holds column name
+     */
+    private final String name;
+
+    /**
+     * Holds value reader
+     */
+    private final Function<E, Object> reader;
+
+    /**
+     * Constructs ExportColumn with provided name and value reader
+     *
+     * @param name provided column name
+     * @param reader provided value reader
+     */
+    public ExportColumn(String name, Function<E, Object> reader) {
+        this.name = name;
+        this.reader = reader;
+    }
+
+    /**
+     * Gets value from name field
+     *
+     * @return {@code String} name value
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Reads column value from provided entity
+     *
+     * @param e provided entity
+     * @return {@code Object} column value, may be null
+     */
+    public Object read(E e) {
+        return reader.apply(e);
+    }
+}
@@ -0,0 +1,89 @@
+package epam.com.esm.utils.export;
+
+import epam.com.esm.exception.types.IncorrectUrlParameterException;
+import epam.com.esm.utils.export.writers.AbstractRowWriter;
+import epam.com.esm.utils.export.writers.CsvRowWriter;
+import epam.com.esm.utils.export.writers.NdjsonRowWriter;
+import org.springframework.http.MediaType;
+
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * ExportFormat is the enum, holds formats of streaming export
+ */
+public enum ExportFormat {
+
+    NDJSON("ndjson", new MediaType("application", "x-ndjson")),
+    CSV("csv", new MediaType("text", "csv"));
+
+    /**
+     * Holds format name, also used as file extension
+     */
+    private final String name;
+
+    /**
+     * Holds response media type
+     */
+    private final MediaType mediaType;
+
+    /**
+     * Constructs ExportFormat with provided name and media type
+     *
+     * @param name provided format name
+     * @param mediaType provided media type
+     */
+    ExportFormat(String name, MediaType mediaType) {
+        this.name = name;
+        this.mediaType = mediaType;
+    }
+
+    /**
+     * Finds format by provided name
+     * Will throw IncorrectUrlParameterException if format is unknown
+     *
+     * @param name provided format name
+     * @return {@code ExportFormat} found format
+     */
+    public static ExportFormat of(String name) {
+        for (ExportFormat f : values()) {
+            if (f.name.equalsIgnoreCase(name)) {
+                return f;
+            }
+        }
+
+        throw new IncorrectUrlParameterException("This export format is unknown. Format should be ndjson or csv, " +
+                                                 "got (format = " + name + ") instead.");
+    }
+
+    /**
+     * Opens row writer of format
+     *
+     * @param out provided output stream
+     * @param columns provided exported columns
+     * @param <E> describes entity type
+     * @return {@code AbstractRowWriter<E>} opened row writer
+     */
+    public <E> AbstractRowWriter<E> open(OutputStream out, List<ExportColumn<E>> columns) {
+        return this == CSV ? new CsvRowWriter<>(out, columns) : new NdjsonRowWriter<>(out, columns);
+    }
+
+    /**
+     * Generates attachment file name
+     *
+     * @param base provided file name without extension
+     * @return {@code String} file name
+     */
+    public String toFileName(String base) {
+        return base + "." + name;
+    }
+
+    /**
+     * Gets value from mediaType field
+     *
+     * @return {@code MediaType} mediaType value
+     */
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+}
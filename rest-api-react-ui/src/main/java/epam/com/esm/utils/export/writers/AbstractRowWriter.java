@@ -0,0 +1,70 @@
+package epam.com.esm.utils.export.writers;
+
+import epam.com.esm.exception.types.OperationFailedException;
+import epam.com.esm.utils.export.ExportColumn;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * AbstractRowWriter is the abstract class, serves as parent class to row writers of streaming export
+ * Writes each entity as a row of exported columns right after it's read, so rows aren't buffered
+ *
+ * @param <E> describes entity type
+ */
+public abstract class AbstractRowWriter<E> implements Closeable {
+
+    /**
+     * Holds date time format of exported values
+     */
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    /**
+     * Holds exported columns
+     */
+    protected final List<ExportColumn<E>> columns;
+
+    /**
+     * Constructs AbstractRowWriter with provided exported columns
+     *
+     * @param columns provided exported columns
+     */
+    protected AbstractRowWriter(List<ExportColumn<E>> columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * Writes provided entity as row
+     * Will throw OperationFailedException if row can't be written, e.g. client closed connection
+     *
+     * @param e provided entity
+     */
+    public void write(E e) {
+        try {
+            writeRow(e);
+        } catch (IOException ex) {
+            throw new OperationFailedException("Export failed: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Delegates contract for writing row of provided entity
+     *
+     * @param e provided entity
+     * @throws IOException if row can't be written
+     */
+    protected abstract void writeRow(E e) throws IOException;
+
+    /**
+     * Converts value to text, dates are written in ISO format
+     *
+     * @param value provided value
+     * @return {@code String} text value
+     */
+    protected static String toText(Object value) {
+        return value instanceof LocalDateTime ? DATE_TIME.format((LocalDateTime) value) : String.valueOf(value);
+    }
+}
@@ -0,0 +1,74 @@
+package epam.com.esm.utils.hateoas.builder.components;
+
+import epam.com.esm.utils.hateoas.templates.CompiledTemplate;
+
+import java.util.Objects;
+
+/**
+ * CompiledLink is the data class which holds compiled link of controller resource and its relation
+ */
+public class CompiledLink {
+
+    /**
+     * Holds compiled path, relative to context path
+     */
+    private final CompiledTemplate path;
+
+    /**
+     * Holds link relation
+     */
+    private final String rel;
+
+    /**
+     * Constructs CompiledLink with provided compiled path and relation
+     *
+     * @param path provided compiled path
+     * @param rel provided link relation
+     */
+    public CompiledLink(CompiledTemplate path, String rel) {
+        this.path = path;
+        this.rel = rel;
+    }
+
+    /**
+     * Gets compiled path
+     *
+     * @return {@code CompiledTemplate} compiled path
+     */
+    public CompiledTemplate getPath() {
+        return path;
+    }
+
+    /**
+     * Gets value from rel field
+     *
+     * @return {@code String} rel value
+     */
+    public String getRel() {
+        return rel;
+    }
+
+    /**
+     * Compares source object and target object for equality
+     *
+     * @param o target object
+     * @return {@code true} if objects are equal
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CompiledLink that = (CompiledLink) o;
+        return Objects.equals(path, that.path) && Objects.equals(rel, that.rel);
+    }
+
+    /**
+     * Calculates hash for source object
+     *
+     * @return {@code int} hashcode integer value
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(path, rel);
+    }
+}
@@ -0,0 +1,148 @@
+package epam.com.esm.utils.hateoas.templates;
+
+import epam.com.esm.utils.hateoas.templates.components.PlaceholderValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * CompiledTemplate is the class which holds template split to literal and placeholder segments
+ * <p>
+ * Template is split once on compilation, rendering appends segments to provided builder in single pass
+ * without intermediate strings
+ */
+public class CompiledTemplate {
+
+    /**
+     * Holds placeholder start character
+     */
+    private static final char PLACEHOLDER_START = '{';
+
+    /**
+     * Holds placeholder end character
+     */
+    private static final char PLACEHOLDER_END = '}';
+
+    /**
+     * Holds literal segments, literal at index i precedes placeholder at index i
+     */
+    private final String[] literals;
+
+    /**
+     * Holds placeholder segments
+     */
+    private final String[] placeholders;
+
+    /**
+     * Holds length of all literal segments
+     */
+    private final int length;
+
+    /**
+     * Constructs CompiledTemplate with provided literal and placeholder segments
+     *
+     * @param literals provided literal segments, one more than placeholders
+     * @param placeholders provided placeholder segments
+     */
+    private CompiledTemplate(String[] literals, String[] placeholders) {
+        this.literals = literals;
+        this.placeholders = placeholders;
+        this.length = Arrays.stream(literals).mapToInt(String::length).sum();
+    }
+
+    /**
+     * Compiles template, each {@code {name}} part of template becomes placeholder segment
+     *
+     * @param template requested template
+     * @return {@code CompiledTemplate} compiled template
+     */
+    public static CompiledTemplate compile(String template) {
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+        int from = 0;
+        int start = template.indexOf(PLACEHOLDER_START);
+
+        while (start >= 0) {
+            int end = template.indexOf(PLACEHOLDER_END, start);
+
+            if (end < 0) {
+                break;
+            }
+
+            literals.add(template.substring(from, start));
+            placeholders.add(template.substring(start, end + 1));
+            from = end + 1;
+            start = template.indexOf(PLACEHOLDER_START, from);
+        }
+
+        literals.add(template.substring(from));
+        return new CompiledTemplate(literals.toArray(new String[0]), placeholders.toArray(new String[0]));
+    }
+
+    /**
+     * Renders template to provided builder, placeholder without provided value is rendered as is
+     *
+     * @param sb provided string builder
+     * @param values provided placeholder-values
+     * @return {@code StringBuilder} provided string builder
+     */
+    public StringBuilder renderTo(StringBuilder sb, PlaceholderValue ... values) {
+        for (int i = 0; i < placeholders.length; i++) {
+            sb.append(literals[i]).append(valueOf(placeholders[i], values));
+        }
+
+        return sb.append(literals[placeholders.length]);
+    }
+
+    /**
+     * Gets length of template without placeholders, used for builder capacity estimation
+     *
+     * @return {@code int} length of literal segments
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Finds value for placeholder
+     *
+     * @param placeholder requested placeholder
+     * @param values provided placeholder-values
+     * @return {@code String} found value or placeholder itself if value wasn't provided
+     */
+    private static String valueOf(String placeholder, PlaceholderValue ... values) {
+        for (PlaceholderValue pv : values) {
+            if (pv.getPlaceholder().equals(placeholder)) {
+                return pv.getValue();
+            }
+        }
+
+        return placeholder;
+    }
+
+    /**
+     * Compares source object and target object for equality
+     *
+     * @param o target object
+     * @return {@code true} if objects are equal
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CompiledTemplate that = (CompiledTemplate) o;
+        return Arrays.equals(literals, that.literals) && Arrays.equals(placeholders, that.placeholders);
+    }
+
+    /**
+     * Calculates hash for source object
+     *
+     * @return {@code int} hashcode integer value
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(Arrays.hashCode(literals), Arrays.hashCode(placeholders));
+    }
+}
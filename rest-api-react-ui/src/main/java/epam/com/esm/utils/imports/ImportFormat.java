@@ -0,0 +1,63 @@
+package epam.com.esm.utils.imports;
+
+import epam.com.esm.exception.types.IncorrectUrlParameterException;
+import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
+import epam.com.esm.utils.imports.readers.AbstractRowReader;
+import epam.com.esm.utils.imports.readers.CsvRowReader;
+import epam.com.esm.utils.imports.readers.NdjsonRowReader;
+import epam.com.esm.view.dto.request.impl.products.GiftCertificateDtoRequest;
+
+import java.io.InputStream;
+import java.util.function.Function;
+
+/**
+ * ImportFormat is the enum, holds formats of catalog import
+ */
+public enum ImportFormat {
+
+    NDJSON("ndjson"),
+    CSV("csv");
+
+    /**
+     * Holds format name
+     */
+    private final String name;
+
+    /**
+     * Constructs ImportFormat with provided name
+     *
+     * @param name provided format name
+     */
+    ImportFormat(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Finds format by provided name
+     * Will throw IncorrectUrlParameterException if format is unknown
+     *
+     * @param name provided format name
+     * @return {@code ImportFormat} found format
+     */
+    public static ImportFormat of(String name) {
+        for (ImportFormat f : values()) {
+            if (f.name.equalsIgnoreCase(name)) {
+                return f;
+            }
+        }
+
+        throw new IncorrectUrlParameterException("This import format is unknown. Format should be ndjson or csv, " +
+                                                 "got (format = " + name + ") instead.");
+    }
+
+    /**
+     * Opens row reader of format
+     *
+     * @param in provided input stream of imported file, UTF-8 encoded
+     * @param verifier provided verifier, converts gift certificate dto request to gift certificate
+     * @return {@code AbstractRowReader} opened row reader
+     */
+    public AbstractRowReader open(InputStream in, Function<GiftCertificateDtoRequest, GiftCertificate> verifier) {
+        return this == CSV ? new CsvRowReader(in, verifier) : new NdjsonRowReader(in, verifier);
+    }
+}
@@ -0,0 +1,121 @@
+package epam.com.esm.utils.imports;
+
+import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
+
+import java.util.Objects;
+
+/**
+ * ImportLine is the data class, serves as container for single gift certificate of catalog import,
+ * represents result of line processing
+ */
+public class ImportLine {
+
+    /**
+     * Holds number of line in imported file
+     */
+    private final long line;
+
+    /**
+     * Holds verified gift certificate
+     */
+    private final GiftCertificate giftCertificate;
+
+    /**
+     * Holds rejection reason
+     */
+    private String message;
+
+    /**
+     * Constructs accepted import line with provided line number and verified gift certificate
+     *
+     * @param line provided line number
+     * @param giftCertificate provided verified gift certificate
+     */
+    public ImportLine(long line, GiftCertificate giftCertificate) {
+        this.line = line;
+        this.giftCertificate = giftCertificate;
+    }
+
+    /**
+     * Constructs rejected import line with provided line number and rejection reason
+     *
+     * @param line provided line number
+     * @param message provided rejection reason
+     */
+    public ImportLine(long line, String message) {
+        this.line = line;
+        this.giftCertificate = null;
+        this.message = message;
+    }
+
+    /**
+     * Rejects line with provided reason
+     *
+     * @param message provided rejection reason
+     */
+    public void reject(String message) {
+        this.message = message;
+    }
+
+    /**
+     * Checks if line was rejected
+     *
+     * @return {@code true} if line has rejection reason
+     */
+    public boolean isRejected() {
+        return message != null;
+    }
+
+    /**
+     * Gets value from line field
+     *
+     * @return {@code long} line value
+     */
+    public long getLine() {
+        return line;
+    }
+
+    /**
+     * Gets value from giftCertificate field
+     *
+     * @return {@code GiftCertificate} giftCertificate value
+     */
+    public GiftCertificate getGiftCertificate() {
+        return giftCertificate;
+    }
+
+    /**
+     * Gets value from message field
+     *
+     * @return {@code String} message value
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Checks if this import line equals to provided object
+     *
+     * @param o provided object
+     * @return {@code true} if objects are equal
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ImportLine that = (ImportLine) o;
+        return line == that.line
+               && Objects.equals(giftCertificate, that.giftCertificate)
+               && Objects.equals(message, that.message);
+    }
+
+    /**
+     * Generates hash code of import line
+     *
+     * @return {@code int} hash code
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(line, giftCertificate, message);
+    }
+}
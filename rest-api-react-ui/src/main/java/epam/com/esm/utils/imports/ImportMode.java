@@ -0,0 +1,51 @@
+package epam.com.esm.utils.imports;
+
+import epam.com.esm.exception.types.IncorrectUrlParameterException;
+
+/**
+ * ImportMode is the enum, holds transaction modes of catalog import
+ */
+public enum ImportMode {
+
+    /**
+     * Each chunk is imported in own transaction, rejected lines are skipped and valid lines are imported
+     */
+    CHUNK("chunk"),
+
+    /**
+     * Whole import is done in single transaction, nothing is imported if any line is rejected
+     */
+    ALL("all");
+
+    /**
+     * Holds mode name
+     */
+    private final String name;
+
+    /**
+     * Constructs ImportMode with provided name
+     *
+     * @param name provided mode name
+     */
+    ImportMode(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Finds mode by provided name
+     * Will throw IncorrectUrlParameterException if mode is unknown
+     *
+     * @param name provided mode name
+     * @return {@code ImportMode} found mode
+     */
+    public static ImportMode of(String name) {
+        for (ImportMode m : values()) {
+            if (m.name.equalsIgnoreCase(name)) {
+                return m;
+            }
+        }
+
+        throw new IncorrectUrlParameterException("This import mode is unknown. Mode should be chunk or all, " +
+                                                 "got (mode = " + name + ") instead.");
+    }
+}
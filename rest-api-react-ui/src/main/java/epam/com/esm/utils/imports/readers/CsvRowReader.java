@@ -0,0 +1,256 @@
+package epam.com.esm.utils.imports.readers;
+
+import epam.com.esm.exception.types.InputException;
+import epam.com.esm.exception.types.OperationFailedException;
+import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
+import epam.com.esm.view.dto.request.impl.products.GiftCertificateDtoRequest;
+import epam.com.esm.view.dto.request.impl.products.TagDtoRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * CsvRowReader is the row reader class, reads rows of RFC 4180 CSV file with header row
+ * <p>
+ * Header names columns, name, description, price and duration columns are required, create, update and tags columns
+ * are optional. Tags column holds tag names separated by semicolons. Quoted values may contain line breaks, so row
+ * may span several lines
+ */
+public class CsvRowReader extends AbstractRowReader {
+
+    /**
+     * Holds required columns
+     */
+    private static final List<String> REQUIRED = Arrays.asList("name", "description", "price", "duration");
+
+    /**
+     * Holds optional columns
+     */
+    private static final List<String> OPTIONAL = Arrays.asList("create", "update", "tags");
+
+    /**
+     * Holds separator of tag names
+     */
+    private static final String TAG_SEPARATOR = ";";
+
+    /**
+     * Holds positions of columns by column names
+     */
+    private final Map<String, Integer> columns;
+
+    /**
+     * Constructs CsvRowReader with provided input stream and verifier, reads header row
+     * Will throw InputException if header is absent or doesn't contain required columns and OperationFailedException
+     * if header can't be read
+     *
+     * @param in provided input stream of imported file, UTF-8 encoded
+     * @param verifier provided verifier, converts gift certificate dto request to gift certificate
+     */
+    public CsvRowReader(InputStream in, Function<GiftCertificateDtoRequest, GiftCertificate> verifier) {
+        super(in, verifier);
+
+        try {
+            this.columns = toColumns(readRecord());
+        } catch (IOException e) {
+            throw new OperationFailedException("Import failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reads next row as gift certificate dto request
+     * Will throw InputException if row can't be parsed
+     *
+     * @return {@code GiftCertificateDtoRequest} read row, null if end of file was reached
+     * @throws IOException if file can't be read
+     */
+    @Override
+    protected GiftCertificateDtoRequest readRow() throws IOException {
+        List<String> values = readRecord();
+
+        if (values == null) {
+            return null;
+        }
+
+        if (values.size() != columns.size()) {
+            throw new InputException("Line has " + values.size() + " values, header has " + columns.size());
+        }
+
+        GiftCertificateDtoRequest dto = new GiftCertificateDtoRequest();
+        dto.setName(value(values, "name"));
+        dto.setDescription(value(values, "description"));
+        dto.setPrice(toPrice(value(values, "price")));
+        dto.setDuration(toDuration(value(values, "duration")));
+        dto.setCreate(value(values, "create"));
+        dto.setUpdate(value(values, "update"));
+        dto.setTags(toTags(value(values, "tags")));
+        return dto;
+    }
+
+    /**
+     * Reads next non-blank record and splits it to values
+     * Will throw InputException if quoted value isn't closed before end of file
+     *
+     * @return {@code List<String>} record values, null if end of file was reached
+     * @throws IOException if file can't be read
+     */
+    private List<String> readRecord() throws IOException {
+        String l;
+
+        do {
+            l = readLine(true);
+        } while (l != null && l.isEmpty());
+
+        if (l == null) {
+            return null;
+        }
+
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+
+        while (true) {
+            if (i == l.length()) {
+                if (!quoted) {
+                    values.add(value.toString());
+                    return values;
+                }
+
+                l = readLine(false);
+
+                if (l == null) {
+                    throw new InputException("Quoted value isn't closed");
+                }
+
+                value.append('\n');
+                i = 0;
+                continue;
+            }
+
+            char c = l.charAt(i++);
+
+            if (quoted) {
+                if (c != '"') {
+                    value.append(c);
+                } else if (i < l.length() && l.charAt(i) == '"') {
+                    value.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"' && value.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+    }
+
+    /**
+     * Maps header names to column positions
+     * Will throw InputException if header is absent, contains unknown column or doesn't contain required column
+     *
+     * @param header provided header values
+     * @return {@code Map<String, Integer>} positions of columns by column names
+     */
+    private static Map<String, Integer> toColumns(List<String> header) {
+        if (header == null) {
+            throw new InputException("CSV header is absent");
+        }
+
+        Map<String, Integer> positions = new HashMap<>();
+
+        for (int i = 0; i < header.size(); i++) {
+            String column = header.get(i).trim().toLowerCase(Locale.ROOT);
+
+            if (!REQUIRED.contains(column) && !OPTIONAL.contains(column)) {
+                throw new InputException("CSV header contains unknown column (column = " + column + ")");
+            }
+
+            positions.put(column, i);
+        }
+
+        if (!positions.keySet().containsAll(REQUIRED)) {
+            throw new InputException("CSV header should contain columns " + REQUIRED);
+        }
+
+        return positions;
+    }
+
+    /**
+     * Gets value of column
+     *
+     * @param values provided record values
+     * @param column provided column name
+     * @return {@code String} column value, null if column is absent or value is empty
+     */
+    private String value(List<String> values, String column) {
+        Integer position = columns.get(column);
+        return position == null || values.get(position).isEmpty() ? null : values.get(position);
+    }
+
+    /**
+     * Converts price value
+     * Will throw InputException if value isn't number
+     *
+     * @param value provided price value, may be null
+     * @return {@code BigDecimal} price, null if value is null
+     */
+    private static BigDecimal toPrice(String value) {
+        try {
+            return value == null ? null : new BigDecimal(value.trim());
+        } catch (NumberFormatException e) {
+            throw new InputException("Price isn't number (price = " + value + ")");
+        }
+    }
+
+    /**
+     * Converts duration value
+     * Will throw InputException if value isn't integer
+     *
+     * @param value provided duration value, may be null
+     * @return {@code Integer} duration, null if value is null
+     */
+    private static Integer toDuration(String value) {
+        try {
+            return value == null ? null : Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new InputException("Duration isn't integer (duration = " + value + ")");
+        }
+    }
+
+    /**
+     * Converts tags value to tag dto requests
+     *
+     * @param value provided tag names separated by semicolons, may be null
+     * @return {@code List<TagDtoRequest>} tag dto requests, null if value has no tag names
+     */
+    private static List<TagDtoRequest> toTags(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        List<TagDtoRequest> tags = new ArrayList<>();
+
+        for (String name : value.split(TAG_SEPARATOR)) {
+            if (!name.trim().isEmpty()) {
+                TagDtoRequest tag = new TagDtoRequest();
+                tag.setName(name.trim());
+                tags.add(tag);
+            }
+        }
+
+        return tags.isEmpty() ? null : tags;
+    }
+}
@@ -3,6 +3,7 @@ package epam.com.esm.utils.search.data.impl.purchase;
 import epam.com.esm.persistence.entity.impl.purchase.PurchaseData;
 import epam.com.esm.utils.search.data.AbstractDataHandler;
 import epam.com.esm.utils.search.data.components.DefaultLoader;
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
 import epam.com.esm.utils.search.filter.handlers.WebRequestHandler;
 import epam.com.esm.utils.search.request.handlers.ResponseHandler;
 import epam.com.esm.utils.search.transport.request.PageDataRequest;
@@ -20,6 +21,15 @@ import java.util.stream.Collectors;
  */
 public class PurchaseDataHandler extends AbstractDataHandler<PurchaseData, PurchaseDataDtoResponse> {
 
+    /**
+     * Constructor with filter metadata registry
+     *
+     * @param registry provided filter metadata registry
+     */
+    public PurchaseDataHandler(FilterMetadataRegistry registry) {
+        super(registry);
+    }
+
     /**
      * Converts web request to search param request, transfers params between them
      *
@@ -30,7 +40,7 @@ public class PurchaseDataHandler extends AbstractDataHandler<PurchaseData, Purch
     public SearchParamRequest processSearch(WebRequest webRequest) {
         PageDataRequest dataRequest = new PageDataRequest(webRequest);
         DefaultLoader dl = new DefaultLoader("pd.id", "asc", 1, 10, false);
-        return WebRequestHandler.convertToParamRequest(dataRequest, PurchaseData.class, dl);
+        return WebRequestHandler.convertToParamRequest(dataRequest, registry, PurchaseData.class, dl);
     }
 
     /**
@@ -0,0 +1,86 @@
+package epam.com.esm.utils.search.filter.handlers;
+
+import epam.com.esm.exception.types.BuildException;
+import epam.com.esm.persistence.entity.BaseEntity;
+import epam.com.esm.utils.search.filter.annotations.FilterPrefix;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * FilterMetadataRegistry is the service class, holds filter metadata of all filterable entities
+ * Metadata is scanned once at application startup, so search handlers don't use reflection per request
+ * and inconsistent filter annotations fail application startup
+ */
+@Component
+public class FilterMetadataRegistry {
+
+    /**
+     * Holds package of scanned entities
+     */
+    private static final String ENTITY_PACKAGE = "epam.com.esm.persistence.entity";
+
+    /**
+     * Holds filter metadata of entities
+     */
+    private final Map<Class<?>, FilterAnnotationHandler> registry;
+
+    /**
+     * Default constructor
+     * Registry is a bean, so its metadata is built during context startup
+     */
+    @Autowired
+    public FilterMetadataRegistry() {
+        this.registry = scanEntities();
+    }
+
+    /**
+     * Gets filter metadata of provided class
+     *
+     * @param cls provided class
+     * @return {@code FilterAnnotationHandler} filter metadata of provided class
+     */
+    public FilterAnnotationHandler get(Class<?> cls) {
+        FilterAnnotationHandler fah = registry.get(cls);
+
+        if (fah == null) {
+            throw new BuildException("Filter metadata of class " + cls.getSimpleName() + " isn't registered");
+        }
+
+        return fah;
+    }
+
+    /**
+     * Scans entity package for filterable entities and builds their filter metadata
+     *
+     * @return {@code Map<Class<?>, FilterAnnotationHandler>} unmodifiable filter metadata map
+     */
+    private static Map<Class<?>, FilterAnnotationHandler> scanEntities() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AssignableTypeFilter(BaseEntity.class));
+        scanner.addIncludeFilter(new AnnotationTypeFilter(FilterPrefix.class));
+        Set<BeanDefinition> candidates = scanner.findCandidateComponents(ENTITY_PACKAGE);
+        Map<Class<?>, FilterAnnotationHandler> registry = new HashMap<>((int) (candidates.size() / 0.75f) + 1);
+
+        for (BeanDefinition bd : candidates) {
+            Class<?> cls = ClassUtils.resolveClassName(
+                    bd.getBeanClassName(), FilterMetadataRegistry.class.getClassLoader()
+            );
+
+            if (BaseEntity.class.isAssignableFrom(cls) && cls.isAnnotationPresent(FilterPrefix.class)) {
+                registry.put(cls, new FilterAnnotationHandler(cls));
+            }
+        }
+
+        return Collections.unmodifiableMap(registry);
+    }
+}
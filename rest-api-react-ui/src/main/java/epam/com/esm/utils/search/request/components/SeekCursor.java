@@ -0,0 +1,90 @@
+package epam.com.esm.utils.search.request.components;
+
+import java.util.Objects;
+
+/**
+ * SeekCursor is the data class, holds decoded cursor values required for keyset pagination
+ */
+public class SeekCursor {
+
+    /**
+     * Holds seek field value
+     */
+    private final String field;
+
+    /**
+     * Holds seek field value of boundary item
+     */
+    private final String value;
+
+    /**
+     * Holds id of boundary item
+     */
+    private final Long id;
+
+    /**
+     * Constructs seek cursor with provided field, value and id
+     *
+     * @param field provided seek field
+     * @param value provided seek field value of boundary item
+     * @param id provided id of boundary item
+     */
+    public SeekCursor(String field, String value, Long id) {
+        this.field = field;
+        this.value = value;
+        this.id = id;
+    }
+
+    /**
+     * Gets value from field field
+     *
+     * @return {@code String} field value
+     */
+    public String getField() {
+        return field;
+    }
+
+    /**
+     * Gets value from value field
+     *
+     * @return {@code String} value value
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Gets value from id field
+     *
+     * @return {@code Long} id value
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Compares source object and target object for equality
+     *
+     * @param o target object
+     * @return {@code true} if objects are equal
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SeekCursor that = (SeekCursor) o;
+        return Objects.equals(field, that.field)
+               && Objects.equals(value, that.value)
+               && Objects.equals(id, that.id);
+    }
+
+    /**
+     * Calculates hash for source object
+     *
+     * @return {@code int} hashcode integer value
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, value, id);
+    }
+}
@@ -0,0 +1,35 @@
+package epam.com.esm.utils.search.request.components.type;
+
+/**
+ * Enumeration for range comparison types, each type has its own search flag
+ */
+public enum Comparison {
+
+    /**
+     * Comparison type values
+     */
+    GT("gt"), GE("ge"), LT("lt"), LE("le"), BETWEEN("bw");
+
+    /**
+     * Holds search flag value
+     */
+    private final String flag;
+
+    /**
+     * Constructs comparison type with provided search flag
+     *
+     * @param flag provided search flag
+     */
+    Comparison(String flag) {
+        this.flag = flag;
+    }
+
+    /**
+     * Gets value from flag field
+     *
+     * @return {@code String} flag value
+     */
+    public String getFlag() {
+        return flag;
+    }
+}
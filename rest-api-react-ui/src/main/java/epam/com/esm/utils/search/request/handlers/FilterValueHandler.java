@@ -0,0 +1,135 @@
+package epam.com.esm.utils.search.request.handlers;
+
+import epam.com.esm.exception.types.IncorrectUrlParameterException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+/**
+ * FilterValueHandler is the util class, converts search param values to field types for typed comparison
+ * <p>
+ * Date time value is accepted as ISO8601 local date time with optional seconds and fraction, or as local date,
+ * which is treated as start of day. Between value holds lower and upper bounds divided by comma
+ */
+public final class FilterValueHandler {
+
+    /**
+     * Holds local date time formatter
+     */
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    /**
+     * Holds local date formatter
+     */
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ISO_LOCAL_DATE;
+
+    /**
+     * Holds between bounds divider
+     */
+    private static final String BOUNDS_DIVIDER = ",";
+
+    /**
+     * Default constructor
+     */
+    private FilterValueHandler() {}
+
+    /**
+     * Checks if field of provided type can be compared by range
+     *
+     * @param type provided field type
+     * @return {@code true} if range comparison is supported
+     */
+    public static boolean isRangeType(Class<?> type) {
+        return LocalDateTime.class.equals(type) || BigDecimal.class.equals(type)
+               || Integer.class.equals(type) || Long.class.equals(type);
+    }
+
+    /**
+     * Checks if values of field of provided type can be converted, so field can be compared without string cast
+     *
+     * @param type provided field type
+     * @return {@code true} if typed comparison is supported
+     */
+    public static boolean isTypedType(Class<?> type) {
+        return type != null && (String.class.equals(type) || type.isEnum() || isRangeType(type));
+    }
+
+    /**
+     * Converts search param value to provided field type
+     * Will throw IncorrectUrlParameterException if value can't be converted
+     *
+     * @param value provided search param value
+     * @param type provided field type
+     * @return {@code Comparable<?>} converted value
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Comparable<?> convert(String value, Class<?> type) {
+        try {
+            if (String.class.equals(type)) {
+                return value;
+            } else if (Long.class.equals(type)) {
+                return Long.parseLong(value.trim());
+            } else if (Integer.class.equals(type)) {
+                return Integer.parseInt(value.trim());
+            } else if (BigDecimal.class.equals(type)) {
+                return new BigDecimal(value.trim());
+            } else if (LocalDateTime.class.equals(type)) {
+                return toDateTime(value.trim());
+            } else if (type != null && type.isEnum()) {
+                return Enum.valueOf((Class<Enum>) type, value.trim().toUpperCase(Locale.ROOT));
+            }
+        } catch (IllegalArgumentException e) {
+            throw new IncorrectUrlParameterException(
+                    "This value has incorrect format. Parameter should be " + type.getSimpleName() +
+                    ", got (value = " + value + ") instead."
+            );
+        }
+
+        throw new IncorrectUrlParameterException(
+                "Typed search isn't supported for this field (value = " + value + ")."
+        );
+    }
+
+    /**
+     * Converts between search param value to lower and upper bounds of provided field type
+     * Will throw IncorrectUrlParameterException if value doesn't hold two bounds or bounds can't be converted
+     *
+     * @param value provided search param value
+     * @param type provided field type
+     * @return {@code Comparable<?>[]} converted lower and upper bounds
+     */
+    public static Comparable<?>[] convertBounds(String value, Class<?> type) {
+        String[] bounds = value.split(BOUNDS_DIVIDER, -1);
+
+        if (bounds.length != 2) {
+            throw new IncorrectUrlParameterException(
+                    "This range has incorrect format. Parameter should be two values divided by comma, got (range = " +
+                    value + ") instead."
+            );
+        }
+
+        return new Comparable<?>[]{convert(bounds[0], type), convert(bounds[1], type)};
+    }
+
+    /**
+     * Converts search param value to local date time
+     *
+     * @param value provided search param value
+     * @return {@code LocalDateTime} converted value
+     */
+    private static LocalDateTime toDateTime(String value) {
+        try {
+            return value.indexOf('T') > 0 ? LocalDateTime.parse(value, DATE_TIME)
+                                          : LocalDate.parse(value, DATE).atStartOfDay();
+        } catch (DateTimeParseException e) {
+            throw new IncorrectUrlParameterException(
+                    "This date has incorrect format. Parameter should be ISO8601 date or date time, got (date = " +
+                    value + ") instead."
+            );
+        }
+    }
+}
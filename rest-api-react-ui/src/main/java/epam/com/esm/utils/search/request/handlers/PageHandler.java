@@ -0,0 +1,48 @@
+package epam.com.esm.utils.search.request.handlers;
+
+import epam.com.esm.persistence.entity.BaseEntity;
+import epam.com.esm.persistence.repository.BaseRepository;
+import epam.com.esm.utils.search.transport.request.SearchParamRequest;
+import epam.com.esm.utils.search.transport.response.SearchParamResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import static epam.com.esm.utils.search.request.handlers.CursorHandler.toPageRequest;
+import static epam.com.esm.utils.search.request.handlers.ResponseHandler.initResponse;
+
+/**
+ * PageHandler is the util class, provides method for finding page of entities by search param request
+ * In offset mode page is found with total count of items, in cursor mode slice is found without count, because
+ * seeking doesn't need total pages
+ */
+public final class PageHandler {
+
+    /**
+     * Default constructor
+     */
+    private PageHandler() {}
+
+    /**
+     * Finds page of entities by provided specification and generates search param response
+     *
+     * @param rep provided repository
+     * @param spec provided specification
+     * @param spReq provided search param request
+     * @return {@code SearchParamResponse<E>} generated search param response
+     * @param <E> describes class of found entities
+     */
+    public static <E extends BaseEntity> SearchParamResponse<E> findPage(BaseRepository<E> rep, Specification<E> spec,
+                                                                         SearchParamRequest spReq) {
+        PageRequest pageRequest = toPageRequest(spReq);
+
+        if (spReq.isCursor()) {
+            Slice<E> slice = rep.findSlice(spec, pageRequest);
+            return initResponse(spReq, slice.getContent(), slice.hasNext());
+        }
+
+        Page<E> page = rep.findAll(spec, pageRequest);
+        return initResponse(spReq, page.getTotalElements(), page.getContent());
+    }
+}
@@ -0,0 +1,63 @@
+package epam.com.esm.utils.search.request.handlers;
+
+import epam.com.esm.exception.types.IncorrectUrlParameterException;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * TextQueryHandler is the util class, converts text search values to full-text boolean mode queries
+ * <p>
+ * Value is split into words by any non letter and non digit character, every word becomes required prefix term
+ * ({@code +word*}), so query operators of user input are never passed to database and short words aren't dropped
+ * by full-text min token size
+ */
+public final class TextQueryHandler {
+
+    /**
+     * Holds word separator pattern
+     */
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    /**
+     * Holds max number of words in query
+     */
+    private static final int MAX_WORDS = 16;
+
+    /**
+     * Default constructor
+     */
+    private TextQueryHandler() {}
+
+    /**
+     * Converts text search value to boolean mode query
+     * Will throw IncorrectUrlParameterException if value doesn't contain words or contains too many words
+     *
+     * @param value provided text search value
+     * @return {@code String} boolean mode query
+     */
+    public static String toBooleanQuery(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 16);
+        int words = 0;
+
+        for (String word : SEPARATOR.split(value.toLowerCase(Locale.ROOT))) {
+            if (!word.isEmpty()) {
+                if (++words > MAX_WORDS) {
+                    throw new IncorrectUrlParameterException(
+                            "Text search value contains more than " + MAX_WORDS + " words (text = " + value + ")."
+                    );
+                }
+
+                sb.append(sb.length() == 0 ? "" : " ").append('+').append(word).append('*');
+            }
+        }
+
+        if (words == 0) {
+            throw new IncorrectUrlParameterException(
+                    "Text search value doesn't contain any words (text = " + value + ")."
+            );
+        }
+
+        return sb.toString();
+    }
+}
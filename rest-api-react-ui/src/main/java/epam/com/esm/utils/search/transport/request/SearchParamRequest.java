@@ -1,5 +1,9 @@
 package epam.com.esm.utils.search.transport.request;
 
+import epam.com.esm.utils.search.request.components.type.Comparison;
+import epam.com.esm.utils.search.request.components.type.Joining;
+
+import java.util.EnumMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -25,6 +29,27 @@ public class SearchParamRequest {
      */
     private boolean fold;
 
+    /**
+     * Holds cursor mode value
+     * If cursor mode is on - page is used only as label, items are fetched by seeking from after/before cursor
+     */
+    private boolean cursor;
+
+    /**
+     * Holds after cursor value
+     */
+    private String after;
+
+    /**
+     * Holds before cursor value
+     */
+    private String before;
+
+    /**
+     * Holds seek field value, name of root field used as cursor sort key
+     */
+    private String seekField;
+
     /**
      * Holds fullParams
      */
@@ -35,18 +60,37 @@ public class SearchParamRequest {
      */
     private Map<String, List<String>> partParams;
 
+    /**
+     * Holds textParams
+     */
+    private Map<String, List<String>> textParams;
+
+    /**
+     * Holds rangeParams by comparison type
+     */
+    private Map<Comparison, Map<String, List<String>>> rangeParams;
+
     /**
      * Holds sortParams
      */
     private Map<String, List<String>> sortParams;
 
+    /**
+     * Holds joining of join params, with AND joining every join param must be matched by some joined row,
+     * with OR joining any matched join param is enough
+     */
+    private Joining joining;
+
     /**
      * Default constructor
      */
     public SearchParamRequest() {
         this.fullParams = new LinkedHashMap<>();
         this.partParams = new LinkedHashMap<>();
+        this.textParams = new LinkedHashMap<>();
+        this.rangeParams = new EnumMap<>(Comparison.class);
         this.sortParams = new LinkedHashMap<>();
+        this.joining = Joining.AND;
     }
 
     /**
@@ -103,6 +147,78 @@ public class SearchParamRequest {
         this.fold = fold;
     }
 
+    /**
+     * Gets cursor mode value
+     *
+     * @return {@code boolean} cursor value
+     */
+    public boolean isCursor() {
+        return cursor;
+    }
+
+    /**
+     * Sets cursor mode
+     *
+     * @param cursor value for setting
+     */
+    public void setCursor(boolean cursor) {
+        this.cursor = cursor;
+    }
+
+    /**
+     * Gets value from after field
+     *
+     * @return {@code String} after cursor value
+     */
+    public String getAfter() {
+        return after;
+    }
+
+    /**
+     * Sets new value to after field
+     *
+     * @param after value for setting
+     */
+    public void setAfter(String after) {
+        this.after = after;
+    }
+
+    /**
+     * Gets value from before field
+     *
+     * @return {@code String} before cursor value
+     */
+    public String getBefore() {
+        return before;
+    }
+
+    /**
+     * Sets new value to before field
+     *
+     * @param before value for setting
+     */
+    public void setBefore(String before) {
+        this.before = before;
+    }
+
+    /**
+     * Gets value from seekField field
+     *
+     * @return {@code String} seek field value
+     */
+    public String getSeekField() {
+        return seekField;
+    }
+
+    /**
+     * Sets new value to seekField field
+     *
+     * @param seekField value for setting
+     */
+    public void setSeekField(String seekField) {
+        this.seekField = seekField;
+    }
+
     /**
      * Gets full params map
      *
@@ -139,6 +255,51 @@ public class SearchParamRequest {
         this.partParams = partParams;
     }
 
+    /**
+     * Gets text params map
+     *
+     * @return {@code Map<String, List<String>>} text params map
+     */
+    public Map<String, List<String>> getTextParams() {
+        return textParams;
+    }
+
+    /**
+     * Sets new text params map
+     *
+     * @param textParams provided text params map
+     */
+    public void setTextParams(Map<String, List<String>> textParams) {
+        this.textParams = textParams;
+    }
+
+    /**
+     * Checks if text search is requested
+     *
+     * @return {@code true} if text params are present
+     */
+    public boolean isTextSearch() {
+        return textParams != null && !textParams.isEmpty();
+    }
+
+    /**
+     * Gets range params map by comparison type
+     *
+     * @return {@code Map<Comparison, Map<String, List<String>>>} range params map
+     */
+    public Map<Comparison, Map<String, List<String>>> getRangeParams() {
+        return rangeParams;
+    }
+
+    /**
+     * Sets new range params map
+     *
+     * @param rangeParams provided range params map
+     */
+    public void setRangeParams(Map<Comparison, Map<String, List<String>>> rangeParams) {
+        this.rangeParams = rangeParams;
+    }
+
     /**
      * Gets sort params map
      *
@@ -157,6 +318,24 @@ public class SearchParamRequest {
         this.sortParams = sortParams;
     }
 
+    /**
+     * Gets value from joining field
+     *
+     * @return {@code Joining} joining value
+     */
+    public Joining getJoining() {
+        return joining;
+    }
+
+    /**
+     * Sets new value to joining field
+     *
+     * @param joining value for setting
+     */
+    public void setJoining(Joining joining) {
+        this.joining = joining;
+    }
+
     /**
      * Compares source object and target object for equality
      *
@@ -169,9 +348,16 @@ public class SearchParamRequest {
         if (o == null || getClass() != o.getClass()) return false;
         SearchParamRequest that = (SearchParamRequest) o;
         return page == that.page && size == that.size
-               && fold == that.fold && Objects.equals(fullParams, that.fullParams)
+               && fold == that.fold && cursor == that.cursor
+               && Objects.equals(after, that.after)
+               && Objects.equals(before, that.before)
+               && Objects.equals(seekField, that.seekField)
+               && Objects.equals(fullParams, that.fullParams)
                && Objects.equals(partParams, that.partParams)
-               && Objects.equals(sortParams, that.sortParams);
+               && Objects.equals(textParams, that.textParams)
+               && Objects.equals(rangeParams, that.rangeParams)
+               && Objects.equals(sortParams, that.sortParams)
+               && joining == that.joining;
     }
 
     /**
@@ -181,6 +367,7 @@ public class SearchParamRequest {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(page, size, fold, fullParams, partParams, sortParams);
+        return Objects.hash(page, size, fold, cursor, after, before, seekField, fullParams, partParams, textParams,
+                            rangeParams, sortParams, joining);
     }
 }
\ No newline at end of file
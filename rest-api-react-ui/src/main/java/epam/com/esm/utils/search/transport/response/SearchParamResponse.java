@@ -18,9 +18,9 @@ public class SearchParamResponse<E extends BaseEntity> {
     private int shownItems;
 
     /**
-     * Holds found items value
+     * Holds found items value, in cursor mode items aren't counted and value is -1
      */
-    private int foundItems;
+    private long foundItems;
 
     /**
      * Holds current page value
@@ -28,7 +28,7 @@ public class SearchParamResponse<E extends BaseEntity> {
     private int currentPage;
 
     /**
-     * Holds total pages value
+     * Holds total pages value, in cursor mode only pages up to next page are known
      */
     private int totalPages;
 
@@ -91,9 +91,9 @@ public class SearchParamResponse<E extends BaseEntity> {
     /**
      * Gets value from foundItems field
      *
-     * @return {@code int} foundItems value
+     * @return {@code long} foundItems value
      */
-    public int getFoundItems() {
+    public long getFoundItems() {
         return foundItems;
     }
 
@@ -102,7 +102,7 @@ public class SearchParamResponse<E extends BaseEntity> {
      *
      * @param foundItems value for setting
      */
-    public void setFoundItems(int foundItems) {
+    public void setFoundItems(long foundItems) {
         this.foundItems = foundItems;
     }
 
@@ -10,6 +10,11 @@ import java.util.Objects;
 
 public class ResultTag {
 
+    /**
+     * Holds tag id
+     */
+    private Long id;
+
     /**
      * Holds tag name
      */
@@ -26,18 +31,38 @@ public class ResultTag {
     private Long count;
 
     /**
-     * Constructs result tag with provided tag name, order cost and tag count
+     * Constructs result tag with provided tag id, tag name, order cost and tag count
      *
+     * @param id provided tag id
      * @param name provided tag name
      * @param orderCost provided order cost
      * @param count provided tag count
      */
-    public ResultTag(String name, BigDecimal orderCost, Long count) {
+    public ResultTag(Long id, String name, BigDecimal orderCost, Long count) {
+        this.id = id;
         this.name = name;
         this.orderCost = orderCost;
         this.count = count;
     }
 
+    /**
+     * Gets value from id field
+     *
+     * @return {@code Long} id value
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Sets new value to id field
+     *
+     * @param id value for setting
+     */
+    public void setId(Long id) {
+        this.id = id;
+    }
+
     /**
      * Gets value from name field
      *
@@ -103,7 +128,8 @@ public class ResultTag {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         ResultTag that = (ResultTag) o;
-        return Objects.equals(name, that.name)
+        return Objects.equals(id, that.id)
+               && Objects.equals(name, that.name)
                && Objects.equals(orderCost, that.orderCost)
                && Objects.equals(count, that.count);
     }
@@ -115,6 +141,6 @@ public class ResultTag {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(name, orderCost, count);
+        return Objects.hash(id, name, orderCost, count);
     }
 }
\ No newline at end of file
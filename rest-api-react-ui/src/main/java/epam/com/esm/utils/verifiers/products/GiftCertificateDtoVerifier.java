@@ -46,6 +46,7 @@ public class GiftCertificateDtoVerifier {
         adjustDtoFieldsOnUpdate(preUpdate, dto);
         GiftCertificate updated = verify(dto);
         updated.setId(preUpdate.getId());
+        updated.setVersion(preUpdate.getVersion());
         return updated;
     }
 
@@ -40,6 +40,7 @@ public class UserDtoVerifier {
         adjustDtoFieldsOnUpdate(dto, preUpdate);
         User updated = verify(dto);
         updated.setId(preUpdate.getId());
+        updated.setVersion(preUpdate.getVersion());
         updated.setRoles(preUpdate.getRoles());
         return updated;
     }
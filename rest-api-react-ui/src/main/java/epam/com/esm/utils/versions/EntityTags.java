@@ -0,0 +1,48 @@
+package epam.com.esm.utils.versions;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+
+/**
+ * EntityTags is the utility class, generates strong entity tags of responses from version stamps
+ * <p>
+ * Entity tag depends on version stamp and on provided variants of response, such as requested URL params and
+ * principal roles, so responses with different items or links don't share entity tag
+ */
+public final class EntityTags {
+
+    /**
+     * Holds separator of tagged values
+     */
+    private static final String SEPARATOR = "\n";
+
+    /**
+     * Default constructor
+     */
+    private EntityTags() {}
+
+    /**
+     * Generates entity tag from provided version stamp and response variants
+     *
+     * @param stamp provided versions of response entities
+     * @param variants provided response variants
+     * @return {@code String} generated entity tag without quotes
+     */
+    public static String generate(VersionStamp stamp, String ... variants) {
+        StringJoiner joiner = new StringJoiner(SEPARATOR);
+        joiner.add(String.valueOf(stamp.getFound()))
+              .add(String.valueOf(stamp.getIdSum()))
+              .add(String.valueOf(stamp.getVersionSum()))
+              .add(String.valueOf(stamp.getLinked()))
+              .add(String.valueOf(stamp.getLinkedIdSum()))
+              .add(String.valueOf(stamp.getLinkedVersionSum()));
+
+        for (String variant : variants) {
+            joiner.add(variant);
+        }
+
+        return DigestUtils.md5DigestAsHex(joiner.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
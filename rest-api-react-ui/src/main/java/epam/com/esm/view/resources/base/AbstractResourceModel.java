@@ -3,7 +3,6 @@ package epam.com.esm.view.resources.base;
 import epam.com.esm.controller.AbstractController;
 import epam.com.esm.utils.hateoas.builder.LinkBuilder;
 import epam.com.esm.utils.hateoas.builder.components.ParamString;
-import epam.com.esm.utils.hateoas.templates.components.PlaceholderValue;
 import epam.com.esm.utils.search.transport.response.PageDataResponse;
 import epam.com.esm.view.dto.response.DtoResponse;
 
@@ -14,6 +13,20 @@ import epam.com.esm.view.dto.response.DtoResponse;
  */
 public abstract class AbstractResourceModel<E extends DtoResponse> implements ResourceModel<E> {
 
+    /**
+     * Holds LinkBuilder object
+     */
+    protected final LinkBuilder linkBuilder;
+
+    /**
+     * Constructs AbstractResourceModel with provided LinkBuilder object
+     *
+     * @param linkBuilder service, provides link building operations
+     */
+    protected AbstractResourceModel(LinkBuilder linkBuilder) {
+        this.linkBuilder = linkBuilder;
+    }
+
     /**
      * Builds links for entity
      *
@@ -23,12 +36,7 @@ public abstract class AbstractResourceModel<E extends DtoResponse> implements Re
      */
     @Override
     public void buildLinks(Class<? extends AbstractController> c, E r, ParamString ... ps) {
-        LinkBuilder lb = new LinkBuilder();
-        lb.loadClass(c)
-          .addModel(r)
-          .addParams(new PlaceholderValue("{id}", r.getId().toString()))
-          .addLinks(ps)
-          .build();
+        linkBuilder.build(c, r, r.getId(), ps);
     }
 
     /**
@@ -52,8 +60,7 @@ public abstract class AbstractResourceModel<E extends DtoResponse> implements Re
      */
     @Override
     public void buildLinksMenu(Class<? extends AbstractController> c, PageDataResponse<E> pdr, ParamString ... ps) {
-        LinkBuilder lb = new LinkBuilder();
-        lb.loadClass(c).addModel(pdr.getMainMenu()).addLinks(ps).build();
+        linkBuilder.build(c, pdr.getMainMenu(), ps);
     }
 
     /**
@@ -67,12 +74,7 @@ public abstract class AbstractResourceModel<E extends DtoResponse> implements Re
     @Override
     public void buildLinksMenu(Class<? extends AbstractController> c, PageDataResponse<? extends DtoResponse> pdr,
                                Long id, ParamString ... ps) {
-        LinkBuilder lb = new LinkBuilder();
-        lb.loadClass(c)
-          .addModel(pdr.getMainMenu())
-          .addParams(new PlaceholderValue("{id}", id.toString()))
-          .addLinks(ps)
-          .build();
+        linkBuilder.build(c, pdr.getMainMenu(), id, ps);
     }
 
     /**
@@ -85,8 +87,7 @@ public abstract class AbstractResourceModel<E extends DtoResponse> implements Re
     @Override
     public void buildLinksPaginationMenu(Class<? extends AbstractController> c, PageDataResponse<E> pdr,
                                          ParamString ... ps) {
-        LinkBuilder lb = new LinkBuilder();
-        lb.loadClass(c).addModel(pdr).addLinks(ps).addPageTypes(pdr.getPages()).buildPages();
+        linkBuilder.buildPages(c, pdr, pdr.getPages(), ps);
     }
 
     /**
@@ -101,13 +102,7 @@ public abstract class AbstractResourceModel<E extends DtoResponse> implements Re
     public void buildLinksPaginationMenu(Class<? extends AbstractController> c,
                                          PageDataResponse<? extends DtoResponse> pdr,
                                          Long id, ParamString... ps) {
-        LinkBuilder lb = new LinkBuilder();
-        lb.loadClass(c)
-          .addModel(pdr)
-          .addLinks(ps)
-          .addParams(new PlaceholderValue("{id}", id.toString()))
-          .addPageTypes(pdr.getPages())
-          .buildPages();
+        linkBuilder.buildPages(c, pdr, id, pdr.getPages(), ps);
     }
 
     /**
@@ -118,8 +113,7 @@ public abstract class AbstractResourceModel<E extends DtoResponse> implements Re
      * @param ps provided params
      */
     public void addLinksMainPage(Class<? extends AbstractController> c, DtoResponse r, ParamString ... ps) {
-        LinkBuilder lb = new LinkBuilder();
-        lb.loadClass(c).addModel(r).addLinks(ps).build();
+        linkBuilder.build(c, r, ps);
     }
 
     /**
@@ -131,7 +125,6 @@ public abstract class AbstractResourceModel<E extends DtoResponse> implements Re
      */
     public void addLinksMainPage(Class<? extends AbstractController> c,
                                  PageDataResponse<? extends DtoResponse> pdr, ParamString ... ps) {
-        LinkBuilder lb = new LinkBuilder();
-        lb.loadClass(c).addModel(pdr.getMainMenu()).addLinks(ps).build();
+        linkBuilder.build(c, pdr.getMainMenu(), ps);
     }
 }
\ No newline at end of file
@@ -6,7 +6,6 @@ import epam.com.esm.controller.products.GiftCertificateController;
 import epam.com.esm.controller.user.UserController;
 import epam.com.esm.utils.hateoas.builder.LinkBuilder;
 import epam.com.esm.utils.hateoas.builder.components.ParamString;
-import epam.com.esm.utils.hateoas.templates.components.PlaceholderValue;
 import epam.com.esm.utils.search.transport.response.PageDataResponse;
 import epam.com.esm.view.dto.response.DtoResponse;
 import epam.com.esm.view.dto.response.impl.action.OrderUserDtoResponse;
@@ -22,10 +21,14 @@ import org.springframework.stereotype.Component;
 public class OrderUserResourceModel extends AbstractResourceModel<OrderUserDtoResponse> {
 
     /**
-     * Default constructor
+     * Constructs OrderUserResourceModel with provided LinkBuilder object
+     *
+     * @param linkBuilder service, provides link building operations
      */
     @Autowired
-    public OrderUserResourceModel() {}
+    public OrderUserResourceModel(LinkBuilder linkBuilder) {
+        super(linkBuilder);
+    }
 
     /**
      * Builds links for order user dto response
@@ -97,13 +100,8 @@ public class OrderUserResourceModel extends AbstractResourceModel<OrderUserDtoRe
      * @param paramStrings provided params
      */
     public void buildLinksGiftCertificates(OrderUserDtoResponse resp, ParamString... paramStrings) {
-        LinkBuilder lb = new LinkBuilder();
         resp.getGiftCertificates().forEach(
-                gc -> lb.loadClass(GiftCertificateController.class)
-                        .addModel(gc)
-                        .addParams(new PlaceholderValue("{id}", gc.getId().toString()))
-                        .addLinks(paramStrings)
-                        .build()
+                gc -> linkBuilder.build(GiftCertificateController.class, gc, gc.getId(), paramStrings)
         );
     }
 
@@ -125,12 +123,7 @@ public class OrderUserResourceModel extends AbstractResourceModel<OrderUserDtoRe
      * @param paramStrings provided params
      */
     public void buildLinksUser(OrderUserDtoResponse resp, ParamString... paramStrings) {
-        LinkBuilder lb = new LinkBuilder();
-        lb.loadClass(UserController.class)
-                .addModel(resp.getUser())
-                .addParams(new PlaceholderValue("{id}", resp.getUser().getId().toString()))
-                .addLinks(paramStrings)
-                .build();
+        linkBuilder.build(UserController.class, resp.getUser(), resp.getUser().getId(), paramStrings);
     }
 
     /**
@@ -5,7 +5,6 @@ import epam.com.esm.controller.products.GiftCertificateController;
 import epam.com.esm.controller.products.TagController;
 import epam.com.esm.utils.hateoas.builder.LinkBuilder;
 import epam.com.esm.utils.hateoas.builder.components.ParamString;
-import epam.com.esm.utils.hateoas.templates.components.PlaceholderValue;
 import epam.com.esm.utils.search.transport.response.PageDataResponse;
 import epam.com.esm.view.dto.response.DtoResponse;
 import epam.com.esm.view.dto.response.impl.products.GiftCertificateDtoResponse;
@@ -21,10 +20,14 @@ import org.springframework.stereotype.Component;
 public class GiftCertificateResourceModel extends AbstractResourceModel<GiftCertificateDtoResponse> {
 
     /**
-     * Default constructor
+     * Constructs GiftCertificateResourceModel with provided LinkBuilder object
+     *
+     * @param linkBuilder service, provides link building operations
      */
     @Autowired
-    public GiftCertificateResourceModel() {}
+    public GiftCertificateResourceModel(LinkBuilder linkBuilder) {
+        super(linkBuilder);
+    }
 
     /**
      * Builds links for gift certificate dto response
@@ -97,15 +100,9 @@ public class GiftCertificateResourceModel extends AbstractResourceModel<GiftCert
      * @param paramStrings provided params
      */
     public void buildLinksTags(GiftCertificateDtoResponse resp, ParamString ... paramStrings) {
-        LinkBuilder lb = new LinkBuilder();
-
         if (resp.getTags() != null && !resp.getTags().isEmpty()) {
             resp.getTags().forEach(
-                    t -> lb.loadClass(TagController.class)
-                            .addModel(t)
-                            .addParams(new PlaceholderValue("{id}", t.getId().toString()))
-                            .addLinks(paramStrings)
-                            .build()
+                    t -> linkBuilder.build(TagController.class, t, t.getId(), paramStrings)
             );
         }
     }
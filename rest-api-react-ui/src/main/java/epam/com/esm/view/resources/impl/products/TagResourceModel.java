@@ -5,7 +5,6 @@ import epam.com.esm.controller.products.GiftCertificateController;
 import epam.com.esm.controller.products.TagController;
 import epam.com.esm.utils.hateoas.builder.LinkBuilder;
 import epam.com.esm.utils.hateoas.builder.components.ParamString;
-import epam.com.esm.utils.hateoas.templates.components.PlaceholderValue;
 import epam.com.esm.utils.search.transport.response.PageDataResponse;
 import epam.com.esm.view.dto.response.DtoResponse;
 import epam.com.esm.view.dto.response.impl.products.TagDtoResponse;
@@ -21,10 +20,14 @@ import org.springframework.stereotype.Component;
 public class TagResourceModel extends AbstractResourceModel<TagDtoResponse> {
 
     /**
-     * Default constructor
+     * Constructs TagResourceModel with provided LinkBuilder object
+     *
+     * @param linkBuilder service, provides link building operations
      */
     @Autowired
-    public TagResourceModel() {}
+    public TagResourceModel(LinkBuilder linkBuilder) {
+        super(linkBuilder);
+    }
 
     /**
      * Builds links for tag dto response
@@ -96,14 +99,9 @@ public class TagResourceModel extends AbstractResourceModel<TagDtoResponse> {
      * @param paramStrings provided params
      */
     public void buildLinksGiftCertificates(TagDtoResponse resp, ParamString... paramStrings) {
-        LinkBuilder lb = new LinkBuilder();
         if (resp.getGiftCertificates() != null && !resp.getGiftCertificates().isEmpty()) {
             resp.getGiftCertificates().forEach(
-                    gc -> lb.loadClass(GiftCertificateController.class)
-                            .addModel(gc)
-                            .addParams(new PlaceholderValue("{id}", gc.getId().toString()))
-                            .addLinks(paramStrings)
-                            .build()
+                    gc -> linkBuilder.build(GiftCertificateController.class, gc, gc.getId(), paramStrings)
             );
         }
     }
@@ -0,0 +1,11 @@
+alter table gift_certificate add column version bigint not null default 0;
+
+alter table tag add column version bigint not null default 0;
+
+alter table user add column version bigint not null default 0;
+
+alter table roles add column version bigint not null default 0;
+
+alter table orders add column version bigint not null default 0;
+
+alter table purchase_data add column version bigint not null default 0;
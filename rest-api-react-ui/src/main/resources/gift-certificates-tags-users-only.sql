@@ -1,805 +1,805 @@
 #admin entity: username - admin, password - password
 #user entities: username - user_n, password - password_n, where n - user id value (e.g. un: user_2, pw: password_2)
 
-INSERT INTO tag VALUES(1, 'tag_1');
+INSERT INTO tag VALUES(1, 'tag_1', 0);
 
-INSERT INTO tag VALUES(2, 'tag_2');
+INSERT INTO tag VALUES(2, 'tag_2', 0);
 
-INSERT INTO tag VALUES(3, 'tag_3');
+INSERT INTO tag VALUES(3, 'tag_3', 0);
 
-INSERT INTO tag VALUES(4, 'tag_4');
+INSERT INTO tag VALUES(4, 'tag_4', 0);
 
-INSERT INTO tag VALUES(5, 'tag_5');
+INSERT INTO tag VALUES(5, 'tag_5', 0);
 
-INSERT INTO tag VALUES(6, 'tag_6');
+INSERT INTO tag VALUES(6, 'tag_6', 0);
 
-INSERT INTO tag VALUES(7, 'tag_7');
+INSERT INTO tag VALUES(7, 'tag_7', 0);
 
-INSERT INTO tag VALUES(8, 'tag_8');
+INSERT INTO tag VALUES(8, 'tag_8', 0);
 
-INSERT INTO tag VALUES(9, 'tag_9');
+INSERT INTO tag VALUES(9, 'tag_9', 0);
 
-INSERT INTO tag VALUES(10, 'tag_10');
+INSERT INTO tag VALUES(10, 'tag_10', 0);
 
-INSERT INTO tag VALUES(11, 'tag_11');
+INSERT INTO tag VALUES(11, 'tag_11', 0);
 
-INSERT INTO tag VALUES(12, 'tag_12');
+INSERT INTO tag VALUES(12, 'tag_12', 0);
 
-INSERT INTO tag VALUES(13, 'tag_13');
+INSERT INTO tag VALUES(13, 'tag_13', 0);
 
-INSERT INTO tag VALUES(14, 'tag_14');
+INSERT INTO tag VALUES(14, 'tag_14', 0);
 
-INSERT INTO tag VALUES(15, 'tag_15');
+INSERT INTO tag VALUES(15, 'tag_15', 0);
 
-INSERT INTO tag VALUES(16, 'tag_16');
+INSERT INTO tag VALUES(16, 'tag_16', 0);
 
-INSERT INTO tag VALUES(17, 'tag_17');
+INSERT INTO tag VALUES(17, 'tag_17', 0);
 
-INSERT INTO tag VALUES(18, 'tag_18');
+INSERT INTO tag VALUES(18, 'tag_18', 0);
 
-INSERT INTO tag VALUES(19, 'tag_19');
+INSERT INTO tag VALUES(19, 'tag_19', 0);
 
-INSERT INTO tag VALUES(20, 'tag_20');
+INSERT INTO tag VALUES(20, 'tag_20', 0);
 
-INSERT INTO tag VALUES(21, 'tag_21');
+INSERT INTO tag VALUES(21, 'tag_21', 0);
 
-INSERT INTO tag VALUES(22, 'tag_22');
+INSERT INTO tag VALUES(22, 'tag_22', 0);
 
-INSERT INTO tag VALUES(23, 'tag_23');
+INSERT INTO tag VALUES(23, 'tag_23', 0);
 
-INSERT INTO tag VALUES(24, 'tag_24');
+INSERT INTO tag VALUES(24, 'tag_24', 0);
 
-INSERT INTO tag VALUES(25, 'tag_25');
+INSERT INTO tag VALUES(25, 'tag_25', 0);
 
-INSERT INTO tag VALUES(26, 'tag_26');
+INSERT INTO tag VALUES(26, 'tag_26', 0);
 
-INSERT INTO tag VALUES(27, 'tag_27');
+INSERT INTO tag VALUES(27, 'tag_27', 0);
 
-INSERT INTO tag VALUES(28, 'tag_28');
+INSERT INTO tag VALUES(28, 'tag_28', 0);
 
-INSERT INTO tag VALUES(29, 'tag_29');
+INSERT INTO tag VALUES(29, 'tag_29', 0);
 
-INSERT INTO tag VALUES(30, 'tag_30');
+INSERT INTO tag VALUES(30, 'tag_30', 0);
 
-INSERT INTO tag VALUES(31, 'tag_31');
+INSERT INTO tag VALUES(31, 'tag_31', 0);
 
-INSERT INTO tag VALUES(32, 'tag_32');
+INSERT INTO tag VALUES(32, 'tag_32', 0);
 
-INSERT INTO tag VALUES(33, 'tag_33');
+INSERT INTO tag VALUES(33, 'tag_33', 0);
 
-INSERT INTO tag VALUES(34, 'tag_34');
+INSERT INTO tag VALUES(34, 'tag_34', 0);
 
-INSERT INTO tag VALUES(35, 'tag_35');
+INSERT INTO tag VALUES(35, 'tag_35', 0);
 
-INSERT INTO tag VALUES(36, 'tag_36');
+INSERT INTO tag VALUES(36, 'tag_36', 0);
 
-INSERT INTO tag VALUES(37, 'tag_37');
+INSERT INTO tag VALUES(37, 'tag_37', 0);
 
-INSERT INTO tag VALUES(38, 'tag_38');
+INSERT INTO tag VALUES(38, 'tag_38', 0);
 
-INSERT INTO tag VALUES(39, 'tag_39');
+INSERT INTO tag VALUES(39, 'tag_39', 0);
 
-INSERT INTO tag VALUES(40, 'tag_40');
+INSERT INTO tag VALUES(40, 'tag_40', 0);
 
-INSERT INTO tag VALUES(41, 'tag_41');
+INSERT INTO tag VALUES(41, 'tag_41', 0);
 
-INSERT INTO tag VALUES(42, 'tag_42');
+INSERT INTO tag VALUES(42, 'tag_42', 0);
 
-INSERT INTO tag VALUES(43, 'tag_43');
+INSERT INTO tag VALUES(43, 'tag_43', 0);
 
-INSERT INTO tag VALUES(44, 'tag_44');
+INSERT INTO tag VALUES(44, 'tag_44', 0);
 
-INSERT INTO tag VALUES(45, 'tag_45');
+INSERT INTO tag VALUES(45, 'tag_45', 0);
 
-INSERT INTO tag VALUES(46, 'tag_46');
+INSERT INTO tag VALUES(46, 'tag_46', 0);
 
-INSERT INTO tag VALUES(47, 'tag_47');
+INSERT INTO tag VALUES(47, 'tag_47', 0);
 
-INSERT INTO tag VALUES(48, 'tag_48');
+INSERT INTO tag VALUES(48, 'tag_48', 0);
 
-INSERT INTO tag VALUES(49, 'tag_49');
+INSERT INTO tag VALUES(49, 'tag_49', 0);
 
-INSERT INTO tag VALUES(50, 'tag_50');
+INSERT INTO tag VALUES(50, 'tag_50', 0);
 
-INSERT INTO tag VALUES(51, 'tag_51');
+INSERT INTO tag VALUES(51, 'tag_51', 0);
 
-INSERT INTO tag VALUES(52, 'tag_52');
+INSERT INTO tag VALUES(52, 'tag_52', 0);
 
-INSERT INTO tag VALUES(53, 'tag_53');
+INSERT INTO tag VALUES(53, 'tag_53', 0);
 
-INSERT INTO tag VALUES(54, 'tag_54');
+INSERT INTO tag VALUES(54, 'tag_54', 0);
 
-INSERT INTO tag VALUES(55, 'tag_55');
+INSERT INTO tag VALUES(55, 'tag_55', 0);
 
-INSERT INTO tag VALUES(56, 'tag_56');
+INSERT INTO tag VALUES(56, 'tag_56', 0);
 
-INSERT INTO tag VALUES(57, 'tag_57');
+INSERT INTO tag VALUES(57, 'tag_57', 0);
 
-INSERT INTO tag VALUES(58, 'tag_58');
+INSERT INTO tag VALUES(58, 'tag_58', 0);
 
-INSERT INTO tag VALUES(59, 'tag_59');
+INSERT INTO tag VALUES(59, 'tag_59', 0);
 
-INSERT INTO tag VALUES(60, 'tag_60');
+INSERT INTO tag VALUES(60, 'tag_60', 0);
 
-INSERT INTO tag VALUES(61, 'tag_61');
+INSERT INTO tag VALUES(61, 'tag_61', 0);
 
-INSERT INTO tag VALUES(62, 'tag_62');
+INSERT INTO tag VALUES(62, 'tag_62', 0);
 
-INSERT INTO tag VALUES(63, 'tag_63');
+INSERT INTO tag VALUES(63, 'tag_63', 0);
 
-INSERT INTO tag VALUES(64, 'tag_64');
+INSERT INTO tag VALUES(64, 'tag_64', 0);
 
-INSERT INTO tag VALUES(65, 'tag_65');
+INSERT INTO tag VALUES(65, 'tag_65', 0);
 
-INSERT INTO tag VALUES(66, 'tag_66');
+INSERT INTO tag VALUES(66, 'tag_66', 0);
 
-INSERT INTO tag VALUES(67, 'tag_67');
+INSERT INTO tag VALUES(67, 'tag_67', 0);
 
-INSERT INTO tag VALUES(68, 'tag_68');
+INSERT INTO tag VALUES(68, 'tag_68', 0);
 
-INSERT INTO tag VALUES(69, 'tag_69');
+INSERT INTO tag VALUES(69, 'tag_69', 0);
 
-INSERT INTO tag VALUES(70, 'tag_70');
+INSERT INTO tag VALUES(70, 'tag_70', 0);
 
-INSERT INTO tag VALUES(71, 'tag_71');
+INSERT INTO tag VALUES(71, 'tag_71', 0);
 
-INSERT INTO tag VALUES(72, 'tag_72');
+INSERT INTO tag VALUES(72, 'tag_72', 0);
 
-INSERT INTO tag VALUES(73, 'tag_73');
+INSERT INTO tag VALUES(73, 'tag_73', 0);
 
-INSERT INTO tag VALUES(74, 'tag_74');
+INSERT INTO tag VALUES(74, 'tag_74', 0);
 
-INSERT INTO tag VALUES(75, 'tag_75');
+INSERT INTO tag VALUES(75, 'tag_75', 0);
 
-INSERT INTO tag VALUES(76, 'tag_76');
+INSERT INTO tag VALUES(76, 'tag_76', 0);
 
-INSERT INTO tag VALUES(77, 'tag_77');
+INSERT INTO tag VALUES(77, 'tag_77', 0);
 
-INSERT INTO tag VALUES(78, 'tag_78');
+INSERT INTO tag VALUES(78, 'tag_78', 0);
 
-INSERT INTO tag VALUES(79, 'tag_79');
+INSERT INTO tag VALUES(79, 'tag_79', 0);
 
-INSERT INTO tag VALUES(80, 'tag_80');
+INSERT INTO tag VALUES(80, 'tag_80', 0);
 
-INSERT INTO tag VALUES(81, 'tag_81');
+INSERT INTO tag VALUES(81, 'tag_81', 0);
 
-INSERT INTO tag VALUES(82, 'tag_82');
+INSERT INTO tag VALUES(82, 'tag_82', 0);
 
-INSERT INTO tag VALUES(83, 'tag_83');
+INSERT INTO tag VALUES(83, 'tag_83', 0);
 
-INSERT INTO tag VALUES(84, 'tag_84');
+INSERT INTO tag VALUES(84, 'tag_84', 0);
 
-INSERT INTO tag VALUES(85, 'tag_85');
+INSERT INTO tag VALUES(85, 'tag_85', 0);
 
-INSERT INTO tag VALUES(86, 'tag_86');
+INSERT INTO tag VALUES(86, 'tag_86', 0);
 
-INSERT INTO tag VALUES(87, 'tag_87');
+INSERT INTO tag VALUES(87, 'tag_87', 0);
 
-INSERT INTO tag VALUES(88, 'tag_88');
+INSERT INTO tag VALUES(88, 'tag_88', 0);
 
-INSERT INTO tag VALUES(89, 'tag_89');
+INSERT INTO tag VALUES(89, 'tag_89', 0);
 
-INSERT INTO tag VALUES(90, 'tag_90');
+INSERT INTO tag VALUES(90, 'tag_90', 0);
 
-INSERT INTO tag VALUES(91, 'tag_91');
+INSERT INTO tag VALUES(91, 'tag_91', 0);
 
-INSERT INTO tag VALUES(92, 'tag_92');
+INSERT INTO tag VALUES(92, 'tag_92', 0);
 
-INSERT INTO tag VALUES(93, 'tag_93');
+INSERT INTO tag VALUES(93, 'tag_93', 0);
 
-INSERT INTO tag VALUES(94, 'tag_94');
+INSERT INTO tag VALUES(94, 'tag_94', 0);
 
-INSERT INTO tag VALUES(95, 'tag_95');
+INSERT INTO tag VALUES(95, 'tag_95', 0);
 
-INSERT INTO tag VALUES(96, 'tag_96');
+INSERT INTO tag VALUES(96, 'tag_96', 0);
 
-INSERT INTO tag VALUES(97, 'tag_97');
+INSERT INTO tag VALUES(97, 'tag_97', 0);
 
-INSERT INTO tag VALUES(98, 'tag_98');
+INSERT INTO tag VALUES(98, 'tag_98', 0);
 
-INSERT INTO tag VALUES(99, 'tag_99');
+INSERT INTO tag VALUES(99, 'tag_99', 0);
 
-INSERT INTO tag VALUES(100, 'tag_100');
+INSERT INTO tag VALUES(100, 'tag_100', 0);
 
-INSERT INTO gift_certificate VALUES(1, 'gift_certificate_1', 'description_1', 368.10, 16, '2023-09-03T17:29:42.357', '2023-09-03T17:29:42.362');
+INSERT INTO gift_certificate VALUES(1, 'gift_certificate_1', 'description_1', 368.10, 16, '2023-09-03T17:29:42.357', '2023-09-03T17:29:42.362', 0);
 
-INSERT INTO gift_certificate VALUES(2, 'gift_certificate_2', 'description_2', 471.18, 17, '2023-09-03T17:29:42.362', '2023-09-03T17:29:42.362');
+INSERT INTO gift_certificate VALUES(2, 'gift_certificate_2', 'description_2', 471.18, 17, '2023-09-03T17:29:42.362', '2023-09-03T17:29:42.362', 0);
 
-INSERT INTO gift_certificate VALUES(3, 'gift_certificate_3', 'description_3', 234.56, 14, '2023-09-03T17:29:42.362', '2023-09-03T17:29:42.362');
+INSERT INTO gift_certificate VALUES(3, 'gift_certificate_3', 'description_3', 234.56, 14, '2023-09-03T17:29:42.362', '2023-09-03T17:29:42.362', 0);
 
-INSERT INTO gift_certificate VALUES(4, 'gift_certificate_4', 'description_4', 296.33, 12, '2023-09-03T17:29:42.362', '2023-09-03T17:29:42.362');
+INSERT INTO gift_certificate VALUES(4, 'gift_certificate_4', 'description_4', 296.33, 12, '2023-09-03T17:29:42.362', '2023-09-03T17:29:42.362', 0);
 
-INSERT INTO gift_certificate VALUES(5, 'gift_certificate_5', 'description_5', 452.59, 9, '2023-09-03T17:29:42.362', '2023-09-03T17:29:42.362');
+INSERT INTO gift_certificate VALUES(5, 'gift_certificate_5', 'description_5', 452.59, 9, '2023-09-03T17:29:42.362', '2023-09-03T17:29:42.362', 0);
 
-INSERT INTO gift_certificate VALUES(6, 'gift_certificate_6', 'description_6', 244.23, 5, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363');
+INSERT INTO gift_certificate VALUES(6, 'gift_certificate_6', 'description_6', 244.23, 5, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363', 0);
 
-INSERT INTO gift_certificate VALUES(7, 'gift_certificate_7', 'description_7', 177.28, 14, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363');
+INSERT INTO gift_certificate VALUES(7, 'gift_certificate_7', 'description_7', 177.28, 14, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363', 0);
 
-INSERT INTO gift_certificate VALUES(8, 'gift_certificate_8', 'description_8', 178.51, 11, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363');
+INSERT INTO gift_certificate VALUES(8, 'gift_certificate_8', 'description_8', 178.51, 11, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363', 0);
 
-INSERT INTO gift_certificate VALUES(9, 'gift_certificate_9', 'description_9', 219.59, 8, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363');
+INSERT INTO gift_certificate VALUES(9, 'gift_certificate_9', 'description_9', 219.59, 8, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363', 0);
 
-INSERT INTO gift_certificate VALUES(10, 'gift_certificate_10', 'description_10', 454.93, 16, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363');
+INSERT INTO gift_certificate VALUES(10, 'gift_certificate_10', 'description_10', 454.93, 16, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363', 0);
 
-INSERT INTO gift_certificate VALUES(11, 'gift_certificate_11', 'description_11', 103.75, 18, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363');
+INSERT INTO gift_certificate VALUES(11, 'gift_certificate_11', 'description_11', 103.75, 18, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363', 0);
 
-INSERT INTO gift_certificate VALUES(12, 'gift_certificate_12', 'description_12', 369.63, 6, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363');
+INSERT INTO gift_certificate VALUES(12, 'gift_certificate_12', 'description_12', 369.63, 6, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363', 0);
 
-INSERT INTO gift_certificate VALUES(13, 'gift_certificate_13', 'description_13', 194.47, 14, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363');
+INSERT INTO gift_certificate VALUES(13, 'gift_certificate_13', 'description_13', 194.47, 14, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363', 0);
 
-INSERT INTO gift_certificate VALUES(14, 'gift_certificate_14', 'description_14', 166.70, 8, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363');
+INSERT INTO gift_certificate VALUES(14, 'gift_certificate_14', 'description_14', 166.70, 8, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363', 0);
 
-INSERT INTO gift_certificate VALUES(15, 'gift_certificate_15', 'description_15', 313.22, 16, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363');
+INSERT INTO gift_certificate VALUES(15, 'gift_certificate_15', 'description_15', 313.22, 16, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363', 0);
 
-INSERT INTO gift_certificate VALUES(16, 'gift_certificate_16', 'description_16', 385.93, 16, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363');
+INSERT INTO gift_certificate VALUES(16, 'gift_certificate_16', 'description_16', 385.93, 16, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363', 0);
 
-INSERT INTO gift_certificate VALUES(17, 'gift_certificate_17', 'description_17', 309.10, 5, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363');
+INSERT INTO gift_certificate VALUES(17, 'gift_certificate_17', 'description_17', 309.10, 5, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363', 0);
 
-INSERT INTO gift_certificate VALUES(18, 'gift_certificate_18', 'description_18', 322.62, 16, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363');
+INSERT INTO gift_certificate VALUES(18, 'gift_certificate_18', 'description_18', 322.62, 16, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363', 0);
 
-INSERT INTO gift_certificate VALUES(19, 'gift_certificate_19', 'description_19', 144.62, 18, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363');
+INSERT INTO gift_certificate VALUES(19, 'gift_certificate_19', 'description_19', 144.62, 18, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363', 0);
 
-INSERT INTO gift_certificate VALUES(20, 'gift_certificate_20', 'description_20', 392.35, 7, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363');
+INSERT INTO gift_certificate VALUES(20, 'gift_certificate_20', 'description_20', 392.35, 7, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363', 0);
 
-INSERT INTO gift_certificate VALUES(21, 'gift_certificate_21', 'description_21', 209.97, 6, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363');
+INSERT INTO gift_certificate VALUES(21, 'gift_certificate_21', 'description_21', 209.97, 6, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363', 0);
 
-INSERT INTO gift_certificate VALUES(22, 'gift_certificate_22', 'description_22', 324.04, 14, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363');
+INSERT INTO gift_certificate VALUES(22, 'gift_certificate_22', 'description_22', 324.04, 14, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363', 0);
 
-INSERT INTO gift_certificate VALUES(23, 'gift_certificate_23', 'description_23', 121.37, 17, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.364');
+INSERT INTO gift_certificate VALUES(23, 'gift_certificate_23', 'description_23', 121.37, 17, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.364', 0);
 
-INSERT INTO gift_certificate VALUES(24, 'gift_certificate_24', 'description_24', 479.93, 11, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364');
+INSERT INTO gift_certificate VALUES(24, 'gift_certificate_24', 'description_24', 479.93, 11, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364', 0);
 
-INSERT INTO gift_certificate VALUES(25, 'gift_certificate_25', 'description_25', 216.35, 6, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364');
+INSERT INTO gift_certificate VALUES(25, 'gift_certificate_25', 'description_25', 216.35, 6, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364', 0);
 
-INSERT INTO gift_certificate VALUES(26, 'gift_certificate_26', 'description_26', 219.55, 8, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364');
+INSERT INTO gift_certificate VALUES(26, 'gift_certificate_26', 'description_26', 219.55, 8, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364', 0);
 
-INSERT INTO gift_certificate VALUES(27, 'gift_certificate_27', 'description_27', 191.68, 11, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364');
+INSERT INTO gift_certificate VALUES(27, 'gift_certificate_27', 'description_27', 191.68, 11, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364', 0);
 
-INSERT INTO gift_certificate VALUES(28, 'gift_certificate_28', 'description_28', 408.92, 5, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364');
+INSERT INTO gift_certificate VALUES(28, 'gift_certificate_28', 'description_28', 408.92, 5, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364', 0);
 
-INSERT INTO gift_certificate VALUES(29, 'gift_certificate_29', 'description_29', 124.39, 6, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364');
+INSERT INTO gift_certificate VALUES(29, 'gift_certificate_29', 'description_29', 124.39, 6, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364', 0);
 
-INSERT INTO gift_certificate VALUES(30, 'gift_certificate_30', 'description_30', 243.48, 12, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364');
+INSERT INTO gift_certificate VALUES(30, 'gift_certificate_30', 'description_30', 243.48, 12, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364', 0);
 
-INSERT INTO gift_certificate VALUES(31, 'gift_certificate_31', 'description_31', 215.00, 11, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364');
+INSERT INTO gift_certificate VALUES(31, 'gift_certificate_31', 'description_31', 215.00, 11, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364', 0);
 
-INSERT INTO gift_certificate VALUES(32, 'gift_certificate_32', 'description_32', 233.69, 16, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364');
+INSERT INTO gift_certificate VALUES(32, 'gift_certificate_32', 'description_32', 233.69, 16, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364', 0);
 
-INSERT INTO gift_certificate VALUES(33, 'gift_certificate_33', 'description_33', 188.79, 5, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364');
+INSERT INTO gift_certificate VALUES(33, 'gift_certificate_33', 'description_33', 188.79, 5, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364', 0);
 
-INSERT INTO gift_certificate VALUES(34, 'gift_certificate_34', 'description_34', 263.59, 17, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364');
+INSERT INTO gift_certificate VALUES(34, 'gift_certificate_34', 'description_34', 263.59, 17, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364', 0);
 
-INSERT INTO gift_certificate VALUES(35, 'gift_certificate_35', 'description_35', 298.18, 12, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364');
+INSERT INTO gift_certificate VALUES(35, 'gift_certificate_35', 'description_35', 298.18, 12, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364', 0);
 
-INSERT INTO gift_certificate VALUES(36, 'gift_certificate_36', 'description_36', 331.76, 5, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364');
+INSERT INTO gift_certificate VALUES(36, 'gift_certificate_36', 'description_36', 331.76, 5, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364', 0);
 
-INSERT INTO gift_certificate VALUES(37, 'gift_certificate_37', 'description_37', 288.04, 16, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364');
+INSERT INTO gift_certificate VALUES(37, 'gift_certificate_37', 'description_37', 288.04, 16, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364', 0);
 
-INSERT INTO gift_certificate VALUES(38, 'gift_certificate_38', 'description_38', 119.06, 16, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364');
+INSERT INTO gift_certificate VALUES(38, 'gift_certificate_38', 'description_38', 119.06, 16, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364', 0);
 
-INSERT INTO gift_certificate VALUES(39, 'gift_certificate_39', 'description_39', 481.23, 15, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364');
+INSERT INTO gift_certificate VALUES(39, 'gift_certificate_39', 'description_39', 481.23, 15, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364', 0);
 
-INSERT INTO gift_certificate VALUES(40, 'gift_certificate_40', 'description_40', 221.03, 14, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364');
+INSERT INTO gift_certificate VALUES(40, 'gift_certificate_40', 'description_40', 221.03, 14, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364', 0);
 
-INSERT INTO gift_certificate VALUES(41, 'gift_certificate_41', 'description_41', 268.40, 18, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365');
+INSERT INTO gift_certificate VALUES(41, 'gift_certificate_41', 'description_41', 268.40, 18, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365', 0);
 
-INSERT INTO gift_certificate VALUES(42, 'gift_certificate_42', 'description_42', 109.04, 14, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365');
+INSERT INTO gift_certificate VALUES(42, 'gift_certificate_42', 'description_42', 109.04, 14, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365', 0);
 
-INSERT INTO gift_certificate VALUES(43, 'gift_certificate_43', 'description_43', 380.32, 15, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365');
+INSERT INTO gift_certificate VALUES(43, 'gift_certificate_43', 'description_43', 380.32, 15, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365', 0);
 
-INSERT INTO gift_certificate VALUES(44, 'gift_certificate_44', 'description_44', 247.57, 16, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365');
+INSERT INTO gift_certificate VALUES(44, 'gift_certificate_44', 'description_44', 247.57, 16, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365', 0);
 
-INSERT INTO gift_certificate VALUES(45, 'gift_certificate_45', 'description_45', 385.01, 12, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365');
+INSERT INTO gift_certificate VALUES(45, 'gift_certificate_45', 'description_45', 385.01, 12, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365', 0);
 
-INSERT INTO gift_certificate VALUES(46, 'gift_certificate_46', 'description_46', 452.49, 8, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365');
+INSERT INTO gift_certificate VALUES(46, 'gift_certificate_46', 'description_46', 452.49, 8, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365', 0);
 
-INSERT INTO gift_certificate VALUES(47, 'gift_certificate_47', 'description_47', 171.81, 14, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365');
+INSERT INTO gift_certificate VALUES(47, 'gift_certificate_47', 'description_47', 171.81, 14, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365', 0);
 
-INSERT INTO gift_certificate VALUES(48, 'gift_certificate_48', 'description_48', 204.69, 6, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365');
+INSERT INTO gift_certificate VALUES(48, 'gift_certificate_48', 'description_48', 204.69, 6, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365', 0);
 
-INSERT INTO gift_certificate VALUES(49, 'gift_certificate_49', 'description_49', 328.45, 11, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365');
+INSERT INTO gift_certificate VALUES(49, 'gift_certificate_49', 'description_49', 328.45, 11, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365', 0);
 
-INSERT INTO gift_certificate VALUES(50, 'gift_certificate_50', 'description_50', 265.24, 13, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365');
+INSERT INTO gift_certificate VALUES(50, 'gift_certificate_50', 'description_50', 265.24, 13, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365', 0);
 
-INSERT INTO gift_certificate VALUES(51, 'gift_certificate_51', 'description_51', 272.27, 5, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365');
+INSERT INTO gift_certificate VALUES(51, 'gift_certificate_51', 'description_51', 272.27, 5, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365', 0);
 
-INSERT INTO gift_certificate VALUES(52, 'gift_certificate_52', 'description_52', 425.22, 11, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365');
+INSERT INTO gift_certificate VALUES(52, 'gift_certificate_52', 'description_52', 425.22, 11, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365', 0);
 
-INSERT INTO gift_certificate VALUES(53, 'gift_certificate_53', 'description_53', 111.91, 9, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365');
+INSERT INTO gift_certificate VALUES(53, 'gift_certificate_53', 'description_53', 111.91, 9, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365', 0);
 
-INSERT INTO gift_certificate VALUES(54, 'gift_certificate_54', 'description_54', 440.18, 16, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365');
+INSERT INTO gift_certificate VALUES(54, 'gift_certificate_54', 'description_54', 440.18, 16, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365', 0);
 
-INSERT INTO gift_certificate VALUES(55, 'gift_certificate_55', 'description_55', 128.13, 18, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365');
+INSERT INTO gift_certificate VALUES(55, 'gift_certificate_55', 'description_55', 128.13, 18, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365', 0);
 
-INSERT INTO gift_certificate VALUES(56, 'gift_certificate_56', 'description_56', 281.36, 11, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365');
+INSERT INTO gift_certificate VALUES(56, 'gift_certificate_56', 'description_56', 281.36, 11, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365', 0);
 
-INSERT INTO gift_certificate VALUES(57, 'gift_certificate_57', 'description_57', 287.41, 17, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365');
+INSERT INTO gift_certificate VALUES(57, 'gift_certificate_57', 'description_57', 287.41, 17, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365', 0);
 
-INSERT INTO gift_certificate VALUES(58, 'gift_certificate_58', 'description_58', 427.98, 12, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365');
+INSERT INTO gift_certificate VALUES(58, 'gift_certificate_58', 'description_58', 427.98, 12, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365', 0);
 
-INSERT INTO gift_certificate VALUES(59, 'gift_certificate_59', 'description_59', 123.27, 5, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365');
+INSERT INTO gift_certificate VALUES(59, 'gift_certificate_59', 'description_59', 123.27, 5, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365', 0);
 
-INSERT INTO gift_certificate VALUES(60, 'gift_certificate_60', 'description_60', 274.25, 18, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366');
+INSERT INTO gift_certificate VALUES(60, 'gift_certificate_60', 'description_60', 274.25, 18, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366', 0);
 
-INSERT INTO gift_certificate VALUES(61, 'gift_certificate_61', 'description_61', 133.77, 14, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366');
+INSERT INTO gift_certificate VALUES(61, 'gift_certificate_61', 'description_61', 133.77, 14, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366', 0);
 
-INSERT INTO gift_certificate VALUES(62, 'gift_certificate_62', 'description_62', 354.54, 7, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366');
+INSERT INTO gift_certificate VALUES(62, 'gift_certificate_62', 'description_62', 354.54, 7, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366', 0);
 
-INSERT INTO gift_certificate VALUES(63, 'gift_certificate_63', 'description_63', 185.23, 17, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366');
+INSERT INTO gift_certificate VALUES(63, 'gift_certificate_63', 'description_63', 185.23, 17, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366', 0);
 
-INSERT INTO gift_certificate VALUES(64, 'gift_certificate_64', 'description_64', 273.57, 14, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366');
+INSERT INTO gift_certificate VALUES(64, 'gift_certificate_64', 'description_64', 273.57, 14, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366', 0);
 
-INSERT INTO gift_certificate VALUES(65, 'gift_certificate_65', 'description_65', 474.11, 9, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366');
+INSERT INTO gift_certificate VALUES(65, 'gift_certificate_65', 'description_65', 474.11, 9, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366', 0);
 
-INSERT INTO gift_certificate VALUES(66, 'gift_certificate_66', 'description_66', 252.98, 19, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366');
+INSERT INTO gift_certificate VALUES(66, 'gift_certificate_66', 'description_66', 252.98, 19, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366', 0);
 
-INSERT INTO gift_certificate VALUES(67, 'gift_certificate_67', 'description_67', 254.34, 14, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366');
+INSERT INTO gift_certificate VALUES(67, 'gift_certificate_67', 'description_67', 254.34, 14, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366', 0);
 
-INSERT INTO gift_certificate VALUES(68, 'gift_certificate_68', 'description_68', 338.52, 7, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366');
+INSERT INTO gift_certificate VALUES(68, 'gift_certificate_68', 'description_68', 338.52, 7, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366', 0);
 
-INSERT INTO gift_certificate VALUES(69, 'gift_certificate_69', 'description_69', 321.57, 8, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366');
+INSERT INTO gift_certificate VALUES(69, 'gift_certificate_69', 'description_69', 321.57, 8, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366', 0);
 
-INSERT INTO gift_certificate VALUES(70, 'gift_certificate_70', 'description_70', 169.09, 17, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366');
+INSERT INTO gift_certificate VALUES(70, 'gift_certificate_70', 'description_70', 169.09, 17, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366', 0);
 
-INSERT INTO gift_certificate VALUES(71, 'gift_certificate_71', 'description_71', 387.77, 19, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366');
+INSERT INTO gift_certificate VALUES(71, 'gift_certificate_71', 'description_71', 387.77, 19, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366', 0);
 
-INSERT INTO gift_certificate VALUES(72, 'gift_certificate_72', 'description_72', 183.86, 16, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366');
+INSERT INTO gift_certificate VALUES(72, 'gift_certificate_72', 'description_72', 183.86, 16, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366', 0);
 
-INSERT INTO gift_certificate VALUES(73, 'gift_certificate_73', 'description_73', 110.25, 5, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366');
+INSERT INTO gift_certificate VALUES(73, 'gift_certificate_73', 'description_73', 110.25, 5, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366', 0);
 
-INSERT INTO gift_certificate VALUES(74, 'gift_certificate_74', 'description_74', 309.82, 12, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366');
+INSERT INTO gift_certificate VALUES(74, 'gift_certificate_74', 'description_74', 309.82, 12, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366', 0);
 
-INSERT INTO gift_certificate VALUES(75, 'gift_certificate_75', 'description_75', 276.40, 17, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366');
+INSERT INTO gift_certificate VALUES(75, 'gift_certificate_75', 'description_75', 276.40, 17, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366', 0);
 
-INSERT INTO gift_certificate VALUES(76, 'gift_certificate_76', 'description_76', 277.64, 12, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366');
+INSERT INTO gift_certificate VALUES(76, 'gift_certificate_76', 'description_76', 277.64, 12, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366', 0);
 
-INSERT INTO gift_certificate VALUES(77, 'gift_certificate_77', 'description_77', 310.16, 7, '2023-09-03T17:29:42.367', '2023-09-03T17:29:42.367');
+INSERT INTO gift_certificate VALUES(77, 'gift_certificate_77', 'description_77', 310.16, 7, '2023-09-03T17:29:42.367', '2023-09-03T17:29:42.367', 0);
 
-INSERT INTO gift_certificate VALUES(78, 'gift_certificate_78', 'description_78', 173.15, 15, '2023-09-03T17:29:42.367', '2023-09-03T17:29:42.367');
+INSERT INTO gift_certificate VALUES(78, 'gift_certificate_78', 'description_78', 173.15, 15, '2023-09-03T17:29:42.367', '2023-09-03T17:29:42.367', 0);
 
-INSERT INTO gift_certificate VALUES(79, 'gift_certificate_79', 'description_79', 110.12, 17, '2023-09-03T17:29:42.367', '2023-09-03T17:29:42.367');
+INSERT INTO gift_certificate VALUES(79, 'gift_certificate_79', 'description_79', 110.12, 17, '2023-09-03T17:29:42.367', '2023-09-03T17:29:42.367', 0);
 
-INSERT INTO gift_certificate VALUES(80, 'gift_certificate_80', 'description_80', 313.16, 17, '2023-09-03T17:29:42.367', '2023-09-03T17:29:42.367');
+INSERT INTO gift_certificate VALUES(80, 'gift_certificate_80', 'description_80', 313.16, 17, '2023-09-03T17:29:42.367', '2023-09-03T17:29:42.367', 0);
 
-INSERT INTO gift_certificate VALUES(81, 'gift_certificate_81', 'description_81', 435.86, 5, '2023-09-03T17:29:42.367', '2023-09-03T17:29:42.367');
+INSERT INTO gift_certificate VALUES(81, 'gift_certificate_81', 'description_81', 435.86, 5, '2023-09-03T17:29:42.367', '2023-09-03T17:29:42.367', 0);
 
-INSERT INTO gift_certificate VALUES(82, 'gift_certificate_82', 'description_82', 412.21, 17, '2023-09-03T17:29:42.367', '2023-09-03T17:29:42.367');
+INSERT INTO gift_certificate VALUES(82, 'gift_certificate_82', 'description_82', 412.21, 17, '2023-09-03T17:29:42.367', '2023-09-03T17:29:42.367', 0);
 
-INSERT INTO gift_certificate VALUES(83, 'gift_certificate_83', 'description_83', 444.63, 14, '2023-09-03T17:29:42.367', '2023-09-03T17:29:42.367');
+INSERT INTO gift_certificate VALUES(83, 'gift_certificate_83', 'description_83', 444.63, 14, '2023-09-03T17:29:42.367', '2023-09-03T17:29:42.367', 0);
 
-INSERT INTO gift_certificate VALUES(84, 'gift_certificate_84', 'description_84', 144.13, 18, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(84, 'gift_certificate_84', 'description_84', 144.13, 18, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(85, 'gift_certificate_85', 'description_85', 344.16, 6, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(85, 'gift_certificate_85', 'description_85', 344.16, 6, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(86, 'gift_certificate_86', 'description_86', 489.85, 12, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(86, 'gift_certificate_86', 'description_86', 489.85, 12, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(87, 'gift_certificate_87', 'description_87', 455.60, 12, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(87, 'gift_certificate_87', 'description_87', 455.60, 12, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(88, 'gift_certificate_88', 'description_88', 102.77, 7, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(88, 'gift_certificate_88', 'description_88', 102.77, 7, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(89, 'gift_certificate_89', 'description_89', 164.55, 14, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(89, 'gift_certificate_89', 'description_89', 164.55, 14, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(90, 'gift_certificate_90', 'description_90', 322.72, 18, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(90, 'gift_certificate_90', 'description_90', 322.72, 18, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(91, 'gift_certificate_91', 'description_91', 399.88, 7, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(91, 'gift_certificate_91', 'description_91', 399.88, 7, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(92, 'gift_certificate_92', 'description_92', 331.89, 9, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(92, 'gift_certificate_92', 'description_92', 331.89, 9, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(93, 'gift_certificate_93', 'description_93', 270.54, 19, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(93, 'gift_certificate_93', 'description_93', 270.54, 19, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(94, 'gift_certificate_94', 'description_94', 114.51, 8, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(94, 'gift_certificate_94', 'description_94', 114.51, 8, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(95, 'gift_certificate_95', 'description_95', 297.94, 15, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(95, 'gift_certificate_95', 'description_95', 297.94, 15, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(96, 'gift_certificate_96', 'description_96', 439.99, 10, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(96, 'gift_certificate_96', 'description_96', 439.99, 10, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(97, 'gift_certificate_97', 'description_97', 275.58, 16, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(97, 'gift_certificate_97', 'description_97', 275.58, 16, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(98, 'gift_certificate_98', 'description_98', 433.80, 9, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(98, 'gift_certificate_98', 'description_98', 433.80, 9, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(99, 'gift_certificate_99', 'description_99', 419.50, 8, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(99, 'gift_certificate_99', 'description_99', 419.50, 8, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(100, 'gift_certificate_100', 'description_100', 270.12, 8, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(100, 'gift_certificate_100', 'description_100', 270.12, 8, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(101, 'gift_certificate_101', 'description_101', 362.47, 5, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(101, 'gift_certificate_101', 'description_101', 362.47, 5, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(102, 'gift_certificate_102', 'description_102', 490.95, 8, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(102, 'gift_certificate_102', 'description_102', 490.95, 8, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(103, 'gift_certificate_103', 'description_103', 197.95, 18, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(103, 'gift_certificate_103', 'description_103', 197.95, 18, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(104, 'gift_certificate_104', 'description_104', 257.75, 5, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(104, 'gift_certificate_104', 'description_104', 257.75, 5, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(105, 'gift_certificate_105', 'description_105', 203.94, 19, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(105, 'gift_certificate_105', 'description_105', 203.94, 19, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(106, 'gift_certificate_106', 'description_106', 476.99, 16, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(106, 'gift_certificate_106', 'description_106', 476.99, 16, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(107, 'gift_certificate_107', 'description_107', 138.76, 7, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(107, 'gift_certificate_107', 'description_107', 138.76, 7, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(108, 'gift_certificate_108', 'description_108', 389.42, 17, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(108, 'gift_certificate_108', 'description_108', 389.42, 17, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(109, 'gift_certificate_109', 'description_109', 462.39, 5, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(109, 'gift_certificate_109', 'description_109', 462.39, 5, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(110, 'gift_certificate_110', 'description_110', 492.51, 9, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(110, 'gift_certificate_110', 'description_110', 492.51, 9, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(111, 'gift_certificate_111', 'description_111', 202.94, 14, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(111, 'gift_certificate_111', 'description_111', 202.94, 14, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(112, 'gift_certificate_112', 'description_112', 452.47, 9, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(112, 'gift_certificate_112', 'description_112', 452.47, 9, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(113, 'gift_certificate_113', 'description_113', 175.84, 7, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(113, 'gift_certificate_113', 'description_113', 175.84, 7, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(114, 'gift_certificate_114', 'description_114', 475.29, 8, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(114, 'gift_certificate_114', 'description_114', 475.29, 8, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(115, 'gift_certificate_115', 'description_115', 192.91, 14, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(115, 'gift_certificate_115', 'description_115', 192.91, 14, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(116, 'gift_certificate_116', 'description_116', 306.75, 14, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(116, 'gift_certificate_116', 'description_116', 306.75, 14, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(117, 'gift_certificate_117', 'description_117', 121.54, 10, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(117, 'gift_certificate_117', 'description_117', 121.54, 10, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(118, 'gift_certificate_118', 'description_118', 250.29, 5, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(118, 'gift_certificate_118', 'description_118', 250.29, 5, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(119, 'gift_certificate_119', 'description_119', 145.09, 6, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(119, 'gift_certificate_119', 'description_119', 145.09, 6, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(120, 'gift_certificate_120', 'description_120', 263.42, 6, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(120, 'gift_certificate_120', 'description_120', 263.42, 6, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(121, 'gift_certificate_121', 'description_121', 324.18, 6, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(121, 'gift_certificate_121', 'description_121', 324.18, 6, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(122, 'gift_certificate_122', 'description_122', 458.22, 9, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(122, 'gift_certificate_122', 'description_122', 458.22, 9, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(123, 'gift_certificate_123', 'description_123', 412.36, 8, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(123, 'gift_certificate_123', 'description_123', 412.36, 8, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(124, 'gift_certificate_124', 'description_124', 427.52, 11, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(124, 'gift_certificate_124', 'description_124', 427.52, 11, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(125, 'gift_certificate_125', 'description_125', 494.39, 19, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370');
+INSERT INTO gift_certificate VALUES(125, 'gift_certificate_125', 'description_125', 494.39, 19, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370', 0);
 
-INSERT INTO gift_certificate VALUES(126, 'gift_certificate_126', 'description_126', 360.89, 8, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370');
+INSERT INTO gift_certificate VALUES(126, 'gift_certificate_126', 'description_126', 360.89, 8, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370', 0);
 
-INSERT INTO gift_certificate VALUES(127, 'gift_certificate_127', 'description_127', 223.20, 8, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370');
+INSERT INTO gift_certificate VALUES(127, 'gift_certificate_127', 'description_127', 223.20, 8, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370', 0);
 
-INSERT INTO gift_certificate VALUES(128, 'gift_certificate_128', 'description_128', 322.09, 18, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370');
+INSERT INTO gift_certificate VALUES(128, 'gift_certificate_128', 'description_128', 322.09, 18, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370', 0);
 
-INSERT INTO gift_certificate VALUES(129, 'gift_certificate_129', 'description_129', 407.68, 7, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370');
+INSERT INTO gift_certificate VALUES(129, 'gift_certificate_129', 'description_129', 407.68, 7, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370', 0);
 
-INSERT INTO gift_certificate VALUES(130, 'gift_certificate_130', 'description_130', 212.22, 11, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370');
+INSERT INTO gift_certificate VALUES(130, 'gift_certificate_130', 'description_130', 212.22, 11, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370', 0);
 
-INSERT INTO gift_certificate VALUES(131, 'gift_certificate_131', 'description_131', 173.73, 17, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370');
+INSERT INTO gift_certificate VALUES(131, 'gift_certificate_131', 'description_131', 173.73, 17, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370', 0);
 
-INSERT INTO gift_certificate VALUES(132, 'gift_certificate_132', 'description_132', 145.49, 15, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370');
+INSERT INTO gift_certificate VALUES(132, 'gift_certificate_132', 'description_132', 145.49, 15, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370', 0);
 
-INSERT INTO gift_certificate VALUES(133, 'gift_certificate_133', 'description_133', 415.27, 16, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370');
+INSERT INTO gift_certificate VALUES(133, 'gift_certificate_133', 'description_133', 415.27, 16, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370', 0);
 
-INSERT INTO gift_certificate VALUES(134, 'gift_certificate_134', 'description_134', 479.23, 10, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370');
+INSERT INTO gift_certificate VALUES(134, 'gift_certificate_134', 'description_134', 479.23, 10, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370', 0);
 
-INSERT INTO gift_certificate VALUES(135, 'gift_certificate_135', 'description_135', 128.81, 14, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370');
+INSERT INTO gift_certificate VALUES(135, 'gift_certificate_135', 'description_135', 128.81, 14, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370', 0);
 
-INSERT INTO gift_certificate VALUES(136, 'gift_certificate_136', 'description_136', 356.79, 13, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370');
+INSERT INTO gift_certificate VALUES(136, 'gift_certificate_136', 'description_136', 356.79, 13, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370', 0);
 
-INSERT INTO gift_certificate VALUES(137, 'gift_certificate_137', 'description_137', 289.84, 12, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370');
+INSERT INTO gift_certificate VALUES(137, 'gift_certificate_137', 'description_137', 289.84, 12, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370', 0);
 
-INSERT INTO gift_certificate VALUES(138, 'gift_certificate_138', 'description_138', 298.38, 16, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370');
+INSERT INTO gift_certificate VALUES(138, 'gift_certificate_138', 'description_138', 298.38, 16, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370', 0);
 
-INSERT INTO gift_certificate VALUES(139, 'gift_certificate_139', 'description_139', 338.60, 15, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370');
+INSERT INTO gift_certificate VALUES(139, 'gift_certificate_139', 'description_139', 338.60, 15, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370', 0);
 
-INSERT INTO gift_certificate VALUES(140, 'gift_certificate_140', 'description_140', 142.40, 13, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370');
+INSERT INTO gift_certificate VALUES(140, 'gift_certificate_140', 'description_140', 142.40, 13, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370', 0);
 
-INSERT INTO gift_certificate VALUES(141, 'gift_certificate_141', 'description_141', 304.18, 12, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370');
+INSERT INTO gift_certificate VALUES(141, 'gift_certificate_141', 'description_141', 304.18, 12, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370', 0);
 
-INSERT INTO gift_certificate VALUES(142, 'gift_certificate_142', 'description_142', 388.12, 16, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370');
+INSERT INTO gift_certificate VALUES(142, 'gift_certificate_142', 'description_142', 388.12, 16, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370', 0);
 
-INSERT INTO gift_certificate VALUES(143, 'gift_certificate_143', 'description_143', 116.00, 14, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(143, 'gift_certificate_143', 'description_143', 116.00, 14, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(144, 'gift_certificate_144', 'description_144', 426.31, 16, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(144, 'gift_certificate_144', 'description_144', 426.31, 16, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(145, 'gift_certificate_145', 'description_145', 449.05, 17, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(145, 'gift_certificate_145', 'description_145', 449.05, 17, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(146, 'gift_certificate_146', 'description_146', 104.59, 14, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(146, 'gift_certificate_146', 'description_146', 104.59, 14, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(147, 'gift_certificate_147', 'description_147', 200.55, 10, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(147, 'gift_certificate_147', 'description_147', 200.55, 10, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(148, 'gift_certificate_148', 'description_148', 227.36, 16, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(148, 'gift_certificate_148', 'description_148', 227.36, 16, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(149, 'gift_certificate_149', 'description_149', 483.31, 10, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(149, 'gift_certificate_149', 'description_149', 483.31, 10, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(150, 'gift_certificate_150', 'description_150', 350.38, 19, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(150, 'gift_certificate_150', 'description_150', 350.38, 19, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(151, 'gift_certificate_151', 'description_151', 494.88, 5, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(151, 'gift_certificate_151', 'description_151', 494.88, 5, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(152, 'gift_certificate_152', 'description_152', 361.35, 18, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(152, 'gift_certificate_152', 'description_152', 361.35, 18, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(153, 'gift_certificate_153', 'description_153', 396.65, 18, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(153, 'gift_certificate_153', 'description_153', 396.65, 18, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(154, 'gift_certificate_154', 'description_154', 129.64, 5, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(154, 'gift_certificate_154', 'description_154', 129.64, 5, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(155, 'gift_certificate_155', 'description_155', 473.49, 6, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(155, 'gift_certificate_155', 'description_155', 473.49, 6, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(156, 'gift_certificate_156', 'description_156', 319.88, 16, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(156, 'gift_certificate_156', 'description_156', 319.88, 16, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(157, 'gift_certificate_157', 'description_157', 486.22, 10, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(157, 'gift_certificate_157', 'description_157', 486.22, 10, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(158, 'gift_certificate_158', 'description_158', 253.15, 10, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(158, 'gift_certificate_158', 'description_158', 253.15, 10, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(159, 'gift_certificate_159', 'description_159', 427.60, 16, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(159, 'gift_certificate_159', 'description_159', 427.60, 16, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(160, 'gift_certificate_160', 'description_160', 347.10, 11, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(160, 'gift_certificate_160', 'description_160', 347.10, 11, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(161, 'gift_certificate_161', 'description_161', 259.35, 9, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(161, 'gift_certificate_161', 'description_161', 259.35, 9, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(162, 'gift_certificate_162', 'description_162', 393.07, 16, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(162, 'gift_certificate_162', 'description_162', 393.07, 16, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(163, 'gift_certificate_163', 'description_163', 156.22, 9, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(163, 'gift_certificate_163', 'description_163', 156.22, 9, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(164, 'gift_certificate_164', 'description_164', 210.20, 10, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(164, 'gift_certificate_164', 'description_164', 210.20, 10, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(165, 'gift_certificate_165', 'description_165', 165.67, 19, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(165, 'gift_certificate_165', 'description_165', 165.67, 19, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(166, 'gift_certificate_166', 'description_166', 455.21, 13, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(166, 'gift_certificate_166', 'description_166', 455.21, 13, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(167, 'gift_certificate_167', 'description_167', 205.89, 5, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(167, 'gift_certificate_167', 'description_167', 205.89, 5, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(168, 'gift_certificate_168', 'description_168', 445.02, 9, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(168, 'gift_certificate_168', 'description_168', 445.02, 9, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(169, 'gift_certificate_169', 'description_169', 410.19, 17, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(169, 'gift_certificate_169', 'description_169', 410.19, 17, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(170, 'gift_certificate_170', 'description_170', 211.01, 8, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(170, 'gift_certificate_170', 'description_170', 211.01, 8, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(171, 'gift_certificate_171', 'description_171', 184.40, 17, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(171, 'gift_certificate_171', 'description_171', 184.40, 17, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(172, 'gift_certificate_172', 'description_172', 439.78, 15, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(172, 'gift_certificate_172', 'description_172', 439.78, 15, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(173, 'gift_certificate_173', 'description_173', 181.79, 18, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(173, 'gift_certificate_173', 'description_173', 181.79, 18, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(174, 'gift_certificate_174', 'description_174', 372.57, 9, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(174, 'gift_certificate_174', 'description_174', 372.57, 9, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(175, 'gift_certificate_175', 'description_175', 256.21, 19, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(175, 'gift_certificate_175', 'description_175', 256.21, 19, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(176, 'gift_certificate_176', 'description_176', 489.97, 8, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(176, 'gift_certificate_176', 'description_176', 489.97, 8, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(177, 'gift_certificate_177', 'description_177', 237.75, 11, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(177, 'gift_certificate_177', 'description_177', 237.75, 11, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(178, 'gift_certificate_178', 'description_178', 169.05, 19, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(178, 'gift_certificate_178', 'description_178', 169.05, 19, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(179, 'gift_certificate_179', 'description_179', 325.91, 15, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(179, 'gift_certificate_179', 'description_179', 325.91, 15, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(180, 'gift_certificate_180', 'description_180', 427.96, 15, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(180, 'gift_certificate_180', 'description_180', 427.96, 15, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(181, 'gift_certificate_181', 'description_181', 432.58, 5, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(181, 'gift_certificate_181', 'description_181', 432.58, 5, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(182, 'gift_certificate_182', 'description_182', 380.42, 19, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(182, 'gift_certificate_182', 'description_182', 380.42, 19, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(183, 'gift_certificate_183', 'description_183', 277.44, 6, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(183, 'gift_certificate_183', 'description_183', 277.44, 6, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(184, 'gift_certificate_184', 'description_184', 397.59, 14, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(184, 'gift_certificate_184', 'description_184', 397.59, 14, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(185, 'gift_certificate_185', 'description_185', 308.59, 19, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(185, 'gift_certificate_185', 'description_185', 308.59, 19, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(186, 'gift_certificate_186', 'description_186', 222.89, 12, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(186, 'gift_certificate_186', 'description_186', 222.89, 12, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(187, 'gift_certificate_187', 'description_187', 333.09, 15, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(187, 'gift_certificate_187', 'description_187', 333.09, 15, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(188, 'gift_certificate_188', 'description_188', 355.57, 14, '2023-09-03T17:29:42.373', '2023-09-03T17:29:42.373');
+INSERT INTO gift_certificate VALUES(188, 'gift_certificate_188', 'description_188', 355.57, 14, '2023-09-03T17:29:42.373', '2023-09-03T17:29:42.373', 0);
 
-INSERT INTO gift_certificate VALUES(189, 'gift_certificate_189', 'description_189', 340.46, 19, '2023-09-03T17:29:42.373', '2023-09-03T17:29:42.373');
+INSERT INTO gift_certificate VALUES(189, 'gift_certificate_189', 'description_189', 340.46, 19, '2023-09-03T17:29:42.373', '2023-09-03T17:29:42.373', 0);
 
-INSERT INTO gift_certificate VALUES(190, 'gift_certificate_190', 'description_190', 247.23, 15, '2023-09-03T17:29:42.373', '2023-09-03T17:29:42.373');
+INSERT INTO gift_certificate VALUES(190, 'gift_certificate_190', 'description_190', 247.23, 15, '2023-09-03T17:29:42.373', '2023-09-03T17:29:42.373', 0);
 
-INSERT INTO gift_certificate VALUES(191, 'gift_certificate_191', 'description_191', 362.59, 13, '2023-09-03T17:29:42.373', '2023-09-03T17:29:42.373');
+INSERT INTO gift_certificate VALUES(191, 'gift_certificate_191', 'description_191', 362.59, 13, '2023-09-03T17:29:42.373', '2023-09-03T17:29:42.373', 0);
 
-INSERT INTO gift_certificate VALUES(192, 'gift_certificate_192', 'description_192', 318.63, 14, '2023-09-03T17:29:42.373', '2023-09-03T17:29:42.373');
+INSERT INTO gift_certificate VALUES(192, 'gift_certificate_192', 'description_192', 318.63, 14, '2023-09-03T17:29:42.373', '2023-09-03T17:29:42.373', 0);
 
-INSERT INTO gift_certificate VALUES(193, 'gift_certificate_193', 'description_193', 444.34, 16, '2023-09-03T17:29:42.373', '2023-09-03T17:29:42.373');
+INSERT INTO gift_certificate VALUES(193, 'gift_certificate_193', 'description_193', 444.34, 16, '2023-09-03T17:29:42.373', '2023-09-03T17:29:42.373', 0);
 
-INSERT INTO gift_certificate VALUES(194, 'gift_certificate_194', 'description_194', 294.36, 18, '2023-09-03T17:29:42.373', '2023-09-03T17:29:42.373');
+INSERT INTO gift_certificate VALUES(194, 'gift_certificate_194', 'description_194', 294.36, 18, '2023-09-03T17:29:42.373', '2023-09-03T17:29:42.373', 0);
 
-INSERT INTO gift_certificate VALUES(195, 'gift_certificate_195', 'description_195', 238.20, 10, '2023-09-03T17:29:42.373', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(195, 'gift_certificate_195', 'description_195', 238.20, 10, '2023-09-03T17:29:42.373', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(196, 'gift_certificate_196', 'description_196', 370.34, 10, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(196, 'gift_certificate_196', 'description_196', 370.34, 10, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(197, 'gift_certificate_197', 'description_197', 267.76, 16, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(197, 'gift_certificate_197', 'description_197', 267.76, 16, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(198, 'gift_certificate_198', 'description_198', 437.36, 16, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(198, 'gift_certificate_198', 'description_198', 437.36, 16, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(199, 'gift_certificate_199', 'description_199', 267.75, 8, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(199, 'gift_certificate_199', 'description_199', 267.75, 8, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(200, 'gift_certificate_200', 'description_200', 371.37, 17, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(200, 'gift_certificate_200', 'description_200', 371.37, 17, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(201, 'gift_certificate_201', 'description_201', 307.22, 18, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(201, 'gift_certificate_201', 'description_201', 307.22, 18, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(202, 'gift_certificate_202', 'description_202', 472.95, 11, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(202, 'gift_certificate_202', 'description_202', 472.95, 11, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(203, 'gift_certificate_203', 'description_203', 484.57, 15, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(203, 'gift_certificate_203', 'description_203', 484.57, 15, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(204, 'gift_certificate_204', 'description_204', 289.94, 13, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(204, 'gift_certificate_204', 'description_204', 289.94, 13, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(205, 'gift_certificate_205', 'description_205', 466.24, 9, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(205, 'gift_certificate_205', 'description_205', 466.24, 9, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(206, 'gift_certificate_206', 'description_206', 225.86, 6, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(206, 'gift_certificate_206', 'description_206', 225.86, 6, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(207, 'gift_certificate_207', 'description_207', 167.79, 5, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(207, 'gift_certificate_207', 'description_207', 167.79, 5, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(208, 'gift_certificate_208', 'description_208', 421.20, 9, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(208, 'gift_certificate_208', 'description_208', 421.20, 9, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(209, 'gift_certificate_209', 'description_209', 147.61, 6, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(209, 'gift_certificate_209', 'description_209', 147.61, 6, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(210, 'gift_certificate_210', 'description_210', 234.87, 17, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(210, 'gift_certificate_210', 'description_210', 234.87, 17, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(211, 'gift_certificate_211', 'description_211', 387.97, 9, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(211, 'gift_certificate_211', 'description_211', 387.97, 9, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(212, 'gift_certificate_212', 'description_212', 448.16, 14, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(212, 'gift_certificate_212', 'description_212', 448.16, 14, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(213, 'gift_certificate_213', 'description_213', 278.04, 13, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(213, 'gift_certificate_213', 'description_213', 278.04, 13, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(214, 'gift_certificate_214', 'description_214', 246.59, 11, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(214, 'gift_certificate_214', 'description_214', 246.59, 11, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(215, 'gift_certificate_215', 'description_215', 206.81, 14, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(215, 'gift_certificate_215', 'description_215', 206.81, 14, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(216, 'gift_certificate_216', 'description_216', 389.27, 7, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(216, 'gift_certificate_216', 'description_216', 389.27, 7, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(217, 'gift_certificate_217', 'description_217', 123.58, 5, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(217, 'gift_certificate_217', 'description_217', 123.58, 5, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(218, 'gift_certificate_218', 'description_218', 182.20, 6, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(218, 'gift_certificate_218', 'description_218', 182.20, 6, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(219, 'gift_certificate_219', 'description_219', 429.11, 18, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(219, 'gift_certificate_219', 'description_219', 429.11, 18, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(220, 'gift_certificate_220', 'description_220', 404.09, 15, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(220, 'gift_certificate_220', 'description_220', 404.09, 15, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(221, 'gift_certificate_221', 'description_221', 393.06, 17, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(221, 'gift_certificate_221', 'description_221', 393.06, 17, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(222, 'gift_certificate_222', 'description_222', 361.69, 19, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(222, 'gift_certificate_222', 'description_222', 361.69, 19, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(223, 'gift_certificate_223', 'description_223', 232.62, 9, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(223, 'gift_certificate_223', 'description_223', 232.62, 9, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(224, 'gift_certificate_224', 'description_224', 456.79, 16, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(224, 'gift_certificate_224', 'description_224', 456.79, 16, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(225, 'gift_certificate_225', 'description_225', 280.84, 16, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(225, 'gift_certificate_225', 'description_225', 280.84, 16, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(226, 'gift_certificate_226', 'description_226', 251.23, 9, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(226, 'gift_certificate_226', 'description_226', 251.23, 9, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(227, 'gift_certificate_227', 'description_227', 148.05, 17, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(227, 'gift_certificate_227', 'description_227', 148.05, 17, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(228, 'gift_certificate_228', 'description_228', 313.69, 8, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(228, 'gift_certificate_228', 'description_228', 313.69, 8, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(229, 'gift_certificate_229', 'description_229', 408.33, 12, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(229, 'gift_certificate_229', 'description_229', 408.33, 12, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(230, 'gift_certificate_230', 'description_230', 251.12, 7, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(230, 'gift_certificate_230', 'description_230', 251.12, 7, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(231, 'gift_certificate_231', 'description_231', 129.04, 19, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(231, 'gift_certificate_231', 'description_231', 129.04, 19, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(232, 'gift_certificate_232', 'description_232', 195.69, 7, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(232, 'gift_certificate_232', 'description_232', 195.69, 7, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(233, 'gift_certificate_233', 'description_233', 318.38, 7, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(233, 'gift_certificate_233', 'description_233', 318.38, 7, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(234, 'gift_certificate_234', 'description_234', 410.41, 11, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(234, 'gift_certificate_234', 'description_234', 410.41, 11, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(235, 'gift_certificate_235', 'description_235', 301.66, 9, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(235, 'gift_certificate_235', 'description_235', 301.66, 9, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(236, 'gift_certificate_236', 'description_236', 307.45, 17, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(236, 'gift_certificate_236', 'description_236', 307.45, 17, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(237, 'gift_certificate_237', 'description_237', 428.71, 5, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(237, 'gift_certificate_237', 'description_237', 428.71, 5, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(238, 'gift_certificate_238', 'description_238', 290.70, 7, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(238, 'gift_certificate_238', 'description_238', 290.70, 7, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(239, 'gift_certificate_239', 'description_239', 141.52, 19, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(239, 'gift_certificate_239', 'description_239', 141.52, 19, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(240, 'gift_certificate_240', 'description_240', 473.79, 15, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(240, 'gift_certificate_240', 'description_240', 473.79, 15, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(241, 'gift_certificate_241', 'description_241', 247.03, 11, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(241, 'gift_certificate_241', 'description_241', 247.03, 11, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(242, 'gift_certificate_242', 'description_242', 175.99, 18, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(242, 'gift_certificate_242', 'description_242', 175.99, 18, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(243, 'gift_certificate_243', 'description_243', 428.79, 17, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(243, 'gift_certificate_243', 'description_243', 428.79, 17, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(244, 'gift_certificate_244', 'description_244', 354.88, 17, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(244, 'gift_certificate_244', 'description_244', 354.88, 17, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(245, 'gift_certificate_245', 'description_245', 494.24, 7, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(245, 'gift_certificate_245', 'description_245', 494.24, 7, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(246, 'gift_certificate_246', 'description_246', 442.53, 15, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(246, 'gift_certificate_246', 'description_246', 442.53, 15, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(247, 'gift_certificate_247', 'description_247', 484.25, 17, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(247, 'gift_certificate_247', 'description_247', 484.25, 17, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(248, 'gift_certificate_248', 'description_248', 186.06, 8, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(248, 'gift_certificate_248', 'description_248', 186.06, 8, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(249, 'gift_certificate_249', 'description_249', 327.35, 18, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(249, 'gift_certificate_249', 'description_249', 327.35, 18, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(250, 'gift_certificate_250', 'description_250', 239.46, 6, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(250, 'gift_certificate_250', 'description_250', 239.46, 6, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(251, 'gift_certificate_251', 'description_251', 391.12, 17, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(251, 'gift_certificate_251', 'description_251', 391.12, 17, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(252, 'gift_certificate_252', 'description_252', 422.60, 10, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(252, 'gift_certificate_252', 'description_252', 422.60, 10, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(253, 'gift_certificate_253', 'description_253', 156.76, 6, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(253, 'gift_certificate_253', 'description_253', 156.76, 6, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(254, 'gift_certificate_254', 'description_254', 357.04, 12, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(254, 'gift_certificate_254', 'description_254', 357.04, 12, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(255, 'gift_certificate_255', 'description_255', 455.27, 9, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(255, 'gift_certificate_255', 'description_255', 455.27, 9, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(256, 'gift_certificate_256', 'description_256', 339.29, 9, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(256, 'gift_certificate_256', 'description_256', 339.29, 9, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(257, 'gift_certificate_257', 'description_257', 222.99, 14, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(257, 'gift_certificate_257', 'description_257', 222.99, 14, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(258, 'gift_certificate_258', 'description_258', 399.99, 19, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(258, 'gift_certificate_258', 'description_258', 399.99, 19, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(259, 'gift_certificate_259', 'description_259', 464.61, 15, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(259, 'gift_certificate_259', 'description_259', 464.61, 15, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(260, 'gift_certificate_260', 'description_260', 175.49, 7, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(260, 'gift_certificate_260', 'description_260', 175.49, 7, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(261, 'gift_certificate_261', 'description_261', 208.39, 10, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(261, 'gift_certificate_261', 'description_261', 208.39, 10, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(262, 'gift_certificate_262', 'description_262', 146.61, 11, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(262, 'gift_certificate_262', 'description_262', 146.61, 11, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(263, 'gift_certificate_263', 'description_263', 196.05, 11, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(263, 'gift_certificate_263', 'description_263', 196.05, 11, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(264, 'gift_certificate_264', 'description_264', 328.44, 17, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(264, 'gift_certificate_264', 'description_264', 328.44, 17, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(265, 'gift_certificate_265', 'description_265', 288.09, 9, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(265, 'gift_certificate_265', 'description_265', 288.09, 9, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(266, 'gift_certificate_266', 'description_266', 433.16, 6, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(266, 'gift_certificate_266', 'description_266', 433.16, 6, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(267, 'gift_certificate_267', 'description_267', 158.47, 17, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(267, 'gift_certificate_267', 'description_267', 158.47, 17, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(268, 'gift_certificate_268', 'description_268', 155.21, 14, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(268, 'gift_certificate_268', 'description_268', 155.21, 14, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(269, 'gift_certificate_269', 'description_269', 294.75, 17, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(269, 'gift_certificate_269', 'description_269', 294.75, 17, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(270, 'gift_certificate_270', 'description_270', 435.79, 12, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(270, 'gift_certificate_270', 'description_270', 435.79, 12, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(271, 'gift_certificate_271', 'description_271', 370.71, 19, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(271, 'gift_certificate_271', 'description_271', 370.71, 19, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(272, 'gift_certificate_272', 'description_272', 271.96, 9, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(272, 'gift_certificate_272', 'description_272', 271.96, 9, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(273, 'gift_certificate_273', 'description_273', 207.88, 10, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(273, 'gift_certificate_273', 'description_273', 207.88, 10, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(274, 'gift_certificate_274', 'description_274', 103.21, 6, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(274, 'gift_certificate_274', 'description_274', 103.21, 6, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(275, 'gift_certificate_275', 'description_275', 404.65, 8, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(275, 'gift_certificate_275', 'description_275', 404.65, 8, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(276, 'gift_certificate_276', 'description_276', 428.21, 12, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(276, 'gift_certificate_276', 'description_276', 428.21, 12, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(277, 'gift_certificate_277', 'description_277', 216.08, 19, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(277, 'gift_certificate_277', 'description_277', 216.08, 19, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(278, 'gift_certificate_278', 'description_278', 140.26, 10, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(278, 'gift_certificate_278', 'description_278', 140.26, 10, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(279, 'gift_certificate_279', 'description_279', 102.38, 16, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(279, 'gift_certificate_279', 'description_279', 102.38, 16, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(280, 'gift_certificate_280', 'description_280', 477.74, 6, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(280, 'gift_certificate_280', 'description_280', 477.74, 6, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(281, 'gift_certificate_281', 'description_281', 138.55, 6, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(281, 'gift_certificate_281', 'description_281', 138.55, 6, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(282, 'gift_certificate_282', 'description_282', 405.60, 19, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(282, 'gift_certificate_282', 'description_282', 405.60, 19, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(283, 'gift_certificate_283', 'description_283', 396.71, 6, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(283, 'gift_certificate_283', 'description_283', 396.71, 6, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(284, 'gift_certificate_284', 'description_284', 145.85, 6, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(284, 'gift_certificate_284', 'description_284', 145.85, 6, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(285, 'gift_certificate_285', 'description_285', 196.65, 12, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(285, 'gift_certificate_285', 'description_285', 196.65, 12, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(286, 'gift_certificate_286', 'description_286', 492.11, 6, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(286, 'gift_certificate_286', 'description_286', 492.11, 6, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(287, 'gift_certificate_287', 'description_287', 388.47, 8, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(287, 'gift_certificate_287', 'description_287', 388.47, 8, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(288, 'gift_certificate_288', 'description_288', 125.76, 15, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(288, 'gift_certificate_288', 'description_288', 125.76, 15, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(289, 'gift_certificate_289', 'description_289', 395.64, 5, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(289, 'gift_certificate_289', 'description_289', 395.64, 5, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(290, 'gift_certificate_290', 'description_290', 418.37, 5, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(290, 'gift_certificate_290', 'description_290', 418.37, 5, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(291, 'gift_certificate_291', 'description_291', 268.94, 18, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(291, 'gift_certificate_291', 'description_291', 268.94, 18, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(292, 'gift_certificate_292', 'description_292', 347.00, 18, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(292, 'gift_certificate_292', 'description_292', 347.00, 18, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(293, 'gift_certificate_293', 'description_293', 448.46, 12, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(293, 'gift_certificate_293', 'description_293', 448.46, 12, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(294, 'gift_certificate_294', 'description_294', 394.92, 15, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(294, 'gift_certificate_294', 'description_294', 394.92, 15, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(295, 'gift_certificate_295', 'description_295', 458.35, 16, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(295, 'gift_certificate_295', 'description_295', 458.35, 16, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(296, 'gift_certificate_296', 'description_296', 414.47, 14, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(296, 'gift_certificate_296', 'description_296', 414.47, 14, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(297, 'gift_certificate_297', 'description_297', 339.48, 10, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(297, 'gift_certificate_297', 'description_297', 339.48, 10, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(298, 'gift_certificate_298', 'description_298', 300.44, 11, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(298, 'gift_certificate_298', 'description_298', 300.44, 11, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(299, 'gift_certificate_299', 'description_299', 429.54, 6, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(299, 'gift_certificate_299', 'description_299', 429.54, 6, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(300, 'gift_certificate_300', 'description_300', 436.53, 15, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(300, 'gift_certificate_300', 'description_300', 436.53, 15, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
 INSERT INTO gift_certificate_tag VALUES(1, 71);
 
@@ -1997,29 +1997,29 @@ INSERT INTO gift_certificate_tag VALUES(300, 38);
 
 INSERT INTO gift_certificate_tag VALUES(300, 5);
 
-INSERT INTO roles VALUES(default, 'ROLE_USER');
+INSERT INTO roles VALUES(default, 'ROLE_USER', 0);
 
-INSERT INTO roles VALUES(default, 'ROLE_ADMIN');
+INSERT INTO roles VALUES(default, 'ROLE_ADMIN', 0);
 
-INSERT INTO user VALUES(1, 'admin', '$2a$10$dzKR45RDQsbhpe5EYaw1sOeV1jFqQYER8C7zKHkxno1J.FSCUKi96');
+INSERT INTO user VALUES(1, 'admin', '$2a$10$dzKR45RDQsbhpe5EYaw1sOeV1jFqQYER8C7zKHkxno1J.FSCUKi96', 0);
 
-INSERT INTO user VALUES(2, 'user_1', '$2a$10$9E54u7jYvRsIAQHPDdIDUO.aSF0U.lms9rN9x..eFxnxV1A83YmNO');
+INSERT INTO user VALUES(2, 'user_1', '$2a$10$9E54u7jYvRsIAQHPDdIDUO.aSF0U.lms9rN9x..eFxnxV1A83YmNO', 0);
 
-INSERT INTO user VALUES(3, 'user_2', '$2a$10$UdsgQSmfeDw7YA30mH4Ey.KuSCSF.LdScz8nsqK.kZt6Scz3UTnFW');
+INSERT INTO user VALUES(3, 'user_2', '$2a$10$UdsgQSmfeDw7YA30mH4Ey.KuSCSF.LdScz8nsqK.kZt6Scz3UTnFW', 0);
 
-INSERT INTO user VALUES(4, 'user_3', '$2a$10$/c6WpSgxc2y45b2aM7XIv.QrvZJ3/7z/9aoOaeIdeSZgUCrkF6ddC');
+INSERT INTO user VALUES(4, 'user_3', '$2a$10$/c6WpSgxc2y45b2aM7XIv.QrvZJ3/7z/9aoOaeIdeSZgUCrkF6ddC', 0);
 
-INSERT INTO user VALUES(5, 'user_4', '$2a$10$Zg9H.x4H/3J0ABQTbzun2u65SN/ItC6oubQY9v09I4h1QezZEzSoa');
+INSERT INTO user VALUES(5, 'user_4', '$2a$10$Zg9H.x4H/3J0ABQTbzun2u65SN/ItC6oubQY9v09I4h1QezZEzSoa', 0);
 
-INSERT INTO user VALUES(6, 'user_5', '$2a$10$QwRV/GAE308Ueblq/VslaeVHQhDfe4GQWXHAtzQGa6DzaMOTkxxly');
+INSERT INTO user VALUES(6, 'user_5', '$2a$10$QwRV/GAE308Ueblq/VslaeVHQhDfe4GQWXHAtzQGa6DzaMOTkxxly', 0);
 
-INSERT INTO user VALUES(7, 'user_6', '$2a$10$QQTx8sQ1ZKNKJZGoXzYD9uc3ll/Kgb8bQzcKp62yb9y4teyoax6wu');
+INSERT INTO user VALUES(7, 'user_6', '$2a$10$QQTx8sQ1ZKNKJZGoXzYD9uc3ll/Kgb8bQzcKp62yb9y4teyoax6wu', 0);
 
-INSERT INTO user VALUES(8, 'user_7', '$2a$10$QA3SxdLNLfwwjutAjXhDiOyiboNtBMDSg4LTeQYfkLZxlBdxUPWCG');
+INSERT INTO user VALUES(8, 'user_7', '$2a$10$QA3SxdLNLfwwjutAjXhDiOyiboNtBMDSg4LTeQYfkLZxlBdxUPWCG', 0);
 
-INSERT INTO user VALUES(9, 'user_8', '$2a$10$U/i7jhUi5XS1KH7Mscynfu9nww0Pdj189RgxKy0ExwBiPuu04AZxK');
+INSERT INTO user VALUES(9, 'user_8', '$2a$10$U/i7jhUi5XS1KH7Mscynfu9nww0Pdj189RgxKy0ExwBiPuu04AZxK', 0);
 
-INSERT INTO user VALUES(10, 'user_9', '$2a$10$y/mRMMiuSGp2qGRPyV65eefmV.bJj4gZO6aJoDHy38Q4httFLd.te');
+INSERT INTO user VALUES(10, 'user_9', '$2a$10$y/mRMMiuSGp2qGRPyV65eefmV.bJj4gZO6aJoDHy38Q4httFLd.te', 0);
 
 INSERT INTO users_roles VALUES(default, 1, 2);
 
@@ -0,0 +1,68 @@
+package epam.com.esm.config.execution;
+
+import epam.com.esm.exception.types.UnexpectedException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+public class ExecutionConfigTest {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withUserConfiguration(ExecutionConfig.class);
+
+    @Test
+    public void willKeepPlatformThreadsInPlatformMode() {
+        runner.withPropertyValues("execution.mode=platform").run(context -> {
+            Assertions.assertNull(context.getStartupFailure());
+            Assertions.assertTrue(context.getBeansOfType(TaskScheduler.class).isEmpty());
+        });
+    }
+
+    @Test
+    public void willFailVirtualModeOnRuntimeWithoutVirtualThreads() {
+        Assumptions.assumeFalse(VirtualThreads.isSupported());
+
+        runner.withPropertyValues("execution.mode=virtual").run(context -> {
+            Throwable cause = NestedExceptionUtils.getMostSpecificCause(context.getStartupFailure());
+
+            Assertions.assertTrue(cause instanceof UnexpectedException);
+            Assertions.assertTrue(cause.getMessage().startsWith("Virtual threads require Java 21+"));
+        });
+    }
+
+    @Test
+    public void willRunTasksOnVirtualThreadsInVirtualMode() {
+        Assumptions.assumeTrue(VirtualThreads.isSupported());
+
+        runner.withPropertyValues("execution.mode=virtual").run(context -> {
+            Assertions.assertNull(context.getStartupFailure());
+            Assertions.assertEquals(1, context.getBeansOfType(TaskScheduler.class).size());
+        });
+    }
+
+    @Test
+    public void willRejectVirtualThreadsOnRuntimeWithoutThem() {
+        Assumptions.assumeFalse(VirtualThreads.isSupported());
+
+        Assertions.assertThrows(UnexpectedException.class, () -> VirtualThreads.newThreadFactory("vt-"));
+        Assertions.assertThrows(UnexpectedException.class, () -> VirtualThreads.newThreadPerTaskExecutor("vt-"));
+    }
+
+    @Test
+    public void willStartNamedVirtualThreadPerTask() throws Exception {
+        Assumptions.assumeTrue(VirtualThreads.isSupported());
+        Executor executor = VirtualThreads.newThreadPerTaskExecutor("vt-");
+        CompletableFuture<String> name = new CompletableFuture<>();
+
+        executor.execute(() -> name.complete(Thread.currentThread().getName()));
+
+        Assertions.assertEquals("vt-0", name.get(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,35 @@
+package epam.com.esm.config.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class LatencyTimerTest {
+
+    @Test
+    public void willCountCallsByCumulativeBuckets() {
+        LatencyTimer timer = new LatencyTimer();
+        timer.record(TimeUnit.MICROSECONDS.toNanos(500));
+        timer.record(TimeUnit.MILLISECONDS.toNanos(1));
+        timer.record(TimeUnit.MILLISECONDS.toNanos(7));
+        long[] counts = timer.getCumulativeCounts();
+
+        Assertions.assertEquals(2, counts[0]);
+        Assertions.assertEquals(2, counts[2]);
+        Assertions.assertEquals(3, counts[3]);
+        Assertions.assertEquals(3, counts[counts.length - 1]);
+    }
+
+    @Test
+    public void willCountCallsOverLastBoundOnlyByTotal() {
+        LatencyTimer timer = new LatencyTimer();
+        timer.record(TimeUnit.SECONDS.toNanos(20));
+        long[] counts = timer.getCumulativeCounts();
+
+        Assertions.assertEquals(0, counts[counts.length - 1]);
+        Assertions.assertEquals(1, timer.getCount());
+        Assertions.assertEquals(20.0, timer.getMaxSeconds(), 1e-9);
+        Assertions.assertEquals(20.0, timer.getTotalSeconds(), 1e-9);
+    }
+}
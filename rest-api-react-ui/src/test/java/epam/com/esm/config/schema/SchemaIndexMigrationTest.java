@@ -0,0 +1,80 @@
+package epam.com.esm.config.schema;
+
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class SchemaIndexMigrationTest {
+
+    @Test
+    public void willHaveFixedChecksum() {
+        Integer checksum = new SchemaIndexMigration().getChecksum();
+
+        Assertions.assertNotNull(checksum);
+        Assertions.assertEquals(checksum, new SchemaIndexMigration().getChecksum());
+        Assertions.assertEquals(MigrationVersion.fromVersion("2"), new SchemaIndexMigration().getVersion());
+    }
+
+    @Test
+    public void willAlterTextDatesAndCreateMissingIndexes() throws SQLException {
+        //initial data
+        SchemaIndex missing = SchemaIndexesTest.find("idx_gift_certificate_create_date");
+        List<SchemaIndex> existing = new ArrayList<>(SchemaIndexes.EXPECTED);
+        existing.remove(missing);
+        Connection c = SchemaIndexesTest.connectionWith(SchemaIndexesTest.rowsOf(existing));
+        Statement st = Mockito.mock(Statement.class);
+        PreparedStatement types = Mockito.mock(PreparedStatement.class);
+        ResultSet type = Mockito.mock(ResultSet.class);
+        Context context = Mockito.mock(Context.class);
+
+        Mockito.when(context.getConnection()).thenReturn(c);
+        Mockito.when(c.createStatement()).thenReturn(st);
+        Mockito.when(c.prepareStatement(startsWith("SELECT DATA_TYPE"))).thenReturn(types);
+        Mockito.when(types.executeQuery()).thenReturn(type);
+        Mockito.when(type.next()).thenReturn(true);
+        Mockito.when(type.getString(1)).thenReturn("varchar", "datetime", "varchar", "datetime");
+
+        new SchemaIndexMigration().migrate(context);
+
+        verify(st).execute("ALTER TABLE `gift_certificate` MODIFY `create_date` datetime(3)");
+        verify(st).execute("ALTER TABLE `gift_certificate_audit` MODIFY `create_date` datetime(3)");
+        verify(st, never()).execute("ALTER TABLE `gift_certificate` MODIFY `last_update_date` datetime(3)");
+        verify(st).execute(missing.toDdl());
+        verify(st, Mockito.times(3)).execute(anyString());
+    }
+
+    @Test
+    public void willSkipMissingDateColumns() throws SQLException {
+        //initial data
+        Connection c = SchemaIndexesTest.connectionWith(SchemaIndexesTest.rowsOf(SchemaIndexes.EXPECTED));
+        Statement st = Mockito.mock(Statement.class);
+        PreparedStatement types = Mockito.mock(PreparedStatement.class);
+        ResultSet type = Mockito.mock(ResultSet.class);
+        Context context = Mockito.mock(Context.class);
+
+        Mockito.when(context.getConnection()).thenReturn(c);
+        Mockito.when(c.createStatement()).thenReturn(st);
+        Mockito.when(c.prepareStatement(startsWith("SELECT DATA_TYPE"))).thenReturn(types);
+        Mockito.when(types.executeQuery()).thenReturn(type);
+        Mockito.when(type.next()).thenReturn(false);
+
+        new SchemaIndexMigration().migrate(context);
+
+        verify(st, never()).execute(anyString());
+    }
+}
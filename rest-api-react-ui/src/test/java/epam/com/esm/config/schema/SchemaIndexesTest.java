@@ -0,0 +1,111 @@
+package epam.com.esm.config.schema;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.startsWith;
+
+public class SchemaIndexesTest {
+
+    @Test
+    public void willFindNoMissingIndexesIfAllExist() throws SQLException {
+        //initial data
+        Connection c = connectionWith(rowsOf(SchemaIndexes.EXPECTED));
+
+        Assertions.assertTrue(SchemaIndexes.findMissing(c).isEmpty());
+    }
+
+    @Test
+    public void willFindAllIndexesMissingFromEmptySchema() throws SQLException {
+        //initial data
+        Connection c = connectionWith(Collections.emptyList());
+
+        Assertions.assertEquals(SchemaIndexes.EXPECTED, SchemaIndexes.findMissing(c));
+    }
+
+    @Test
+    public void willFindIndexMissingFromSchema() throws SQLException {
+        //initial data
+        SchemaIndex missing = find("idx_purchase_data_status_end");
+        List<SchemaIndex> existing = new ArrayList<>(SchemaIndexes.EXPECTED);
+        existing.remove(missing);
+        Connection c = connectionWith(rowsOf(existing));
+
+        Assertions.assertEquals(Collections.singletonList(missing), SchemaIndexes.findMissing(c));
+    }
+
+    @Test
+    public void willAcceptIndexCreatedUnderOtherName() throws SQLException {
+        //initial data
+        List<SchemaIndex> existing = new ArrayList<>(SchemaIndexes.EXPECTED);
+        existing.remove(find("idx_tag_name"));
+        List<String[]> rows = rowsOf(existing);
+        rows.add(new String[]{"tag", "uniq_tag_name", "BTREE", "name"});
+        Connection c = connectionWith(rows);
+
+        Assertions.assertTrue(SchemaIndexes.findMissing(c).isEmpty());
+    }
+
+    @Test
+    public void willNotAcceptRegularIndexInsteadOfFullText() throws SQLException {
+        //initial data
+        SchemaIndex missing = find("ft_tag_name");
+        List<SchemaIndex> existing = new ArrayList<>(SchemaIndexes.EXPECTED);
+        existing.remove(missing);
+        List<String[]> rows = rowsOf(existing);
+        rows.add(new String[]{"tag", "ft_tag_name", "BTREE", "name"});
+        Connection c = connectionWith(rows);
+
+        Assertions.assertEquals(Collections.singletonList(missing), SchemaIndexes.findMissing(c));
+    }
+
+    @Test
+    public void willDescribeIndexes() {
+        //initial data
+        List<SchemaIndex> indexes = Arrays.asList(find("idx_tag_name"), find("idx_purchase_data_status_end"));
+
+        Assertions.assertEquals("tag.idx_tag_name[name], purchase_data.idx_purchase_data_status_end[status, end]",
+                                SchemaIndexes.describe(indexes));
+    }
+
+    static SchemaIndex find(String name) {
+        return SchemaIndexes.EXPECTED.stream().filter(i -> i.getName().equals(name)).findFirst().get();
+    }
+
+    static List<String[]> rowsOf(List<SchemaIndex> indexes) {
+        List<String[]> rows = new ArrayList<>();
+
+        for (SchemaIndex index : indexes) {
+            for (String column : index.getColumns()) {
+                rows.add(new String[]{index.getTable(), index.getName(),
+                                      index.isFullText() ? "FULLTEXT" : "BTREE", column});
+            }
+        }
+
+        return rows;
+    }
+
+    static Connection connectionWith(List<String[]> rows) throws SQLException {
+        Connection c = Mockito.mock(Connection.class);
+        PreparedStatement ps = Mockito.mock(PreparedStatement.class);
+        ResultSet rs = Mockito.mock(ResultSet.class);
+        int[] row = {-1};
+
+        Mockito.when(c.prepareStatement(startsWith("SELECT TABLE_NAME"))).thenReturn(ps);
+        Mockito.when(ps.executeQuery()).thenReturn(rs);
+        Mockito.when(rs.next()).thenAnswer(inv -> ++row[0] < rows.size());
+        Mockito.when(rs.getString(anyInt())).thenAnswer(inv -> rows.get(row[0])[inv.<Integer>getArgument(0) - 1]);
+        return c;
+    }
+}
@@ -1,14 +1,17 @@
 package epam.com.esm.model.facade.impl.products;
 
+import epam.com.esm.model.service.impl.products.CatalogImportService;
 import epam.com.esm.model.service.impl.products.GiftCertificateServiceImpl;
 import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
 import epam.com.esm.persistence.entity.impl.products.Tag;
 import epam.com.esm.utils.search.data.AbstractDataHandler;
 import epam.com.esm.utils.search.data.impl.products.GiftCertificateDataHandler;
 import epam.com.esm.utils.search.data.impl.products.TagDataHandler;
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
 import epam.com.esm.utils.search.transport.response.PageDataResponse;
 import epam.com.esm.utils.search.transport.response.SearchParamResponse;
 import epam.com.esm.utils.verifiers.products.GiftCertificateDtoVerifier;
+import epam.com.esm.utils.versions.VersionStamp;
 import epam.com.esm.view.dto.request.impl.products.GiftCertificateDtoRequest;
 import epam.com.esm.view.dto.request.impl.products.GiftCertificateTagsDtoRequest;
 import epam.com.esm.view.dto.response.impl.products.GiftCertificateDtoResponse;
@@ -18,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.context.request.WebRequest;
 
@@ -37,6 +41,12 @@ public class GiftCertificateFacadeImplTest {
     @Mock
     public GiftCertificateDtoVerifier gcDtoVerifier;
 
+    @Mock
+    public CatalogImportService importService;
+
+    @Spy
+    public FilterMetadataRegistry registry = new FilterMetadataRegistry();
+
     @InjectMocks
     public GiftCertificateFacadeImpl gcFacade;
 
@@ -93,7 +103,7 @@ public class GiftCertificateFacadeImplTest {
     public void willFindAll() {
         WebRequest webRequest = mock(WebRequest.class);
 
-        AbstractDataHandler<GiftCertificate, GiftCertificateDtoResponse> adh = new GiftCertificateDataHandler();
+        AbstractDataHandler<GiftCertificate, GiftCertificateDtoResponse> adh = new GiftCertificateDataHandler(registry);
         SearchParamResponse<GiftCertificate> spResp = new SearchParamResponse<>();
 
         when(gcService.findAll(adh.processSearch(webRequest))).thenReturn(spResp);
@@ -111,7 +121,7 @@ public class GiftCertificateFacadeImplTest {
     public void willFindAllTagged() {
         WebRequest webRequest = mock(WebRequest.class);
 
-        AbstractDataHandler<GiftCertificate, GiftCertificateDtoResponse> adh = new GiftCertificateDataHandler();
+        AbstractDataHandler<GiftCertificate, GiftCertificateDtoResponse> adh = new GiftCertificateDataHandler(registry);
         SearchParamResponse<GiftCertificate> spResp = new SearchParamResponse<>();
 
         when(gcService.findAllTagged(adh.processSearch(webRequest))).thenReturn(spResp);
@@ -129,7 +139,7 @@ public class GiftCertificateFacadeImplTest {
     public void willFindAllNotTagged() {
         WebRequest webRequest = mock(WebRequest.class);
 
-        AbstractDataHandler<GiftCertificate, GiftCertificateDtoResponse> adh = new GiftCertificateDataHandler();
+        AbstractDataHandler<GiftCertificate, GiftCertificateDtoResponse> adh = new GiftCertificateDataHandler(registry);
         SearchParamResponse<GiftCertificate> spResp = new SearchParamResponse<>();
 
         when(gcService.findAllNotTagged(adh.processSearch(webRequest))).thenReturn(spResp);
@@ -148,7 +158,7 @@ public class GiftCertificateFacadeImplTest {
         WebRequest webRequest = mock(WebRequest.class);
 
         GiftCertificate gc = getProperGiftCertificate();
-        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler();
+        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler(registry);
         SearchParamResponse<Tag> spResp = new SearchParamResponse<>();
 
         when(gcService.findTags(gc.getId(), adh.processSearch(webRequest))).thenReturn(spResp);
@@ -188,4 +198,18 @@ public class GiftCertificateFacadeImplTest {
         GiftCertificateDtoResponse withTagsAdded = gcFacade.deleteTags(gc.getId(), gcReq);
         Assertions.assertEquals(gcResp, withTagsAdded);
     }
+
+    @Test
+    public void willFindVersion() {
+        //initial data
+        GiftCertificate gc = getProperGiftCertificate();
+        VersionStamp stamp = new VersionStamp(1L, gc.getId(), 0L, 0L, null, null);
+
+        //find version
+        when(gcService.findVersion(gc.getId())).thenReturn(stamp);
+
+        //generate response
+        VersionStamp found = gcFacade.findVersion(gc.getId());
+        Assertions.assertEquals(stamp, found);
+    }
 }
\ No newline at end of file
@@ -6,9 +6,11 @@ import epam.com.esm.persistence.entity.impl.products.Tag;
 import epam.com.esm.utils.search.data.AbstractDataHandler;
 import epam.com.esm.utils.search.data.impl.products.GiftCertificateDataHandler;
 import epam.com.esm.utils.search.data.impl.products.TagDataHandler;
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
 import epam.com.esm.utils.search.transport.response.PageDataResponse;
 import epam.com.esm.utils.search.transport.response.SearchParamResponse;
 import epam.com.esm.utils.verifiers.products.TagDtoVerifier;
+import epam.com.esm.utils.versions.VersionStamp;
 import epam.com.esm.view.dto.request.impl.products.TagDtoRequest;
 import epam.com.esm.view.dto.request.impl.products.TagGiftCertificatesDtoRequest;
 import epam.com.esm.view.dto.response.impl.products.GiftCertificateDtoResponse;
@@ -18,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.context.request.WebRequest;
 
@@ -37,6 +40,9 @@ public class TagFacadeImplTest {
     @Mock
     public TagDtoVerifier tagDtoVerifier;
 
+    @Spy
+    public FilterMetadataRegistry registry = new FilterMetadataRegistry();
+
     @InjectMocks
     public TagFacadeImpl tagFacade;
 
@@ -90,7 +96,7 @@ public class TagFacadeImplTest {
         WebRequest webRequest = mock(WebRequest.class);
 
         //initial data
-        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler();
+        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler(registry);
         SearchParamResponse<Tag> spResp = new SearchParamResponse<>();
 
         //find all
@@ -112,7 +118,7 @@ public class TagFacadeImplTest {
         WebRequest webRequest = mock(WebRequest.class);
 
         //initial data
-        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler();
+        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler(registry);
         SearchParamResponse<Tag> spResp = new SearchParamResponse<>();
 
         //find all certificated
@@ -134,7 +140,7 @@ public class TagFacadeImplTest {
         WebRequest webRequest = mock(WebRequest.class);
 
         //initial data
-        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler();
+        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler(registry);
         SearchParamResponse<Tag> spResp = new SearchParamResponse<>();
 
         //find all not certificated
@@ -157,7 +163,7 @@ public class TagFacadeImplTest {
 
         //initial data
         Tag t = getProperTag();
-        AbstractDataHandler<GiftCertificate, GiftCertificateDtoResponse> adh = new GiftCertificateDataHandler();
+        AbstractDataHandler<GiftCertificate, GiftCertificateDtoResponse> adh = new GiftCertificateDataHandler(registry);
         SearchParamResponse<GiftCertificate> spResp = new SearchParamResponse<>();
 
         //find gift certificates
@@ -205,4 +211,18 @@ public class TagFacadeImplTest {
         TagDtoResponse withGiftCertificatesAdded = tagFacade.deleteGiftCertificates(t.getId(), gcReq);
         Assertions.assertEquals(tResp, withGiftCertificatesAdded);
     }
+
+    @Test
+    public void willFindVersion() {
+        //initial data
+        Tag t = getProperTag();
+        VersionStamp stamp = new VersionStamp(1L, t.getId(), 0L, 0L, null, null);
+
+        //find version
+        when(tagService.findVersion(t.getId())).thenReturn(stamp);
+
+        //generate response
+        VersionStamp found = tagFacade.findVersion(t.getId());
+        Assertions.assertEquals(stamp, found);
+    }
 }
\ No newline at end of file
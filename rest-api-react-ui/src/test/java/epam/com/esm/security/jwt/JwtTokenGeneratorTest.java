@@ -0,0 +1,76 @@
+package epam.com.esm.security.jwt;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collections;
+import java.util.Date;
+
+public class JwtTokenGeneratorTest {
+
+    private static final String SECRET = "security-secret";
+
+    private JwtTokenGenerator generator;
+
+    private UserDetails userDetails;
+
+    @BeforeEach
+    public void init() {
+        generator = new JwtTokenGenerator(SECRET, 60000L, 100L);
+        userDetails = new User("user", "password",
+                               Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    @Test
+    public void willResolvePrincipalOnceUntilExpiration() {
+        //initial data
+        String token = generator.generateToken(userDetails);
+
+        //generate response
+        JwtPrincipal principal = generator.getPrincipal(token);
+        Assertions.assertEquals("user", principal.getUsername());
+        Assertions.assertEquals(Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")),
+                                principal.getAuthorities());
+        Assertions.assertSame(principal, generator.getPrincipal(token));
+        Assertions.assertEquals(Collections.singletonList("ROLE_USER"), generator.getRoles(token));
+    }
+
+    @Test
+    public void willAcceptTokenSignedWithRawSecret() {
+        //initial data
+        String token = Jwts.builder()
+                           .setSubject("user")
+                           .setExpiration(new Date(System.currentTimeMillis() + 60000L))
+                           .signWith(SignatureAlgorithm.HS256, SECRET)
+                           .compact();
+
+        //generate response
+        Assertions.assertEquals("user", generator.getUsername(token));
+    }
+
+    @Test
+    public void willThrowSignatureExceptionWithForeignSignature() {
+        //initial data
+        String token = new JwtTokenGenerator("another-secret", 60000L, 100L).generateToken(userDetails);
+
+        //generate response
+        Assertions.assertThrows(SignatureException.class, () -> generator.getPrincipal(token));
+    }
+
+    @Test
+    public void willThrowExpiredJwtExceptionWithExpiredToken() {
+        //initial data
+        String token = new JwtTokenGenerator(SECRET, -1000L, 100L).generateToken(userDetails);
+
+        //generate response
+        Assertions.assertThrows(ExpiredJwtException.class, () -> generator.getPrincipal(token));
+    }
+}
@@ -0,0 +1,53 @@
+package epam.com.esm.utils.export;
+
+import epam.com.esm.exception.types.IncorrectUrlParameterException;
+import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
+import epam.com.esm.utils.export.writers.AbstractRowWriter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+public class ExportFormatTest {
+
+    @Test
+    public void willWriteCsvWithQuotedValues() throws IOException {
+        String row = "1,\"gift, \"\"new\"\"\",,10.50,30,2021-06-01T10:00:00,\r\n";
+        Assertions.assertEquals("id,name,description,price,duration,create,update\r\n" + row + row,
+                                write(ExportFormat.CSV));
+    }
+
+    @Test
+    public void willWriteNdjson() throws IOException {
+        String row = "{\"id\":1,\"name\":\"gift, \\\"new\\\"\",\"description\":null,\"price\":10.50," +
+                     "\"duration\":30,\"create\":\"2021-06-01T10:00:00\",\"update\":null}\n";
+        Assertions.assertEquals(row + row, write(ExportFormat.NDJSON));
+    }
+
+    @Test
+    public void willThrowOnUnknownFormat() {
+        Assertions.assertEquals(ExportFormat.CSV, ExportFormat.of("CSV"));
+        Assertions.assertThrows(IncorrectUrlParameterException.class, () -> ExportFormat.of("xml"));
+    }
+
+    private static String write(ExportFormat format) throws IOException {
+        GiftCertificate gc = new GiftCertificate();
+        gc.setId(1L);
+        gc.setName("gift, \"new\"");
+        gc.setPrice(new BigDecimal("10.50"));
+        gc.setDuration(30);
+        gc.setCreate(LocalDateTime.of(2021, 6, 1, 10, 0));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (AbstractRowWriter<GiftCertificate> writer = format.open(out, ExportColumns.GIFT_CERTIFICATE)) {
+            writer.write(gc);
+            writer.write(gc);
+        }
+
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
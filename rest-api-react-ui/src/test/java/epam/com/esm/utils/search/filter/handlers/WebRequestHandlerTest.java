@@ -0,0 +1,69 @@
+package epam.com.esm.utils.search.filter.handlers;
+
+import epam.com.esm.exception.types.IncorrectUrlParameterException;
+import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
+import epam.com.esm.utils.search.data.components.DefaultLoader;
+import epam.com.esm.utils.search.request.components.type.Joining;
+import epam.com.esm.utils.search.transport.request.PageDataRequest;
+import epam.com.esm.utils.search.transport.request.SearchParamRequest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.Arrays;
+
+public class WebRequestHandlerTest {
+
+    private final FilterMetadataRegistry registry = new FilterMetadataRegistry();
+
+    private final DefaultLoader dl = new DefaultLoader("gc.id", "ASC", 1, 10, false);
+
+    @Test
+    public void willJoinTagParamsByAndByDefault() {
+        SearchParamRequest spReq = convert(request("f:t.name", "food", "spa"));
+
+        Assertions.assertEquals(Joining.AND, spReq.getJoining());
+        Assertions.assertEquals(Arrays.asList("food", "spa"), spReq.getFullParams().get("t.name"));
+    }
+
+    @Test
+    public void willJoinTagParamsByAndIfAllRequested() {
+        //initial data
+        MockHttpServletRequest request = request("f:t.name", "food", "spa");
+        request.addParameter("join", "all");
+
+        Assertions.assertEquals(Joining.AND, convert(request).getJoining());
+    }
+
+    @Test
+    public void willJoinTagParamsByOrIfAnyRequested() {
+        //initial data
+        MockHttpServletRequest request = request("f:t.name", "food", "spa");
+        request.addParameter("join", "ANY");
+
+        Assertions.assertEquals(Joining.OR, convert(request).getJoining());
+    }
+
+    @Test
+    public void willThrowOnUnknownJoining() {
+        //initial data
+        MockHttpServletRequest request = request("f:t.name", "food", "spa");
+        request.addParameter("join", "some");
+
+        IncorrectUrlParameterException e = Assertions.assertThrows(IncorrectUrlParameterException.class,
+                                                                   () -> convert(request));
+        Assertions.assertTrue(e.getMessage().contains("(join = some)"));
+    }
+
+    private SearchParamRequest convert(MockHttpServletRequest request) {
+        return WebRequestHandler.convertToParamRequest(new PageDataRequest(new ServletWebRequest(request)), registry,
+                                                       GiftCertificate.class, dl);
+    }
+
+    private static MockHttpServletRequest request(String key, String ... values) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addParameter(key, values);
+        return request;
+    }
+}
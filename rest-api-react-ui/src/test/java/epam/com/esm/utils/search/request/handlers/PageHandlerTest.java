@@ -0,0 +1,78 @@
+package epam.com.esm.utils.search.request.handlers;
+
+import epam.com.esm.persistence.entity.impl.products.Tag;
+import epam.com.esm.persistence.repository.BaseRepository;
+import epam.com.esm.utils.search.transport.request.SearchParamRequest;
+import epam.com.esm.utils.search.transport.response.SearchParamResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class PageHandlerTest {
+
+    @Mock
+    private BaseRepository<Tag> tRepo;
+
+    @Mock
+    private Specification<Tag> spec;
+
+    @Test
+    public void willFindSliceWithoutCountingInCursorMode() {
+        //initial data
+        SearchParamRequest spReq = new SearchParamRequest();
+        spReq.setSize(10);
+        spReq.setCursor(true);
+        spReq.setSeekField("id");
+        Tag t = new Tag();
+        t.setId(1L);
+        List<Tag> tags = Collections.singletonList(t);
+
+        //find slice with look-ahead
+        when(tRepo.findSlice(spec, PageRequest.of(0, 10))).thenReturn(new SliceImpl<>(tags, PageRequest.of(0, 10),
+                                                                                        true));
+
+        SearchParamResponse<Tag> spResp = PageHandler.findPage(tRepo, spec, spReq);
+        Assertions.assertEquals(tags, spResp.getItems());
+        Assertions.assertEquals(ResponseHandler.NOT_COUNTED, spResp.getFoundItems());
+        Assertions.assertEquals(2, spResp.getTotalPages());
+        verify(tRepo, never()).count(ArgumentMatchers.<Specification<Tag>>any());
+        verify(tRepo, never()).findAll(ArgumentMatchers.<Specification<Tag>>any(),
+                                       ArgumentMatchers.<PageRequest>any());
+    }
+
+    @Test
+    public void willFindCountedPageInOffsetMode() {
+        //initial data
+        SearchParamRequest spReq = new SearchParamRequest();
+        spReq.setPage(1);
+        spReq.setSize(1);
+        Tag t = new Tag();
+        t.setId(2L);
+        List<Tag> tags = Collections.singletonList(t);
+
+        //find page with total
+        when(tRepo.findAll(spec, PageRequest.of(1, 1))).thenReturn(new PageImpl<>(tags, PageRequest.of(1, 1), 3));
+
+        SearchParamResponse<Tag> spResp = PageHandler.findPage(tRepo, spec, spReq);
+        Assertions.assertEquals(tags, spResp.getItems());
+        Assertions.assertEquals(3, spResp.getFoundItems());
+        Assertions.assertEquals(3, spResp.getTotalPages());
+        verify(tRepo, never()).findSlice(ArgumentMatchers.<Specification<Tag>>any(),
+                                         ArgumentMatchers.<PageRequest>any());
+    }
+}
@@ -0,0 +1,181 @@
+package epam.com.esm.benchmark;
+
+import epam.com.esm.config.dialect.FullTextMySQLDialect;
+import epam.com.esm.exception.types.UnexpectedException;
+import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
+import epam.com.esm.persistence.entity.impl.products.Tag;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import javax.persistence.Entity;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * BenchmarkData is the utility class, provides fixtures of search request pipeline benchmarks
+ * <p>
+ * Query strings reproduce requests of gift certificate catalog page: plain page, page with field filters,
+ * page filtered by tags and page filtered by ranges. Session factory is built from entity metadata only,
+ * it never opens connection, so criteria queries are built without database
+ */
+public final class BenchmarkData {
+
+    /**
+     * Holds plain page query
+     */
+    public static final String PLAIN = "plain";
+
+    /**
+     * Holds field filters query
+     */
+    public static final String FILTERED = "filtered";
+
+    /**
+     * Holds tag filters query
+     */
+    public static final String TAGGED = "tagged";
+
+    /**
+     * Holds range filters query
+     */
+    public static final String RANGED = "ranged";
+
+    /**
+     * Holds page size of benchmarked responses
+     */
+    public static final int PAGE_SIZE = 50;
+
+    /**
+     * Holds entity package
+     */
+    private static final String ENTITY_PACKAGE = "epam.com.esm.persistence.entity";
+
+    /**
+     * Default constructor
+     */
+    private BenchmarkData() {}
+
+    /**
+     * Gets query string of provided query name
+     *
+     * @param name provided query name
+     * @return {@code String} query string
+     */
+    public static String query(String name) {
+        switch (name) {
+            case PLAIN:
+                return "page=3&size=50&s:gc.name=asc";
+            case FILTERED:
+                return "page=1&size=50&p:gc.name=gift&f:gc.duration=30&s:gc.create=desc&s:gc.name=asc&fold=on";
+            case TAGGED:
+                return "page=2&size=50&f:t.name=food&f:t.name=travel&f:t.name=spa&p:gc.description=weekend" +
+                       "&s:gc.price=asc";
+            case RANGED:
+                return "page=1&size=50&ge:gc.price=10&lt:gc.price=250.50" +
+                       "&bw:gc.create=2021-01-01,2021-12-31T23:59:59&s:gc.update=desc";
+            default:
+                throw new UnexpectedException("Unknown query (name = " + name + ")");
+        }
+    }
+
+    /**
+     * Creates web request with params of provided query string
+     *
+     * @param query provided query string
+     * @return {@code WebRequest} web request
+     */
+    public static WebRequest webRequest(String query) {
+        return new ServletWebRequest(servletRequest(query));
+    }
+
+    /**
+     * Creates servlet request with params of provided query string
+     *
+     * @param query provided query string
+     * @return {@code MockHttpServletRequest} servlet request
+     */
+    public static MockHttpServletRequest servletRequest(String query) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/gift/certificates/all");
+        request.setScheme("http");
+        request.setServerName("localhost");
+        request.setServerPort(8080);
+        request.setQueryString(query);
+        UriComponentsBuilder.fromUriString("?" + query)
+                            .build()
+                            .getQueryParams()
+                            .forEach((k, v) -> request.addParameter(k, v.toArray(new String[0])));
+        return request;
+    }
+
+    /**
+     * Creates gift certificates with three tags each
+     *
+     * @param size provided number of gift certificates
+     * @return {@code List<GiftCertificate>} gift certificates
+     */
+    public static List<GiftCertificate> giftCertificates(int size) {
+        List<Tag> tags = new ArrayList<>();
+
+        for (String name : Arrays.asList("food", "travel", "spa", "sport", "music", "books")) {
+            Tag t = new Tag();
+            t.setId((long) tags.size() + 1);
+            t.setName(name);
+            tags.add(t);
+        }
+
+        List<GiftCertificate> gcs = new ArrayList<>(size);
+        LocalDateTime created = LocalDateTime.of(2021, 6, 1, 10, 30, 15, 250_000_000);
+
+        for (int i = 0; i < size; i++) {
+            GiftCertificate gc = new GiftCertificate();
+            gc.setId((long) i + 1);
+            gc.setName("Gift certificate " + (i + 1));
+            gc.setDescription("Weekend spa and travel gift certificate number " + (i + 1));
+            gc.setPrice(new BigDecimal("10.50").add(BigDecimal.valueOf(i)));
+            gc.setDuration(30 + i % 60);
+            gc.setCreate(created.plusHours(i));
+            gc.setUpdate(created.plusDays(i));
+            gc.setTags(new ArrayList<>(Arrays.asList(tags.get(i % 6), tags.get((i + 1) % 6), tags.get((i + 2) % 6))));
+            gcs.add(gc);
+        }
+
+        return gcs;
+    }
+
+    /**
+     * Builds session factory from entity metadata without database connection
+     *
+     * @return {@code SessionFactory} session factory
+     */
+    public static SessionFactory sessionFactory() {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.DIALECT, FullTextMySQLDialect.class.getName())
+                .applySetting("hibernate.temp.use_jdbc_metadata_defaults", false)
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "none")
+                .applySetting(AvailableSettings.USE_SECOND_LEVEL_CACHE, false)
+                .applySetting("hibernate.integration.envers.enabled", false)
+                .build();
+        MetadataSources sources = new MetadataSources(registry);
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Entity.class));
+
+        for (BeanDefinition bd : scanner.findCandidateComponents(ENTITY_PACKAGE)) {
+            sources.addAnnotatedClassName(bd.getBeanClassName());
+        }
+
+        return sources.buildMetadata().buildSessionFactory();
+    }
+}
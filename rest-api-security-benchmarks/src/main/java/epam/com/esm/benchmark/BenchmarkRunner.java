@@ -0,0 +1,41 @@
+package epam.com.esm.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * BenchmarkRunner is the main class, runs benchmarks with JMH command line options
+ * <p>
+ * GC profiler is added if no profiler is requested, so each run reports bytes allocated per operation
+ * ({@code gc.alloc.rate.norm}) next to operations per second
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * Default constructor
+     */
+    private BenchmarkRunner() {}
+
+    /**
+     * Runs benchmarks
+     *
+     * @param args provided JMH command line options
+     * @throws CommandLineOptionException if options can't be parsed
+     * @throws RunnerException if benchmarks can't be run
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions cmd = new CommandLineOptions(args);
+        ChainedOptionsBuilder ob = new OptionsBuilder().parent(cmd);
+
+        if (cmd.getProfilers().isEmpty()) {
+            ob.addProfiler(GCProfiler.class);
+        }
+
+        new Runner(ob.build()).run();
+    }
+}
@@ -0,0 +1,132 @@
+package epam.com.esm.utils.hateoas.builder;
+
+import epam.com.esm.benchmark.BenchmarkData;
+import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
+import epam.com.esm.utils.converters.dto.products.GiftCertificateDtoConverter;
+import epam.com.esm.utils.search.data.components.DefaultLoader;
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
+import epam.com.esm.utils.search.filter.handlers.WebRequestHandler;
+import epam.com.esm.utils.search.request.handlers.ResponseHandler;
+import epam.com.esm.utils.search.transport.request.PageDataRequest;
+import epam.com.esm.utils.search.transport.request.SearchParamRequest;
+import epam.com.esm.utils.search.transport.response.PageDataResponse;
+import epam.com.esm.utils.search.transport.response.SearchParamResponse;
+import epam.com.esm.view.dto.response.impl.products.GiftCertificateDtoResponse;
+import epam.com.esm.view.resources.data.Resources;
+import epam.com.esm.view.resources.impl.products.GiftCertificateResourceModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LinkBuilderBenchmark is the benchmark class, measures rendering of gift certificates page links
+ * <p>
+ * Each operation renders links of one 50 items page the way GiftCertificateController find all does: menu,
+ * record and tag links of each item, pagination menu and main page link. Page with fresh dto responses and
+ * fresh request context are prepared before each operation, so measured operation includes context path
+ * resolution once per request
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LinkBuilderBenchmark {
+
+    /**
+     * Holds request attribute name of resolved context path
+     */
+    private static final String BASE_URI_ATTRIBUTE = LinkBuilder.class.getName() + ".BASE_URI";
+
+    /**
+     * Holds GiftCertificateResourceModel object
+     */
+    private GiftCertificateResourceModel model;
+
+    /**
+     * Holds servlet request of benchmarked page
+     */
+    private MockHttpServletRequest request;
+
+    /**
+     * Holds search param response of benchmarked page
+     */
+    private SearchParamResponse<GiftCertificate> spResp;
+
+    /**
+     * Holds page prepared for operation
+     */
+    private PageDataResponse<GiftCertificateDtoResponse> pdr;
+
+    /**
+     * Compiles links and prepares request context and found page
+     */
+    @Setup
+    public void setUp() {
+        String query = BenchmarkData.query(BenchmarkData.TAGGED);
+        model = new GiftCertificateResourceModel(new LinkBuilder());
+        request = BenchmarkData.servletRequest(query);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        SearchParamRequest spReq = WebRequestHandler.convertToParamRequest(
+                new PageDataRequest(BenchmarkData.webRequest(query)), new FilterMetadataRegistry(),
+                GiftCertificate.class, new DefaultLoader("gc.id", "asc", 1, 10, false)
+        );
+        spResp = ResponseHandler.initResponse(spReq, 1000, BenchmarkData.giftCertificates(BenchmarkData.PAGE_SIZE));
+    }
+
+    /**
+     * Prepares page with dto responses without links and clears resolved context path
+     */
+    @Setup(Level.Invocation)
+    public void preparePage() {
+        pdr = ResponseHandler.convertToPageData(spResp);
+        List<GiftCertificateDtoResponse> items = new ArrayList<>(spResp.getItems().size());
+
+        for (GiftCertificate gc : spResp.getItems()) {
+            items.add(GiftCertificateDtoConverter.toDto(gc, true));
+        }
+
+        pdr.setItems(items);
+        request.removeAttribute(BASE_URI_ATTRIBUTE);
+    }
+
+    /**
+     * Clears request context
+     */
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    /**
+     * Renders page links
+     *
+     * @return {@code PageDataResponse<GiftCertificateDtoResponse>} page with links
+     */
+    @Benchmark
+    public PageDataResponse<GiftCertificateDtoResponse> page() {
+        model.buildLinksMenu(pdr, Resources.FIND_ALL);
+        model.buildLinksRecords(pdr, Resources.READ, Resources.TAGS);
+        model.buildLinksTags(pdr, Resources.READ, Resources.GIFT_CERTIFICATES);
+        model.buildLinksPaginationMenu(pdr, Resources.FIND_ALL);
+        model.addLinksMainPage(pdr, Resources.MAIN);
+        return pdr;
+    }
+}
@@ -0,0 +1,50 @@
+package epam.com.esm.utils.search.filter.handlers;
+
+import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
+import epam.com.esm.persistence.entity.impl.products.Tag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FilterAnnotationHandlerBenchmark is the benchmark class, measures scan of filter annotations of entity class
+ * <p>
+ * Handlers are built once per entity by FilterMetadataRegistry, benchmark shows the cost which registry saves
+ * on each request
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FilterAnnotationHandlerBenchmark {
+
+    /**
+     * Builds filter annotation handler of gift certificate
+     *
+     * @return {@code FilterAnnotationHandler} filter annotation handler
+     */
+    @Benchmark
+    public FilterAnnotationHandler giftCertificate() {
+        return new FilterAnnotationHandler(GiftCertificate.class);
+    }
+
+    /**
+     * Builds filter annotation handler of tag
+     *
+     * @return {@code FilterAnnotationHandler} filter annotation handler
+     */
+    @Benchmark
+    public FilterAnnotationHandler tag() {
+        return new FilterAnnotationHandler(Tag.class);
+    }
+}
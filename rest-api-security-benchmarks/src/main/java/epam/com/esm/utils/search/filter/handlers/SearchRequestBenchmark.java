@@ -0,0 +1,73 @@
+package epam.com.esm.utils.search.filter.handlers;
+
+import epam.com.esm.benchmark.BenchmarkData;
+import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
+import epam.com.esm.utils.search.data.components.DefaultLoader;
+import epam.com.esm.utils.search.transport.request.PageDataRequest;
+import epam.com.esm.utils.search.transport.request.SearchParamRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SearchRequestBenchmark is the benchmark class, measures translation of request params to search param request
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchRequestBenchmark {
+
+    /**
+     * Holds benchmarked query name
+     */
+    @Param({BenchmarkData.PLAIN, BenchmarkData.FILTERED, BenchmarkData.TAGGED, BenchmarkData.RANGED})
+    public String query;
+
+    /**
+     * Holds filter metadata registry
+     */
+    private FilterMetadataRegistry registry;
+
+    /**
+     * Holds page data request of benchmarked query
+     */
+    private PageDataRequest pdr;
+
+    /**
+     * Holds default loader of gift certificates search
+     */
+    private DefaultLoader dl;
+
+    /**
+     * Prepares page data request, filter metadata registry is built before measurement
+     */
+    @Setup
+    public void setUp() {
+        pdr = new PageDataRequest(BenchmarkData.webRequest(BenchmarkData.query(query)));
+        dl = new DefaultLoader("gc.id", "asc", 1, 10, false);
+        registry = new FilterMetadataRegistry();
+    }
+
+    /**
+     * Converts page data request to search param request
+     *
+     * @return {@code SearchParamRequest} search param request
+     */
+    @Benchmark
+    public SearchParamRequest convertToParamRequest() {
+        return WebRequestHandler.convertToParamRequest(pdr, registry, GiftCertificate.class, dl);
+    }
+}
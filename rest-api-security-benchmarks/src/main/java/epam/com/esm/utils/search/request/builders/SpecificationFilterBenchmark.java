@@ -0,0 +1,116 @@
+package epam.com.esm.utils.search.request.builders;
+
+import epam.com.esm.benchmark.BenchmarkData;
+import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
+import epam.com.esm.persistence.entity.impl.products.Tag;
+import epam.com.esm.utils.search.data.components.DefaultLoader;
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
+import epam.com.esm.utils.search.filter.handlers.WebRequestHandler;
+import epam.com.esm.utils.search.transport.request.PageDataRequest;
+import epam.com.esm.utils.search.transport.request.SearchParamRequest;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SpecificationFilterBenchmark is the benchmark class, measures building of gift certificates page and count
+ * criteria queries by Hibernate criteria builder, the way GiftCertificateService builds them
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpecificationFilterBenchmark {
+
+    /**
+     * Holds benchmarked query name
+     */
+    @Param({BenchmarkData.PLAIN, BenchmarkData.FILTERED, BenchmarkData.TAGGED, BenchmarkData.RANGED})
+    public String query;
+
+    /**
+     * Holds session factory built without database connection
+     */
+    private SessionFactory sessionFactory;
+
+    /**
+     * Holds criteria builder
+     */
+    private CriteriaBuilder cb;
+
+    /**
+     * Holds filter metadata registry
+     */
+    private FilterMetadataRegistry registry;
+
+    /**
+     * Holds search param request of benchmarked query
+     */
+    private SearchParamRequest spReq;
+
+    /**
+     * Prepares criteria builder and search param request
+     */
+    @Setup
+    public void setUp() {
+        sessionFactory = BenchmarkData.sessionFactory();
+        cb = sessionFactory.getCriteriaBuilder();
+        registry = new FilterMetadataRegistry();
+        spReq = WebRequestHandler.convertToParamRequest(
+                new PageDataRequest(BenchmarkData.webRequest(BenchmarkData.query(query))), registry,
+                GiftCertificate.class, new DefaultLoader("gc.id", "asc", 1, 10, false)
+        );
+    }
+
+    /**
+     * Closes session factory
+     */
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    /**
+     * Builds page query predicate with orders
+     *
+     * @return {@code Predicate} page query predicate
+     */
+    @Benchmark
+    public Predicate pageQuery() {
+        CriteriaQuery<GiftCertificate> q = cb.createQuery(GiftCertificate.class);
+        Root<GiftCertificate> root = q.from(GiftCertificate.class);
+        return new SpecificationFilter<GiftCertificate>(registry, spReq, GiftCertificate.class, Tag.class)
+                .toPredicate(root, q, cb);
+    }
+
+    /**
+     * Builds count query predicate
+     *
+     * @return {@code Predicate} count query predicate
+     */
+    @Benchmark
+    public Predicate countQuery() {
+        CriteriaQuery<Long> q = cb.createQuery(Long.class);
+        Root<GiftCertificate> root = q.from(GiftCertificate.class);
+        return new SpecificationFilter<GiftCertificate>(registry, spReq, GiftCertificate.class, Tag.class)
+                .toPredicate(root, q, cb);
+    }
+}
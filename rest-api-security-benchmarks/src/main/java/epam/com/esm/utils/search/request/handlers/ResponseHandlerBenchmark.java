@@ -0,0 +1,93 @@
+package epam.com.esm.utils.search.request.handlers;
+
+import epam.com.esm.benchmark.BenchmarkData;
+import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
+import epam.com.esm.utils.search.data.components.DefaultLoader;
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
+import epam.com.esm.utils.search.filter.handlers.WebRequestHandler;
+import epam.com.esm.utils.search.transport.request.PageDataRequest;
+import epam.com.esm.utils.search.transport.request.SearchParamRequest;
+import epam.com.esm.utils.search.transport.response.PageDataResponse;
+import epam.com.esm.utils.search.transport.response.SearchParamResponse;
+import epam.com.esm.view.dto.response.impl.products.GiftCertificateDtoResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ResponseHandlerBenchmark is the benchmark class, measures building of search param response with pagination
+ * links params and its conversion to page data response
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseHandlerBenchmark {
+
+    /**
+     * Holds benchmarked query name
+     */
+    @Param({BenchmarkData.PLAIN, BenchmarkData.FILTERED, BenchmarkData.TAGGED, BenchmarkData.RANGED})
+    public String query;
+
+    /**
+     * Holds search param request of benchmarked query
+     */
+    private SearchParamRequest spReq;
+
+    /**
+     * Holds found gift certificates
+     */
+    private List<GiftCertificate> items;
+
+    /**
+     * Holds search param response of benchmarked query
+     */
+    private SearchParamResponse<GiftCertificate> spResp;
+
+    /**
+     * Prepares search param request and found page
+     */
+    @Setup
+    public void setUp() {
+        spReq = WebRequestHandler.convertToParamRequest(
+                new PageDataRequest(BenchmarkData.webRequest(BenchmarkData.query(query))), new FilterMetadataRegistry(),
+                GiftCertificate.class, new DefaultLoader("gc.id", "asc", 1, 10, false)
+        );
+        items = BenchmarkData.giftCertificates(BenchmarkData.PAGE_SIZE);
+        spResp = ResponseHandler.initResponse(spReq, 1000, items);
+    }
+
+    /**
+     * Builds search param response, includes page map generation
+     *
+     * @return {@code SearchParamResponse<GiftCertificate>} search param response
+     */
+    @Benchmark
+    public SearchParamResponse<GiftCertificate> initResponse() {
+        return ResponseHandler.initResponse(spReq, 1000, items);
+    }
+
+    /**
+     * Converts search param response to page data response
+     *
+     * @return {@code PageDataResponse<GiftCertificateDtoResponse>} page data response
+     */
+    @Benchmark
+    public PageDataResponse<GiftCertificateDtoResponse> convertToPageData() {
+        return ResponseHandler.convertToPageData(spResp);
+    }
+}
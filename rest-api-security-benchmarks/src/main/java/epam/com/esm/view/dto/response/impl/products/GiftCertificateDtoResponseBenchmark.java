@@ -0,0 +1,77 @@
+package epam.com.esm.view.dto.response.impl.products;
+
+import epam.com.esm.benchmark.BenchmarkData;
+import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
+import epam.com.esm.utils.converters.dto.products.GiftCertificateDtoConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GiftCertificateDtoResponseBenchmark is the benchmark class, measures conversion of gift certificates page
+ * to dto responses, folded page holds gift certificates only, unfolded page holds their tags as well
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GiftCertificateDtoResponseBenchmark {
+
+    /**
+     * Holds found gift certificates
+     */
+    private List<GiftCertificate> items;
+
+    /**
+     * Prepares found page
+     */
+    @Setup
+    public void setUp() {
+        items = BenchmarkData.giftCertificates(BenchmarkData.PAGE_SIZE);
+    }
+
+    /**
+     * Constructs dto responses of page
+     *
+     * @return {@code List<GiftCertificateDtoResponse>} dto responses
+     */
+    @Benchmark
+    public List<GiftCertificateDtoResponse> folded() {
+        List<GiftCertificateDtoResponse> page = new ArrayList<>(items.size());
+
+        for (GiftCertificate gc : items) {
+            page.add(new GiftCertificateDtoResponse(gc));
+        }
+
+        return page;
+    }
+
+    /**
+     * Converts page to dto responses with tags
+     *
+     * @return {@code List<GiftCertificateDtoResponse>} dto responses
+     */
+    @Benchmark
+    public List<GiftCertificateDtoResponse> unfolded() {
+        List<GiftCertificateDtoResponse> page = new ArrayList<>(items.size());
+
+        for (GiftCertificate gc : items) {
+            page.add(GiftCertificateDtoConverter.toDto(gc, true));
+        }
+
+        return page;
+    }
+}
@@ -0,0 +1,67 @@
+package epam.com.esm.generator;
+
+import epam.com.esm.generator.sink.AbstractRowSink;
+import epam.com.esm.generator.sink.FileRowSink;
+import epam.com.esm.generator.sink.JdbcRowSink;
+
+import java.io.PrintStream;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * DataGenerator is the main class, generates synthetic dataset to files or database and prints row counts
+ * <p>
+ * Files output writes tab separated file per table and load.sql script, which loads them by MySQL LOAD DATA LOCAL
+ * INFILE statements. Jdbc output inserts rows by batches to existing schema
+ */
+public final class DataGenerator {
+
+    /**
+     * Default constructor
+     */
+    private DataGenerator() {}
+
+    /**
+     * Generates dataset
+     *
+     * @param args provided generator options
+     */
+    public static void main(String[] args) {
+        GeneratorOptions options = GeneratorOptions.parse(args);
+        DatasetGenerator generator = new DatasetGenerator(options, LocalDateTime.now());
+        long start = System.nanoTime();
+        AbstractRowSink sink = GeneratorOptions.JDBC.equals(options.getOutput())
+                               ? new JdbcRowSink(options.getUrl(), options.getUsername(), options.getPassword(),
+                                                 options.getBatchSize())
+                               : new FileRowSink(options.getDirectory());
+
+        try (AbstractRowSink closed = sink) {
+            generator.generate(closed);
+        }
+
+        print(System.out, options, sink, (System.nanoTime() - start) / 1e9);
+    }
+
+    /**
+     * Prints row counts, duration and throughput
+     *
+     * @param out provided output
+     * @param options provided generator options
+     * @param sink provided closed sink
+     * @param seconds provided duration in seconds
+     */
+    private static void print(PrintStream out, GeneratorOptions options, AbstractRowSink sink, double seconds) {
+        long total = 0;
+
+        for (Table table : Table.values()) {
+            out.printf(Locale.ROOT, "%-32s %,14d%n", table.getTableName(), sink.getCount(table));
+            total += sink.getCount(table);
+        }
+
+        out.printf(Locale.ROOT, "%-32s %,14d%n%n", "Total", total);
+        out.printf(Locale.ROOT, "Generated to %s in %.1f s, %,.0f rows/s%n",
+                   GeneratorOptions.JDBC.equals(options.getOutput()) ? options.getUrl()
+                                                                     : options.getDirectory().toAbsolutePath(),
+                   seconds, total / seconds);
+    }
+}
@@ -0,0 +1,343 @@
+package epam.com.esm.generator;
+
+import epam.com.esm.generator.sampling.ZipfSampler;
+import epam.com.esm.generator.sink.AbstractRowSink;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DatasetGenerator is the generator class, generates referentially consistent dataset of schema.sql tables
+ * <p>
+ * Tags, gift certificates and buyers are picked by Zipf distributions, so tags and gift certificates with low ids
+ * are popular and users with low ids are heavy buyers. Orders are placed in chronological order over provided number
+ * of days before now. Each order line creates purchase data the same way as PurchaseService does: purchase starts on
+ * order purchase date, ends after gift certificate duration and is expired if it ended before now.
+ * <p>
+ * Gift certificate price and duration are derived from seed and id, so they aren't kept in memory, generator memory
+ * doesn't depend on dataset size
+ */
+public class DatasetGenerator {
+
+    /**
+     * Holds BCrypt hash of password shared by all generated users, hashing password per user would take hours
+     */
+    public static final String PASSWORD_HASH = "$2a$10$dzKR45RDQsbhpe5EYaw1sOeV1jFqQYER8C7zKHkxno1J.FSCUKi96";
+
+    /**
+     * Holds raw password shared by all generated users
+     */
+    public static final String PASSWORD = "password";
+
+    /**
+     * Holds admin username
+     */
+    private static final String ADMIN = "admin";
+
+    /**
+     * Holds user role id
+     */
+    private static final long ROLE_USER = 1;
+
+    /**
+     * Holds admin role id
+     */
+    private static final long ROLE_ADMIN = 2;
+
+    /**
+     * Holds words of gift certificate descriptions
+     */
+    private static final String[] WORDS = {
+            "gift", "certificate", "spa", "weekend", "dinner", "travel", "cinema", "concert", "book", "coffee",
+            "massage", "fitness", "yoga", "museum", "theatre", "wine", "tour", "flight", "hotel", "pizza",
+            "sushi", "karting", "climbing", "diving", "cooking", "photo", "music", "game", "bowling", "park"
+    };
+
+    /**
+     * Holds number of words of gift certificate description
+     */
+    private static final int DESCRIPTION_WORDS = 8;
+
+    /**
+     * Holds min and max gift certificate price in cents
+     */
+    private static final int[] PRICE_CENTS = {1_000, 50_000};
+
+    /**
+     * Holds min and max gift certificate duration in days
+     */
+    private static final int[] DURATION = {5, 90};
+
+    /**
+     * Holds number of days before first order over which gift certificates are created
+     */
+    private static final int CATALOG_DAYS = 365;
+
+    /**
+     * Holds max number of days between gift certificate creation and last update
+     */
+    private static final int UPDATE_DAYS = 30;
+
+    /**
+     * Holds active purchase status
+     */
+    private static final String ACTIVE = "ACTIVE";
+
+    /**
+     * Holds expired purchase status
+     */
+    private static final String EXPIRED = "EXPIRED";
+
+    /**
+     * Holds multiplier which spreads gift certificate ids over seeds
+     */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Holds generator options
+     */
+    private final GeneratorOptions options;
+
+    /**
+     * Holds generation time, purchases ended before it are expired
+     */
+    private final LocalDateTime now;
+
+    /**
+     * Holds random
+     */
+    private final SplittableRandom random;
+
+    /**
+     * Constructs DatasetGenerator with provided options and generation time
+     *
+     * @param options provided generator options
+     * @param now provided generation time
+     */
+    public DatasetGenerator(GeneratorOptions options, LocalDateTime now) {
+        this.options = options;
+        this.now = now.truncatedTo(ChronoUnit.MILLIS);
+        this.random = new SplittableRandom(options.getSeed());
+    }
+
+    /**
+     * Generates dataset rows to provided sink in dependency order
+     *
+     * @param sink provided sink
+     */
+    public void generate(AbstractRowSink sink) {
+        generateRoles(sink);
+        generateTags(sink);
+        generateGiftCertificates(sink);
+        generateUsers(sink);
+        generateOrders(sink);
+    }
+
+    /**
+     * Generates user and admin roles
+     *
+     * @param sink provided sink
+     */
+    private void generateRoles(AbstractRowSink sink) {
+        sink.add(Table.ROLES, ROLE_USER, "ROLE_USER");
+        sink.add(Table.ROLES, ROLE_ADMIN, "ROLE_ADMIN");
+    }
+
+    /**
+     * Generates tags
+     *
+     * @param sink provided sink
+     */
+    private void generateTags(AbstractRowSink sink) {
+        for (long id = 1; id <= options.getTags(); id++) {
+            sink.add(Table.TAG, id, "tag_" + id);
+        }
+    }
+
+    /**
+     * Generates gift certificates and their tags, number of tags and tags are picked by Zipf distributions
+     *
+     * @param sink provided sink
+     */
+    private void generateGiftCertificates(AbstractRowSink sink) {
+        ZipfSampler tags = new ZipfSampler(options.getTags(), options.getSkew());
+        ZipfSampler tagCount = new ZipfSampler(options.getMaxTags(), options.getSkew());
+        ZipfSampler words = new ZipfSampler(WORDS.length, options.getSkew());
+        LocalDateTime catalogStart = getFirstOrderDate().minusDays(CATALOG_DAYS);
+        int[] picked = new int[options.getMaxTags()];
+
+        for (long id = 1; id <= options.getCertificates(); id++) {
+            SplittableRandom attributes = attributes(id);
+            LocalDateTime create = catalogStart.plus(random.nextLong(TimeUnit.DAYS.toMillis(CATALOG_DAYS)),
+                                                     ChronoUnit.MILLIS);
+            LocalDateTime update = min(create.plus(random.nextLong(TimeUnit.DAYS.toMillis(UPDATE_DAYS)),
+                                                   ChronoUnit.MILLIS), now);
+            sink.add(Table.GIFT_CERTIFICATE, id, "gift_certificate_" + id, description(words), price(attributes),
+                     duration(attributes), create, update);
+
+            int count = pickDistinct(tags, tagCount.sample(random), picked);
+
+            for (int i = 0; i < count; i++) {
+                sink.add(Table.GIFT_CERTIFICATE_TAG, id, (long) picked[i]);
+            }
+        }
+    }
+
+    /**
+     * Generates admin and users with their roles
+     *
+     * @param sink provided sink
+     */
+    private void generateUsers(AbstractRowSink sink) {
+        sink.add(Table.USER, 1L, ADMIN, PASSWORD_HASH);
+        sink.add(Table.USERS_ROLES, 1L, ROLE_ADMIN);
+
+        for (long id = 2; id <= options.getUsers(); id++) {
+            sink.add(Table.USER, id, "user_" + id, PASSWORD_HASH);
+            sink.add(Table.USERS_ROLES, id, ROLE_USER);
+        }
+    }
+
+    /**
+     * Generates orders with purchase data of each order line, buyers, number of lines and gift certificates are
+     * picked by Zipf distributions
+     *
+     * @param sink provided sink
+     */
+    private void generateOrders(AbstractRowSink sink) {
+        ZipfSampler buyers = new ZipfSampler(options.getUsers() - 1, options.getSkew());
+        ZipfSampler giftCertificates = new ZipfSampler(options.getCertificates(), options.getSkew());
+        ZipfSampler itemCount = new ZipfSampler(options.getMaxItems(), options.getSkew());
+        LocalDateTime first = getFirstOrderDate();
+        long step = Math.max(1, TimeUnit.DAYS.toMillis(options.getDays()) / options.getOrders());
+        int[] picked = new int[options.getMaxItems()];
+        long purchaseDataId = 0;
+
+        for (long id = 1; id <= options.getOrders(); id++) {
+            LocalDateTime purchaseDate = first.plus((id - 1) * step + random.nextLong(step), ChronoUnit.MILLIS);
+            long userId = buyers.sample(random) + 1L;
+            int count = pickDistinct(giftCertificates, itemCount.sample(random), picked);
+            BigDecimal cost = BigDecimal.ZERO;
+
+            for (int i = 0; i < count; i++) {
+                cost = cost.add(price(attributes(picked[i])));
+            }
+
+            sink.add(Table.ORDERS, id, cost, purchaseDate);
+            sink.add(Table.USER_ORDERS, userId, id);
+
+            for (int i = 0; i < count; i++) {
+                long gcId = picked[i];
+                SplittableRandom attributes = attributes(gcId);
+                price(attributes);
+                LocalDateTime end = purchaseDate.plusDays(duration(attributes));
+                purchaseDataId++;
+
+                sink.add(Table.ORDER_GIFT_CERTIFICATE, id, gcId);
+                sink.add(Table.PURCHASE_DATA, purchaseDataId, purchaseDate, end, end.isBefore(now) ? EXPIRED : ACTIVE);
+                sink.add(Table.USER_PURCHASE_DATA, userId, purchaseDataId);
+                sink.add(Table.PURCHASE_DATA_GIFT_CERTIFICATE, purchaseDataId, gcId);
+            }
+        }
+    }
+
+    /**
+     * Picks provided number of distinct ranks
+     *
+     * @param sampler provided rank sampler
+     * @param count provided number of ranks, must not exceed number of sampler elements
+     * @param picked provided array which receives picked ranks
+     * @return {@code int} number of picked ranks
+     */
+    private int pickDistinct(ZipfSampler sampler, int count, int[] picked) {
+        int size = 0;
+
+        while (size < count) {
+            int rank = sampler.sample(random);
+            boolean duplicate = false;
+
+            for (int i = 0; i < size && !duplicate; i++) {
+                duplicate = picked[i] == rank;
+            }
+
+            if (!duplicate) {
+                picked[size++] = rank;
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * Generates description of words picked by Zipf distribution
+     *
+     * @param words provided word sampler
+     * @return {@code String} description
+     */
+    private String description(ZipfSampler words) {
+        StringBuilder description = new StringBuilder();
+
+        for (int i = 0; i < DESCRIPTION_WORDS; i++) {
+            if (i > 0) {
+                description.append(' ');
+            }
+
+            description.append(WORDS[words.sample(random) - 1]);
+        }
+
+        return description.toString();
+    }
+
+    /**
+     * Creates random of gift certificate attributes, equal ids get equal attributes
+     *
+     * @param id provided gift certificate id
+     * @return {@code SplittableRandom} attribute random, price is drawn first and duration second
+     */
+    private SplittableRandom attributes(long id) {
+        return new SplittableRandom(options.getSeed() ^ id * GOLDEN_GAMMA);
+    }
+
+    /**
+     * Draws gift certificate price
+     *
+     * @param attributes provided attribute random
+     * @return {@code BigDecimal} price
+     */
+    private static BigDecimal price(SplittableRandom attributes) {
+        return BigDecimal.valueOf(attributes.nextInt(PRICE_CENTS[0], PRICE_CENTS[1] + 1), 2);
+    }
+
+    /**
+     * Draws gift certificate duration
+     *
+     * @param attributes provided attribute random
+     * @return {@code int} duration in days
+     */
+    private static int duration(SplittableRandom attributes) {
+        return attributes.nextInt(DURATION[0], DURATION[1] + 1);
+    }
+
+    /**
+     * Gets earliest order purchase date
+     *
+     * @return {@code LocalDateTime} earliest purchase date
+     */
+    private LocalDateTime getFirstOrderDate() {
+        return now.minusDays(options.getDays());
+    }
+
+    /**
+     * Gets earlier of provided dates
+     *
+     * @param first provided first date
+     * @param second provided second date
+     * @return {@code LocalDateTime} earlier date
+     */
+    private static LocalDateTime min(LocalDateTime first, LocalDateTime second) {
+        return first.isBefore(second) ? first : second;
+    }
+}
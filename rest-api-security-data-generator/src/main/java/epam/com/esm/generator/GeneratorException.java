@@ -0,0 +1,27 @@
+package epam.com.esm.generator;
+
+/**
+ * GeneratorException is the exception class
+ * Objects of this class are thrown if generator options are invalid or generated rows can't be written
+ */
+public class GeneratorException extends RuntimeException {
+
+    /**
+     * Constructs GeneratorException with message
+     *
+     * @param message value for message
+     */
+    public GeneratorException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs GeneratorException with message and cause
+     *
+     * @param message value for message
+     * @param cause value for cause
+     */
+    public GeneratorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,402 @@
+package epam.com.esm.generator;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * GeneratorOptions is the data class, holds generator options parsed from command line arguments
+ * <p>
+ * Options are passed as {@code --<name>=<value>}, absent options keep their defaults
+ */
+public class GeneratorOptions {
+
+    /**
+     * Holds option prefix
+     */
+    private static final String PREFIX = "--";
+
+    /**
+     * Holds option name and value divider
+     */
+    private static final String DIVIDER = "=";
+
+    /**
+     * Holds files output name
+     */
+    public static final String FILES = "files";
+
+    /**
+     * Holds jdbc output name
+     */
+    public static final String JDBC = "jdbc";
+
+    /**
+     * Holds number of users, user 1 is admin
+     */
+    private int users = 10_000;
+
+    /**
+     * Holds number of tags
+     */
+    private int tags = 1_000;
+
+    /**
+     * Holds number of gift certificates
+     */
+    private int certificates = 10_000;
+
+    /**
+     * Holds number of orders
+     */
+    private int orders = 100_000;
+
+    /**
+     * Holds max number of gift certificates in order
+     */
+    private int maxItems = 5;
+
+    /**
+     * Holds max number of tags of gift certificate
+     */
+    private int maxTags = 5;
+
+    /**
+     * Holds number of days before now over which orders are placed
+     */
+    private int days = 365;
+
+    /**
+     * Holds exponent of Zipf distributions of tag, gift certificate and buyer popularity
+     */
+    private double skew = 1.0;
+
+    /**
+     * Holds random seed, equal seeds generate equal datasets
+     */
+    private long seed = 42;
+
+    /**
+     * Holds output, files or jdbc
+     */
+    private String output = FILES;
+
+    /**
+     * Holds output directory of files output
+     */
+    private Path directory = Paths.get("generated");
+
+    /**
+     * Holds database url of jdbc output
+     */
+    private String url;
+
+    /**
+     * Holds database username of jdbc output
+     */
+    private String username = "root";
+
+    /**
+     * Holds database password of jdbc output
+     */
+    private String password = "";
+
+    /**
+     * Holds number of rows per batch of jdbc output
+     */
+    private int batchSize = 1_000;
+
+    /**
+     * Default constructor
+     */
+    private GeneratorOptions() {}
+
+    /**
+     * Parses generator options from provided command line arguments
+     * Will throw GeneratorException if option is unknown or its value is incorrect
+     *
+     * @param args provided command line arguments
+     * @return {@code GeneratorOptions} parsed options
+     */
+    public static GeneratorOptions parse(String[] args) {
+        GeneratorOptions options = new GeneratorOptions();
+
+        for (String arg : args) {
+            String[] option = arg.startsWith(PREFIX) ? arg.substring(PREFIX.length()).split(DIVIDER, 2) : null;
+
+            if (option == null || option.length != 2) {
+                throw new GeneratorException("Option should be --name=value (option = " + arg + ")");
+            }
+
+            String value = option[1];
+
+            switch (option[0]) {
+                case "users":
+                    options.users = toPositive(arg, value);
+                    break;
+                case "tags":
+                    options.tags = toPositive(arg, value);
+                    break;
+                case "certificates":
+                    options.certificates = toPositive(arg, value);
+                    break;
+                case "orders":
+                    options.orders = toPositive(arg, value);
+                    break;
+                case "max-items":
+                    options.maxItems = toPositive(arg, value);
+                    break;
+                case "max-tags":
+                    options.maxTags = toPositive(arg, value);
+                    break;
+                case "days":
+                    options.days = toPositive(arg, value);
+                    break;
+                case "skew":
+                    options.skew = toPositiveDouble(arg, value);
+                    break;
+                case "seed":
+                    options.seed = toLong(arg, value);
+                    break;
+                case "output":
+                    options.output = value;
+                    break;
+                case "dir":
+                    options.directory = Paths.get(value);
+                    break;
+                case "url":
+                    options.url = value;
+                    break;
+                case "username":
+                    options.username = value;
+                    break;
+                case "password":
+                    options.password = value;
+                    break;
+                case "batch-size":
+                    options.batchSize = toPositive(arg, value);
+                    break;
+                default:
+                    throw new GeneratorException("Unknown option (option = " + arg + ")");
+            }
+        }
+
+        options.validate();
+        return options;
+    }
+
+    /**
+     * Validates option combination
+     * Will throw GeneratorException if options are inconsistent
+     */
+    private void validate() {
+        if (!FILES.equals(output) && !JDBC.equals(output)) {
+            throw new GeneratorException("Output should be " + FILES + " or " + JDBC + " (output = " + output + ")");
+        }
+
+        if (JDBC.equals(output) && url == null) {
+            throw new GeneratorException("Option --url is required by " + JDBC + " output");
+        }
+
+        if (users < 2) {
+            throw new GeneratorException("Users should contain admin and at least one buyer (users = " + users + ")");
+        }
+
+        maxItems = Math.min(maxItems, certificates);
+        maxTags = Math.min(maxTags, tags);
+    }
+
+    /**
+     * Converts option value to positive integer
+     * Will throw GeneratorException if value isn't positive integer
+     *
+     * @param arg provided option argument
+     * @param value provided option value
+     * @return {@code int} converted value
+     */
+    private static int toPositive(String arg, String value) {
+        try {
+            int converted = Integer.parseInt(value);
+
+            if (converted > 0) {
+                return converted;
+            }
+        } catch (NumberFormatException ignored) {
+            // value is reported below
+        }
+
+        throw new GeneratorException("Option should be positive integer (option = " + arg + ")");
+    }
+
+    /**
+     * Converts option value to positive number
+     * Will throw GeneratorException if value isn't positive number
+     *
+     * @param arg provided option argument
+     * @param value provided option value
+     * @return {@code double} converted value
+     */
+    private static double toPositiveDouble(String arg, String value) {
+        try {
+            double converted = Double.parseDouble(value);
+
+            if (converted > 0) {
+                return converted;
+            }
+        } catch (NumberFormatException ignored) {
+            // value is reported below
+        }
+
+        throw new GeneratorException("Option should be positive number (option = " + arg + ")");
+    }
+
+    /**
+     * Converts option value to long
+     * Will throw GeneratorException if value isn't integer
+     *
+     * @param arg provided option argument
+     * @param value provided option value
+     * @return {@code long} converted value
+     */
+    private static long toLong(String arg, String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new GeneratorException("Option should be integer (option = " + arg + ")", e);
+        }
+    }
+
+    /**
+     * Gets value from users field
+     *
+     * @return {@code int} users value
+     */
+    public int getUsers() {
+        return users;
+    }
+
+    /**
+     * Gets value from tags field
+     *
+     * @return {@code int} tags value
+     */
+    public int getTags() {
+        return tags;
+    }
+
+    /**
+     * Gets value from certificates field
+     *
+     * @return {@code int} certificates value
+     */
+    public int getCertificates() {
+        return certificates;
+    }
+
+    /**
+     * Gets value from orders field
+     *
+     * @return {@code int} orders value
+     */
+    public int getOrders() {
+        return orders;
+    }
+
+    /**
+     * Gets value from maxItems field
+     *
+     * @return {@code int} maxItems value
+     */
+    public int getMaxItems() {
+        return maxItems;
+    }
+
+    /**
+     * Gets value from maxTags field
+     *
+     * @return {@code int} maxTags value
+     */
+    public int getMaxTags() {
+        return maxTags;
+    }
+
+    /**
+     * Gets value from days field
+     *
+     * @return {@code int} days value
+     */
+    public int getDays() {
+        return days;
+    }
+
+    /**
+     * Gets value from skew field
+     *
+     * @return {@code double} skew value
+     */
+    public double getSkew() {
+        return skew;
+    }
+
+    /**
+     * Gets value from seed field
+     *
+     * @return {@code long} seed value
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets value from output field
+     *
+     * @return {@code String} output value
+     */
+    public String getOutput() {
+        return output;
+    }
+
+    /**
+     * Gets value from directory field
+     *
+     * @return {@code Path} directory value
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Gets value from url field
+     *
+     * @return {@code String} url value
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Gets value from username field
+     *
+     * @return {@code String} username value
+     */
+    public String getUsername() {
+        return username;
+    }
+
+    /**
+     * Gets value from password field
+     *
+     * @return {@code String} password value
+     */
+    public String getPassword() {
+        return password;
+    }
+
+    /**
+     * Gets value from batchSize field
+     *
+     * @return {@code int} batchSize value
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+}
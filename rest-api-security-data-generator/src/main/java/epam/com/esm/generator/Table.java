@@ -0,0 +1,105 @@
+package epam.com.esm.generator;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Table is the enum, holds generated tables of schema.sql and their columns
+ * <p>
+ * Tables are declared in dependency order, so rows of referenced table are always written before referencing rows
+ */
+public enum Table {
+
+    ROLES("roles", "id", "name"),
+    TAG("tag", "id", "name"),
+    GIFT_CERTIFICATE("gift_certificate", "id", "name", "description", "price", "duration", "create_date",
+                     "last_update_date"),
+    GIFT_CERTIFICATE_TAG("gift_certificate_tag", "gift_certificate_id", "tag_id"),
+    USER("user", "id", "username", "password"),
+    USERS_ROLES("users_roles", "user_id", "role_id"),
+    ORDERS("orders", "id", "cost", "purchase_date"),
+    USER_ORDERS("user_orders", "user_id", "order_id"),
+    ORDER_GIFT_CERTIFICATE("order_gift_certificate", "order_id", "gift_certificate_id"),
+    PURCHASE_DATA("purchase_data", "id", "start", "end", "status"),
+    USER_PURCHASE_DATA("user_purchase_data", "user_id", "purchase_data_id"),
+    PURCHASE_DATA_GIFT_CERTIFICATE("purchase_data_gift_certificate", "purchase_data_id", "gift_certificate_id");
+
+    /**
+     * Holds table name
+     */
+    private final String tableName;
+
+    /**
+     * Holds column names
+     */
+    private final String[] columns;
+
+    /**
+     * Constructs Table with provided name and columns
+     *
+     * @param tableName provided table name
+     * @param columns provided column names
+     */
+    Table(String tableName, String ... columns) {
+        this.tableName = tableName;
+        this.columns = columns;
+    }
+
+    /**
+     * Generates insert statement with parameter per column
+     *
+     * @return {@code String} insert statement
+     */
+    public String toInsert() {
+        return "INSERT INTO " + quote(tableName) + " " + toColumnList() + " VALUES (" +
+               Arrays.stream(columns).map(c -> "?").collect(Collectors.joining(", ")) + ")";
+    }
+
+    /**
+     * Generates MySQL load data statement for provided tab separated file
+     *
+     * @param file provided file name
+     * @return {@code String} load data statement
+     */
+    public String toLoadData(String file) {
+        return "LOAD DATA LOCAL INFILE '" + file + "' INTO TABLE " + quote(tableName) +
+               " CHARACTER SET utf8mb4 " + toColumnList() + ";";
+    }
+
+    /**
+     * Gets value from tableName field
+     *
+     * @return {@code String} tableName value
+     */
+    public String getTableName() {
+        return tableName;
+    }
+
+    /**
+     * Gets number of columns
+     *
+     * @return {@code int} number of columns
+     */
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    /**
+     * Generates quoted column list
+     *
+     * @return {@code String} column list
+     */
+    private String toColumnList() {
+        return Arrays.stream(columns).map(Table::quote).collect(Collectors.joining(", ", "(", ")"));
+    }
+
+    /**
+     * Quotes identifier, so user table and end column aren't read as keywords
+     *
+     * @param identifier provided identifier
+     * @return {@code String} quoted identifier
+     */
+    private static String quote(String identifier) {
+        return "`" + identifier + "`";
+    }
+}
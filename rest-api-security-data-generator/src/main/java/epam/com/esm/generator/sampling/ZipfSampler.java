@@ -0,0 +1,121 @@
+package epam.com.esm.generator.sampling;
+
+import java.util.SplittableRandom;
+
+/**
+ * ZipfSampler is the sampler class, samples ranks from 1 to number of elements by Zipf distribution
+ * <p>
+ * Rank k is sampled with probability proportional to 1 / k^exponent, so rank 1 is the most popular. Sampler uses
+ * rejection inversion by W. Hormann and G. Derflinger, it takes constant time and memory for any number of elements
+ */
+public class ZipfSampler {
+
+    /**
+     * Holds number of elements
+     */
+    private final int elements;
+
+    /**
+     * Holds distribution exponent
+     */
+    private final double exponent;
+
+    /**
+     * Holds integral of hat function at 1.5 minus 1
+     */
+    private final double hIntegralOne;
+
+    /**
+     * Holds integral of hat function at number of elements plus 0.5
+     */
+    private final double hIntegralElements;
+
+    /**
+     * Holds acceptance threshold
+     */
+    private final double threshold;
+
+    /**
+     * Constructs ZipfSampler with provided number of elements and exponent
+     *
+     * @param elements provided number of elements, must be positive
+     * @param exponent provided distribution exponent, must be positive
+     */
+    public ZipfSampler(int elements, double exponent) {
+        this.elements = elements;
+        this.exponent = exponent;
+        this.hIntegralOne = hIntegral(1.5) - 1;
+        this.hIntegralElements = hIntegral(elements + 0.5);
+        this.threshold = 2 - hIntegralInverse(hIntegral(2.5) - h(2));
+    }
+
+    /**
+     * Samples rank
+     *
+     * @param random provided random
+     * @return {@code int} rank from 1 to number of elements
+     */
+    public int sample(SplittableRandom random) {
+        while (true) {
+            double u = hIntegralElements + random.nextDouble() * (hIntegralOne - hIntegralElements);
+            double x = hIntegralInverse(u);
+            int k = Math.max(1, Math.min(elements, (int) (x + 0.5)));
+
+            if (k - x <= threshold || u >= hIntegral(k + 0.5) - h(k)) {
+                return k;
+            }
+        }
+    }
+
+    /**
+     * Calculates hat function, which is 1 / x^exponent
+     *
+     * @param x provided argument
+     * @return {@code double} function value
+     */
+    private double h(double x) {
+        return Math.exp(-exponent * Math.log(x));
+    }
+
+    /**
+     * Calculates integral of hat function
+     *
+     * @param x provided argument
+     * @return {@code double} integral value
+     */
+    private double hIntegral(double x) {
+        double logX = Math.log(x);
+        return expm1Ratio((1 - exponent) * logX) * logX;
+    }
+
+    /**
+     * Calculates inverse of hat function integral
+     *
+     * @param x provided integral value
+     * @return {@code double} argument value
+     */
+    private double hIntegralInverse(double x) {
+        double t = Math.max(-1, x * (1 - exponent));
+        return Math.exp(log1pRatio(t) * x);
+    }
+
+    /**
+     * Calculates log(1 + x) / x, which is 1 if x is 0
+     *
+     * @param x provided argument
+     * @return {@code double} ratio value
+     */
+    private static double log1pRatio(double x) {
+        return Math.abs(x) > 1e-8 ? Math.log1p(x) / x : 1 - x * (0.5 - x * (1.0 / 3 - x * 0.25));
+    }
+
+    /**
+     * Calculates (exp(x) - 1) / x, which is 1 if x is 0
+     *
+     * @param x provided argument
+     * @return {@code double} ratio value
+     */
+    private static double expm1Ratio(double x) {
+        return Math.abs(x) > 1e-8 ? Math.expm1(x) / x : 1 + x * 0.5 * (1 + x / 3 * (1 + x * 0.25));
+    }
+}
@@ -0,0 +1,51 @@
+package epam.com.esm.generator.sink;
+
+import epam.com.esm.generator.Table;
+
+/**
+ * AbstractRowSink is the abstract class, base for sinks which write generated rows and count them by table
+ * <p>
+ * Rows are written as they are generated, sink doesn't hold more than one batch in memory
+ */
+public abstract class AbstractRowSink implements AutoCloseable {
+
+    /**
+     * Holds number of written rows by table ordinal
+     */
+    private final long[] counts = new long[Table.values().length];
+
+    /**
+     * Adds row to provided table
+     *
+     * @param table provided table
+     * @param values provided row values in column order
+     */
+    public final void add(Table table, Object ... values) {
+        write(table, values);
+        counts[table.ordinal()]++;
+    }
+
+    /**
+     * Gets number of written rows of provided table
+     *
+     * @param table provided table
+     * @return {@code long} number of rows
+     */
+    public long getCount(Table table) {
+        return counts[table.ordinal()];
+    }
+
+    /**
+     * Writes row to provided table
+     *
+     * @param table provided table
+     * @param values provided row values in column order
+     */
+    protected abstract void write(Table table, Object[] values);
+
+    /**
+     * Writes pending rows and releases resources
+     */
+    @Override
+    public abstract void close();
+}
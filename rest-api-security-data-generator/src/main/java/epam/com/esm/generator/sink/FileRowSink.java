@@ -0,0 +1,191 @@
+package epam.com.esm.generator.sink;
+
+import epam.com.esm.generator.GeneratorException;
+import epam.com.esm.generator.Table;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * FileRowSink is the sink class, writes generated rows to tab separated file per table
+ * <p>
+ * Files use default format of MySQL LOAD DATA statement: fields are divided by tab, special characters are escaped
+ * by backslash and null is written as \N. On close load.sql script is written, it loads files in dependency order
+ * with disabled foreign key and unique checks
+ */
+public class FileRowSink extends AbstractRowSink {
+
+    /**
+     * Holds load script name
+     */
+    private static final String LOAD_SCRIPT = "load.sql";
+
+    /**
+     * Holds data file extension
+     */
+    private static final String EXTENSION = ".tsv";
+
+    /**
+     * Holds writer buffer size
+     */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Holds date time format of DATETIME columns
+     */
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+
+    /**
+     * Holds output directory
+     */
+    private final Path directory;
+
+    /**
+     * Holds data file writers by table ordinal
+     */
+    private final Writer[] writers = new Writer[Table.values().length];
+
+    /**
+     * Constructs FileRowSink with provided output directory
+     * Will throw GeneratorException if directory can't be created
+     *
+     * @param directory provided output directory
+     */
+    public FileRowSink(Path directory) {
+        try {
+            this.directory = Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new GeneratorException("Directory (path = " + directory + ") can't be created", e);
+        }
+    }
+
+    /**
+     * Writes row as line of table data file
+     * Will throw GeneratorException if row can't be written
+     *
+     * @param table provided table
+     * @param values provided row values in column order
+     */
+    @Override
+    protected void write(Table table, Object[] values) {
+        try {
+            Writer writer = writers[table.ordinal()];
+
+            if (writer == null) {
+                writer = new BufferedWriter(Files.newBufferedWriter(directory.resolve(toFile(table)),
+                                                                    StandardCharsets.UTF_8), BUFFER_SIZE);
+                writers[table.ordinal()] = writer;
+            }
+
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write('\t');
+                }
+
+                writeValue(writer, values[i]);
+            }
+
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new GeneratorException("Rows of table (name = " + table.getTableName() + ") can't be written", e);
+        }
+    }
+
+    /**
+     * Closes data files and writes load script
+     * Will throw GeneratorException if files can't be written
+     */
+    @Override
+    public void close() {
+        List<String> script = new ArrayList<>();
+        script.add("SET FOREIGN_KEY_CHECKS = 0;");
+        script.add("SET UNIQUE_CHECKS = 0;");
+
+        try {
+            for (Table table : Table.values()) {
+                Writer writer = writers[table.ordinal()];
+
+                if (writer != null) {
+                    writer.close();
+                    script.add(table.toLoadData(toFile(table)));
+                }
+            }
+
+            script.add("SET UNIQUE_CHECKS = 1;");
+            script.add("SET FOREIGN_KEY_CHECKS = 1;");
+            Files.write(directory.resolve(LOAD_SCRIPT), script, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new GeneratorException("Data files can't be written", e);
+        }
+    }
+
+    /**
+     * Writes value in LOAD DATA format
+     *
+     * @param writer provided writer
+     * @param value provided value
+     * @throws IOException if value can't be written
+     */
+    private static void writeValue(Writer writer, Object value) throws IOException {
+        if (value == null) {
+            writer.write("\\N");
+        } else if (value instanceof LocalDateTime) {
+            writer.write(DATE_TIME.format((LocalDateTime) value));
+        } else if (value instanceof BigDecimal) {
+            writer.write(((BigDecimal) value).toPlainString());
+        } else if (value instanceof Number) {
+            writer.write(value.toString());
+        } else {
+            writeEscaped(writer, value.toString());
+        }
+    }
+
+    /**
+     * Writes string with escaped backslash, tab and line break characters
+     *
+     * @param writer provided writer
+     * @param value provided string
+     * @throws IOException if string can't be written
+     */
+    private static void writeEscaped(Writer writer, String value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            switch (c) {
+                case '\\':
+                    writer.write("\\\\");
+                    break;
+                case '\t':
+                    writer.write("\\t");
+                    break;
+                case '\n':
+                    writer.write("\\n");
+                    break;
+                case '\r':
+                    writer.write("\\r");
+                    break;
+                default:
+                    writer.write(c);
+            }
+        }
+    }
+
+    /**
+     * Generates data file name of provided table
+     *
+     * @param table provided table
+     * @return {@code String} data file name
+     */
+    private static String toFile(Table table) {
+        return table.getTableName() + EXTENSION;
+    }
+}
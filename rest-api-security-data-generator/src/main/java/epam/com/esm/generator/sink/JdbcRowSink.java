@@ -0,0 +1,126 @@
+package epam.com.esm.generator.sink;
+
+import epam.com.esm.generator.GeneratorException;
+import epam.com.esm.generator.Table;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * JdbcRowSink is the sink class, inserts generated rows by JDBC batches
+ * <p>
+ * Each table has its own prepared statement. When batch size is reached, batches of all tables are executed
+ * in dependency order and committed, so referenced rows are always inserted first. For MySQL url should enable
+ * rewriteBatchedStatements, so each batch is sent as multi-row insert
+ */
+public class JdbcRowSink extends AbstractRowSink {
+
+    /**
+     * Holds connection
+     */
+    private final Connection connection;
+
+    /**
+     * Holds insert statements by table ordinal
+     */
+    private final PreparedStatement[] statements = new PreparedStatement[Table.values().length];
+
+    /**
+     * Holds number of rows per batch
+     */
+    private final int batchSize;
+
+    /**
+     * Holds number of rows added since last batch execution
+     */
+    private int pending;
+
+    /**
+     * Constructs JdbcRowSink with provided database url, credentials and batch size
+     * Will throw GeneratorException if connection can't be opened
+     *
+     * @param url provided database url
+     * @param username provided database username
+     * @param password provided database password
+     * @param batchSize provided number of rows per batch
+     */
+    public JdbcRowSink(String url, String username, String password, int batchSize) {
+        try {
+            this.connection = DriverManager.getConnection(url, username, password);
+            this.connection.setAutoCommit(false);
+            this.batchSize = batchSize;
+        } catch (SQLException e) {
+            throw new GeneratorException("Connection (url = " + url + ") can't be opened", e);
+        }
+    }
+
+    /**
+     * Adds row to batch of provided table, executes batches if batch size is reached
+     * Will throw GeneratorException if row can't be inserted
+     *
+     * @param table provided table
+     * @param values provided row values in column order
+     */
+    @Override
+    protected void write(Table table, Object[] values) {
+        try {
+            PreparedStatement ps = statements[table.ordinal()];
+
+            if (ps == null) {
+                ps = connection.prepareStatement(table.toInsert());
+                statements[table.ordinal()] = ps;
+            }
+
+            for (int i = 0; i < values.length; i++) {
+                ps.setObject(i + 1, values[i]);
+            }
+
+            ps.addBatch();
+
+            if (++pending >= batchSize) {
+                flush();
+            }
+        } catch (SQLException e) {
+            throw new GeneratorException("Rows of table (name = " + table.getTableName() + ") can't be inserted", e);
+        }
+    }
+
+    /**
+     * Executes pending batches, closes statements and connection
+     * Will throw GeneratorException if pending rows can't be inserted
+     */
+    @Override
+    public void close() {
+        try {
+            flush();
+
+            for (PreparedStatement ps : statements) {
+                if (ps != null) {
+                    ps.close();
+                }
+            }
+
+            connection.close();
+        } catch (SQLException e) {
+            throw new GeneratorException("Pending rows can't be inserted", e);
+        }
+    }
+
+    /**
+     * Executes batches of all tables in dependency order and commits them
+     *
+     * @throws SQLException if batch can't be executed
+     */
+    private void flush() throws SQLException {
+        for (PreparedStatement ps : statements) {
+            if (ps != null) {
+                ps.executeBatch();
+            }
+        }
+
+        connection.commit();
+        pending = 0;
+    }
+}
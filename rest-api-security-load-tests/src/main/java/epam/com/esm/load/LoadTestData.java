@@ -0,0 +1,174 @@
+package epam.com.esm.load;
+
+import java.util.List;
+
+/**
+ * LoadTestData is the data class, holds seeded catalog values and accounts which virtual users request
+ */
+public class LoadTestData {
+
+    /**
+     * Holds seeded gift certificate ids
+     */
+    private final List<Long> giftCertificateIds;
+
+    /**
+     * Holds seeded gift certificate names
+     */
+    private final List<String> giftCertificateNames;
+
+    /**
+     * Holds seeded tag ids
+     */
+    private final List<Long> tagIds;
+
+    /**
+     * Holds seeded tag names
+     */
+    private final List<String> tagNames;
+
+    /**
+     * Holds seeded user accounts
+     */
+    private final List<Account> users;
+
+    /**
+     * Holds seeded admin account
+     */
+    private final Account admin;
+
+    /**
+     * Constructs LoadTestData with provided catalog values and accounts
+     *
+     * @param giftCertificateIds provided gift certificate ids
+     * @param giftCertificateNames provided gift certificate names
+     * @param tagIds provided tag ids
+     * @param tagNames provided tag names
+     * @param users provided user accounts
+     * @param admin provided admin account
+     */
+    public LoadTestData(List<Long> giftCertificateIds, List<String> giftCertificateNames, List<Long> tagIds,
+                        List<String> tagNames, List<Account> users, Account admin) {
+        this.giftCertificateIds = giftCertificateIds;
+        this.giftCertificateNames = giftCertificateNames;
+        this.tagIds = tagIds;
+        this.tagNames = tagNames;
+        this.users = users;
+        this.admin = admin;
+    }
+
+    /**
+     * Gets value from giftCertificateIds field
+     *
+     * @return {@code List<Long>} giftCertificateIds value
+     */
+    public List<Long> getGiftCertificateIds() {
+        return giftCertificateIds;
+    }
+
+    /**
+     * Gets value from giftCertificateNames field
+     *
+     * @return {@code List<String>} giftCertificateNames value
+     */
+    public List<String> getGiftCertificateNames() {
+        return giftCertificateNames;
+    }
+
+    /**
+     * Gets value from tagIds field
+     *
+     * @return {@code List<Long>} tagIds value
+     */
+    public List<Long> getTagIds() {
+        return tagIds;
+    }
+
+    /**
+     * Gets value from tagNames field
+     *
+     * @return {@code List<String>} tagNames value
+     */
+    public List<String> getTagNames() {
+        return tagNames;
+    }
+
+    /**
+     * Gets value from users field
+     *
+     * @return {@code List<Account>} users value
+     */
+    public List<Account> getUsers() {
+        return users;
+    }
+
+    /**
+     * Gets value from admin field
+     *
+     * @return {@code Account} admin value
+     */
+    public Account getAdmin() {
+        return admin;
+    }
+
+    /**
+     * Account is the data class, holds seeded user id and credentials
+     */
+    public static class Account {
+
+        /**
+         * Holds user id
+         */
+        private final Long id;
+
+        /**
+         * Holds username
+         */
+        private final String username;
+
+        /**
+         * Holds raw password
+         */
+        private final String password;
+
+        /**
+         * Constructs Account with provided id and credentials
+         *
+         * @param id provided user id
+         * @param username provided username
+         * @param password provided raw password
+         */
+        public Account(Long id, String username, String password) {
+            this.id = id;
+            this.username = username;
+            this.password = password;
+        }
+
+        /**
+         * Gets value from id field
+         *
+         * @return {@code Long} id value
+         */
+        public Long getId() {
+            return id;
+        }
+
+        /**
+         * Gets value from username field
+         *
+         * @return {@code String} username value
+         */
+        public String getUsername() {
+            return username;
+        }
+
+        /**
+         * Gets value from password field
+         *
+         * @return {@code String} password value
+         */
+        public String getPassword() {
+            return password;
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package epam.com.esm.load;
+
+import epam.com.esm.exception.types.UnexpectedException;
+import epam.com.esm.load.LoadTestData.Account;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LoadTestDatabase is the util class, seeds embedded H2 database in MySQL mode for load test
+ * <p>
+ * Schema is created by schema.sql without full-text keys, which H2 doesn't support. Rows of data-shortened.sql are
+ * copied scale - 1 times with shifted ids and suffixed unique names, so relations of each copy are kept. Copied
+ * users keep passwords of their originals, create dates of copied gift certificates are shifted by copy number days
+ */
+public final class LoadTestDatabase {
+
+    /**
+     * Holds embedded database url, database is kept while application is running
+     */
+    public static final String URL = "jdbc:h2:mem:rest_api_security;MODE=MySQL;DATABASE_TO_LOWER=TRUE;" +
+                                     "NON_KEYWORDS=USER,END,VALUE;DB_CLOSE_DELAY=-1";
+
+    /**
+     * Holds embedded database username
+     */
+    public static final String USERNAME = "sa";
+
+    /**
+     * Holds embedded database password
+     */
+    public static final String PASSWORD = "sa";
+
+    /**
+     * Holds schema script
+     */
+    private static final String SCHEMA = "schema.sql";
+
+    /**
+     * Holds data script
+     */
+    private static final String DATA = "data-shortened.sql";
+
+    /**
+     * Holds full-text key definition pattern
+     */
+    private static final String FULLTEXT_KEY = ",\\s*FULLTEXT KEY [^(]*\\([^)]*\\)";
+
+    /**
+     * Holds comment prefixes of data script
+     */
+    private static final String[] COMMENT_PREFIXES = {"--", "#"};
+
+    /**
+     * Holds tables with copied ids
+     */
+    private static final String[] TABLES = {"tag", "gift_certificate", "user", "orders", "purchase_data"};
+
+    /**
+     * Holds statements which copy original rows, placeholders are replaced by copy number, id offsets of copy
+     * and max original ids
+     */
+    private static final String[] COPIES = {
+            "INSERT INTO tag (id, name) " +
+            "SELECT id + {tag}, CONCAT(name, '_{copy}') FROM tag WHERE id <= {tag.max}",
+
+            "INSERT INTO gift_certificate (id, name, description, price, duration, create_date, last_update_date) " +
+            "SELECT id + {gift_certificate}, CONCAT(name, '_{copy}'), description, price, duration, " +
+            "TIMESTAMPADD(DAY, -{copy}, create_date), TIMESTAMPADD(DAY, -{copy}, last_update_date) " +
+            "FROM gift_certificate WHERE id <= {gift_certificate.max}",
+
+            "INSERT INTO user (id, username, password) " +
+            "SELECT id + {user}, CONCAT(username, '_{copy}'), password FROM user WHERE id <= {user.max}",
+
+            "INSERT INTO orders (id, cost, purchase_date) " +
+            "SELECT id + {orders}, cost, purchase_date FROM orders WHERE id <= {orders.max}",
+
+            "INSERT INTO purchase_data (id, start, `end`, status) " +
+            "SELECT id + {purchase_data}, start, `end`, status FROM purchase_data WHERE id <= {purchase_data.max}",
+
+            "INSERT INTO gift_certificate_tag (gift_certificate_id, tag_id) " +
+            "SELECT gift_certificate_id + {gift_certificate}, tag_id + {tag} FROM gift_certificate_tag " +
+            "WHERE gift_certificate_id <= {gift_certificate.max}",
+
+            "INSERT INTO order_gift_certificate (order_id, gift_certificate_id) " +
+            "SELECT order_id + {orders}, gift_certificate_id + {gift_certificate} FROM order_gift_certificate " +
+            "WHERE order_id <= {orders.max}",
+
+            "INSERT INTO purchase_data_gift_certificate (purchase_data_id, gift_certificate_id) " +
+            "SELECT purchase_data_id + {purchase_data}, gift_certificate_id + {gift_certificate} " +
+            "FROM purchase_data_gift_certificate WHERE purchase_data_id <= {purchase_data.max}",
+
+            "INSERT INTO user_orders (user_id, order_id) " +
+            "SELECT user_id + {user}, order_id + {orders} FROM user_orders WHERE order_id <= {orders.max}",
+
+            "INSERT INTO user_purchase_data (user_id, purchase_data_id) " +
+            "SELECT user_id + {user}, purchase_data_id + {purchase_data} FROM user_purchase_data " +
+            "WHERE purchase_data_id <= {purchase_data.max}",
+
+            "INSERT INTO users_roles (user_id, role_id) " +
+            "SELECT user_id + {user}, role_id FROM users_roles WHERE user_id <= {user.max}"
+    };
+
+    /**
+     * Holds admin role name
+     */
+    private static final String ROLE_ADMIN = "ROLE_ADMIN";
+
+    /**
+     * Holds admin username of data script
+     */
+    private static final String ADMIN = "admin";
+
+    /**
+     * Holds password prefix of data script, user_n has password_n password and admin has password password
+     */
+    private static final String PASSWORD_PREFIX = "password";
+
+    /**
+     * Default constructor
+     */
+    private LoadTestDatabase() {}
+
+    /**
+     * Creates schema, seeds provided number of data script copies and reads seeded values
+     * Will throw UnexpectedException if database can't be seeded
+     *
+     * @param scale provided number of data script copies
+     * @return {@code LoadTestData} seeded values
+     */
+    public static LoadTestData seed(int scale) {
+        try (Connection connection = DriverManager.getConnection(URL, USERNAME, PASSWORD)) {
+            ScriptUtils.executeSqlScript(connection, encoded(read(SCHEMA).replaceAll(FULLTEXT_KEY, "")));
+            ScriptUtils.executeSqlScript(connection, encoded(read(DATA)), false, false, COMMENT_PREFIXES,
+                                         ScriptUtils.DEFAULT_STATEMENT_SEPARATOR,
+                                         ScriptUtils.DEFAULT_BLOCK_COMMENT_START_DELIMITER,
+                                         ScriptUtils.DEFAULT_BLOCK_COMMENT_END_DELIMITER);
+
+            try (Statement statement = connection.createStatement()) {
+                Map<String, Long> max = new HashMap<>();
+
+                for (String table : TABLES) {
+                    max.put(table, queryLong(statement, "SELECT MAX(id) FROM " + table));
+                }
+
+                for (int copy = 1; copy < scale; copy++) {
+                    for (String sql : COPIES) {
+                        statement.executeUpdate(render(sql, copy, max));
+                    }
+                }
+
+                return read(statement);
+            }
+        } catch (SQLException e) {
+            throw new UnexpectedException("Load test database can't be seeded: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reads seeded catalog values and accounts
+     *
+     * @param statement provided statement
+     * @return {@code LoadTestData} seeded values
+     * @throws SQLException if values can't be read
+     */
+    private static LoadTestData read(Statement statement) throws SQLException {
+        List<Long> gcIds = new ArrayList<>();
+        List<String> gcNames = new ArrayList<>();
+        List<Long> tagIds = new ArrayList<>();
+        List<String> tagNames = new ArrayList<>();
+        List<Account> users = new ArrayList<>();
+        Account admin = null;
+
+        try (ResultSet rs = statement.executeQuery("SELECT id, name FROM gift_certificate ORDER BY id")) {
+            while (rs.next()) {
+                gcIds.add(rs.getLong(1));
+                gcNames.add(rs.getString(2));
+            }
+        }
+
+        try (ResultSet rs = statement.executeQuery("SELECT id, name FROM tag ORDER BY id")) {
+            while (rs.next()) {
+                tagIds.add(rs.getLong(1));
+                tagNames.add(rs.getString(2));
+            }
+        }
+
+        try (ResultSet rs = statement.executeQuery("SELECT u.id, u.username, r.name FROM user u " +
+                                                   "JOIN users_roles ur ON ur.user_id = u.id " +
+                                                   "JOIN roles r ON r.id = ur.role_id ORDER BY u.id")) {
+            while (rs.next()) {
+                Account account = new Account(rs.getLong(1), rs.getString(2), toPassword(rs.getString(2)));
+
+                if (!ROLE_ADMIN.equals(rs.getString(3))) {
+                    users.add(account);
+                } else if (ADMIN.equals(account.getUsername())) {
+                    admin = account;
+                }
+            }
+        }
+
+        if (admin == null || users.isEmpty() || gcIds.isEmpty() || tagIds.isEmpty()) {
+            throw new UnexpectedException("Load test database doesn't contain catalog, users or admin");
+        }
+
+        return new LoadTestData(gcIds, gcNames, tagIds, tagNames, users, admin);
+    }
+
+    /**
+     * Replaces placeholders of copy statement
+     *
+     * @param sql provided copy statement
+     * @param copy provided copy number
+     * @param max provided max original ids by table
+     * @return {@code String} rendered statement
+     */
+    private static String render(String sql, int copy, Map<String, Long> max) {
+        String rendered = sql.replace("{copy}", String.valueOf(copy));
+
+        for (Map.Entry<String, Long> e : max.entrySet()) {
+            rendered = rendered.replace("{" + e.getKey() + ".max}", String.valueOf(e.getValue()))
+                               .replace("{" + e.getKey() + "}", String.valueOf(e.getValue() * copy));
+        }
+
+        return rendered;
+    }
+
+    /**
+     * Derives raw password from username by data script convention
+     *
+     * @param username provided username
+     * @return {@code String} raw password
+     */
+    private static String toPassword(String username) {
+        String[] parts = username.split("_");
+        return parts.length > 1 ? PASSWORD_PREFIX + "_" + parts[1] : PASSWORD_PREFIX;
+    }
+
+    /**
+     * Executes query which returns single number
+     *
+     * @param statement provided statement
+     * @param sql provided query
+     * @return {@code Long} found number
+     * @throws SQLException if query can't be executed
+     */
+    private static Long queryLong(Statement statement, String sql) throws SQLException {
+        try (ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    /**
+     * Reads classpath script
+     * Will throw UnexpectedException if script can't be read
+     *
+     * @param name provided script name
+     * @return {@code String} script content
+     */
+    private static String read(String name) {
+        try (InputStream in = new ClassPathResource(name).getInputStream()) {
+            return StreamUtils.copyToString(in, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UnexpectedException("Script (name = " + name + ") can't be read");
+        }
+    }
+
+    /**
+     * Wraps script content to encoded resource
+     *
+     * @param script provided script content
+     * @return {@code EncodedResource} script resource
+     */
+    private static EncodedResource encoded(String script) {
+        return new EncodedResource(new ByteArrayResource(script.getBytes(StandardCharsets.UTF_8)),
+                                   StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,209 @@
+package epam.com.esm.load;
+
+import epam.com.esm.exception.types.InputException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * LoadTestOptions is the data class, holds load test options parsed from command line arguments
+ * <p>
+ * Load test options are passed as {@code --load.<name>=<value>}, other arguments are passed to application
+ */
+public class LoadTestOptions {
+
+    /**
+     * Holds load test option prefix
+     */
+    private static final String PREFIX = "--load.";
+
+    /**
+     * Holds option name and value divider
+     */
+    private static final String DIVIDER = "=";
+
+    /**
+     * Holds execution modes divider
+     */
+    private static final String MODES_DIVIDER = ",";
+
+    /**
+     * Holds execution modes supported by application
+     */
+    private static final List<String> MODES = Arrays.asList("platform", "virtual");
+
+    /**
+     * Holds number of concurrent virtual users
+     */
+    private int threads = 16;
+
+    /**
+     * Holds warm up duration in seconds, requests of warm up aren't reported
+     */
+    private int warmup = 30;
+
+    /**
+     * Holds measurement duration in seconds
+     */
+    private int duration = 120;
+
+    /**
+     * Holds number of data-shortened.sql copies seeded to database
+     */
+    private int scale = 10;
+
+    /**
+     * Holds application execution modes, load test is run for each mode in turn on the same database
+     */
+    private List<String> executions = Collections.singletonList("platform");
+
+    /**
+     * Holds arguments passed to application
+     */
+    private final List<String> applicationArgs = new ArrayList<>();
+
+    /**
+     * Default constructor
+     */
+    private LoadTestOptions() {}
+
+    /**
+     * Parses load test options from provided command line arguments
+     * Will throw InputException if option is unknown or its value is wrong
+     *
+     * @param args provided command line arguments
+     * @return {@code LoadTestOptions} parsed options
+     */
+    public static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+
+        for (String arg : args) {
+            if (!arg.startsWith(PREFIX)) {
+                options.applicationArgs.add(arg);
+                continue;
+            }
+
+            String[] option = arg.substring(PREFIX.length()).split(DIVIDER, 2);
+            String value = option.length == 2 ? option[1] : null;
+
+            switch (option[0]) {
+                case "threads":
+                    options.threads = toPositive(arg, value);
+                    break;
+                case "warmup":
+                    options.warmup = toPositive(arg, value);
+                    break;
+                case "duration":
+                    options.duration = toPositive(arg, value);
+                    break;
+                case "scale":
+                    options.scale = toPositive(arg, value);
+                    break;
+                case "execution":
+                    options.executions = toModes(arg, value);
+                    break;
+                default:
+                    throw new InputException("Unknown load test option (option = " + arg + ")");
+            }
+        }
+
+        return options;
+    }
+
+    /**
+     * Converts option value to positive integer
+     * Will throw InputException if value is absent or isn't positive integer
+     *
+     * @param arg provided option argument
+     * @param value provided option value
+     * @return {@code int} converted value
+     */
+    private static int toPositive(String arg, String value) {
+        try {
+            int converted = Integer.parseInt(value);
+
+            if (converted > 0) {
+                return converted;
+            }
+        } catch (NumberFormatException ignored) {
+            // value is reported below
+        }
+
+        throw new InputException("Load test option should be positive integer (option = " + arg + ")");
+    }
+
+    /**
+     * Converts option value to list of execution modes
+     * Will throw InputException if value is absent or contains unknown mode
+     *
+     * @param arg provided option argument
+     * @param value provided option value, comma separated modes
+     * @return {@code List<String>} converted modes
+     */
+    private static List<String> toModes(String arg, String value) {
+        List<String> modes = value == null ? Collections.emptyList() : Arrays.asList(value.split(MODES_DIVIDER));
+
+        if (modes.isEmpty() || !MODES.containsAll(modes)) {
+            throw new InputException("Load test option should be comma separated modes " + MODES +
+                                     " (option = " + arg + ")");
+        }
+
+        return modes;
+    }
+
+    /**
+     * Gets value from threads field
+     *
+     * @return {@code int} threads value
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Gets value from warmup field
+     *
+     * @return {@code int} warmup value
+     */
+    public int getWarmup() {
+        return warmup;
+    }
+
+    /**
+     * Gets value from duration field
+     *
+     * @return {@code int} duration value
+     */
+    public int getDuration() {
+        return duration;
+    }
+
+    /**
+     * Gets value from scale field
+     *
+     * @return {@code int} scale value
+     */
+    public int getScale() {
+        return scale;
+    }
+
+    /**
+     * Gets value from executions field
+     *
+     * @return {@code List<String>} executions value
+     */
+    public List<String> getExecutions() {
+        return executions;
+    }
+
+    /**
+     * Gets arguments passed to application
+     *
+     * @return {@code String[]} application arguments
+     */
+    public String[] getApplicationArgs() {
+        return applicationArgs.toArray(new String[0]);
+    }
+}
@@ -0,0 +1,164 @@
+package epam.com.esm.load;
+
+import epam.com.esm.RestApiSecurityApplication;
+import epam.com.esm.exception.types.UnexpectedException;
+import epam.com.esm.load.LoadTestData.Account;
+import epam.com.esm.load.report.LoadTestReport;
+import epam.com.esm.load.report.TrafficRecorder;
+import epam.com.esm.load.statements.StatementCounter;
+import epam.com.esm.load.traffic.LoadTestClient;
+import epam.com.esm.load.traffic.VirtualUser;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LoadTestRunner is the main class, runs application on seeded embedded database and drives mixed traffic to it
+ * <p>
+ * Virtual users log in once, warm up application and then send requests until measurement ends. Report is printed
+ * to standard output. MySQL full-text search isn't available on H2, so text search params aren't requested
+ */
+public final class LoadTestRunner {
+
+    /**
+     * Holds application properties which replace MySQL by embedded database, properties are set as system
+     * properties, so they override application.yml and may be overridden by application arguments
+     */
+    static final Map<String, String> PROPERTIES = new HashMap<>();
+
+    static {
+        PROPERTIES.put("spring.datasource.url", LoadTestDatabase.URL);
+        PROPERTIES.put("spring.datasource.username", LoadTestDatabase.USERNAME);
+        PROPERTIES.put("spring.datasource.password", LoadTestDatabase.PASSWORD);
+        PROPERTIES.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        PROPERTIES.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        PROPERTIES.put("spring.jpa.hibernate.ddl-auto", "none");
+        PROPERTIES.put("spring.flyway.enabled", "false");
+        PROPERTIES.put("schema.index-check.enabled", "false");
+        PROPERTIES.put("export.fetch-size", "1000");
+        PROPERTIES.put("jwt.lifetime", String.valueOf(TimeUnit.DAYS.toMillis(1)));
+        PROPERTIES.put("server.port", "0");
+    }
+
+    /**
+     * Holds local server port property
+     */
+    private static final String PORT = "local.server.port";
+
+    /**
+     * Holds application execution mode property
+     */
+    private static final String EXECUTION = "execution.mode";
+
+    /**
+     * Default constructor
+     */
+    private LoadTestRunner() {}
+
+    /**
+     * Runs load test for each requested execution mode in turn, application is restarted for each mode
+     *
+     * @param args provided load test options and application arguments
+     * @throws IOException if client connections can't be closed
+     * @throws InterruptedException if load test is interrupted
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        LoadTestData data = LoadTestDatabase.seed(options.getScale());
+        PROPERTIES.forEach(System::setProperty);
+
+        for (String execution : options.getExecutions()) {
+            System.setProperty(EXECUTION, execution);
+            run(options, data, execution);
+        }
+    }
+
+    /**
+     * Runs application in provided execution mode, drives traffic to it and prints report
+     *
+     * @param options provided load test options
+     * @param data provided seeded values
+     * @param execution provided execution mode
+     * @throws IOException if client connections can't be closed
+     * @throws InterruptedException if load test is interrupted
+     */
+    private static void run(LoadTestOptions options, LoadTestData data, String execution)
+            throws IOException, InterruptedException {
+        try (ConfigurableApplicationContext context = SpringApplication.run(RestApiSecurityApplication.class,
+                                                                            options.getApplicationArgs());
+             LoadTestClient client = new LoadTestClient(context.getEnvironment().getRequiredProperty(PORT,
+                                                                                                   Integer.class),
+                                                        options.getThreads())) {
+            List<VirtualUser> users = login(client, data, options.getThreads());
+            drive(users, options.getWarmup());
+            StatementCounter.reset();
+
+            long start = System.nanoTime();
+            TrafficRecorder recorder = drive(users, options.getDuration());
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            new LoadTestReport(options, data, execution, recorder, seconds).print(System.out);
+        }
+    }
+
+    /**
+     * Logs in admin and provided number of virtual users, users are taken from seeded users in turn
+     *
+     * @param client provided client
+     * @param data provided seeded values
+     * @param threads provided number of virtual users
+     * @return {@code List<VirtualUser>} logged in virtual users
+     */
+    private static List<VirtualUser> login(LoadTestClient client, LoadTestData data, int threads) {
+        TrafficRecorder recorder = new TrafficRecorder();
+        String adminToken = client.login(data.getAdmin(), recorder);
+        List<VirtualUser> users = new ArrayList<>(threads);
+
+        for (int i = 0; i < threads; i++) {
+            Account account = data.getUsers().get(i % data.getUsers().size());
+            users.add(new VirtualUser(i, client, data, account, client.login(account, recorder), adminToken));
+        }
+
+        return users;
+    }
+
+    /**
+     * Drives traffic of provided virtual users concurrently for provided duration
+     * Will throw UnexpectedException if virtual user fails
+     *
+     * @param users provided virtual users
+     * @param seconds provided duration in seconds
+     * @return {@code TrafficRecorder} merged records of all virtual users
+     * @throws InterruptedException if traffic is interrupted
+     */
+    private static TrafficRecorder drive(List<VirtualUser> users, int seconds) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(users.size());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        List<Future<TrafficRecorder>> futures = new ArrayList<>(users.size());
+        TrafficRecorder merged = new TrafficRecorder();
+
+        try {
+            users.forEach(u -> futures.add(executor.submit(() -> u.drive(deadline))));
+
+            for (Future<TrafficRecorder> f : futures) {
+                merged.merge(f.get());
+            }
+        } catch (ExecutionException e) {
+            throw new UnexpectedException("Virtual user failed: " + e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return merged;
+    }
+}
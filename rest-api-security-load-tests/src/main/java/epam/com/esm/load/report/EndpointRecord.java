@@ -0,0 +1,128 @@
+package epam.com.esm.load.report;
+
+import java.util.Arrays;
+
+/**
+ * EndpointRecord is the data class, holds latencies and errors of requests to one endpoint
+ * <p>
+ * Record isn't thread safe, each virtual user writes its own record, records are merged for report
+ */
+public class EndpointRecord {
+
+    /**
+     * Holds initial latencies capacity
+     */
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * Holds request latencies in nanoseconds
+     */
+    private long[] latencies = new long[INITIAL_CAPACITY];
+
+    /**
+     * Holds number of recorded requests
+     */
+    private int count;
+
+    /**
+     * Holds number of failed requests
+     */
+    private long errors;
+
+    /**
+     * Holds flag, shows if latencies are sorted
+     */
+    private boolean sorted;
+
+    /**
+     * Records request
+     *
+     * @param nanos provided request latency in nanoseconds
+     * @param error provided flag, shows if request failed
+     */
+    public void record(long nanos, boolean error) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+
+        latencies[count++] = nanos;
+        sorted = false;
+
+        if (error) {
+            errors++;
+        }
+    }
+
+    /**
+     * Adds requests of provided record
+     *
+     * @param other provided record
+     */
+    public void merge(EndpointRecord other) {
+        if (count + other.count > latencies.length) {
+            latencies = Arrays.copyOf(latencies, count + other.count);
+        }
+
+        System.arraycopy(other.latencies, 0, latencies, count, other.count);
+        count += other.count;
+        errors += other.errors;
+        sorted = false;
+    }
+
+    /**
+     * Gets latency percentile by nearest rank
+     *
+     * @param percentile provided percentile from 0 exclusive to 100 inclusive
+     * @return {@code double} latency in milliseconds, 0 if no requests are recorded
+     */
+    public double getPercentileMillis(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+
+        if (!sorted) {
+            Arrays.sort(latencies, 0, count);
+            sorted = true;
+        }
+
+        int rank = (int) Math.ceil(percentile / 100 * count);
+        return toMillis(latencies[Math.max(rank, 1) - 1]);
+    }
+
+    /**
+     * Gets max latency
+     *
+     * @return {@code double} max latency in milliseconds
+     */
+    public double getMaxMillis() {
+        return getPercentileMillis(100);
+    }
+
+    /**
+     * Gets value from count field
+     *
+     * @return {@code int} count value
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Gets value from errors field
+     *
+     * @return {@code long} errors value
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * Converts nanoseconds to milliseconds
+     *
+     * @param nanos provided nanoseconds
+     * @return {@code double} milliseconds
+     */
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
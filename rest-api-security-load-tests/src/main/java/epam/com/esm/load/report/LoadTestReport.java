@@ -0,0 +1,131 @@
+package epam.com.esm.load.report;
+
+import epam.com.esm.load.LoadTestData;
+import epam.com.esm.load.LoadTestOptions;
+import epam.com.esm.load.statements.StatementCounter;
+import epam.com.esm.load.traffic.Endpoint;
+
+import java.io.PrintStream;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * LoadTestReport is the report class, prints throughput, latency percentiles, error rate and statements per request
+ * of each requested endpoint
+ * <p>
+ * Latencies are measured by virtual users and include HTTP round trip, statements are counted by application
+ */
+public class LoadTestReport {
+
+    /**
+     * Holds row format
+     */
+    private static final String ROW = "%-48s %9s %7s %8s %9s %8s %8s %8s %8s %9s%n";
+
+    /**
+     * Holds total row label
+     */
+    private static final String TOTAL = "Total";
+
+    /**
+     * Holds load test options
+     */
+    private final LoadTestOptions options;
+
+    /**
+     * Holds seeded values
+     */
+    private final LoadTestData data;
+
+    /**
+     * Holds application execution mode
+     */
+    private final String execution;
+
+    /**
+     * Holds merged records of all virtual users
+     */
+    private final TrafficRecorder recorder;
+
+    /**
+     * Holds measured duration in seconds
+     */
+    private final double seconds;
+
+    /**
+     * Constructs LoadTestReport with provided options, seeded values, execution mode, merged records and measured
+     * duration
+     *
+     * @param options provided load test options
+     * @param data provided seeded values
+     * @param execution provided application execution mode
+     * @param recorder provided merged records
+     * @param seconds provided measured duration in seconds
+     */
+    public LoadTestReport(LoadTestOptions options, LoadTestData data, String execution, TrafficRecorder recorder,
+                          double seconds) {
+        this.options = options;
+        this.data = data;
+        this.execution = execution;
+        this.recorder = recorder;
+        this.seconds = seconds;
+    }
+
+    /**
+     * Prints report
+     *
+     * @param out provided output
+     */
+    public void print(PrintStream out) {
+        out.printf(Locale.ROOT, "%nLoad test: %d virtual users, %.1f s measured after %d s warm up, scale %d, " +
+                                "%s threads%n",
+                   options.getThreads(), seconds, options.getWarmup(), options.getScale(), execution);
+        out.printf(Locale.ROOT, "Seeded: %d gift certificates, %d tags, %d users%n%n",
+                   data.getGiftCertificateIds().size(), data.getTagIds().size(), data.getUsers().size());
+        out.printf(Locale.ROOT, ROW, "Endpoint", "Requests", "Errors", "Error %", "Req/s",
+                   "p50 ms", "p95 ms", "p99 ms", "Max ms", "Stmt/req");
+
+        EndpointRecord total = new EndpointRecord();
+        long requests = 0;
+        long statements = 0;
+
+        for (Map.Entry<Endpoint, EndpointRecord> e : recorder.getRecords().entrySet()) {
+            String name = e.getKey().name();
+            printRow(out, e.getKey().getLabel(), e.getValue(),
+                     StatementCounter.getRequests(name), StatementCounter.getStatements(name));
+            total.merge(e.getValue());
+            requests += StatementCounter.getRequests(name);
+            statements += StatementCounter.getStatements(name);
+        }
+
+        printRow(out, TOTAL, total, requests, statements);
+    }
+
+    /**
+     * Prints row of provided record
+     *
+     * @param out provided output
+     * @param label provided row label
+     * @param record provided record
+     * @param requests provided number of requests counted by application
+     * @param statements provided number of statements counted by application
+     */
+    private void printRow(PrintStream out, String label, EndpointRecord record, long requests, long statements) {
+        out.printf(Locale.ROOT, ROW, label, record.getCount(), record.getErrors(),
+                   format(record.getCount() == 0 ? 0 : 100.0 * record.getErrors() / record.getCount()),
+                   format(record.getCount() / seconds),
+                   format(record.getPercentileMillis(50)), format(record.getPercentileMillis(95)),
+                   format(record.getPercentileMillis(99)), format(record.getMaxMillis()),
+                   requests == 0 ? "-" : format((double) statements / requests));
+    }
+
+    /**
+     * Formats number with two fraction digits
+     *
+     * @param value provided number
+     * @return {@code String} formatted number
+     */
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+}
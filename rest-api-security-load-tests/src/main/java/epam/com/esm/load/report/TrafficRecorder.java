@@ -0,0 +1,46 @@
+package epam.com.esm.load.report;
+
+import epam.com.esm.load.traffic.Endpoint;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * TrafficRecorder is the data class, holds records of requests sent by one virtual user by endpoint
+ */
+public class TrafficRecorder {
+
+    /**
+     * Holds records by endpoint
+     */
+    private final Map<Endpoint, EndpointRecord> records = new EnumMap<>(Endpoint.class);
+
+    /**
+     * Records request to provided endpoint
+     *
+     * @param endpoint provided endpoint
+     * @param nanos provided request latency in nanoseconds
+     * @param error provided flag, shows if request failed
+     */
+    public void record(Endpoint endpoint, long nanos, boolean error) {
+        records.computeIfAbsent(endpoint, e -> new EndpointRecord()).record(nanos, error);
+    }
+
+    /**
+     * Adds records of provided recorder
+     *
+     * @param other provided recorder
+     */
+    public void merge(TrafficRecorder other) {
+        other.records.forEach((e, r) -> records.computeIfAbsent(e, k -> new EndpointRecord()).merge(r));
+    }
+
+    /**
+     * Gets records by endpoint
+     *
+     * @return {@code Map<Endpoint, EndpointRecord>} records
+     */
+    public Map<Endpoint, EndpointRecord> getRecords() {
+        return records;
+    }
+}
@@ -0,0 +1,131 @@
+package epam.com.esm.load.statements;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * StatementCountConfig is the configuration class, counts statements prepared by application for load test report
+ * <p>
+ * Data source is wrapped, so each statement or prepared statement created by connection of request thread is
+ * counted. Statements of second level cache hits aren't executed, so they aren't counted as well
+ */
+@Configuration
+public class StatementCountConfig {
+
+    /**
+     * Holds names of connection methods which create statements
+     */
+    private static final Set<String> STATEMENT_METHODS = new HashSet<>(Arrays.asList(
+            "createStatement", "prepareStatement", "prepareCall"
+    ));
+
+    /**
+     * Holds data source method which gets connection
+     */
+    private static final String GET_CONNECTION = "getConnection";
+
+    /**
+     * Holds data source close method
+     */
+    private static final String CLOSE = "close";
+
+    /**
+     * Bean, wraps data source beans
+     *
+     * @return {@code BeanPostProcessor} data source wrapper
+     */
+    @Bean
+    public static BeanPostProcessor statementCountingDataSource() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource ? wrap((DataSource) bean) : bean;
+            }
+        };
+    }
+
+    /**
+     * Bean, registers statement count filter before other filters
+     *
+     * @return {@code FilterRegistrationBean<StatementCountFilter>} filter registration
+     */
+    @Bean
+    public FilterRegistrationBean<StatementCountFilter> statementCountFilter() {
+        FilterRegistrationBean<StatementCountFilter> registration = new FilterRegistrationBean<>();
+        registration.setFilter(new StatementCountFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    /**
+     * Wraps data source, connections got from wrapper count created statements
+     * Wrapper is closeable, so data source destroy method is still found
+     *
+     * @param dataSource provided data source
+     * @return {@code DataSource} wrapped data source
+     */
+    private static DataSource wrap(DataSource dataSource) {
+        return (DataSource) Proxy.newProxyInstance(
+                StatementCountConfig.class.getClassLoader(), new Class<?>[]{DataSource.class, Closeable.class},
+                (proxy, method, args) -> {
+                    if (CLOSE.equals(method.getName()) && method.getParameterCount() == 0) {
+                        if (dataSource instanceof AutoCloseable) {
+                            ((AutoCloseable) dataSource).close();
+                        }
+
+                        return null;
+                    }
+
+                    Object result = invoke(dataSource, method, args);
+                    return GET_CONNECTION.equals(method.getName()) ? wrap((Connection) result) : result;
+                });
+    }
+
+    /**
+     * Wraps connection, counts created statements
+     *
+     * @param connection provided connection
+     * @return {@code Connection} wrapped connection
+     */
+    private static Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                StatementCountConfig.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (STATEMENT_METHODS.contains(method.getName())) {
+                        StatementCounter.increment();
+                    }
+
+                    return invoke(connection, method, args);
+                });
+    }
+
+    /**
+     * Invokes method of wrapped object, exception thrown by method is rethrown as is
+     *
+     * @param target provided wrapped object
+     * @param method provided method
+     * @param args provided method arguments
+     * @return {@code Object} method result
+     * @throws Throwable exception thrown by method
+     */
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
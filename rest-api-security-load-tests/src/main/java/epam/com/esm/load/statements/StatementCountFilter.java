@@ -0,0 +1,50 @@
+package epam.com.esm.load.statements;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * StatementCountFilter is the filter class, counts statements of requests sent by load test virtual users
+ * <p>
+ * Endpoint of request is taken from load test header, requests without header aren't counted
+ */
+public class StatementCountFilter extends OncePerRequestFilter {
+
+    /**
+     * Holds load test endpoint header name
+     */
+    public static final String ENDPOINT_HEADER = "X-Load-Endpoint";
+
+    /**
+     * Counts statements prepared while request is processed
+     *
+     * @param request provided request
+     * @param response provided response
+     * @param filterChain provided filter chain
+     * @throws ServletException if request processing fails
+     * @throws IOException if request or response can't be read or written
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String endpoint = request.getHeader(ENDPOINT_HEADER);
+
+        if (endpoint == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        StatementCounter.begin();
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            StatementCounter.end(endpoint);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package epam.com.esm.load.statements;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * StatementCounter is the util class, counts JDBC statements prepared by request thread and accumulates them
+ * by load test endpoint
+ * <p>
+ * Statements are counted only between begin and end of request, so statements of scheduled tasks aren't counted
+ */
+public final class StatementCounter {
+
+    /**
+     * Holds statements counter of current request
+     */
+    private static final ThreadLocal<long[]> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Holds number of requests by endpoint
+     */
+    private static final Map<String, LongAdder> REQUESTS = new ConcurrentHashMap<>();
+
+    /**
+     * Holds number of statements by endpoint
+     */
+    private static final Map<String, LongAdder> STATEMENTS = new ConcurrentHashMap<>();
+
+    /**
+     * Default constructor
+     */
+    private StatementCounter() {}
+
+    /**
+     * Starts counting statements of current request
+     */
+    public static void begin() {
+        CURRENT.set(new long[1]);
+    }
+
+    /**
+     * Counts statement if current thread serves counted request
+     */
+    public static void increment() {
+        long[] counter = CURRENT.get();
+
+        if (counter != null) {
+            counter[0]++;
+        }
+    }
+
+    /**
+     * Stops counting statements of current request and adds them to provided endpoint
+     *
+     * @param endpoint provided endpoint name
+     */
+    public static void end(String endpoint) {
+        long[] counter = CURRENT.get();
+        CURRENT.remove();
+
+        if (counter != null) {
+            REQUESTS.computeIfAbsent(endpoint, e -> new LongAdder()).increment();
+            STATEMENTS.computeIfAbsent(endpoint, e -> new LongAdder()).add(counter[0]);
+        }
+    }
+
+    /**
+     * Gets number of counted requests of provided endpoint
+     *
+     * @param endpoint provided endpoint name
+     * @return {@code long} number of requests
+     */
+    public static long getRequests(String endpoint) {
+        LongAdder requests = REQUESTS.get(endpoint);
+        return requests == null ? 0 : requests.sum();
+    }
+
+    /**
+     * Gets number of counted statements of provided endpoint
+     *
+     * @param endpoint provided endpoint name
+     * @return {@code long} number of statements
+     */
+    public static long getStatements(String endpoint) {
+        LongAdder statements = STATEMENTS.get(endpoint);
+        return statements == null ? 0 : statements.sum();
+    }
+
+    /**
+     * Removes counted requests and statements of all endpoints
+     */
+    public static void reset() {
+        REQUESTS.clear();
+        STATEMENTS.clear();
+    }
+}
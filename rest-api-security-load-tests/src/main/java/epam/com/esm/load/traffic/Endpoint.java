@@ -0,0 +1,105 @@
+package epam.com.esm.load.traffic;
+
+import epam.com.esm.exception.types.UnexpectedException;
+
+/**
+ * Endpoint is the enum, holds endpoints requested by virtual users and their weights in traffic mix
+ * <p>
+ * Endpoints with zero weight aren't picked, they are requested as steps of admin tag edit
+ */
+public enum Endpoint {
+
+    GIFT_CERTIFICATES_PAGE("GET gift/certificates/all (sorted page)", 15),
+    GIFT_CERTIFICATES_FILTERED("GET gift/certificates/all (name, duration)", 15),
+    GIFT_CERTIFICATES_TAGGED_1("GET gift/certificates/all (1 tag)", 3),
+    GIFT_CERTIFICATES_TAGGED_3("GET gift/certificates/all (all of 3 tags)", 3),
+    GIFT_CERTIFICATES_TAGGED_10("GET gift/certificates/all (all of 10 tags)", 2),
+    GIFT_CERTIFICATES_TAGGED_ANY("GET gift/certificates/all (any of 3 tags)", 2),
+    GIFT_CERTIFICATES_RANGED("GET gift/certificates/all (price, date range)", 5),
+    GIFT_CERTIFICATE("GET gift/certificates/{id}", 15),
+    TAGS_PAGE("GET tags/all", 5),
+    TAG_GIFT_CERTIFICATES("GET tags/{id}/gift/certificates", 5),
+    LOGIN("POST login", 0),
+    ORDER_CREATE("POST users/{id}/orders/create", 10),
+    USER_ORDERS("GET users/{id}/orders", 5),
+    USER_TAGS_POPULAR("GET users/{id}/tags/popular", 5),
+    USER_TAGS_POPULAR_MAX("GET users/{id}/tags/popular/max", 5),
+    TAG_CREATE("POST tags/create", 5),
+    TAG_ADD_GIFT_CERTIFICATES("PUT tags/{id}/gift/certificates/add", 0),
+    TAG_DELETE("DELETE tags/{id}/delete", 0);
+
+    /**
+     * Holds sum of endpoint weights
+     */
+    private static final int TOTAL_WEIGHT;
+
+    static {
+        int total = 0;
+
+        for (Endpoint e : values()) {
+            total += e.weight;
+        }
+
+        TOTAL_WEIGHT = total;
+    }
+
+    /**
+     * Holds endpoint label
+     */
+    private final String label;
+
+    /**
+     * Holds endpoint weight
+     */
+    private final int weight;
+
+    /**
+     * Constructs Endpoint with provided label and weight
+     *
+     * @param label provided endpoint label
+     * @param weight provided endpoint weight
+     */
+    Endpoint(String label, int weight) {
+        this.label = label;
+        this.weight = weight;
+    }
+
+    /**
+     * Picks endpoint by provided value, each endpoint is picked with probability proportional to its weight
+     * Will throw UnexpectedException if value is out of weights range
+     *
+     * @param value provided value from zero inclusive to total weight exclusive
+     * @return {@code Endpoint} picked endpoint
+     */
+    public static Endpoint pick(int value) {
+        int bound = 0;
+
+        for (Endpoint e : values()) {
+            bound += e.weight;
+
+            if (value < bound) {
+                return e;
+            }
+        }
+
+        throw new UnexpectedException("Value is out of weights range (value = " + value + ")");
+    }
+
+    /**
+     * Gets sum of endpoint weights
+     *
+     * @return {@code int} total weight
+     */
+    public static int getTotalWeight() {
+        return TOTAL_WEIGHT;
+    }
+
+    /**
+     * Gets value from label field
+     *
+     * @return {@code String} label value
+     */
+    public String getLabel() {
+        return label;
+    }
+}
@@ -0,0 +1,216 @@
+package epam.com.esm.load.traffic;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import epam.com.esm.exception.types.UnexpectedException;
+import epam.com.esm.load.LoadTestData.Account;
+import epam.com.esm.load.report.TrafficRecorder;
+import epam.com.esm.load.statements.StatementCountFilter;
+import epam.com.esm.view.dto.request.impl.user.UserDtoRequest;
+import org.apache.http.HttpHeaders;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpDelete;
+import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpPut;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * LoadTestClient is the client class, sends requests to application and records their latencies and errors
+ * <p>
+ * Client is safe for concurrent use, connections are pooled, so each virtual user keeps its connection alive
+ */
+public class LoadTestClient implements Closeable {
+
+    /**
+     * Holds bearer token prefix
+     */
+    private static final String BEARER = "Bearer ";
+
+    /**
+     * Holds object mapper
+     */
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * Holds application base url
+     */
+    private final String baseUrl;
+
+    /**
+     * Holds pooled http client
+     */
+    private final CloseableHttpClient client;
+
+    /**
+     * Constructs LoadTestClient with provided application port and number of pooled connections
+     *
+     * @param port provided application port
+     * @param connections provided number of pooled connections
+     */
+    public LoadTestClient(int port, int connections) {
+        PoolingHttpClientConnectionManager manager = new PoolingHttpClientConnectionManager();
+        manager.setMaxTotal(connections);
+        manager.setDefaultMaxPerRoute(connections);
+        this.baseUrl = "http://localhost:" + port + "/";
+        this.client = HttpClients.custom().setConnectionManager(manager).build();
+    }
+
+    /**
+     * Logs in provided account
+     * Will throw UnexpectedException if login fails
+     *
+     * @param account provided account
+     * @param recorder provided recorder
+     * @return {@code String} jwt token
+     */
+    public String login(Account account, TrafficRecorder recorder) {
+        UserDtoRequest request = new UserDtoRequest();
+        request.setUsername(account.getUsername());
+        request.setPassword(account.getPassword());
+        JsonNode response = toJson(send(Endpoint.LOGIN, post("login", request), null, recorder));
+
+        if (!response.hasNonNull("token")) {
+            throw new UnexpectedException("Login failed (username = " + account.getUsername() + ")");
+        }
+
+        return response.get("token").asText();
+    }
+
+    /**
+     * Sends request to provided endpoint and records its latency, request fails if response status isn't 2xx
+     *
+     * @param endpoint provided endpoint
+     * @param request provided request
+     * @param token provided jwt token, may be null
+     * @param recorder provided recorder
+     * @return {@code String} response body, null if request failed
+     */
+    public String send(Endpoint endpoint, HttpRequestBase request, String token, TrafficRecorder recorder) {
+        request.setHeader(StatementCountFilter.ENDPOINT_HEADER, endpoint.name());
+
+        if (token != null) {
+            request.setHeader(HttpHeaders.AUTHORIZATION, BEARER + token);
+        }
+
+        long start = System.nanoTime();
+        String body = null;
+        boolean failed;
+
+        try (CloseableHttpResponse response = client.execute(request)) {
+            int status = response.getStatusLine().getStatusCode();
+            body = response.getEntity() == null ? null : EntityUtils.toString(response.getEntity());
+            failed = status < 200 || status >= 300;
+        } catch (IOException e) {
+            failed = true;
+        }
+
+        recorder.record(endpoint, System.nanoTime() - start, failed);
+        return failed ? null : body;
+    }
+
+    /**
+     * Reads id from response body
+     *
+     * @param body provided response body, may be null
+     * @return {@code Long} read id, null if body doesn't hold id
+     */
+    public Long readId(String body) {
+        JsonNode id = toJson(body).get("id");
+        return id == null || !id.canConvertToLong() ? null : id.asLong();
+    }
+
+    /**
+     * Creates GET request
+     *
+     * @param path provided path relative to application root
+     * @return {@code HttpRequestBase} request
+     */
+    public HttpRequestBase get(String path) {
+        return new HttpGet(baseUrl + path);
+    }
+
+    /**
+     * Creates POST request with JSON body
+     *
+     * @param path provided path relative to application root
+     * @param body provided body object
+     * @return {@code HttpRequestBase} request
+     */
+    public HttpRequestBase post(String path, Object body) {
+        return withBody(new HttpPost(baseUrl + path), body);
+    }
+
+    /**
+     * Creates PUT request with JSON body
+     *
+     * @param path provided path relative to application root
+     * @param body provided body object
+     * @return {@code HttpRequestBase} request
+     */
+    public HttpRequestBase put(String path, Object body) {
+        return withBody(new HttpPut(baseUrl + path), body);
+    }
+
+    /**
+     * Creates DELETE request
+     *
+     * @param path provided path relative to application root
+     * @return {@code HttpRequestBase} request
+     */
+    public HttpRequestBase delete(String path) {
+        return new HttpDelete(baseUrl + path);
+    }
+
+    /**
+     * Closes pooled connections
+     *
+     * @throws IOException if connections can't be closed
+     */
+    @Override
+    public void close() throws IOException {
+        client.close();
+    }
+
+    /**
+     * Sets JSON body of request
+     * Will throw UnexpectedException if body can't be written
+     *
+     * @param request provided request
+     * @param body provided body object
+     * @return {@code HttpRequestBase} request
+     */
+    private static HttpRequestBase withBody(HttpEntityEnclosingRequestBase request, Object body) {
+        try {
+            request.setEntity(new StringEntity(MAPPER.writeValueAsString(body), ContentType.APPLICATION_JSON));
+            return request;
+        } catch (JsonProcessingException e) {
+            throw new UnexpectedException("Request body can't be written");
+        }
+    }
+
+    /**
+     * Reads response body
+     *
+     * @param body provided response body, may be null
+     * @return {@code JsonNode} read body, empty node if body is absent or isn't JSON
+     */
+    private static JsonNode toJson(String body) {
+        try {
+            return body == null || body.isEmpty() ? MAPPER.createObjectNode() : MAPPER.readTree(body);
+        } catch (JsonProcessingException e) {
+            return MAPPER.createObjectNode();
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package epam.com.esm.load.traffic;
+
+import epam.com.esm.load.LoadTestData;
+import epam.com.esm.load.LoadTestData.Account;
+import epam.com.esm.load.report.TrafficRecorder;
+import epam.com.esm.view.dto.request.impl.action.OrderDtoRequest;
+import epam.com.esm.view.dto.request.impl.products.GiftCertificateNameDtoRequest;
+import epam.com.esm.view.dto.request.impl.products.TagDtoRequest;
+import epam.com.esm.view.dto.request.impl.products.TagGiftCertificatesDtoRequest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * VirtualUser is the traffic class, sends mixed requests of one logged in user until deadline
+ * <p>
+ * Catalog is browsed anonymously, order placement and statistics of own account are sent with user token. Admin
+ * tag edit creates tag, adds gift certificates to it and deletes it, so catalog size doesn't grow during test
+ */
+public class VirtualUser {
+
+    /**
+     * Holds page size
+     */
+    private static final int PAGE_SIZE = 20;
+
+    /**
+     * Holds max requested page of sorted catalog
+     */
+    private static final int MAX_PAGE = 50;
+
+    /**
+     * Holds number of gift certificates in created order or tag
+     */
+    private static final int ITEMS = 3;
+
+    /**
+     * Holds min and max gift certificate duration of data script
+     */
+    private static final int[] DURATION = {5, 19};
+
+    /**
+     * Holds min and max gift certificate price of data script
+     */
+    private static final int[] PRICE = {100, 500};
+
+    /**
+     * Holds requested create date range, data script certificates are created on 2023-09-03 and their copies
+     * one day before per copy
+     */
+    private static final String CREATE_RANGE = "2023-08-01,2023-09-03T23:59:59";
+
+    /**
+     * Holds virtual user number
+     */
+    private final int number;
+
+    /**
+     * Holds client
+     */
+    private final LoadTestClient client;
+
+    /**
+     * Holds seeded values
+     */
+    private final LoadTestData data;
+
+    /**
+     * Holds user account
+     */
+    private final Account account;
+
+    /**
+     * Holds user token
+     */
+    private final String token;
+
+    /**
+     * Holds admin token
+     */
+    private final String adminToken;
+
+    /**
+     * Holds number of created tags
+     */
+    private int createdTags;
+
+    /**
+     * Constructs VirtualUser with provided number, client, seeded values, account and tokens
+     *
+     * @param number provided virtual user number
+     * @param client provided client
+     * @param data provided seeded values
+     * @param account provided user account
+     * @param token provided user token
+     * @param adminToken provided admin token
+     */
+    public VirtualUser(int number, LoadTestClient client, LoadTestData data, Account account, String token,
+                       String adminToken) {
+        this.number = number;
+        this.client = client;
+        this.data = data;
+        this.account = account;
+        this.token = token;
+        this.adminToken = adminToken;
+    }
+
+    /**
+     * Sends requests picked by endpoint weights until deadline
+     *
+     * @param deadline provided deadline in {@link System#nanoTime()} units
+     * @return {@code TrafficRecorder} records of sent requests
+     */
+    public TrafficRecorder drive(long deadline) {
+        TrafficRecorder recorder = new TrafficRecorder();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        while (System.nanoTime() - deadline < 0) {
+            Endpoint endpoint = Endpoint.pick(random.nextInt(Endpoint.getTotalWeight()));
+
+            switch (endpoint) {
+                case GIFT_CERTIFICATES_PAGE:
+                    browse(endpoint, "gift/certificates/all?" + page(random, data.getGiftCertificateIds().size()) +
+                                     "&s:gc.name=asc", recorder);
+                    break;
+                case GIFT_CERTIFICATES_FILTERED:
+                    browse(endpoint, "gift/certificates/all?page=1&size=" + PAGE_SIZE +
+                                     "&p:gc.name=certificate_" + random.nextInt(1, 10) +
+                                     "&f:gc.duration=" + random.nextInt(DURATION[0], DURATION[1] + 1) +
+                                     "&s:gc.create=desc&s:gc.name=asc", recorder);
+                    break;
+                case GIFT_CERTIFICATES_TAGGED_1:
+                    browse(endpoint, tagged(random, 1) + "&s:gc.price=asc", recorder);
+                    break;
+                case GIFT_CERTIFICATES_TAGGED_3:
+                    browse(endpoint, tagged(random, 3) + "&s:gc.price=asc", recorder);
+                    break;
+                case GIFT_CERTIFICATES_TAGGED_10:
+                    browse(endpoint, tagged(random, 10) + "&s:gc.price=asc", recorder);
+                    break;
+                case GIFT_CERTIFICATES_TAGGED_ANY:
+                    browse(endpoint, tagged(random, 3) + "&join=any&s:gc.price=asc", recorder);
+                    break;
+                case GIFT_CERTIFICATES_RANGED:
+                    int price = random.nextInt(PRICE[0], PRICE[1]);
+                    browse(endpoint, "gift/certificates/all?page=1&size=" + PAGE_SIZE + "&ge:gc.price=" + price +
+                                     "&lt:gc.price=" + (price + 50) +
+                                     "&bw:gc.create=" + CREATE_RANGE + "&s:gc.update=desc", recorder);
+                    break;
+                case GIFT_CERTIFICATE:
+                    browse(endpoint, "gift/certificates/" + any(random, data.getGiftCertificateIds()), recorder);
+                    break;
+                case TAGS_PAGE:
+                    browse(endpoint, "tags/all?" + page(random, data.getTagIds().size()) + "&s:t.name=asc", recorder);
+                    break;
+                case TAG_GIFT_CERTIFICATES:
+                    browse(endpoint, "tags/" + any(random, data.getTagIds()) + "/gift/certificates?page=1&size=" +
+                                     PAGE_SIZE, recorder);
+                    break;
+                case ORDER_CREATE:
+                    OrderDtoRequest order = new OrderDtoRequest();
+                    order.setUsername(account.getUsername());
+                    order.setGiftCertificates(giftCertificates(random));
+                    client.send(endpoint, client.post("users/" + account.getId() + "/orders/create", order), token,
+                                recorder);
+                    break;
+                case USER_ORDERS:
+                    get(endpoint, "users/" + account.getId() + "/orders?page=1&size=" + PAGE_SIZE, recorder);
+                    break;
+                case USER_TAGS_POPULAR:
+                    get(endpoint, "users/" + account.getId() + "/tags/popular", recorder);
+                    break;
+                case USER_TAGS_POPULAR_MAX:
+                    get(endpoint, "users/" + account.getId() + "/tags/popular/max", recorder);
+                    break;
+                case TAG_CREATE:
+                    editTag(random, recorder);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        return recorder;
+    }
+
+    /**
+     * Creates tag, adds gift certificates to it and deletes it with admin token
+     *
+     * @param random provided random
+     * @param recorder provided recorder
+     */
+    private void editTag(ThreadLocalRandom random, TrafficRecorder recorder) {
+        TagDtoRequest tag = new TagDtoRequest();
+        tag.setName("load_tag_" + number + "_" + createdTags++);
+        Long id = client.readId(client.send(Endpoint.TAG_CREATE, client.post("tags/create", tag), adminToken,
+                                            recorder));
+
+        if (id == null) {
+            return;
+        }
+
+        TagGiftCertificatesDtoRequest gcs = new TagGiftCertificatesDtoRequest();
+        gcs.setGiftCertificates(giftCertificates(random));
+        client.send(Endpoint.TAG_ADD_GIFT_CERTIFICATES, client.put("tags/" + id + "/gift/certificates/add", gcs),
+                    adminToken, recorder);
+        client.send(Endpoint.TAG_DELETE, client.delete("tags/" + id + "/delete"), adminToken, recorder);
+    }
+
+    /**
+     * Sends GET request without token
+     *
+     * @param endpoint provided endpoint
+     * @param path provided path
+     * @param recorder provided recorder
+     */
+    private void browse(Endpoint endpoint, String path, TrafficRecorder recorder) {
+        client.send(endpoint, client.get(path), null, recorder);
+    }
+
+    /**
+     * Sends GET request with user token
+     *
+     * @param endpoint provided endpoint
+     * @param path provided path
+     * @param recorder provided recorder
+     */
+    private void get(Endpoint endpoint, String path, TrafficRecorder recorder) {
+        client.send(endpoint, client.get(path), token, recorder);
+    }
+
+    /**
+     * Generates page params of random page
+     *
+     * @param random provided random
+     * @param items provided number of items
+     * @return {@code String} page params
+     */
+    private static String page(ThreadLocalRandom random, int items) {
+        int pages = Math.max(1, Math.min(MAX_PAGE, items / PAGE_SIZE));
+        return "page=" + random.nextInt(1, pages + 1) + "&size=" + PAGE_SIZE;
+    }
+
+    /**
+     * Generates path of gift certificates page filtered by names of distinct random tags
+     *
+     * @param random provided random
+     * @param tags provided number of tags
+     * @return {@code String} path with tag params
+     */
+    private String tagged(ThreadLocalRandom random, int tags) {
+        Set<String> picked = new LinkedHashSet<>();
+        int items = Math.min(tags, data.getTagNames().size());
+
+        while (picked.size() < items) {
+            picked.add(any(random, data.getTagNames()));
+        }
+
+        StringBuilder path = new StringBuilder("gift/certificates/all?page=1&size=").append(PAGE_SIZE);
+        picked.forEach(t -> path.append("&f:t.name=").append(t));
+        return path.toString();
+    }
+
+    /**
+     * Generates names of distinct random gift certificates
+     *
+     * @param random provided random
+     * @return {@code List<GiftCertificateNameDtoRequest>} gift certificate names
+     */
+    private List<GiftCertificateNameDtoRequest> giftCertificates(ThreadLocalRandom random) {
+        Set<String> picked = new LinkedHashSet<>();
+        int items = Math.min(ITEMS, data.getGiftCertificateNames().size());
+
+        while (picked.size() < items) {
+            picked.add(any(random, data.getGiftCertificateNames()));
+        }
+
+        List<GiftCertificateNameDtoRequest> names = new ArrayList<>(items);
+
+        for (String n : picked) {
+            GiftCertificateNameDtoRequest name = new GiftCertificateNameDtoRequest();
+            name.setName(n);
+            names.add(name);
+        }
+
+        return names;
+    }
+
+    /**
+     * Gets random item
+     *
+     * @param random provided random
+     * @param items provided items
+     * @param <T> item type
+     * @return {@code T} random item
+     */
+    private static <T> T any(ThreadLocalRandom random, List<T> items) {
+        return items.get(random.nextInt(items.size()));
+    }
+}
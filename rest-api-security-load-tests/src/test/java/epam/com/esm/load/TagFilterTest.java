@@ -0,0 +1,124 @@
+package epam.com.esm.load;
+
+import epam.com.esm.RestApiSecurityApplication;
+import epam.com.esm.model.service.interfaces.entity.products.GiftCertificateService;
+import epam.com.esm.persistence.entity.BaseEntity;
+import epam.com.esm.utils.search.request.components.type.Joining;
+import epam.com.esm.utils.search.transport.request.SearchParamRequest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+@SpringBootTest(classes = RestApiSecurityApplication.class)
+public class TagFilterTest {
+
+    private static final String MISSING = "missing_tag";
+
+    @Autowired
+    private GiftCertificateService gcService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Map<String, Set<Long>> tagged = new LinkedHashMap<>();
+
+    private String first;
+
+    private String second;
+
+    @BeforeAll
+    public static void seed() {
+        LoadTestDatabase.seed(1);
+    }
+
+    @DynamicPropertySource
+    public static void properties(DynamicPropertyRegistry registry) {
+        LoadTestRunner.PROPERTIES.forEach((k, v) -> registry.add(k, () -> v));
+    }
+
+    @BeforeEach
+    public void setUp() {
+        jdbcTemplate.query("SELECT t.name, gct.gift_certificate_id FROM gift_certificate_tag gct " +
+                           "JOIN tag t ON t.id = gct.tag_id", rs -> {
+            tagged.computeIfAbsent(rs.getString(1), k -> new TreeSet<>()).add(rs.getLong(2));
+        });
+
+        //pick two tags which share some, but not all gift certificates
+        for (String a : tagged.keySet()) {
+            for (String b : tagged.keySet()) {
+                if (!a.equals(b) && !intersection(a, b).isEmpty() && !intersection(a, b).equals(union(a, b))) {
+                    first = a;
+                    second = b;
+                    return;
+                }
+            }
+        }
+
+        Assertions.fail("Seeded tags don't overlap");
+    }
+
+    @Test
+    public void willFindGiftCertificatesWithSingleTag() {
+        Assertions.assertEquals(tagged.get(first), find(Joining.AND, first));
+    }
+
+    @Test
+    public void willFindGiftCertificatesWithEveryTagWithAndJoining() {
+        Assertions.assertEquals(intersection(first, second), find(Joining.AND, first, second));
+    }
+
+    @Test
+    public void willFindGiftCertificatesWithAnyTagWithOrJoining() {
+        Assertions.assertEquals(union(first, second), find(Joining.OR, first, second));
+    }
+
+    @Test
+    public void willFindNothingIfSomeTagIsNotMatchedWithAndJoining() {
+        Assertions.assertEquals(Collections.emptySet(), find(Joining.AND, first, MISSING));
+    }
+
+    @Test
+    public void willIgnoreNotMatchedTagWithOrJoining() {
+        Assertions.assertEquals(tagged.get(first), find(Joining.OR, first, MISSING));
+    }
+
+    private Set<Long> find(Joining joining, String ... tags) {
+        SearchParamRequest spReq = new SearchParamRequest();
+        spReq.setSize(Integer.MAX_VALUE);
+        spReq.getFullParams().put("t.name", Arrays.asList(tags));
+        spReq.setJoining(joining);
+
+        List<Long> ids = gcService.findAll(spReq).getItems().stream().map(BaseEntity::getId)
+                                  .collect(Collectors.toList());
+        Assertions.assertEquals(new HashSet<>(ids).size(), ids.size(), "Gift certificates are repeated");
+        return new TreeSet<>(ids);
+    }
+
+    private Set<Long> intersection(String a, String b) {
+        Set<Long> both = new TreeSet<>(tagged.get(a));
+        both.retainAll(tagged.get(b));
+        return both;
+    }
+
+    private Set<Long> union(String a, String b) {
+        Set<Long> any = new TreeSet<>(tagged.get(a));
+        any.addAll(tagged.get(b));
+        return any;
+    }
+}
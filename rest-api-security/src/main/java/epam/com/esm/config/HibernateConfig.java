@@ -1,20 +1,37 @@
 package epam.com.esm.config;
 
+import com.zaxxer.hikari.HikariConfig;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.zaxxer.hikari.HikariDataSource;
+import epam.com.esm.config.cache.CacheMetrics;
+import epam.com.esm.config.cache.CacheRegionProperties;
+import epam.com.esm.config.pool.PoolMetrics;
+import epam.com.esm.config.pool.PoolProperties;
 import epam.com.esm.exception.types.UnexpectedException;
+import epam.com.esm.persistence.repository.slice.SliceJpaRepository;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
 import org.springframework.orm.hibernate5.HibernateTransactionManager;
 import org.springframework.orm.hibernate5.LocalSessionFactoryBean;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
+import javax.cache.CacheManager;
 import javax.sql.DataSource;
 import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 
 /**
  * HibernateConfig is the configuration class, responsible for setting Hibernate properties
@@ -31,19 +48,24 @@ import java.util.Properties;
  *     <li>Data Source Init, allows/disallows data initialization at application start</li>
  *     <li>Hibernate DDL Auto, specifies DDL mode</li>
  *     <li>Hibernate Show SQL, allows/disallows showing sql queries execution in console</li>
- *     <li>JDBC Max Size, specifies max number of connections for datasource connection pool</li>
- *     <li>JDBC Min Size, specifies min number of connections</li>
+ *     <li>Pool Max Size, specifies max number of connections for datasource connection pool</li>
+ *     <li>Pool Min Idle, specifies min number of idle connections, pool is warmed up to this size at start</li>
+ *     <li>Pool Max Lifetime, specifies max lifetime of pooled connection</li>
+ *     <li>Pool Connection Timeout, specifies max time of waiting for connection from pool</li>
+ *     <li>Pool Leak Detection Threshold, specifies time after which not returned connection is reported</li>
+ *     <li>MySQL Prepared Statements Cache, specifies driver prepared statements cache mode, size and limit</li>
  *     <li>JDBC Batch Size, specifies number of rows for update operations</li>
  *     <li>JDBC Fetch Size, specifies number of rows for select operations</li>
  *     <li>Hibernate Lazy Load No Trans, specifies lazy load for Hibernate</li>
- *     <li></li>
+ *     <li>Second Level Cache, enables entity, collection and query caches backed by bounded cache regions</li>
  * </ul>
  */
 @Configuration
 @EnableTransactionManagement
-@EnableJpaRepositories("epam.com.esm.persistence.repository")
+@EnableJpaRepositories(value = "epam.com.esm.persistence.repository", repositoryBaseClass = SliceJpaRepository.class)
 @EnableScheduling
 @EnableJpaAuditing
+@EnableConfigurationProperties({CacheRegionProperties.class, PoolProperties.class})
 public class HibernateConfig {
 
     /**
@@ -82,24 +104,49 @@ public class HibernateConfig {
     private static final String HIBERNATE_ENABLE_LAZY_LOAD_NO_TRANS = "hibernate.enable_lazy_load_no_trans";
 
     /**
-     * Property name holder for JDBC Max Size property
+     * Property name holder for JDBC Batch Size property
      */
-    private static final String MAX_SIZE = "hibernate.c3p0.max_size";
+    private static final String BATCH_SIZE = "hibernate.jdbc.batch_size";
 
     /**
-     * Property name holder for JDBC Min Size property
+     * Property name holder for JDBC Fetch Size property
      */
-    private static final String MIN_SIZE = "hibernate.c3p0.min_size";
+    private static final String FETCH_SIZE = "hibernate.jdbc.fetch_size";
 
     /**
-     * Property name holder for JDBC Batch Size property
+     * Property name holder for Second Level Cache property
      */
-    private static final String BATCH_SIZE = "hibernate.jdbc.batch_size";
+    private static final String USE_SECOND_LEVEL_CACHE = "hibernate.cache.use_second_level_cache";
 
     /**
-     * Property name holder for JDBC Fetch Size property
+     * Property name holder for Query Cache property
      */
-    private static final String FETCH_SIZE = "hibernate.jdbc.fetch_size";
+    private static final String USE_QUERY_CACHE = "hibernate.cache.use_query_cache";
+
+    /**
+     * Property name holder for Cache Region Factory property
+     */
+    private static final String REGION_FACTORY = "hibernate.cache.region.factory_class";
+
+    /**
+     * Property name holder for JCache Cache Manager property
+     */
+    private static final String CACHE_MANAGER = "hibernate.javax.cache.cache_manager";
+
+    /**
+     * Property name holder for JCache Missing Cache Strategy property
+     */
+    private static final String MISSING_CACHE_STRATEGY = "hibernate.javax.cache.missing_cache_strategy";
+
+    /**
+     * Property value holder, holds short name of JCache region factory
+     */
+    private static final String JCACHE_REGION_FACTORY = "jcache";
+
+    /**
+     * Property value holder, fails start if cache region isn't configured, so every region stays bounded
+     */
+    private static final String FAIL_ON_MISSING_CACHE = "fail";
 
     /**
      * Property value holder, holds packages location for entity manager to scan
@@ -166,18 +213,6 @@ public class HibernateConfig {
     @Value("${spring.jpa.show-sql}")
     private Boolean showSql;
 
-    /**
-     * Value holder for JDBC Max Size property
-     */
-    @Value("${spring.jpa.properties.hibernate.jdbc.max_size}")
-    private String maxSize;
-
-    /**
-     * Value holder for JDBC Min Size property
-     */
-    @Value("${spring.jpa.properties.hibernate.jdbc.min_size}")
-    private String minSize;
-
     /**
      * Value holder for JDBC Batch Size property
      */
@@ -197,20 +232,104 @@ public class HibernateConfig {
     private String lazyLoad;
 
     /**
-     * Creates and configures datasource bean by setting driver, url, username and password properties
+     * Holds size and time to live bounds of cache regions
+     */
+    private final CacheRegionProperties cacheRegions;
+
+    /**
+     * Holds size, time bounds and driver properties of connection pool
+     */
+    private final PoolProperties pool;
+
+    /**
+     * Constructs HibernateConfig with provided cache region bounds and connection pool properties
+     *
+     * @param cacheRegions provided cache region bounds
+     * @param pool provided connection pool properties
+     */
+    @Autowired
+    public HibernateConfig(CacheRegionProperties cacheRegions, PoolProperties pool) {
+        this.cacheRegions = cacheRegions;
+        this.pool = pool;
+    }
+
+    /**
+     * Creates and configures pooled datasource bean by setting driver, url, username, password and pool properties
+     * <p>
+     * Pool is warmed up to its min idle size before datasource is returned
      *
      * @return {@code DataSource} configured datasource
      */
-    @Bean
+    @Bean(destroyMethod = "close")
     public DataSource dataSource() {
-        DriverManagerDataSource dataSource = new DriverManagerDataSource();
-        dataSource.setDriverClassName(driver);
-        dataSource.setUrl(jdbcUrl);
-        dataSource.setUsername(username);
-        dataSource.setPassword(password);
+        HikariConfig config = new HikariConfig();
+        config.setDriverClassName(driver);
+        config.setJdbcUrl(jdbcUrl);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setPoolName(pool.getPoolName());
+        config.setMaximumPoolSize(pool.getMaximumPoolSize());
+        config.setMinimumIdle(pool.getMinimumIdle());
+        config.setMaxLifetime(pool.getMaxLifetime());
+        config.setConnectionTimeout(pool.getConnectionTimeout());
+        config.setLeakDetectionThreshold(pool.getLeakDetectionThreshold());
+        config.setRegisterMbeans(true);
+        config.setMetricsTrackerFactory(poolMetrics());
+        pool.getDataSourceProperties().forEach(config::addDataSourceProperty);
+
+        HikariDataSource dataSource = new HikariDataSource(config);
+        warmUp(dataSource);
         return dataSource;
     }
 
+    /**
+     * Creates connection pool metrics bean
+     *
+     * @return {@code PoolMetrics} connection pool metrics
+     */
+    @Bean
+    public PoolMetrics poolMetrics() {
+        return new PoolMetrics();
+    }
+
+    /**
+     * Creates cache manager bean with cache for each configured region
+     * <p>
+     * Each region is bounded by max number of entries and optionally by time to live after write,
+     * statistics and management of regions are registered as JMX beans
+     *
+     * @return {@code CacheManager} configured cache manager
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager cacheManager() {
+        CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager();
+
+        cacheRegions.getRegions().forEach((name, region) -> {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(region.getMaxSize()));
+
+            if (region.getTtl() > 0) {
+                configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.MILLISECONDS.toNanos(region.getTtl())));
+            }
+
+            configuration.setStatisticsEnabled(true);
+            configuration.setManagementEnabled(true);
+            cacheManager.createCache(name, configuration);
+        });
+
+        return cacheManager;
+    }
+
+    /**
+     * Creates cache metrics bean
+     *
+     * @return {@code CacheMetrics} cache metrics
+     */
+    @Bean
+    public CacheMetrics cacheMetrics() {
+        return new CacheMetrics(cacheManager());
+    }
+
     /**
      * Creates and configures LocalSessionFactoryBean bean by setting datasource, packages for scan,
      * Hibernate properties
@@ -258,13 +377,43 @@ public class HibernateConfig {
         properties.put(HIBERNATE_HBM2DDL_AUTO, hbm2ddl);
         properties.put(HIBERNATE_SHOW_SQL, showSql);
         properties.put(HIBERNATE_ENABLE_LAZY_LOAD_NO_TRANS, lazyLoad);
-        properties.put(MAX_SIZE, maxSize);
-        properties.put(MIN_SIZE, minSize);
         properties.put(BATCH_SIZE, batchSize);
         properties.put(FETCH_SIZE, fetchSize);
         properties.put(HIBERNATE_SUFFIX, suffix);
         properties.put(HIBERNATE_STORE_AT_DELETE, storeAtDelete);
         properties.put(HIBERNATE_DATASOURCE_INITIALIZATION, datasourceInit);
+        properties.put(USE_SECOND_LEVEL_CACHE, true);
+        properties.put(USE_QUERY_CACHE, true);
+        properties.put(REGION_FACTORY, JCACHE_REGION_FACTORY);
+        properties.put(CACHE_MANAGER, cacheManager());
+        properties.put(MISSING_CACHE_STRATEGY, FAIL_ON_MISSING_CACHE);
         return properties;
     }
+
+    /**
+     * Fills connection pool to its min idle size by acquiring and releasing connections
+     * <p>
+     * May throw UnexpectedException if connection cannot be acquired
+     *
+     * @param dataSource provided pooled datasource
+     */
+    private void warmUp(HikariDataSource dataSource) {
+        List<Connection> connections = new ArrayList<>(pool.getMinimumIdle());
+
+        try {
+            for (int i = 0; i < pool.getMinimumIdle(); i++) {
+                connections.add(dataSource.getConnection());
+            }
+        } catch (SQLException e) {
+            throw new UnexpectedException("Connection pool warm up failed: " + e.getMessage());
+        } finally {
+            for (Connection connection : connections) {
+                try {
+                    connection.close();
+                } catch (SQLException ignored) {
+                    // connection is evicted by pool
+                }
+            }
+        }
+    }
 }
\ No newline at end of file
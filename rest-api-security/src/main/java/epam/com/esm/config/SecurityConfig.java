@@ -23,6 +23,16 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @EnableGlobalMethodSecurity(securedEnabled = true, jsr250Enabled = true)
 public class SecurityConfig {
 
+    /**
+     * Holds metrics endpoint path
+     */
+    private static final String METRICS = "/metrics";
+
+    /**
+     * Holds access expression for local requests
+     */
+    private static final String LOCAL_ONLY = "hasIpAddress('127.0.0.1') or hasIpAddress('::1')";
+
     /**
      * Holds CustomUserDetailsService object
      */
@@ -91,6 +101,7 @@ public class SecurityConfig {
         httpSecurity.cors().disable();
 
         httpSecurity.authorizeRequests()
+                .antMatchers(METRICS).access(LOCAL_ONLY)
                 .anyRequest().permitAll()
                 .and()
                 .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS)
@@ -0,0 +1,180 @@
+package epam.com.esm.config.cache;
+
+import epam.com.esm.exception.types.NotFoundException;
+import epam.com.esm.exception.types.UnexpectedException;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.management.CacheStatisticsMXBean;
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CacheMetrics is the service class, collects metrics of second level cache regions
+ * <p>
+ * Statistics of each region (hits, misses, puts, removals, evictions) are recorded by cache provider and
+ * registered as JMX beans, this class reads them and exposes them together with region size
+ */
+public class CacheMetrics {
+
+    /**
+     * Holds statistics bean object name pattern, cache name placeholder is replaced by region name
+     */
+    private static final String STATISTICS_PATTERN = "javax.cache:type=CacheStatistics,Cache=%s,*";
+
+    /**
+     * Holds cache manager
+     */
+    private final CacheManager cacheManager;
+
+    /**
+     * Holds platform MBean server
+     */
+    private final MBeanServer server;
+
+    /**
+     * Holds statistics beans by region name
+     */
+    private final Map<String, CacheStatisticsMXBean> statistics;
+
+    /**
+     * Constructs CacheMetrics with provided cache manager
+     *
+     * @param cacheManager provided cache manager
+     */
+    public CacheMetrics(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+        this.server = ManagementFactory.getPlatformMBeanServer();
+        this.statistics = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets names of cache regions
+     *
+     * @return {@code Set<String>} sorted region names
+     */
+    public Set<String> getRegions() {
+        Set<String> regions = new TreeSet<>();
+        cacheManager.getCacheNames().forEach(regions::add);
+        return regions;
+    }
+
+    /**
+     * Gets count of region hits
+     *
+     * @param region provided region name
+     * @return {@code long} hits count
+     */
+    public long getHits(String region) {
+        return statistics(region).getCacheHits();
+    }
+
+    /**
+     * Gets count of region misses
+     *
+     * @param region provided region name
+     * @return {@code long} misses count
+     */
+    public long getMisses(String region) {
+        return statistics(region).getCacheMisses();
+    }
+
+    /**
+     * Gets count of region puts
+     *
+     * @param region provided region name
+     * @return {@code long} puts count
+     */
+    public long getPuts(String region) {
+        return statistics(region).getCachePuts();
+    }
+
+    /**
+     * Gets count of region removals, includes invalidations on write
+     *
+     * @param region provided region name
+     * @return {@code long} removals count
+     */
+    public long getRemovals(String region) {
+        return statistics(region).getCacheRemovals();
+    }
+
+    /**
+     * Gets count of region evictions, includes evictions by size bound and expirations
+     *
+     * @param region provided region name
+     * @return {@code long} evictions count
+     */
+    public long getEvictions(String region) {
+        return statistics(region).getCacheEvictions();
+    }
+
+    /**
+     * Gets estimated count of region entries
+     *
+     * @param region provided region name
+     * @return {@code long} estimated entries count
+     */
+    @SuppressWarnings("unchecked")
+    public long getSize(String region) {
+        return cache(region).unwrap(com.github.benmanes.caffeine.cache.Cache.class).estimatedSize();
+    }
+
+    /**
+     * Gets cache of provided region
+     * Will throw NotFoundException if region isn't configured
+     *
+     * @param region provided region name
+     * @return {@code Cache<Object, Object>} region cache
+     */
+    private Cache<Object, Object> cache(String region) {
+        Cache<Object, Object> cache = cacheManager.getCache(region);
+
+        if (cache == null) {
+            throw new NotFoundException("Cache region (name = " + region + ") not found");
+        }
+
+        return cache;
+    }
+
+    /**
+     * Gets statistics bean of provided region
+     * Will throw NotFoundException if statistics of region aren't registered
+     *
+     * @param region provided region name
+     * @return {@code CacheStatisticsMXBean} region statistics bean
+     */
+    private CacheStatisticsMXBean statistics(String region) {
+        return statistics.computeIfAbsent(region, r -> {
+            Set<ObjectName> names = server.queryNames(pattern(r), null);
+
+            if (names.isEmpty()) {
+                throw new NotFoundException("Statistics of cache region (name = " + r + ") not found");
+            }
+
+            return JMX.newMXBeanProxy(server, names.iterator().next(), CacheStatisticsMXBean.class);
+        });
+    }
+
+    /**
+     * Generates statistics bean object name pattern for provided region
+     * Will throw UnexpectedException if region name cannot be used in object name
+     *
+     * @param region provided region name
+     * @return {@code ObjectName} object name pattern
+     */
+    private ObjectName pattern(String region) {
+        try {
+            return new ObjectName(String.format(STATISTICS_PATTERN, region.replaceAll(",|:|=|\n", ".")));
+        } catch (MalformedObjectNameException e) {
+            throw new UnexpectedException("Cache region name is incorrect (name = " + region + ")");
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package epam.com.esm.config.dialect;
+
+import org.hibernate.dialect.MySQL8Dialect;
+import org.hibernate.dialect.function.SQLFunctionTemplate;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * FullTextMySQLDialect is the Hibernate dialect class, extends MySQL 8 dialect with full-text search function
+ * <p>
+ * Function {@code match_against(column, query)} is rendered as {@code MATCH(column) AGAINST(query IN BOOLEAN MODE)}
+ * and returns relevance of row, relevance is greater than 0 if row matches query. Column must be covered by FULLTEXT
+ * index with the same column list
+ */
+public class FullTextMySQLDialect extends MySQL8Dialect {
+
+    /**
+     * Holds full-text search function name
+     */
+    public static final String MATCH_AGAINST = "match_against";
+
+    /**
+     * Constructs FullTextMySQLDialect, registers full-text search function
+     */
+    public FullTextMySQLDialect() {
+        super();
+        registerFunction(MATCH_AGAINST, new SQLFunctionTemplate(
+                StandardBasicTypes.DOUBLE, "match(?1) against(?2 in boolean mode)"
+        ));
+    }
+}
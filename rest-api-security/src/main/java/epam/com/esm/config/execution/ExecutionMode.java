@@ -0,0 +1,14 @@
+package epam.com.esm.config.execution;
+
+/**
+ * ExecutionMode is the enum, holds modes of request and background task execution
+ * <ul>
+ *     <li>PLATFORM, requests are served by bounded pool of platform threads</li>
+ *     <li>VIRTUAL, each request and background task is run on own virtual thread, requires Java 21+</li>
+ * </ul>
+ */
+public enum ExecutionMode {
+
+    PLATFORM,
+    VIRTUAL
+}
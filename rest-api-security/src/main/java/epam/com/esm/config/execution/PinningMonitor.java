@@ -0,0 +1,307 @@
+package epam.com.esm.config.execution;
+
+import epam.com.esm.exception.types.UnexpectedException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * PinningMonitor is the component class, detects virtual threads pinned to their carrier threads
+ * <p>
+ * Virtual thread which blocks inside synchronized block or native frame can't unmount, so it holds its carrier
+ * thread and limits concurrency. Monitor streams jdk.VirtualThreadPinned flight recorder events longer than
+ * threshold and counts them by pinning site, first frame of stack trace outside JDK. Monitor is active in virtual
+ * execution mode only, flight recorder streaming API is resolved reflectively, application is compiled for Java 8.
+ * Getters of recorded values are resolved once on start, so events are read without method lookups
+ */
+@Component
+public class PinningMonitor {
+
+    /**
+     * Holds pinned virtual thread event name
+     */
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    /**
+     * Holds max number of counted pinning sites, further sites are counted as other
+     */
+    private static final int MAX_SITES = 100;
+
+    /**
+     * Holds site of events without stack trace or over max number of sites
+     */
+    private static final String OTHER_SITE = "other";
+
+    /**
+     * Holds package prefixes of JDK frames, skipped while resolving pinning site
+     */
+    private static final String[] JDK_PACKAGES = {"java.", "javax.", "jdk.", "sun."};
+
+    /**
+     * Holds execution mode
+     */
+    private final ExecutionMode mode;
+
+    /**
+     * Holds min duration of reported pinning
+     */
+    private final Duration threshold;
+
+    /**
+     * Holds total number of pinned events
+     */
+    private final LongAdder pinnedTotal;
+
+    /**
+     * Holds total duration of pinned events in nanoseconds
+     */
+    private final LongAdder pinnedNanos;
+
+    /**
+     * Holds number of pinned events by pinning site
+     */
+    private final ConcurrentMap<String, LongAdder> sites;
+
+    /**
+     * Holds flight recorder event stream, null if monitor isn't active
+     */
+    private volatile AutoCloseable stream;
+
+    /**
+     * Holds getters of recorded values, resolved on start
+     */
+    private volatile RecordedAccessors accessors;
+
+    /**
+     * Constructs PinningMonitor with provided execution mode and threshold
+     *
+     * @param mode provided execution mode
+     * @param thresholdMillis provided min duration of reported pinning in milliseconds
+     */
+    @Autowired
+    public PinningMonitor(@Value("${execution.mode}") ExecutionMode mode,
+                          @Value("${execution.pinned-threshold}") long thresholdMillis) {
+        this.mode = mode;
+        this.threshold = Duration.ofMillis(thresholdMillis);
+        this.pinnedTotal = new LongAdder();
+        this.pinnedNanos = new LongAdder();
+        this.sites = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Starts streaming of pinned events in virtual execution mode
+     * Will throw UnexpectedException if event stream can't be started
+     */
+    @PostConstruct
+    public void start() {
+        if (mode != ExecutionMode.VIRTUAL) {
+            return;
+        }
+
+        try {
+            accessors = new RecordedAccessors();
+            Class<?> streamType = Class.forName("jdk.jfr.consumer.RecordingStream");
+            Object recording = streamType.getConstructor().newInstance();
+            Object settings = streamType.getMethod("enable", String.class).invoke(recording, PINNED_EVENT);
+            Class<?> settingsType = Class.forName("jdk.jfr.EventSettings");
+            settingsType.getMethod("withThreshold", Duration.class).invoke(settings, threshold);
+            settingsType.getMethod("withStackTrace").invoke(settings);
+            Consumer<Object> handler = this::record;
+            streamType.getMethod("onEvent", String.class, Consumer.class).invoke(recording, PINNED_EVENT, handler);
+            streamType.getMethod("startAsync").invoke(recording);
+            stream = (AutoCloseable) recording;
+        } catch (ReflectiveOperationException e) {
+            throw new UnexpectedException("Pinned virtual threads monitor can't be started: " + e);
+        }
+    }
+
+    /**
+     * Stops streaming of pinned events
+     *
+     * @throws Exception if event stream can't be closed
+     */
+    @PreDestroy
+    public void stop() throws Exception {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    /**
+     * Counts provided pinned event
+     *
+     * @param event provided flight recorder event
+     */
+    private void record(Object event) {
+        try {
+            Duration duration = (Duration) accessors.duration.invoke(event);
+            pinnedTotal.increment();
+            pinnedNanos.add(duration.toNanos());
+            String site = toSite(accessors.stackTrace.invoke(event));
+
+            if (sites.size() >= MAX_SITES && !sites.containsKey(site)) {
+                site = OTHER_SITE;
+            }
+
+            sites.computeIfAbsent(site, s -> new LongAdder()).increment();
+        } catch (ReflectiveOperationException e) {
+            sites.computeIfAbsent(OTHER_SITE, s -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Resolves pinning site, first frame of stack trace outside JDK
+     *
+     * @param stackTrace provided recorded stack trace, may be null
+     * @return {@code String} class and method name of pinning site, other if stack trace has no such frame
+     * @throws ReflectiveOperationException if recorded values can't be read
+     */
+    private String toSite(Object stackTrace) throws ReflectiveOperationException {
+        if (stackTrace != null) {
+            for (Object frame : (List<?>) accessors.frames.invoke(stackTrace)) {
+                Object method = accessors.frameMethod.invoke(frame);
+                String className = (String) accessors.className.invoke(accessors.methodType.invoke(method));
+
+                if (!isJdk(className)) {
+                    return className + "." + accessors.methodName.invoke(method);
+                }
+            }
+        }
+
+        return OTHER_SITE;
+    }
+
+    /**
+     * Checks if provided class belongs to JDK
+     *
+     * @param className provided class name
+     * @return {@code true} if class belongs to JDK
+     */
+    private static boolean isJdk(String className) {
+        for (String p : JDK_PACKAGES) {
+            if (className.startsWith(p)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks if monitor streams pinned events
+     *
+     * @return {@code true} if monitor is active
+     */
+    public boolean isActive() {
+        return stream != null;
+    }
+
+    /**
+     * Gets execution mode
+     *
+     * @return {@code ExecutionMode} execution mode
+     */
+    public ExecutionMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Gets total number of pinned events
+     *
+     * @return {@code long} total number of pinned events
+     */
+    public long getPinnedTotal() {
+        return pinnedTotal.sum();
+    }
+
+    /**
+     * Gets total duration of pinned events in nanoseconds
+     *
+     * @return {@code long} total duration of pinned events in nanoseconds
+     */
+    public long getPinnedNanos() {
+        return pinnedNanos.sum();
+    }
+
+    /**
+     * Gets number of pinned events by pinning site
+     *
+     * @return {@code Map<String, Long>} number of pinned events by site, sorted by site
+     */
+    public Map<String, Long> getSites() {
+        Map<String, Long> counts = new TreeMap<>();
+        sites.forEach((site, count) -> counts.put(site, count.sum()));
+        return counts;
+    }
+
+    /**
+     * RecordedAccessors is the data class, holds getters of flight recorder recorded values
+     */
+    private static final class RecordedAccessors {
+
+        /**
+         * Holds event duration getter
+         */
+        private final Method duration;
+
+        /**
+         * Holds event stack trace getter
+         */
+        private final Method stackTrace;
+
+        /**
+         * Holds stack trace frames getter
+         */
+        private final Method frames;
+
+        /**
+         * Holds frame method getter
+         */
+        private final Method frameMethod;
+
+        /**
+         * Holds method declaring type getter
+         */
+        private final Method methodType;
+
+        /**
+         * Holds method name getter
+         */
+        private final Method methodName;
+
+        /**
+         * Holds class name getter
+         */
+        private final Method className;
+
+        /**
+         * Constructs RecordedAccessors by resolving getters of recorded value types
+         *
+         * @throws ReflectiveOperationException if recorded value types or their getters can't be found
+         */
+        private RecordedAccessors() throws ReflectiveOperationException {
+            Class<?> event = Class.forName("jdk.jfr.consumer.RecordedEvent");
+            Class<?> method = Class.forName("jdk.jfr.consumer.RecordedMethod");
+            this.duration = event.getMethod("getDuration");
+            this.stackTrace = event.getMethod("getStackTrace");
+            this.frames = Class.forName("jdk.jfr.consumer.RecordedStackTrace").getMethod("getFrames");
+            this.frameMethod = Class.forName("jdk.jfr.consumer.RecordedFrame").getMethod("getMethod");
+            this.methodType = method.getMethod("getType");
+            this.methodName = method.getMethod("getName");
+            this.className = Class.forName("jdk.jfr.consumer.RecordedClass").getMethod("getName");
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package epam.com.esm.config.execution;
+
+import epam.com.esm.exception.types.UnexpectedException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * QueryExecutor is the component class, runs independent read-only queries concurrently
+ * <p>
+ * Each query runs in own read-only transaction on bounded pool, so concurrent queries of one request never take
+ * more connections than pool size. Query which can't be queued runs on calling thread. Pool threads are virtual in
+ * virtual execution mode. Executor isn't registered as task executor, so it doesn't replace application executor
+ */
+@Component
+public class QueryExecutor {
+
+    /**
+     * Holds query thread name prefix
+     */
+    private static final String THREAD_PREFIX = "query-";
+
+    /**
+     * Holds bounded pool
+     */
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Holds read-only TransactionTemplate object
+     */
+    private final TransactionTemplate readOnly;
+
+    /**
+     * Constructs QueryExecutor with provided transaction manager, execution mode, pool size and queue capacity
+     *
+     * @param transactionManager transaction manager, manages transactions of queries
+     * @param mode provided execution mode
+     * @param poolSize provided max number of concurrent queries
+     * @param queueCapacity provided max number of waiting queries
+     */
+    @Autowired
+    public QueryExecutor(PlatformTransactionManager transactionManager,
+                         @Value("${execution.mode}") ExecutionMode mode,
+                         @Value("${execution.query.pool-size}") int poolSize,
+                         @Value("${execution.query.queue-capacity}") int queueCapacity) {
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                                               new ArrayBlockingQueue<>(queueCapacity), newThreadFactory(mode),
+                                               new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Submits provided query, query runs in own read-only transaction
+     *
+     * @param query provided query
+     * @param <T> query result type
+     * @return {@code CompletableFuture<T>} future result of query
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(() -> readOnly.execute(status -> query.get()), executor);
+    }
+
+    /**
+     * Waits for result of submitted query, failure of query is rethrown as is
+     * Will throw UnexpectedException if query failed by checked exception
+     *
+     * @param future provided future result of query
+     * @param <T> query result type
+     * @return {@code T} query result
+     */
+    public <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+
+            throw new UnexpectedException("Query failed: " + e.getCause());
+        }
+    }
+
+    /**
+     * Stops pool, running queries are interrupted
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Creates factory of pool threads, virtual threads are created in virtual execution mode
+     *
+     * @param mode provided execution mode
+     * @return {@code ThreadFactory} factory of pool threads
+     */
+    private static ThreadFactory newThreadFactory(ExecutionMode mode) {
+        if (mode == ExecutionMode.VIRTUAL) {
+            return VirtualThreads.newThreadFactory(THREAD_PREFIX);
+        }
+
+        CustomizableThreadFactory factory = new CustomizableThreadFactory(THREAD_PREFIX);
+        factory.setDaemon(true);
+        return factory;
+    }
+}
@@ -0,0 +1,152 @@
+package epam.com.esm.config.metrics;
+
+import epam.com.esm.config.metrics.type.Layer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * LatencyAspect is the aspect class, records latency of controller, facade, service, repository and link builder
+ * calls
+ * <p>
+ * Timer of each method is resolved once and cached, so measured call doesn't build operation name. Repository
+ * methods are mostly declared by Spring Data base interfaces, so repository timers are named by repository
+ * interface of called proxy
+ */
+@Aspect
+@Component
+public class LatencyAspect {
+
+    /**
+     * Holds timers by layer and method
+     */
+    private final Map<Layer, Map<Method, LatencyTimer>> timers = new ConcurrentHashMap<>();
+
+    /**
+     * Holds repository timers by repository proxy class and method
+     */
+    private final Map<Class<?>, Map<Method, LatencyTimer>> repositoryTimers = new ConcurrentHashMap<>();
+
+    /**
+     * Measures REST controller call
+     *
+     * @param pjp provided join point
+     * @return {@code Object} call result
+     * @throws Throwable if call fails
+     */
+    @Around("within(epam.com.esm.controller..*) " +
+            "&& @within(org.springframework.web.bind.annotation.RestController)")
+    public Object controller(ProceedingJoinPoint pjp) throws Throwable {
+        return measure(pjp, timer(Layer.CONTROLLER, pjp));
+    }
+
+    /**
+     * Measures facade call
+     *
+     * @param pjp provided join point
+     * @return {@code Object} call result
+     * @throws Throwable if call fails
+     */
+    @Around("within(epam.com.esm.model.facade.impl..*) && !execution(* get*())")
+    public Object facade(ProceedingJoinPoint pjp) throws Throwable {
+        return measure(pjp, timer(Layer.FACADE, pjp));
+    }
+
+    /**
+     * Measures service call
+     *
+     * @param pjp provided join point
+     * @return {@code Object} call result
+     * @throws Throwable if call fails
+     */
+    @Around("within(epam.com.esm.model.service.impl..*) && !execution(* get*())")
+    public Object service(ProceedingJoinPoint pjp) throws Throwable {
+        return measure(pjp, timer(Layer.SERVICE, pjp));
+    }
+
+    /**
+     * Measures Spring Data repository call
+     *
+     * @param pjp provided join point
+     * @return {@code Object} call result
+     * @throws Throwable if call fails
+     */
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object repository(ProceedingJoinPoint pjp) throws Throwable {
+        Method m = ((MethodSignature) pjp.getSignature()).getMethod();
+        LatencyTimer timer = repositoryTimers.computeIfAbsent(pjp.getThis().getClass(), c -> new ConcurrentHashMap<>())
+                                             .computeIfAbsent(m, k -> LatencyMetrics.timer(
+                                                     Layer.REPOSITORY,
+                                                     repositoryName(pjp.getThis().getClass()) + "." + k.getName()
+                                             ));
+        return measure(pjp, timer);
+    }
+
+    /**
+     * Measures link builder call
+     *
+     * @param pjp provided join point
+     * @return {@code Object} call result
+     * @throws Throwable if call fails
+     */
+    @Around("execution(public * epam.com.esm.utils.hateoas.builder.LinkBuilder.*(..))")
+    public Object links(ProceedingJoinPoint pjp) throws Throwable {
+        return measure(pjp, timer(Layer.LINKS, pjp));
+    }
+
+    /**
+     * Proceeds call and records its time, failed call is recorded as well
+     *
+     * @param pjp provided join point
+     * @param timer provided timer
+     * @return {@code Object} call result
+     * @throws Throwable if call fails
+     */
+    private Object measure(ProceedingJoinPoint pjp, LatencyTimer timer) throws Throwable {
+        long started = System.nanoTime();
+
+        try {
+            return pjp.proceed();
+        } finally {
+            timer.record(System.nanoTime() - started);
+        }
+    }
+
+    /**
+     * Gets timer of called method, timer is named by declaring class and method name
+     *
+     * @param layer provided layer
+     * @param pjp provided join point
+     * @return {@code LatencyTimer} method timer
+     */
+    private LatencyTimer timer(Layer layer, ProceedingJoinPoint pjp) {
+        Method m = ((MethodSignature) pjp.getSignature()).getMethod();
+        return timers.computeIfAbsent(layer, l -> new ConcurrentHashMap<>())
+                     .computeIfAbsent(m, k -> LatencyMetrics.timer(
+                             layer, k.getDeclaringClass().getSimpleName() + "." + k.getName()
+                     ));
+    }
+
+    /**
+     * Gets name of repository interface implemented by proxy class
+     *
+     * @param proxy provided proxy class
+     * @return {@code String} repository interface name
+     */
+    private static String repositoryName(Class<?> proxy) {
+        for (Class<?> i : proxy.getInterfaces()) {
+            if (Repository.class.isAssignableFrom(i)) {
+                return i.getSimpleName();
+            }
+        }
+
+        return proxy.getSimpleName();
+    }
+}
@@ -0,0 +1,70 @@
+package epam.com.esm.config.metrics.type;
+
+/**
+ * Layer is the enum class, holds application layers measured by latency metrics
+ */
+public enum Layer {
+
+    /**
+     * Represents REST controller endpoints
+     */
+    CONTROLLER("controller"),
+
+    /**
+     * Represents facades
+     */
+    FACADE("facade"),
+
+    /**
+     * Represents services
+     */
+    SERVICE("service"),
+
+    /**
+     * Represents Spring Data repositories
+     */
+    REPOSITORY("repository"),
+
+    /**
+     * Represents translation of page data request to search param request
+     */
+    REQUEST("request"),
+
+    /**
+     * Represents building of filter predicates
+     */
+    FILTER("filter"),
+
+    /**
+     * Represents conversion of entities to dto responses
+     */
+    CONVERSION("conversion"),
+
+    /**
+     * Represents link building
+     */
+    LINKS("links");
+
+    /**
+     * Holds layer label
+     */
+    private final String label;
+
+    /**
+     * Constructs Layer with provided label
+     *
+     * @param label provided layer label
+     */
+    Layer(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Gets value from label field
+     *
+     * @return {@code String} label value
+     */
+    public String getLabel() {
+        return label;
+    }
+}
@@ -0,0 +1,172 @@
+package epam.com.esm.config.pool;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * PoolMetrics is the service class, collects metrics of connection pool
+ * <p>
+ * Serves as metrics tracker factory and metrics tracker for Hikari connection pool, holds pool state
+ * (active, idle, total, pending) and connection acquire time statistics
+ */
+public class PoolMetrics implements MetricsTrackerFactory, IMetricsTracker {
+
+    /**
+     * Holds pool statistics provided by connection pool
+     */
+    private volatile PoolStats poolStats;
+
+    /**
+     * Holds count of acquired connections
+     */
+    private final LongAdder acquireCount = new LongAdder();
+
+    /**
+     * Holds total connection acquire time in nanoseconds
+     */
+    private final LongAdder acquireNanos = new LongAdder();
+
+    /**
+     * Holds max connection acquire time in nanoseconds
+     */
+    private final LongAccumulator acquireMaxNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Holds total connection usage time in milliseconds
+     */
+    private final LongAdder usageMillis = new LongAdder();
+
+    /**
+     * Holds count of connection acquire timeouts
+     */
+    private final LongAdder timeouts = new LongAdder();
+
+    /**
+     * Creates metrics tracker for provided pool
+     *
+     * @param poolName provided pool name
+     * @param poolStats provided pool statistics
+     * @return {@code IMetricsTracker} current metrics tracker
+     */
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        this.poolStats = poolStats;
+        return this;
+    }
+
+    /**
+     * Records connection acquire time
+     *
+     * @param elapsedAcquiredNanos provided acquire time in nanoseconds
+     */
+    @Override
+    public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+        acquireCount.increment();
+        acquireNanos.add(elapsedAcquiredNanos);
+        acquireMaxNanos.accumulate(elapsedAcquiredNanos);
+    }
+
+    /**
+     * Records connection usage time
+     *
+     * @param elapsedBorrowedMillis provided usage time in milliseconds
+     */
+    @Override
+    public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+        usageMillis.add(elapsedBorrowedMillis);
+    }
+
+    /**
+     * Records connection acquire timeout
+     */
+    @Override
+    public void recordConnectionTimeout() {
+        timeouts.increment();
+    }
+
+    /**
+     * Gets active connections count
+     *
+     * @return {@code int} active connections count
+     */
+    public int getActive() {
+        return poolStats == null ? 0 : poolStats.getActiveConnections();
+    }
+
+    /**
+     * Gets idle connections count
+     *
+     * @return {@code int} idle connections count
+     */
+    public int getIdle() {
+        return poolStats == null ? 0 : poolStats.getIdleConnections();
+    }
+
+    /**
+     * Gets total connections count
+     *
+     * @return {@code int} total connections count
+     */
+    public int getTotal() {
+        return poolStats == null ? 0 : poolStats.getTotalConnections();
+    }
+
+    /**
+     * Gets count of threads awaiting connection
+     *
+     * @return {@code int} pending threads count
+     */
+    public int getPending() {
+        return poolStats == null ? 0 : poolStats.getPendingThreads();
+    }
+
+    /**
+     * Gets count of acquired connections
+     *
+     * @return {@code long} acquired connections count
+     */
+    public long getAcquireCount() {
+        return acquireCount.sum();
+    }
+
+    /**
+     * Gets total connection acquire time in milliseconds
+     *
+     * @return {@code double} total acquire time in milliseconds
+     */
+    public double getAcquireTotalMillis() {
+        return (double) acquireNanos.sum() / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Gets max connection acquire time in milliseconds
+     *
+     * @return {@code double} max acquire time in milliseconds
+     */
+    public double getAcquireMaxMillis() {
+        return (double) acquireMaxNanos.get() / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Gets total connection usage time in milliseconds
+     *
+     * @return {@code long} total usage time in milliseconds
+     */
+    public long getUsageTotalMillis() {
+        return usageMillis.sum();
+    }
+
+    /**
+     * Gets count of connection acquire timeouts
+     *
+     * @return {@code long} acquire timeouts count
+     */
+    public long getTimeouts() {
+        return timeouts.sum();
+    }
+}
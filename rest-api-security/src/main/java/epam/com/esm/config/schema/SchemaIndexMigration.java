@@ -0,0 +1,185 @@
+package epam.com.esm.config.schema;
+
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+/**
+ * SchemaIndexMigration is the migration class, brings schema created before baseline to expected index set
+ * <p>
+ * Migration is idempotent: gift certificate date columns are altered only if they aren't date time columns yet
+ * and only missing indexes are created, so it can be applied to schema created by baseline script, by Hibernate
+ * schema update or by older schema script. Checksum is calculated from migration definition, so Flyway validation
+ * detects changed definition of applied migration as it does for SQL migrations
+ */
+@Component
+public class SchemaIndexMigration implements JavaMigration {
+
+    /**
+     * Holds migration version
+     */
+    private static final MigrationVersion VERSION = MigrationVersion.fromVersion("2");
+
+    /**
+     * Holds migration description
+     */
+    private static final String DESCRIPTION = "Search and statistics indexes";
+
+    /**
+     * Holds column data type query
+     */
+    private static final String COLUMN_TYPE =
+            "SELECT DATA_TYPE FROM INFORMATION_SCHEMA.COLUMNS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND COLUMN_NAME = ?";
+
+    /**
+     * Holds tables with gift certificate date columns
+     */
+    private static final String[] DATE_TABLES = {"gift_certificate", "gift_certificate_audit"};
+
+    /**
+     * Holds gift certificate date columns
+     */
+    private static final String[] DATE_COLUMNS = {"create_date", "last_update_date"};
+
+    /**
+     * Holds date time data type
+     */
+    private static final String DATETIME = "datetime";
+
+    /**
+     * Holds migration checksum
+     */
+    private static final int CHECKSUM = calculateChecksum();
+
+    /**
+     * Gets migration version
+     *
+     * @return {@code MigrationVersion} migration version
+     */
+    @Override
+    public MigrationVersion getVersion() {
+        return VERSION;
+    }
+
+    /**
+     * Gets migration description
+     *
+     * @return {@code String} migration description
+     */
+    @Override
+    public String getDescription() {
+        return DESCRIPTION;
+    }
+
+    /**
+     * Gets migration checksum
+     *
+     * @return {@code Integer} CRC32 checksum of migration definition
+     */
+    @Override
+    public Integer getChecksum() {
+        return CHECKSUM;
+    }
+
+    /**
+     * Checks if migration is undo migration
+     *
+     * @return {@code false}
+     */
+    @Override
+    public boolean isUndo() {
+        return false;
+    }
+
+    /**
+     * Checks if migration is baseline migration
+     *
+     * @return {@code false}
+     */
+    @Override
+    public boolean isBaselineMigration() {
+        return false;
+    }
+
+    /**
+     * Checks if migration can be executed in transaction, MySQL commits each schema statement implicitly
+     *
+     * @return {@code false}
+     */
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    /**
+     * Converts text date columns to date time columns and creates missing indexes
+     *
+     * @param context provided migration context
+     * @throws SQLException if schema can't be read or altered
+     */
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection c = context.getConnection();
+
+        try (Statement st = c.createStatement()) {
+            for (String table : DATE_TABLES) {
+                for (String column : DATE_COLUMNS) {
+                    String type = getColumnType(c, table, column);
+
+                    if (type != null && !DATETIME.equalsIgnoreCase(type)) {
+                        st.execute("ALTER TABLE `" + table + "` MODIFY `" + column + "` datetime(3)");
+                    }
+                }
+            }
+
+            for (SchemaIndex index : SchemaIndexes.findMissing(c)) {
+                st.execute(index.toDdl());
+            }
+        }
+    }
+
+    /**
+     * Gets data type of column
+     *
+     * @param c provided connection
+     * @param table provided table name
+     * @param column provided column name
+     * @return {@code String} data type or null if column doesn't exist
+     * @throws SQLException if column metadata can't be read
+     */
+    private String getColumnType(Connection c, String table, String column) throws SQLException {
+        try (PreparedStatement ps = c.prepareStatement(COLUMN_TYPE)) {
+            ps.setString(1, table);
+            ps.setString(2, column);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? rs.getString(1) : null;
+            }
+        }
+    }
+
+    /**
+     * Calculates checksum of migration definition: altered date columns and statements of expected indexes
+     *
+     * @return {@code int} CRC32 checksum of migration definition
+     */
+    private static int calculateChecksum() {
+        String definition = Arrays.toString(DATE_TABLES) + Arrays.toString(DATE_COLUMNS) + DATETIME +
+                            SchemaIndexes.EXPECTED.stream().map(SchemaIndex::toDdl).collect(Collectors.joining(";"));
+        CRC32 crc = new CRC32();
+        crc.update(definition.getBytes(StandardCharsets.UTF_8));
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,125 @@
+package epam.com.esm.config.schema;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * SchemaIndexes is the utility class, holds index set expected by application queries and finds missing indexes
+ * <p>
+ * Index set covers:
+ * <ul>
+ *     <li>Name lookups on create, update, order and login (gift certificate, tag, user and role names)</li>
+ *     <li>Date sorting and range filters of SpecificationFilter (gift certificate, order and purchase dates)</li>
+ *     <li>Text search of SpecificationFilter (gift certificate and tag full-text indexes)</li>
+ *     <li>Tag semi-joins of SpecificationFilter and tag statistics of UserRepository, join tables are indexed
+ *     in both directions</li>
+ *     <li>Purchase expiry of PurchaseService (purchase data status and end)</li>
+ * </ul>
+ */
+public final class SchemaIndexes {
+
+    /**
+     * Holds index columns query, columns of each index are fetched in index order
+     */
+    private static final String INDEX_COLUMNS =
+            "SELECT TABLE_NAME, INDEX_NAME, INDEX_TYPE, COLUMN_NAME FROM INFORMATION_SCHEMA.STATISTICS " +
+            "WHERE TABLE_SCHEMA = DATABASE() ORDER BY TABLE_NAME, INDEX_NAME, SEQ_IN_INDEX";
+
+    /**
+     * Holds full-text index type
+     */
+    private static final String FULLTEXT = "FULLTEXT";
+
+    /**
+     * Holds expected indexes
+     */
+    public static final List<SchemaIndex> EXPECTED = Collections.unmodifiableList(Arrays.asList(
+            SchemaIndex.index("gift_certificate", "idx_gift_certificate_name", "name"),
+            SchemaIndex.index("gift_certificate", "idx_gift_certificate_create_date", "create_date"),
+            SchemaIndex.index("gift_certificate", "idx_gift_certificate_last_update_date", "last_update_date"),
+            SchemaIndex.fullText("gift_certificate", "ft_gift_certificate_name", "name"),
+            SchemaIndex.fullText("gift_certificate", "ft_gift_certificate_description", "description"),
+            SchemaIndex.index("tag", "idx_tag_name", "name"),
+            SchemaIndex.fullText("tag", "ft_tag_name", "name"),
+            SchemaIndex.index("user", "idx_user_username", "username"),
+            SchemaIndex.index("roles", "idx_roles_name", "name"),
+            SchemaIndex.index("orders", "idx_orders_purchase_date", "purchase_date"),
+            SchemaIndex.index("purchase_data", "idx_purchase_data_status_end", "status", "end"),
+            SchemaIndex.index("purchase_data", "idx_purchase_data_start", "start"),
+            SchemaIndex.index("purchase_data", "idx_purchase_data_end", "end"),
+            SchemaIndex.index("gift_certificate_tag", "uniq_id1", "gift_certificate_id", "tag_id"),
+            SchemaIndex.index("gift_certificate_tag", "idx_gift_certificate_tag_tag", "tag_id", "gift_certificate_id"),
+            SchemaIndex.index("order_gift_certificate", "uniq_id2", "order_id", "gift_certificate_id"),
+            SchemaIndex.index("order_gift_certificate", "idx_order_gift_certificate_gift_certificate",
+                              "gift_certificate_id", "order_id"),
+            SchemaIndex.index("purchase_data_gift_certificate", "uniq_id3", "purchase_data_id", "gift_certificate_id"),
+            SchemaIndex.index("purchase_data_gift_certificate", "idx_purchase_data_gift_certificate_gift_certificate",
+                              "gift_certificate_id", "purchase_data_id"),
+            SchemaIndex.index("user_orders", "uniq_id5", "user_id", "order_id"),
+            SchemaIndex.index("user_orders", "idx_user_orders_order", "order_id", "user_id")
+    ));
+
+    /**
+     * Default constructor
+     */
+    private SchemaIndexes() {}
+
+    /**
+     * Finds expected indexes, which aren't satisfied by indexes of current schema
+     *
+     * @param c provided connection
+     * @return {@code List<SchemaIndex>} missing indexes
+     * @throws SQLException if index metadata can't be read
+     */
+    public static List<SchemaIndex> findMissing(Connection c) throws SQLException {
+        Map<String, List<String>> columns = new LinkedHashMap<>();
+        Map<String, Boolean> fullText = new LinkedHashMap<>();
+
+        try (PreparedStatement ps = c.prepareStatement(INDEX_COLUMNS);
+             ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                String key = rs.getString(1) + "." + rs.getString(2);
+                columns.computeIfAbsent(key, k -> new ArrayList<>()).add(rs.getString(4));
+                fullText.put(key, FULLTEXT.equalsIgnoreCase(rs.getString(3)));
+            }
+        }
+
+        return EXPECTED.stream()
+                       .filter(i -> columns.entrySet()
+                                           .stream()
+                                           .noneMatch(e -> i.isSatisfiedBy(tableOf(e.getKey()),
+                                                                           fullText.get(e.getKey()), e.getValue())))
+                       .collect(Collectors.toList());
+    }
+
+    /**
+     * Describes indexes for log and exception messages
+     *
+     * @param indexes provided indexes
+     * @return {@code String} indexes description
+     */
+    public static String describe(List<SchemaIndex> indexes) {
+        return indexes.stream()
+                      .map(i -> i.getTable() + "." + i.getName() + i.getColumns())
+                      .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Gets table name from index key
+     *
+     * @param key provided index key
+     * @return {@code String} table name
+     */
+    private static String tableOf(String key) {
+        return key.substring(0, key.indexOf('.'));
+    }
+}
@@ -1,8 +1,21 @@
 package epam.com.esm.controller;
 
+import epam.com.esm.utils.export.ExportFormat;
+import epam.com.esm.utils.versions.EntityTags;
+import epam.com.esm.utils.versions.VersionStamp;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 /**
  * AbstractController class is the ancestor class for all REST Controllers used in application
@@ -44,4 +57,62 @@ public abstract class AbstractController {
             throw new AccessDeniedException("Access Denied");
         }
     }
+
+    /**
+     * Produces response entity, which streams provided body as attachment of provided format
+     *
+     * @param fileName provided attachment name without extension
+     * @param format provided export format
+     * @param body provided response body
+     * @return {@code ResponseEntity<StreamingResponseBody>} response entity, represents result of export operation
+     */
+    protected ResponseEntity<StreamingResponseBody> toAttachment(String fileName, ExportFormat format,
+                                                                 StreamingResponseBody body) {
+        ContentDisposition disposition = ContentDisposition.attachment().filename(format.toFileName(fileName)).build();
+        return ResponseEntity.ok()
+                             .contentType(format.getMediaType())
+                             .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                             .body(body);
+    }
+
+    /**
+     * Sets entity tag generated from provided versions to response and checks it against If-None-Match header
+     * Entity tag depends on requested URL, URL params and principal roles, because links depend on roles
+     *
+     * @param webRequest provided web request
+     * @param stamp provided versions of requested entities
+     * @return {@code true} if response wasn't modified, in this case response has Not Modified status and
+     * mustn't be built
+     */
+    protected boolean checkNotModified(WebRequest webRequest, VersionStamp stamp) {
+        return webRequest.checkNotModified(EntityTags.generate(stamp, webRequest.getDescription(false),
+                                                               getParams(webRequest), getRoles()));
+    }
+
+    /**
+     * Gets requested URL params sorted by name
+     *
+     * @param webRequest provided web request
+     * @return {@code String} requested URL params
+     */
+    private String getParams(WebRequest webRequest) {
+        Map<String, String> params = new TreeMap<>();
+        webRequest.getParameterMap().forEach((name, values) -> params.put(name, String.join(",", values)));
+        return params.toString();
+    }
+
+    /**
+     * Gets principal from security context holder and collects its sorted authorities
+     *
+     * @return {@code String} principal authorities
+     */
+    private String getRoles() {
+        return SecurityContextHolder.getContext()
+                                    .getAuthentication()
+                                    .getAuthorities()
+                                    .stream()
+                                    .map(GrantedAuthority::getAuthority)
+                                    .sorted()
+                                    .collect(Collectors.joining(","));
+    }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import epam.com.esm.utils.hateoas.builder.LinkBuilder;
 import epam.com.esm.utils.hateoas.builder.components.ParamString;
 import epam.com.esm.utils.hateoas.wrappers.components.MenuDto;
 import epam.com.esm.view.resources.data.Resources;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -20,9 +21,19 @@ import org.springframework.web.bind.annotation.RestController;
 public class MainController extends AbstractController {
 
     /**
-     * Constructs MainController object
+     * Holds LinkBuilder object
      */
-    public MainController() {}
+    private final LinkBuilder linkBuilder;
+
+    /**
+     * Constructs MainController object with provided LinkBuilder object
+     *
+     * @param linkBuilder service, provides link building operations
+     */
+    @Autowired
+    public MainController(LinkBuilder linkBuilder) {
+        this.linkBuilder = linkBuilder;
+    }
 
     /**
      * Produces HttpResponse entity, which contains links to other resources of application
@@ -32,16 +43,15 @@ public class MainController extends AbstractController {
     @GetMapping("/")
     public HttpEntity<MenuDto> mainMenu() {
         MenuDto menuDto = new MenuDto();
-        LinkBuilder lb = new LinkBuilder();
 
         if (checkRole("ROLE_ADMIN")) {
-            buildLinks(menuDto, lb, Resources.USERS_ALL, Resources.ORDERS_ALL,
-                                    Resources.GIFT_CERTIFICATES_ALL, Resources.TAGS_ALL);
+            buildLinks(menuDto, Resources.USERS_ALL, Resources.ORDERS_ALL,
+                                Resources.GIFT_CERTIFICATES_ALL, Resources.TAGS_ALL);
         } else if (checkRole("ROLE_USER")) {
-            buildLinks(menuDto, lb, Resources.GIFT_CERTIFICATES_ALL, Resources.TAGS_ALL);
+            buildLinks(menuDto, Resources.GIFT_CERTIFICATES_ALL, Resources.TAGS_ALL);
         } else {
-            buildLinks(menuDto, lb, Resources.GIFT_CERTIFICATES_ALL, Resources.TAGS_ALL,
-                                    Resources.SIGNUP, Resources.LOGIN);
+            buildLinks(menuDto, Resources.GIFT_CERTIFICATES_ALL, Resources.TAGS_ALL,
+                                Resources.SIGNUP, Resources.LOGIN);
         }
 
         return ResponseEntity.ok().body(menuDto);
@@ -51,10 +61,9 @@ public class MainController extends AbstractController {
      * Builds links for main menu dto
      *
      * @param menuDto provided main menu dto
-     * @param lb provided link builder
      * @param ps provided param string (resources)
      */
-    private void buildLinks(MenuDto menuDto, LinkBuilder lb, ParamString ... ps) {
-        lb.loadClass(MainController.class).addModel(menuDto).addLinks(ps).build();
+    private void buildLinks(MenuDto menuDto, ParamString ... ps) {
+        linkBuilder.build(MainController.class, menuDto, ps);
     }
 }
\ No newline at end of file
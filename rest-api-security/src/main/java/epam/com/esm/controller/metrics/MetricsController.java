@@ -0,0 +1,43 @@
+package epam.com.esm.controller.metrics;
+
+import epam.com.esm.config.metrics.PrometheusExporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * MetricsController class is the REST controller, produces application metrics in Prometheus text format
+ * <p>
+ * Endpoint is available for local requests only, access is restricted by SecurityConfig
+ */
+@RestController
+public class MetricsController {
+
+    /**
+     * Holds PrometheusExporter object
+     */
+    private final PrometheusExporter exporter;
+
+    /**
+     * Constructs MetricsController with provided PrometheusExporter object
+     *
+     * @param exporter service, provides metrics export operations
+     */
+    @Autowired
+    public MetricsController(PrometheusExporter exporter) {
+        this.exporter = exporter;
+    }
+
+    /**
+     * Produces response entity with all application metrics
+     *
+     * @return {@code ResponseEntity<String>} response entity, represents metrics in Prometheus text format
+     */
+    @GetMapping("/metrics")
+    public ResponseEntity<String> metrics() {
+        return ResponseEntity.ok().header(HttpHeaders.CONTENT_TYPE, PrometheusExporter.CONTENT_TYPE)
+                                  .body(exporter.export());
+    }
+}
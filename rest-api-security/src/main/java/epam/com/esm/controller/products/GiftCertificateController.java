@@ -2,7 +2,11 @@ package epam.com.esm.controller.products;
 
 import epam.com.esm.controller.AbstractController;
 import epam.com.esm.model.facade.interfaces.entity.products.GiftCertificateFacade;
+import epam.com.esm.utils.export.ExportFormat;
 import epam.com.esm.utils.hateoas.annotations.ControllerLink;
+import epam.com.esm.utils.imports.ImportFormat;
+import epam.com.esm.utils.imports.ImportMode;
+import epam.com.esm.utils.imports.ImportReport;
 import epam.com.esm.utils.search.transport.response.PageDataResponse;
 import epam.com.esm.view.dto.request.impl.products.GiftCertificateDtoRequest;
 import epam.com.esm.view.dto.request.impl.products.GiftCertificateTagsDtoRequest;
@@ -16,8 +20,10 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.annotation.security.RolesAllowed;
+import java.io.InputStream;
 
 /**
  * GiftCertificateController class is the REST controller, which consumes requested GiftCertificateDtoRequest object,
@@ -80,12 +86,18 @@ public class GiftCertificateController extends AbstractController {
     /**
      * Consumes path variable, creates GiftCertificateDtoResponse as the result of facade find by id operation,
      * builds links for this object and produces response entity
+     * Responds with Not Modified status without finding, if versions of gift certificate match requested entity tag
      *
      * @param id path variable, represents id of searched gift certificate
+     * @param webRequest object, holds requested headers
      * @return {@code HttpEntity<GiftCertificateDtoResponse>} response entity, represents result of find by id operation
      */
     @GetMapping("/{id}")
-    public HttpEntity<GiftCertificateDtoResponse> findById(@PathVariable Long id) {
+    public HttpEntity<GiftCertificateDtoResponse> findById(@PathVariable Long id, WebRequest webRequest) {
+        if (checkNotModified(webRequest, gcFacade.findVersion(id))) {
+            return null;
+        }
+
         GiftCertificateDtoResponse resp = gcFacade.findById(id);
 
         if (checkRole("ROLE_ADMIN")) {
@@ -140,6 +152,8 @@ public class GiftCertificateController extends AbstractController {
     /**
      * Consumes requested URL parameters from WebRequest, creates PageDataResponse object as the result of facade
      * find all operation, builds links and produces response entity, which contains found items and requested params
+     * Responds with Not Modified status without finding, if versions of found gift certificates match requested
+     * entity tag
      *
      * @param webRequest object, holds requested URL parameters
      * @return {@code HttpEntity<PageDataResponse<GiftCertificateDtoResponse>>} response entity, represents result of
@@ -147,6 +161,10 @@ public class GiftCertificateController extends AbstractController {
      */
     @GetMapping("/all")
     public HttpEntity<PageDataResponse<GiftCertificateDtoResponse>> findAll(WebRequest webRequest) {
+        if (checkNotModified(webRequest, gcFacade.findAllVersion(webRequest))) {
+            return null;
+        }
+
         PageDataResponse<GiftCertificateDtoResponse> pdr = gcFacade.findAll(webRequest);
 
         if (checkRole("ROLE_ADMIN")) {
@@ -164,6 +182,39 @@ public class GiftCertificateController extends AbstractController {
         return ResponseEntity.ok().body(pdr);
     }
 
+    /**
+     * Consumes requested URL parameters from WebRequest and export format, produces response entity, which streams
+     * gift certificates found by facade export operation without counting, paging and links
+     *
+     * @param webRequest object, holds requested URL parameters
+     * @param format requested parameter, holds export format name
+     * @return {@code ResponseEntity<StreamingResponseBody>} response entity, represents result of export operation
+     */
+    @GetMapping("/export")
+    @RolesAllowed("ROLE_ADMIN")
+    public ResponseEntity<StreamingResponseBody> export(WebRequest webRequest,
+                                                        @RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat ef = ExportFormat.of(format);
+        return toAttachment("gift-certificates", ef, gcFacade.export(webRequest, ef));
+    }
+
+    /**
+     * Consumes request body as imported file, import format and import mode, produces response entity, which
+     * contains report of facade import operation
+     *
+     * @param body requested body, holds imported file
+     * @param format requested parameter, holds import format name
+     * @param mode requested parameter, holds import mode name
+     * @return {@code ResponseEntity<ImportReport>} response entity, represents result of import operation
+     */
+    @PostMapping("/import")
+    @RolesAllowed("ROLE_ADMIN")
+    public ResponseEntity<ImportReport> importCatalog(InputStream body,
+                                                      @RequestParam(defaultValue = "ndjson") String format,
+                                                      @RequestParam(defaultValue = "chunk") String mode) {
+        return ResponseEntity.ok().body(gcFacade.importCatalog(body, ImportFormat.of(format), ImportMode.of(mode)));
+    }
+
     /**
      * Consumes requested URL parameters from WebRequest, creates PageDataResponse object as the result of facade
      * find all tagged operation, builds links and produces response entity, which contains found items and requested
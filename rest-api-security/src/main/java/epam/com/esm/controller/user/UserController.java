@@ -3,6 +3,9 @@ package epam.com.esm.controller.user;
 import epam.com.esm.controller.AbstractController;
 import epam.com.esm.controller.MainController;
 import epam.com.esm.model.facade.interfaces.entity.user.UserFacade;
+import epam.com.esm.utils.batch.facade.DtoBatchItem;
+import epam.com.esm.utils.dashboard.facade.DtoUserDashboard;
+import epam.com.esm.utils.export.ExportFormat;
 import epam.com.esm.utils.hateoas.annotations.ControllerLink;
 import epam.com.esm.utils.hateoas.wrappers.WrappedCollection;
 import epam.com.esm.utils.search.transport.response.PageDataResponse;
@@ -22,8 +25,10 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.annotation.security.RolesAllowed;
+import java.util.List;
 
 /**
  * UserController class is the REST controller, which consumes requested UserDtoRequest object, forwards to relevant
@@ -105,11 +110,13 @@ public class UserController extends AbstractController {
         if (checkRole("ROLE_ADMIN")) {
             uResModel.buildLinks(resp, Resources.READ, Resources.UPDATE, Resources.DELETE, Resources.CREATE_ORDER,
                                        Resources.ORDERS, Resources.PURCHASES, Resources.TAGS,
-                                       Resources.POPULAR_TAGS, Resources.POPULAR_MAX_TAGS, Resources.FIND_ALL);
+                                       Resources.POPULAR_TAGS, Resources.POPULAR_MAX_TAGS, Resources.DASHBOARD,
+                                       Resources.FIND_ALL);
         } else {
             uResModel.buildLinks(resp, Resources.READ, Resources.UPDATE, Resources.CREATE_ORDER,
                                        Resources.ORDERS, Resources.PURCHASES, Resources.TAGS,
-                                       Resources.POPULAR_TAGS, Resources.POPULAR_MAX_TAGS, Resources.FIND_ALL);
+                                       Resources.POPULAR_TAGS, Resources.POPULAR_MAX_TAGS, Resources.DASHBOARD,
+                                       Resources.FIND_ALL);
         }
 
         uResModel.buildLinksOrders(resp, Resources.READ, Resources.GIFT_CERTIFICATES);
@@ -194,6 +201,27 @@ public class UserController extends AbstractController {
         return ResponseEntity.ok().body(resp);
     }
 
+    /**
+     * Consumes list of OrderDtoRequest objects and path variable, creates WrappedCollection object as the result of
+     * facade make orders operation, builds links for created orders and produces response entity, which contains
+     * result of each item
+     *
+     * @param oDtoRequests objects with requested parameters
+     * @param id path variable, represents id of entity for which make orders operation applied
+     * @return {@code HttpEntity<WrappedCollection<DtoBatchItem>>} response entity, represents result of
+     * make orders operation
+     */
+    @PostMapping("/{id}/orders/batch")
+    @RolesAllowed({"ROLE_ADMIN", "ROLE_USER"})
+    public HttpEntity<WrappedCollection<DtoBatchItem>> makeOrders(@RequestBody List<OrderDtoRequest> oDtoRequests,
+                                                                  @PathVariable Long id) {
+        checkPermissions("ROLE_ADMIN", "ROLE_USER", userFacade.findById(id).getUsername());
+        WrappedCollection<DtoBatchItem> items = userFacade.makeOrders(id, oDtoRequests);
+        oResModel.buildLinksBatchItems(items, Resources.READ, Resources.GIFT_CERTIFICATES);
+        oResModel.addLinksMainPage(items, Resources.MAIN);
+        return ResponseEntity.ok().body(items);
+    }
+
     /**
      * Consumes path variable and requested URL parameters from WebRequest, creates PageDataResponse object as the
      * result of facade find orders operation, builds links and produces response entity, which contains
@@ -241,6 +269,26 @@ public class UserController extends AbstractController {
         return ResponseEntity.ok().body(pdr);
     }
 
+    /**
+     * Consumes path variable, requested URL parameters from WebRequest and export format, produces response entity,
+     * which streams purchase data found by facade export purchases operation without counting, paging and links
+     *
+     * @param webRequest object, holds requested URL parameters
+     * @param id path variable, represents id of entity for which purchase data will be exported
+     * @param format requested parameter, holds export format name
+     * @return {@code ResponseEntity<StreamingResponseBody>} response entity, represents result of
+     * export purchases operation
+     */
+    @GetMapping("/{id}/purchases/export")
+    @RolesAllowed({"ROLE_ADMIN", "ROLE_USER"})
+    public ResponseEntity<StreamingResponseBody> exportPurchaseData(WebRequest webRequest, @PathVariable Long id,
+                                                                    @RequestParam(defaultValue = "ndjson")
+                                                                    String format) {
+        checkPermissions("ROLE_ADMIN", "ROLE_USER", userFacade.findById(id).getUsername());
+        ExportFormat ef = ExportFormat.of(format);
+        return toAttachment("user-" + id + "-purchases", ef, userFacade.exportPurchases(webRequest, id, ef));
+    }
+
     /**
      * Consumes path variable and requested URL parameters from WebRequest, creates PageDataResponse object as the
      * result of facade find tags operation, builds links and produces response entity, which contains
@@ -299,6 +347,32 @@ public class UserController extends AbstractController {
         return ResponseEntity.ok().body(tags);
     }
 
+    /**
+     * Consumes path variable and requested URL parameters from WebRequest, creates DtoUserDashboard object as the
+     * result of facade find dashboard operation, builds links and produces response entity, which contains
+     * found user, summary counts and first pages of its orders, purchase data, tags and tags by popularity
+     * Permissions are checked against found user before dashboard queries are submitted, so no query runs for user
+     * without access, and found user is passed to dashboard without being found again
+     *
+     * @param webRequest object, holds requested URL parameters applied to each page
+     * @param id path variable, represents id of user whose dashboard will be searched
+     * @return {@code HttpEntity<DtoUserDashboard>} response entity, represents result of find dashboard operation
+     */
+    @GetMapping("/{id}/dashboard")
+    @RolesAllowed({"ROLE_ADMIN", "ROLE_USER"})
+    public HttpEntity<DtoUserDashboard> findDashboard(WebRequest webRequest, @PathVariable Long id) {
+        UserDtoResponse user = userFacade.findById(id);
+        checkPermissions("ROLE_ADMIN", "ROLE_USER", user.getUsername());
+        DtoUserDashboard dashboard = userFacade.findDashboard(webRequest, user);
+        uResModel.buildLinks(dashboard.getUser(), Resources.READ, Resources.ORDERS, Resources.PURCHASES,
+                                                  Resources.TAGS, Resources.POPULAR_TAGS, Resources.POPULAR_MAX_TAGS);
+        oResModel.buildLinksRecords(dashboard.getOrders(), Resources.READ, Resources.GIFT_CERTIFICATES);
+        uResModel.buildLinksPurchases(dashboard.getPurchases(), Resources.READ, Resources.TAGS);
+        tResModel.buildLinksRecords(dashboard.getTags(), Resources.READ, Resources.GIFT_CERTIFICATES);
+        uResModel.buildLinksDataTags(dashboard.getPopularTags(), Resources.READ, Resources.GIFT_CERTIFICATES);
+        return ResponseEntity.ok().body(dashboard);
+    }
+
     /**
      * Builds links for dto data tags
      *
@@ -4,6 +4,7 @@ import epam.com.esm.exception.dto.ErrorResponseDto;
 import epam.com.esm.exception.types.*;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -175,6 +176,19 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(erDto, HttpStatus.CONFLICT);
     }
 
+    /**
+     * Catches OptimisticLockingFailureException exception and produces response
+     *
+     * @return {@code ResponseEntity<Object>} response, contains message and HTTP status code
+     */
+    @ExceptionHandler(value = OptimisticLockingFailureException.class)
+    public ResponseEntity<Object> handleOptimisticLockingFailure() {
+        String errorMessage = "Resource was changed by another request, reload it and try again";
+        String errorCode = HttpStatus.CONFLICT.value() + "03";
+        ErrorResponseDto erDto = new ErrorResponseDto(errorMessage, errorCode);
+        return new ResponseEntity<>(erDto, HttpStatus.CONFLICT);
+    }
+
     /**
      * Catches AccessDeniedException exception and produces response
      *
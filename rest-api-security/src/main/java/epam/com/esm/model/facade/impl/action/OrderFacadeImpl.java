@@ -4,9 +4,17 @@ import epam.com.esm.model.facade.interfaces.entity.action.OrderFacade;
 import epam.com.esm.model.service.interfaces.entity.action.OrderService;
 import epam.com.esm.persistence.entity.impl.action.Order;
 import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
+import epam.com.esm.utils.batch.facade.DtoBatchItem;
+import epam.com.esm.utils.converters.dto.custom.DtoBatchItemConverter;
+import epam.com.esm.utils.export.ExportColumns;
+import epam.com.esm.utils.export.ExportFormat;
+import epam.com.esm.utils.export.writers.AbstractRowWriter;
+import epam.com.esm.utils.hateoas.wrappers.WrappedCollection;
 import epam.com.esm.utils.search.data.AbstractDataHandler;
 import epam.com.esm.utils.search.data.impl.action.OrderUserDataHandler;
 import epam.com.esm.utils.search.data.impl.products.GiftCertificateDataHandler;
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
+import epam.com.esm.utils.search.transport.request.SearchParamRequest;
 import epam.com.esm.utils.search.transport.response.PageDataResponse;
 import epam.com.esm.utils.verifiers.action.OrderDtoVerifier;
 import epam.com.esm.view.dto.request.impl.action.OrderDtoRequest;
@@ -15,6 +23,11 @@ import epam.com.esm.view.dto.response.impl.products.GiftCertificateDtoResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static epam.com.esm.utils.converters.dto.action.OrderUserDtoConverter.toDto;
 
@@ -37,15 +50,23 @@ public class OrderFacadeImpl implements OrderFacade {
     private final OrderDtoVerifier orderDtoVerifier;
 
     /**
-     * Constructs OrderFacadeImpl with OrderService and OrderDtoVerifier objects
+     * Holds FilterMetadataRegistry object
+     */
+    private final FilterMetadataRegistry registry;
+
+    /**
+     * Constructs OrderFacadeImpl with OrderService, OrderDtoVerifier and FilterMetadataRegistry objects
      *
      * @param orderService service, provides logic operations for orders
      * @param orderDtoVerifier service, provides validations operations for orders
+     * @param registry service, holds filter metadata of entities
      */
     @Autowired
-    public OrderFacadeImpl(OrderService orderService, OrderDtoVerifier orderDtoVerifier) {
+    public OrderFacadeImpl(OrderService orderService, OrderDtoVerifier orderDtoVerifier,
+                           FilterMetadataRegistry registry) {
         this.orderService = orderService;
         this.orderDtoVerifier = orderDtoVerifier;
+        this.registry = registry;
     }
 
     /**
@@ -92,7 +113,7 @@ public class OrderFacadeImpl implements OrderFacade {
      */
     @Override
     public PageDataResponse<OrderUserDtoResponse> findAll(WebRequest webRequest) {
-        AbstractDataHandler<Order, OrderUserDtoResponse> adh = new OrderUserDataHandler();
+        AbstractDataHandler<Order, OrderUserDtoResponse> adh = new OrderUserDataHandler(registry);
         return adh.processOutput(orderService.findAll(adh.processSearch(webRequest)));
     }
 
@@ -107,7 +128,41 @@ public class OrderFacadeImpl implements OrderFacade {
      */
     @Override
     public PageDataResponse<GiftCertificateDtoResponse> findGiftCertificates(Long orderId, WebRequest webRequest) {
-        AbstractDataHandler<GiftCertificate, GiftCertificateDtoResponse> adh = new GiftCertificateDataHandler();
+        AbstractDataHandler<GiftCertificate, GiftCertificateDtoResponse> adh = new GiftCertificateDataHandler(registry);
         return adh.processOutput(orderService.findGiftCertificates(orderId, adh.processSearch(webRequest)));
     }
+
+    /**
+     * Consumes dto requests, validates each of them and produces wrapped collection with results of batch items
+     * processing
+     *
+     * @param dtos requested objects, hold orders requested values
+     * @return {@code WrappedCollection<DtoBatchItem>} object, holds results of batch items processing
+     */
+    @Override
+    public WrappedCollection<DtoBatchItem> createAll(List<OrderDtoRequest> dtos) {
+        return new WrappedCollection<>(orderService.createAll(orderDtoVerifier.verifyBatch(dtos, true))
+                                                   .stream()
+                                                   .map(DtoBatchItemConverter::toDto)
+                                                   .collect(Collectors.toCollection(ArrayList::new)));
+    }
+
+    /**
+     * Consumes web request, parses its URL request params and produces response body, which writes orders found by
+     * them in requested format row by row
+     *
+     * @param webRequest requested object, contains URL params
+     * @param format requested export format
+     * @return {@code StreamingResponseBody} response body, writes exported orders
+     */
+    @Override
+    public StreamingResponseBody export(WebRequest webRequest, ExportFormat format) {
+        SearchParamRequest spReq = new OrderUserDataHandler(registry).processSearch(webRequest);
+
+        return out -> {
+            try (AbstractRowWriter<Order> writer = format.open(out, ExportColumns.ORDER)) {
+                orderService.export(spReq, writer::write);
+            }
+        };
+    }
 }
\ No newline at end of file
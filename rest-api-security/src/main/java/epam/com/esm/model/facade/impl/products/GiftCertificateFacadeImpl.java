@@ -1,14 +1,26 @@
 package epam.com.esm.model.facade.impl.products;
 
 import epam.com.esm.model.facade.interfaces.entity.products.GiftCertificateFacade;
+import epam.com.esm.exception.types.OperationFailedException;
+import epam.com.esm.model.service.impl.products.CatalogImportService;
 import epam.com.esm.model.service.interfaces.entity.products.GiftCertificateService;
 import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
 import epam.com.esm.persistence.entity.impl.products.Tag;
+import epam.com.esm.utils.export.ExportColumns;
+import epam.com.esm.utils.export.ExportFormat;
+import epam.com.esm.utils.export.writers.AbstractRowWriter;
+import epam.com.esm.utils.imports.ImportFormat;
+import epam.com.esm.utils.imports.ImportMode;
+import epam.com.esm.utils.imports.ImportReport;
+import epam.com.esm.utils.imports.readers.AbstractRowReader;
 import epam.com.esm.utils.search.data.AbstractDataHandler;
 import epam.com.esm.utils.search.data.impl.products.GiftCertificateDataHandler;
 import epam.com.esm.utils.search.data.impl.products.TagDataHandler;
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
+import epam.com.esm.utils.search.transport.request.SearchParamRequest;
 import epam.com.esm.utils.search.transport.response.PageDataResponse;
 import epam.com.esm.utils.verifiers.products.GiftCertificateDtoVerifier;
+import epam.com.esm.utils.versions.VersionStamp;
 import epam.com.esm.view.dto.request.impl.products.GiftCertificateDtoRequest;
 import epam.com.esm.view.dto.request.impl.products.GiftCertificateTagsDtoRequest;
 import epam.com.esm.view.dto.response.impl.products.GiftCertificateDtoResponse;
@@ -16,6 +28,10 @@ import epam.com.esm.view.dto.response.impl.products.TagDtoResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
 
 import static epam.com.esm.utils.converters.dto.products.GiftCertificateDtoConverter.toDto;
 
@@ -38,15 +54,31 @@ public class GiftCertificateFacadeImpl implements GiftCertificateFacade {
     private final GiftCertificateDtoVerifier gcDtoVerifier;
 
     /**
-     * Constructs GiftCertificateFacadeImpl with GiftCertificateService and GiftCertificateDtoVerifier objects
+     * Holds CatalogImportService object
+     */
+    private final CatalogImportService importService;
+
+    /**
+     * Holds FilterMetadataRegistry object
+     */
+    private final FilterMetadataRegistry registry;
+
+    /**
+     * Constructs GiftCertificateFacadeImpl with GiftCertificateService, GiftCertificateDtoVerifier,
+     * CatalogImportService and FilterMetadataRegistry objects
      *
      * @param gcService service, provides logic operations for gift certificates
      * @param gcDtoVerifier service, provides validations operations for gift certificates
+     * @param importService service, provides import operation for gift certificates
+     * @param registry service, holds filter metadata of entities
      */
     @Autowired
-    public GiftCertificateFacadeImpl(GiftCertificateService gcService, GiftCertificateDtoVerifier gcDtoVerifier) {
+    public GiftCertificateFacadeImpl(GiftCertificateService gcService, GiftCertificateDtoVerifier gcDtoVerifier,
+                                     CatalogImportService importService, FilterMetadataRegistry registry) {
         this.gcService = gcService;
         this.gcDtoVerifier = gcDtoVerifier;
+        this.importService = importService;
+        this.registry = registry;
     }
 
     /**
@@ -104,7 +136,7 @@ public class GiftCertificateFacadeImpl implements GiftCertificateFacade {
      */
     @Override
     public PageDataResponse<GiftCertificateDtoResponse> findAll(WebRequest webRequest) {
-        AbstractDataHandler<GiftCertificate, GiftCertificateDtoResponse> adh = new GiftCertificateDataHandler();
+        AbstractDataHandler<GiftCertificate, GiftCertificateDtoResponse> adh = new GiftCertificateDataHandler(registry);
         return adh.processOutput(gcService.findAll(adh.processSearch(webRequest)));
     }
 
@@ -118,7 +150,7 @@ public class GiftCertificateFacadeImpl implements GiftCertificateFacade {
      */
     @Override
     public PageDataResponse<GiftCertificateDtoResponse> findAllTagged(WebRequest webRequest) {
-        AbstractDataHandler<GiftCertificate, GiftCertificateDtoResponse> adh = new GiftCertificateDataHandler();
+        AbstractDataHandler<GiftCertificate, GiftCertificateDtoResponse> adh = new GiftCertificateDataHandler(registry);
         return adh.processOutput(gcService.findAllTagged(adh.processSearch(webRequest)));
     }
 
@@ -132,10 +164,48 @@ public class GiftCertificateFacadeImpl implements GiftCertificateFacade {
      */
     @Override
     public PageDataResponse<GiftCertificateDtoResponse> findAllNotTagged(WebRequest webRequest) {
-        AbstractDataHandler<GiftCertificate, GiftCertificateDtoResponse> adh = new GiftCertificateDataHandler();
+        AbstractDataHandler<GiftCertificate, GiftCertificateDtoResponse> adh = new GiftCertificateDataHandler(registry);
         return adh.processOutput(gcService.findAllNotTagged(adh.processSearch(webRequest)));
     }
 
+    /**
+     * Consumes web request, parses its URL request params and produces response body, which writes gift certificates
+     * found by them in requested format row by row
+     *
+     * @param webRequest requested object, contains URL params
+     * @param format requested export format
+     * @return {@code StreamingResponseBody} response body, writes exported gift certificates
+     */
+    @Override
+    public StreamingResponseBody export(WebRequest webRequest, ExportFormat format) {
+        SearchParamRequest spReq = new GiftCertificateDataHandler(registry).processSearch(webRequest);
+
+        return out -> {
+            try (AbstractRowWriter<GiftCertificate> writer = format.open(out, ExportColumns.GIFT_CERTIFICATE)) {
+                gcService.export(spReq, writer::write);
+            }
+        };
+    }
+
+    /**
+     * Consumes input stream of imported file, reads it row by row in requested format, validates each row as
+     * created gift certificate and produces import report as the result of import
+     * Will throw OperationFailedException if file can't be closed
+     *
+     * @param in requested input stream, holds imported file
+     * @param format requested import format
+     * @param mode requested import mode
+     * @return {@code ImportReport} import report
+     */
+    @Override
+    public ImportReport importCatalog(InputStream in, ImportFormat format, ImportMode mode) {
+        try (AbstractRowReader reader = format.open(in, gcDtoVerifier::verifyCreate)) {
+            return importService.importCatalog(reader, mode);
+        } catch (IOException e) {
+            throw new OperationFailedException("Import failed: " + e.getMessage());
+        }
+    }
+
     /**
      * Consumes web request and gift certificate id parameter value, finds by its URL request params tags of significant
      * gift certificate and produces page data response as the result of search
@@ -146,7 +216,7 @@ public class GiftCertificateFacadeImpl implements GiftCertificateFacade {
      */
     @Override
     public PageDataResponse<TagDtoResponse> findTags(Long gCertId, WebRequest webRequest) {
-        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler();
+        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler(registry);
         return adh.processOutput(gcService.findTags(gCertId, adh.processSearch(webRequest)));
     }
 
@@ -175,4 +245,26 @@ public class GiftCertificateFacadeImpl implements GiftCertificateFacade {
     public GiftCertificateDtoResponse deleteTags(Long id, GiftCertificateTagsDtoRequest dto) {
         return toDto(gcService.deleteTags(gcDtoVerifier.verifyTagsChanges(dto, gcService.findById(id))), true);
     }
+
+    /**
+     * Consumes id parameter value and produces versions of gift certificate if gift certificate was found
+     *
+     * @param id requested parameter value, holds gift certificate id value
+     * @return {@code VersionStamp} versions of gift certificate and its linked entities
+     */
+    @Override
+    public VersionStamp findVersion(Long id) {
+        return gcService.findVersion(id);
+    }
+
+    /**
+     * Consumes web request and produces versions of gift certificates found by its URL request params
+     *
+     * @param webRequest requested object, contains URL params
+     * @return {@code VersionStamp} versions of found gift certificates and their linked entities
+     */
+    @Override
+    public VersionStamp findAllVersion(WebRequest webRequest) {
+        return gcService.findAllVersion(new GiftCertificateDataHandler(registry).processSearch(webRequest));
+    }
 }
\ No newline at end of file
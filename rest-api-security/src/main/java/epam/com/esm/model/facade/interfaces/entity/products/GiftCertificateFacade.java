@@ -1,12 +1,20 @@
 package epam.com.esm.model.facade.interfaces.entity.products;
 
 import epam.com.esm.model.facade.interfaces.base.CrudFacade;
+import epam.com.esm.utils.export.ExportFormat;
+import epam.com.esm.utils.imports.ImportFormat;
+import epam.com.esm.utils.imports.ImportMode;
+import epam.com.esm.utils.imports.ImportReport;
 import epam.com.esm.utils.search.transport.response.PageDataResponse;
+import epam.com.esm.utils.versions.VersionStamp;
 import epam.com.esm.view.dto.request.impl.products.GiftCertificateDtoRequest;
 import epam.com.esm.view.dto.request.impl.products.GiftCertificateTagsDtoRequest;
 import epam.com.esm.view.dto.response.impl.products.GiftCertificateDtoResponse;
 import epam.com.esm.view.dto.response.impl.products.TagDtoResponse;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
 
 /**
  * GiftCertificateFacade is the interface that delegates CRUD contracts from ancestors and specific operations for
@@ -32,6 +40,26 @@ public interface GiftCertificateFacade extends CrudFacade<GiftCertificateDtoRequ
      */
     PageDataResponse<GiftCertificateDtoResponse> findAllNotTagged(WebRequest webRequest);
 
+    /**
+     * Contract for producing response body, which streams gift certificates found by requested search params in
+     * requested format
+     *
+     * @param webRequest requested object, contains URL params
+     * @param format requested export format
+     * @return {@code StreamingResponseBody} response body, writes exported gift certificates
+     */
+    StreamingResponseBody export(WebRequest webRequest, ExportFormat format);
+
+    /**
+     * Contract for importing gift certificates from file in requested format and producing ImportReport as the result
+     *
+     * @param in requested input stream, holds imported file
+     * @param format requested import format
+     * @param mode requested import mode
+     * @return {@code ImportReport} import report
+     */
+    ImportReport importCatalog(InputStream in, ImportFormat format, ImportMode mode);
+
     /**
      * Contract for finding tags and producing PageDataResponse as the result
      *
@@ -57,4 +85,20 @@ public interface GiftCertificateFacade extends CrudFacade<GiftCertificateDtoRequ
      * @return {@code GiftCertificateDtoResponse} response object
      */
     GiftCertificateDtoResponse deleteTags(Long id, GiftCertificateTagsDtoRequest dto);
+
+    /**
+     * Contract for finding versions of gift certificate and producing VersionStamp as the result
+     *
+     * @param id requested parameter, holds requested gift certificate id value
+     * @return {@code VersionStamp} versions of gift certificate and its linked entities
+     */
+    VersionStamp findVersion(Long id);
+
+    /**
+     * Contract for finding versions of gift certificates by URL params and producing VersionStamp as the result
+     *
+     * @param webRequest requested object, contains URL params
+     * @return {@code VersionStamp} versions of found gift certificates and their linked entities
+     */
+    VersionStamp findAllVersion(WebRequest webRequest);
 }
\ No newline at end of file
@@ -3,18 +3,21 @@ package epam.com.esm.model.service.impl.products;
 import epam.com.esm.exception.types.AlreadyExistsException;
 import epam.com.esm.exception.types.NotFoundException;
 import epam.com.esm.model.service.interfaces.entity.products.TagService;
+import epam.com.esm.persistence.cache.CatalogCacheEvictor;
 import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
 import epam.com.esm.persistence.entity.impl.products.Tag;
 import epam.com.esm.persistence.repository.BaseRepository;
 import epam.com.esm.persistence.repository.crud.BaseCrudRepository;
 import epam.com.esm.persistence.repository.impl.products.GiftCertificateRepository;
 import epam.com.esm.persistence.repository.impl.products.TagRepository;
+import epam.com.esm.persistence.repository.version.VersionRepository;
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
 import epam.com.esm.utils.search.request.builders.SpecificationFilter;
 import epam.com.esm.utils.search.request.builders.SpecificationUtil;
 import epam.com.esm.utils.search.transport.request.SearchParamRequest;
 import epam.com.esm.utils.search.transport.response.SearchParamResponse;
+import epam.com.esm.utils.versions.VersionStamp;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
@@ -26,7 +29,7 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import static epam.com.esm.utils.search.request.handlers.ResponseHandler.initResponse;
+import static epam.com.esm.utils.search.request.handlers.PageHandler.findPage;
 
 /**
  * TagServiceImpl class is the service class and implementor of TagService interface.
@@ -51,19 +54,44 @@ public class TagServiceImpl implements TagService {
     private final BaseCrudRepository<Tag, BaseRepository<Tag>> baseRepo;
 
     /**
-     * Constructs TagServiceImpl with TagRepository, GiftCertificateRepository and BaseCrudRepository objects
+     * Holds CatalogCacheEvictor object
+     */
+    private final CatalogCacheEvictor cacheEvictor;
+
+    /**
+     * Holds VersionRepository object
+     */
+    private final VersionRepository versionRepo;
+
+    /**
+     * Holds FilterMetadataRegistry object
+     */
+    private final FilterMetadataRegistry registry;
+
+    /**
+     * Constructs TagServiceImpl with TagRepository, GiftCertificateRepository, BaseCrudRepository,
+     * CatalogCacheEvictor, VersionRepository and FilterMetadataRegistry objects
      *
-     * @param tRepo    repository, provides jpa operations for tag
-     * @param gcRepo   repository, provides jpa operations for gift certificate
-     * @param baseRepo service, provides jpa crud operations
+     * @param tRepo        repository, provides jpa operations for tag
+     * @param gcRepo       repository, provides jpa operations for gift certificate
+     * @param baseRepo     service, provides jpa crud operations
+     * @param cacheEvictor component, evicts cached gift certificate and tag collections
+     * @param versionRepo  repository, provides version probes of found entities
+     * @param registry     service, holds filter metadata of entities
      */
     @Autowired
     public TagServiceImpl(TagRepository tRepo,
                           GiftCertificateRepository gcRepo,
-                          BaseCrudRepository<Tag, BaseRepository<Tag>> baseRepo) {
+                          BaseCrudRepository<Tag, BaseRepository<Tag>> baseRepo,
+                          CatalogCacheEvictor cacheEvictor,
+                          VersionRepository versionRepo,
+                          FilterMetadataRegistry registry) {
         this.tRepo = tRepo;
         this.gcRepo = gcRepo;
         this.baseRepo = baseRepo;
+        this.cacheEvictor = cacheEvictor;
+        this.versionRepo = versionRepo;
+        this.registry = registry;
     }
 
     /**
@@ -78,6 +106,7 @@ public class TagServiceImpl implements TagService {
     public Tag create(Tag tag) {
         checkNameExistence(tag);
         refineTag(tag);
+        cacheEvictor.evictGiftCertificateTags(giftCertificateIds(tag));
         return baseRepo.create(tRepo, tag);
     }
 
@@ -107,6 +136,7 @@ public class TagServiceImpl implements TagService {
     @Transactional(isolation = Isolation.REPEATABLE_READ)
     public Tag delete(Long id) {
         checkIdExistence(id);
+        cacheEvictor.evictGiftCertificateTags();
         return baseRepo.delete(tRepo, id);
     }
 
@@ -122,6 +152,40 @@ public class TagServiceImpl implements TagService {
         return baseRepo.findAll(tRepo, spReq, Tag.class, GiftCertificate.class);
     }
 
+    /**
+     * Finds versions of tag and its gift certificates
+     *
+     * @param id requested parameter value, holds tag id value
+     * @return {@code VersionStamp} versions of tag and its gift certificates
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public VersionStamp findVersion(Long id) {
+        SpecificationUtil<Tag> util = new SpecificationUtil<>();
+        VersionStamp stamp = versionRepo.probe(Tag.class, util.idEquals(id, "id"), "giftCertificates");
+
+        if (stamp.getFound() == 0) {
+            throw new NotFoundException("Tag with (id = " + id + ") not found");
+        }
+
+        return stamp;
+    }
+
+    /**
+     * Finds versions of all tags and their gift certificates
+     *
+     * @param spReq object, holds requested params for search
+     * @return {@code VersionStamp} versions of found tags and their gift certificates
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public VersionStamp findAllVersion(SearchParamRequest spReq) {
+        SpecificationFilter<Tag> filterSpecs = new SpecificationFilter<>(
+                registry, spReq, Tag.class, GiftCertificate.class
+        );
+        return versionRepo.probe(Tag.class, filterSpecs, "giftCertificates");
+    }
+
     /**
      * Finds all tags with gift certificates
      *
@@ -132,15 +196,13 @@ public class TagServiceImpl implements TagService {
     @Override
     @Transactional(readOnly = true)
     public SearchParamResponse<Tag> findAllCertificated(SearchParamRequest spReq) {
-        SpecificationFilter<Tag> filterSpecs = new SpecificationFilter<>(spReq, Tag.class, GiftCertificate.class);
+        SpecificationFilter<Tag> filterSpecs = new SpecificationFilter<>(
+                registry, spReq, Tag.class, GiftCertificate.class
+        );
         SpecificationUtil<Tag> util = new SpecificationUtil<>();
         Specification<Tag> spec = util.notNullByParam("giftCertificates", "id", Long.class).and(filterSpecs);
-        PageRequest pageRequest = PageRequest.of(spReq.getPage(), spReq.getSize());
-
-        int total = tRepo.findAll(spec).size();
-        List<Tag> tags = tRepo.findAll(spec, pageRequest).getContent();
 
-        return initResponse(spReq, total, tags);
+        return findPage(tRepo, spec, spReq);
     }
 
     /**
@@ -153,15 +215,13 @@ public class TagServiceImpl implements TagService {
     @Override
     @Transactional(readOnly = true)
     public SearchParamResponse<Tag> findAllNotCertificated(SearchParamRequest spReq) {
-        SpecificationFilter<Tag> filterSpecs = new SpecificationFilter<>(spReq, Tag.class, GiftCertificate.class);
+        SpecificationFilter<Tag> filterSpecs = new SpecificationFilter<>(
+                registry, spReq, Tag.class, GiftCertificate.class
+        );
         SpecificationUtil<Tag> util = new SpecificationUtil<>();
         Specification<Tag> spec = util.nullByParam("giftCertificates", "id", Long.class).and(filterSpecs);
-        PageRequest pageRequest = PageRequest.of(spReq.getPage(), spReq.getSize());
-
-        int total = tRepo.findAll(spec).size();
-        List<Tag> tags = tRepo.findAll(spec, pageRequest).getContent();
 
-        return initResponse(spReq, total, tags);
+        return findPage(tRepo, spec, spReq);
     }
 
     /**
@@ -178,16 +238,12 @@ public class TagServiceImpl implements TagService {
         checkIdExistence(tagId);
 
         SpecificationFilter<GiftCertificate> filterSpecs = new SpecificationFilter<>(
-                spReq, GiftCertificate.class, Tag.class
+                registry, spReq, GiftCertificate.class, Tag.class
         );
         SpecificationUtil<GiftCertificate> util = new SpecificationUtil<>();
         Specification<GiftCertificate> spec = util.idJoinEquals(tagId, "tags", "id").and(filterSpecs);
-        PageRequest pageRequest = PageRequest.of(spReq.getPage(), spReq.getSize());
-
-        int total = gcRepo.findAll(spec).size();
-        List<GiftCertificate> gCerts = gcRepo.findAll(spec, pageRequest).getContent();
 
-        return initResponse(spReq, total, gCerts);
+        return findPage(gcRepo, spec, spReq);
     }
 
     /**
@@ -202,6 +258,7 @@ public class TagServiceImpl implements TagService {
         checkIdExistence(tag.getId());
         refineTag(tag);
         tag.getGiftCertificates().forEach(addGiftCertificate(tag));
+        cacheEvictor.evictGiftCertificateTags(giftCertificateIds(tag));
         return getTag(tag.getId());
     }
 
@@ -217,6 +274,7 @@ public class TagServiceImpl implements TagService {
         checkIdExistence(tag.getId());
         refineTag(tag);
         tag.getGiftCertificates().forEach(deleteGiftCertificate(tag));
+        cacheEvictor.evictGiftCertificateTags(giftCertificateIds(tag));
         return getTag(tag.getId());
     }
 
@@ -233,6 +291,20 @@ public class TagServiceImpl implements TagService {
         }
     }
 
+    /**
+     * Supplementary method, collects ids of tag gift certificates
+     *
+     * @param tag requested tag
+     * @return {@code List<Long>} gift certificate ids, empty if tag has no gift certificates
+     */
+    private List<Long> giftCertificateIds(Tag tag) {
+        if (tag.getGiftCertificates() == null) {
+            return new ArrayList<>();
+        }
+
+        return tag.getGiftCertificates().stream().map(GiftCertificate::getId).collect(Collectors.toList());
+    }
+
     /**
      * Function for refining gift certificate's missing values
      *
@@ -0,0 +1,146 @@
+package epam.com.esm.model.service.impl.purchase;
+
+import epam.com.esm.persistence.repository.impl.purchase.PurchaseDataRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * PurchaseExpiryService is the service class, incrementally expires active purchases which reached their end
+ * <p>
+ * Every run expires purchases ended between watermark and current time by bulk updates in bounded chunks,
+ * then moves watermark to current time, so each run touches only newly expired purchases
+ */
+@Service
+public class PurchaseExpiryService {
+
+    /**
+     * Holds initial watermark value, lower bound of first run after application start
+     */
+    private static final LocalDateTime INITIAL_WATERMARK = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    /**
+     * Holds PurchaseDataRepository object
+     */
+    private final PurchaseDataRepository pdRepo;
+
+    /**
+     * Holds max number of purchases expired by single update
+     */
+    private final int chunkSize;
+
+    /**
+     * Holds watermark value, end time up to which purchases were already expired
+     */
+    private volatile LocalDateTime watermark;
+
+    /**
+     * Holds total number of expired purchases
+     */
+    private final LongAdder expiredTotal;
+
+    /**
+     * Holds total number of runs
+     */
+    private final LongAdder runsTotal;
+
+    /**
+     * Holds number of purchases expired by last run
+     */
+    private volatile long lastRunExpired;
+
+    /**
+     * Holds duration of last run in milliseconds
+     */
+    private volatile long lastRunMillis;
+
+    /**
+     * Constructs PurchaseExpiryService with PurchaseDataRepository and chunk size
+     *
+     * @param pdRepo repository, provides jpa operations for purchase data
+     * @param chunkSize max number of purchases expired by single update
+     */
+    @Autowired
+    public PurchaseExpiryService(PurchaseDataRepository pdRepo,
+                                 @Value("${purchase.expiry.chunk-size}") int chunkSize) {
+        this.pdRepo = pdRepo;
+        this.chunkSize = chunkSize;
+        this.watermark = INITIAL_WATERMARK;
+        this.expiredTotal = new LongAdder();
+        this.runsTotal = new LongAdder();
+    }
+
+    /**
+     * Expires active purchases ended since last run
+     * Each chunk is updated in own transaction, so locks are held only for bounded number of rows
+     */
+    @Scheduled(fixedDelayString = "${purchase.expiry.delay}")
+    public void expire() {
+        long started = System.nanoTime();
+        LocalDateTime from = watermark;
+        LocalDateTime to = LocalDateTime.now();
+        long expired = 0;
+        int updated;
+
+        do {
+            updated = pdRepo.expireActive(from, to, chunkSize);
+            expired += updated;
+        } while (updated == chunkSize);
+
+        watermark = to;
+        expiredTotal.add(expired);
+        runsTotal.increment();
+        lastRunExpired = expired;
+        lastRunMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+    }
+
+    /**
+     * Gets value from watermark field
+     *
+     * @return {@code LocalDateTime} watermark value
+     */
+    public LocalDateTime getWatermark() {
+        return watermark;
+    }
+
+    /**
+     * Gets total number of expired purchases
+     *
+     * @return {@code long} total number of expired purchases
+     */
+    public long getExpiredTotal() {
+        return expiredTotal.sum();
+    }
+
+    /**
+     * Gets total number of runs
+     *
+     * @return {@code long} total number of runs
+     */
+    public long getRunsTotal() {
+        return runsTotal.sum();
+    }
+
+    /**
+     * Gets number of purchases expired by last run
+     *
+     * @return {@code long} number of purchases expired by last run
+     */
+    public long getLastRunExpired() {
+        return lastRunExpired;
+    }
+
+    /**
+     * Gets duration of last run in milliseconds
+     *
+     * @return {@code long} duration of last run in milliseconds
+     */
+    public long getLastRunMillis() {
+        return lastRunMillis;
+    }
+}
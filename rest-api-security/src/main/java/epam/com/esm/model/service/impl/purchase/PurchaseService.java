@@ -3,23 +3,27 @@ package epam.com.esm.model.service.impl.purchase;
 import epam.com.esm.exception.types.EmptyOrderException;
 import epam.com.esm.exception.types.InputException;
 import epam.com.esm.exception.types.NotFoundException;
+import epam.com.esm.persistence.cache.UserStatisticsCache;
 import epam.com.esm.persistence.entity.impl.action.Order;
 import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
 import epam.com.esm.persistence.entity.impl.purchase.PurchaseData;
 import epam.com.esm.persistence.entity.impl.purchase.type.Status;
+import epam.com.esm.persistence.entity.impl.user.User;
 import epam.com.esm.persistence.repository.impl.products.GiftCertificateRepository;
 import epam.com.esm.persistence.repository.impl.purchase.PurchaseDataRepository;
 import epam.com.esm.persistence.repository.impl.user.UserRepository;
-import org.springframework.scheduling.annotation.Scheduled;
+import epam.com.esm.utils.batch.service.ObjectBatchItem;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.function.Consumer;
-import java.util.function.Function;
-import java.util.function.Predicate;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -45,56 +49,150 @@ public class PurchaseService {
     private final PurchaseDataRepository pdRepo;
 
     /**
-     * Constructs PurchaseDataService with GiftCertificateRepository, PurchaseDataRepository and UserRepository objects
+     * Holds UserStatisticsCache object
+     */
+    private final UserStatisticsCache statisticsCache;
+
+    /**
+     * Constructs PurchaseDataService with GiftCertificateRepository, PurchaseDataRepository, UserRepository and
+     * UserStatisticsCache objects
      *
      * @param gcRepo repository, provides jpa operations for gift certificate
      * @param uRepo  repository, provides jpa operations for user
      * @param pdRepo repository, provides jpa operations for purchase data
+     * @param statisticsCache component, caches user tag statistics
      */
-    public PurchaseService(GiftCertificateRepository gcRepo, UserRepository uRepo, PurchaseDataRepository pdRepo) {
+    public PurchaseService(GiftCertificateRepository gcRepo, UserRepository uRepo, PurchaseDataRepository pdRepo,
+                           UserStatisticsCache statisticsCache) {
         this.gcRepo = gcRepo;
         this.uRepo = uRepo;
         this.pdRepo = pdRepo;
+        this.statisticsCache = statisticsCache;
     }
 
     /**
-     * Assembles order for user
+     * Assembles order for user, cached tag statistics of user are evicted
      *
      * @param o requested order
      */
     public void assembleOrder(Order o) {
         adjustUser(o);
         adjustOrder(o);
-        adjustCost(o);
         generatePurchaseData(o);
+        statisticsCache.evict(Collections.singletonList(o.getUser().getId()));
     }
 
     /**
-     * Checks if purchased gift certificate purchase is still active by delay
-     * If purchase isn't active anymore sets expired status on purchase
+     * Assembles orders of batch
+     * Users and gift certificates of all items are resolved by single query each, items with unknown user or
+     * gift certificates are rejected, purchase data of assembled orders is inserted by JDBC batches and cached tag
+     * statistics of their users are evicted
+     *
+     * @param items requested batch items, items rejected on verification are skipped
+     * @return {@code List<Order>} assembled orders, ready for insertion
      */
-    @Scheduled(fixedDelay = 5*60*1000)
-    public void changeStatus() {
-        pdRepo.findAll().stream().filter(filterExpired()).forEach(expire());
+    public List<Order> assembleOrders(List<ObjectBatchItem> items) {
+        List<ObjectBatchItem> pending = items.stream().filter(i -> !i.isRejected()).collect(Collectors.toList());
+        Map<String, User> users = resolveUsers(pending);
+        Map<String, GiftCertificate> found = resolveGiftCertificates(pending);
+        LocalDateTime purchaseDate = LocalDateTime.now();
+        List<Order> orders = new ArrayList<>(pending.size());
+        List<PurchaseData> purchaseData = new ArrayList<>();
+
+        for (ObjectBatchItem item : pending) {
+            Order order = item.getOrder();
+            User user = order.getUser().getId() == null ? users.get(order.getUser().getUsername()) : order.getUser();
+            List<String> missing = order.getGiftCertificates().stream().map(GiftCertificate::getName)
+                                        .filter(n -> !found.containsKey(n)).distinct().collect(Collectors.toList());
+
+            if (user == null) {
+                item.reject("User with (username = " + order.getUser().getUsername() + ") not found");
+            } else if (!missing.isEmpty()) {
+                item.reject("Gift Certificates with (names = " + missing + ") not found");
+            } else {
+                order.setUser(user);
+                order.setPurchaseDate(purchaseDate);
+                order.setGiftCertificates(
+                        order.getGiftCertificates().stream().map(gc -> found.get(gc.getName()))
+                                .collect(Collectors.toCollection(ArrayList::new))
+                );
+                adjustCost(order);
+                purchaseData.addAll(createPurchaseData(order));
+                orders.add(order);
+            }
+        }
+
+        pdRepo.batchInsert(purchaseData);
+        statisticsCache.evict(orders.stream().map(o -> o.getUser().getId()).collect(Collectors.toList()));
+        return orders;
     }
 
     /**
      * Generates purchase data for User and Gift Certificates
+     * Purchase data is inserted by JDBC batches, inverse collections of user and gift certificates aren't loaded
      *
      * @param order requested order
      */
     private void generatePurchaseData(Order order) {
+        pdRepo.batchInsert(createPurchaseData(order));
+    }
+
+    /**
+     * Creates purchase data for each gift certificate of order
+     *
+     * @param order requested order
+     * @return {@code List<PurchaseData>} created purchase data
+     */
+    private List<PurchaseData> createPurchaseData(Order order) {
+        List<PurchaseData> purchaseData = new ArrayList<>(order.getGiftCertificates().size());
+
         for (GiftCertificate gc: order.getGiftCertificates()) {
             PurchaseData pd = new PurchaseData();
             pd.setStart(order.getPurchaseDate());
             pd.setEnd(order.getPurchaseDate().plusDays(gc.getDuration()));
             pd.setStatus(Status.ACTIVE);
             pd.setGiftCertificate(gc);
-            gc.getPurchaseData().add(pd);
             pd.setUser(order.getUser());
-            order.getUser().getPurchaseData().add(pd);
-            pdRepo.save(pd);
+            purchaseData.add(pd);
         }
+
+        return purchaseData;
+    }
+
+    /**
+     * Supplementary method, resolves users of batch items by single query
+     * Only users without id are resolved, users with id are already loaded
+     *
+     * @param items provided batch items
+     * @return {@code Map<String, User>} found users by username
+     */
+    private Map<String, User> resolveUsers(List<ObjectBatchItem> items) {
+        Set<String> usernames = items.stream().map(i -> i.getOrder().getUser())
+                                     .filter(u -> u.getId() == null)
+                                     .map(User::getUsername)
+                                     .collect(Collectors.toSet());
+
+        return usernames.isEmpty()
+               ? Collections.emptyMap()
+               : uRepo.findAllByUsernameIn(usernames).stream()
+                      .collect(Collectors.toMap(User::getUsername, u -> u));
+    }
+
+    /**
+     * Supplementary method, resolves gift certificates of batch items by single query
+     *
+     * @param items provided batch items
+     * @return {@code Map<String, GiftCertificate>} found gift certificates by name
+     */
+    private Map<String, GiftCertificate> resolveGiftCertificates(List<ObjectBatchItem> items) {
+        Set<String> names = items.stream().flatMap(i -> i.getOrder().getGiftCertificates().stream())
+                                 .map(GiftCertificate::getName)
+                                 .collect(Collectors.toSet());
+
+        return names.isEmpty()
+               ? Collections.emptyMap()
+               : gcRepo.findAllByNameIn(names).stream()
+                       .collect(Collectors.toMap(GiftCertificate::getName, gc -> gc));
     }
 
     /**
@@ -104,9 +202,8 @@ public class PurchaseService {
      */
     private void adjustUser(Order order) {
         checkForNullUser(order);
-        checkForUserExistence(order);
         order.setUser(uRepo.findByUsername(order.getUser().getUsername()).orElseThrow(
-                () -> new NotFoundException("User with (name = " + order.getUser().getUsername() + ") not found")
+                () -> new NotFoundException("User with (username = " + order.getUser().getUsername() + ") not found")
         ));
     }
 
@@ -134,18 +231,6 @@ public class PurchaseService {
         }
     }
 
-    /**
-     * Supplementary method, checks user existence
-     * Will throw NotFoundException if user wasn't found
-     *
-     * @param order provided order object
-     */
-    private void checkForUserExistence(Order order) {
-        if (!uRepo.existsByUsername(order.getUser().getUsername())) {
-            throw new NotFoundException("User with (username = " + order.getUser().getUsername() + ") not found");
-        }
-    }
-
     /**
      * Supplementary method, checks order's gift certificates collection on nullity and emptiness
      * Will throw EmptyOrderException if collection is null or empty
@@ -160,52 +245,49 @@ public class PurchaseService {
 
     /**
      * Supplementary method, adjusts gift certificates for order in methods where full order object is required
+     * All requested gift certificates are resolved by single query, all missing names are reported together
+     * Will throw NotFoundException if any of gift certificates wasn't found
      *
      * @param order provided order object
      */
     private void adjustGiftCertificates(Order order) {
+        order.getGiftCertificates().forEach(this::checkForNullGiftCertificate);
+        Set<String> names = order.getGiftCertificates().stream()
+                                 .map(GiftCertificate::getName)
+                                 .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<String, GiftCertificate> found = gcRepo.findAllByNameIn(names).stream()
+                                                   .collect(Collectors.toMap(GiftCertificate::getName, gc -> gc));
+        checkForGiftCertificatesExistence(names, found);
         order.setGiftCertificates(
-                order.getGiftCertificates().stream().map(refineGiftCertificate())
+                order.getGiftCertificates().stream().map(gc -> found.get(gc.getName()))
                         .collect(Collectors.toCollection(ArrayList::new))
         );
     }
 
-    /**
-     * Supplementary method, converts requested gift certificate with partial values to full object
-     *
-     * @return {@code Function<GiftCertificate, GiftCertificate>} function for converting
-     */
-    private Function<GiftCertificate, GiftCertificate> refineGiftCertificate() {
-        return gc -> {
-            checkForNullGiftCertificate(gc);
-            checkForGiftCertificateExistence(gc);
-            return gcRepo.findByName(gc.getName()).orElseThrow(
-                    () -> new NotFoundException("Gift Certificate with (name = " + gc.getName() + " not found")
-            );
-        };
-    }
-
     /**
      * Supplementary method, checks gift certificate for nullity
-     * Will throw InputException if user in order is null
+     * Will throw InputException if gift certificate or its name is null
      *
      * @param giftCertificate provided gift certificate object
      */
     private void checkForNullGiftCertificate(GiftCertificate giftCertificate) {
-        if (giftCertificate == null) {
+        if (giftCertificate == null || giftCertificate.getName() == null) {
             throw new InputException("Response failed due unexpected input");
         }
     }
 
     /**
-     * Supplementary method, checks gift certificate existence
-     * Will throw NotFoundException if gift certificate wasn't found
+     * Supplementary method, checks gift certificates existence
+     * Will throw NotFoundException with all missing names if any of gift certificates wasn't found
      *
-     * @param giftCertificate provided gift certificate object
+     * @param names requested gift certificate names
+     * @param found found gift certificates by name
      */
-    private void checkForGiftCertificateExistence(GiftCertificate giftCertificate) {
-        if (!gcRepo.existsByName(giftCertificate.getName())) {
-            throw new NotFoundException("Gift Certificate with (name = " + giftCertificate.getName() + ") not found");
+    private void checkForGiftCertificatesExistence(Set<String> names, Map<String, GiftCertificate> found) {
+        List<String> missing = names.stream().filter(n -> !found.containsKey(n)).collect(Collectors.toList());
+
+        if (!missing.isEmpty()) {
+            throw new NotFoundException("Gift Certificates with (names = " + missing + ") not found");
         }
     }
 
@@ -220,25 +302,4 @@ public class PurchaseService {
                         .reduce(BigDecimal.ZERO, BigDecimal::add)
         );
     }
-
-    /**
-     * Filters expired purchases
-     *
-     * @return {@code Predicate<PurchaseData>} condition for expiration setting
-     */
-    private Predicate<PurchaseData> filterExpired()  {
-        return pd -> LocalDateTime.now().isAfter(pd.getEnd()) && pd.getStatus().equals(Status.ACTIVE);
-    }
-
-    /**
-     * Sets expired status for purchase
-     *
-     * @return {@code Consumer<PurchaseData>} function for setting expiration status
-     */
-    private Consumer<PurchaseData> expire() {
-        return pd -> {
-            pd.setStatus(Status.EXPIRED);
-            pdRepo.save(pd);
-        };
-    }
 }
\ No newline at end of file
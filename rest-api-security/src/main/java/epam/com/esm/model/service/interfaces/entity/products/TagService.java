@@ -5,6 +5,7 @@ import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
 import epam.com.esm.persistence.entity.impl.products.Tag;
 import epam.com.esm.utils.search.transport.request.SearchParamRequest;
 import epam.com.esm.utils.search.transport.response.SearchParamResponse;
+import epam.com.esm.utils.versions.VersionStamp;
 
 /**
  * TagService is the interface that delegates CRUD contracts from ancestors and specific operations for
@@ -55,4 +56,20 @@ public interface TagService extends CrdService<Tag, Long> {
      * @return {@code Tag} tag with added gift certificates
      */
     Tag deleteGiftCertificates(Tag tag);
+
+    /**
+     * Contract for producing VersionStamp object of tag and its gift certificates by provided id parameter value
+     *
+     * @param tagId requested parameter value, holds id value
+     * @return {@code VersionStamp} versions of tag and its gift certificates
+     */
+    VersionStamp findVersion(Long tagId);
+
+    /**
+     * Contract for producing VersionStamp object of tags and their gift certificates found by requested search params
+     *
+     * @param searchParamRequest requested object, holds search params values
+     * @return {@code VersionStamp} versions of found tags and their gift certificates
+     */
+    VersionStamp findAllVersion(SearchParamRequest searchParamRequest);
 }
\ No newline at end of file
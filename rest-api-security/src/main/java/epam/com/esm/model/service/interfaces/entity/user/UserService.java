@@ -5,11 +5,14 @@ import epam.com.esm.persistence.entity.impl.action.Order;
 import epam.com.esm.persistence.entity.impl.products.Tag;
 import epam.com.esm.persistence.entity.impl.purchase.PurchaseData;
 import epam.com.esm.persistence.entity.impl.user.User;
+import epam.com.esm.utils.batch.service.ObjectBatchItem;
+import epam.com.esm.utils.dashboard.service.ObjectUserDashboard;
 import epam.com.esm.utils.search.transport.request.SearchParamRequest;
 import epam.com.esm.utils.search.transport.response.SearchParamResponse;
 import epam.com.esm.utils.statistics.service.ObjectDataTag;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * UserService is the interface that delegates CRUD contracts from ancestors and specific operations for
@@ -26,6 +29,15 @@ public interface UserService extends CrudService<User, Long> {
      */
     User makeOrder(Long userId, Order order);
 
+    /**
+     * Contract for making orders by batch
+     *
+     * @param userId requested parameter value, holds id value
+     * @param items objects, hold requested orders and their positions in batch
+     * @return {@code List<ObjectBatchItem>} results of batch items processing
+     */
+    List<ObjectBatchItem> makeOrders(Long userId, List<ObjectBatchItem> items);
+
     /**
      * Contract for producing SearchParamResponse object with found orders by requested search params
      * and provided id parameter value
@@ -46,6 +58,17 @@ public interface UserService extends CrudService<User, Long> {
      */
     SearchParamResponse<PurchaseData> findPurchases(SearchParamRequest searchParamRequest, Long userId);
 
+    /**
+     * Contract for passing purchase data found by requested search params and provided id parameter value to
+     * consumer one by one
+     *
+     * @param searchParamRequest requested object, holds search params values
+     * @param userId requested parameter value, holds id value
+     * @param consumer provided consumer of found purchase data
+     * @return {@code long} number of exported purchase data
+     */
+    long exportPurchases(SearchParamRequest searchParamRequest, Long userId, Consumer<PurchaseData> consumer);
+
     /**
      * Contract for producing SearchParamResponse object with found tags by requested search params
      * and provided id parameter value
@@ -71,4 +94,16 @@ public interface UserService extends CrudService<User, Long> {
      * @return {@code List<ObjectDataTag>} found max popular tags
      */
     List<ObjectDataTag> findTagsWithMaxCount(Long userId);
+
+    /**
+     * Contract for finding first pages of user's orders, purchase data, tags and tags by popularity
+     *
+     * @param userId requested parameter value, holds id value
+     * @param ordersRequest requested object, holds search params values for orders
+     * @param purchasesRequest requested object, holds search params values for purchase data
+     * @param tagsRequest requested object, holds search params values for tags
+     * @return {@code ObjectUserDashboard} found items
+     */
+    ObjectUserDashboard findDashboard(Long userId, SearchParamRequest ordersRequest,
+                                      SearchParamRequest purchasesRequest, SearchParamRequest tagsRequest);
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.MappedSuperclass;
+import javax.persistence.Version;
 import java.util.Objects;
 
 /**
@@ -19,6 +20,13 @@ public abstract class BaseEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    /**
+     * Holds version value, incremented by every update of entity, so stale updates are rejected and entity tags of
+     * responses are changed
+     */
+    @Version
+    private Long version;
+
     /**
      * Default constructor
      */
@@ -42,6 +50,24 @@ public abstract class BaseEntity {
         this.id = id;
     }
 
+    /**
+     * Gets value from version field
+     *
+     * @return {@code Long} version value
+     */
+    public Long getVersion() {
+        return version;
+    }
+
+    /**
+     * Sets new value to version field
+     *
+     * @param version value for setting
+     */
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     /**
      * Compares source object and target object for equality
      *
@@ -19,7 +19,8 @@ import java.util.Objects;
  */
 @Entity
 @Audited
-@Table(name = "orders")
+@Table(name = "orders",
+       indexes = @Index(name = "idx_orders_purchase_date", columnList = "purchase_date"))
 @FilterPrefix(prefix = "o.")
 public class Order extends BaseEntity {
 
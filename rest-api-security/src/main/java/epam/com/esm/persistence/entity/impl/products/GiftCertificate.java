@@ -1,12 +1,15 @@
 package epam.com.esm.persistence.entity.impl.products;
 
+import epam.com.esm.config.cache.CacheRegions;
 import epam.com.esm.persistence.entity.BaseEntity;
 import epam.com.esm.persistence.entity.impl.action.Order;
 import epam.com.esm.persistence.entity.impl.purchase.PurchaseData;
-import epam.com.esm.utils.converters.date.IsoDateConverter;
 import epam.com.esm.utils.search.filter.annotations.FilterObject;
 import epam.com.esm.utils.search.filter.annotations.FilterParameter;
 import epam.com.esm.utils.search.filter.annotations.FilterPrefix;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.OptimisticLock;
 import org.hibernate.envers.Audited;
 
 import javax.persistence.*;
@@ -20,7 +23,10 @@ import java.util.Objects;
  */
 @Entity
 @Audited
-@Table(name = "gift_certificate")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.GIFT_CERTIFICATE)
+@Table(name = "gift_certificate",
+       indexes = {@Index(name = "idx_gift_certificate_create_date", columnList = "create_date"),
+                  @Index(name = "idx_gift_certificate_last_update_date", columnList = "last_update_date")})
 @FilterPrefix(prefix = "gc.")
 public class GiftCertificate extends BaseEntity {
 
@@ -29,7 +35,8 @@ public class GiftCertificate extends BaseEntity {
      */
     @Column(name = "name")
     @FilterParameter(fieldName = "name",
-                     alias = {"gc.name", "gcName", "giftCertificateName"})
+                     alias = {"gc.name", "gcName", "giftCertificateName"},
+                     fullText = true)
     private String name;
 
     /**
@@ -37,7 +44,8 @@ public class GiftCertificate extends BaseEntity {
      */
     @Column(name = "description")
     @FilterParameter(fieldName = "description",
-                     alias = {"gc.description", "gcDescription", "giftCertificateDescription", "description"})
+                     alias = {"gc.description", "gcDescription", "giftCertificateDescription", "description"},
+                     fullText = true)
     private String description;
 
     /**
@@ -59,8 +67,7 @@ public class GiftCertificate extends BaseEntity {
     /**
      * Holds create value
      */
-    @Convert(converter = IsoDateConverter.class)
-    @Column(name = "create_date")
+    @Column(name = "create_date", columnDefinition = "datetime(3)")
     @FilterParameter(fieldName = "create",
                      alias = {"gc.create", "create_date", "gcCreate", "gc.create", "giftCertificateCreate", "create"})
     private LocalDateTime create;
@@ -68,14 +75,15 @@ public class GiftCertificate extends BaseEntity {
     /**
      * Holds update value
      */
-    @Convert(converter = IsoDateConverter.class)
-    @Column(name = "last_update_date")
+    @Column(name = "last_update_date", columnDefinition = "datetime(3)")
     @FilterParameter(fieldName = "update",
                      alias = {"gc.update", "last_update_date", "gcUpdate", "giftCertificateUpdate", "update"})
     private LocalDateTime update;
 
     /**
      * Holds tags values
+     * Changes of tags don't increment version, because versioned cached collection can't be loaded lazily
+     * outside of transaction, links are tracked by version probe instead
      */
     @ManyToMany(cascade = {CascadeType.MERGE, CascadeType.DETACH, CascadeType.PERSIST, CascadeType.REFRESH})
     @JoinTable(
@@ -84,6 +92,8 @@ public class GiftCertificate extends BaseEntity {
             inverseJoinColumns = @JoinColumn(name = "tag_id")
     )
     @FilterObject(cls = Tag.class, path = "tags")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.GIFT_CERTIFICATE_TAGS)
+    @OptimisticLock(excluded = true)
     private List<Tag> tags;
 
     /**
@@ -0,0 +1,201 @@
+package epam.com.esm.persistence.repository.impl.action;
+
+import epam.com.esm.exception.types.OperationFailedException;
+import epam.com.esm.persistence.entity.impl.action.Order;
+import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
+import epam.com.esm.persistence.repository.audit.AuditRevisions;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * OrderBatchRepositoryImpl is the repository fragment, provides implementation of OrderBatchRepository contracts
+ * <p>
+ * Order id is generated by IDENTITY, which disables Hibernate insert batching, so orders and their join table rows
+ * are inserted by plain JDBC batches on connection of current session
+ * <p>
+ * JDBC batches aren't seen by Envers, so audit rows of orders and their join tables are written in the same
+ * batches under revision of current transaction
+ */
+public class OrderBatchRepositoryImpl implements OrderBatchRepository {
+
+    /**
+     * Holds order insert statement
+     */
+    private static final String INSERT_ORDER = "INSERT INTO orders (cost, purchase_date) VALUES (?, ?)";
+
+    /**
+     * Holds order user link insert statement
+     */
+    private static final String INSERT_USER_LINK = "INSERT INTO user_orders (order_id, user_id) VALUES (?, ?)";
+
+    /**
+     * Holds order gift certificate link insert statement
+     */
+    private static final String INSERT_GIFT_CERTIFICATE_LINK =
+            "INSERT INTO order_gift_certificate (order_id, gift_certificate_id) VALUES (?, ?)";
+
+    /**
+     * Holds order audit insert statement
+     */
+    private static final String INSERT_ORDER_AUDIT =
+            "INSERT INTO orders_audit (id, REV, REVTYPE, cost, purchase_date) VALUES (?, ?, ?, ?, ?)";
+
+    /**
+     * Holds order user link audit insert statement
+     */
+    private static final String INSERT_USER_LINK_AUDIT =
+            "INSERT INTO user_orders_audit (order_id, REV, user_id) VALUES (?, ?, ?)";
+
+    /**
+     * Holds order gift certificate link audit insert statement
+     */
+    private static final String INSERT_GIFT_CERTIFICATE_LINK_AUDIT =
+            "INSERT INTO order_gift_certificate_audit (order_id, REV, REVTYPE, gift_certificate_id) " +
+            "VALUES (?, ?, ?, ?)";
+
+    /**
+     * Holds entity manager
+     */
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Holds JDBC batch size
+     */
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int batchSize;
+
+    /**
+     * Inserts orders by JDBC batches
+     * Generated ids are set to provided orders, audit rows are inserted under revision of current transaction
+     *
+     * @param orders provided orders
+     */
+    @Override
+    public void batchInsert(List<Order> orders) {
+        if (!orders.isEmpty()) {
+            int rev = AuditRevisions.current(entityManager);
+            entityManager.unwrap(Session.class).doWork(c -> {
+                insertOrders(c, orders, rev);
+                insertLinks(c, orders, rev);
+            });
+        }
+    }
+
+    /**
+     * Inserts order rows, fetches generated ids and inserts audit rows of each chunk
+     *
+     * @param c provided connection
+     * @param orders provided orders
+     * @param rev provided revision number
+     * @throws SQLException if insert failed
+     */
+    private void insertOrders(Connection c, List<Order> orders, int rev) throws SQLException {
+        try (PreparedStatement ps = c.prepareStatement(INSERT_ORDER, Statement.RETURN_GENERATED_KEYS);
+             PreparedStatement audit = c.prepareStatement(INSERT_ORDER_AUDIT)) {
+            for (int from = 0; from < orders.size(); from += batchSize) {
+                List<Order> chunk = orders.subList(from, Math.min(from + batchSize, orders.size()));
+
+                for (Order o : chunk) {
+                    ps.setBigDecimal(1, o.getCost());
+                    ps.setTimestamp(2, Timestamp.valueOf(o.getPurchaseDate()));
+                    ps.addBatch();
+                }
+
+                ps.executeBatch();
+                fetchIds(ps, chunk);
+
+                for (Order o : chunk) {
+                    audit.setLong(1, o.getId());
+                    audit.setInt(2, rev);
+                    audit.setByte(3, AuditRevisions.ADD);
+                    audit.setBigDecimal(4, o.getCost());
+                    audit.setTimestamp(5, Timestamp.valueOf(o.getPurchaseDate()));
+                    audit.addBatch();
+                }
+
+                audit.executeBatch();
+            }
+        }
+    }
+
+    /**
+     * Sets generated ids to orders
+     * Will throw OperationFailedException if driver returned less ids than rows inserted
+     *
+     * @param ps provided executed statement
+     * @param chunk provided inserted orders
+     * @throws SQLException if generated keys cannot be read
+     */
+    private void fetchIds(PreparedStatement ps, List<Order> chunk) throws SQLException {
+        try (ResultSet keys = ps.getGeneratedKeys()) {
+            for (Order o : chunk) {
+                if (!keys.next()) {
+                    throw new OperationFailedException("Order creation failed");
+                }
+
+                o.setId(keys.getLong(1));
+                o.setVersion(0L);
+            }
+        }
+    }
+
+    /**
+     * Inserts user and gift certificate join table rows for orders and their audit rows
+     * Batches are executed when number of pending gift certificate rows reaches batch size
+     *
+     * @param c provided connection
+     * @param orders provided orders with ids
+     * @param rev provided revision number
+     * @throws SQLException if insert failed
+     */
+    private void insertLinks(Connection c, List<Order> orders, int rev) throws SQLException {
+        try (PreparedStatement user = c.prepareStatement(INSERT_USER_LINK);
+             PreparedStatement gc = c.prepareStatement(INSERT_GIFT_CERTIFICATE_LINK);
+             PreparedStatement userAudit = c.prepareStatement(INSERT_USER_LINK_AUDIT);
+             PreparedStatement gcAudit = c.prepareStatement(INSERT_GIFT_CERTIFICATE_LINK_AUDIT)) {
+            int pending = 0;
+
+            for (int i = 0; i < orders.size(); i++) {
+                Order o = orders.get(i);
+                user.setLong(1, o.getId());
+                user.setLong(2, o.getUser().getId());
+                user.addBatch();
+                userAudit.setLong(1, o.getId());
+                userAudit.setInt(2, rev);
+                userAudit.setLong(3, o.getUser().getId());
+                userAudit.addBatch();
+
+                for (GiftCertificate giftCertificate : o.getGiftCertificates()) {
+                    gc.setLong(1, o.getId());
+                    gc.setLong(2, giftCertificate.getId());
+                    gc.addBatch();
+                    gcAudit.setLong(1, o.getId());
+                    gcAudit.setInt(2, rev);
+                    gcAudit.setByte(3, AuditRevisions.ADD);
+                    gcAudit.setLong(4, giftCertificate.getId());
+                    gcAudit.addBatch();
+                    pending++;
+                }
+
+                if (pending >= batchSize || i == orders.size() - 1) {
+                    user.executeBatch();
+                    gc.executeBatch();
+                    userAudit.executeBatch();
+                    gcAudit.executeBatch();
+                    pending = 0;
+                }
+            }
+        }
+    }
+}
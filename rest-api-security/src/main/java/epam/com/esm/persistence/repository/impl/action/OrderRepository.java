@@ -8,4 +8,4 @@ import org.springframework.stereotype.Repository;
  * OrderRepository is the repository, provides jpa operations contracts for order
  */
 @Repository
-public interface OrderRepository extends BaseRepository<Order> {}
\ No newline at end of file
+public interface OrderRepository extends BaseRepository<Order>, OrderBatchRepository {}
\ No newline at end of file
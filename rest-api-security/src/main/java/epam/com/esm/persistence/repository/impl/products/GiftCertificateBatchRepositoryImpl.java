@@ -0,0 +1,257 @@
+package epam.com.esm.persistence.repository.impl.products;
+
+import epam.com.esm.exception.types.OperationFailedException;
+import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
+import epam.com.esm.persistence.entity.impl.products.Tag;
+import epam.com.esm.persistence.repository.audit.AuditRevisions;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * GiftCertificateBatchRepositoryImpl is the repository fragment, provides implementation of
+ * GiftCertificateBatchRepository contracts
+ * <p>
+ * Gift certificate id is generated by IDENTITY, which disables Hibernate insert batching, so gift certificates and
+ * their tag links are inserted by plain JDBC batches on connection of current session. Rows bypass persistence
+ * context and second level cache, so caller evicts affected cache regions. Rows aren't seen by Envers either, so
+ * their audit rows are written in the same batches under revision of current transaction
+ */
+public class GiftCertificateBatchRepositoryImpl implements GiftCertificateBatchRepository {
+
+    /**
+     * Holds max number of names bound to one statement
+     */
+    private static final int MAX_PARAMS = 1000;
+
+    /**
+     * Holds existing names select statement prefix
+     */
+    private static final String SELECT_NAMES = "SELECT name FROM gift_certificate WHERE name IN ";
+
+    /**
+     * Holds gift certificate insert statement
+     */
+    private static final String INSERT_GIFT_CERTIFICATE =
+            "INSERT INTO gift_certificate (name, description, price, duration, create_date, last_update_date) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    /**
+     * Holds gift certificate tag link insert statement
+     */
+    private static final String INSERT_TAG_LINK =
+            "INSERT INTO gift_certificate_tag (gift_certificate_id, tag_id) VALUES (?, ?)";
+
+    /**
+     * Holds gift certificate audit insert statement
+     */
+    private static final String INSERT_GIFT_CERTIFICATE_AUDIT =
+            "INSERT INTO gift_certificate_audit " +
+            "(id, REV, REVTYPE, name, description, price, duration, create_date, last_update_date) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * Holds gift certificate tag link audit insert statement
+     */
+    private static final String INSERT_TAG_LINK_AUDIT =
+            "INSERT INTO gift_certificate_tag_audit (gift_certificate_id, tag_id, REV, REVTYPE) VALUES (?, ?, ?, ?)";
+
+    /**
+     * Holds entity manager
+     */
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Holds JDBC batch size
+     */
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int batchSize;
+
+    /**
+     * Finds names of existing gift certificates
+     *
+     * @param names provided gift certificate names
+     * @return {@code Set<String>} case-insensitive names of existing gift certificates
+     */
+    @Override
+    public Set<String> findExistingNames(Collection<String> names) {
+        Set<String> existing = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+        if (!names.isEmpty()) {
+            List<String> all = new ArrayList<>(names);
+
+            entityManager.unwrap(Session.class).doWork(c -> {
+                for (int from = 0; from < all.size(); from += MAX_PARAMS) {
+                    List<String> chunk = all.subList(from, Math.min(from + MAX_PARAMS, all.size()));
+                    String sql = SELECT_NAMES + "(" + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+
+                    try (PreparedStatement ps = c.prepareStatement(sql)) {
+                        for (int i = 0; i < chunk.size(); i++) {
+                            ps.setString(i + 1, chunk.get(i));
+                        }
+
+                        try (ResultSet rs = ps.executeQuery()) {
+                            while (rs.next()) {
+                                existing.add(rs.getString(1));
+                            }
+                        }
+                    }
+                }
+            });
+        }
+
+        return existing;
+    }
+
+    /**
+     * Inserts gift certificates and their tag links by JDBC batches
+     * Generated ids are set to provided gift certificates, tags should have ids,
+     * audit rows are inserted under revision of current transaction
+     *
+     * @param giftCertificates provided gift certificates
+     */
+    @Override
+    public void batchInsert(List<GiftCertificate> giftCertificates) {
+        if (!giftCertificates.isEmpty()) {
+            int rev = AuditRevisions.current(entityManager);
+            entityManager.unwrap(Session.class).doWork(c -> {
+                insertGiftCertificates(c, giftCertificates, rev);
+                insertLinks(c, giftCertificates, rev);
+            });
+        }
+    }
+
+    /**
+     * Inserts gift certificate rows, fetches generated ids and inserts audit rows of each chunk
+     *
+     * @param c provided connection
+     * @param giftCertificates provided gift certificates
+     * @param rev provided revision number
+     * @throws SQLException if insert failed
+     */
+    private void insertGiftCertificates(Connection c, List<GiftCertificate> giftCertificates, int rev)
+            throws SQLException {
+        try (PreparedStatement ps = c.prepareStatement(INSERT_GIFT_CERTIFICATE, Statement.RETURN_GENERATED_KEYS);
+             PreparedStatement audit = c.prepareStatement(INSERT_GIFT_CERTIFICATE_AUDIT)) {
+            for (int from = 0; from < giftCertificates.size(); from += batchSize) {
+                List<GiftCertificate> chunk = giftCertificates.subList(from, Math.min(from + batchSize,
+                                                                                      giftCertificates.size()));
+
+                for (GiftCertificate gc : chunk) {
+                    ps.setString(1, gc.getName());
+                    ps.setString(2, gc.getDescription());
+                    ps.setBigDecimal(3, gc.getPrice());
+                    ps.setInt(4, gc.getDuration());
+                    ps.setTimestamp(5, Timestamp.valueOf(gc.getCreate()));
+                    ps.setTimestamp(6, Timestamp.valueOf(gc.getUpdate()));
+                    ps.addBatch();
+                }
+
+                ps.executeBatch();
+                fetchIds(ps, chunk);
+
+                for (GiftCertificate gc : chunk) {
+                    audit.setLong(1, gc.getId());
+                    audit.setInt(2, rev);
+                    audit.setByte(3, AuditRevisions.ADD);
+                    audit.setString(4, gc.getName());
+                    audit.setString(5, gc.getDescription());
+                    audit.setBigDecimal(6, gc.getPrice());
+                    audit.setInt(7, gc.getDuration());
+                    audit.setTimestamp(8, Timestamp.valueOf(gc.getCreate()));
+                    audit.setTimestamp(9, Timestamp.valueOf(gc.getUpdate()));
+                    audit.addBatch();
+                }
+
+                audit.executeBatch();
+            }
+        }
+    }
+
+    /**
+     * Sets generated ids to gift certificates
+     * Will throw OperationFailedException if driver returned less ids than rows inserted
+     *
+     * @param ps provided executed statement
+     * @param chunk provided inserted gift certificates
+     * @throws SQLException if generated keys cannot be read
+     */
+    private void fetchIds(PreparedStatement ps, List<GiftCertificate> chunk) throws SQLException {
+        try (ResultSet keys = ps.getGeneratedKeys()) {
+            for (GiftCertificate gc : chunk) {
+                if (!keys.next()) {
+                    throw new OperationFailedException("Gift Certificate creation failed");
+                }
+
+                gc.setId(keys.getLong(1));
+                gc.setVersion(0L);
+            }
+        }
+    }
+
+    /**
+     * Inserts tag join table rows for gift certificates and their audit rows, repeated tags of gift certificate
+     * are linked once
+     * Batches are executed when number of pending rows reaches batch size
+     *
+     * @param c provided connection
+     * @param giftCertificates provided gift certificates with ids
+     * @param rev provided revision number
+     * @throws SQLException if insert failed
+     */
+    private void insertLinks(Connection c, List<GiftCertificate> giftCertificates, int rev) throws SQLException {
+        try (PreparedStatement ps = c.prepareStatement(INSERT_TAG_LINK);
+             PreparedStatement audit = c.prepareStatement(INSERT_TAG_LINK_AUDIT)) {
+            int pending = 0;
+
+            for (GiftCertificate gc : giftCertificates) {
+                if (gc.getTags() == null) {
+                    continue;
+                }
+
+                Set<Long> linked = new HashSet<>();
+
+                for (Tag tag : gc.getTags()) {
+                    if (linked.add(tag.getId())) {
+                        ps.setLong(1, gc.getId());
+                        ps.setLong(2, tag.getId());
+                        ps.addBatch();
+                        audit.setLong(1, gc.getId());
+                        audit.setLong(2, tag.getId());
+                        audit.setInt(3, rev);
+                        audit.setByte(4, AuditRevisions.ADD);
+                        audit.addBatch();
+                        pending++;
+                    }
+                }
+
+                if (pending >= batchSize) {
+                    ps.executeBatch();
+                    audit.executeBatch();
+                    pending = 0;
+                }
+            }
+
+            if (pending > 0) {
+                ps.executeBatch();
+                audit.executeBatch();
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package epam.com.esm.persistence.repository.impl.products;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * TagBatchRepository is the repository fragment, provides batch operations contracts for tag
+ */
+public interface TagBatchRepository {
+
+    /**
+     * Contract for inserting tags by names, names of existing tags are skipped
+     * Audit rows of created tags are written under revision of current transaction
+     *
+     * @param names provided tag names
+     * @return {@code int} number of created tags
+     */
+    int upsertAll(Collection<String> names);
+
+    /**
+     * Contract for finding tag ids by names
+     *
+     * @param names provided tag names
+     * @return {@code Map<String, Long>} tag ids by case-insensitive names
+     */
+    Map<String, Long> findIdsByName(Collection<String> names);
+}
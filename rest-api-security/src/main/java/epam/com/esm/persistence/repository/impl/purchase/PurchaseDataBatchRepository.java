@@ -0,0 +1,34 @@
+package epam.com.esm.persistence.repository.impl.purchase;
+
+import epam.com.esm.persistence.entity.impl.purchase.PurchaseData;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * PurchaseDataBatchRepository is the repository fragment, provides batch operations contracts for purchase data
+ */
+public interface PurchaseDataBatchRepository {
+
+    /**
+     * Contract for inserting purchase data by JDBC batches
+     * Generated ids are set to provided purchase data, audit rows are written under revision of current transaction
+     *
+     * @param purchaseData provided purchase data
+     */
+    void batchInsert(List<PurchaseData> purchaseData);
+
+    /**
+     * Contract for bulk expiring of active purchases, which ended in provided period
+     * Updates at most provided limit of rows in own transaction, uses (status, end) index,
+     * audit rows of expired purchases are written under revision of this transaction
+     *
+     * @param from provided period start (inclusive)
+     * @param to provided period end (exclusive)
+     * @param limit provided max number of updated rows
+     * @return {@code int} number of expired purchases
+     */
+    @Transactional
+    int expireActive(LocalDateTime from, LocalDateTime to, int limit);
+}
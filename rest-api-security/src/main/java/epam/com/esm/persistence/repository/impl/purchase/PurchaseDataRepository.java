@@ -8,4 +8,4 @@ import org.springframework.stereotype.Repository;
  * PurchaseDataRepository is the repository, provides jpa operations contracts for purchase data
  */
 @Repository
-public interface PurchaseDataRepository extends BaseRepository<PurchaseData> {}
\ No newline at end of file
+public interface PurchaseDataRepository extends BaseRepository<PurchaseData>, PurchaseDataBatchRepository {}
@@ -0,0 +1,100 @@
+package epam.com.esm.persistence.repository.scroll;
+
+import epam.com.esm.persistence.entity.BaseEntity;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.query.Query;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.function.Consumer;
+
+/**
+ * ScrollRepository is the repository class, reads entities found by specification through forward-only scrolling
+ * <p>
+ * Rows are read by JDBC fetch size and passed to consumer one by one, persistence context is cleared after each
+ * clear interval, so memory doesn't depend on number of found rows. Scrolled query doesn't use second level cache
+ * and found entities are read-only.
+ * <p>
+ * Associations read by consumer must be listed as fetched, because lazy loading is impossible on connection
+ * which is streaming result set
+ */
+@Repository
+public class ScrollRepository {
+
+    /**
+     * Holds number of rows after which persistence context is cleared
+     */
+    private static final int CLEAR_INTERVAL = 500;
+
+    /**
+     * Holds entity manager
+     */
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Holds JDBC fetch size of scrolled query, MySQL driver streams rows one by one only if fetch size is
+     * {@link Integer#MIN_VALUE}, otherwise it reads whole result set to memory
+     */
+    @Value("${export.fetch-size}")
+    private int fetchSize;
+
+    /**
+     * Scrolls entities found by provided specification
+     * Must be called in transaction
+     *
+     * @param type provided entity class
+     * @param spec provided specification, may define order of rows
+     * @param consumer provided consumer of found entities
+     * @param fetched provided to-one associations fetched by join
+     * @param <E> describes entity type
+     * @return {@code long} number of scrolled entities
+     */
+    public <E extends BaseEntity> long scroll(Class<E> type, Specification<E> spec, Consumer<E> consumer,
+                                              String ... fetched) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<E> cq = cb.createQuery(type);
+        Root<E> root = cq.from(type);
+
+        for (String association : fetched) {
+            root.fetch(association, JoinType.LEFT);
+        }
+
+        Predicate predicate = spec.toPredicate(root, cq, cb);
+
+        if (predicate != null) {
+            cq.where(predicate);
+        }
+
+        Session session = entityManager.unwrap(Session.class);
+        Query<E> query = entityManager.createQuery(cq).unwrap(Query.class);
+        long count = 0;
+
+        try (ScrollableResults results = query.setFetchSize(fetchSize)
+                                              .setReadOnly(true)
+                                              .setCacheMode(CacheMode.IGNORE)
+                                              .scroll(ScrollMode.FORWARD_ONLY)) {
+            while (results.next()) {
+                consumer.accept(type.cast(results.get(0)));
+
+                if (++count % CLEAR_INTERVAL == 0) {
+                    session.clear();
+                }
+            }
+        }
+
+        session.clear();
+        return count;
+    }
+}
@@ -0,0 +1,60 @@
+package epam.com.esm.persistence.repository.slice;
+
+import epam.com.esm.persistence.entity.BaseEntity;
+import epam.com.esm.persistence.repository.BaseRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SliceJpaRepository is the base repository class for all repositories in project, adds reading of slices
+ * <p>
+ * Slice is read by single query, which fetches one row more than page size to find out if next slice exists,
+ * so unlike page it doesn't issue count query
+ *
+ * @param <E> describes entity type
+ */
+public class SliceJpaRepository<E extends BaseEntity> extends SimpleJpaRepository<E, Long>
+                                                      implements BaseRepository<E> {
+
+    /**
+     * Constructor with entity information and entity manager
+     *
+     * @param entityInformation provided entity information
+     * @param entityManager provided entity manager
+     */
+    public SliceJpaRepository(JpaEntityInformation<E, Long> entityInformation, EntityManager entityManager) {
+        super(entityInformation, entityManager);
+    }
+
+    /**
+     * Finds slice of entities by provided specification
+     *
+     * @param spec provided specification, may define order of rows
+     * @param pageable provided pageable
+     * @return {@code Slice<E>} found slice of entities
+     */
+    @Override
+    public Slice<E> findSlice(Specification<E> spec, Pageable pageable) {
+        TypedQuery<E> query = getQuery(spec, pageable.getSort());
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize() + 1);
+
+        List<E> content = new ArrayList<>(query.getResultList());
+        boolean hasNext = content.size() > pageable.getPageSize();
+
+        if (hasNext) {
+            content.remove(content.size() - 1);
+        }
+
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+}
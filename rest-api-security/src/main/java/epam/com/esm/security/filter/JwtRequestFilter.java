@@ -1,11 +1,11 @@
 package epam.com.esm.security.filter;
 
+import epam.com.esm.security.jwt.JwtPrincipal;
 import epam.com.esm.security.jwt.JwtTokenGenerator;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.SignatureException;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -16,7 +16,6 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.stream.Collectors;
 
 /**
  * JwtRequestFilter is the service class, provides methods for token validation
@@ -48,6 +47,7 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 
     /**
      * Validates and puts token to security context holder
+     * Token is parsed once per request, verified principal is reused until token expiration
      *
      * @param request           provided http servlet request
      * @param response          provided http servlet response
@@ -59,27 +59,24 @@ public class JwtRequestFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         String authHeader = request.getHeader("Authorization");
-        String username = null;
-        String token = null;
+        JwtPrincipal principal = null;
 
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            token = authHeader.substring(7);
+            String token = authHeader.substring(7);
 
             try {
-                username = jwtTokenGenerator.getUsername(token);
+                principal = jwtTokenGenerator.getPrincipal(token);
             } catch (SignatureException | ExpiredJwtException e) {
                 resolver.resolveException(request, response, null, e);
             }
         }
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+        if (principal != null && principal.getUsername() != null
+            && SecurityContextHolder.getContext().getAuthentication() == null) {
             UsernamePasswordAuthenticationToken upToken = new UsernamePasswordAuthenticationToken(
-                    username,
+                    principal.getUsername(),
                     null,
-                    jwtTokenGenerator.getRoles(token)
-                            .stream()
-                            .map(SimpleGrantedAuthority::new)
-                            .collect(Collectors.toList())
+                    principal.getAuthorities()
             );
             SecurityContextHolder.getContext().setAuthentication(upToken);
         }
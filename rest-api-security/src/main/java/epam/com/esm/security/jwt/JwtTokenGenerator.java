@@ -1,36 +1,88 @@
 package epam.com.esm.security.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import epam.com.esm.exception.types.UnexpectedException;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.impl.TextCodec;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
  * JwtTokenGenerator is the service class, provides jwt token operations
+ * <p>
+ * Signing key is derived from secret once, verified principals are cached by token digest until token expiration,
+ * so repeated requests with the same token skip signature verification
  */
 @Component
 public class JwtTokenGenerator {
 
     /**
-     * Value holds jwt secret
+     * Holds signature algorithm
      */
-    @Value("${jwt.secret}")
-    private String secret;
+    private static final SignatureAlgorithm ALGORITHM = SignatureAlgorithm.HS256;
 
     /**
-     * Value holds jwt lifetime
+     * Holds token digest algorithm
      */
-    @Value(("${jwt.lifetime}"))
-    private Long lifetime;
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    /**
+     * Holds signing key
+     */
+    private final Key signingKey;
+
+    /**
+     * Holds jwt lifetime
+     */
+    private final Long lifetime;
+
+    /**
+     * Holds verified principals by token digest
+     */
+    private final Cache<String, JwtPrincipal> principals;
+
+    /**
+     * Constructs JwtTokenGenerator with provided secret, lifetime and principals cache size
+     * <p>
+     * Secret is decoded as Base64 string, the same way as it was decoded on each signing and parsing before
+     *
+     * @param secret    provided jwt secret
+     * @param lifetime  provided jwt lifetime
+     * @param cacheSize provided max number of cached principals
+     */
+    @Autowired
+    public JwtTokenGenerator(@Value("${jwt.secret}") String secret,
+                             @Value("${jwt.lifetime}") Long lifetime,
+                             @Value("${jwt.cache.max-size}") Long cacheSize) {
+        this.signingKey = new SecretKeySpec(TextCodec.BASE64.decode(secret), ALGORITHM.getJcaName());
+        this.lifetime = lifetime;
+        this.principals = Caffeine.newBuilder()
+                                  .maximumSize(cacheSize)
+                                  .expireAfter(new PrincipalExpiry())
+                                  .build();
+    }
 
     /**
      * Generates token from user details attributes
@@ -51,10 +103,36 @@ public class JwtTokenGenerator {
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(issuedDate)
                 .setExpiration(expirationDate)
-                .signWith(SignatureAlgorithm.HS256, secret)
+                .signWith(ALGORITHM, signingKey)
                 .compact();
     }
 
+    /**
+     * Gets verified principal from token
+     * Token is parsed and verified once, principal is cached until token expiration
+     * <p>
+     * May throw SignatureException if token signature is incorrect, ExpiredJwtException if token is expired
+     *
+     * @param token provided token
+     * @return {@code JwtPrincipal} verified principal
+     */
+    public JwtPrincipal getPrincipal(String token) {
+        String digest = digest(token);
+        JwtPrincipal cached = principals.getIfPresent(digest);
+
+        if (cached != null && !cached.isExpiredAt(System.currentTimeMillis())) {
+            return cached;
+        }
+
+        JwtPrincipal principal = toPrincipal(getClaimsFromToken(token));
+
+        if (principal.getExpiration() != Long.MAX_VALUE) {
+            principals.put(digest, principal);
+        }
+
+        return principal;
+    }
+
     /**
      * Gets username from token
      *
@@ -62,7 +140,7 @@ public class JwtTokenGenerator {
      * @return {@code String} username from token
      */
     public String getUsername(String token) {
-        return getClaimsFromToken(token).getSubject();
+        return getPrincipal(token).getUsername();
     }
 
     /**
@@ -72,7 +150,9 @@ public class JwtTokenGenerator {
      * @return {@code List<String>} list of roles from token
      */
     public List<String> getRoles(String token) {
-        return getClaimsFromToken(token).get("roles", List.class);
+        return getPrincipal(token).getAuthorities()
+                .stream()
+                .map(GrantedAuthority::getAuthority).collect(Collectors.toList());
     }
 
     /**
@@ -82,7 +162,43 @@ public class JwtTokenGenerator {
      * @return {@code Claims} retrieved claims object
      */
     private Claims getClaimsFromToken(String token) {
-        return Jwts.parser().setSigningKey(secret).parseClaimsJws(token).getBody();
+        return Jwts.parser().setSigningKey(signingKey).parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * Converts verified claims to principal
+     * Token without expiration gets max expiration time
+     *
+     * @param claims provided verified claims
+     * @return {@code JwtPrincipal} principal
+     */
+    @SuppressWarnings("unchecked")
+    private JwtPrincipal toPrincipal(Claims claims) {
+        List<String> roles = claims.get("roles", List.class);
+        List<GrantedAuthority> authorities = roles == null
+                                             ? Collections.emptyList()
+                                             : Collections.unmodifiableList(roles.stream()
+                                                                                 .map(SimpleGrantedAuthority::new)
+                                                                                 .collect(Collectors.toList()));
+        long expiration = claims.getExpiration() == null ? Long.MAX_VALUE : claims.getExpiration().getTime();
+        return new JwtPrincipal(claims.getSubject(), authorities, expiration);
+    }
+
+    /**
+     * Calculates digest of token, digest is used as cache key so raw tokens aren't held in cache
+     * <p>
+     * May throw UnexpectedException if digest algorithm isn't supported
+     *
+     * @param token provided token
+     * @return {@code String} Base64 encoded token digest
+     */
+    private String digest(String token) {
+        try {
+            MessageDigest md = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            return Base64.getEncoder().encodeToString(md.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new UnexpectedException("Token digest algorithm isn't supported");
+        }
     }
 
     /**
@@ -96,4 +212,51 @@ public class JwtTokenGenerator {
                 .stream()
                 .map(GrantedAuthority::getAuthority).collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+    /**
+     * PrincipalExpiry is the cache expiry policy, expires cached principal at its token expiration time
+     */
+    private static class PrincipalExpiry implements Expiry<String, JwtPrincipal> {
+
+        /**
+         * Calculates time to live of created entry
+         *
+         * @param digest      provided token digest
+         * @param principal   provided principal
+         * @param currentTime provided current time in nanoseconds
+         * @return {@code long} time to live in nanoseconds
+         */
+        @Override
+        public long expireAfterCreate(String digest, JwtPrincipal principal, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, principal.getExpiration() - System.currentTimeMillis()));
+        }
+
+        /**
+         * Calculates time to live of updated entry
+         *
+         * @param digest          provided token digest
+         * @param principal       provided principal
+         * @param currentTime     provided current time in nanoseconds
+         * @param currentDuration provided remaining time to live in nanoseconds
+         * @return {@code long} time to live in nanoseconds
+         */
+        @Override
+        public long expireAfterUpdate(String digest, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return expireAfterCreate(digest, principal, currentTime);
+        }
+
+        /**
+         * Keeps time to live of read entry
+         *
+         * @param digest          provided token digest
+         * @param principal       provided principal
+         * @param currentTime     provided current time in nanoseconds
+         * @param currentDuration provided remaining time to live in nanoseconds
+         * @return {@code long} time to live in nanoseconds
+         */
+        @Override
+        public long expireAfterRead(String digest, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
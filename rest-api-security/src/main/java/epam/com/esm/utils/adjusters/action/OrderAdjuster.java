@@ -24,6 +24,7 @@ public final class OrderAdjuster {
      */
     public static void adjustFields(Order preUpdate, Order updated) {
         updated.setId(preUpdate.getId());
+        updated.setVersion(preUpdate.getVersion());
         updated.setUser(preUpdate.getUser());
         updated.setPurchaseDate(preUpdate.getPurchaseDate());
         updated.setCost(preUpdate.getCost());
@@ -0,0 +1,43 @@
+package epam.com.esm.utils.converters.dto.custom;
+
+import epam.com.esm.config.metrics.LatencyMetrics;
+import epam.com.esm.config.metrics.type.Layer;
+import epam.com.esm.utils.batch.facade.DtoBatchItem;
+import epam.com.esm.utils.batch.service.ObjectBatchItem;
+import epam.com.esm.utils.converters.dto.action.OrderDtoConverter;
+
+/**
+ * DtoBatchItemConverter is the utility class, converts fields from object batch item object to dto batch item
+ */
+public final class DtoBatchItemConverter {
+
+    /**
+     * Holds operation name of latency metrics
+     */
+    private static final String OPERATION = "DtoBatchItemConverter.toDto";
+
+    /**
+     * Default constructor
+     */
+    private DtoBatchItemConverter() {}
+
+    /**
+     * Converts object batch item to dto batch item
+     * Created order is converted without gift certificates, rejected item holds rejection reason only
+     *
+     * @param o requested object batch item
+     * @return {@code DtoBatchItem} converted dto batch item
+     */
+    public static DtoBatchItem toDto(ObjectBatchItem o) {
+        long started = System.nanoTime();
+
+        try {
+            return o.isRejected()
+                   ? new DtoBatchItem(o.getIndex(), DtoBatchItem.REJECTED, null, o.getMessage())
+                   : new DtoBatchItem(o.getIndex(), DtoBatchItem.CREATED, OrderDtoConverter.toDto(o.getOrder(), false),
+                                      null);
+        } finally {
+            LatencyMetrics.record(Layer.CONVERSION, OPERATION, started);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package epam.com.esm.utils.converters.dto.products;
 
+import epam.com.esm.config.metrics.LatencyMetrics;
+import epam.com.esm.config.metrics.type.Layer;
 import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
 import epam.com.esm.view.dto.response.impl.products.GiftCertificateDtoResponse;
 import epam.com.esm.view.dto.response.impl.products.TagDtoResponse;
@@ -13,6 +15,11 @@ import java.util.stream.Collectors;
  */
 public final class GiftCertificateDtoConverter {
 
+    /**
+     * Holds operation name of latency metrics
+     */
+    private static final String OPERATION = "GiftCertificateDtoConverter.toDto";
+
     /**
      * Default constructor
      */
@@ -27,13 +34,19 @@ public final class GiftCertificateDtoConverter {
      * @return {@code GiftCertificateDtoResponse} converted gift certificate dto response
      */
     public static GiftCertificateDtoResponse toDto(GiftCertificate gc, boolean full) {
-        GiftCertificateDtoResponse dtoResp = new GiftCertificateDtoResponse(gc);
+        long started = System.nanoTime();
 
-        if (full) {
-            collectionToDto(gc, dtoResp);
-        }
+        try {
+            GiftCertificateDtoResponse dtoResp = new GiftCertificateDtoResponse(gc);
+
+            if (full) {
+                collectionToDto(gc, dtoResp);
+            }
 
-        return dtoResp;
+            return dtoResp;
+        } finally {
+            LatencyMetrics.record(Layer.CONVERSION, OPERATION, started);
+        }
     }
 
     /**
@@ -0,0 +1,222 @@
+package epam.com.esm.utils.dashboard.facade;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import epam.com.esm.utils.hateoas.wrappers.WrappedCollection;
+import epam.com.esm.utils.search.transport.response.PageDataResponse;
+import epam.com.esm.utils.statistics.facade.DtoDataTag;
+import epam.com.esm.view.dto.response.impl.action.OrderDtoResponse;
+import epam.com.esm.view.dto.response.impl.products.TagDtoResponse;
+import epam.com.esm.view.dto.response.impl.purchase.PurchaseDataDtoResponse;
+import epam.com.esm.view.dto.response.impl.user.UserDtoResponse;
+import org.springframework.hateoas.RepresentationModel;
+
+import java.util.Objects;
+
+/**
+ * DtoUserDashboard is the data class, serves as container for user dto with summary counts and first pages of its
+ * orders, purchase data, tags and tags by popularity, represents DTO result of dashboard search
+ */
+@JsonPropertyOrder({"user", "ordersFound", "purchasesFound", "tagsFound", "popularTagsFound",
+                    "orders", "purchases", "tags", "popularTags"})
+public class DtoUserDashboard extends RepresentationModel<DtoUserDashboard> {
+
+    /**
+     * Holds user dto response
+     */
+    private UserDtoResponse user;
+
+    /**
+     * Holds first page of orders
+     */
+    private PageDataResponse<OrderDtoResponse> orders;
+
+    /**
+     * Holds first page of purchase data
+     */
+    private PageDataResponse<PurchaseDataDtoResponse> purchases;
+
+    /**
+     * Holds first page of tags
+     */
+    private PageDataResponse<TagDtoResponse> tags;
+
+    /**
+     * Holds tags by popularity
+     */
+    private WrappedCollection<DtoDataTag> popularTags;
+
+    /**
+     * Constructs user dashboard with provided user dto response, pages of orders, purchase data, tags and
+     * tags by popularity
+     *
+     * @param user provided user dto response
+     * @param orders provided first page of orders
+     * @param purchases provided first page of purchase data
+     * @param tags provided first page of tags
+     * @param popularTags provided tags by popularity
+     */
+    public DtoUserDashboard(UserDtoResponse user, PageDataResponse<OrderDtoResponse> orders,
+                            PageDataResponse<PurchaseDataDtoResponse> purchases, PageDataResponse<TagDtoResponse> tags,
+                            WrappedCollection<DtoDataTag> popularTags) {
+        this.user = user;
+        this.orders = orders;
+        this.purchases = purchases;
+        this.tags = tags;
+        this.popularTags = popularTags;
+    }
+
+    /**
+     * Gets user dto response
+     *
+     * @return {@code UserDtoResponse} user dto response
+     */
+    public UserDtoResponse getUser() {
+        return user;
+    }
+
+    /**
+     * Sets new user dto response
+     *
+     * @param user for setting
+     */
+    public void setUser(UserDtoResponse user) {
+        this.user = user;
+    }
+
+    /**
+     * Gets total number of found orders
+     *
+     * @return {@code long} total number of found orders
+     */
+    public long getOrdersFound() {
+        return orders.getItemsFound();
+    }
+
+    /**
+     * Gets total number of found purchase data
+     *
+     * @return {@code long} total number of found purchase data
+     */
+    public long getPurchasesFound() {
+        return purchases.getItemsFound();
+    }
+
+    /**
+     * Gets total number of found tags
+     *
+     * @return {@code long} total number of found tags
+     */
+    public long getTagsFound() {
+        return tags.getItemsFound();
+    }
+
+    /**
+     * Gets number of found tags by popularity
+     *
+     * @return {@code long} number of found tags by popularity
+     */
+    public long getPopularTagsFound() {
+        return popularTags.getItems().size();
+    }
+
+    /**
+     * Gets first page of orders
+     *
+     * @return {@code PageDataResponse<OrderDtoResponse>} first page of orders
+     */
+    public PageDataResponse<OrderDtoResponse> getOrders() {
+        return orders;
+    }
+
+    /**
+     * Sets new page of orders
+     *
+     * @param orders for setting
+     */
+    public void setOrders(PageDataResponse<OrderDtoResponse> orders) {
+        this.orders = orders;
+    }
+
+    /**
+     * Gets first page of purchase data
+     *
+     * @return {@code PageDataResponse<PurchaseDataDtoResponse>} first page of purchase data
+     */
+    public PageDataResponse<PurchaseDataDtoResponse> getPurchases() {
+        return purchases;
+    }
+
+    /**
+     * Sets new page of purchase data
+     *
+     * @param purchases for setting
+     */
+    public void setPurchases(PageDataResponse<PurchaseDataDtoResponse> purchases) {
+        this.purchases = purchases;
+    }
+
+    /**
+     * Gets first page of tags
+     *
+     * @return {@code PageDataResponse<TagDtoResponse>} first page of tags
+     */
+    public PageDataResponse<TagDtoResponse> getTags() {
+        return tags;
+    }
+
+    /**
+     * Sets new page of tags
+     *
+     * @param tags for setting
+     */
+    public void setTags(PageDataResponse<TagDtoResponse> tags) {
+        this.tags = tags;
+    }
+
+    /**
+     * Gets tags by popularity
+     *
+     * @return {@code WrappedCollection<DtoDataTag>} tags by popularity
+     */
+    public WrappedCollection<DtoDataTag> getPopularTags() {
+        return popularTags;
+    }
+
+    /**
+     * Sets new tags by popularity
+     *
+     * @param popularTags for setting
+     */
+    public void setPopularTags(WrappedCollection<DtoDataTag> popularTags) {
+        this.popularTags = popularTags;
+    }
+
+    /**
+     * Compares source object and target object for equality
+     *
+     * @param o target object
+     * @return {@code true} if objects are equal
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        DtoUserDashboard that = (DtoUserDashboard) o;
+        return Objects.equals(user, that.user)
+               && Objects.equals(orders, that.orders)
+               && Objects.equals(purchases, that.purchases)
+               && Objects.equals(tags, that.tags)
+               && Objects.equals(popularTags, that.popularTags);
+    }
+
+    /**
+     * Calculates hash for source object
+     *
+     * @return {@code int} hashcode integer value
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), user, orders, purchases, tags, popularTags);
+    }
+}
@@ -14,6 +14,11 @@ public final class IsoDateFormatter {
      */
     private static final String ISO8601_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSS";
 
+    /**
+     * Holds ISO8601 formatter, formatter is immutable and thread-safe, so it is built once
+     */
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern(ISO8601_FORMAT);
+
     /**
      * Default constructor
      */
@@ -26,7 +31,7 @@ public final class IsoDateFormatter {
      * @return {@code String} converted date time
      */
     public static String dateToString(LocalDateTime localDateTime) {
-        return localDateTime.format(DateTimeFormatter.ofPattern(ISO8601_FORMAT));
+        return localDateTime.format(FORMATTER);
     }
 
     /**
@@ -36,7 +41,7 @@ public final class IsoDateFormatter {
      * @return {@code LocalDateTime} converted string
      */
     public static LocalDateTime stringToDate(String d) {
-        return LocalDateTime.from(DateTimeFormatter.ofPattern(ISO8601_FORMAT).parse(d));
+        return LocalDateTime.parse(d, FORMATTER);
     }
 
     /**
@@ -47,7 +52,7 @@ public final class IsoDateFormatter {
      */
     public static boolean checkIfIsoDate(String d) {
         try {
-            DateTimeFormatter.ofPattern(ISO8601_FORMAT).parse(d);
+            FORMATTER.parse(d);
             return true;
         } catch (DateTimeParseException e) {
             return false;
@@ -0,0 +1,75 @@
+package epam.com.esm.utils.export;
+
+import epam.com.esm.persistence.entity.impl.action.Order;
+import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
+import epam.com.esm.persistence.entity.impl.purchase.PurchaseData;
+import epam.com.esm.persistence.entity.impl.user.User;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * ExportColumns is the util class, holds exported columns of entities
+ * <p>
+ * Only entity values and values of to-one associations are exported, to-many associations aren't read, so
+ * exported entities don't load their collections
+ */
+public final class ExportColumns {
+
+    /**
+     * Holds exported columns of order
+     */
+    public static final List<ExportColumn<Order>> ORDER = Collections.unmodifiableList(Arrays.asList(
+            new ExportColumn<>("id", Order::getId),
+            new ExportColumn<>("cost", Order::getCost),
+            new ExportColumn<>("purchaseDate", Order::getPurchaseDate),
+            new ExportColumn<>("userId", o -> read(o.getUser(), User::getId)),
+            new ExportColumn<>("username", o -> read(o.getUser(), User::getUsername))
+    ));
+
+    /**
+     * Holds exported columns of purchase data
+     */
+    public static final List<ExportColumn<PurchaseData>> PURCHASE_DATA = Collections.unmodifiableList(Arrays.asList(
+            new ExportColumn<>("id", PurchaseData::getId),
+            new ExportColumn<>("start", PurchaseData::getStart),
+            new ExportColumn<>("end", PurchaseData::getEnd),
+            new ExportColumn<>("status", PurchaseData::getStatus),
+            new ExportColumn<>("userId", pd -> read(pd.getUser(), User::getId)),
+            new ExportColumn<>("giftCertificateId", pd -> read(pd.getGiftCertificate(), GiftCertificate::getId)),
+            new ExportColumn<>("giftCertificateName", pd -> read(pd.getGiftCertificate(), GiftCertificate::getName))
+    ));
+
+    /**
+     * Holds exported columns of gift certificate
+     */
+    public static final List<ExportColumn<GiftCertificate>> GIFT_CERTIFICATE = Collections.unmodifiableList(
+            Arrays.asList(
+                    new ExportColumn<>("id", GiftCertificate::getId),
+                    new ExportColumn<>("name", GiftCertificate::getName),
+                    new ExportColumn<>("description", GiftCertificate::getDescription),
+                    new ExportColumn<>("price", GiftCertificate::getPrice),
+                    new ExportColumn<>("duration", GiftCertificate::getDuration),
+                    new ExportColumn<>("create", GiftCertificate::getCreate),
+                    new ExportColumn<>("update", GiftCertificate::getUpdate)
+            ));
+
+    /**
+     * Default constructor
+     */
+    private ExportColumns() {}
+
+    /**
+     * Reads value of association
+     *
+     * @param association provided association, may be null
+     * @param reader provided value reader
+     * @param <A> describes association type
+     * @return {@code Object} read value, null if association is null
+     */
+    private static <A> Object read(A association, Function<A, Object> reader) {
+        return association == null ? null : reader.apply(association);
+    }
+}
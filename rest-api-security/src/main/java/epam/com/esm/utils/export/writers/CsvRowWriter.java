@@ -0,0 +1,100 @@
+package epam.com.esm.utils.export.writers;
+
+import epam.com.esm.exception.types.OperationFailedException;
+import epam.com.esm.utils.export.ExportColumn;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * CsvRowWriter is the row writer class, writes rows in RFC 4180 CSV format with header row
+ * Values which contain comma, quote or line break are quoted, null values are written as empty fields
+ *
+ * @param <E> describes entity type
+ */
+public class CsvRowWriter<E> extends AbstractRowWriter<E> {
+
+    /**
+     * Holds line separator
+     */
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    /**
+     * Holds buffered writer
+     */
+    private final Writer writer;
+
+    /**
+     * Constructs CsvRowWriter with provided output stream and exported columns, writes header row
+     * Will throw OperationFailedException if header can't be written
+     *
+     * @param out provided output stream
+     * @param columns provided exported columns
+     */
+    public CsvRowWriter(OutputStream out, List<ExportColumn<E>> columns) {
+        super(columns);
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+        try {
+            for (int i = 0; i < columns.size(); i++) {
+                writeField(i, columns.get(i).getName());
+            }
+
+            writer.write(LINE_SEPARATOR);
+        } catch (IOException e) {
+            throw new OperationFailedException("Export failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes row of provided entity
+     *
+     * @param e provided entity
+     * @throws IOException if row can't be written
+     */
+    @Override
+    protected void writeRow(E e) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            Object value = columns.get(i).read(e);
+            writeField(i, value == null ? "" : toText(value));
+        }
+
+        writer.write(LINE_SEPARATOR);
+    }
+
+    /**
+     * Flushes written rows
+     *
+     * @throws IOException if rows can't be flushed
+     */
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+
+    /**
+     * Writes field with preceding separator, quotes field if needed
+     *
+     * @param index provided column index
+     * @param value provided field value
+     * @throws IOException if field can't be written
+     */
+    private void writeField(int index, String value) throws IOException {
+        if (index > 0) {
+            writer.write(',');
+        }
+
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+        } else {
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+}
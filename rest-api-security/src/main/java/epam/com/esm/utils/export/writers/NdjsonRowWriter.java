@@ -0,0 +1,97 @@
+package epam.com.esm.utils.export.writers;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import epam.com.esm.exception.types.OperationFailedException;
+import epam.com.esm.utils.export.ExportColumn;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * NdjsonRowWriter is the row writer class, writes each row as JSON object on separate line
+ * Numbers are written as JSON numbers, null values as JSON nulls, other values as strings
+ *
+ * @param <E> describes entity type
+ */
+public class NdjsonRowWriter<E> extends AbstractRowWriter<E> {
+
+    /**
+     * Holds JSON factory
+     */
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    /**
+     * Holds JSON generator
+     */
+    private final JsonGenerator generator;
+
+    /**
+     * Constructs NdjsonRowWriter with provided output stream and exported columns
+     * Will throw OperationFailedException if generator can't be created
+     *
+     * @param out provided output stream
+     * @param columns provided exported columns
+     */
+    public NdjsonRowWriter(OutputStream out, List<ExportColumn<E>> columns) {
+        super(columns);
+
+        try {
+            this.generator = FACTORY.createGenerator(out, JsonEncoding.UTF8)
+                                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                                    .setRootValueSeparator(null);
+        } catch (IOException e) {
+            throw new OperationFailedException("Export failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes row of provided entity
+     *
+     * @param e provided entity
+     * @throws IOException if row can't be written
+     */
+    @Override
+    protected void writeRow(E e) throws IOException {
+        generator.writeStartObject();
+
+        for (ExportColumn<E> c : columns) {
+            generator.writeFieldName(c.getName());
+            writeValue(c.read(e));
+        }
+
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    /**
+     * Flushes written rows
+     *
+     * @throws IOException if rows can't be flushed
+     */
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+
+    /**
+     * Writes value of its JSON type
+     *
+     * @param value provided value
+     * @throws IOException if value can't be written
+     */
+    private void writeValue(Object value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof BigDecimal) {
+            generator.writeNumber((BigDecimal) value);
+        } else if (value instanceof Long || value instanceof Integer) {
+            generator.writeNumber(((Number) value).longValue());
+        } else {
+            generator.writeString(toText(value));
+        }
+    }
+}
@@ -3,270 +3,317 @@ package epam.com.esm.utils.hateoas.builder;
 import epam.com.esm.controller.AbstractController;
 import epam.com.esm.exception.types.BuildException;
 import epam.com.esm.utils.hateoas.annotations.ControllerLink;
+import epam.com.esm.utils.hateoas.builder.components.CompiledLink;
 import epam.com.esm.utils.hateoas.builder.components.ParamString;
-import epam.com.esm.utils.hateoas.templates.ReplaceableTemplate;
+import epam.com.esm.utils.hateoas.templates.CompiledTemplate;
 import epam.com.esm.utils.hateoas.templates.components.PlaceholderValue;
 import epam.com.esm.utils.hateoas.wrappers.WrappedCollection;
 import epam.com.esm.utils.hateoas.wrappers.type.PageType;
+import epam.com.esm.view.resources.data.Resources;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.RepresentationModel;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
-import java.util.Arrays;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * LinkBuilder is the service class which provides link building operations for representation model children
  * Wrapper for Spring HATEOAS
+ * <p>
+ * Builder is stateless and safe for concurrent use. Links of each controller resource are compiled at start,
+ * so link rendering doesn't read controller annotations and doesn't replace placeholders by string search.
+ * Context path is resolved once per request
  */
 @Component
 public class LinkBuilder {
 
     /**
-     * Holds cls value
+     * Holds id placeholder
      */
-    private Class<? extends AbstractController> cls;
+    private static final String ID = "{id}";
 
     /**
-     * Holds representationModel value
+     * Holds request attribute name for resolved context path
      */
-    private RepresentationModel<?> representationModel;
+    private static final String BASE_URI_ATTRIBUTE = LinkBuilder.class.getName() + ".BASE_URI";
 
     /**
-     * Holds links values
+     * Holds relations of pagination links
      */
-    private ParamString[] links;
+    private static final Map<PageType, String> PAGE_RELATIONS = new EnumMap<>(PageType.class);
 
-    /**
-     * Holds pages values
-     */
-    private Map<PageType, String> pages;
+    static {
+        PAGE_RELATIONS.put(PageType.PREV, "Previous Page");
+        PAGE_RELATIONS.put(PageType.CURRENT, "Current Page");
+        PAGE_RELATIONS.put(PageType.NEXT, "Next Page");
+    }
 
     /**
-     * Holds placeholders values
+     * Holds compiled links by controller class and param string
      */
-    private PlaceholderValue[] placeholderValues;
+    private final Map<Class<?>, Map<ParamString, CompiledLink>> compiledLinks;
 
     /**
-     * Default constructor
+     * Constructs LinkBuilder, compiles links of all resources for all controllers with ControllerLink annotation
      */
     @Autowired
-    public LinkBuilder() {}
-
-    /**
-     * Loads class for link building
-     *
-     * @param cls requested class
-     * @return {@code LinkBuilder} current link builder instance
-     */
-    public LinkBuilder loadClass(Class<? extends AbstractController> cls) {
-        if (cls != null) {
-            this.cls = cls;
-            return this;
-        } else {
-            throw new BuildException("Loaded Class cannot be null");
+    public LinkBuilder() {
+        this.compiledLinks = new ConcurrentHashMap<>();
+        List<ParamString> resources = getResources();
+
+        for (Class<?> cls : getControllers()) {
+            Map<ParamString, CompiledLink> links = new ConcurrentHashMap<>();
+            resources.forEach(ps -> links.put(ps, compile(cls, ps)));
+            compiledLinks.put(cls, links);
         }
     }
 
     /**
-     * Adds representation model object
+     * Applies links to representation model
      *
+     * @param cls requested controller class
      * @param rm requested representation model
-     * @return {@code LinkBuilder} current link builder instance
+     * @param links requested links
      */
-    public LinkBuilder addModel(RepresentationModel<?> rm) {
-        if (rm != null) {
-            this.representationModel = rm;
-            return this;
-        } else {
-            throw new BuildException("Model cannot be null");
-        }
+    public void build(Class<? extends AbstractController> cls, RepresentationModel<?> rm, ParamString ... links) {
+        addLinks(cls, rm, new PlaceholderValue[0], links);
     }
 
     /**
-     * Add params to replace in link pattern
+     * Applies links with replaced id placeholder to representation model
      *
-     * @param params requested placeholder value params
-     * @return {@code LinkBuilder} current link builder instance
+     * @param cls requested controller class
+     * @param rm requested representation model
+     * @param id requested id value for placeholder replacement
+     * @param links requested links
      */
-    public LinkBuilder addParams(PlaceholderValue ... params) {
-        this.placeholderValues = params;
-        return this;
+    public void build(Class<? extends AbstractController> cls, RepresentationModel<?> rm, Long id,
+                      ParamString ... links) {
+        addLinks(cls, rm, idValue(id), links);
     }
 
     /**
-     * Adds links to link builder
+     * Adds pagination links for wrapped collection object, first requested link is used as pages base
      *
-     * @param lt requested links
-     * @return {@code LinkBuilder} current link builder instance
+     * @param cls requested controller class
+     * @param rm requested wrapped collection
+     * @param pages requested page type and page params
+     * @param links requested links
      */
-    public LinkBuilder addLinks(ParamString ... lt) {
-        this.links = lt;
-        return this;
+    public void buildPages(Class<? extends AbstractController> cls, RepresentationModel<?> rm,
+                           Map<PageType, String> pages, ParamString ... links) {
+        addPages(cls, rm, new PlaceholderValue[0], pages, links);
     }
 
     /**
-     * Adds pages for pagination building
+     * Adds pagination links with replaced id placeholder for wrapped collection object,
+     * first requested link is used as pages base
      *
+     * @param cls requested controller class
+     * @param rm requested wrapped collection
+     * @param id requested id value for placeholder replacement
      * @param pages requested page type and page params
-     * @return {@code LinkBuilder} current link builder instance
+     * @param links requested links
      */
-    public LinkBuilder addPageTypes(Map<PageType, String> pages) {
-        this.pages = pages;
-        return this;
+    public void buildPages(Class<? extends AbstractController> cls, RepresentationModel<?> rm, Long id,
+                           Map<PageType, String> pages, ParamString ... links) {
+        addPages(cls, rm, idValue(id), pages, links);
     }
 
     /**
-     * Applies links to representation model
-     * Will reset all link builder values upon completion
+     * Adds links to model
+     * If class, model or links are null will throw BuildException
+     *
+     * @param cls requested controller class
+     * @param rm requested representation model
+     * @param values requested placeholder values
+     * @param links requested links
      */
-    public void build() {
-        checkModelParams();
-        addLinksToModel();
-        reset();
+    private void addLinks(Class<?> cls, RepresentationModel<?> rm, PlaceholderValue[] values, ParamString[] links) {
+        if (cls == null || rm == null || links == null) {
+            throw new BuildException("Build failed, null params found");
+        }
+
+        String base = getBaseUri();
+
+        for (ParamString ps : links) {
+            CompiledLink cl = getCompiledLink(cls, ps);
+            rm.add(Link.of(render(base, cl, values, null)).withRel(cl.getRel()));
+        }
     }
 
     /**
-     * Adds pagination links for wrapped collection object
-     * Will reset all link builder values upon completion
+     * Adds pagination links to wrapped collection
+     * If class, model, links or pages are null or model isn't wrapped collection will throw BuildException
+     *
+     * @param cls requested controller class
+     * @param rm requested wrapped collection
+     * @param values requested placeholder values
+     * @param pages requested page type and page params
+     * @param links requested links
      */
-    public void buildPages() {
-        checkPaginationParams();
-
-        if (this.representationModel instanceof WrappedCollection) {
-            WrappedCollection<?> wc = (WrappedCollection<?>) representationModel;
+    private void addPages(Class<?> cls, RepresentationModel<?> rm, PlaceholderValue[] values,
+                          Map<PageType, String> pages, ParamString[] links) {
+        if (cls == null || rm == null || links == null || links.length == 0 || pages == null) {
+            throw new BuildException("Build failed, null params found");
+        }
 
-            if (pages.containsKey(PageType.PREV)) {
-                String prev = getBaseUri(cls) + links[0].getLink() + pages.get(PageType.PREV);
-                wc.getPaginationMenu().add(Link.of(buildTemplate(prev)).withRel("Previous Page"));
-            }
+        if (!(rm instanceof WrappedCollection)) {
+            throw new BuildException("Representation model invalid or null");
+        }
 
-            if (pages.containsKey(PageType.CURRENT)) {
-                String current = getBaseUri(cls) + links[0].getLink() + pages.get(PageType.CURRENT);
-                wc.getPaginationMenu().add(Link.of(buildTemplate(current)).withRel("Current Page"));
-            }
+        WrappedCollection<?> wc = (WrappedCollection<?>) rm;
+        CompiledLink cl = getCompiledLink(cls, links[0]);
+        String base = getBaseUri();
 
-            if (pages.containsKey(PageType.NEXT)) {
-                String next = getBaseUri(cls) + links[0].getLink() + pages.get(PageType.NEXT);
-                wc.getPaginationMenu().add(Link.of(buildTemplate(next)).withRel("Next Page"));
+        for (Map.Entry<PageType, String> e : PAGE_RELATIONS.entrySet()) {
+            if (pages.containsKey(e.getKey())) {
+                wc.getPaginationMenu().add(Link.of(render(base, cl, values, pages.get(e.getKey())))
+                                               .withRel(e.getValue()));
             }
-
-        } else {
-            throw new BuildException("Representation model invalid or null");
         }
-
-        reset();
     }
 
     /**
-     * Fetches base URI for link from ControllerLink class annotation
+     * Renders link href
      *
-     * @param cls requested abstract controller child class
-     * @return {@code String} fetched base uri
+     * @param base requested context path
+     * @param cl requested compiled link
+     * @param values requested placeholder values
+     * @param query requested page params, may be null
+     * @return {@code String} rendered href
      */
-    private String getBaseUri(Class<? extends AbstractController> cls) {
-        if (cls.isAnnotationPresent(ControllerLink.class)) {
-            return ServletUriComponentsBuilder.fromCurrentContextPath().toUriString() + "/" +
-                    cls.getAnnotation(ControllerLink.class).mapping();
-        } else {
-            throw new BuildException("Controller Link Mapping hasn't been set");
+    private String render(String base, CompiledLink cl, PlaceholderValue[] values, String query) {
+        int capacity = base.length() + cl.getPath().getLength() + (query == null ? 0 : query.length()) + 16;
+        StringBuilder sb = new StringBuilder(capacity).append(base);
+        cl.getPath().renderTo(sb, values);
+
+        if (query != null) {
+            sb.append(query);
         }
+
+        return sb.toString();
     }
 
     /**
-     * Fetches class name for link's relation from ControllerLink class annotation
+     * Gets compiled link, link isn't compiled at start is compiled on first use
      *
-     * @return {@code String} fetched class name
+     * @param cls requested controller class
+     * @param ps requested param string
+     * @return {@code CompiledLink} compiled link
      */
-    private String getName() {
-        String className;
+    private CompiledLink getCompiledLink(Class<?> cls, ParamString ps) {
+        Map<ParamString, CompiledLink> links = compiledLinks.get(cls);
+        CompiledLink cl = links == null ? null : links.get(ps);
 
-        if (cls.isAnnotationPresent(ControllerLink.class)) {
-            className = cls.getAnnotation(ControllerLink.class).name();
-        } else {
-            throw new BuildException("Controller Link Name hasn't been set");
+        if (cl != null) {
+            return cl;
         }
 
-        return className;
+        return compiledLinks.computeIfAbsent(cls, c -> new ConcurrentHashMap<>())
+                            .computeIfAbsent(ps, p -> compile(cls, p));
     }
 
     /**
-     * Checks LinkBuilder params before building for object
-     * If class, model or links are null with throw BuildException
+     * Compiles link of controller resource
+     * Link path and relation are taken from ControllerLink class annotation, if annotation isn't present
+     * will throw BuildException
+     *
+     * @param cls requested controller class
+     * @param ps requested param string
+     * @return {@code CompiledLink} compiled link
      */
-    private void checkModelParams() {
-        if (cls == null || representationModel == null || links == null) {
-            throw new BuildException("Build failed, null params found");
-        }
-    }
+    private CompiledLink compile(Class<?> cls, ParamString ps) {
+        ControllerLink controllerLink = cls.getAnnotation(ControllerLink.class);
 
-    /**
-     * Checks LinkBuilder pagination params before building for collection
-     * If class, model, links or pages null will throw BuildException
-     */
-    private void checkPaginationParams() {
-        if (cls == null || representationModel == null || links == null || pages == null) {
-            throw new BuildException("Build failed, null params found");
+        if (controllerLink == null) {
+            throw new BuildException("Controller Link Mapping hasn't been set");
         }
+
+        return new CompiledLink(CompiledTemplate.compile("/" + controllerLink.mapping() + ps.getLink()),
+                                ps.getPrefix() + controllerLink.name() + ps.getSuffix());
     }
 
     /**
-     * Adds links to model
+     * Gets context path of current request, path is resolved once and stored as request attribute
+     *
+     * @return {@code String} context path
      */
-    private void addLinksToModel() {
-        if (links != null) {
-            for (ParamString link : links) {
-                representationModel.add(buildLink(link).withRel(buildRel(link)));
-            }
+    private String getBaseUri() {
+        RequestAttributes attributes = RequestContextHolder.currentRequestAttributes();
+        Object base = attributes.getAttribute(BASE_URI_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+
+        if (base == null) {
+            base = ServletUriComponentsBuilder.fromCurrentContextPath().toUriString();
+            attributes.setAttribute(BASE_URI_ATTRIBUTE, base, RequestAttributes.SCOPE_REQUEST);
         }
-    }
 
-    /**
-     * Resets LinkBuilder to initial state
-     */
-    private void reset() {
-        cls = null;
-        representationModel = null;
-        placeholderValues = null;
-        links = null;
-        pages = null;
+        return (String) base;
     }
 
     /**
-     * Builds link
+     * Generates placeholder values with id value
      *
-     * @param ps requested param string
-     * @return {@code Link} built link
+     * @param id requested id value
+     * @return {@code PlaceholderValue[]} placeholder values
      */
-    private Link buildLink(ParamString ps) {
-        return Link.of(buildTemplate(getBaseUri(cls) + ps.getLink()));
+    private PlaceholderValue[] idValue(Long id) {
+        if (id == null) {
+            throw new BuildException("Build failed, null params found");
+        }
+
+        return new PlaceholderValue[]{new PlaceholderValue(ID, id.toString())};
     }
 
     /**
-     * Builds resource from template
+     * Finds controllers with ControllerLink annotation
      *
-     * @param base requested string template
-     * @return {@code String} built resource
+     * @return {@code List<Class<?>>} found controller classes
      */
-    private String buildTemplate(String base) {
-        if (placeholderValues != null) {
-            ReplaceableTemplate rt = new ReplaceableTemplate(base, placeholderValues);
-            Arrays.stream(placeholderValues).forEach(rt::addReplacement);
-            return rt.build();
+    private static List<Class<?>> getControllers() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(ControllerLink.class));
+        List<Class<?>> controllers = new ArrayList<>();
+
+        for (BeanDefinition bd : scanner.findCandidateComponents(AbstractController.class.getPackage().getName())) {
+            controllers.add(ClassUtils.resolveClassName(bd.getBeanClassName(), LinkBuilder.class.getClassLoader()));
         }
 
-        return base;
+        return controllers;
     }
 
     /**
-     * Builds relation for link
+     * Gets param strings declared as resources constants
      *
-     * @param ps requested param string
-     * @return {@code String} built relation for link
+     * @return {@code List<ParamString>} resources param strings
      */
-    private String buildRel(ParamString ps) {
-        return ps.getPrefix() + getName() + ps.getSuffix();
+    private static List<ParamString> getResources() {
+        List<ParamString> resources = new ArrayList<>();
+
+        for (Field f : Resources.class.getDeclaredFields()) {
+            if (Modifier.isStatic(f.getModifiers()) && f.getType() == ParamString.class) {
+                try {
+                    resources.add((ParamString) f.get(null));
+                } catch (IllegalAccessException e) {
+                    throw new BuildException("Resource (name = " + f.getName() + ") cannot be read");
+                }
+            }
+        }
+
+        return resources;
     }
-}
\ No newline at end of file
+}
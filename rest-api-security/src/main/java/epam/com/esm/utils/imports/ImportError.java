@@ -0,0 +1,72 @@
+package epam.com.esm.utils.imports;
+
+import java.util.Objects;
+
+/**
+ * ImportError is the data class, represents rejected line of catalog import
+ */
+public class ImportError {
+
+    /**
+     * Holds number of rejected line
+     */
+    private final long line;
+
+    /**
+     * Holds rejection reason
+     */
+    private final String message;
+
+    /**
+     * Constructs ImportError with provided line number and rejection reason
+     *
+     * @param line provided line number
+     * @param message provided rejection reason
+     */
+    public ImportError(long line, String message) {
+        this.line = line;
+        this.message = message;
+    }
+
+    /**
+     * Gets value from line field
+     *
+     * @return {@code long} line value
+     */
+    public long getLine() {
+        return line;
+    }
+
+    /**
+     * Gets value from message field
+     *
+     * @return {@code String} message value
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Checks if this import error equals to provided object
+     *
+     * @param o provided object
+     * @return {@code true} if objects are equal
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ImportError that = (ImportError) o;
+        return line == that.line && Objects.equals(message, that.message);
+    }
+
+    /**
+     * Generates hash code of import error
+     *
+     * @return {@code int} hash code
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(line, message);
+    }
+}
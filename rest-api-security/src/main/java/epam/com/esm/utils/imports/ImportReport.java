@@ -0,0 +1,208 @@
+package epam.com.esm.utils.imports;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ImportReport is the data class, represents result of catalog import
+ * <p>
+ * Throughput is number of read lines per second of import, including rejected lines
+ */
+public class ImportReport {
+
+    /**
+     * Holds import mode
+     */
+    private final ImportMode mode;
+
+    /**
+     * Holds number of read lines
+     */
+    private long read;
+
+    /**
+     * Holds number of imported gift certificates
+     */
+    private long imported;
+
+    /**
+     * Holds number of rejected lines
+     */
+    private long rejected;
+
+    /**
+     * Holds number of created tags
+     */
+    private long tagsCreated;
+
+    /**
+     * Holds number of committed chunks
+     */
+    private long chunks;
+
+    /**
+     * Holds import duration in milliseconds
+     */
+    private long millis;
+
+    /**
+     * Holds number of read lines per second
+     */
+    private double rowsPerSecond;
+
+    /**
+     * Holds rejected lines
+     */
+    private final List<ImportError> errors;
+
+    /**
+     * Constructs empty ImportReport of provided mode
+     *
+     * @param mode provided import mode
+     */
+    public ImportReport(ImportMode mode) {
+        this.mode = mode;
+        this.errors = new ArrayList<>();
+    }
+
+    /**
+     * Counts read lines
+     *
+     * @param lines provided number of read lines
+     */
+    public void read(int lines) {
+        read += lines;
+    }
+
+    /**
+     * Counts committed chunk with provided numbers of imported gift certificates and created tags
+     *
+     * @param gCerts provided number of imported gift certificates
+     * @param tags provided number of created tags
+     */
+    public void commit(int gCerts, int tags) {
+        imported += gCerts;
+        tagsCreated += tags;
+        chunks++;
+    }
+
+    /**
+     * Adds rejected line
+     *
+     * @param line provided rejected line
+     */
+    public void reject(ImportLine line) {
+        rejected++;
+        errors.add(new ImportError(line.getLine(), line.getMessage()));
+    }
+
+    /**
+     * Discards committed chunks, used when whole import is rolled back
+     */
+    public void rollback() {
+        imported = 0;
+        tagsCreated = 0;
+        chunks = 0;
+    }
+
+    /**
+     * Sets import duration and calculates throughput
+     *
+     * @param nanos provided import duration in nanoseconds
+     */
+    public void finish(long nanos) {
+        millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        rowsPerSecond = nanos == 0 ? 0 : read * 1e9 / nanos;
+    }
+
+    /**
+     * Checks if import has rejected lines
+     *
+     * @return {@code true} if any line was rejected
+     */
+    public boolean hasErrors() {
+        return rejected > 0;
+    }
+
+    /**
+     * Gets value from mode field
+     *
+     * @return {@code ImportMode} mode value
+     */
+    public ImportMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Gets value from read field
+     *
+     * @return {@code long} read value
+     */
+    public long getRead() {
+        return read;
+    }
+
+    /**
+     * Gets value from imported field
+     *
+     * @return {@code long} imported value
+     */
+    public long getImported() {
+        return imported;
+    }
+
+    /**
+     * Gets value from rejected field
+     *
+     * @return {@code long} rejected value
+     */
+    public long getRejected() {
+        return rejected;
+    }
+
+    /**
+     * Gets value from tagsCreated field
+     *
+     * @return {@code long} tagsCreated value
+     */
+    public long getTagsCreated() {
+        return tagsCreated;
+    }
+
+    /**
+     * Gets value from chunks field
+     *
+     * @return {@code long} chunks value
+     */
+    public long getChunks() {
+        return chunks;
+    }
+
+    /**
+     * Gets value from millis field
+     *
+     * @return {@code long} millis value
+     */
+    public long getMillis() {
+        return millis;
+    }
+
+    /**
+     * Gets value from rowsPerSecond field
+     *
+     * @return {@code double} rowsPerSecond value
+     */
+    public double getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    /**
+     * Gets value from errors field
+     *
+     * @return {@code List<ImportError>} errors value
+     */
+    public List<ImportError> getErrors() {
+        return errors;
+    }
+}
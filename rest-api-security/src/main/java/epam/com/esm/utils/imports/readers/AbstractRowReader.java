@@ -0,0 +1,169 @@
+package epam.com.esm.utils.imports.readers;
+
+import epam.com.esm.exception.types.InputException;
+import epam.com.esm.exception.types.OperationFailedException;
+import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
+import epam.com.esm.utils.imports.ImportLine;
+import epam.com.esm.view.dto.request.impl.products.GiftCertificateDtoRequest;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * AbstractRowReader is the abstract class, serves as parent class to row readers of catalog import
+ * <p>
+ * Rows are parsed from stream one by one when they're requested, so imported file isn't buffered. Each row is
+ * verified as gift certificate create request, rows which can't be parsed or verified are returned as rejected
+ * lines with number of their first line in file
+ */
+public abstract class AbstractRowReader implements Iterator<ImportLine>, Closeable {
+
+    /**
+     * Holds reader of imported file
+     */
+    private final BufferedReader reader;
+
+    /**
+     * Holds verifier, converts gift certificate dto request to gift certificate
+     */
+    private final Function<GiftCertificateDtoRequest, GiftCertificate> verifier;
+
+    /**
+     * Holds number of last read line
+     */
+    private long line;
+
+    /**
+     * Holds number of first line of last read row
+     */
+    private long rowLine;
+
+    /**
+     * Holds read ahead import line
+     */
+    private ImportLine next;
+
+    /**
+     * Holds true if end of file was reached
+     */
+    private boolean finished;
+
+    /**
+     * Constructs AbstractRowReader with provided input stream and verifier
+     *
+     * @param in provided input stream of imported file, UTF-8 encoded
+     * @param verifier provided verifier, converts gift certificate dto request to gift certificate
+     */
+    protected AbstractRowReader(InputStream in, Function<GiftCertificateDtoRequest, GiftCertificate> verifier) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        this.verifier = verifier;
+    }
+
+    /**
+     * Checks if imported file has next row
+     * Will throw OperationFailedException if file can't be read
+     *
+     * @return {@code true} if next row exists
+     */
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            next = readNext();
+            finished = next == null;
+        }
+
+        return next != null;
+    }
+
+    /**
+     * Gets next row as import line
+     * Will throw NoSuchElementException if file has no more rows
+     *
+     * @return {@code ImportLine} accepted or rejected import line
+     */
+    @Override
+    public ImportLine next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        ImportLine l = next;
+        next = null;
+        return l;
+    }
+
+    /**
+     * Closes reader of imported file
+     *
+     * @throws IOException if reader can't be closed
+     */
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Delegates contract for reading next row
+     * Must throw InputException if row can't be parsed
+     *
+     * @return {@code GiftCertificateDtoRequest} read row, null if end of file was reached
+     * @throws IOException if file can't be read
+     */
+    protected abstract GiftCertificateDtoRequest readRow() throws IOException;
+
+    /**
+     * Reads next line of file
+     *
+     * @param first provided true if line is first line of row
+     * @return {@code String} read line, null if end of file was reached
+     * @throws IOException if file can't be read
+     */
+    protected String readLine(boolean first) throws IOException {
+        String l = reader.readLine();
+
+        if (l != null) {
+            line++;
+
+            if (first) {
+                rowLine = line;
+            }
+        }
+
+        return l;
+    }
+
+    /**
+     * Reads and verifies next row
+     * Will throw OperationFailedException if file can't be read
+     *
+     * @return {@code ImportLine} accepted or rejected import line, null if end of file was reached
+     */
+    private ImportLine readNext() {
+        GiftCertificateDtoRequest dto;
+
+        try {
+            dto = readRow();
+        } catch (InputException e) {
+            return new ImportLine(rowLine, e.getMessage());
+        } catch (IOException e) {
+            throw new OperationFailedException("Import failed: " + e.getMessage());
+        }
+
+        if (dto == null) {
+            return null;
+        }
+
+        try {
+            return new ImportLine(rowLine, verifier.apply(dto));
+        } catch (InputException e) {
+            return new ImportLine(rowLine, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package epam.com.esm.utils.imports.readers;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import epam.com.esm.exception.types.InputException;
+import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
+import epam.com.esm.view.dto.request.impl.products.GiftCertificateDtoRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Function;
+
+/**
+ * NdjsonRowReader is the row reader class, reads each non-blank line as gift certificate create request JSON object
+ */
+public class NdjsonRowReader extends AbstractRowReader {
+
+    /**
+     * Holds reader of gift certificate dto requests
+     */
+    private static final ObjectReader READER = new ObjectMapper().readerFor(GiftCertificateDtoRequest.class);
+
+    /**
+     * Constructs NdjsonRowReader with provided input stream and verifier
+     *
+     * @param in provided input stream of imported file, UTF-8 encoded
+     * @param verifier provided verifier, converts gift certificate dto request to gift certificate
+     */
+    public NdjsonRowReader(InputStream in, Function<GiftCertificateDtoRequest, GiftCertificate> verifier) {
+        super(in, verifier);
+    }
+
+    /**
+     * Reads next non-blank line as gift certificate dto request
+     * Will throw InputException if line isn't gift certificate JSON object
+     *
+     * @return {@code GiftCertificateDtoRequest} read row, null if end of file was reached
+     * @throws IOException if file can't be read
+     */
+    @Override
+    protected GiftCertificateDtoRequest readRow() throws IOException {
+        String l;
+
+        do {
+            l = readLine(true);
+        } while (l != null && l.trim().isEmpty());
+
+        if (l == null) {
+            return null;
+        }
+
+        try {
+            GiftCertificateDtoRequest dto = READER.readValue(l);
+
+            if (dto == null) {
+                throw new InputException("Gift Certificate cannot be null");
+            }
+
+            return dto;
+        } catch (JsonProcessingException e) {
+            throw new InputException("Line isn't Gift Certificate JSON object: " + e.getOriginalMessage());
+        }
+    }
+}
@@ -4,6 +4,7 @@ import epam.com.esm.persistence.entity.impl.action.Order;
 import epam.com.esm.utils.converters.dto.action.OrderUserDtoConverter;
 import epam.com.esm.utils.search.data.AbstractDataHandler;
 import epam.com.esm.utils.search.data.components.DefaultLoader;
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
 import epam.com.esm.utils.search.filter.handlers.WebRequestHandler;
 import epam.com.esm.utils.search.request.handlers.ResponseHandler;
 import epam.com.esm.utils.search.transport.request.PageDataRequest;
@@ -22,6 +23,15 @@ import java.util.stream.Collectors;
  */
 public class OrderUserDataHandler extends AbstractDataHandler<Order, OrderUserDtoResponse> {
 
+    /**
+     * Constructor with filter metadata registry
+     *
+     * @param registry provided filter metadata registry
+     */
+    public OrderUserDataHandler(FilterMetadataRegistry registry) {
+        super(registry);
+    }
+
     /**
      * Converts web request to search param request, transfers params between them
      *
@@ -32,7 +42,7 @@ public class OrderUserDataHandler extends AbstractDataHandler<Order, OrderUserDt
     public SearchParamRequest processSearch(WebRequest webRequest) {
         PageDataRequest dataRequest = new PageDataRequest(webRequest);
         DefaultLoader dl = new DefaultLoader("o.id", "asc", 1, 10, false);
-        return WebRequestHandler.convertToParamRequest(dataRequest, Order.class, dl);
+        return WebRequestHandler.convertToParamRequest(dataRequest, registry, Order.class, dl);
     }
 
     /**
@@ -4,6 +4,7 @@ import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
 import epam.com.esm.utils.converters.dto.products.GiftCertificateDtoConverter;
 import epam.com.esm.utils.search.data.AbstractDataHandler;
 import epam.com.esm.utils.search.data.components.DefaultLoader;
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
 import epam.com.esm.utils.search.filter.handlers.WebRequestHandler;
 import epam.com.esm.utils.search.request.handlers.ResponseHandler;
 import epam.com.esm.utils.search.transport.request.PageDataRequest;
@@ -22,6 +23,15 @@ import java.util.stream.Collectors;
  */
 public class GiftCertificateDataHandler extends AbstractDataHandler<GiftCertificate, GiftCertificateDtoResponse> {
 
+    /**
+     * Constructor with filter metadata registry
+     *
+     * @param registry provided filter metadata registry
+     */
+    public GiftCertificateDataHandler(FilterMetadataRegistry registry) {
+        super(registry);
+    }
+
     /**
      * Converts web request to search param request, transfers params between them
      *
@@ -32,7 +42,7 @@ public class GiftCertificateDataHandler extends AbstractDataHandler<GiftCertific
     public SearchParamRequest processSearch(WebRequest webRequest) {
         PageDataRequest dataRequest = new PageDataRequest(webRequest);
         DefaultLoader dl = new DefaultLoader("gc.id", "asc", 1, 10, false);
-        return WebRequestHandler.convertToParamRequest(dataRequest, GiftCertificate.class, dl);
+        return WebRequestHandler.convertToParamRequest(dataRequest, registry, GiftCertificate.class, dl);
     }
 
     /**
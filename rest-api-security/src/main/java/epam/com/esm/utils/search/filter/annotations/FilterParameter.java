@@ -25,4 +25,11 @@ public @interface FilterParameter {
      * @return dictionary alias values
      */
     String[] alias();
+
+    /**
+     * Provides full-text search support of field, field with full-text search must be covered by FULLTEXT index
+     *
+     * @return {@code true} if field can be used in text search
+     */
+    boolean fullText() default false;
 }
\ No newline at end of file
@@ -1,18 +1,23 @@
 package epam.com.esm.utils.search.filter.handlers;
 
+import epam.com.esm.exception.types.BuildException;
 import epam.com.esm.utils.search.filter.annotations.FilterObject;
 import epam.com.esm.utils.search.filter.annotations.FilterParameter;
 import epam.com.esm.utils.search.filter.annotations.FilterPrefix;
 import epam.com.esm.utils.search.filter.components.ClassDescription;
 
 import java.lang.reflect.Field;
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * FilterAnnotationHandler is the service class, scans class for filter parameters, builds dictionary and class map
  * for filtered search
+ * Instances are built once at startup by {@link FilterMetadataRegistry} and are immutable afterwards
  */
 public final class FilterAnnotationHandler {
 
@@ -31,24 +36,39 @@ public final class FilterAnnotationHandler {
      */
     private Map<Class<?>, ClassDescription> classMap;
 
+    /**
+     * Holds dictionary keys of fields with full-text search support
+     */
+    private Set<String> textFields;
+
+    /**
+     * Holds field types by dictionary keys
+     */
+    private Map<String, Class<?>> fieldTypes;
+
     /**
      * Constructs FilterAnnotationHandler with provided class, builds base filter data
+     * Will throw BuildException if filter annotations of class are inconsistent
      *
      * @param cls class to filter
      */
-    public FilterAnnotationHandler(Class<?> cls) {
+    FilterAnnotationHandler(Class<?> cls) {
         initMaps();
         this.prefix = scanForPrefix(cls);
-        this.classMap = scanForObject(cls);
-        this.dictionary = scanClassForParams(cls);
+        this.classMap = freeze(scanForObject(cls));
+        this.dictionary = freeze(scanClassForParams(cls));
+        this.textFields = Collections.unmodifiableSet(textFields);
+        this.fieldTypes = freeze(fieldTypes);
     }
 
     /**
-     * Initializes class and dictionary maps
+     * Initializes class, dictionary and field types maps and text fields set
      */
     private void initMaps() {
         this.classMap = new LinkedHashMap<>();
         this.dictionary = new LinkedHashMap<>();
+        this.textFields = new HashSet<>();
+        this.fieldTypes = new LinkedHashMap<>();
     }
 
     /**
@@ -94,10 +114,32 @@ public final class FilterAnnotationHandler {
      */
     private void scanPlainField(String prefix, Field field) {
         if (field.isAnnotationPresent(FilterParameter.class)) {
-            field.setAccessible(true);
-            String dbName = prefix + field.getAnnotation(FilterParameter.class).fieldName();
-            String[] urlNames = field.getAnnotation(FilterParameter.class).alias();
-            Arrays.stream(urlNames).forEach(x -> dictionary.put(x, dbName));
+            FilterParameter fp = field.getAnnotation(FilterParameter.class);
+
+            if (!fp.fieldName().equals(field.getName()) || fp.alias().length == 0) {
+                throw new BuildException(
+                        "Filter parameter of field " + field.getDeclaringClass().getSimpleName() + "." +
+                        field.getName() + " is invalid (fieldName = " + fp.fieldName() + ")"
+                );
+            }
+
+            String dbName = prefix + fp.fieldName();
+
+            if (fp.fullText()) {
+                textFields.add(dbName);
+            }
+
+            fieldTypes.put(dbName, field.getType());
+
+            for (String alias : fp.alias()) {
+                String previous = dictionary.put(alias, dbName);
+
+                if (previous != null && !previous.equals(dbName)) {
+                    throw new BuildException(
+                            "Filter alias (alias = " + alias + ") is ambiguous: " + previous + ", " + dbName
+                    );
+                }
+            }
         }
     }
 
@@ -131,22 +173,39 @@ public final class FilterAnnotationHandler {
      */
     private Map<Class<?>, ClassDescription> scanForObject(Class<?> cls) {
         for (Field field : cls.getDeclaredFields()) {
-            field.setAccessible(true);
-
             if (field.isAnnotationPresent(FilterObject.class)) {
                 Class<?> clazz = field.getAnnotation(FilterObject.class).cls();
                 String joinName = field.getAnnotation(FilterObject.class).path();
 
-                if (clazz.isAnnotationPresent(FilterPrefix.class)) {
-                    String prefix = clazz.getAnnotation(FilterPrefix.class).prefix();
-                    classMap.put(clazz, new ClassDescription(prefix, joinName));
+                if (!clazz.isAnnotationPresent(FilterPrefix.class) || !joinName.equals(field.getName())) {
+                    throw new BuildException(
+                            "Filter object of field " + cls.getSimpleName() + "." + field.getName() +
+                            " is invalid (cls = " + clazz.getSimpleName() + ", path = " + joinName + ")"
+                    );
                 }
+
+                String prefix = clazz.getAnnotation(FilterPrefix.class).prefix();
+                classMap.put(clazz, new ClassDescription(prefix, joinName));
             }
         }
 
         return classMap;
     }
 
+    /**
+     * Copies provided map into pre-sized unmodifiable map
+     *
+     * @param map provided map
+     * @return {@code Map<K, V>} unmodifiable copy of provided map
+     * @param <K> describes key type
+     * @param <V> describes value type
+     */
+    private static <K, V> Map<K, V> freeze(Map<K, V> map) {
+        Map<K, V> copy = new HashMap<>((int) (map.size() / 0.75f) + 1);
+        copy.putAll(map);
+        return Collections.unmodifiableMap(copy);
+    }
+
     /**
      * Gets value from prefix field
      *
@@ -165,6 +224,24 @@ public final class FilterAnnotationHandler {
         return dictionary;
     }
 
+    /**
+     * Gets dictionary keys of fields with full-text search support
+     *
+     * @return {@code Set<String>} text fields
+     */
+    public Set<String> getTextFields() {
+        return textFields;
+    }
+
+    /**
+     * Gets field types by dictionary keys
+     *
+     * @return {@code Map<String, Class<?>>} field types
+     */
+    public Map<String, Class<?>> getFieldTypes() {
+        return fieldTypes;
+    }
+
     /**
      * Gets class map
      *
@@ -1,7 +1,13 @@
 package epam.com.esm.utils.search.filter.handlers;
 
+import epam.com.esm.config.metrics.LatencyMetrics;
+import epam.com.esm.config.metrics.type.Layer;
 import epam.com.esm.exception.types.IncorrectUrlParameterException;
 import epam.com.esm.utils.search.data.components.DefaultLoader;
+import epam.com.esm.utils.search.request.components.type.Comparison;
+import epam.com.esm.utils.search.request.components.type.Joining;
+import epam.com.esm.utils.search.request.handlers.FilterValueHandler;
+import epam.com.esm.utils.search.request.handlers.TextQueryHandler;
 import epam.com.esm.utils.search.transport.request.PageDataRequest;
 import epam.com.esm.utils.search.transport.request.SearchParamRequest;
 
@@ -23,6 +29,11 @@ public final class WebRequestHandler {
      */
     private static final String PART_SEARCH_FLAG = "p";
 
+    /**
+     * Holds text search key
+     */
+    private static final String TEXT_SEARCH_FLAG = "t";
+
     /**
      * Holds sort key
      */
@@ -33,6 +44,36 @@ public final class WebRequestHandler {
      */
     private static final String DIVIDER = ":";
 
+    /**
+     * Holds cursor mode key
+     */
+    private static final String CURSOR = "cursor";
+
+    /**
+     * Holds after cursor key
+     */
+    private static final String AFTER = "after";
+
+    /**
+     * Holds before cursor key
+     */
+    private static final String BEFORE = "before";
+
+    /**
+     * Holds join params joining key
+     */
+    private static final String JOIN = "join";
+
+    /**
+     * Holds joining value, every join param must be matched
+     */
+    private static final String JOIN_ALL = "all";
+
+    /**
+     * Holds joining value, any join param must be matched
+     */
+    private static final String JOIN_ANY = "any";
+
     /**
      * Default constructor
      */
@@ -42,12 +83,20 @@ public final class WebRequestHandler {
      * Converts page data request to search param request for provided class with default loader
      *
      * @param pdr provided page data request
+     * @param registry provided filter metadata registry
      * @param cls provided class for filtering
      * @param dl provided default loader
      * @return {@code SearchParamRequest} generated search param request
      */
-    public static SearchParamRequest convertToParamRequest(PageDataRequest pdr, Class<?> cls, DefaultLoader dl) {
-        return initRequest(pdr, dl, new FilterAnnotationHandler(cls));
+    public static SearchParamRequest convertToParamRequest(PageDataRequest pdr, FilterMetadataRegistry registry,
+                                                           Class<?> cls, DefaultLoader dl) {
+        long started = System.nanoTime();
+
+        try {
+            return initRequest(pdr, dl, registry.get(cls));
+        } finally {
+            LatencyMetrics.record(Layer.REQUEST, cls.getSimpleName() + ".convertToParamRequest", started);
+        }
     }
 
     /**
@@ -61,11 +110,16 @@ public final class WebRequestHandler {
     private static SearchParamRequest initRequest(PageDataRequest pdr, DefaultLoader dl, FilterAnnotationHandler fah) {
         SearchParamRequest spReq = new SearchParamRequest();
         spReq.setFullParams(parseFullParams(pdr.getFullParams(), fah));
+        checkTypedValues(spReq.getFullParams(), fah);
         spReq.setPartParams(parsePartParams(pdr.getFullParams(), fah));
+        spReq.setTextParams(parseTextParams(pdr.getFullParams(), fah));
+        spReq.setRangeParams(parseRangeParams(pdr.getFullParams(), fah));
         loadSortState(pdr, dl, spReq, fah);
         loadSizeState(pdr, dl, spReq);
         loadPageState(pdr, dl, spReq);
         loadFold(pdr, dl, spReq);
+        loadJoining(pdr, spReq);
+        loadCursorState(pdr, spReq, fah);
         return spReq;
     }
 
@@ -171,6 +225,82 @@ public final class WebRequestHandler {
         }
     }
 
+    /**
+     * Loads joining of join params to search param request, join=all (default) requires every join param to be
+     * matched by some joined row, join=any requires any of them
+     * Will throw IncorrectUrlParameterException if joining value is unknown
+     *
+     * @param pdr provided page data request
+     * @param spReq provided search param request
+     */
+    private static void loadJoining(PageDataRequest pdr, SearchParamRequest spReq) {
+        if (!pdr.getFullParams().containsKey(JOIN)) {
+            spReq.setJoining(Joining.AND);
+        } else {
+            String joining = pdr.getFullParams().get(JOIN)[0];
+
+            if (joining.equalsIgnoreCase(JOIN_ALL)) {
+                spReq.setJoining(Joining.AND);
+            } else if (joining.equalsIgnoreCase(JOIN_ANY)) {
+                spReq.setJoining(Joining.OR);
+            } else {
+                throw new IncorrectUrlParameterException(
+                        "This joining is incorrect. Parameter should be all or any, got (join = " + joining +
+                        ") instead."
+                );
+            }
+        }
+    }
+
+    /**
+     * Loads cursor state to search param request
+     * Cursor mode is enabled by cursor=on param or by presence of after/before cursor, requires single sort param
+     * of root class, which is used as seek field
+     * Cursor mode can't be combined with text search, because text search results are ordered by relevance
+     *
+     * @param pdr provided page data request
+     * @param spReq provided search param request
+     * @param fah provided filter annotation handler
+     */
+    private static void loadCursorState(PageDataRequest pdr, SearchParamRequest spReq, FilterAnnotationHandler fah) {
+        Map<String, String[]> params = pdr.getFullParams();
+
+        if (params.containsKey(AFTER) && params.containsKey(BEFORE)) {
+            throw new IncorrectUrlParameterException("Only one of after and before cursors can be provided.");
+        }
+
+        spReq.setCursor(params.containsKey(AFTER) || params.containsKey(BEFORE)
+                        || (params.containsKey(CURSOR) && params.get(CURSOR)[0].equalsIgnoreCase("on")));
+
+        if (spReq.isCursor()) {
+            if (spReq.isTextSearch()) {
+                throw new IncorrectUrlParameterException(
+                        "Cursor pagination can't be combined with text search (text = " +
+                        spReq.getTextParams().keySet() + ")."
+                );
+            }
+
+            if (spReq.getSortParams().size() != 1
+                || spReq.getSortParams().values().iterator().next().size() != 1
+                || !spReq.getSortParams().keySet().iterator().next().startsWith(fah.getPrefix())) {
+                throw new IncorrectUrlParameterException(
+                        "Cursor pagination requires single sort parameter of requested entity (sort = " +
+                        spReq.getSortParams().keySet() + ")."
+                );
+            }
+
+            spReq.setSeekField(spReq.getSortParams().keySet().iterator().next().replace(fah.getPrefix(), ""));
+
+            if (params.containsKey(AFTER)) {
+                spReq.setAfter(params.get(AFTER)[0]);
+            }
+
+            if (params.containsKey(BEFORE)) {
+                spReq.setBefore(params.get(BEFORE)[0]);
+            }
+        }
+    }
+
     /**
      * Checks if string is integer
      *
@@ -220,6 +350,96 @@ public final class WebRequestHandler {
         return partParams;
     }
 
+    /**
+     * Checks that values of typed fields can be converted to field type
+     * Will throw IncorrectUrlParameterException if value can't be converted
+     *
+     * @param params provided params map
+     * @param fah provided filter annotation handler
+     */
+    private static void checkTypedValues(Map<String, List<String>> params, FilterAnnotationHandler fah) {
+        for (Map.Entry<String, List<String>> me : params.entrySet()) {
+            Class<?> type = fah.getFieldTypes().get(me.getKey());
+
+            if (FilterValueHandler.isTypedType(type)) {
+                me.getValue().forEach(v -> FilterValueHandler.convert(v, type));
+            }
+        }
+    }
+
+    /**
+     * Parses text params from map
+     * Will throw IncorrectUrlParameterException if requested field doesn't support full-text search or value
+     * doesn't contain words
+     *
+     * @param toFilter request params map
+     * @param fah provided filter annotation handler
+     * @return {@code Map<String, List<String>>} parsed text params map
+     */
+    private static Map<String, List<String>> parseTextParams(Map<String, String[]> toFilter,
+                                                             FilterAnnotationHandler fah) {
+        Map<String, List<String>> textParams = new LinkedHashMap<>();
+        toFilter.entrySet()
+                .stream()
+                .filter(x -> textParamCondition(x, fah))
+                .forEach(addToSearchMap(textParams, fah));
+
+        for (String field : textParams.keySet()) {
+            if (!fah.getTextFields().contains(field)) {
+                throw new IncorrectUrlParameterException(
+                        "This field doesn't support text search (field = " + field + ")."
+                );
+            }
+        }
+
+        textParams.values().forEach(v -> v.forEach(TextQueryHandler::toBooleanQuery));
+        return textParams;
+    }
+
+    /**
+     * Parses range params from map, params of each comparison type are stored separately
+     * Will throw IncorrectUrlParameterException if requested field doesn't support range search or value can't be
+     * converted to field type
+     *
+     * @param toFilter request params map
+     * @param fah provided filter annotation handler
+     * @return {@code Map<Comparison, Map<String, List<String>>>} parsed range params map
+     */
+    private static Map<Comparison, Map<String, List<String>>> parseRangeParams(Map<String, String[]> toFilter,
+                                                                             FilterAnnotationHandler fah) {
+        Map<Comparison, Map<String, List<String>>> rangeParams = new EnumMap<>(Comparison.class);
+
+        for (Comparison c : Comparison.values()) {
+            Map<String, List<String>> params = new LinkedHashMap<>();
+            toFilter.entrySet()
+                    .stream()
+                    .filter(x -> rangeParamCondition(x, c, fah))
+                    .forEach(addToSearchMap(params, fah));
+
+            for (Map.Entry<String, List<String>> me : params.entrySet()) {
+                Class<?> type = fah.getFieldTypes().get(me.getKey());
+
+                if (!FilterValueHandler.isRangeType(type)) {
+                    throw new IncorrectUrlParameterException(
+                            "This field doesn't support range search (field = " + me.getKey() + ")."
+                    );
+                }
+
+                if (c.equals(Comparison.BETWEEN)) {
+                    me.getValue().forEach(v -> FilterValueHandler.convertBounds(v, type));
+                } else {
+                    me.getValue().forEach(v -> FilterValueHandler.convert(v, type));
+                }
+            }
+
+            if (!params.isEmpty()) {
+                rangeParams.put(c, params);
+            }
+        }
+
+        return rangeParams;
+    }
+
     /**
      * Parses sort params from map
      *
@@ -291,6 +511,36 @@ public final class WebRequestHandler {
                && containsValueInAliases(fah.getDictionary(), p.getKey().split(DIVIDER)[1]);
     }
 
+    /**
+     * Checks if param compliant with text param search
+     *
+     * @param t text param candidate
+     * @param fah provided filter annotation handler
+     * @return {@code true} if param compliant
+     */
+    private static boolean textParamCondition(Map.Entry<String, String[]> t, FilterAnnotationHandler fah) {
+        return t.getKey().contains(DIVIDER)
+               && t.getKey().split(DIVIDER).length == 2
+               && t.getKey().split(DIVIDER)[0].equals(TEXT_SEARCH_FLAG)
+               && containsValueInAliases(fah.getDictionary(), t.getKey().split(DIVIDER)[1]);
+    }
+
+    /**
+     * Checks if param compliant with range param search of provided comparison type
+     *
+     * @param r range param candidate
+     * @param c provided comparison type
+     * @param fah provided filter annotation handler
+     * @return {@code true} if param compliant
+     */
+    private static boolean rangeParamCondition(Map.Entry<String, String[]> r, Comparison c,
+                                               FilterAnnotationHandler fah) {
+        return r.getKey().contains(DIVIDER)
+               && r.getKey().split(DIVIDER).length == 2
+               && r.getKey().split(DIVIDER)[0].equals(c.getFlag())
+               && containsValueInAliases(fah.getDictionary(), r.getKey().split(DIVIDER)[1]);
+    }
+
     /**
      * Checks if param compliant with sort param search
      *
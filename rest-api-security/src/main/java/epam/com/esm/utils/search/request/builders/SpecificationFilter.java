@@ -1,10 +1,14 @@
 package epam.com.esm.utils.search.request.builders;
 
+import epam.com.esm.config.metrics.LatencyMetrics;
+import epam.com.esm.config.metrics.type.Layer;
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
 import epam.com.esm.utils.search.request.components.type.Joining;
 import epam.com.esm.utils.search.request.handlers.RequestParameterHandler;
 import epam.com.esm.utils.search.transport.request.SearchParamRequest;
 import org.springframework.data.jpa.domain.Specification;
 
+import javax.persistence.Tuple;
 import javax.persistence.criteria.*;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -43,24 +47,43 @@ public class SpecificationFilter<E> implements Specification<E> {
     private final Class<?>[] joined;
 
     /**
-     * Constructs specification filter with search param request, request parameter handler and joined classes
+     * Holds operation name of latency metrics
+     */
+    private final String operation;
+
+    /**
+     * Constructs specification filter with filter metadata registry, search param request, target and joined classes
      *
+     * @param registry           provided filter metadata registry
      * @param searchParamRequest provided search param request
      * @param target             provided target class
      * @param joined             provided classes for joins
      */
-    public SpecificationFilter(SearchParamRequest searchParamRequest,
+    public SpecificationFilter(FilterMetadataRegistry registry,
+                               SearchParamRequest searchParamRequest,
                                Class<?> target,
                                Class<?> ... joined) {
         this.predicates = new ArrayList<>();
         this.orders = new ArrayList<>();
         this.searchParamRequest = searchParamRequest;
-        this.requestParameterHandler = new RequestParameterHandler(target);
+        this.requestParameterHandler = new RequestParameterHandler(registry, target);
         this.joined = joined;
+        this.operation = target.getSimpleName() + ".toPredicate";
     }
 
     /**
      * Generates predicate for filtering
+     * <p>
+     * Specification may be applied to several queries (count and page), so predicates and orders are rebuilt for
+     * every query root. Count query and version probe receive the same predicates, but no orders
+     * <p>
+     * Join params are applied as semi-joins, so root rows are joined only for sorting by joined fields. Query is
+     * distinct only if root has joins, distinct count query is resolved by repository as
+     * {@code COUNT(DISTINCT root.id)}
+     * <p>
+     * In cursor mode page query receives seek predicate and is ordered by seek field and id instead of offset
+     * <p>
+     * Text search page query is ordered by relevance first, sort params are applied to rows with equal relevance
      *
      * @param root must not be {@literal null}.
      * @param query must not be {@literal null}.
@@ -69,17 +92,44 @@ public class SpecificationFilter<E> implements Specification<E> {
      */
     @Override
     public Predicate toPredicate(Root<E> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
-        addPredicates(root, criteriaBuilder);
-        addOrders(root, criteriaBuilder);
+        long started = System.nanoTime();
+
+        try {
+            predicates.clear();
+            orders.clear();
+            addPredicates(root, query, criteriaBuilder);
+
+            if (!isAggregateQuery(query)) {
+                if (searchParamRequest.isCursor()) {
+                    addSeek(root, criteriaBuilder);
+                } else {
+                    addOrders(root, criteriaBuilder);
+                }
+            }
+
+            Predicate p = null;
 
-        Predicate p = null;
+            if (!predicates.isEmpty()) {
+                p = criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+            }
 
-        if (!predicates.isEmpty()) {
-            p = criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+            query.distinct(!root.getJoins().isEmpty()).orderBy(orders);
+            return p;
+        } finally {
+            LatencyMetrics.record(Layer.FILTER, operation, started);
         }
+    }
 
-        query.distinct(true).orderBy(orders);
-        return p;
+    /**
+     * Checks if provided query is aggregate query, count query produces count result and version probe produces
+     * tuple of counts and sums
+     *
+     * @param query provided query
+     * @return {@code true} if query produces count or version probe result
+     */
+    private boolean isAggregateQuery(CriteriaQuery<?> query) {
+        return Long.class.equals(query.getResultType()) || long.class.equals(query.getResultType())
+               || Tuple.class.equals(query.getResultType());
     }
 
     /**
@@ -89,21 +139,44 @@ public class SpecificationFilter<E> implements Specification<E> {
      * @param criteriaBuilder provided criteria builder
      */
     private void addOrders(Root<E> root, CriteriaBuilder criteriaBuilder) {
+        addTextOrders(root, criteriaBuilder);
         addRootOrders(root, criteriaBuilder);
         addJoinsOrders(root, criteriaBuilder);
     }
 
+    /**
+     * Adds seek predicate and seek orders for cursor mode
+     *
+     * @param root provided root
+     * @param criteriaBuilder provided criteria builder
+     */
+    private void addSeek(Root<E> root, CriteriaBuilder criteriaBuilder) {
+        Predicate seek = requestParameterHandler.fetchSeekParams(searchParamRequest, root, criteriaBuilder);
+
+        if (seek != null) {
+            predicates.add(seek);
+        }
+
+        orders.addAll(requestParameterHandler.fetchSeekOrderBy(searchParamRequest, root, criteriaBuilder));
+    }
+
     /**
      * Adds predicates for root and joined classes
      *
      * @param root provided root
+     * @param query provided criteria query
      * @param criteriaBuilder provided criteria builder
      */
-    private void addPredicates(Root<E> root, CriteriaBuilder criteriaBuilder) {
+    private void addPredicates(Root<E> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
         rootFullParams(root, criteriaBuilder);
         rootPartParams(root, criteriaBuilder);
-        joinFullParams(root, criteriaBuilder);
-        joinPartParams(root, criteriaBuilder);
+        rootRangeParams(root, criteriaBuilder);
+
+        if (searchParamRequest.isTextSearch()) {
+            rootTextParams(root, criteriaBuilder);
+        }
+
+        joinParams(root, query, criteriaBuilder);
     }
 
     /**
@@ -132,35 +205,59 @@ public class SpecificationFilter<E> implements Specification<E> {
     }
 
     /**
-     * Adds join full params predicates
+     * Adds root range params predicates
      *
      * @param root provided root
      * @param criteriaBuilder provided criteria builder
      */
-    private void joinFullParams(Root<E> root, CriteriaBuilder criteriaBuilder) {
-        Arrays.stream(joined).forEach(
-                c -> predicates.add(
-                        requestParameterHandler.fetchJoinFullParams(
-                                searchParamRequest, root, criteriaBuilder, c, Joining.AND)
-                )
+    private void rootRangeParams(Root<E> root, CriteriaBuilder criteriaBuilder) {
+        predicates.add(requestParameterHandler.fetchRootRangeParams(
+                searchParamRequest, root, criteriaBuilder, Joining.AND)
         );
     }
 
     /**
-     * Adds join part params predicates
+     * Adds join params predicates, params of each joined class are compiled into single semi-join
+     * Join params are joined by requested joining, root params are always joined by AND
      *
      * @param root provided root
+     * @param query provided criteria query
      * @param criteriaBuilder provided criteria builder
      */
-    private void joinPartParams(Root<E> root, CriteriaBuilder criteriaBuilder) {
+    private void joinParams(Root<E> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
         Arrays.stream(joined).forEach(
                 c -> predicates.add(
-                        requestParameterHandler.fetchJoinPartParams(
-                                searchParamRequest, root, criteriaBuilder, c, Joining.AND)
+                        requestParameterHandler.fetchJoinParams(
+                                searchParamRequest, root, query, criteriaBuilder, c,
+                                searchParamRequest.getJoining())
                 )
         );
     }
 
+    /**
+     * Adds root text params predicates
+     *
+     * @param root provided root
+     * @param criteriaBuilder provided criteria builder
+     */
+    private void rootTextParams(Root<E> root, CriteriaBuilder criteriaBuilder) {
+        predicates.add(requestParameterHandler.fetchRootTextParams(
+                searchParamRequest, root, criteriaBuilder, Joining.AND)
+        );
+    }
+
+    /**
+     * Adds text search relevance orders
+     *
+     * @param root provided root
+     * @param criteriaBuilder provided criteria builder
+     */
+    private void addTextOrders(Root<E> root, CriteriaBuilder criteriaBuilder) {
+        if (searchParamRequest.isTextSearch()) {
+            orders.addAll(requestParameterHandler.fetchTextOrderBy(searchParamRequest, root, criteriaBuilder));
+        }
+    }
+
     /**
      * Adds root orders
      *
@@ -79,6 +79,17 @@ public class SpecificationUtil<E extends BaseEntity> {
         };
     }
 
+    /**
+     * Generates specification for root id search
+     *
+     * @param id provided root id
+     * @param idName provided id column name
+     * @return {@code Specification<E>} generated specification
+     */
+    public Specification<E> idEquals(Long id, String idName) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get(idName), id);
+    }
+
     /**
      * Generates specification for multi join id search
      *
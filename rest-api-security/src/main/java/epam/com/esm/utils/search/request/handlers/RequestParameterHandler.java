@@ -1,6 +1,11 @@
 package epam.com.esm.utils.search.request.handlers;
 
+import epam.com.esm.config.dialect.FullTextMySQLDialect;
+import epam.com.esm.exception.types.IncorrectUrlParameterException;
 import epam.com.esm.utils.search.filter.handlers.FilterAnnotationHandler;
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
+import epam.com.esm.utils.search.request.components.SeekCursor;
+import epam.com.esm.utils.search.request.components.type.Comparison;
 import epam.com.esm.utils.search.request.components.type.Joining;
 import epam.com.esm.utils.search.transport.request.SearchParamRequest;
 
@@ -20,16 +25,18 @@ public class RequestParameterHandler {
     private final FilterAnnotationHandler fah;
 
     /**
-     * Constructs request parameter handler with provided class
+     * Constructs request parameter handler with filter metadata of provided class
      *
+     * @param registry provided filter metadata registry
      * @param cls provided class
      */
-    public RequestParameterHandler(Class<?> cls) {
-        this.fah = new FilterAnnotationHandler(cls);
+    public RequestParameterHandler(FilterMetadataRegistry registry, Class<?> cls) {
+        this.fah = registry.get(cls);
     }
 
     /**
      * Generates predicate based on root full search params
+     * Values of typed fields are converted to field type and compared by equality or IN without string cast
      *
      * @param spReq provided search param request
      * @param root provided root
@@ -43,7 +50,7 @@ public class RequestParameterHandler {
         for (Map.Entry<String, List<String>> me : spReq.getFullParams().entrySet()) {
             if (me.getKey().startsWith(fah.getPrefix())) {
                 String replacement = me.getKey().replace(fah.getPrefix(), "");
-                predicates.add(root.get(replacement).as(String.class).in(me.getValue()));
+                predicates.add(typedIn(cb, root.get(replacement), me.getValue()));
             }
         }
 
@@ -53,28 +60,22 @@ public class RequestParameterHandler {
     }
 
     /**
-     * Generates predicate based on join full search params
+     * Generates predicate based on root part search params
      *
      * @param spReq provided search param request
      * @param root provided root
      * @param cb provided criteria builder
-     * @param joined provided joined class
      * @param joining provided joining
      * @return {@code Predicate} generated predicate
      */
-    public Predicate fetchJoinFullParams(SearchParamRequest spReq, Root<?> root, CriteriaBuilder cb, Class<?> joined,
-                                         Joining joining) {
+    public Predicate fetchRootPartParams(SearchParamRequest spReq, Root<?> root, CriteriaBuilder cb, Joining joining) {
         List<Predicate> predicates = new ArrayList<>();
-        String prefix = fah.getClassMap().get(joined).getPrefix();
-        String joinName = fah.getClassMap().get(joined).getJoinName();
 
-        for (Map.Entry<String, List<String>> me : spReq.getFullParams().entrySet()) {
-            if (me.getKey().startsWith(prefix)) {
-                String replacement = me.getKey().replace(prefix, "");
-                me.getValue().forEach(
-                        x -> predicates.add(
-                                cb.like(root.join(joinName, JoinType.LEFT).get(replacement).as(String.class), x)
-                        )
+        for (Map.Entry<String, List<String>> me : spReq.getPartParams().entrySet()) {
+            if (me.getKey().startsWith(fah.getPrefix())) {
+                String replacement = me.getKey().replace(fah.getPrefix(), "");
+                me.getValue().forEach(x -> predicates.add(
+                        cb.like(root.get(replacement).as(String.class), "%" + x + "%"))
                 );
             }
         }
@@ -85,7 +86,8 @@ public class RequestParameterHandler {
     }
 
     /**
-     * Generates predicate based on root part search params
+     * Generates predicate based on root text search params
+     * Every value is matched against full-text index of field, row matches if its relevance is greater than 0
      *
      * @param spReq provided search param request
      * @param root provided root
@@ -93,14 +95,14 @@ public class RequestParameterHandler {
      * @param joining provided joining
      * @return {@code Predicate} generated predicate
      */
-    public Predicate fetchRootPartParams(SearchParamRequest spReq, Root<?> root, CriteriaBuilder cb, Joining joining) {
+    public Predicate fetchRootTextParams(SearchParamRequest spReq, Root<?> root, CriteriaBuilder cb, Joining joining) {
         List<Predicate> predicates = new ArrayList<>();
 
-        for (Map.Entry<String, List<String>> me : spReq.getPartParams().entrySet()) {
+        for (Map.Entry<String, List<String>> me : spReq.getTextParams().entrySet()) {
             if (me.getKey().startsWith(fah.getPrefix())) {
                 String replacement = me.getKey().replace(fah.getPrefix(), "");
-                me.getValue().forEach(x -> predicates.add(
-                        cb.like(root.get(replacement).as(String.class), "%" + x + "%"))
+                me.getValue().forEach(
+                        x -> predicates.add(cb.greaterThan(relevance(cb, root.get(replacement), x), 0.0))
                 );
             }
         }
@@ -111,36 +113,247 @@ public class RequestParameterHandler {
     }
 
     /**
-     * Generates predicate based on join part search params
+     * Generates predicate based on root range search params
+     * Values are converted to field type, so comparison is applied to native column and can use index range scan
      *
      * @param spReq provided search param request
      * @param root provided root
      * @param cb provided criteria builder
-     * @param joined provided joined class
      * @param joining provided joining
      * @return {@code Predicate} generated predicate
      */
-    public Predicate fetchJoinPartParams(SearchParamRequest spReq, Root<?> root, CriteriaBuilder cb, Class<?> joined,
-                                         Joining joining) {
+    public Predicate fetchRootRangeParams(SearchParamRequest spReq, Root<?> root, CriteriaBuilder cb,
+                                          Joining joining) {
         List<Predicate> predicates = new ArrayList<>();
+        fetchRangePredicates(spReq, root, cb, fah.getPrefix(), predicates);
+        return joining.equals(Joining.AND)
+               ? cb.and(predicates.toArray(new Predicate[0]))
+               : cb.or(predicates.toArray(new Predicate[0]));
+    }
+
+    /**
+     * Generates semi-join predicate based on join full, part, text and range search params
+     * <p>
+     * Join search params of joined class are compiled into single subquery {@code root.id IN (SELECT ...)}, so
+     * filtering doesn't join collection table once per value and doesn't multiply root rows. With AND joining every
+     * value must be matched by some joined row, subquery is grouped by root id and each value is checked
+     * in HAVING clause. With OR joining any matched value is enough
+     *
+     * @param spReq provided search param request
+     * @param root provided root
+     * @param query provided criteria query
+     * @param cb provided criteria builder
+     * @param joined provided joined class
+     * @param joining provided joining
+     * @return {@code Predicate} generated predicate
+     */
+    public Predicate fetchJoinParams(SearchParamRequest spReq, Root<?> root, CriteriaQuery<?> query,
+                                     CriteriaBuilder cb, Class<?> joined, Joining joining) {
         String prefix = fah.getClassMap().get(joined).getPrefix();
-        String joinName = fah.getClassMap().get(joined).getJoinName();
 
+        if (!hasParams(spReq.getFullParams(), prefix) && !hasParams(spReq.getPartParams(), prefix)
+            && !hasParams(spReq.getTextParams(), prefix) && !hasRangeParams(spReq, prefix)) {
+            return cb.and();
+        }
+
+        Subquery<Long> sq = query.subquery(Long.class);
+        Root<?> sub = sq.from(root.getJavaType());
+        Join<?, ?> join = sub.join(fah.getClassMap().get(joined).getJoinName());
+        List<Predicate> predicates = new ArrayList<>();
+        fetchJoinFullPredicates(spReq, join, cb, prefix, predicates);
+        fetchJoinPartPredicates(spReq, join, cb, prefix, predicates);
+        fetchJoinTextPredicates(spReq, join, cb, prefix, predicates);
+        fetchRangePredicates(spReq, join, cb, prefix, predicates);
+        sq.select(sub.get("id")).where(cb.or(predicates.toArray(new Predicate[0])));
+
+        if (joining.equals(Joining.AND) && predicates.size() > 1) {
+            List<Predicate> matched = new ArrayList<>();
+            predicates.forEach(x -> matched.add(
+                    cb.equal(cb.max(cb.<Integer>selectCase().when(x, 1).otherwise(0)), 1))
+            );
+            sq.groupBy(sub.get("id")).having(matched.toArray(new Predicate[0]));
+        }
+
+        return root.get("id").in(sq);
+    }
+
+    /**
+     * Adds join full search params predicates
+     *
+     * @param spReq provided search param request
+     * @param join provided join
+     * @param cb provided criteria builder
+     * @param prefix provided joined class prefix
+     * @param predicates provided predicates for adding
+     */
+    private void fetchJoinFullPredicates(SearchParamRequest spReq, Join<?, ?> join, CriteriaBuilder cb, String prefix,
+                                         List<Predicate> predicates) {
+        for (Map.Entry<String, List<String>> me : spReq.getFullParams().entrySet()) {
+            if (me.getKey().startsWith(prefix)) {
+                String replacement = me.getKey().replace(prefix, "");
+                Path<?> field = join.get(replacement);
+
+                if (String.class.equals(field.getJavaType())
+                    || !FilterValueHandler.isTypedType(field.getJavaType())) {
+                    me.getValue().forEach(x -> predicates.add(cb.like(field.as(String.class), x)));
+                } else {
+                    me.getValue().forEach(
+                            x -> predicates.add(cb.equal(field, FilterValueHandler.convert(x, field.getJavaType())))
+                    );
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds join part search params predicates
+     *
+     * @param spReq provided search param request
+     * @param join provided join
+     * @param cb provided criteria builder
+     * @param prefix provided joined class prefix
+     * @param predicates provided predicates for adding
+     */
+    private void fetchJoinPartPredicates(SearchParamRequest spReq, Join<?, ?> join, CriteriaBuilder cb, String prefix,
+                                         List<Predicate> predicates) {
         for (Map.Entry<String, List<String>> me : spReq.getPartParams().entrySet()) {
             if (me.getKey().startsWith(prefix)) {
                 String replacement = me.getKey().replace(prefix, "");
                 me.getValue().forEach(
-                        x -> predicates.add(
-                                cb.like(root.join(joinName, JoinType.LEFT).get(replacement).as(String.class),
-                                        "%" + x + "%")
-                        )
+                        x -> predicates.add(cb.like(join.get(replacement).as(String.class), "%" + x + "%"))
                 );
             }
         }
+    }
 
-        return joining.equals(Joining.AND)
-               ? cb.and(predicates.toArray(new Predicate[0]))
-               : cb.or(predicates.toArray(new Predicate[0]));
+    /**
+     * Adds join text search params predicates
+     *
+     * @param spReq provided search param request
+     * @param join provided join
+     * @param cb provided criteria builder
+     * @param prefix provided joined class prefix
+     * @param predicates provided predicates for adding
+     */
+    private void fetchJoinTextPredicates(SearchParamRequest spReq, Join<?, ?> join, CriteriaBuilder cb, String prefix,
+                                         List<Predicate> predicates) {
+        for (Map.Entry<String, List<String>> me : spReq.getTextParams().entrySet()) {
+            if (me.getKey().startsWith(prefix)) {
+                String replacement = me.getKey().replace(prefix, "");
+                me.getValue().forEach(
+                        x -> predicates.add(cb.greaterThan(relevance(cb, join.get(replacement), x), 0.0))
+                );
+            }
+        }
+    }
+
+    /**
+     * Adds range search params predicates of class with provided prefix
+     *
+     * @param spReq provided search param request
+     * @param from provided root or join
+     * @param cb provided criteria builder
+     * @param prefix provided class prefix
+     * @param predicates provided predicates for adding
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void fetchRangePredicates(SearchParamRequest spReq, From<?, ?> from, CriteriaBuilder cb, String prefix,
+                                      List<Predicate> predicates) {
+        for (Map.Entry<Comparison, Map<String, List<String>>> ce : spReq.getRangeParams().entrySet()) {
+            for (Map.Entry<String, List<String>> me : ce.getValue().entrySet()) {
+                if (me.getKey().startsWith(prefix)) {
+                    Path field = from.get(me.getKey().replace(prefix, ""));
+
+                    for (String s : me.getValue()) {
+                        if (ce.getKey().equals(Comparison.BETWEEN)) {
+                            Comparable[] bounds = FilterValueHandler.convertBounds(s, field.getJavaType());
+                            predicates.add(cb.between(field, bounds[0], bounds[1]));
+                        } else {
+                            Comparable value = FilterValueHandler.convert(s, field.getJavaType());
+                            predicates.add(compare(cb, ce.getKey(), field, value));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Generates typed equality predicate, single value is compared by equality and several values by IN
+     * Field of type without typed support is compared as string
+     *
+     * @param cb provided criteria builder
+     * @param field provided field path
+     * @param values provided search param values
+     * @return {@code Predicate} generated predicate
+     */
+    private Predicate typedIn(CriteriaBuilder cb, Path<?> field, List<String> values) {
+        if (!FilterValueHandler.isTypedType(field.getJavaType())) {
+            return field.as(String.class).in(values);
+        }
+
+        List<Object> converted = new ArrayList<>(values.size());
+        values.forEach(x -> converted.add(FilterValueHandler.convert(x, field.getJavaType())));
+        return converted.size() == 1 ? cb.equal(field, converted.get(0)) : field.in(converted);
+    }
+
+    /**
+     * Generates comparison predicate of provided type
+     *
+     * @param cb provided criteria builder
+     * @param c provided comparison type
+     * @param field provided field path
+     * @param value provided converted value
+     * @param <Y> describes field type
+     * @return {@code Predicate} generated predicate
+     */
+    private <Y extends Comparable<? super Y>> Predicate compare(CriteriaBuilder cb, Comparison c,
+                                                                 Expression<? extends Y> field, Y value) {
+        switch (c) {
+            case GT:
+                return cb.greaterThan(field, value);
+            case GE:
+                return cb.greaterThanOrEqualTo(field, value);
+            case LT:
+                return cb.lessThan(field, value);
+            case LE:
+                return cb.lessThanOrEqualTo(field, value);
+            default:
+                throw new IncorrectUrlParameterException("Comparison (type = " + c + ") requires two bounds.");
+        }
+    }
+
+    /**
+     * Generates relevance orders list based on root text search params, rows are ordered by total relevance
+     * in descending order
+     * Join text params aren't used in ordering, because distinct query can't be ordered by joined columns
+     *
+     * @param spReq provided search param request
+     * @param root provided root
+     * @param cb provided criteria builder
+     * @return {@code List<Order>} generated orders
+     */
+    public List<Order> fetchTextOrderBy(SearchParamRequest spReq, Root<?> root, CriteriaBuilder cb) {
+        Expression<Double> total = null;
+
+        for (Map.Entry<String, List<String>> me : spReq.getTextParams().entrySet()) {
+            if (me.getKey().startsWith(fah.getPrefix())) {
+                String replacement = me.getKey().replace(fah.getPrefix(), "");
+
+                for (String s : me.getValue()) {
+                    Expression<Double> relevance = relevance(cb, root.get(replacement), s);
+                    total = total == null ? relevance : cb.sum(total, relevance);
+                }
+            }
+        }
+
+        List<Order> orders = new ArrayList<>();
+
+        if (total != null) {
+            orders.add(cb.desc(total));
+        }
+
+        return orders;
     }
 
     /**
@@ -186,15 +399,13 @@ public class RequestParameterHandler {
         for (Map.Entry<String, List<String>> me: spReq.getSortParams().entrySet()) {
             if (me.getKey().startsWith(prefix)) {
                 String replacement = me.getKey().replace(prefix, "");
+                Join<?, ?> join = fetchJoin(root, fah.getClassMap().get(joined).getJoinName());
+
                 for (String s: me.getValue()) {
                     if (s.equalsIgnoreCase("asc")) {
-                       orders.add(cb.asc(
-                               root.join(fah.getClassMap().get(joined).getJoinName(), JoinType.LEFT).get(replacement))
-                       );
+                       orders.add(cb.asc(join.get(replacement)));
                     } else {
-                       orders.add(cb.desc(
-                               root.join(fah.getClassMap().get(joined).getJoinName(), JoinType.LEFT).get(replacement))
-                       );
+                       orders.add(cb.desc(join.get(replacement)));
                     }
                 }
             }
@@ -202,4 +413,121 @@ public class RequestParameterHandler {
 
         return orders;
     }
-}
\ No newline at end of file
+
+    /**
+     * Generates seek predicate based on cursor token, selects items placed after (or before) cursor boundary item
+     * by {@code (seekField, id)} pair in sort direction
+     *
+     * @param spReq provided search param request
+     * @param root provided root
+     * @param cb provided criteria builder
+     * @return {@code Predicate} generated seek predicate, or null if cursor token is absent
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Predicate fetchSeekParams(SearchParamRequest spReq, Root<?> root, CriteriaBuilder cb) {
+        String token = CursorHandler.fetchToken(spReq);
+
+        if (token == null) {
+            return null;
+        }
+
+        SeekCursor sc = CursorHandler.decode(token, spReq.getSeekField());
+        boolean ascending = isSeekAscending(spReq) != CursorHandler.isBackward(spReq);
+        Path<Long> id = root.get("id");
+        Predicate idSeek = ascending ? cb.greaterThan(id, sc.getId()) : cb.lessThan(id, sc.getId());
+
+        if (spReq.getSeekField().equals("id")) {
+            return idSeek;
+        }
+
+        Path field = root.get(spReq.getSeekField());
+        Comparable value = CursorHandler.convert(sc.getValue(), field.getJavaType());
+        Predicate fieldSeek = ascending ? cb.greaterThan(field, value) : cb.lessThan(field, value);
+        return cb.or(fieldSeek, cb.and(cb.equal(field, value), idSeek));
+    }
+
+    /**
+     * Generates orders list for cursor mode, orders by seek field and id as tiebreaker
+     * Directions are reversed for backward seek
+     *
+     * @param spReq provided search param request
+     * @param root provided root
+     * @param cb provided criteria builder
+     * @return {@code List<Order>} generated orders
+     */
+    public List<Order> fetchSeekOrderBy(SearchParamRequest spReq, Root<?> root, CriteriaBuilder cb) {
+        List<Order> orders = new ArrayList<>();
+        boolean ascending = isSeekAscending(spReq) != CursorHandler.isBackward(spReq);
+
+        if (!spReq.getSeekField().equals("id")) {
+            Path<?> field = root.get(spReq.getSeekField());
+            orders.add(ascending ? cb.asc(field) : cb.desc(field));
+        }
+
+        orders.add(ascending ? cb.asc(root.get("id")) : cb.desc(root.get("id")));
+        return orders;
+    }
+
+    /**
+     * Checks if params map contains params of class with provided prefix
+     *
+     * @param params provided params map
+     * @param prefix provided class prefix
+     * @return {@code true} if params of class are present
+     */
+    private boolean hasParams(Map<String, List<String>> params, String prefix) {
+        return params.keySet().stream().anyMatch(x -> x.startsWith(prefix));
+    }
+
+    /**
+     * Checks if range params contain params of class with provided prefix
+     *
+     * @param spReq provided search param request
+     * @param prefix provided class prefix
+     * @return {@code true} if range params of class are present
+     */
+    private boolean hasRangeParams(SearchParamRequest spReq, String prefix) {
+        return spReq.getRangeParams().values().stream().anyMatch(x -> hasParams(x, prefix));
+    }
+
+    /**
+     * Fetches left join of root by provided join name, join is created once per query and reused afterwards
+     *
+     * @param root provided root
+     * @param joinName provided join name
+     * @return {@code Join<?, ?>} left join
+     */
+    private Join<?, ?> fetchJoin(Root<?> root, String joinName) {
+        for (Join<?, ?> join : root.getJoins()) {
+            if (join.getAttribute().getName().equals(joinName) && join.getJoinType().equals(JoinType.LEFT)) {
+                return join;
+            }
+        }
+
+        return root.join(joinName, JoinType.LEFT);
+    }
+
+    /**
+     * Generates full-text relevance expression of provided path for provided text search value
+     *
+     * @param cb provided criteria builder
+     * @param path provided field path
+     * @param value provided text search value
+     * @return {@code Expression<Double>} relevance expression
+     */
+    private Expression<Double> relevance(CriteriaBuilder cb, Path<?> path, String value) {
+        return cb.function(FullTextMySQLDialect.MATCH_AGAINST, Double.class, path,
+                           cb.literal(TextQueryHandler.toBooleanQuery(value)));
+    }
+
+    /**
+     * Checks if seek field is sorted in ascending order
+     *
+     * @param spReq provided search param request
+     * @return {@code true} if seek field sort order is ascending
+     */
+    private boolean isSeekAscending(SearchParamRequest spReq) {
+        List<String> order = spReq.getSortParams().get(fah.getPrefix() + spReq.getSeekField());
+        return order == null || order.isEmpty() || order.get(0).equalsIgnoreCase("asc");
+    }
+}
@@ -4,6 +4,7 @@ import epam.com.esm.exception.types.IncorrectUrlParameterException;
 import epam.com.esm.exception.types.OperationFailedException;
 import epam.com.esm.persistence.entity.BaseEntity;
 import epam.com.esm.utils.hateoas.wrappers.type.PageType;
+import epam.com.esm.utils.search.request.components.type.Joining;
 import epam.com.esm.utils.search.transport.request.SearchParamRequest;
 import epam.com.esm.utils.search.transport.response.PageDataResponse;
 import epam.com.esm.utils.search.transport.response.SearchParamResponse;
@@ -20,6 +21,11 @@ import java.util.function.BiConsumer;
  */
 public final class ResponseHandler {
 
+    /**
+     * Holds found items value of search param response, which items weren't counted
+     */
+    public static final long NOT_COUNTED = -1;
+
     /**
      * Default constructor
      */
@@ -27,6 +33,7 @@ public final class ResponseHandler {
 
     /**
      * Generates search param response from provided search param request
+     * Items fetched by before cursor are fetched in reversed order, so they are reversed back
      *
      * @param spReq provided search param request
      * @param total total found items size
@@ -34,9 +41,46 @@ public final class ResponseHandler {
      * @return {@code SearchParamResponse<E>} generated search param response
      * @param <E> describes class of generated search param response
      */
-    public static <E extends BaseEntity> SearchParamResponse<E> initResponse(SearchParamRequest spReq, int total,
+    public static <E extends BaseEntity> SearchParamResponse<E> initResponse(SearchParamRequest spReq, long total,
                                                                              List<E> items) {
-        SearchParamResponse<E> spResp = scrubPaginationData(new ArrayList<>(items), total, spReq);
+        List<E> ordered = new ArrayList<>(items);
+
+        if (CursorHandler.isBackward(spReq)) {
+            Collections.reverse(ordered);
+        }
+
+        SearchParamResponse<E> spResp = scrubPaginationData(ordered, total, spReq);
+        scrubParams(spReq, spResp);
+        return spResp;
+    }
+
+    /**
+     * Generates search param response from provided search param request in cursor mode, where items aren't counted
+     * Items fetched by before cursor are fetched in reversed order, so they are reversed back
+     * Page fetched by before cursor always has next page, page fetched by after cursor always has previous page,
+     * other side is known from fetching of one item more than page size
+     *
+     * @param spReq provided search param request
+     * @param items found items
+     * @param hasMore true if there are more items after found items in fetching direction
+     * @return {@code SearchParamResponse<E>} generated search param response
+     * @param <E> describes class of generated search param response
+     */
+    public static <E extends BaseEntity> SearchParamResponse<E> initResponse(SearchParamRequest spReq, List<E> items,
+                                                                             boolean hasMore) {
+        List<E> ordered = new ArrayList<>(items);
+        boolean backward = CursorHandler.isBackward(spReq);
+
+        if (backward) {
+            Collections.reverse(ordered);
+        }
+
+        boolean hasPrev = !ordered.isEmpty() && (backward ? hasMore : spReq.getAfter() != null);
+        boolean hasNext = !ordered.isEmpty() && (backward || hasMore);
+
+        SearchParamResponse<E> spResp = scrubItemsData(ordered, NOT_COUNTED, spReq);
+        spResp.setTotalPages(hasNext ? spResp.getCurrentPage() + 1 : spResp.getCurrentPage());
+        spResp.setPages(generatePageMap(spReq, spResp, hasPrev, hasNext));
         scrubParams(spReq, spResp);
         return spResp;
     }
@@ -71,8 +115,27 @@ public final class ResponseHandler {
      * @return {@code SearchParamResponse<E>} generated search param response
      * @param <E> describes class of generated search param response
      */
-    private static <E extends BaseEntity> SearchParamResponse<E> scrubPaginationData(List<E> items, int total,
+    private static <E extends BaseEntity> SearchParamResponse<E> scrubPaginationData(List<E> items, long total,
                                                                                      SearchParamRequest spReq) {
+        SearchParamResponse<E> spResp = scrubItemsData(items, total, spReq);
+        setTotalPages(spResp);
+        checkPages(spResp);
+        spResp.setPages(generatePageMap(spReq, spResp, spResp.getCurrentPage() - 1 > 0,
+                                        spResp.getCurrentPage() + 1 <= spResp.getTotalPages()));
+        return spResp;
+    }
+
+    /**
+     * Transfers items and page params to search param response
+     *
+     * @param items items found
+     * @param total total found items size
+     * @param spReq provided search param request
+     * @return {@code SearchParamResponse<E>} generated search param response
+     * @param <E> describes class of generated search param response
+     */
+    private static <E extends BaseEntity> SearchParamResponse<E> scrubItemsData(List<E> items, long total,
+                                                                                SearchParamRequest spReq) {
         SearchParamResponse<E> spResp = new SearchParamResponse<>();
         spResp.setItems(items);
         spResp.setShownItems(spResp.getItems().size());
@@ -80,9 +143,6 @@ public final class ResponseHandler {
         spResp.setFold(spReq.isFold());
         spResp.setCurrentPage(spReq.getPage() + 1);
         spResp.setPageSize(spReq.getSize());
-        setTotalPages(spResp);
-        checkPages(spResp);
-        spResp.setPages(generatePageMap(spReq, spResp));
         return spResp;
     }
 
@@ -176,19 +236,22 @@ public final class ResponseHandler {
      *
      * @param spReq provided search param request
      * @param spResp provided search param response
+     * @param hasPrev true if previous page exists
+     * @param hasNext true if next page exists
      * @return {@code Map<PageType, String>} generated page map
      */
     private static Map<PageType, String> generatePageMap(SearchParamRequest spReq,
-                                                         SearchParamResponse<? extends BaseEntity> spResp) {
+                                                         SearchParamResponse<? extends BaseEntity> spResp,
+                                                         boolean hasPrev, boolean hasNext) {
         Map<PageType, String> pageMap = new LinkedHashMap<>();
 
-        if (spResp.getCurrentPage() - 1 > 0) {
+        if (hasPrev) {
             pageMap.put(PageType.PREV, scrubUrlParams(spReq, spResp, PageType.PREV));
         }
 
         pageMap.put(PageType.CURRENT, scrubUrlParams(spReq, spResp, PageType.CURRENT));
 
-        if (spResp.getCurrentPage() + 1 <= spResp.getTotalPages()) {
+        if (hasNext) {
             pageMap.put(PageType.NEXT, scrubUrlParams(spReq, spResp, PageType.NEXT));
         }
 
@@ -210,6 +273,8 @@ public final class ResponseHandler {
         scrubPageUrlParams(spResp, sb, pageType);
         scrubSizeUrlParams(spResp, sb);
         scrubFoldParams(spResp, sb);
+        scrubJoiningParams(spReq, sb);
+        scrubCursorParams(spReq, spResp, sb, pageType);
         scrubFilterParams(spReq, sb);
         return sb.toString();
     }
@@ -223,7 +288,7 @@ public final class ResponseHandler {
     private static void scrubPageUrlParams(SearchParamResponse<? extends BaseEntity> spResp, StringBuffer sb,
                                            PageType pageType) {
         if (pageType.equals(PageType.PREV)) {
-            sb.append("page").append("=").append(spResp.getCurrentPage() - 1).append("&");
+            sb.append("page").append("=").append(Math.max(spResp.getCurrentPage() - 1, 1)).append("&");
         }
 
         if (pageType.equals(PageType.CURRENT)) {
@@ -261,6 +326,51 @@ public final class ResponseHandler {
         }
     }
 
+    /**
+     * Folds URL join param into string for search param response for pagination, default AND joining isn't folded
+     *
+     * @param spReq provided search param request
+     * @param sb provided string buffer
+     */
+    private static void scrubJoiningParams(SearchParamRequest spReq, StringBuffer sb) {
+        if (Joining.OR.equals(spReq.getJoining())) {
+            sb.append("join").append("=").append("any").append("&");
+        }
+    }
+
+    /**
+     * Folds URL cursor params into string for search param response by page type for pagination
+     * Previous page is addressed by before cursor of first shown item, next page - by after cursor of last shown item,
+     * current page - by cursor of provided search param request
+     *
+     * @param spReq provided search param request
+     * @param spResp provided search param response
+     * @param sb provided string buffer
+     * @param pageType provided page type
+     */
+    private static void scrubCursorParams(SearchParamRequest spReq, SearchParamResponse<? extends BaseEntity> spResp,
+                                          StringBuffer sb, PageType pageType) {
+        if (spReq.isCursor()) {
+            sb.append("cursor").append("=").append("on").append("&");
+            List<? extends BaseEntity> items = spResp.getItems();
+
+            if (pageType.equals(PageType.PREV) && !items.isEmpty()) {
+                sb.append("before").append("=")
+                  .append(CursorHandler.encode(items.get(0), spReq.getSeekField())).append("&");
+            }
+
+            if (pageType.equals(PageType.CURRENT) && CursorHandler.fetchToken(spReq) != null) {
+                sb.append(CursorHandler.isBackward(spReq) ? "before" : "after").append("=")
+                  .append(CursorHandler.fetchToken(spReq)).append("&");
+            }
+
+            if (pageType.equals(PageType.NEXT) && !items.isEmpty()) {
+                sb.append("after").append("=")
+                  .append(CursorHandler.encode(items.get(items.size() - 1), spReq.getSeekField())).append("&");
+            }
+        }
+    }
+
     /**
      * Folds URL search params into string for search param response for pagination
      *
@@ -276,6 +386,14 @@ public final class ResponseHandler {
             spReq.getPartParams().forEach(appendUrlParams(sb, "p:"));
         }
 
+        if (spReq.getTextParams() != null && !spReq.getTextParams().isEmpty()) {
+            spReq.getTextParams().forEach(appendUrlParams(sb, "t:"));
+        }
+
+        if (spReq.getRangeParams() != null && !spReq.getRangeParams().isEmpty()) {
+            spReq.getRangeParams().forEach((c, params) -> params.forEach(appendUrlParams(sb, c.getFlag() + ":")));
+        }
+
         if (spReq.getSortParams() != null && !spReq.getSortParams().isEmpty()) {
             spReq.getSortParams().forEach(appendUrlParams(sb, "s:"));
         }
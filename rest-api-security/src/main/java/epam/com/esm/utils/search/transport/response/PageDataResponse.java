@@ -26,7 +26,7 @@ public class PageDataResponse<A extends DtoResponse> extends WrappedCollection<A
     private int currentPage;
 
     /**
-     * Holds total pages value
+     * Holds total pages value, in cursor mode only pages up to next page are known
      */
     private int totalPages;
 
@@ -36,7 +36,7 @@ public class PageDataResponse<A extends DtoResponse> extends WrappedCollection<A
     private int itemsShown;
 
     /**
-     * Holds items found value
+     * Holds items found value, in cursor mode items aren't counted and value is -1
      */
     private long itemsFound;
 
@@ -1,11 +1,16 @@
 package epam.com.esm.utils.verifiers.action;
 
 import epam.com.esm.exception.types.EmptyOrderException;
+import epam.com.esm.exception.types.InputException;
 import epam.com.esm.persistence.entity.impl.action.Order;
+import epam.com.esm.utils.batch.service.ObjectBatchItem;
 import epam.com.esm.view.dto.request.impl.action.OrderDtoRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static epam.com.esm.utils.adjusters.action.OrderAdjuster.adjustUser;
 import static epam.com.esm.utils.adjusters.products.GiftCertificateAdjuster.checkGiftCertificates;
 import static epam.com.esm.utils.adjusters.products.GiftCertificateAdjuster.convertToGiftCertificates;
@@ -69,4 +74,47 @@ public class OrderDtoVerifier {
 
         return order;
     }
+
+    /**
+     * Verifies order dto requests of batch
+     * Each request is verified separately, malformed requests are rejected without failing whole batch
+     * Will throw InputException if batch is null or empty
+     *
+     * @param dtos provided order dto requests
+     * @param withUser if true user of each request is verified, otherwise user is ignored
+     * @return {@code List<ObjectBatchItem>} batch items with generated orders or rejection reasons
+     */
+    public List<ObjectBatchItem> verifyBatch(List<OrderDtoRequest> dtos, boolean withUser) {
+        if (dtos == null || dtos.isEmpty()) {
+            throw new InputException("Batch cannot be empty");
+        }
+
+        List<ObjectBatchItem> items = new ArrayList<>(dtos.size());
+
+        for (int i = 0; i < dtos.size(); i++) {
+            items.add(verifyItem(i, dtos.get(i), withUser));
+        }
+
+        return items;
+    }
+
+    /**
+     * Verifies order dto request of batch
+     *
+     * @param index provided position of request in batch
+     * @param dto provided order dto request
+     * @param withUser if true user of request is verified, otherwise user is ignored
+     * @return {@code ObjectBatchItem} batch item with generated order or rejection reason
+     */
+    private ObjectBatchItem verifyItem(int index, OrderDtoRequest dto, boolean withUser) {
+        if (dto == null) {
+            return new ObjectBatchItem(index, "Order cannot be null");
+        }
+
+        try {
+            return new ObjectBatchItem(index, withUser ? verify(dto) : verifyWithoutUser(dto));
+        } catch (InputException | EmptyOrderException e) {
+            return new ObjectBatchItem(index, e.getMessage());
+        }
+    }
 }
\ No newline at end of file
@@ -47,6 +47,7 @@ public class TagDtoVerifier {
         adjustDtoFieldsOnGiftCertificatesChanges(preUpdate, req);
         Tag updated = verify(req);
         updated.setId(preUpdate.getId());
+        updated.setVersion(preUpdate.getVersion());
         return updated;
     }
 
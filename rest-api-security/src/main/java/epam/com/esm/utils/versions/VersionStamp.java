@@ -0,0 +1,156 @@
+package epam.com.esm.utils.versions;
+
+import java.util.Objects;
+
+/**
+ * VersionStamp is the data class, serves as container for querying result from version probe, represents count and
+ * sums of ids and versions of found entities and their linked entities
+ * <p>
+ * Versions only grow, so any update of found or linked entity changes version sum, and any added or removed entity
+ * or link changes count and id sum
+ */
+public class VersionStamp {
+
+    /**
+     * Holds number of found entities
+     */
+    private final long found;
+
+    /**
+     * Holds sum of found entity ids
+     */
+    private final long idSum;
+
+    /**
+     * Holds sum of found entity versions
+     */
+    private final long versionSum;
+
+    /**
+     * Holds number of links to linked entities
+     */
+    private final long linked;
+
+    /**
+     * Holds sum of linked entity ids
+     */
+    private final long linkedIdSum;
+
+    /**
+     * Holds sum of linked entity versions
+     */
+    private final long linkedVersionSum;
+
+    /**
+     * Constructs version stamp with provided counts and sums, missing sums of empty result are treated as zero
+     *
+     * @param found provided number of found entities
+     * @param idSum provided sum of found entity ids
+     * @param versionSum provided sum of found entity versions
+     * @param linked provided number of links to linked entities
+     * @param linkedIdSum provided sum of linked entity ids
+     * @param linkedVersionSum provided sum of linked entity versions
+     */
+    public VersionStamp(Long found, Long idSum, Long versionSum, Long linked, Long linkedIdSum,
+                        Long linkedVersionSum) {
+        this.found = valueOf(found);
+        this.idSum = valueOf(idSum);
+        this.versionSum = valueOf(versionSum);
+        this.linked = valueOf(linked);
+        this.linkedIdSum = valueOf(linkedIdSum);
+        this.linkedVersionSum = valueOf(linkedVersionSum);
+    }
+
+    /**
+     * Gets number of found entities
+     *
+     * @return {@code long} number of found entities
+     */
+    public long getFound() {
+        return found;
+    }
+
+    /**
+     * Gets sum of found entity ids
+     *
+     * @return {@code long} sum of found entity ids
+     */
+    public long getIdSum() {
+        return idSum;
+    }
+
+    /**
+     * Gets sum of found entity versions
+     *
+     * @return {@code long} sum of found entity versions
+     */
+    public long getVersionSum() {
+        return versionSum;
+    }
+
+    /**
+     * Gets number of links to linked entities
+     *
+     * @return {@code long} number of links to linked entities
+     */
+    public long getLinked() {
+        return linked;
+    }
+
+    /**
+     * Gets sum of linked entity ids
+     *
+     * @return {@code long} sum of linked entity ids
+     */
+    public long getLinkedIdSum() {
+        return linkedIdSum;
+    }
+
+    /**
+     * Gets sum of linked entity versions
+     *
+     * @return {@code long} sum of linked entity versions
+     */
+    public long getLinkedVersionSum() {
+        return linkedVersionSum;
+    }
+
+    /**
+     * Converts nullable count or sum to value
+     *
+     * @param value provided count or sum
+     * @return {@code long} provided value, zero if value is null
+     */
+    private static long valueOf(Long value) {
+        return value == null ? 0 : value;
+    }
+
+    /**
+     * Compares source object and target object for equality
+     *
+     * @param o target object
+     * @return {@code true} if objects are equal
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        VersionStamp that = (VersionStamp) o;
+        return found == that.found
+               && idSum == that.idSum
+               && versionSum == that.versionSum
+               && linked == that.linked
+               && linkedIdSum == that.linkedIdSum
+               && linkedVersionSum == that.linkedVersionSum;
+    }
+
+    /**
+     * Calculates hash for source object
+     *
+     * @return {@code int} hashcode integer value
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(found, idSum, versionSum, linked, linkedIdSum, linkedVersionSum);
+    }
+}
@@ -127,6 +127,12 @@ public final class Resources {
     public static final ParamString POPULAR_MAX_TAGS =
             new ParamString("/{id}/tags/popular/max", "", "'s Max Popular Tags");
 
+    /**
+     * Holds parts of link and relation for dashboard resource
+     */
+    public static final ParamString DASHBOARD =
+            new ParamString("/{id}/dashboard", "", "'s Dashboard");
+
     /**
      * Holds parts of link and relation for find all users resource
      */
@@ -3,9 +3,10 @@ package epam.com.esm.view.resources.impl.action;
 import epam.com.esm.controller.MainController;
 import epam.com.esm.controller.action.OrderController;
 import epam.com.esm.controller.products.GiftCertificateController;
+import epam.com.esm.utils.batch.facade.DtoBatchItem;
 import epam.com.esm.utils.hateoas.builder.LinkBuilder;
 import epam.com.esm.utils.hateoas.builder.components.ParamString;
-import epam.com.esm.utils.hateoas.templates.components.PlaceholderValue;
+import epam.com.esm.utils.hateoas.wrappers.WrappedCollection;
 import epam.com.esm.utils.search.transport.response.PageDataResponse;
 import epam.com.esm.view.dto.response.DtoResponse;
 import epam.com.esm.view.dto.response.impl.action.OrderDtoResponse;
@@ -21,10 +22,14 @@ import org.springframework.stereotype.Component;
 public class OrderResourceModel extends AbstractResourceModel<OrderDtoResponse> {
 
     /**
-     * Default constructor
+     * Constructs OrderResourceModel with provided LinkBuilder object
+     *
+     * @param linkBuilder service, provides link building operations
      */
     @Autowired
-    public OrderResourceModel() {}
+    public OrderResourceModel(LinkBuilder linkBuilder) {
+        super(linkBuilder);
+    }
 
     /**
      * Builds links for order dto response
@@ -96,13 +101,8 @@ public class OrderResourceModel extends AbstractResourceModel<OrderDtoResponse>
      * @param paramStrings provided params
      */
     public void buildLinksGiftCertificates(OrderDtoResponse resp, ParamString... paramStrings) {
-        LinkBuilder lb = new LinkBuilder();
         resp.getGiftCertificates().forEach(
-                gc -> lb.loadClass(GiftCertificateController.class)
-                        .addModel(gc)
-                        .addParams(new PlaceholderValue("{id}", gc.getId().toString()))
-                        .addLinks(paramStrings)
-                        .build()
+                gc -> linkBuilder.build(GiftCertificateController.class, gc, gc.getId(), paramStrings)
         );
     }
 
@@ -126,4 +126,26 @@ public class OrderResourceModel extends AbstractResourceModel<OrderDtoResponse>
     public void addLinksMainPage(PageDataResponse<OrderDtoResponse> pdr, ParamString... ps) {
         super.addLinksMainPage(MainController.class, pdr, ps);
     }
+
+    /**
+     * Builds links for created orders of batch items wrapped collection
+     *
+     * @param wc provided wrapped collection
+     * @param paramStrings provided params
+     */
+    public void buildLinksBatchItems(WrappedCollection<DtoBatchItem> wc, ParamString... paramStrings) {
+        wc.getItems().stream().filter(i -> i.getOrder() != null)
+          .forEach(i -> linkBuilder.build(OrderController.class, i.getOrder(), i.getOrder().getId(), paramStrings));
+    }
+
+    /**
+     * Builds links for main page of batch items wrapped collection
+     *
+     * @param wc provided wrapped collection
+     * @param ps provided params
+     */
+    public void addLinksMainPage(WrappedCollection<DtoBatchItem> wc, ParamString... ps) {
+        linkBuilder.build(MainController.class, wc.getMainMenu(), ps);
+        wc.setPaginationMenu(null);
+    }
 }
\ No newline at end of file
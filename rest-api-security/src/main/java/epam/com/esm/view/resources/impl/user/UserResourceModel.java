@@ -7,7 +7,6 @@ import epam.com.esm.controller.products.TagController;
 import epam.com.esm.controller.user.UserController;
 import epam.com.esm.utils.hateoas.builder.LinkBuilder;
 import epam.com.esm.utils.hateoas.builder.components.ParamString;
-import epam.com.esm.utils.hateoas.templates.components.PlaceholderValue;
 import epam.com.esm.utils.hateoas.wrappers.WrappedCollection;
 import epam.com.esm.utils.search.transport.response.PageDataResponse;
 import epam.com.esm.utils.statistics.facade.DtoDataTag;
@@ -27,10 +26,14 @@ import org.springframework.stereotype.Component;
 public class UserResourceModel extends AbstractResourceModel<UserDtoResponse> {
 
     /**
-     * Default constructor
+     * Constructs UserResourceModel with provided LinkBuilder object
+     *
+     * @param linkBuilder service, provides link building operations
      */
     @Autowired
-    public UserResourceModel() {}
+    public UserResourceModel(LinkBuilder linkBuilder) {
+        super(linkBuilder);
+    }
 
     /**
      * Builds links for user dto response
@@ -102,14 +105,9 @@ public class UserResourceModel extends AbstractResourceModel<UserDtoResponse> {
      * @param paramStrings provided params
      */
     public void buildLinksOrders(UserDtoResponse resp, ParamString... paramStrings) {
-        LinkBuilder lb = new LinkBuilder();
         if (resp.getOrders() != null && !resp.getOrders().isEmpty()) {
             resp.getOrders().forEach(
-                    o -> lb.loadClass(OrderController.class)
-                            .addModel(o)
-                            .addParams(new PlaceholderValue("{id}", o.getId().toString()))
-                            .addLinks(paramStrings)
-                            .build()
+                    o -> linkBuilder.build(OrderController.class, o, o.getId(), paramStrings)
             );
         }
     }
@@ -132,11 +130,8 @@ public class UserResourceModel extends AbstractResourceModel<UserDtoResponse> {
      * @param paramStrings provided params
      */
     public void buildLinksPurchases(PageDataResponse<PurchaseDataDtoResponse> pdr, ParamString ... paramStrings) {
-        LinkBuilder lb = new LinkBuilder();
-        pdr.getItems().forEach(p -> lb.loadClass(GiftCertificateController.class)
-                      .addModel(p).addParams(new PlaceholderValue("{id}",
-                                              p.getGiftCertificate().getId().toString()))
-                      .addLinks(paramStrings).build());
+        pdr.getItems().forEach(p -> linkBuilder.build(GiftCertificateController.class, p,
+                                                      p.getGiftCertificate().getId(), paramStrings));
     }
 
     /**
@@ -146,13 +141,8 @@ public class UserResourceModel extends AbstractResourceModel<UserDtoResponse> {
      * @param paramStrings provided params
      */
     public void buildLinksDataTags(WrappedCollection<DtoDataTag> wc, ParamString ... paramStrings) {
-        LinkBuilder lb = new LinkBuilder();
         wc.getItems()
-          .forEach(t -> lb.loadClass(TagController.class)
-                          .addModel(t)
-                          .addParams(new PlaceholderValue("{id}", t.getTag().getId().toString()))
-                          .addLinks(paramStrings)
-                          .build());
+          .forEach(t -> linkBuilder.build(TagController.class, t, t.getTag().getId(), paramStrings));
     }
 
     /**
@@ -164,12 +154,7 @@ public class UserResourceModel extends AbstractResourceModel<UserDtoResponse> {
      */
     public void buildLinksWrappedCollectionMenu(WrappedCollection<? extends RepresentationModel<?>> wc, Long id,
                                                 ParamString ... paramStrings) {
-        LinkBuilder lb = new LinkBuilder();
-        lb.loadClass(UserController.class)
-          .addModel(wc.getMainMenu())
-          .addParams(new PlaceholderValue("{id}", id.toString()))
-          .addLinks(paramStrings)
-          .build();
+        linkBuilder.build(UserController.class, wc.getMainMenu(), id, paramStrings);
         wc.setPaginationMenu(null);
     }
 
@@ -200,8 +185,7 @@ public class UserResourceModel extends AbstractResourceModel<UserDtoResponse> {
      * @param ps provided params
      */
     public void addLinksMainPage(WrappedCollection<DtoDataTag> wc, ParamString ... ps) {
-        LinkBuilder lb = new LinkBuilder();
-        lb.loadClass(MainController.class).addModel(wc.getMainMenu()).addLinks(ps).build();
+        linkBuilder.build(MainController.class, wc.getMainMenu(), ps);
         wc.setPaginationMenu(null);
     }
 }
\ No newline at end of file
@@ -1,805 +1,805 @@
 #admin entity: username - admin, password - password
 #user entities: username - user_n, password - password_n, where n - user id value (e.g. un: user_2, pw: password_2)
 
-INSERT INTO tag VALUES(1, 'tag_1');
+INSERT INTO tag VALUES(1, 'tag_1', 0);
 
-INSERT INTO tag VALUES(2, 'tag_2');
+INSERT INTO tag VALUES(2, 'tag_2', 0);
 
-INSERT INTO tag VALUES(3, 'tag_3');
+INSERT INTO tag VALUES(3, 'tag_3', 0);
 
-INSERT INTO tag VALUES(4, 'tag_4');
+INSERT INTO tag VALUES(4, 'tag_4', 0);
 
-INSERT INTO tag VALUES(5, 'tag_5');
+INSERT INTO tag VALUES(5, 'tag_5', 0);
 
-INSERT INTO tag VALUES(6, 'tag_6');
+INSERT INTO tag VALUES(6, 'tag_6', 0);
 
-INSERT INTO tag VALUES(7, 'tag_7');
+INSERT INTO tag VALUES(7, 'tag_7', 0);
 
-INSERT INTO tag VALUES(8, 'tag_8');
+INSERT INTO tag VALUES(8, 'tag_8', 0);
 
-INSERT INTO tag VALUES(9, 'tag_9');
+INSERT INTO tag VALUES(9, 'tag_9', 0);
 
-INSERT INTO tag VALUES(10, 'tag_10');
+INSERT INTO tag VALUES(10, 'tag_10', 0);
 
-INSERT INTO tag VALUES(11, 'tag_11');
+INSERT INTO tag VALUES(11, 'tag_11', 0);
 
-INSERT INTO tag VALUES(12, 'tag_12');
+INSERT INTO tag VALUES(12, 'tag_12', 0);
 
-INSERT INTO tag VALUES(13, 'tag_13');
+INSERT INTO tag VALUES(13, 'tag_13', 0);
 
-INSERT INTO tag VALUES(14, 'tag_14');
+INSERT INTO tag VALUES(14, 'tag_14', 0);
 
-INSERT INTO tag VALUES(15, 'tag_15');
+INSERT INTO tag VALUES(15, 'tag_15', 0);
 
-INSERT INTO tag VALUES(16, 'tag_16');
+INSERT INTO tag VALUES(16, 'tag_16', 0);
 
-INSERT INTO tag VALUES(17, 'tag_17');
+INSERT INTO tag VALUES(17, 'tag_17', 0);
 
-INSERT INTO tag VALUES(18, 'tag_18');
+INSERT INTO tag VALUES(18, 'tag_18', 0);
 
-INSERT INTO tag VALUES(19, 'tag_19');
+INSERT INTO tag VALUES(19, 'tag_19', 0);
 
-INSERT INTO tag VALUES(20, 'tag_20');
+INSERT INTO tag VALUES(20, 'tag_20', 0);
 
-INSERT INTO tag VALUES(21, 'tag_21');
+INSERT INTO tag VALUES(21, 'tag_21', 0);
 
-INSERT INTO tag VALUES(22, 'tag_22');
+INSERT INTO tag VALUES(22, 'tag_22', 0);
 
-INSERT INTO tag VALUES(23, 'tag_23');
+INSERT INTO tag VALUES(23, 'tag_23', 0);
 
-INSERT INTO tag VALUES(24, 'tag_24');
+INSERT INTO tag VALUES(24, 'tag_24', 0);
 
-INSERT INTO tag VALUES(25, 'tag_25');
+INSERT INTO tag VALUES(25, 'tag_25', 0);
 
-INSERT INTO tag VALUES(26, 'tag_26');
+INSERT INTO tag VALUES(26, 'tag_26', 0);
 
-INSERT INTO tag VALUES(27, 'tag_27');
+INSERT INTO tag VALUES(27, 'tag_27', 0);
 
-INSERT INTO tag VALUES(28, 'tag_28');
+INSERT INTO tag VALUES(28, 'tag_28', 0);
 
-INSERT INTO tag VALUES(29, 'tag_29');
+INSERT INTO tag VALUES(29, 'tag_29', 0);
 
-INSERT INTO tag VALUES(30, 'tag_30');
+INSERT INTO tag VALUES(30, 'tag_30', 0);
 
-INSERT INTO tag VALUES(31, 'tag_31');
+INSERT INTO tag VALUES(31, 'tag_31', 0);
 
-INSERT INTO tag VALUES(32, 'tag_32');
+INSERT INTO tag VALUES(32, 'tag_32', 0);
 
-INSERT INTO tag VALUES(33, 'tag_33');
+INSERT INTO tag VALUES(33, 'tag_33', 0);
 
-INSERT INTO tag VALUES(34, 'tag_34');
+INSERT INTO tag VALUES(34, 'tag_34', 0);
 
-INSERT INTO tag VALUES(35, 'tag_35');
+INSERT INTO tag VALUES(35, 'tag_35', 0);
 
-INSERT INTO tag VALUES(36, 'tag_36');
+INSERT INTO tag VALUES(36, 'tag_36', 0);
 
-INSERT INTO tag VALUES(37, 'tag_37');
+INSERT INTO tag VALUES(37, 'tag_37', 0);
 
-INSERT INTO tag VALUES(38, 'tag_38');
+INSERT INTO tag VALUES(38, 'tag_38', 0);
 
-INSERT INTO tag VALUES(39, 'tag_39');
+INSERT INTO tag VALUES(39, 'tag_39', 0);
 
-INSERT INTO tag VALUES(40, 'tag_40');
+INSERT INTO tag VALUES(40, 'tag_40', 0);
 
-INSERT INTO tag VALUES(41, 'tag_41');
+INSERT INTO tag VALUES(41, 'tag_41', 0);
 
-INSERT INTO tag VALUES(42, 'tag_42');
+INSERT INTO tag VALUES(42, 'tag_42', 0);
 
-INSERT INTO tag VALUES(43, 'tag_43');
+INSERT INTO tag VALUES(43, 'tag_43', 0);
 
-INSERT INTO tag VALUES(44, 'tag_44');
+INSERT INTO tag VALUES(44, 'tag_44', 0);
 
-INSERT INTO tag VALUES(45, 'tag_45');
+INSERT INTO tag VALUES(45, 'tag_45', 0);
 
-INSERT INTO tag VALUES(46, 'tag_46');
+INSERT INTO tag VALUES(46, 'tag_46', 0);
 
-INSERT INTO tag VALUES(47, 'tag_47');
+INSERT INTO tag VALUES(47, 'tag_47', 0);
 
-INSERT INTO tag VALUES(48, 'tag_48');
+INSERT INTO tag VALUES(48, 'tag_48', 0);
 
-INSERT INTO tag VALUES(49, 'tag_49');
+INSERT INTO tag VALUES(49, 'tag_49', 0);
 
-INSERT INTO tag VALUES(50, 'tag_50');
+INSERT INTO tag VALUES(50, 'tag_50', 0);
 
-INSERT INTO tag VALUES(51, 'tag_51');
+INSERT INTO tag VALUES(51, 'tag_51', 0);
 
-INSERT INTO tag VALUES(52, 'tag_52');
+INSERT INTO tag VALUES(52, 'tag_52', 0);
 
-INSERT INTO tag VALUES(53, 'tag_53');
+INSERT INTO tag VALUES(53, 'tag_53', 0);
 
-INSERT INTO tag VALUES(54, 'tag_54');
+INSERT INTO tag VALUES(54, 'tag_54', 0);
 
-INSERT INTO tag VALUES(55, 'tag_55');
+INSERT INTO tag VALUES(55, 'tag_55', 0);
 
-INSERT INTO tag VALUES(56, 'tag_56');
+INSERT INTO tag VALUES(56, 'tag_56', 0);
 
-INSERT INTO tag VALUES(57, 'tag_57');
+INSERT INTO tag VALUES(57, 'tag_57', 0);
 
-INSERT INTO tag VALUES(58, 'tag_58');
+INSERT INTO tag VALUES(58, 'tag_58', 0);
 
-INSERT INTO tag VALUES(59, 'tag_59');
+INSERT INTO tag VALUES(59, 'tag_59', 0);
 
-INSERT INTO tag VALUES(60, 'tag_60');
+INSERT INTO tag VALUES(60, 'tag_60', 0);
 
-INSERT INTO tag VALUES(61, 'tag_61');
+INSERT INTO tag VALUES(61, 'tag_61', 0);
 
-INSERT INTO tag VALUES(62, 'tag_62');
+INSERT INTO tag VALUES(62, 'tag_62', 0);
 
-INSERT INTO tag VALUES(63, 'tag_63');
+INSERT INTO tag VALUES(63, 'tag_63', 0);
 
-INSERT INTO tag VALUES(64, 'tag_64');
+INSERT INTO tag VALUES(64, 'tag_64', 0);
 
-INSERT INTO tag VALUES(65, 'tag_65');
+INSERT INTO tag VALUES(65, 'tag_65', 0);
 
-INSERT INTO tag VALUES(66, 'tag_66');
+INSERT INTO tag VALUES(66, 'tag_66', 0);
 
-INSERT INTO tag VALUES(67, 'tag_67');
+INSERT INTO tag VALUES(67, 'tag_67', 0);
 
-INSERT INTO tag VALUES(68, 'tag_68');
+INSERT INTO tag VALUES(68, 'tag_68', 0);
 
-INSERT INTO tag VALUES(69, 'tag_69');
+INSERT INTO tag VALUES(69, 'tag_69', 0);
 
-INSERT INTO tag VALUES(70, 'tag_70');
+INSERT INTO tag VALUES(70, 'tag_70', 0);
 
-INSERT INTO tag VALUES(71, 'tag_71');
+INSERT INTO tag VALUES(71, 'tag_71', 0);
 
-INSERT INTO tag VALUES(72, 'tag_72');
+INSERT INTO tag VALUES(72, 'tag_72', 0);
 
-INSERT INTO tag VALUES(73, 'tag_73');
+INSERT INTO tag VALUES(73, 'tag_73', 0);
 
-INSERT INTO tag VALUES(74, 'tag_74');
+INSERT INTO tag VALUES(74, 'tag_74', 0);
 
-INSERT INTO tag VALUES(75, 'tag_75');
+INSERT INTO tag VALUES(75, 'tag_75', 0);
 
-INSERT INTO tag VALUES(76, 'tag_76');
+INSERT INTO tag VALUES(76, 'tag_76', 0);
 
-INSERT INTO tag VALUES(77, 'tag_77');
+INSERT INTO tag VALUES(77, 'tag_77', 0);
 
-INSERT INTO tag VALUES(78, 'tag_78');
+INSERT INTO tag VALUES(78, 'tag_78', 0);
 
-INSERT INTO tag VALUES(79, 'tag_79');
+INSERT INTO tag VALUES(79, 'tag_79', 0);
 
-INSERT INTO tag VALUES(80, 'tag_80');
+INSERT INTO tag VALUES(80, 'tag_80', 0);
 
-INSERT INTO tag VALUES(81, 'tag_81');
+INSERT INTO tag VALUES(81, 'tag_81', 0);
 
-INSERT INTO tag VALUES(82, 'tag_82');
+INSERT INTO tag VALUES(82, 'tag_82', 0);
 
-INSERT INTO tag VALUES(83, 'tag_83');
+INSERT INTO tag VALUES(83, 'tag_83', 0);
 
-INSERT INTO tag VALUES(84, 'tag_84');
+INSERT INTO tag VALUES(84, 'tag_84', 0);
 
-INSERT INTO tag VALUES(85, 'tag_85');
+INSERT INTO tag VALUES(85, 'tag_85', 0);
 
-INSERT INTO tag VALUES(86, 'tag_86');
+INSERT INTO tag VALUES(86, 'tag_86', 0);
 
-INSERT INTO tag VALUES(87, 'tag_87');
+INSERT INTO tag VALUES(87, 'tag_87', 0);
 
-INSERT INTO tag VALUES(88, 'tag_88');
+INSERT INTO tag VALUES(88, 'tag_88', 0);
 
-INSERT INTO tag VALUES(89, 'tag_89');
+INSERT INTO tag VALUES(89, 'tag_89', 0);
 
-INSERT INTO tag VALUES(90, 'tag_90');
+INSERT INTO tag VALUES(90, 'tag_90', 0);
 
-INSERT INTO tag VALUES(91, 'tag_91');
+INSERT INTO tag VALUES(91, 'tag_91', 0);
 
-INSERT INTO tag VALUES(92, 'tag_92');
+INSERT INTO tag VALUES(92, 'tag_92', 0);
 
-INSERT INTO tag VALUES(93, 'tag_93');
+INSERT INTO tag VALUES(93, 'tag_93', 0);
 
-INSERT INTO tag VALUES(94, 'tag_94');
+INSERT INTO tag VALUES(94, 'tag_94', 0);
 
-INSERT INTO tag VALUES(95, 'tag_95');
+INSERT INTO tag VALUES(95, 'tag_95', 0);
 
-INSERT INTO tag VALUES(96, 'tag_96');
+INSERT INTO tag VALUES(96, 'tag_96', 0);
 
-INSERT INTO tag VALUES(97, 'tag_97');
+INSERT INTO tag VALUES(97, 'tag_97', 0);
 
-INSERT INTO tag VALUES(98, 'tag_98');
+INSERT INTO tag VALUES(98, 'tag_98', 0);
 
-INSERT INTO tag VALUES(99, 'tag_99');
+INSERT INTO tag VALUES(99, 'tag_99', 0);
 
-INSERT INTO tag VALUES(100, 'tag_100');
+INSERT INTO tag VALUES(100, 'tag_100', 0);
 
-INSERT INTO gift_certificate VALUES(1, 'gift_certificate_1', 'description_1', 368.10, 16, '2023-09-03T17:29:42.357', '2023-09-03T17:29:42.362');
+INSERT INTO gift_certificate VALUES(1, 'gift_certificate_1', 'description_1', 368.10, 16, '2023-09-03T17:29:42.357', '2023-09-03T17:29:42.362', 0);
 
-INSERT INTO gift_certificate VALUES(2, 'gift_certificate_2', 'description_2', 471.18, 17, '2023-09-03T17:29:42.362', '2023-09-03T17:29:42.362');
+INSERT INTO gift_certificate VALUES(2, 'gift_certificate_2', 'description_2', 471.18, 17, '2023-09-03T17:29:42.362', '2023-09-03T17:29:42.362', 0);
 
-INSERT INTO gift_certificate VALUES(3, 'gift_certificate_3', 'description_3', 234.56, 14, '2023-09-03T17:29:42.362', '2023-09-03T17:29:42.362');
+INSERT INTO gift_certificate VALUES(3, 'gift_certificate_3', 'description_3', 234.56, 14, '2023-09-03T17:29:42.362', '2023-09-03T17:29:42.362', 0);
 
-INSERT INTO gift_certificate VALUES(4, 'gift_certificate_4', 'description_4', 296.33, 12, '2023-09-03T17:29:42.362', '2023-09-03T17:29:42.362');
+INSERT INTO gift_certificate VALUES(4, 'gift_certificate_4', 'description_4', 296.33, 12, '2023-09-03T17:29:42.362', '2023-09-03T17:29:42.362', 0);
 
-INSERT INTO gift_certificate VALUES(5, 'gift_certificate_5', 'description_5', 452.59, 9, '2023-09-03T17:29:42.362', '2023-09-03T17:29:42.362');
+INSERT INTO gift_certificate VALUES(5, 'gift_certificate_5', 'description_5', 452.59, 9, '2023-09-03T17:29:42.362', '2023-09-03T17:29:42.362', 0);
 
-INSERT INTO gift_certificate VALUES(6, 'gift_certificate_6', 'description_6', 244.23, 5, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363');
+INSERT INTO gift_certificate VALUES(6, 'gift_certificate_6', 'description_6', 244.23, 5, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363', 0);
 
-INSERT INTO gift_certificate VALUES(7, 'gift_certificate_7', 'description_7', 177.28, 14, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363');
+INSERT INTO gift_certificate VALUES(7, 'gift_certificate_7', 'description_7', 177.28, 14, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363', 0);
 
-INSERT INTO gift_certificate VALUES(8, 'gift_certificate_8', 'description_8', 178.51, 11, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363');
+INSERT INTO gift_certificate VALUES(8, 'gift_certificate_8', 'description_8', 178.51, 11, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363', 0);
 
-INSERT INTO gift_certificate VALUES(9, 'gift_certificate_9', 'description_9', 219.59, 8, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363');
+INSERT INTO gift_certificate VALUES(9, 'gift_certificate_9', 'description_9', 219.59, 8, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363', 0);
 
-INSERT INTO gift_certificate VALUES(10, 'gift_certificate_10', 'description_10', 454.93, 16, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363');
+INSERT INTO gift_certificate VALUES(10, 'gift_certificate_10', 'description_10', 454.93, 16, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363', 0);
 
-INSERT INTO gift_certificate VALUES(11, 'gift_certificate_11', 'description_11', 103.75, 18, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363');
+INSERT INTO gift_certificate VALUES(11, 'gift_certificate_11', 'description_11', 103.75, 18, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363', 0);
 
-INSERT INTO gift_certificate VALUES(12, 'gift_certificate_12', 'description_12', 369.63, 6, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363');
+INSERT INTO gift_certificate VALUES(12, 'gift_certificate_12', 'description_12', 369.63, 6, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363', 0);
 
-INSERT INTO gift_certificate VALUES(13, 'gift_certificate_13', 'description_13', 194.47, 14, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363');
+INSERT INTO gift_certificate VALUES(13, 'gift_certificate_13', 'description_13', 194.47, 14, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363', 0);
 
-INSERT INTO gift_certificate VALUES(14, 'gift_certificate_14', 'description_14', 166.70, 8, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363');
+INSERT INTO gift_certificate VALUES(14, 'gift_certificate_14', 'description_14', 166.70, 8, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363', 0);
 
-INSERT INTO gift_certificate VALUES(15, 'gift_certificate_15', 'description_15', 313.22, 16, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363');
+INSERT INTO gift_certificate VALUES(15, 'gift_certificate_15', 'description_15', 313.22, 16, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363', 0);
 
-INSERT INTO gift_certificate VALUES(16, 'gift_certificate_16', 'description_16', 385.93, 16, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363');
+INSERT INTO gift_certificate VALUES(16, 'gift_certificate_16', 'description_16', 385.93, 16, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363', 0);
 
-INSERT INTO gift_certificate VALUES(17, 'gift_certificate_17', 'description_17', 309.10, 5, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363');
+INSERT INTO gift_certificate VALUES(17, 'gift_certificate_17', 'description_17', 309.10, 5, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363', 0);
 
-INSERT INTO gift_certificate VALUES(18, 'gift_certificate_18', 'description_18', 322.62, 16, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363');
+INSERT INTO gift_certificate VALUES(18, 'gift_certificate_18', 'description_18', 322.62, 16, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363', 0);
 
-INSERT INTO gift_certificate VALUES(19, 'gift_certificate_19', 'description_19', 144.62, 18, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363');
+INSERT INTO gift_certificate VALUES(19, 'gift_certificate_19', 'description_19', 144.62, 18, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363', 0);
 
-INSERT INTO gift_certificate VALUES(20, 'gift_certificate_20', 'description_20', 392.35, 7, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363');
+INSERT INTO gift_certificate VALUES(20, 'gift_certificate_20', 'description_20', 392.35, 7, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363', 0);
 
-INSERT INTO gift_certificate VALUES(21, 'gift_certificate_21', 'description_21', 209.97, 6, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363');
+INSERT INTO gift_certificate VALUES(21, 'gift_certificate_21', 'description_21', 209.97, 6, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363', 0);
 
-INSERT INTO gift_certificate VALUES(22, 'gift_certificate_22', 'description_22', 324.04, 14, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363');
+INSERT INTO gift_certificate VALUES(22, 'gift_certificate_22', 'description_22', 324.04, 14, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.363', 0);
 
-INSERT INTO gift_certificate VALUES(23, 'gift_certificate_23', 'description_23', 121.37, 17, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.364');
+INSERT INTO gift_certificate VALUES(23, 'gift_certificate_23', 'description_23', 121.37, 17, '2023-09-03T17:29:42.363', '2023-09-03T17:29:42.364', 0);
 
-INSERT INTO gift_certificate VALUES(24, 'gift_certificate_24', 'description_24', 479.93, 11, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364');
+INSERT INTO gift_certificate VALUES(24, 'gift_certificate_24', 'description_24', 479.93, 11, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364', 0);
 
-INSERT INTO gift_certificate VALUES(25, 'gift_certificate_25', 'description_25', 216.35, 6, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364');
+INSERT INTO gift_certificate VALUES(25, 'gift_certificate_25', 'description_25', 216.35, 6, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364', 0);
 
-INSERT INTO gift_certificate VALUES(26, 'gift_certificate_26', 'description_26', 219.55, 8, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364');
+INSERT INTO gift_certificate VALUES(26, 'gift_certificate_26', 'description_26', 219.55, 8, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364', 0);
 
-INSERT INTO gift_certificate VALUES(27, 'gift_certificate_27', 'description_27', 191.68, 11, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364');
+INSERT INTO gift_certificate VALUES(27, 'gift_certificate_27', 'description_27', 191.68, 11, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364', 0);
 
-INSERT INTO gift_certificate VALUES(28, 'gift_certificate_28', 'description_28', 408.92, 5, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364');
+INSERT INTO gift_certificate VALUES(28, 'gift_certificate_28', 'description_28', 408.92, 5, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364', 0);
 
-INSERT INTO gift_certificate VALUES(29, 'gift_certificate_29', 'description_29', 124.39, 6, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364');
+INSERT INTO gift_certificate VALUES(29, 'gift_certificate_29', 'description_29', 124.39, 6, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364', 0);
 
-INSERT INTO gift_certificate VALUES(30, 'gift_certificate_30', 'description_30', 243.48, 12, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364');
+INSERT INTO gift_certificate VALUES(30, 'gift_certificate_30', 'description_30', 243.48, 12, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364', 0);
 
-INSERT INTO gift_certificate VALUES(31, 'gift_certificate_31', 'description_31', 215.00, 11, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364');
+INSERT INTO gift_certificate VALUES(31, 'gift_certificate_31', 'description_31', 215.00, 11, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364', 0);
 
-INSERT INTO gift_certificate VALUES(32, 'gift_certificate_32', 'description_32', 233.69, 16, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364');
+INSERT INTO gift_certificate VALUES(32, 'gift_certificate_32', 'description_32', 233.69, 16, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364', 0);
 
-INSERT INTO gift_certificate VALUES(33, 'gift_certificate_33', 'description_33', 188.79, 5, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364');
+INSERT INTO gift_certificate VALUES(33, 'gift_certificate_33', 'description_33', 188.79, 5, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364', 0);
 
-INSERT INTO gift_certificate VALUES(34, 'gift_certificate_34', 'description_34', 263.59, 17, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364');
+INSERT INTO gift_certificate VALUES(34, 'gift_certificate_34', 'description_34', 263.59, 17, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364', 0);
 
-INSERT INTO gift_certificate VALUES(35, 'gift_certificate_35', 'description_35', 298.18, 12, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364');
+INSERT INTO gift_certificate VALUES(35, 'gift_certificate_35', 'description_35', 298.18, 12, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364', 0);
 
-INSERT INTO gift_certificate VALUES(36, 'gift_certificate_36', 'description_36', 331.76, 5, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364');
+INSERT INTO gift_certificate VALUES(36, 'gift_certificate_36', 'description_36', 331.76, 5, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364', 0);
 
-INSERT INTO gift_certificate VALUES(37, 'gift_certificate_37', 'description_37', 288.04, 16, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364');
+INSERT INTO gift_certificate VALUES(37, 'gift_certificate_37', 'description_37', 288.04, 16, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364', 0);
 
-INSERT INTO gift_certificate VALUES(38, 'gift_certificate_38', 'description_38', 119.06, 16, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364');
+INSERT INTO gift_certificate VALUES(38, 'gift_certificate_38', 'description_38', 119.06, 16, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364', 0);
 
-INSERT INTO gift_certificate VALUES(39, 'gift_certificate_39', 'description_39', 481.23, 15, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364');
+INSERT INTO gift_certificate VALUES(39, 'gift_certificate_39', 'description_39', 481.23, 15, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364', 0);
 
-INSERT INTO gift_certificate VALUES(40, 'gift_certificate_40', 'description_40', 221.03, 14, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364');
+INSERT INTO gift_certificate VALUES(40, 'gift_certificate_40', 'description_40', 221.03, 14, '2023-09-03T17:29:42.364', '2023-09-03T17:29:42.364', 0);
 
-INSERT INTO gift_certificate VALUES(41, 'gift_certificate_41', 'description_41', 268.40, 18, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365');
+INSERT INTO gift_certificate VALUES(41, 'gift_certificate_41', 'description_41', 268.40, 18, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365', 0);
 
-INSERT INTO gift_certificate VALUES(42, 'gift_certificate_42', 'description_42', 109.04, 14, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365');
+INSERT INTO gift_certificate VALUES(42, 'gift_certificate_42', 'description_42', 109.04, 14, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365', 0);
 
-INSERT INTO gift_certificate VALUES(43, 'gift_certificate_43', 'description_43', 380.32, 15, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365');
+INSERT INTO gift_certificate VALUES(43, 'gift_certificate_43', 'description_43', 380.32, 15, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365', 0);
 
-INSERT INTO gift_certificate VALUES(44, 'gift_certificate_44', 'description_44', 247.57, 16, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365');
+INSERT INTO gift_certificate VALUES(44, 'gift_certificate_44', 'description_44', 247.57, 16, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365', 0);
 
-INSERT INTO gift_certificate VALUES(45, 'gift_certificate_45', 'description_45', 385.01, 12, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365');
+INSERT INTO gift_certificate VALUES(45, 'gift_certificate_45', 'description_45', 385.01, 12, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365', 0);
 
-INSERT INTO gift_certificate VALUES(46, 'gift_certificate_46', 'description_46', 452.49, 8, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365');
+INSERT INTO gift_certificate VALUES(46, 'gift_certificate_46', 'description_46', 452.49, 8, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365', 0);
 
-INSERT INTO gift_certificate VALUES(47, 'gift_certificate_47', 'description_47', 171.81, 14, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365');
+INSERT INTO gift_certificate VALUES(47, 'gift_certificate_47', 'description_47', 171.81, 14, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365', 0);
 
-INSERT INTO gift_certificate VALUES(48, 'gift_certificate_48', 'description_48', 204.69, 6, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365');
+INSERT INTO gift_certificate VALUES(48, 'gift_certificate_48', 'description_48', 204.69, 6, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365', 0);
 
-INSERT INTO gift_certificate VALUES(49, 'gift_certificate_49', 'description_49', 328.45, 11, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365');
+INSERT INTO gift_certificate VALUES(49, 'gift_certificate_49', 'description_49', 328.45, 11, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365', 0);
 
-INSERT INTO gift_certificate VALUES(50, 'gift_certificate_50', 'description_50', 265.24, 13, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365');
+INSERT INTO gift_certificate VALUES(50, 'gift_certificate_50', 'description_50', 265.24, 13, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365', 0);
 
-INSERT INTO gift_certificate VALUES(51, 'gift_certificate_51', 'description_51', 272.27, 5, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365');
+INSERT INTO gift_certificate VALUES(51, 'gift_certificate_51', 'description_51', 272.27, 5, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365', 0);
 
-INSERT INTO gift_certificate VALUES(52, 'gift_certificate_52', 'description_52', 425.22, 11, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365');
+INSERT INTO gift_certificate VALUES(52, 'gift_certificate_52', 'description_52', 425.22, 11, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365', 0);
 
-INSERT INTO gift_certificate VALUES(53, 'gift_certificate_53', 'description_53', 111.91, 9, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365');
+INSERT INTO gift_certificate VALUES(53, 'gift_certificate_53', 'description_53', 111.91, 9, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365', 0);
 
-INSERT INTO gift_certificate VALUES(54, 'gift_certificate_54', 'description_54', 440.18, 16, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365');
+INSERT INTO gift_certificate VALUES(54, 'gift_certificate_54', 'description_54', 440.18, 16, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365', 0);
 
-INSERT INTO gift_certificate VALUES(55, 'gift_certificate_55', 'description_55', 128.13, 18, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365');
+INSERT INTO gift_certificate VALUES(55, 'gift_certificate_55', 'description_55', 128.13, 18, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365', 0);
 
-INSERT INTO gift_certificate VALUES(56, 'gift_certificate_56', 'description_56', 281.36, 11, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365');
+INSERT INTO gift_certificate VALUES(56, 'gift_certificate_56', 'description_56', 281.36, 11, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365', 0);
 
-INSERT INTO gift_certificate VALUES(57, 'gift_certificate_57', 'description_57', 287.41, 17, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365');
+INSERT INTO gift_certificate VALUES(57, 'gift_certificate_57', 'description_57', 287.41, 17, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365', 0);
 
-INSERT INTO gift_certificate VALUES(58, 'gift_certificate_58', 'description_58', 427.98, 12, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365');
+INSERT INTO gift_certificate VALUES(58, 'gift_certificate_58', 'description_58', 427.98, 12, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365', 0);
 
-INSERT INTO gift_certificate VALUES(59, 'gift_certificate_59', 'description_59', 123.27, 5, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365');
+INSERT INTO gift_certificate VALUES(59, 'gift_certificate_59', 'description_59', 123.27, 5, '2023-09-03T17:29:42.365', '2023-09-03T17:29:42.365', 0);
 
-INSERT INTO gift_certificate VALUES(60, 'gift_certificate_60', 'description_60', 274.25, 18, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366');
+INSERT INTO gift_certificate VALUES(60, 'gift_certificate_60', 'description_60', 274.25, 18, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366', 0);
 
-INSERT INTO gift_certificate VALUES(61, 'gift_certificate_61', 'description_61', 133.77, 14, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366');
+INSERT INTO gift_certificate VALUES(61, 'gift_certificate_61', 'description_61', 133.77, 14, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366', 0);
 
-INSERT INTO gift_certificate VALUES(62, 'gift_certificate_62', 'description_62', 354.54, 7, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366');
+INSERT INTO gift_certificate VALUES(62, 'gift_certificate_62', 'description_62', 354.54, 7, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366', 0);
 
-INSERT INTO gift_certificate VALUES(63, 'gift_certificate_63', 'description_63', 185.23, 17, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366');
+INSERT INTO gift_certificate VALUES(63, 'gift_certificate_63', 'description_63', 185.23, 17, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366', 0);
 
-INSERT INTO gift_certificate VALUES(64, 'gift_certificate_64', 'description_64', 273.57, 14, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366');
+INSERT INTO gift_certificate VALUES(64, 'gift_certificate_64', 'description_64', 273.57, 14, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366', 0);
 
-INSERT INTO gift_certificate VALUES(65, 'gift_certificate_65', 'description_65', 474.11, 9, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366');
+INSERT INTO gift_certificate VALUES(65, 'gift_certificate_65', 'description_65', 474.11, 9, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366', 0);
 
-INSERT INTO gift_certificate VALUES(66, 'gift_certificate_66', 'description_66', 252.98, 19, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366');
+INSERT INTO gift_certificate VALUES(66, 'gift_certificate_66', 'description_66', 252.98, 19, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366', 0);
 
-INSERT INTO gift_certificate VALUES(67, 'gift_certificate_67', 'description_67', 254.34, 14, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366');
+INSERT INTO gift_certificate VALUES(67, 'gift_certificate_67', 'description_67', 254.34, 14, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366', 0);
 
-INSERT INTO gift_certificate VALUES(68, 'gift_certificate_68', 'description_68', 338.52, 7, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366');
+INSERT INTO gift_certificate VALUES(68, 'gift_certificate_68', 'description_68', 338.52, 7, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366', 0);
 
-INSERT INTO gift_certificate VALUES(69, 'gift_certificate_69', 'description_69', 321.57, 8, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366');
+INSERT INTO gift_certificate VALUES(69, 'gift_certificate_69', 'description_69', 321.57, 8, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366', 0);
 
-INSERT INTO gift_certificate VALUES(70, 'gift_certificate_70', 'description_70', 169.09, 17, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366');
+INSERT INTO gift_certificate VALUES(70, 'gift_certificate_70', 'description_70', 169.09, 17, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366', 0);
 
-INSERT INTO gift_certificate VALUES(71, 'gift_certificate_71', 'description_71', 387.77, 19, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366');
+INSERT INTO gift_certificate VALUES(71, 'gift_certificate_71', 'description_71', 387.77, 19, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366', 0);
 
-INSERT INTO gift_certificate VALUES(72, 'gift_certificate_72', 'description_72', 183.86, 16, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366');
+INSERT INTO gift_certificate VALUES(72, 'gift_certificate_72', 'description_72', 183.86, 16, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366', 0);
 
-INSERT INTO gift_certificate VALUES(73, 'gift_certificate_73', 'description_73', 110.25, 5, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366');
+INSERT INTO gift_certificate VALUES(73, 'gift_certificate_73', 'description_73', 110.25, 5, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366', 0);
 
-INSERT INTO gift_certificate VALUES(74, 'gift_certificate_74', 'description_74', 309.82, 12, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366');
+INSERT INTO gift_certificate VALUES(74, 'gift_certificate_74', 'description_74', 309.82, 12, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366', 0);
 
-INSERT INTO gift_certificate VALUES(75, 'gift_certificate_75', 'description_75', 276.40, 17, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366');
+INSERT INTO gift_certificate VALUES(75, 'gift_certificate_75', 'description_75', 276.40, 17, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366', 0);
 
-INSERT INTO gift_certificate VALUES(76, 'gift_certificate_76', 'description_76', 277.64, 12, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366');
+INSERT INTO gift_certificate VALUES(76, 'gift_certificate_76', 'description_76', 277.64, 12, '2023-09-03T17:29:42.366', '2023-09-03T17:29:42.366', 0);
 
-INSERT INTO gift_certificate VALUES(77, 'gift_certificate_77', 'description_77', 310.16, 7, '2023-09-03T17:29:42.367', '2023-09-03T17:29:42.367');
+INSERT INTO gift_certificate VALUES(77, 'gift_certificate_77', 'description_77', 310.16, 7, '2023-09-03T17:29:42.367', '2023-09-03T17:29:42.367', 0);
 
-INSERT INTO gift_certificate VALUES(78, 'gift_certificate_78', 'description_78', 173.15, 15, '2023-09-03T17:29:42.367', '2023-09-03T17:29:42.367');
+INSERT INTO gift_certificate VALUES(78, 'gift_certificate_78', 'description_78', 173.15, 15, '2023-09-03T17:29:42.367', '2023-09-03T17:29:42.367', 0);
 
-INSERT INTO gift_certificate VALUES(79, 'gift_certificate_79', 'description_79', 110.12, 17, '2023-09-03T17:29:42.367', '2023-09-03T17:29:42.367');
+INSERT INTO gift_certificate VALUES(79, 'gift_certificate_79', 'description_79', 110.12, 17, '2023-09-03T17:29:42.367', '2023-09-03T17:29:42.367', 0);
 
-INSERT INTO gift_certificate VALUES(80, 'gift_certificate_80', 'description_80', 313.16, 17, '2023-09-03T17:29:42.367', '2023-09-03T17:29:42.367');
+INSERT INTO gift_certificate VALUES(80, 'gift_certificate_80', 'description_80', 313.16, 17, '2023-09-03T17:29:42.367', '2023-09-03T17:29:42.367', 0);
 
-INSERT INTO gift_certificate VALUES(81, 'gift_certificate_81', 'description_81', 435.86, 5, '2023-09-03T17:29:42.367', '2023-09-03T17:29:42.367');
+INSERT INTO gift_certificate VALUES(81, 'gift_certificate_81', 'description_81', 435.86, 5, '2023-09-03T17:29:42.367', '2023-09-03T17:29:42.367', 0);
 
-INSERT INTO gift_certificate VALUES(82, 'gift_certificate_82', 'description_82', 412.21, 17, '2023-09-03T17:29:42.367', '2023-09-03T17:29:42.367');
+INSERT INTO gift_certificate VALUES(82, 'gift_certificate_82', 'description_82', 412.21, 17, '2023-09-03T17:29:42.367', '2023-09-03T17:29:42.367', 0);
 
-INSERT INTO gift_certificate VALUES(83, 'gift_certificate_83', 'description_83', 444.63, 14, '2023-09-03T17:29:42.367', '2023-09-03T17:29:42.367');
+INSERT INTO gift_certificate VALUES(83, 'gift_certificate_83', 'description_83', 444.63, 14, '2023-09-03T17:29:42.367', '2023-09-03T17:29:42.367', 0);
 
-INSERT INTO gift_certificate VALUES(84, 'gift_certificate_84', 'description_84', 144.13, 18, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(84, 'gift_certificate_84', 'description_84', 144.13, 18, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(85, 'gift_certificate_85', 'description_85', 344.16, 6, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(85, 'gift_certificate_85', 'description_85', 344.16, 6, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(86, 'gift_certificate_86', 'description_86', 489.85, 12, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(86, 'gift_certificate_86', 'description_86', 489.85, 12, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(87, 'gift_certificate_87', 'description_87', 455.60, 12, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(87, 'gift_certificate_87', 'description_87', 455.60, 12, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(88, 'gift_certificate_88', 'description_88', 102.77, 7, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(88, 'gift_certificate_88', 'description_88', 102.77, 7, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(89, 'gift_certificate_89', 'description_89', 164.55, 14, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(89, 'gift_certificate_89', 'description_89', 164.55, 14, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(90, 'gift_certificate_90', 'description_90', 322.72, 18, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(90, 'gift_certificate_90', 'description_90', 322.72, 18, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(91, 'gift_certificate_91', 'description_91', 399.88, 7, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(91, 'gift_certificate_91', 'description_91', 399.88, 7, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(92, 'gift_certificate_92', 'description_92', 331.89, 9, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(92, 'gift_certificate_92', 'description_92', 331.89, 9, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(93, 'gift_certificate_93', 'description_93', 270.54, 19, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(93, 'gift_certificate_93', 'description_93', 270.54, 19, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(94, 'gift_certificate_94', 'description_94', 114.51, 8, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(94, 'gift_certificate_94', 'description_94', 114.51, 8, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(95, 'gift_certificate_95', 'description_95', 297.94, 15, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(95, 'gift_certificate_95', 'description_95', 297.94, 15, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(96, 'gift_certificate_96', 'description_96', 439.99, 10, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(96, 'gift_certificate_96', 'description_96', 439.99, 10, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(97, 'gift_certificate_97', 'description_97', 275.58, 16, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(97, 'gift_certificate_97', 'description_97', 275.58, 16, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(98, 'gift_certificate_98', 'description_98', 433.80, 9, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(98, 'gift_certificate_98', 'description_98', 433.80, 9, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(99, 'gift_certificate_99', 'description_99', 419.50, 8, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(99, 'gift_certificate_99', 'description_99', 419.50, 8, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(100, 'gift_certificate_100', 'description_100', 270.12, 8, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(100, 'gift_certificate_100', 'description_100', 270.12, 8, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(101, 'gift_certificate_101', 'description_101', 362.47, 5, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(101, 'gift_certificate_101', 'description_101', 362.47, 5, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(102, 'gift_certificate_102', 'description_102', 490.95, 8, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(102, 'gift_certificate_102', 'description_102', 490.95, 8, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(103, 'gift_certificate_103', 'description_103', 197.95, 18, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368');
+INSERT INTO gift_certificate VALUES(103, 'gift_certificate_103', 'description_103', 197.95, 18, '2023-09-03T17:29:42.368', '2023-09-03T17:29:42.368', 0);
 
-INSERT INTO gift_certificate VALUES(104, 'gift_certificate_104', 'description_104', 257.75, 5, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(104, 'gift_certificate_104', 'description_104', 257.75, 5, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(105, 'gift_certificate_105', 'description_105', 203.94, 19, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(105, 'gift_certificate_105', 'description_105', 203.94, 19, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(106, 'gift_certificate_106', 'description_106', 476.99, 16, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(106, 'gift_certificate_106', 'description_106', 476.99, 16, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(107, 'gift_certificate_107', 'description_107', 138.76, 7, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(107, 'gift_certificate_107', 'description_107', 138.76, 7, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(108, 'gift_certificate_108', 'description_108', 389.42, 17, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(108, 'gift_certificate_108', 'description_108', 389.42, 17, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(109, 'gift_certificate_109', 'description_109', 462.39, 5, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(109, 'gift_certificate_109', 'description_109', 462.39, 5, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(110, 'gift_certificate_110', 'description_110', 492.51, 9, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(110, 'gift_certificate_110', 'description_110', 492.51, 9, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(111, 'gift_certificate_111', 'description_111', 202.94, 14, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(111, 'gift_certificate_111', 'description_111', 202.94, 14, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(112, 'gift_certificate_112', 'description_112', 452.47, 9, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(112, 'gift_certificate_112', 'description_112', 452.47, 9, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(113, 'gift_certificate_113', 'description_113', 175.84, 7, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(113, 'gift_certificate_113', 'description_113', 175.84, 7, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(114, 'gift_certificate_114', 'description_114', 475.29, 8, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(114, 'gift_certificate_114', 'description_114', 475.29, 8, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(115, 'gift_certificate_115', 'description_115', 192.91, 14, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(115, 'gift_certificate_115', 'description_115', 192.91, 14, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(116, 'gift_certificate_116', 'description_116', 306.75, 14, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(116, 'gift_certificate_116', 'description_116', 306.75, 14, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(117, 'gift_certificate_117', 'description_117', 121.54, 10, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(117, 'gift_certificate_117', 'description_117', 121.54, 10, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(118, 'gift_certificate_118', 'description_118', 250.29, 5, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(118, 'gift_certificate_118', 'description_118', 250.29, 5, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(119, 'gift_certificate_119', 'description_119', 145.09, 6, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(119, 'gift_certificate_119', 'description_119', 145.09, 6, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(120, 'gift_certificate_120', 'description_120', 263.42, 6, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(120, 'gift_certificate_120', 'description_120', 263.42, 6, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(121, 'gift_certificate_121', 'description_121', 324.18, 6, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(121, 'gift_certificate_121', 'description_121', 324.18, 6, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(122, 'gift_certificate_122', 'description_122', 458.22, 9, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(122, 'gift_certificate_122', 'description_122', 458.22, 9, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(123, 'gift_certificate_123', 'description_123', 412.36, 8, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(123, 'gift_certificate_123', 'description_123', 412.36, 8, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(124, 'gift_certificate_124', 'description_124', 427.52, 11, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369');
+INSERT INTO gift_certificate VALUES(124, 'gift_certificate_124', 'description_124', 427.52, 11, '2023-09-03T17:29:42.369', '2023-09-03T17:29:42.369', 0);
 
-INSERT INTO gift_certificate VALUES(125, 'gift_certificate_125', 'description_125', 494.39, 19, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370');
+INSERT INTO gift_certificate VALUES(125, 'gift_certificate_125', 'description_125', 494.39, 19, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370', 0);
 
-INSERT INTO gift_certificate VALUES(126, 'gift_certificate_126', 'description_126', 360.89, 8, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370');
+INSERT INTO gift_certificate VALUES(126, 'gift_certificate_126', 'description_126', 360.89, 8, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370', 0);
 
-INSERT INTO gift_certificate VALUES(127, 'gift_certificate_127', 'description_127', 223.20, 8, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370');
+INSERT INTO gift_certificate VALUES(127, 'gift_certificate_127', 'description_127', 223.20, 8, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370', 0);
 
-INSERT INTO gift_certificate VALUES(128, 'gift_certificate_128', 'description_128', 322.09, 18, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370');
+INSERT INTO gift_certificate VALUES(128, 'gift_certificate_128', 'description_128', 322.09, 18, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370', 0);
 
-INSERT INTO gift_certificate VALUES(129, 'gift_certificate_129', 'description_129', 407.68, 7, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370');
+INSERT INTO gift_certificate VALUES(129, 'gift_certificate_129', 'description_129', 407.68, 7, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370', 0);
 
-INSERT INTO gift_certificate VALUES(130, 'gift_certificate_130', 'description_130', 212.22, 11, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370');
+INSERT INTO gift_certificate VALUES(130, 'gift_certificate_130', 'description_130', 212.22, 11, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370', 0);
 
-INSERT INTO gift_certificate VALUES(131, 'gift_certificate_131', 'description_131', 173.73, 17, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370');
+INSERT INTO gift_certificate VALUES(131, 'gift_certificate_131', 'description_131', 173.73, 17, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370', 0);
 
-INSERT INTO gift_certificate VALUES(132, 'gift_certificate_132', 'description_132', 145.49, 15, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370');
+INSERT INTO gift_certificate VALUES(132, 'gift_certificate_132', 'description_132', 145.49, 15, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370', 0);
 
-INSERT INTO gift_certificate VALUES(133, 'gift_certificate_133', 'description_133', 415.27, 16, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370');
+INSERT INTO gift_certificate VALUES(133, 'gift_certificate_133', 'description_133', 415.27, 16, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370', 0);
 
-INSERT INTO gift_certificate VALUES(134, 'gift_certificate_134', 'description_134', 479.23, 10, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370');
+INSERT INTO gift_certificate VALUES(134, 'gift_certificate_134', 'description_134', 479.23, 10, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370', 0);
 
-INSERT INTO gift_certificate VALUES(135, 'gift_certificate_135', 'description_135', 128.81, 14, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370');
+INSERT INTO gift_certificate VALUES(135, 'gift_certificate_135', 'description_135', 128.81, 14, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370', 0);
 
-INSERT INTO gift_certificate VALUES(136, 'gift_certificate_136', 'description_136', 356.79, 13, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370');
+INSERT INTO gift_certificate VALUES(136, 'gift_certificate_136', 'description_136', 356.79, 13, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370', 0);
 
-INSERT INTO gift_certificate VALUES(137, 'gift_certificate_137', 'description_137', 289.84, 12, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370');
+INSERT INTO gift_certificate VALUES(137, 'gift_certificate_137', 'description_137', 289.84, 12, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370', 0);
 
-INSERT INTO gift_certificate VALUES(138, 'gift_certificate_138', 'description_138', 298.38, 16, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370');
+INSERT INTO gift_certificate VALUES(138, 'gift_certificate_138', 'description_138', 298.38, 16, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370', 0);
 
-INSERT INTO gift_certificate VALUES(139, 'gift_certificate_139', 'description_139', 338.60, 15, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370');
+INSERT INTO gift_certificate VALUES(139, 'gift_certificate_139', 'description_139', 338.60, 15, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370', 0);
 
-INSERT INTO gift_certificate VALUES(140, 'gift_certificate_140', 'description_140', 142.40, 13, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370');
+INSERT INTO gift_certificate VALUES(140, 'gift_certificate_140', 'description_140', 142.40, 13, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370', 0);
 
-INSERT INTO gift_certificate VALUES(141, 'gift_certificate_141', 'description_141', 304.18, 12, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370');
+INSERT INTO gift_certificate VALUES(141, 'gift_certificate_141', 'description_141', 304.18, 12, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370', 0);
 
-INSERT INTO gift_certificate VALUES(142, 'gift_certificate_142', 'description_142', 388.12, 16, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370');
+INSERT INTO gift_certificate VALUES(142, 'gift_certificate_142', 'description_142', 388.12, 16, '2023-09-03T17:29:42.370', '2023-09-03T17:29:42.370', 0);
 
-INSERT INTO gift_certificate VALUES(143, 'gift_certificate_143', 'description_143', 116.00, 14, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(143, 'gift_certificate_143', 'description_143', 116.00, 14, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(144, 'gift_certificate_144', 'description_144', 426.31, 16, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(144, 'gift_certificate_144', 'description_144', 426.31, 16, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(145, 'gift_certificate_145', 'description_145', 449.05, 17, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(145, 'gift_certificate_145', 'description_145', 449.05, 17, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(146, 'gift_certificate_146', 'description_146', 104.59, 14, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(146, 'gift_certificate_146', 'description_146', 104.59, 14, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(147, 'gift_certificate_147', 'description_147', 200.55, 10, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(147, 'gift_certificate_147', 'description_147', 200.55, 10, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(148, 'gift_certificate_148', 'description_148', 227.36, 16, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(148, 'gift_certificate_148', 'description_148', 227.36, 16, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(149, 'gift_certificate_149', 'description_149', 483.31, 10, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(149, 'gift_certificate_149', 'description_149', 483.31, 10, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(150, 'gift_certificate_150', 'description_150', 350.38, 19, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(150, 'gift_certificate_150', 'description_150', 350.38, 19, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(151, 'gift_certificate_151', 'description_151', 494.88, 5, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(151, 'gift_certificate_151', 'description_151', 494.88, 5, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(152, 'gift_certificate_152', 'description_152', 361.35, 18, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(152, 'gift_certificate_152', 'description_152', 361.35, 18, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(153, 'gift_certificate_153', 'description_153', 396.65, 18, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(153, 'gift_certificate_153', 'description_153', 396.65, 18, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(154, 'gift_certificate_154', 'description_154', 129.64, 5, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(154, 'gift_certificate_154', 'description_154', 129.64, 5, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(155, 'gift_certificate_155', 'description_155', 473.49, 6, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(155, 'gift_certificate_155', 'description_155', 473.49, 6, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(156, 'gift_certificate_156', 'description_156', 319.88, 16, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(156, 'gift_certificate_156', 'description_156', 319.88, 16, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(157, 'gift_certificate_157', 'description_157', 486.22, 10, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(157, 'gift_certificate_157', 'description_157', 486.22, 10, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(158, 'gift_certificate_158', 'description_158', 253.15, 10, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(158, 'gift_certificate_158', 'description_158', 253.15, 10, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(159, 'gift_certificate_159', 'description_159', 427.60, 16, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(159, 'gift_certificate_159', 'description_159', 427.60, 16, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(160, 'gift_certificate_160', 'description_160', 347.10, 11, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(160, 'gift_certificate_160', 'description_160', 347.10, 11, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(161, 'gift_certificate_161', 'description_161', 259.35, 9, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(161, 'gift_certificate_161', 'description_161', 259.35, 9, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(162, 'gift_certificate_162', 'description_162', 393.07, 16, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(162, 'gift_certificate_162', 'description_162', 393.07, 16, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(163, 'gift_certificate_163', 'description_163', 156.22, 9, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(163, 'gift_certificate_163', 'description_163', 156.22, 9, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(164, 'gift_certificate_164', 'description_164', 210.20, 10, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371');
+INSERT INTO gift_certificate VALUES(164, 'gift_certificate_164', 'description_164', 210.20, 10, '2023-09-03T17:29:42.371', '2023-09-03T17:29:42.371', 0);
 
-INSERT INTO gift_certificate VALUES(165, 'gift_certificate_165', 'description_165', 165.67, 19, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(165, 'gift_certificate_165', 'description_165', 165.67, 19, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(166, 'gift_certificate_166', 'description_166', 455.21, 13, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(166, 'gift_certificate_166', 'description_166', 455.21, 13, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(167, 'gift_certificate_167', 'description_167', 205.89, 5, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(167, 'gift_certificate_167', 'description_167', 205.89, 5, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(168, 'gift_certificate_168', 'description_168', 445.02, 9, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(168, 'gift_certificate_168', 'description_168', 445.02, 9, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(169, 'gift_certificate_169', 'description_169', 410.19, 17, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(169, 'gift_certificate_169', 'description_169', 410.19, 17, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(170, 'gift_certificate_170', 'description_170', 211.01, 8, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(170, 'gift_certificate_170', 'description_170', 211.01, 8, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(171, 'gift_certificate_171', 'description_171', 184.40, 17, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(171, 'gift_certificate_171', 'description_171', 184.40, 17, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(172, 'gift_certificate_172', 'description_172', 439.78, 15, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(172, 'gift_certificate_172', 'description_172', 439.78, 15, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(173, 'gift_certificate_173', 'description_173', 181.79, 18, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(173, 'gift_certificate_173', 'description_173', 181.79, 18, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(174, 'gift_certificate_174', 'description_174', 372.57, 9, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(174, 'gift_certificate_174', 'description_174', 372.57, 9, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(175, 'gift_certificate_175', 'description_175', 256.21, 19, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(175, 'gift_certificate_175', 'description_175', 256.21, 19, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(176, 'gift_certificate_176', 'description_176', 489.97, 8, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(176, 'gift_certificate_176', 'description_176', 489.97, 8, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(177, 'gift_certificate_177', 'description_177', 237.75, 11, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(177, 'gift_certificate_177', 'description_177', 237.75, 11, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(178, 'gift_certificate_178', 'description_178', 169.05, 19, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(178, 'gift_certificate_178', 'description_178', 169.05, 19, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(179, 'gift_certificate_179', 'description_179', 325.91, 15, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(179, 'gift_certificate_179', 'description_179', 325.91, 15, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(180, 'gift_certificate_180', 'description_180', 427.96, 15, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(180, 'gift_certificate_180', 'description_180', 427.96, 15, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(181, 'gift_certificate_181', 'description_181', 432.58, 5, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(181, 'gift_certificate_181', 'description_181', 432.58, 5, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(182, 'gift_certificate_182', 'description_182', 380.42, 19, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(182, 'gift_certificate_182', 'description_182', 380.42, 19, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(183, 'gift_certificate_183', 'description_183', 277.44, 6, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(183, 'gift_certificate_183', 'description_183', 277.44, 6, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(184, 'gift_certificate_184', 'description_184', 397.59, 14, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(184, 'gift_certificate_184', 'description_184', 397.59, 14, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(185, 'gift_certificate_185', 'description_185', 308.59, 19, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(185, 'gift_certificate_185', 'description_185', 308.59, 19, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(186, 'gift_certificate_186', 'description_186', 222.89, 12, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(186, 'gift_certificate_186', 'description_186', 222.89, 12, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(187, 'gift_certificate_187', 'description_187', 333.09, 15, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372');
+INSERT INTO gift_certificate VALUES(187, 'gift_certificate_187', 'description_187', 333.09, 15, '2023-09-03T17:29:42.372', '2023-09-03T17:29:42.372', 0);
 
-INSERT INTO gift_certificate VALUES(188, 'gift_certificate_188', 'description_188', 355.57, 14, '2023-09-03T17:29:42.373', '2023-09-03T17:29:42.373');
+INSERT INTO gift_certificate VALUES(188, 'gift_certificate_188', 'description_188', 355.57, 14, '2023-09-03T17:29:42.373', '2023-09-03T17:29:42.373', 0);
 
-INSERT INTO gift_certificate VALUES(189, 'gift_certificate_189', 'description_189', 340.46, 19, '2023-09-03T17:29:42.373', '2023-09-03T17:29:42.373');
+INSERT INTO gift_certificate VALUES(189, 'gift_certificate_189', 'description_189', 340.46, 19, '2023-09-03T17:29:42.373', '2023-09-03T17:29:42.373', 0);
 
-INSERT INTO gift_certificate VALUES(190, 'gift_certificate_190', 'description_190', 247.23, 15, '2023-09-03T17:29:42.373', '2023-09-03T17:29:42.373');
+INSERT INTO gift_certificate VALUES(190, 'gift_certificate_190', 'description_190', 247.23, 15, '2023-09-03T17:29:42.373', '2023-09-03T17:29:42.373', 0);
 
-INSERT INTO gift_certificate VALUES(191, 'gift_certificate_191', 'description_191', 362.59, 13, '2023-09-03T17:29:42.373', '2023-09-03T17:29:42.373');
+INSERT INTO gift_certificate VALUES(191, 'gift_certificate_191', 'description_191', 362.59, 13, '2023-09-03T17:29:42.373', '2023-09-03T17:29:42.373', 0);
 
-INSERT INTO gift_certificate VALUES(192, 'gift_certificate_192', 'description_192', 318.63, 14, '2023-09-03T17:29:42.373', '2023-09-03T17:29:42.373');
+INSERT INTO gift_certificate VALUES(192, 'gift_certificate_192', 'description_192', 318.63, 14, '2023-09-03T17:29:42.373', '2023-09-03T17:29:42.373', 0);
 
-INSERT INTO gift_certificate VALUES(193, 'gift_certificate_193', 'description_193', 444.34, 16, '2023-09-03T17:29:42.373', '2023-09-03T17:29:42.373');
+INSERT INTO gift_certificate VALUES(193, 'gift_certificate_193', 'description_193', 444.34, 16, '2023-09-03T17:29:42.373', '2023-09-03T17:29:42.373', 0);
 
-INSERT INTO gift_certificate VALUES(194, 'gift_certificate_194', 'description_194', 294.36, 18, '2023-09-03T17:29:42.373', '2023-09-03T17:29:42.373');
+INSERT INTO gift_certificate VALUES(194, 'gift_certificate_194', 'description_194', 294.36, 18, '2023-09-03T17:29:42.373', '2023-09-03T17:29:42.373', 0);
 
-INSERT INTO gift_certificate VALUES(195, 'gift_certificate_195', 'description_195', 238.20, 10, '2023-09-03T17:29:42.373', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(195, 'gift_certificate_195', 'description_195', 238.20, 10, '2023-09-03T17:29:42.373', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(196, 'gift_certificate_196', 'description_196', 370.34, 10, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(196, 'gift_certificate_196', 'description_196', 370.34, 10, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(197, 'gift_certificate_197', 'description_197', 267.76, 16, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(197, 'gift_certificate_197', 'description_197', 267.76, 16, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(198, 'gift_certificate_198', 'description_198', 437.36, 16, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(198, 'gift_certificate_198', 'description_198', 437.36, 16, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(199, 'gift_certificate_199', 'description_199', 267.75, 8, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(199, 'gift_certificate_199', 'description_199', 267.75, 8, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(200, 'gift_certificate_200', 'description_200', 371.37, 17, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(200, 'gift_certificate_200', 'description_200', 371.37, 17, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(201, 'gift_certificate_201', 'description_201', 307.22, 18, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(201, 'gift_certificate_201', 'description_201', 307.22, 18, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(202, 'gift_certificate_202', 'description_202', 472.95, 11, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(202, 'gift_certificate_202', 'description_202', 472.95, 11, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(203, 'gift_certificate_203', 'description_203', 484.57, 15, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(203, 'gift_certificate_203', 'description_203', 484.57, 15, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(204, 'gift_certificate_204', 'description_204', 289.94, 13, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(204, 'gift_certificate_204', 'description_204', 289.94, 13, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(205, 'gift_certificate_205', 'description_205', 466.24, 9, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(205, 'gift_certificate_205', 'description_205', 466.24, 9, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(206, 'gift_certificate_206', 'description_206', 225.86, 6, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(206, 'gift_certificate_206', 'description_206', 225.86, 6, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(207, 'gift_certificate_207', 'description_207', 167.79, 5, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(207, 'gift_certificate_207', 'description_207', 167.79, 5, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(208, 'gift_certificate_208', 'description_208', 421.20, 9, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(208, 'gift_certificate_208', 'description_208', 421.20, 9, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(209, 'gift_certificate_209', 'description_209', 147.61, 6, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(209, 'gift_certificate_209', 'description_209', 147.61, 6, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(210, 'gift_certificate_210', 'description_210', 234.87, 17, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(210, 'gift_certificate_210', 'description_210', 234.87, 17, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(211, 'gift_certificate_211', 'description_211', 387.97, 9, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(211, 'gift_certificate_211', 'description_211', 387.97, 9, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(212, 'gift_certificate_212', 'description_212', 448.16, 14, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(212, 'gift_certificate_212', 'description_212', 448.16, 14, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(213, 'gift_certificate_213', 'description_213', 278.04, 13, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(213, 'gift_certificate_213', 'description_213', 278.04, 13, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(214, 'gift_certificate_214', 'description_214', 246.59, 11, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(214, 'gift_certificate_214', 'description_214', 246.59, 11, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(215, 'gift_certificate_215', 'description_215', 206.81, 14, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(215, 'gift_certificate_215', 'description_215', 206.81, 14, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(216, 'gift_certificate_216', 'description_216', 389.27, 7, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(216, 'gift_certificate_216', 'description_216', 389.27, 7, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(217, 'gift_certificate_217', 'description_217', 123.58, 5, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(217, 'gift_certificate_217', 'description_217', 123.58, 5, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(218, 'gift_certificate_218', 'description_218', 182.20, 6, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(218, 'gift_certificate_218', 'description_218', 182.20, 6, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(219, 'gift_certificate_219', 'description_219', 429.11, 18, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(219, 'gift_certificate_219', 'description_219', 429.11, 18, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(220, 'gift_certificate_220', 'description_220', 404.09, 15, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(220, 'gift_certificate_220', 'description_220', 404.09, 15, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(221, 'gift_certificate_221', 'description_221', 393.06, 17, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374');
+INSERT INTO gift_certificate VALUES(221, 'gift_certificate_221', 'description_221', 393.06, 17, '2023-09-03T17:29:42.374', '2023-09-03T17:29:42.374', 0);
 
-INSERT INTO gift_certificate VALUES(222, 'gift_certificate_222', 'description_222', 361.69, 19, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(222, 'gift_certificate_222', 'description_222', 361.69, 19, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(223, 'gift_certificate_223', 'description_223', 232.62, 9, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(223, 'gift_certificate_223', 'description_223', 232.62, 9, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(224, 'gift_certificate_224', 'description_224', 456.79, 16, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(224, 'gift_certificate_224', 'description_224', 456.79, 16, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(225, 'gift_certificate_225', 'description_225', 280.84, 16, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(225, 'gift_certificate_225', 'description_225', 280.84, 16, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(226, 'gift_certificate_226', 'description_226', 251.23, 9, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(226, 'gift_certificate_226', 'description_226', 251.23, 9, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(227, 'gift_certificate_227', 'description_227', 148.05, 17, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(227, 'gift_certificate_227', 'description_227', 148.05, 17, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(228, 'gift_certificate_228', 'description_228', 313.69, 8, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(228, 'gift_certificate_228', 'description_228', 313.69, 8, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(229, 'gift_certificate_229', 'description_229', 408.33, 12, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(229, 'gift_certificate_229', 'description_229', 408.33, 12, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(230, 'gift_certificate_230', 'description_230', 251.12, 7, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(230, 'gift_certificate_230', 'description_230', 251.12, 7, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(231, 'gift_certificate_231', 'description_231', 129.04, 19, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(231, 'gift_certificate_231', 'description_231', 129.04, 19, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(232, 'gift_certificate_232', 'description_232', 195.69, 7, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(232, 'gift_certificate_232', 'description_232', 195.69, 7, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(233, 'gift_certificate_233', 'description_233', 318.38, 7, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(233, 'gift_certificate_233', 'description_233', 318.38, 7, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(234, 'gift_certificate_234', 'description_234', 410.41, 11, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(234, 'gift_certificate_234', 'description_234', 410.41, 11, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(235, 'gift_certificate_235', 'description_235', 301.66, 9, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(235, 'gift_certificate_235', 'description_235', 301.66, 9, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(236, 'gift_certificate_236', 'description_236', 307.45, 17, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(236, 'gift_certificate_236', 'description_236', 307.45, 17, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(237, 'gift_certificate_237', 'description_237', 428.71, 5, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(237, 'gift_certificate_237', 'description_237', 428.71, 5, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(238, 'gift_certificate_238', 'description_238', 290.70, 7, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(238, 'gift_certificate_238', 'description_238', 290.70, 7, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(239, 'gift_certificate_239', 'description_239', 141.52, 19, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(239, 'gift_certificate_239', 'description_239', 141.52, 19, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(240, 'gift_certificate_240', 'description_240', 473.79, 15, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(240, 'gift_certificate_240', 'description_240', 473.79, 15, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(241, 'gift_certificate_241', 'description_241', 247.03, 11, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(241, 'gift_certificate_241', 'description_241', 247.03, 11, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(242, 'gift_certificate_242', 'description_242', 175.99, 18, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(242, 'gift_certificate_242', 'description_242', 175.99, 18, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(243, 'gift_certificate_243', 'description_243', 428.79, 17, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(243, 'gift_certificate_243', 'description_243', 428.79, 17, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(244, 'gift_certificate_244', 'description_244', 354.88, 17, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(244, 'gift_certificate_244', 'description_244', 354.88, 17, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(245, 'gift_certificate_245', 'description_245', 494.24, 7, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(245, 'gift_certificate_245', 'description_245', 494.24, 7, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(246, 'gift_certificate_246', 'description_246', 442.53, 15, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(246, 'gift_certificate_246', 'description_246', 442.53, 15, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(247, 'gift_certificate_247', 'description_247', 484.25, 17, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(247, 'gift_certificate_247', 'description_247', 484.25, 17, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(248, 'gift_certificate_248', 'description_248', 186.06, 8, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(248, 'gift_certificate_248', 'description_248', 186.06, 8, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(249, 'gift_certificate_249', 'description_249', 327.35, 18, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375');
+INSERT INTO gift_certificate VALUES(249, 'gift_certificate_249', 'description_249', 327.35, 18, '2023-09-03T17:29:42.375', '2023-09-03T17:29:42.375', 0);
 
-INSERT INTO gift_certificate VALUES(250, 'gift_certificate_250', 'description_250', 239.46, 6, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(250, 'gift_certificate_250', 'description_250', 239.46, 6, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(251, 'gift_certificate_251', 'description_251', 391.12, 17, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(251, 'gift_certificate_251', 'description_251', 391.12, 17, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(252, 'gift_certificate_252', 'description_252', 422.60, 10, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(252, 'gift_certificate_252', 'description_252', 422.60, 10, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(253, 'gift_certificate_253', 'description_253', 156.76, 6, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(253, 'gift_certificate_253', 'description_253', 156.76, 6, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(254, 'gift_certificate_254', 'description_254', 357.04, 12, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(254, 'gift_certificate_254', 'description_254', 357.04, 12, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(255, 'gift_certificate_255', 'description_255', 455.27, 9, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(255, 'gift_certificate_255', 'description_255', 455.27, 9, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(256, 'gift_certificate_256', 'description_256', 339.29, 9, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(256, 'gift_certificate_256', 'description_256', 339.29, 9, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(257, 'gift_certificate_257', 'description_257', 222.99, 14, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(257, 'gift_certificate_257', 'description_257', 222.99, 14, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(258, 'gift_certificate_258', 'description_258', 399.99, 19, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(258, 'gift_certificate_258', 'description_258', 399.99, 19, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(259, 'gift_certificate_259', 'description_259', 464.61, 15, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(259, 'gift_certificate_259', 'description_259', 464.61, 15, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(260, 'gift_certificate_260', 'description_260', 175.49, 7, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(260, 'gift_certificate_260', 'description_260', 175.49, 7, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(261, 'gift_certificate_261', 'description_261', 208.39, 10, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(261, 'gift_certificate_261', 'description_261', 208.39, 10, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(262, 'gift_certificate_262', 'description_262', 146.61, 11, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(262, 'gift_certificate_262', 'description_262', 146.61, 11, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(263, 'gift_certificate_263', 'description_263', 196.05, 11, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(263, 'gift_certificate_263', 'description_263', 196.05, 11, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(264, 'gift_certificate_264', 'description_264', 328.44, 17, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(264, 'gift_certificate_264', 'description_264', 328.44, 17, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(265, 'gift_certificate_265', 'description_265', 288.09, 9, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(265, 'gift_certificate_265', 'description_265', 288.09, 9, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(266, 'gift_certificate_266', 'description_266', 433.16, 6, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(266, 'gift_certificate_266', 'description_266', 433.16, 6, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(267, 'gift_certificate_267', 'description_267', 158.47, 17, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(267, 'gift_certificate_267', 'description_267', 158.47, 17, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(268, 'gift_certificate_268', 'description_268', 155.21, 14, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(268, 'gift_certificate_268', 'description_268', 155.21, 14, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(269, 'gift_certificate_269', 'description_269', 294.75, 17, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(269, 'gift_certificate_269', 'description_269', 294.75, 17, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(270, 'gift_certificate_270', 'description_270', 435.79, 12, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(270, 'gift_certificate_270', 'description_270', 435.79, 12, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(271, 'gift_certificate_271', 'description_271', 370.71, 19, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(271, 'gift_certificate_271', 'description_271', 370.71, 19, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(272, 'gift_certificate_272', 'description_272', 271.96, 9, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376');
+INSERT INTO gift_certificate VALUES(272, 'gift_certificate_272', 'description_272', 271.96, 9, '2023-09-03T17:29:42.376', '2023-09-03T17:29:42.376', 0);
 
-INSERT INTO gift_certificate VALUES(273, 'gift_certificate_273', 'description_273', 207.88, 10, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(273, 'gift_certificate_273', 'description_273', 207.88, 10, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(274, 'gift_certificate_274', 'description_274', 103.21, 6, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(274, 'gift_certificate_274', 'description_274', 103.21, 6, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(275, 'gift_certificate_275', 'description_275', 404.65, 8, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(275, 'gift_certificate_275', 'description_275', 404.65, 8, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(276, 'gift_certificate_276', 'description_276', 428.21, 12, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(276, 'gift_certificate_276', 'description_276', 428.21, 12, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(277, 'gift_certificate_277', 'description_277', 216.08, 19, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(277, 'gift_certificate_277', 'description_277', 216.08, 19, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(278, 'gift_certificate_278', 'description_278', 140.26, 10, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(278, 'gift_certificate_278', 'description_278', 140.26, 10, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(279, 'gift_certificate_279', 'description_279', 102.38, 16, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(279, 'gift_certificate_279', 'description_279', 102.38, 16, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(280, 'gift_certificate_280', 'description_280', 477.74, 6, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(280, 'gift_certificate_280', 'description_280', 477.74, 6, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(281, 'gift_certificate_281', 'description_281', 138.55, 6, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(281, 'gift_certificate_281', 'description_281', 138.55, 6, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(282, 'gift_certificate_282', 'description_282', 405.60, 19, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(282, 'gift_certificate_282', 'description_282', 405.60, 19, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(283, 'gift_certificate_283', 'description_283', 396.71, 6, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(283, 'gift_certificate_283', 'description_283', 396.71, 6, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(284, 'gift_certificate_284', 'description_284', 145.85, 6, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(284, 'gift_certificate_284', 'description_284', 145.85, 6, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(285, 'gift_certificate_285', 'description_285', 196.65, 12, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(285, 'gift_certificate_285', 'description_285', 196.65, 12, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(286, 'gift_certificate_286', 'description_286', 492.11, 6, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(286, 'gift_certificate_286', 'description_286', 492.11, 6, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(287, 'gift_certificate_287', 'description_287', 388.47, 8, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(287, 'gift_certificate_287', 'description_287', 388.47, 8, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(288, 'gift_certificate_288', 'description_288', 125.76, 15, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(288, 'gift_certificate_288', 'description_288', 125.76, 15, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(289, 'gift_certificate_289', 'description_289', 395.64, 5, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(289, 'gift_certificate_289', 'description_289', 395.64, 5, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(290, 'gift_certificate_290', 'description_290', 418.37, 5, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(290, 'gift_certificate_290', 'description_290', 418.37, 5, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(291, 'gift_certificate_291', 'description_291', 268.94, 18, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(291, 'gift_certificate_291', 'description_291', 268.94, 18, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(292, 'gift_certificate_292', 'description_292', 347.00, 18, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(292, 'gift_certificate_292', 'description_292', 347.00, 18, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(293, 'gift_certificate_293', 'description_293', 448.46, 12, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(293, 'gift_certificate_293', 'description_293', 448.46, 12, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(294, 'gift_certificate_294', 'description_294', 394.92, 15, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(294, 'gift_certificate_294', 'description_294', 394.92, 15, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(295, 'gift_certificate_295', 'description_295', 458.35, 16, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(295, 'gift_certificate_295', 'description_295', 458.35, 16, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(296, 'gift_certificate_296', 'description_296', 414.47, 14, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(296, 'gift_certificate_296', 'description_296', 414.47, 14, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(297, 'gift_certificate_297', 'description_297', 339.48, 10, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(297, 'gift_certificate_297', 'description_297', 339.48, 10, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(298, 'gift_certificate_298', 'description_298', 300.44, 11, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(298, 'gift_certificate_298', 'description_298', 300.44, 11, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(299, 'gift_certificate_299', 'description_299', 429.54, 6, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(299, 'gift_certificate_299', 'description_299', 429.54, 6, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
-INSERT INTO gift_certificate VALUES(300, 'gift_certificate_300', 'description_300', 436.53, 15, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377');
+INSERT INTO gift_certificate VALUES(300, 'gift_certificate_300', 'description_300', 436.53, 15, '2023-09-03T17:29:42.377', '2023-09-03T17:29:42.377', 0);
 
 INSERT INTO gift_certificate_tag VALUES(1, 71);
 
@@ -1997,29 +1997,29 @@ INSERT INTO gift_certificate_tag VALUES(300, 38);
 
 INSERT INTO gift_certificate_tag VALUES(300, 5);
 
-INSERT INTO roles VALUES(default, 'ROLE_USER');
+INSERT INTO roles VALUES(default, 'ROLE_USER', 0);
 
-INSERT INTO roles VALUES(default, 'ROLE_ADMIN');
+INSERT INTO roles VALUES(default, 'ROLE_ADMIN', 0);
 
-INSERT INTO user VALUES(1, 'admin', '$2a$10$dzKR45RDQsbhpe5EYaw1sOeV1jFqQYER8C7zKHkxno1J.FSCUKi96');
+INSERT INTO user VALUES(1, 'admin', '$2a$10$dzKR45RDQsbhpe5EYaw1sOeV1jFqQYER8C7zKHkxno1J.FSCUKi96', 0);
 
-INSERT INTO user VALUES(2, 'user_1', '$2a$10$9E54u7jYvRsIAQHPDdIDUO.aSF0U.lms9rN9x..eFxnxV1A83YmNO');
+INSERT INTO user VALUES(2, 'user_1', '$2a$10$9E54u7jYvRsIAQHPDdIDUO.aSF0U.lms9rN9x..eFxnxV1A83YmNO', 0);
 
-INSERT INTO user VALUES(3, 'user_2', '$2a$10$UdsgQSmfeDw7YA30mH4Ey.KuSCSF.LdScz8nsqK.kZt6Scz3UTnFW');
+INSERT INTO user VALUES(3, 'user_2', '$2a$10$UdsgQSmfeDw7YA30mH4Ey.KuSCSF.LdScz8nsqK.kZt6Scz3UTnFW', 0);
 
-INSERT INTO user VALUES(4, 'user_3', '$2a$10$/c6WpSgxc2y45b2aM7XIv.QrvZJ3/7z/9aoOaeIdeSZgUCrkF6ddC');
+INSERT INTO user VALUES(4, 'user_3', '$2a$10$/c6WpSgxc2y45b2aM7XIv.QrvZJ3/7z/9aoOaeIdeSZgUCrkF6ddC', 0);
 
-INSERT INTO user VALUES(5, 'user_4', '$2a$10$Zg9H.x4H/3J0ABQTbzun2u65SN/ItC6oubQY9v09I4h1QezZEzSoa');
+INSERT INTO user VALUES(5, 'user_4', '$2a$10$Zg9H.x4H/3J0ABQTbzun2u65SN/ItC6oubQY9v09I4h1QezZEzSoa', 0);
 
-INSERT INTO user VALUES(6, 'user_5', '$2a$10$QwRV/GAE308Ueblq/VslaeVHQhDfe4GQWXHAtzQGa6DzaMOTkxxly');
+INSERT INTO user VALUES(6, 'user_5', '$2a$10$QwRV/GAE308Ueblq/VslaeVHQhDfe4GQWXHAtzQGa6DzaMOTkxxly', 0);
 
-INSERT INTO user VALUES(7, 'user_6', '$2a$10$QQTx8sQ1ZKNKJZGoXzYD9uc3ll/Kgb8bQzcKp62yb9y4teyoax6wu');
+INSERT INTO user VALUES(7, 'user_6', '$2a$10$QQTx8sQ1ZKNKJZGoXzYD9uc3ll/Kgb8bQzcKp62yb9y4teyoax6wu', 0);
 
-INSERT INTO user VALUES(8, 'user_7', '$2a$10$QA3SxdLNLfwwjutAjXhDiOyiboNtBMDSg4LTeQYfkLZxlBdxUPWCG');
+INSERT INTO user VALUES(8, 'user_7', '$2a$10$QA3SxdLNLfwwjutAjXhDiOyiboNtBMDSg4LTeQYfkLZxlBdxUPWCG', 0);
 
-INSERT INTO user VALUES(9, 'user_8', '$2a$10$U/i7jhUi5XS1KH7Mscynfu9nww0Pdj189RgxKy0ExwBiPuu04AZxK');
+INSERT INTO user VALUES(9, 'user_8', '$2a$10$U/i7jhUi5XS1KH7Mscynfu9nww0Pdj189RgxKy0ExwBiPuu04AZxK', 0);
 
-INSERT INTO user VALUES(10, 'user_9', '$2a$10$y/mRMMiuSGp2qGRPyV65eefmV.bJj4gZO6aJoDHy38Q4httFLd.te');
+INSERT INTO user VALUES(10, 'user_9', '$2a$10$y/mRMMiuSGp2qGRPyV65eefmV.bJj4gZO6aJoDHy38Q4httFLd.te', 0);
 
 INSERT INTO users_roles VALUES(default, 1, 2);
 
@@ -2041,505 +2041,505 @@ INSERT INTO users_roles VALUES(default, 9, 1);
 
 INSERT INTO users_roles VALUES(default, 10, 1);
 
-INSERT INTO orders VALUES(1, 1286.34, '2023-09-03T17:29:43.141');
+INSERT INTO orders VALUES(1, 1286.34, '2023-09-03T17:29:43.141', 0);
 
-INSERT INTO orders VALUES(2, 1062.94, '2023-09-03T17:29:43.142');
+INSERT INTO orders VALUES(2, 1062.94, '2023-09-03T17:29:43.142', 0);
 
-INSERT INTO orders VALUES(3, 514.53, '2023-09-03T17:29:43.142');
+INSERT INTO orders VALUES(3, 514.53, '2023-09-03T17:29:43.142', 0);
 
-INSERT INTO orders VALUES(4, 698.70, '2023-09-03T17:29:43.142');
+INSERT INTO orders VALUES(4, 698.70, '2023-09-03T17:29:43.142', 0);
 
-INSERT INTO orders VALUES(5, 319.76, '2023-09-03T17:29:43.142');
+INSERT INTO orders VALUES(5, 319.76, '2023-09-03T17:29:43.142', 0);
 
-INSERT INTO orders VALUES(6, 1201.20, '2023-09-03T17:29:43.142');
+INSERT INTO orders VALUES(6, 1201.20, '2023-09-03T17:29:43.142', 0);
 
-INSERT INTO orders VALUES(7, 511.33, '2023-09-03T17:29:43.142');
+INSERT INTO orders VALUES(7, 511.33, '2023-09-03T17:29:43.142', 0);
 
-INSERT INTO orders VALUES(8, 874.96, '2023-09-03T17:29:43.142');
+INSERT INTO orders VALUES(8, 874.96, '2023-09-03T17:29:43.142', 0);
 
-INSERT INTO orders VALUES(9, 454.94, '2023-09-03T17:29:43.142');
+INSERT INTO orders VALUES(9, 454.94, '2023-09-03T17:29:43.142', 0);
 
-INSERT INTO orders VALUES(10, 1218.49, '2023-09-03T17:29:43.142');
+INSERT INTO orders VALUES(10, 1218.49, '2023-09-03T17:29:43.142', 0);
 
-INSERT INTO orders VALUES(11, 854.85, '2023-09-03T17:29:43.142');
+INSERT INTO orders VALUES(11, 854.85, '2023-09-03T17:29:43.142', 0);
 
-INSERT INTO orders VALUES(12, 910.84, '2023-09-03T17:29:43.142');
+INSERT INTO orders VALUES(12, 910.84, '2023-09-03T17:29:43.142', 0);
 
-INSERT INTO orders VALUES(13, 1622.44, '2023-09-03T17:29:43.142');
+INSERT INTO orders VALUES(13, 1622.44, '2023-09-03T17:29:43.142', 0);
 
-INSERT INTO orders VALUES(14, 772.12, '2023-09-03T17:29:43.142');
+INSERT INTO orders VALUES(14, 772.12, '2023-09-03T17:29:43.142', 0);
 
-INSERT INTO orders VALUES(15, 519.06, '2023-09-03T17:29:43.142');
+INSERT INTO orders VALUES(15, 519.06, '2023-09-03T17:29:43.142', 0);
 
-INSERT INTO orders VALUES(16, 1659.35, '2023-09-03T17:29:43.142');
+INSERT INTO orders VALUES(16, 1659.35, '2023-09-03T17:29:43.142', 0);
 
-INSERT INTO orders VALUES(17, 1080.64, '2023-09-03T17:29:43.142');
+INSERT INTO orders VALUES(17, 1080.64, '2023-09-03T17:29:43.142', 0);
 
-INSERT INTO orders VALUES(18, 1960.09, '2023-09-03T17:29:43.142');
+INSERT INTO orders VALUES(18, 1960.09, '2023-09-03T17:29:43.142', 0);
 
-INSERT INTO orders VALUES(19, 1240.50, '2023-09-03T17:29:43.142');
+INSERT INTO orders VALUES(19, 1240.50, '2023-09-03T17:29:43.142', 0);
 
-INSERT INTO orders VALUES(20, 1457.38, '2023-09-03T17:29:43.142');
+INSERT INTO orders VALUES(20, 1457.38, '2023-09-03T17:29:43.142', 0);
 
-INSERT INTO orders VALUES(21, 1430.35, '2023-09-03T17:29:43.142');
+INSERT INTO orders VALUES(21, 1430.35, '2023-09-03T17:29:43.142', 0);
 
-INSERT INTO orders VALUES(22, 1302.37, '2023-09-03T17:29:43.142');
+INSERT INTO orders VALUES(22, 1302.37, '2023-09-03T17:29:43.142', 0);
 
-INSERT INTO orders VALUES(23, 994.13, '2023-09-03T17:29:43.142');
+INSERT INTO orders VALUES(23, 994.13, '2023-09-03T17:29:43.142', 0);
 
-INSERT INTO orders VALUES(24, 1046.46, '2023-09-03T17:29:43.142');
+INSERT INTO orders VALUES(24, 1046.46, '2023-09-03T17:29:43.142', 0);
 
-INSERT INTO orders VALUES(25, 682.45, '2023-09-03T17:29:43.142');
+INSERT INTO orders VALUES(25, 682.45, '2023-09-03T17:29:43.142', 0);
 
-INSERT INTO orders VALUES(26, 721.03, '2023-09-03T17:29:43.142');
+INSERT INTO orders VALUES(26, 721.03, '2023-09-03T17:29:43.142', 0);
 
-INSERT INTO orders VALUES(27, 1949.13, '2023-09-03T17:29:43.142');
+INSERT INTO orders VALUES(27, 1949.13, '2023-09-03T17:29:43.142', 0);
 
-INSERT INTO orders VALUES(28, 834.53, '2023-09-03T17:29:43.143');
+INSERT INTO orders VALUES(28, 834.53, '2023-09-03T17:29:43.143', 0);
 
-INSERT INTO orders VALUES(29, 870.54, '2023-09-03T17:29:43.143');
+INSERT INTO orders VALUES(29, 870.54, '2023-09-03T17:29:43.143', 0);
 
-INSERT INTO orders VALUES(30, 879.21, '2023-09-03T17:29:43.143');
+INSERT INTO orders VALUES(30, 879.21, '2023-09-03T17:29:43.143', 0);
 
-INSERT INTO orders VALUES(31, 243.32, '2023-09-03T17:29:43.143');
+INSERT INTO orders VALUES(31, 243.32, '2023-09-03T17:29:43.143', 0);
 
-INSERT INTO orders VALUES(32, 1495.52, '2023-09-03T17:29:43.143');
+INSERT INTO orders VALUES(32, 1495.52, '2023-09-03T17:29:43.143', 0);
 
-INSERT INTO orders VALUES(33, 1035.80, '2023-09-03T17:29:43.143');
+INSERT INTO orders VALUES(33, 1035.80, '2023-09-03T17:29:43.143', 0);
 
-INSERT INTO orders VALUES(34, 661.82, '2023-09-03T17:29:43.143');
+INSERT INTO orders VALUES(34, 661.82, '2023-09-03T17:29:43.143', 0);
 
-INSERT INTO orders VALUES(35, 1375.38, '2023-09-03T17:29:43.143');
+INSERT INTO orders VALUES(35, 1375.38, '2023-09-03T17:29:43.143', 0);
 
-INSERT INTO orders VALUES(36, 1170.05, '2023-09-03T17:29:43.143');
+INSERT INTO orders VALUES(36, 1170.05, '2023-09-03T17:29:43.143', 0);
 
-INSERT INTO orders VALUES(37, 529.38, '2023-09-03T17:29:43.143');
+INSERT INTO orders VALUES(37, 529.38, '2023-09-03T17:29:43.143', 0);
 
-INSERT INTO orders VALUES(38, 986.80, '2023-09-03T17:29:43.143');
+INSERT INTO orders VALUES(38, 986.80, '2023-09-03T17:29:43.143', 0);
 
-INSERT INTO orders VALUES(39, 911.62, '2023-09-03T17:29:43.143');
+INSERT INTO orders VALUES(39, 911.62, '2023-09-03T17:29:43.143', 0);
 
-INSERT INTO orders VALUES(40, 791.57, '2023-09-03T17:29:43.143');
+INSERT INTO orders VALUES(40, 791.57, '2023-09-03T17:29:43.143', 0);
 
-INSERT INTO orders VALUES(41, 566.04, '2023-09-03T17:29:43.143');
+INSERT INTO orders VALUES(41, 566.04, '2023-09-03T17:29:43.143', 0);
 
-INSERT INTO orders VALUES(42, 947.83, '2023-09-03T17:29:43.143');
+INSERT INTO orders VALUES(42, 947.83, '2023-09-03T17:29:43.143', 0);
 
-INSERT INTO orders VALUES(43, 456.15, '2023-09-03T17:29:43.143');
+INSERT INTO orders VALUES(43, 456.15, '2023-09-03T17:29:43.143', 0);
 
-INSERT INTO orders VALUES(44, 833.00, '2023-09-03T17:29:43.143');
+INSERT INTO orders VALUES(44, 833.00, '2023-09-03T17:29:43.143', 0);
 
-INSERT INTO orders VALUES(45, 1094.13, '2023-09-03T17:29:43.143');
+INSERT INTO orders VALUES(45, 1094.13, '2023-09-03T17:29:43.143', 0);
 
-INSERT INTO orders VALUES(46, 881.32, '2023-09-03T17:29:43.143');
+INSERT INTO orders VALUES(46, 881.32, '2023-09-03T17:29:43.143', 0);
 
-INSERT INTO orders VALUES(47, 1208.59, '2023-09-03T17:29:43.143');
+INSERT INTO orders VALUES(47, 1208.59, '2023-09-03T17:29:43.143', 0);
 
-INSERT INTO orders VALUES(48, 703.53, '2023-09-03T17:29:43.143');
+INSERT INTO orders VALUES(48, 703.53, '2023-09-03T17:29:43.143', 0);
 
-INSERT INTO orders VALUES(49, 1065.48, '2023-09-03T17:29:43.143');
+INSERT INTO orders VALUES(49, 1065.48, '2023-09-03T17:29:43.143', 0);
 
-INSERT INTO orders VALUES(50, 609.23, '2023-09-03T17:29:43.143');
+INSERT INTO orders VALUES(50, 609.23, '2023-09-03T17:29:43.143', 0);
 
-INSERT INTO orders VALUES(51, 814.01, '2023-09-03T17:29:43.143');
+INSERT INTO orders VALUES(51, 814.01, '2023-09-03T17:29:43.143', 0);
 
-INSERT INTO orders VALUES(52, 1400.28, '2023-09-03T17:29:43.143');
+INSERT INTO orders VALUES(52, 1400.28, '2023-09-03T17:29:43.143', 0);
 
-INSERT INTO orders VALUES(53, 703.55, '2023-09-03T17:29:43.143');
+INSERT INTO orders VALUES(53, 703.55, '2023-09-03T17:29:43.143', 0);
 
-INSERT INTO orders VALUES(54, 1098.83, '2023-09-03T17:29:43.143');
+INSERT INTO orders VALUES(54, 1098.83, '2023-09-03T17:29:43.143', 0);
 
-INSERT INTO orders VALUES(55, 1117.23, '2023-09-03T17:29:43.143');
+INSERT INTO orders VALUES(55, 1117.23, '2023-09-03T17:29:43.143', 0);
 
-INSERT INTO orders VALUES(56, 676.38, '2023-09-03T17:29:43.143');
+INSERT INTO orders VALUES(56, 676.38, '2023-09-03T17:29:43.143', 0);
 
-INSERT INTO orders VALUES(57, 983.33, '2023-09-03T17:29:43.143');
+INSERT INTO orders VALUES(57, 983.33, '2023-09-03T17:29:43.143', 0);
 
-INSERT INTO orders VALUES(58, 706.33, '2023-09-03T17:29:43.143');
+INSERT INTO orders VALUES(58, 706.33, '2023-09-03T17:29:43.143', 0);
 
-INSERT INTO orders VALUES(59, 1804.79, '2023-09-03T17:29:43.143');
+INSERT INTO orders VALUES(59, 1804.79, '2023-09-03T17:29:43.143', 0);
 
-INSERT INTO orders VALUES(60, 1395.92, '2023-09-03T17:29:43.143');
+INSERT INTO orders VALUES(60, 1395.92, '2023-09-03T17:29:43.143', 0);
 
-INSERT INTO orders VALUES(61, 1336.97, '2023-09-03T17:29:43.143');
+INSERT INTO orders VALUES(61, 1336.97, '2023-09-03T17:29:43.143', 0);
 
-INSERT INTO orders VALUES(62, 907.31, '2023-09-03T17:29:43.144');
+INSERT INTO orders VALUES(62, 907.31, '2023-09-03T17:29:43.144', 0);
 
-INSERT INTO orders VALUES(63, 753.53, '2023-09-03T17:29:43.144');
+INSERT INTO orders VALUES(63, 753.53, '2023-09-03T17:29:43.144', 0);
 
-INSERT INTO orders VALUES(64, 821.06, '2023-09-03T17:29:43.144');
+INSERT INTO orders VALUES(64, 821.06, '2023-09-03T17:29:43.144', 0);
 
-INSERT INTO orders VALUES(65, 671.36, '2023-09-03T17:29:43.144');
+INSERT INTO orders VALUES(65, 671.36, '2023-09-03T17:29:43.144', 0);
 
-INSERT INTO orders VALUES(66, 1527.04, '2023-09-03T17:29:43.144');
+INSERT INTO orders VALUES(66, 1527.04, '2023-09-03T17:29:43.144', 0);
 
-INSERT INTO orders VALUES(67, 1275.74, '2023-09-03T17:29:43.144');
+INSERT INTO orders VALUES(67, 1275.74, '2023-09-03T17:29:43.144', 0);
 
-INSERT INTO orders VALUES(68, 1084.55, '2023-09-03T17:29:43.144');
+INSERT INTO orders VALUES(68, 1084.55, '2023-09-03T17:29:43.144', 0);
 
-INSERT INTO orders VALUES(69, 597.93, '2023-09-03T17:29:43.144');
+INSERT INTO orders VALUES(69, 597.93, '2023-09-03T17:29:43.144', 0);
 
-INSERT INTO orders VALUES(70, 1282.56, '2023-09-03T17:29:43.144');
+INSERT INTO orders VALUES(70, 1282.56, '2023-09-03T17:29:43.144', 0);
 
-INSERT INTO orders VALUES(71, 708.85, '2023-09-03T17:29:43.144');
+INSERT INTO orders VALUES(71, 708.85, '2023-09-03T17:29:43.144', 0);
 
-INSERT INTO orders VALUES(72, 1615.51, '2023-09-03T17:29:43.144');
+INSERT INTO orders VALUES(72, 1615.51, '2023-09-03T17:29:43.144', 0);
 
-INSERT INTO orders VALUES(73, 841.51, '2023-09-03T17:29:43.144');
+INSERT INTO orders VALUES(73, 841.51, '2023-09-03T17:29:43.144', 0);
 
-INSERT INTO orders VALUES(74, 1001.25, '2023-09-03T17:29:43.144');
+INSERT INTO orders VALUES(74, 1001.25, '2023-09-03T17:29:43.144', 0);
 
-INSERT INTO orders VALUES(75, 556.13, '2023-09-03T17:29:43.144');
+INSERT INTO orders VALUES(75, 556.13, '2023-09-03T17:29:43.144', 0);
 
-INSERT INTO orders VALUES(76, 1840.53, '2023-09-03T17:29:43.144');
+INSERT INTO orders VALUES(76, 1840.53, '2023-09-03T17:29:43.144', 0);
 
-INSERT INTO orders VALUES(77, 1457.09, '2023-09-03T17:29:43.144');
+INSERT INTO orders VALUES(77, 1457.09, '2023-09-03T17:29:43.144', 0);
 
-INSERT INTO orders VALUES(78, 869.86, '2023-09-03T17:29:43.144');
+INSERT INTO orders VALUES(78, 869.86, '2023-09-03T17:29:43.144', 0);
 
-INSERT INTO orders VALUES(79, 817.25, '2023-09-03T17:29:43.144');
+INSERT INTO orders VALUES(79, 817.25, '2023-09-03T17:29:43.144', 0);
 
-INSERT INTO orders VALUES(80, 1229.73, '2023-09-03T17:29:43.144');
+INSERT INTO orders VALUES(80, 1229.73, '2023-09-03T17:29:43.144', 0);
 
-INSERT INTO orders VALUES(81, 1103.42, '2023-09-03T17:29:43.144');
+INSERT INTO orders VALUES(81, 1103.42, '2023-09-03T17:29:43.144', 0);
 
-INSERT INTO orders VALUES(82, 1033.17, '2023-09-03T17:29:43.144');
+INSERT INTO orders VALUES(82, 1033.17, '2023-09-03T17:29:43.144', 0);
 
-INSERT INTO orders VALUES(83, 1319.40, '2023-09-03T17:29:43.144');
+INSERT INTO orders VALUES(83, 1319.40, '2023-09-03T17:29:43.144', 0);
 
-INSERT INTO orders VALUES(84, 798.02, '2023-09-03T17:29:43.144');
+INSERT INTO orders VALUES(84, 798.02, '2023-09-03T17:29:43.144', 0);
 
-INSERT INTO orders VALUES(85, 483.61, '2023-09-03T17:29:43.144');
+INSERT INTO orders VALUES(85, 483.61, '2023-09-03T17:29:43.144', 0);
 
-INSERT INTO orders VALUES(86, 652.40, '2023-09-03T17:29:43.144');
+INSERT INTO orders VALUES(86, 652.40, '2023-09-03T17:29:43.144', 0);
 
-INSERT INTO orders VALUES(87, 701.11, '2023-09-03T17:29:43.144');
+INSERT INTO orders VALUES(87, 701.11, '2023-09-03T17:29:43.144', 0);
 
-INSERT INTO orders VALUES(88, 1187.14, '2023-09-03T17:29:43.144');
+INSERT INTO orders VALUES(88, 1187.14, '2023-09-03T17:29:43.144', 0);
 
-INSERT INTO orders VALUES(89, 682.83, '2023-09-03T17:29:43.144');
+INSERT INTO orders VALUES(89, 682.83, '2023-09-03T17:29:43.144', 0);
 
-INSERT INTO orders VALUES(90, 1916.47, '2023-09-03T17:29:43.144');
+INSERT INTO orders VALUES(90, 1916.47, '2023-09-03T17:29:43.144', 0);
 
-INSERT INTO orders VALUES(91, 1329.34, '2023-09-03T17:29:43.144');
+INSERT INTO orders VALUES(91, 1329.34, '2023-09-03T17:29:43.144', 0);
 
-INSERT INTO orders VALUES(92, 1845.32, '2023-09-03T17:29:43.144');
+INSERT INTO orders VALUES(92, 1845.32, '2023-09-03T17:29:43.144', 0);
 
-INSERT INTO orders VALUES(93, 1144.82, '2023-09-03T17:29:43.144');
+INSERT INTO orders VALUES(93, 1144.82, '2023-09-03T17:29:43.144', 0);
 
-INSERT INTO orders VALUES(94, 920.70, '2023-09-03T17:29:43.144');
+INSERT INTO orders VALUES(94, 920.70, '2023-09-03T17:29:43.144', 0);
 
-INSERT INTO orders VALUES(95, 1075.43, '2023-09-03T17:29:43.144');
+INSERT INTO orders VALUES(95, 1075.43, '2023-09-03T17:29:43.144', 0);
 
-INSERT INTO orders VALUES(96, 665.40, '2023-09-03T17:29:43.144');
+INSERT INTO orders VALUES(96, 665.40, '2023-09-03T17:29:43.144', 0);
 
-INSERT INTO orders VALUES(97, 911.17, '2023-09-03T17:29:43.144');
+INSERT INTO orders VALUES(97, 911.17, '2023-09-03T17:29:43.144', 0);
 
-INSERT INTO orders VALUES(98, 1028.60, '2023-09-03T17:29:43.144');
+INSERT INTO orders VALUES(98, 1028.60, '2023-09-03T17:29:43.144', 0);
 
-INSERT INTO orders VALUES(99, 674.40, '2023-09-03T17:29:43.144');
+INSERT INTO orders VALUES(99, 674.40, '2023-09-03T17:29:43.144', 0);
 
-INSERT INTO orders VALUES(100, 578.55, '2023-09-03T17:29:43.144');
+INSERT INTO orders VALUES(100, 578.55, '2023-09-03T17:29:43.144', 0);
 
-INSERT INTO orders VALUES(101, 1292.02, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(101, 1292.02, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(102, 883.63, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(102, 883.63, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(103, 696.42, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(103, 696.42, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(104, 279.20, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(104, 279.20, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(105, 740.99, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(105, 740.99, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(106, 720.87, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(106, 720.87, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(107, 751.89, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(107, 751.89, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(108, 1567.35, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(108, 1567.35, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(109, 1272.04, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(109, 1272.04, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(110, 787.37, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(110, 787.37, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(111, 1839.94, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(111, 1839.94, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(112, 896.42, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(112, 896.42, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(113, 1415.07, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(113, 1415.07, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(114, 940.90, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(114, 940.90, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(115, 1051.83, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(115, 1051.83, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(116, 1250.92, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(116, 1250.92, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(117, 527.01, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(117, 527.01, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(118, 675.02, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(118, 675.02, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(119, 1145.50, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(119, 1145.50, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(120, 1166.19, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(120, 1166.19, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(121, 1541.09, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(121, 1541.09, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(122, 1757.82, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(122, 1757.82, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(123, 1557.56, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(123, 1557.56, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(124, 874.73, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(124, 874.73, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(125, 1055.60, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(125, 1055.60, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(126, 975.54, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(126, 975.54, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(127, 1524.62, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(127, 1524.62, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(128, 1385.95, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(128, 1385.95, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(129, 1134.43, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(129, 1134.43, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(130, 601.59, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(130, 601.59, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(131, 820.26, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(131, 820.26, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(132, 1123.25, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(132, 1123.25, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(133, 1485.01, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(133, 1485.01, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(134, 437.63, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(134, 437.63, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(135, 965.66, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(135, 965.66, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(136, 926.42, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(136, 926.42, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(137, 816.17, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(137, 816.17, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(138, 1432.16, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(138, 1432.16, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(139, 1903.77, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(139, 1903.77, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(140, 625.19, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(140, 625.19, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(141, 1583.32, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(141, 1583.32, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(142, 1157.51, '2023-09-03T17:29:43.145');
+INSERT INTO orders VALUES(142, 1157.51, '2023-09-03T17:29:43.145', 0);
 
-INSERT INTO orders VALUES(143, 870.09, '2023-09-03T17:29:43.146');
+INSERT INTO orders VALUES(143, 870.09, '2023-09-03T17:29:43.146', 0);
 
-INSERT INTO orders VALUES(144, 1599.26, '2023-09-03T17:29:43.146');
+INSERT INTO orders VALUES(144, 1599.26, '2023-09-03T17:29:43.146', 0);
 
-INSERT INTO orders VALUES(145, 703.43, '2023-09-03T17:29:43.146');
+INSERT INTO orders VALUES(145, 703.43, '2023-09-03T17:29:43.146', 0);
 
-INSERT INTO orders VALUES(146, 1132.36, '2023-09-03T17:29:43.146');
+INSERT INTO orders VALUES(146, 1132.36, '2023-09-03T17:29:43.146', 0);
 
-INSERT INTO orders VALUES(147, 1117.89, '2023-09-03T17:29:43.146');
+INSERT INTO orders VALUES(147, 1117.89, '2023-09-03T17:29:43.146', 0);
 
-INSERT INTO orders VALUES(148, 827.54, '2023-09-03T17:29:43.146');
+INSERT INTO orders VALUES(148, 827.54, '2023-09-03T17:29:43.146', 0);
 
-INSERT INTO orders VALUES(149, 1702.41, '2023-09-03T17:29:43.146');
+INSERT INTO orders VALUES(149, 1702.41, '2023-09-03T17:29:43.146', 0);
 
-INSERT INTO orders VALUES(150, 813.91, '2023-09-03T17:29:43.146');
+INSERT INTO orders VALUES(150, 813.91, '2023-09-03T17:29:43.146', 0);
 
-INSERT INTO orders VALUES(151, 940.14, '2023-09-03T17:29:43.146');
+INSERT INTO orders VALUES(151, 940.14, '2023-09-03T17:29:43.146', 0);
 
-INSERT INTO orders VALUES(152, 893.50, '2023-09-03T17:29:43.146');
+INSERT INTO orders VALUES(152, 893.50, '2023-09-03T17:29:43.146', 0);
 
-INSERT INTO orders VALUES(153, 635.14, '2023-09-03T17:29:43.146');
+INSERT INTO orders VALUES(153, 635.14, '2023-09-03T17:29:43.146', 0);
 
-INSERT INTO orders VALUES(154, 625.88, '2023-09-03T17:29:43.146');
+INSERT INTO orders VALUES(154, 625.88, '2023-09-03T17:29:43.146', 0);
 
-INSERT INTO orders VALUES(155, 1341.96, '2023-09-03T17:29:43.146');
+INSERT INTO orders VALUES(155, 1341.96, '2023-09-03T17:29:43.146', 0);
 
-INSERT INTO orders VALUES(156, 751.47, '2023-09-03T17:29:43.146');
+INSERT INTO orders VALUES(156, 751.47, '2023-09-03T17:29:43.146', 0);
 
-INSERT INTO orders VALUES(157, 963.28, '2023-09-03T17:29:43.146');
+INSERT INTO orders VALUES(157, 963.28, '2023-09-03T17:29:43.146', 0);
 
-INSERT INTO orders VALUES(158, 1679.29, '2023-09-03T17:29:43.146');
+INSERT INTO orders VALUES(158, 1679.29, '2023-09-03T17:29:43.146', 0);
 
-INSERT INTO orders VALUES(159, 926.86, '2023-09-03T17:29:43.146');
+INSERT INTO orders VALUES(159, 926.86, '2023-09-03T17:29:43.146', 0);
 
-INSERT INTO orders VALUES(160, 1431.68, '2023-09-03T17:29:43.146');
+INSERT INTO orders VALUES(160, 1431.68, '2023-09-03T17:29:43.146', 0);
 
-INSERT INTO orders VALUES(161, 848.60, '2023-09-03T17:29:43.146');
+INSERT INTO orders VALUES(161, 848.60, '2023-09-03T17:29:43.146', 0);
 
-INSERT INTO orders VALUES(162, 1315.00, '2023-09-03T17:29:43.146');
+INSERT INTO orders VALUES(162, 1315.00, '2023-09-03T17:29:43.146', 0);
 
-INSERT INTO orders VALUES(163, 307.43, '2023-09-03T17:29:43.146');
+INSERT INTO orders VALUES(163, 307.43, '2023-09-03T17:29:43.146', 0);
 
-INSERT INTO orders VALUES(164, 569.37, '2023-09-03T17:29:43.146');
+INSERT INTO orders VALUES(164, 569.37, '2023-09-03T17:29:43.146', 0);
 
-INSERT INTO orders VALUES(165, 1408.45, '2023-09-03T17:29:43.146');
+INSERT INTO orders VALUES(165, 1408.45, '2023-09-03T17:29:43.146', 0);
 
-INSERT INTO orders VALUES(166, 1539.71, '2023-09-03T17:29:43.146');
+INSERT INTO orders VALUES(166, 1539.71, '2023-09-03T17:29:43.146', 0);
 
-INSERT INTO orders VALUES(167, 1017.84, '2023-09-03T17:29:43.146');
+INSERT INTO orders VALUES(167, 1017.84, '2023-09-03T17:29:43.146', 0);
 
-INSERT INTO orders VALUES(168, 880.20, '2023-09-03T17:29:43.146');
+INSERT INTO orders VALUES(168, 880.20, '2023-09-03T17:29:43.146', 0);
 
-INSERT INTO orders VALUES(169, 1192.81, '2023-09-03T17:29:43.146');
+INSERT INTO orders VALUES(169, 1192.81, '2023-09-03T17:29:43.146', 0);
 
-INSERT INTO orders VALUES(170, 1095.78, '2023-09-03T17:29:43.146');
+INSERT INTO orders VALUES(170, 1095.78, '2023-09-03T17:29:43.146', 0);
 
-INSERT INTO orders VALUES(171, 1277.78, '2023-09-03T17:29:43.146');
+INSERT INTO orders VALUES(171, 1277.78, '2023-09-03T17:29:43.146', 0);
 
-INSERT INTO orders VALUES(172, 1378.13, '2023-09-03T17:29:43.146');
+INSERT INTO orders VALUES(172, 1378.13, '2023-09-03T17:29:43.146', 0);
 
-INSERT INTO orders VALUES(173, 1850.87, '2023-09-03T17:29:43.146');
+INSERT INTO orders VALUES(173, 1850.87, '2023-09-03T17:29:43.146', 0);
 
-INSERT INTO orders VALUES(174, 1712.72, '2023-09-03T17:29:43.146');
+INSERT INTO orders VALUES(174, 1712.72, '2023-09-03T17:29:43.146', 0);
 
-INSERT INTO orders VALUES(175, 504.99, '2023-09-03T17:29:43.146');
+INSERT INTO orders VALUES(175, 504.99, '2023-09-03T17:29:43.146', 0);
 
-INSERT INTO orders VALUES(176, 682.48, '2023-09-03T17:29:43.146');
+INSERT INTO orders VALUES(176, 682.48, '2023-09-03T17:29:43.146', 0);
 
-INSERT INTO orders VALUES(177, 1637.00, '2023-09-03T17:29:43.146');
+INSERT INTO orders VALUES(177, 1637.00, '2023-09-03T17:29:43.146', 0);
 
-INSERT INTO orders VALUES(178, 1589.19, '2023-09-03T17:29:43.146');
+INSERT INTO orders VALUES(178, 1589.19, '2023-09-03T17:29:43.146', 0);
 
-INSERT INTO orders VALUES(179, 774.03, '2023-09-03T17:29:43.146');
+INSERT INTO orders VALUES(179, 774.03, '2023-09-03T17:29:43.146', 0);
 
-INSERT INTO orders VALUES(180, 875.44, '2023-09-03T17:29:43.147');
+INSERT INTO orders VALUES(180, 875.44, '2023-09-03T17:29:43.147', 0);
 
-INSERT INTO orders VALUES(181, 622.16, '2023-09-03T17:29:43.147');
+INSERT INTO orders VALUES(181, 622.16, '2023-09-03T17:29:43.147', 0);
 
-INSERT INTO orders VALUES(182, 1337.90, '2023-09-03T17:29:43.147');
+INSERT INTO orders VALUES(182, 1337.90, '2023-09-03T17:29:43.147', 0);
 
-INSERT INTO orders VALUES(183, 746.48, '2023-09-03T17:29:43.147');
+INSERT INTO orders VALUES(183, 746.48, '2023-09-03T17:29:43.147', 0);
 
-INSERT INTO orders VALUES(184, 663.93, '2023-09-03T17:29:43.147');
+INSERT INTO orders VALUES(184, 663.93, '2023-09-03T17:29:43.147', 0);
 
-INSERT INTO orders VALUES(185, 1511.44, '2023-09-03T17:29:43.147');
+INSERT INTO orders VALUES(185, 1511.44, '2023-09-03T17:29:43.147', 0);
 
-INSERT INTO orders VALUES(186, 568.60, '2023-09-03T17:29:43.147');
+INSERT INTO orders VALUES(186, 568.60, '2023-09-03T17:29:43.147', 0);
 
-INSERT INTO orders VALUES(187, 804.84, '2023-09-03T17:29:43.147');
+INSERT INTO orders VALUES(187, 804.84, '2023-09-03T17:29:43.147', 0);
 
-INSERT INTO orders VALUES(188, 1210.20, '2023-09-03T17:29:43.147');
+INSERT INTO orders VALUES(188, 1210.20, '2023-09-03T17:29:43.147', 0);
 
-INSERT INTO orders VALUES(189, 1194.19, '2023-09-03T17:29:43.147');
+INSERT INTO orders VALUES(189, 1194.19, '2023-09-03T17:29:43.147', 0);
 
-INSERT INTO orders VALUES(190, 1360.34, '2023-09-03T17:29:43.147');
+INSERT INTO orders VALUES(190, 1360.34, '2023-09-03T17:29:43.147', 0);
 
-INSERT INTO orders VALUES(191, 1267.19, '2023-09-03T17:29:43.147');
+INSERT INTO orders VALUES(191, 1267.19, '2023-09-03T17:29:43.147', 0);
 
-INSERT INTO orders VALUES(192, 585.98, '2023-09-03T17:29:43.147');
+INSERT INTO orders VALUES(192, 585.98, '2023-09-03T17:29:43.147', 0);
 
-INSERT INTO orders VALUES(193, 1279.14, '2023-09-03T17:29:43.147');
+INSERT INTO orders VALUES(193, 1279.14, '2023-09-03T17:29:43.147', 0);
 
-INSERT INTO orders VALUES(194, 984.33, '2023-09-03T17:29:43.147');
+INSERT INTO orders VALUES(194, 984.33, '2023-09-03T17:29:43.147', 0);
 
-INSERT INTO orders VALUES(195, 558.08, '2023-09-03T17:29:43.147');
+INSERT INTO orders VALUES(195, 558.08, '2023-09-03T17:29:43.147', 0);
 
-INSERT INTO orders VALUES(196, 852.41, '2023-09-03T17:29:43.147');
+INSERT INTO orders VALUES(196, 852.41, '2023-09-03T17:29:43.147', 0);
 
-INSERT INTO orders VALUES(197, 460.26, '2023-09-03T17:29:43.147');
+INSERT INTO orders VALUES(197, 460.26, '2023-09-03T17:29:43.147', 0);
 
-INSERT INTO orders VALUES(198, 1381.43, '2023-09-03T17:29:43.147');
+INSERT INTO orders VALUES(198, 1381.43, '2023-09-03T17:29:43.147', 0);
 
-INSERT INTO orders VALUES(199, 667.11, '2023-09-03T17:29:43.147');
+INSERT INTO orders VALUES(199, 667.11, '2023-09-03T17:29:43.147', 0);
 
-INSERT INTO orders VALUES(200, 1456.46, '2023-09-03T17:29:43.147');
+INSERT INTO orders VALUES(200, 1456.46, '2023-09-03T17:29:43.147', 0);
 
-INSERT INTO orders VALUES(201, 1064.85, '2023-09-03T17:29:43.147');
+INSERT INTO orders VALUES(201, 1064.85, '2023-09-03T17:29:43.147', 0);
 
-INSERT INTO orders VALUES(202, 1627.49, '2023-09-03T17:29:43.147');
+INSERT INTO orders VALUES(202, 1627.49, '2023-09-03T17:29:43.147', 0);
 
-INSERT INTO orders VALUES(203, 657.78, '2023-09-03T17:29:43.147');
+INSERT INTO orders VALUES(203, 657.78, '2023-09-03T17:29:43.147', 0);
 
-INSERT INTO orders VALUES(204, 481.55, '2023-09-03T17:29:43.147');
+INSERT INTO orders VALUES(204, 481.55, '2023-09-03T17:29:43.147', 0);
 
-INSERT INTO orders VALUES(205, 719.39, '2023-09-03T17:29:43.147');
+INSERT INTO orders VALUES(205, 719.39, '2023-09-03T17:29:43.147', 0);
 
-INSERT INTO orders VALUES(206, 760.57, '2023-09-03T17:29:43.147');
+INSERT INTO orders VALUES(206, 760.57, '2023-09-03T17:29:43.147', 0);
 
-INSERT INTO orders VALUES(207, 441.92, '2023-09-03T17:29:43.147');
+INSERT INTO orders VALUES(207, 441.92, '2023-09-03T17:29:43.147', 0);
 
-INSERT INTO orders VALUES(208, 856.91, '2023-09-03T17:29:43.147');
+INSERT INTO orders VALUES(208, 856.91, '2023-09-03T17:29:43.147', 0);
 
-INSERT INTO orders VALUES(209, 1539.01, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(209, 1539.01, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(210, 1281.55, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(210, 1281.55, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(211, 1482.24, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(211, 1482.24, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(212, 1059.22, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(212, 1059.22, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(213, 957.18, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(213, 957.18, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(214, 1482.29, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(214, 1482.29, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(215, 1273.53, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(215, 1273.53, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(216, 1393.24, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(216, 1393.24, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(217, 1912.63, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(217, 1912.63, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(218, 1105.42, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(218, 1105.42, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(219, 609.23, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(219, 609.23, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(220, 1340.46, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(220, 1340.46, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(221, 1760.27, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(221, 1760.27, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(222, 1023.70, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(222, 1023.70, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(223, 1369.91, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(223, 1369.91, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(224, 306.19, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(224, 306.19, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(225, 1146.92, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(225, 1146.92, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(226, 1047.26, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(226, 1047.26, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(227, 1292.37, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(227, 1292.37, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(228, 581.49, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(228, 581.49, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(229, 509.14, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(229, 509.14, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(230, 1775.99, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(230, 1775.99, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(231, 862.22, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(231, 862.22, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(232, 1419.70, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(232, 1419.70, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(233, 1726.88, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(233, 1726.88, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(234, 1253.26, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(234, 1253.26, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(235, 877.84, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(235, 877.84, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(236, 1234.84, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(236, 1234.84, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(237, 1172.80, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(237, 1172.80, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(238, 1017.45, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(238, 1017.45, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(239, 1369.38, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(239, 1369.38, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(240, 645.66, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(240, 645.66, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(241, 703.89, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(241, 703.89, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(242, 1057.84, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(242, 1057.84, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(243, 654.19, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(243, 654.19, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(244, 532.57, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(244, 532.57, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(245, 693.28, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(245, 693.28, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(246, 537.78, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(246, 537.78, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(247, 864.19, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(247, 864.19, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(248, 1741.24, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(248, 1741.24, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(249, 1146.79, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(249, 1146.79, '2023-09-03T17:29:43.148', 0);
 
-INSERT INTO orders VALUES(250, 824.38, '2023-09-03T17:29:43.148');
+INSERT INTO orders VALUES(250, 824.38, '2023-09-03T17:29:43.148', 0);
 
 INSERT INTO order_gift_certificate VALUES(1, 238);
 
@@ -4759,1723 +4759,1723 @@ INSERT INTO user_orders VALUES(9, 249);
 
 INSERT INTO user_orders VALUES(6, 250);
 
-INSERT INTO purchase_data VALUES(1, '2023-09-03T17:29:43.150', '2023-09-19T17:29:43.150', 'ACTIVE');
+INSERT INTO purchase_data VALUES(1, '2023-09-03T17:29:43.150', '2023-09-19T17:29:43.150', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(2, '2023-09-03T17:29:43.151', '2023-09-17T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(2, '2023-09-03T17:29:43.151', '2023-09-17T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(3, '2023-09-03T17:29:43.151', '2023-09-20T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(3, '2023-09-03T17:29:43.151', '2023-09-20T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(4, '2023-09-03T17:29:43.151', '2023-09-21T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(4, '2023-09-03T17:29:43.151', '2023-09-21T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(5, '2023-09-03T17:29:43.151', '2023-09-13T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(5, '2023-09-03T17:29:43.151', '2023-09-13T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(6, '2023-09-03T17:29:43.151', '2023-09-09T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(6, '2023-09-03T17:29:43.151', '2023-09-09T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(7, '2023-09-03T17:29:43.151', '2023-09-18T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(7, '2023-09-03T17:29:43.151', '2023-09-18T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(8, '2023-09-03T17:29:43.151', '2023-09-18T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(8, '2023-09-03T17:29:43.151', '2023-09-18T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(9, '2023-09-03T17:29:43.151', '2023-09-08T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(9, '2023-09-03T17:29:43.151', '2023-09-08T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(10, '2023-09-03T17:29:43.151', '2023-09-08T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(10, '2023-09-03T17:29:43.151', '2023-09-08T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(11, '2023-09-03T17:29:43.151', '2023-09-09T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(11, '2023-09-03T17:29:43.151', '2023-09-09T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(12, '2023-09-03T17:29:43.151', '2023-09-18T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(12, '2023-09-03T17:29:43.151', '2023-09-18T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(13, '2023-09-03T17:29:43.151', '2023-09-10T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(13, '2023-09-03T17:29:43.151', '2023-09-10T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(14, '2023-09-03T17:29:43.151', '2023-09-16T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(14, '2023-09-03T17:29:43.151', '2023-09-16T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(15, '2023-09-03T17:29:43.151', '2023-09-19T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(15, '2023-09-03T17:29:43.151', '2023-09-19T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(16, '2023-09-03T17:29:43.151', '2023-09-21T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(16, '2023-09-03T17:29:43.151', '2023-09-21T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(17, '2023-09-03T17:29:43.151', '2023-09-20T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(17, '2023-09-03T17:29:43.151', '2023-09-20T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(18, '2023-09-03T17:29:43.151', '2023-09-13T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(18, '2023-09-03T17:29:43.151', '2023-09-13T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(19, '2023-09-03T17:29:43.151', '2023-09-08T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(19, '2023-09-03T17:29:43.151', '2023-09-08T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(20, '2023-09-03T17:29:43.151', '2023-09-12T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(20, '2023-09-03T17:29:43.151', '2023-09-12T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(21, '2023-09-03T17:29:43.151', '2023-09-11T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(21, '2023-09-03T17:29:43.151', '2023-09-11T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(22, '2023-09-03T17:29:43.151', '2023-09-08T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(22, '2023-09-03T17:29:43.151', '2023-09-08T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(23, '2023-09-03T17:29:43.151', '2023-09-22T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(23, '2023-09-03T17:29:43.151', '2023-09-22T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(24, '2023-09-03T17:29:43.151', '2023-09-20T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(24, '2023-09-03T17:29:43.151', '2023-09-20T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(25, '2023-09-03T17:29:43.151', '2023-09-17T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(25, '2023-09-03T17:29:43.151', '2023-09-17T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(26, '2023-09-03T17:29:43.151', '2023-09-10T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(26, '2023-09-03T17:29:43.151', '2023-09-10T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(27, '2023-09-03T17:29:43.151', '2023-09-09T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(27, '2023-09-03T17:29:43.151', '2023-09-09T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(28, '2023-09-03T17:29:43.151', '2023-09-22T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(28, '2023-09-03T17:29:43.151', '2023-09-22T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(29, '2023-09-03T17:29:43.151', '2023-09-12T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(29, '2023-09-03T17:29:43.151', '2023-09-12T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(30, '2023-09-03T17:29:43.151', '2023-09-22T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(30, '2023-09-03T17:29:43.151', '2023-09-22T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(31, '2023-09-03T17:29:43.151', '2023-09-19T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(31, '2023-09-03T17:29:43.151', '2023-09-19T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(32, '2023-09-03T17:29:43.151', '2023-09-15T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(32, '2023-09-03T17:29:43.151', '2023-09-15T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(33, '2023-09-03T17:29:43.151', '2023-09-11T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(33, '2023-09-03T17:29:43.151', '2023-09-11T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(34, '2023-09-03T17:29:43.151', '2023-09-12T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(34, '2023-09-03T17:29:43.151', '2023-09-12T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(35, '2023-09-03T17:29:43.151', '2023-09-10T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(35, '2023-09-03T17:29:43.151', '2023-09-10T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(36, '2023-09-03T17:29:43.151', '2023-09-12T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(36, '2023-09-03T17:29:43.151', '2023-09-12T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(37, '2023-09-03T17:29:43.151', '2023-09-14T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(37, '2023-09-03T17:29:43.151', '2023-09-14T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(38, '2023-09-03T17:29:43.151', '2023-09-18T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(38, '2023-09-03T17:29:43.151', '2023-09-18T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(39, '2023-09-03T17:29:43.151', '2023-09-20T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(39, '2023-09-03T17:29:43.151', '2023-09-20T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(40, '2023-09-03T17:29:43.151', '2023-09-11T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(40, '2023-09-03T17:29:43.151', '2023-09-11T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(41, '2023-09-03T17:29:43.151', '2023-09-15T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(41, '2023-09-03T17:29:43.151', '2023-09-15T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(42, '2023-09-03T17:29:43.151', '2023-09-08T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(42, '2023-09-03T17:29:43.151', '2023-09-08T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(43, '2023-09-03T17:29:43.151', '2023-09-12T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(43, '2023-09-03T17:29:43.151', '2023-09-12T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(44, '2023-09-03T17:29:43.151', '2023-09-12T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(44, '2023-09-03T17:29:43.151', '2023-09-12T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(45, '2023-09-03T17:29:43.151', '2023-09-20T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(45, '2023-09-03T17:29:43.151', '2023-09-20T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(46, '2023-09-03T17:29:43.151', '2023-09-15T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(46, '2023-09-03T17:29:43.151', '2023-09-15T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(47, '2023-09-03T17:29:43.151', '2023-09-21T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(47, '2023-09-03T17:29:43.151', '2023-09-21T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(48, '2023-09-03T17:29:43.151', '2023-09-15T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(48, '2023-09-03T17:29:43.151', '2023-09-15T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(49, '2023-09-03T17:29:43.151', '2023-09-08T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(49, '2023-09-03T17:29:43.151', '2023-09-08T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(50, '2023-09-03T17:29:43.151', '2023-09-17T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(50, '2023-09-03T17:29:43.151', '2023-09-17T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(51, '2023-09-03T17:29:43.151', '2023-09-12T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(51, '2023-09-03T17:29:43.151', '2023-09-12T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(52, '2023-09-03T17:29:43.151', '2023-09-11T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(52, '2023-09-03T17:29:43.151', '2023-09-11T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(53, '2023-09-03T17:29:43.151', '2023-09-18T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(53, '2023-09-03T17:29:43.151', '2023-09-18T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(54, '2023-09-03T17:29:43.151', '2023-09-17T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(54, '2023-09-03T17:29:43.151', '2023-09-17T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(55, '2023-09-03T17:29:43.151', '2023-09-08T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(55, '2023-09-03T17:29:43.151', '2023-09-08T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(56, '2023-09-03T17:29:43.151', '2023-09-10T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(56, '2023-09-03T17:29:43.151', '2023-09-10T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(57, '2023-09-03T17:29:43.151', '2023-09-18T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(57, '2023-09-03T17:29:43.151', '2023-09-18T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(58, '2023-09-03T17:29:43.151', '2023-09-14T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(58, '2023-09-03T17:29:43.151', '2023-09-14T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(59, '2023-09-03T17:29:43.151', '2023-09-08T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(59, '2023-09-03T17:29:43.151', '2023-09-08T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(60, '2023-09-03T17:29:43.151', '2023-09-17T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(60, '2023-09-03T17:29:43.151', '2023-09-17T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(61, '2023-09-03T17:29:43.151', '2023-09-17T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(61, '2023-09-03T17:29:43.151', '2023-09-17T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(62, '2023-09-03T17:29:43.151', '2023-09-13T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(62, '2023-09-03T17:29:43.151', '2023-09-13T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(63, '2023-09-03T17:29:43.151', '2023-09-18T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(63, '2023-09-03T17:29:43.151', '2023-09-18T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(64, '2023-09-03T17:29:43.151', '2023-09-20T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(64, '2023-09-03T17:29:43.151', '2023-09-20T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(65, '2023-09-03T17:29:43.151', '2023-09-10T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(65, '2023-09-03T17:29:43.151', '2023-09-10T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(66, '2023-09-03T17:29:43.151', '2023-09-12T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(66, '2023-09-03T17:29:43.151', '2023-09-12T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(67, '2023-09-03T17:29:43.151', '2023-09-08T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(67, '2023-09-03T17:29:43.151', '2023-09-08T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(68, '2023-09-03T17:29:43.151', '2023-09-13T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(68, '2023-09-03T17:29:43.151', '2023-09-13T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(69, '2023-09-03T17:29:43.151', '2023-09-12T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(69, '2023-09-03T17:29:43.151', '2023-09-12T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(70, '2023-09-03T17:29:43.151', '2023-09-11T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(70, '2023-09-03T17:29:43.151', '2023-09-11T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(71, '2023-09-03T17:29:43.151', '2023-09-22T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(71, '2023-09-03T17:29:43.151', '2023-09-22T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(72, '2023-09-03T17:29:43.151', '2023-09-20T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(72, '2023-09-03T17:29:43.151', '2023-09-20T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(73, '2023-09-03T17:29:43.151', '2023-09-18T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(73, '2023-09-03T17:29:43.151', '2023-09-18T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(74, '2023-09-03T17:29:43.151', '2023-09-18T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(74, '2023-09-03T17:29:43.151', '2023-09-18T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(75, '2023-09-03T17:29:43.151', '2023-09-16T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(75, '2023-09-03T17:29:43.151', '2023-09-16T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(76, '2023-09-03T17:29:43.151', '2023-09-11T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(76, '2023-09-03T17:29:43.151', '2023-09-11T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(77, '2023-09-03T17:29:43.151', '2023-09-14T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(77, '2023-09-03T17:29:43.151', '2023-09-14T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(78, '2023-09-03T17:29:43.151', '2023-09-10T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(78, '2023-09-03T17:29:43.151', '2023-09-10T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(79, '2023-09-03T17:29:43.151', '2023-09-12T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(79, '2023-09-03T17:29:43.151', '2023-09-12T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(80, '2023-09-03T17:29:43.151', '2023-09-22T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(80, '2023-09-03T17:29:43.151', '2023-09-22T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(81, '2023-09-03T17:29:43.151', '2023-09-14T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(81, '2023-09-03T17:29:43.151', '2023-09-14T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(82, '2023-09-03T17:29:43.151', '2023-09-17T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(82, '2023-09-03T17:29:43.151', '2023-09-17T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(83, '2023-09-03T17:29:43.151', '2023-09-21T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(83, '2023-09-03T17:29:43.151', '2023-09-21T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(84, '2023-09-03T17:29:43.151', '2023-09-10T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(84, '2023-09-03T17:29:43.151', '2023-09-10T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(85, '2023-09-03T17:29:43.151', '2023-09-13T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(85, '2023-09-03T17:29:43.151', '2023-09-13T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(86, '2023-09-03T17:29:43.151', '2023-09-15T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(86, '2023-09-03T17:29:43.151', '2023-09-15T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(87, '2023-09-03T17:29:43.151', '2023-09-08T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(87, '2023-09-03T17:29:43.151', '2023-09-08T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(88, '2023-09-03T17:29:43.151', '2023-09-19T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(88, '2023-09-03T17:29:43.151', '2023-09-19T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(89, '2023-09-03T17:29:43.151', '2023-09-13T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(89, '2023-09-03T17:29:43.151', '2023-09-13T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(90, '2023-09-03T17:29:43.151', '2023-09-18T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(90, '2023-09-03T17:29:43.151', '2023-09-18T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(91, '2023-09-03T17:29:43.151', '2023-09-22T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(91, '2023-09-03T17:29:43.151', '2023-09-22T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(92, '2023-09-03T17:29:43.151', '2023-09-11T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(92, '2023-09-03T17:29:43.151', '2023-09-11T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(93, '2023-09-03T17:29:43.151', '2023-09-13T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(93, '2023-09-03T17:29:43.151', '2023-09-13T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(94, '2023-09-03T17:29:43.151', '2023-09-21T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(94, '2023-09-03T17:29:43.151', '2023-09-21T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(95, '2023-09-03T17:29:43.151', '2023-09-18T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(95, '2023-09-03T17:29:43.151', '2023-09-18T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(96, '2023-09-03T17:29:43.151', '2023-09-11T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(96, '2023-09-03T17:29:43.151', '2023-09-11T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(97, '2023-09-03T17:29:43.151', '2023-09-12T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(97, '2023-09-03T17:29:43.151', '2023-09-12T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(98, '2023-09-03T17:29:43.151', '2023-09-08T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(98, '2023-09-03T17:29:43.151', '2023-09-08T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(99, '2023-09-03T17:29:43.151', '2023-09-10T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(99, '2023-09-03T17:29:43.151', '2023-09-10T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(100, '2023-09-03T17:29:43.151', '2023-09-14T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(100, '2023-09-03T17:29:43.151', '2023-09-14T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(101, '2023-09-03T17:29:43.151', '2023-09-08T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(101, '2023-09-03T17:29:43.151', '2023-09-08T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(102, '2023-09-03T17:29:43.151', '2023-09-13T17:29:43.151', 'ACTIVE');
+INSERT INTO purchase_data VALUES(102, '2023-09-03T17:29:43.151', '2023-09-13T17:29:43.151', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(103, '2023-09-03T17:29:43.152', '2023-09-22T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(103, '2023-09-03T17:29:43.152', '2023-09-22T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(104, '2023-09-03T17:29:43.152', '2023-09-08T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(104, '2023-09-03T17:29:43.152', '2023-09-08T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(105, '2023-09-03T17:29:43.152', '2023-09-16T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(105, '2023-09-03T17:29:43.152', '2023-09-16T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(106, '2023-09-03T17:29:43.152', '2023-09-08T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(106, '2023-09-03T17:29:43.152', '2023-09-08T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(107, '2023-09-03T17:29:43.152', '2023-09-18T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(107, '2023-09-03T17:29:43.152', '2023-09-18T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(108, '2023-09-03T17:29:43.152', '2023-09-08T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(108, '2023-09-03T17:29:43.152', '2023-09-08T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(109, '2023-09-03T17:29:43.152', '2023-09-09T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(109, '2023-09-03T17:29:43.152', '2023-09-09T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(110, '2023-09-03T17:29:43.152', '2023-09-18T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(110, '2023-09-03T17:29:43.152', '2023-09-18T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(111, '2023-09-03T17:29:43.152', '2023-09-09T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(111, '2023-09-03T17:29:43.152', '2023-09-09T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(112, '2023-09-03T17:29:43.152', '2023-09-15T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(112, '2023-09-03T17:29:43.152', '2023-09-15T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(113, '2023-09-03T17:29:43.152', '2023-09-20T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(113, '2023-09-03T17:29:43.152', '2023-09-20T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(114, '2023-09-03T17:29:43.152', '2023-09-21T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(114, '2023-09-03T17:29:43.152', '2023-09-21T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(115, '2023-09-03T17:29:43.152', '2023-09-15T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(115, '2023-09-03T17:29:43.152', '2023-09-15T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(116, '2023-09-03T17:29:43.152', '2023-09-19T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(116, '2023-09-03T17:29:43.152', '2023-09-19T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(117, '2023-09-03T17:29:43.152', '2023-09-20T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(117, '2023-09-03T17:29:43.152', '2023-09-20T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(118, '2023-09-03T17:29:43.152', '2023-09-17T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(118, '2023-09-03T17:29:43.152', '2023-09-17T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(119, '2023-09-03T17:29:43.152', '2023-09-20T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(119, '2023-09-03T17:29:43.152', '2023-09-20T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(120, '2023-09-03T17:29:43.152', '2023-09-09T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(120, '2023-09-03T17:29:43.152', '2023-09-09T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(121, '2023-09-03T17:29:43.152', '2023-09-11T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(121, '2023-09-03T17:29:43.152', '2023-09-11T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(122, '2023-09-03T17:29:43.152', '2023-09-09T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(122, '2023-09-03T17:29:43.152', '2023-09-09T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(123, '2023-09-03T17:29:43.152', '2023-09-11T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(123, '2023-09-03T17:29:43.152', '2023-09-11T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(124, '2023-09-03T17:29:43.152', '2023-09-19T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(124, '2023-09-03T17:29:43.152', '2023-09-19T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(125, '2023-09-03T17:29:43.152', '2023-09-17T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(125, '2023-09-03T17:29:43.152', '2023-09-17T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(126, '2023-09-03T17:29:43.152', '2023-09-12T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(126, '2023-09-03T17:29:43.152', '2023-09-12T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(127, '2023-09-03T17:29:43.152', '2023-09-18T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(127, '2023-09-03T17:29:43.152', '2023-09-18T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(128, '2023-09-03T17:29:43.152', '2023-09-19T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(128, '2023-09-03T17:29:43.152', '2023-09-19T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(129, '2023-09-03T17:29:43.152', '2023-09-10T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(129, '2023-09-03T17:29:43.152', '2023-09-10T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(130, '2023-09-03T17:29:43.152', '2023-09-18T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(130, '2023-09-03T17:29:43.152', '2023-09-18T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(131, '2023-09-03T17:29:43.152', '2023-09-11T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(131, '2023-09-03T17:29:43.152', '2023-09-11T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(132, '2023-09-03T17:29:43.152', '2023-09-18T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(132, '2023-09-03T17:29:43.152', '2023-09-18T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(133, '2023-09-03T17:29:43.152', '2023-09-11T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(133, '2023-09-03T17:29:43.152', '2023-09-11T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(134, '2023-09-03T17:29:43.152', '2023-09-13T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(134, '2023-09-03T17:29:43.152', '2023-09-13T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(135, '2023-09-03T17:29:43.152', '2023-09-09T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(135, '2023-09-03T17:29:43.152', '2023-09-09T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(136, '2023-09-03T17:29:43.152', '2023-09-21T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(136, '2023-09-03T17:29:43.152', '2023-09-21T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(137, '2023-09-03T17:29:43.152', '2023-09-17T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(137, '2023-09-03T17:29:43.152', '2023-09-17T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(138, '2023-09-03T17:29:43.152', '2023-09-22T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(138, '2023-09-03T17:29:43.152', '2023-09-22T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(139, '2023-09-03T17:29:43.152', '2023-09-18T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(139, '2023-09-03T17:29:43.152', '2023-09-18T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(140, '2023-09-03T17:29:43.152', '2023-09-08T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(140, '2023-09-03T17:29:43.152', '2023-09-08T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(141, '2023-09-03T17:29:43.152', '2023-09-12T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(141, '2023-09-03T17:29:43.152', '2023-09-12T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(142, '2023-09-03T17:29:43.152', '2023-09-15T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(142, '2023-09-03T17:29:43.152', '2023-09-15T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(143, '2023-09-03T17:29:43.152', '2023-09-19T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(143, '2023-09-03T17:29:43.152', '2023-09-19T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(144, '2023-09-03T17:29:43.152', '2023-09-22T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(144, '2023-09-03T17:29:43.152', '2023-09-22T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(145, '2023-09-03T17:29:43.152', '2023-09-19T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(145, '2023-09-03T17:29:43.152', '2023-09-19T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(146, '2023-09-03T17:29:43.152', '2023-09-17T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(146, '2023-09-03T17:29:43.152', '2023-09-17T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(147, '2023-09-03T17:29:43.152', '2023-09-21T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(147, '2023-09-03T17:29:43.152', '2023-09-21T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(148, '2023-09-03T17:29:43.152', '2023-09-15T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(148, '2023-09-03T17:29:43.152', '2023-09-15T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(149, '2023-09-03T17:29:43.152', '2023-09-20T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(149, '2023-09-03T17:29:43.152', '2023-09-20T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(150, '2023-09-03T17:29:43.152', '2023-09-19T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(150, '2023-09-03T17:29:43.152', '2023-09-19T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(151, '2023-09-03T17:29:43.152', '2023-09-20T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(151, '2023-09-03T17:29:43.152', '2023-09-20T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(152, '2023-09-03T17:29:43.152', '2023-09-22T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(152, '2023-09-03T17:29:43.152', '2023-09-22T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(153, '2023-09-03T17:29:43.152', '2023-09-15T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(153, '2023-09-03T17:29:43.152', '2023-09-15T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(154, '2023-09-03T17:29:43.152', '2023-09-22T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(154, '2023-09-03T17:29:43.152', '2023-09-22T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(155, '2023-09-03T17:29:43.152', '2023-09-17T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(155, '2023-09-03T17:29:43.152', '2023-09-17T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(156, '2023-09-03T17:29:43.152', '2023-09-22T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(156, '2023-09-03T17:29:43.152', '2023-09-22T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(157, '2023-09-03T17:29:43.152', '2023-09-15T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(157, '2023-09-03T17:29:43.152', '2023-09-15T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(158, '2023-09-03T17:29:43.152', '2023-09-17T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(158, '2023-09-03T17:29:43.152', '2023-09-17T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(159, '2023-09-03T17:29:43.152', '2023-09-10T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(159, '2023-09-03T17:29:43.152', '2023-09-10T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(160, '2023-09-03T17:29:43.152', '2023-09-09T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(160, '2023-09-03T17:29:43.152', '2023-09-09T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(161, '2023-09-03T17:29:43.152', '2023-09-11T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(161, '2023-09-03T17:29:43.152', '2023-09-11T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(162, '2023-09-03T17:29:43.152', '2023-09-21T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(162, '2023-09-03T17:29:43.152', '2023-09-21T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(163, '2023-09-03T17:29:43.152', '2023-09-18T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(163, '2023-09-03T17:29:43.152', '2023-09-18T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(164, '2023-09-03T17:29:43.152', '2023-09-13T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(164, '2023-09-03T17:29:43.152', '2023-09-13T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(165, '2023-09-03T17:29:43.152', '2023-09-15T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(165, '2023-09-03T17:29:43.152', '2023-09-15T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(166, '2023-09-03T17:29:43.152', '2023-09-19T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(166, '2023-09-03T17:29:43.152', '2023-09-19T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(167, '2023-09-03T17:29:43.152', '2023-09-19T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(167, '2023-09-03T17:29:43.152', '2023-09-19T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(168, '2023-09-03T17:29:43.152', '2023-09-14T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(168, '2023-09-03T17:29:43.152', '2023-09-14T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(169, '2023-09-03T17:29:43.152', '2023-09-12T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(169, '2023-09-03T17:29:43.152', '2023-09-12T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(170, '2023-09-03T17:29:43.152', '2023-09-21T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(170, '2023-09-03T17:29:43.152', '2023-09-21T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(171, '2023-09-03T17:29:43.152', '2023-09-13T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(171, '2023-09-03T17:29:43.152', '2023-09-13T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(172, '2023-09-03T17:29:43.152', '2023-09-20T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(172, '2023-09-03T17:29:43.152', '2023-09-20T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(173, '2023-09-03T17:29:43.152', '2023-09-08T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(173, '2023-09-03T17:29:43.152', '2023-09-08T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(174, '2023-09-03T17:29:43.152', '2023-09-20T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(174, '2023-09-03T17:29:43.152', '2023-09-20T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(175, '2023-09-03T17:29:43.152', '2023-09-17T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(175, '2023-09-03T17:29:43.152', '2023-09-17T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(176, '2023-09-03T17:29:43.152', '2023-09-19T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(176, '2023-09-03T17:29:43.152', '2023-09-19T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(177, '2023-09-03T17:29:43.152', '2023-09-18T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(177, '2023-09-03T17:29:43.152', '2023-09-18T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(178, '2023-09-03T17:29:43.152', '2023-09-15T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(178, '2023-09-03T17:29:43.152', '2023-09-15T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(179, '2023-09-03T17:29:43.152', '2023-09-12T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(179, '2023-09-03T17:29:43.152', '2023-09-12T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(180, '2023-09-03T17:29:43.152', '2023-09-15T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(180, '2023-09-03T17:29:43.152', '2023-09-15T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(181, '2023-09-03T17:29:43.152', '2023-09-21T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(181, '2023-09-03T17:29:43.152', '2023-09-21T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(182, '2023-09-03T17:29:43.152', '2023-09-21T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(182, '2023-09-03T17:29:43.152', '2023-09-21T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(183, '2023-09-03T17:29:43.152', '2023-09-08T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(183, '2023-09-03T17:29:43.152', '2023-09-08T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(184, '2023-09-03T17:29:43.152', '2023-09-12T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(184, '2023-09-03T17:29:43.152', '2023-09-12T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(185, '2023-09-03T17:29:43.152', '2023-09-19T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(185, '2023-09-03T17:29:43.152', '2023-09-19T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(186, '2023-09-03T17:29:43.152', '2023-09-08T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(186, '2023-09-03T17:29:43.152', '2023-09-08T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(187, '2023-09-03T17:29:43.152', '2023-09-15T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(187, '2023-09-03T17:29:43.152', '2023-09-15T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(188, '2023-09-03T17:29:43.152', '2023-09-17T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(188, '2023-09-03T17:29:43.152', '2023-09-17T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(189, '2023-09-03T17:29:43.152', '2023-09-08T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(189, '2023-09-03T17:29:43.152', '2023-09-08T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(190, '2023-09-03T17:29:43.152', '2023-09-20T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(190, '2023-09-03T17:29:43.152', '2023-09-20T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(191, '2023-09-03T17:29:43.152', '2023-09-08T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(191, '2023-09-03T17:29:43.152', '2023-09-08T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(192, '2023-09-03T17:29:43.152', '2023-09-18T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(192, '2023-09-03T17:29:43.152', '2023-09-18T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(193, '2023-09-03T17:29:43.152', '2023-09-21T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(193, '2023-09-03T17:29:43.152', '2023-09-21T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(194, '2023-09-03T17:29:43.152', '2023-09-10T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(194, '2023-09-03T17:29:43.152', '2023-09-10T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(195, '2023-09-03T17:29:43.152', '2023-09-18T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(195, '2023-09-03T17:29:43.152', '2023-09-18T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(196, '2023-09-03T17:29:43.152', '2023-09-09T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(196, '2023-09-03T17:29:43.152', '2023-09-09T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(197, '2023-09-03T17:29:43.152', '2023-09-13T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(197, '2023-09-03T17:29:43.152', '2023-09-13T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(198, '2023-09-03T17:29:43.152', '2023-09-18T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(198, '2023-09-03T17:29:43.152', '2023-09-18T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(199, '2023-09-03T17:29:43.152', '2023-09-21T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(199, '2023-09-03T17:29:43.152', '2023-09-21T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(200, '2023-09-03T17:29:43.152', '2023-09-08T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(200, '2023-09-03T17:29:43.152', '2023-09-08T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(201, '2023-09-03T17:29:43.152', '2023-09-22T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(201, '2023-09-03T17:29:43.152', '2023-09-22T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(202, '2023-09-03T17:29:43.152', '2023-09-11T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(202, '2023-09-03T17:29:43.152', '2023-09-11T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(203, '2023-09-03T17:29:43.152', '2023-09-20T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(203, '2023-09-03T17:29:43.152', '2023-09-20T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(204, '2023-09-03T17:29:43.152', '2023-09-08T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(204, '2023-09-03T17:29:43.152', '2023-09-08T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(205, '2023-09-03T17:29:43.152', '2023-09-11T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(205, '2023-09-03T17:29:43.152', '2023-09-11T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(206, '2023-09-03T17:29:43.152', '2023-09-20T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(206, '2023-09-03T17:29:43.152', '2023-09-20T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(207, '2023-09-03T17:29:43.152', '2023-09-14T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(207, '2023-09-03T17:29:43.152', '2023-09-14T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(208, '2023-09-03T17:29:43.152', '2023-09-17T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(208, '2023-09-03T17:29:43.152', '2023-09-17T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(209, '2023-09-03T17:29:43.152', '2023-09-21T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(209, '2023-09-03T17:29:43.152', '2023-09-21T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(210, '2023-09-03T17:29:43.152', '2023-09-15T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(210, '2023-09-03T17:29:43.152', '2023-09-15T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(211, '2023-09-03T17:29:43.152', '2023-09-21T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(211, '2023-09-03T17:29:43.152', '2023-09-21T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(212, '2023-09-03T17:29:43.152', '2023-09-11T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(212, '2023-09-03T17:29:43.152', '2023-09-11T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(213, '2023-09-03T17:29:43.152', '2023-09-14T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(213, '2023-09-03T17:29:43.152', '2023-09-14T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(214, '2023-09-03T17:29:43.152', '2023-09-11T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(214, '2023-09-03T17:29:43.152', '2023-09-11T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(215, '2023-09-03T17:29:43.152', '2023-09-20T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(215, '2023-09-03T17:29:43.152', '2023-09-20T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(216, '2023-09-03T17:29:43.152', '2023-09-11T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(216, '2023-09-03T17:29:43.152', '2023-09-11T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(217, '2023-09-03T17:29:43.152', '2023-09-21T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(217, '2023-09-03T17:29:43.152', '2023-09-21T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(218, '2023-09-03T17:29:43.152', '2023-09-18T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(218, '2023-09-03T17:29:43.152', '2023-09-18T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(219, '2023-09-03T17:29:43.152', '2023-09-09T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(219, '2023-09-03T17:29:43.152', '2023-09-09T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(220, '2023-09-03T17:29:43.152', '2023-09-10T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(220, '2023-09-03T17:29:43.152', '2023-09-10T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(221, '2023-09-03T17:29:43.152', '2023-09-12T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(221, '2023-09-03T17:29:43.152', '2023-09-12T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(222, '2023-09-03T17:29:43.152', '2023-09-08T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(222, '2023-09-03T17:29:43.152', '2023-09-08T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(223, '2023-09-03T17:29:43.152', '2023-09-17T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(223, '2023-09-03T17:29:43.152', '2023-09-17T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(224, '2023-09-03T17:29:43.152', '2023-09-22T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(224, '2023-09-03T17:29:43.152', '2023-09-22T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(225, '2023-09-03T17:29:43.152', '2023-09-20T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(225, '2023-09-03T17:29:43.152', '2023-09-20T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(226, '2023-09-03T17:29:43.152', '2023-09-17T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(226, '2023-09-03T17:29:43.152', '2023-09-17T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(227, '2023-09-03T17:29:43.152', '2023-09-17T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(227, '2023-09-03T17:29:43.152', '2023-09-17T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(228, '2023-09-03T17:29:43.152', '2023-09-14T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(228, '2023-09-03T17:29:43.152', '2023-09-14T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(229, '2023-09-03T17:29:43.152', '2023-09-10T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(229, '2023-09-03T17:29:43.152', '2023-09-10T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(230, '2023-09-03T17:29:43.152', '2023-09-08T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(230, '2023-09-03T17:29:43.152', '2023-09-08T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(231, '2023-09-03T17:29:43.152', '2023-09-19T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(231, '2023-09-03T17:29:43.152', '2023-09-19T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(232, '2023-09-03T17:29:43.152', '2023-09-09T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(232, '2023-09-03T17:29:43.152', '2023-09-09T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(233, '2023-09-03T17:29:43.152', '2023-09-11T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(233, '2023-09-03T17:29:43.152', '2023-09-11T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(234, '2023-09-03T17:29:43.152', '2023-09-09T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(234, '2023-09-03T17:29:43.152', '2023-09-09T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(235, '2023-09-03T17:29:43.152', '2023-09-11T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(235, '2023-09-03T17:29:43.152', '2023-09-11T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(236, '2023-09-03T17:29:43.152', '2023-09-22T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(236, '2023-09-03T17:29:43.152', '2023-09-22T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(237, '2023-09-03T17:29:43.152', '2023-09-22T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(237, '2023-09-03T17:29:43.152', '2023-09-22T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(238, '2023-09-03T17:29:43.152', '2023-09-14T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(238, '2023-09-03T17:29:43.152', '2023-09-14T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(239, '2023-09-03T17:29:43.152', '2023-09-15T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(239, '2023-09-03T17:29:43.152', '2023-09-15T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(240, '2023-09-03T17:29:43.152', '2023-09-09T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(240, '2023-09-03T17:29:43.152', '2023-09-09T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(241, '2023-09-03T17:29:43.152', '2023-09-12T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(241, '2023-09-03T17:29:43.152', '2023-09-12T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(242, '2023-09-03T17:29:43.152', '2023-09-17T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(242, '2023-09-03T17:29:43.152', '2023-09-17T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(243, '2023-09-03T17:29:43.152', '2023-09-14T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(243, '2023-09-03T17:29:43.152', '2023-09-14T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(244, '2023-09-03T17:29:43.152', '2023-09-22T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(244, '2023-09-03T17:29:43.152', '2023-09-22T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(245, '2023-09-03T17:29:43.152', '2023-09-19T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(245, '2023-09-03T17:29:43.152', '2023-09-19T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(246, '2023-09-03T17:29:43.152', '2023-09-19T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(246, '2023-09-03T17:29:43.152', '2023-09-19T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(247, '2023-09-03T17:29:43.152', '2023-09-11T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(247, '2023-09-03T17:29:43.152', '2023-09-11T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(248, '2023-09-03T17:29:43.152', '2023-09-20T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(248, '2023-09-03T17:29:43.152', '2023-09-20T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(249, '2023-09-03T17:29:43.152', '2023-09-10T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(249, '2023-09-03T17:29:43.152', '2023-09-10T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(250, '2023-09-03T17:29:43.152', '2023-09-08T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(250, '2023-09-03T17:29:43.152', '2023-09-08T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(251, '2023-09-03T17:29:43.152', '2023-09-18T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(251, '2023-09-03T17:29:43.152', '2023-09-18T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(252, '2023-09-03T17:29:43.152', '2023-09-18T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(252, '2023-09-03T17:29:43.152', '2023-09-18T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(253, '2023-09-03T17:29:43.152', '2023-09-14T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(253, '2023-09-03T17:29:43.152', '2023-09-14T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(254, '2023-09-03T17:29:43.152', '2023-09-17T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(254, '2023-09-03T17:29:43.152', '2023-09-17T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(255, '2023-09-03T17:29:43.152', '2023-09-12T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(255, '2023-09-03T17:29:43.152', '2023-09-12T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(256, '2023-09-03T17:29:43.152', '2023-09-20T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(256, '2023-09-03T17:29:43.152', '2023-09-20T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(257, '2023-09-03T17:29:43.152', '2023-09-09T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(257, '2023-09-03T17:29:43.152', '2023-09-09T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(258, '2023-09-03T17:29:43.152', '2023-09-18T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(258, '2023-09-03T17:29:43.152', '2023-09-18T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(259, '2023-09-03T17:29:43.152', '2023-09-20T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(259, '2023-09-03T17:29:43.152', '2023-09-20T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(260, '2023-09-03T17:29:43.152', '2023-09-12T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(260, '2023-09-03T17:29:43.152', '2023-09-12T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(261, '2023-09-03T17:29:43.152', '2023-09-15T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(261, '2023-09-03T17:29:43.152', '2023-09-15T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(262, '2023-09-03T17:29:43.152', '2023-09-09T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(262, '2023-09-03T17:29:43.152', '2023-09-09T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(263, '2023-09-03T17:29:43.152', '2023-09-19T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(263, '2023-09-03T17:29:43.152', '2023-09-19T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(264, '2023-09-03T17:29:43.152', '2023-09-12T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(264, '2023-09-03T17:29:43.152', '2023-09-12T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(265, '2023-09-03T17:29:43.152', '2023-09-09T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(265, '2023-09-03T17:29:43.152', '2023-09-09T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(266, '2023-09-03T17:29:43.152', '2023-09-20T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(266, '2023-09-03T17:29:43.152', '2023-09-20T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(267, '2023-09-03T17:29:43.152', '2023-09-09T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(267, '2023-09-03T17:29:43.152', '2023-09-09T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(268, '2023-09-03T17:29:43.152', '2023-09-08T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(268, '2023-09-03T17:29:43.152', '2023-09-08T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(269, '2023-09-03T17:29:43.152', '2023-09-13T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(269, '2023-09-03T17:29:43.152', '2023-09-13T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(270, '2023-09-03T17:29:43.152', '2023-09-19T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(270, '2023-09-03T17:29:43.152', '2023-09-19T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(271, '2023-09-03T17:29:43.152', '2023-09-08T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(271, '2023-09-03T17:29:43.152', '2023-09-08T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(272, '2023-09-03T17:29:43.152', '2023-09-21T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(272, '2023-09-03T17:29:43.152', '2023-09-21T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(273, '2023-09-03T17:29:43.152', '2023-09-09T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(273, '2023-09-03T17:29:43.152', '2023-09-09T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(274, '2023-09-03T17:29:43.152', '2023-09-15T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(274, '2023-09-03T17:29:43.152', '2023-09-15T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(275, '2023-09-03T17:29:43.152', '2023-09-10T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(275, '2023-09-03T17:29:43.152', '2023-09-10T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(276, '2023-09-03T17:29:43.152', '2023-09-10T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(276, '2023-09-03T17:29:43.152', '2023-09-10T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(277, '2023-09-03T17:29:43.152', '2023-09-17T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(277, '2023-09-03T17:29:43.152', '2023-09-17T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(278, '2023-09-03T17:29:43.152', '2023-09-20T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(278, '2023-09-03T17:29:43.152', '2023-09-20T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(279, '2023-09-03T17:29:43.152', '2023-09-17T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(279, '2023-09-03T17:29:43.152', '2023-09-17T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(280, '2023-09-03T17:29:43.152', '2023-09-21T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(280, '2023-09-03T17:29:43.152', '2023-09-21T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(281, '2023-09-03T17:29:43.152', '2023-09-16T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(281, '2023-09-03T17:29:43.152', '2023-09-16T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(282, '2023-09-03T17:29:43.152', '2023-09-17T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(282, '2023-09-03T17:29:43.152', '2023-09-17T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(283, '2023-09-03T17:29:43.152', '2023-09-18T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(283, '2023-09-03T17:29:43.152', '2023-09-18T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(284, '2023-09-03T17:29:43.152', '2023-09-11T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(284, '2023-09-03T17:29:43.152', '2023-09-11T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(285, '2023-09-03T17:29:43.152', '2023-09-11T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(285, '2023-09-03T17:29:43.152', '2023-09-11T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(286, '2023-09-03T17:29:43.152', '2023-09-20T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(286, '2023-09-03T17:29:43.152', '2023-09-20T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(287, '2023-09-03T17:29:43.152', '2023-09-18T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(287, '2023-09-03T17:29:43.152', '2023-09-18T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(288, '2023-09-03T17:29:43.152', '2023-09-10T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(288, '2023-09-03T17:29:43.152', '2023-09-10T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(289, '2023-09-03T17:29:43.152', '2023-09-13T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(289, '2023-09-03T17:29:43.152', '2023-09-13T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(290, '2023-09-03T17:29:43.152', '2023-09-12T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(290, '2023-09-03T17:29:43.152', '2023-09-12T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(291, '2023-09-03T17:29:43.152', '2023-09-22T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(291, '2023-09-03T17:29:43.152', '2023-09-22T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(292, '2023-09-03T17:29:43.152', '2023-09-12T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(292, '2023-09-03T17:29:43.152', '2023-09-12T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(293, '2023-09-03T17:29:43.152', '2023-09-20T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(293, '2023-09-03T17:29:43.152', '2023-09-20T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(294, '2023-09-03T17:29:43.152', '2023-09-14T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(294, '2023-09-03T17:29:43.152', '2023-09-14T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(295, '2023-09-03T17:29:43.152', '2023-09-09T17:29:43.152', 'ACTIVE');
+INSERT INTO purchase_data VALUES(295, '2023-09-03T17:29:43.152', '2023-09-09T17:29:43.152', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(296, '2023-09-03T17:29:43.153', '2023-09-08T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(296, '2023-09-03T17:29:43.153', '2023-09-08T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(297, '2023-09-03T17:29:43.153', '2023-09-19T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(297, '2023-09-03T17:29:43.153', '2023-09-19T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(298, '2023-09-03T17:29:43.153', '2023-09-12T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(298, '2023-09-03T17:29:43.153', '2023-09-12T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(299, '2023-09-03T17:29:43.153', '2023-09-11T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(299, '2023-09-03T17:29:43.153', '2023-09-11T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(300, '2023-09-03T17:29:43.153', '2023-09-13T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(300, '2023-09-03T17:29:43.153', '2023-09-13T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(301, '2023-09-03T17:29:43.153', '2023-09-19T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(301, '2023-09-03T17:29:43.153', '2023-09-19T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(302, '2023-09-03T17:29:43.153', '2023-09-14T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(302, '2023-09-03T17:29:43.153', '2023-09-14T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(303, '2023-09-03T17:29:43.153', '2023-09-09T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(303, '2023-09-03T17:29:43.153', '2023-09-09T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(304, '2023-09-03T17:29:43.153', '2023-09-22T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(304, '2023-09-03T17:29:43.153', '2023-09-22T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(305, '2023-09-03T17:29:43.153', '2023-09-21T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(305, '2023-09-03T17:29:43.153', '2023-09-21T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(306, '2023-09-03T17:29:43.153', '2023-09-13T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(306, '2023-09-03T17:29:43.153', '2023-09-13T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(307, '2023-09-03T17:29:43.153', '2023-09-11T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(307, '2023-09-03T17:29:43.153', '2023-09-11T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(308, '2023-09-03T17:29:43.153', '2023-09-08T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(308, '2023-09-03T17:29:43.153', '2023-09-08T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(309, '2023-09-03T17:29:43.153', '2023-09-08T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(309, '2023-09-03T17:29:43.153', '2023-09-08T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(310, '2023-09-03T17:29:43.153', '2023-09-08T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(310, '2023-09-03T17:29:43.153', '2023-09-08T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(311, '2023-09-03T17:29:43.153', '2023-09-09T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(311, '2023-09-03T17:29:43.153', '2023-09-09T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(312, '2023-09-03T17:29:43.153', '2023-09-18T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(312, '2023-09-03T17:29:43.153', '2023-09-18T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(313, '2023-09-03T17:29:43.153', '2023-09-09T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(313, '2023-09-03T17:29:43.153', '2023-09-09T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(314, '2023-09-03T17:29:43.153', '2023-09-14T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(314, '2023-09-03T17:29:43.153', '2023-09-14T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(315, '2023-09-03T17:29:43.153', '2023-09-21T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(315, '2023-09-03T17:29:43.153', '2023-09-21T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(316, '2023-09-03T17:29:43.153', '2023-09-09T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(316, '2023-09-03T17:29:43.153', '2023-09-09T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(317, '2023-09-03T17:29:43.153', '2023-09-11T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(317, '2023-09-03T17:29:43.153', '2023-09-11T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(318, '2023-09-03T17:29:43.153', '2023-09-19T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(318, '2023-09-03T17:29:43.153', '2023-09-19T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(319, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(319, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(320, '2023-09-03T17:29:43.153', '2023-09-15T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(320, '2023-09-03T17:29:43.153', '2023-09-15T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(321, '2023-09-03T17:29:43.153', '2023-09-18T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(321, '2023-09-03T17:29:43.153', '2023-09-18T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(322, '2023-09-03T17:29:43.153', '2023-09-14T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(322, '2023-09-03T17:29:43.153', '2023-09-14T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(323, '2023-09-03T17:29:43.153', '2023-09-10T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(323, '2023-09-03T17:29:43.153', '2023-09-10T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(324, '2023-09-03T17:29:43.153', '2023-09-20T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(324, '2023-09-03T17:29:43.153', '2023-09-20T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(325, '2023-09-03T17:29:43.153', '2023-09-18T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(325, '2023-09-03T17:29:43.153', '2023-09-18T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(326, '2023-09-03T17:29:43.153', '2023-09-12T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(326, '2023-09-03T17:29:43.153', '2023-09-12T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(327, '2023-09-03T17:29:43.153', '2023-09-10T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(327, '2023-09-03T17:29:43.153', '2023-09-10T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(328, '2023-09-03T17:29:43.153', '2023-09-12T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(328, '2023-09-03T17:29:43.153', '2023-09-12T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(329, '2023-09-03T17:29:43.153', '2023-09-15T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(329, '2023-09-03T17:29:43.153', '2023-09-15T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(330, '2023-09-03T17:29:43.153', '2023-09-22T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(330, '2023-09-03T17:29:43.153', '2023-09-22T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(331, '2023-09-03T17:29:43.153', '2023-09-10T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(331, '2023-09-03T17:29:43.153', '2023-09-10T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(332, '2023-09-03T17:29:43.153', '2023-09-16T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(332, '2023-09-03T17:29:43.153', '2023-09-16T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(333, '2023-09-03T17:29:43.153', '2023-09-10T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(333, '2023-09-03T17:29:43.153', '2023-09-10T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(334, '2023-09-03T17:29:43.153', '2023-09-10T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(334, '2023-09-03T17:29:43.153', '2023-09-10T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(335, '2023-09-03T17:29:43.153', '2023-09-08T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(335, '2023-09-03T17:29:43.153', '2023-09-08T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(336, '2023-09-03T17:29:43.153', '2023-09-09T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(336, '2023-09-03T17:29:43.153', '2023-09-09T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(337, '2023-09-03T17:29:43.153', '2023-09-09T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(337, '2023-09-03T17:29:43.153', '2023-09-09T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(338, '2023-09-03T17:29:43.153', '2023-09-09T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(338, '2023-09-03T17:29:43.153', '2023-09-09T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(339, '2023-09-03T17:29:43.153', '2023-09-19T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(339, '2023-09-03T17:29:43.153', '2023-09-19T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(340, '2023-09-03T17:29:43.153', '2023-09-22T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(340, '2023-09-03T17:29:43.153', '2023-09-22T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(341, '2023-09-03T17:29:43.153', '2023-09-22T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(341, '2023-09-03T17:29:43.153', '2023-09-22T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(342, '2023-09-03T17:29:43.153', '2023-09-16T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(342, '2023-09-03T17:29:43.153', '2023-09-16T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(343, '2023-09-03T17:29:43.153', '2023-09-08T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(343, '2023-09-03T17:29:43.153', '2023-09-08T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(344, '2023-09-03T17:29:43.153', '2023-09-20T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(344, '2023-09-03T17:29:43.153', '2023-09-20T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(345, '2023-09-03T17:29:43.153', '2023-09-14T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(345, '2023-09-03T17:29:43.153', '2023-09-14T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(346, '2023-09-03T17:29:43.153', '2023-09-14T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(346, '2023-09-03T17:29:43.153', '2023-09-14T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(347, '2023-09-03T17:29:43.153', '2023-09-08T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(347, '2023-09-03T17:29:43.153', '2023-09-08T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(348, '2023-09-03T17:29:43.153', '2023-09-18T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(348, '2023-09-03T17:29:43.153', '2023-09-18T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(349, '2023-09-03T17:29:43.153', '2023-09-22T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(349, '2023-09-03T17:29:43.153', '2023-09-22T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(350, '2023-09-03T17:29:43.153', '2023-09-13T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(350, '2023-09-03T17:29:43.153', '2023-09-13T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(351, '2023-09-03T17:29:43.153', '2023-09-14T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(351, '2023-09-03T17:29:43.153', '2023-09-14T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(352, '2023-09-03T17:29:43.153', '2023-09-13T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(352, '2023-09-03T17:29:43.153', '2023-09-13T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(353, '2023-09-03T17:29:43.153', '2023-09-13T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(353, '2023-09-03T17:29:43.153', '2023-09-13T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(354, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(354, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(355, '2023-09-03T17:29:43.153', '2023-09-15T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(355, '2023-09-03T17:29:43.153', '2023-09-15T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(356, '2023-09-03T17:29:43.153', '2023-09-18T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(356, '2023-09-03T17:29:43.153', '2023-09-18T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(357, '2023-09-03T17:29:43.153', '2023-09-19T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(357, '2023-09-03T17:29:43.153', '2023-09-19T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(358, '2023-09-03T17:29:43.153', '2023-09-20T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(358, '2023-09-03T17:29:43.153', '2023-09-20T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(359, '2023-09-03T17:29:43.153', '2023-09-21T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(359, '2023-09-03T17:29:43.153', '2023-09-21T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(360, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(360, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(361, '2023-09-03T17:29:43.153', '2023-09-12T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(361, '2023-09-03T17:29:43.153', '2023-09-12T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(362, '2023-09-03T17:29:43.153', '2023-09-10T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(362, '2023-09-03T17:29:43.153', '2023-09-10T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(363, '2023-09-03T17:29:43.153', '2023-09-16T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(363, '2023-09-03T17:29:43.153', '2023-09-16T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(364, '2023-09-03T17:29:43.153', '2023-09-19T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(364, '2023-09-03T17:29:43.153', '2023-09-19T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(365, '2023-09-03T17:29:43.153', '2023-09-08T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(365, '2023-09-03T17:29:43.153', '2023-09-08T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(366, '2023-09-03T17:29:43.153', '2023-09-12T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(366, '2023-09-03T17:29:43.153', '2023-09-12T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(367, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(367, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(368, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(368, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(369, '2023-09-03T17:29:43.153', '2023-09-08T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(369, '2023-09-03T17:29:43.153', '2023-09-08T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(370, '2023-09-03T17:29:43.153', '2023-09-15T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(370, '2023-09-03T17:29:43.153', '2023-09-15T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(371, '2023-09-03T17:29:43.153', '2023-09-19T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(371, '2023-09-03T17:29:43.153', '2023-09-19T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(372, '2023-09-03T17:29:43.153', '2023-09-21T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(372, '2023-09-03T17:29:43.153', '2023-09-21T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(373, '2023-09-03T17:29:43.153', '2023-09-18T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(373, '2023-09-03T17:29:43.153', '2023-09-18T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(374, '2023-09-03T17:29:43.153', '2023-09-20T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(374, '2023-09-03T17:29:43.153', '2023-09-20T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(375, '2023-09-03T17:29:43.153', '2023-09-14T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(375, '2023-09-03T17:29:43.153', '2023-09-14T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(376, '2023-09-03T17:29:43.153', '2023-09-15T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(376, '2023-09-03T17:29:43.153', '2023-09-15T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(377, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(377, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(378, '2023-09-03T17:29:43.153', '2023-09-18T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(378, '2023-09-03T17:29:43.153', '2023-09-18T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(379, '2023-09-03T17:29:43.153', '2023-09-14T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(379, '2023-09-03T17:29:43.153', '2023-09-14T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(380, '2023-09-03T17:29:43.153', '2023-09-12T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(380, '2023-09-03T17:29:43.153', '2023-09-12T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(381, '2023-09-03T17:29:43.153', '2023-09-10T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(381, '2023-09-03T17:29:43.153', '2023-09-10T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(382, '2023-09-03T17:29:43.153', '2023-09-18T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(382, '2023-09-03T17:29:43.153', '2023-09-18T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(383, '2023-09-03T17:29:43.153', '2023-09-12T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(383, '2023-09-03T17:29:43.153', '2023-09-12T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(384, '2023-09-03T17:29:43.153', '2023-09-22T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(384, '2023-09-03T17:29:43.153', '2023-09-22T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(385, '2023-09-03T17:29:43.153', '2023-09-12T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(385, '2023-09-03T17:29:43.153', '2023-09-12T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(386, '2023-09-03T17:29:43.153', '2023-09-19T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(386, '2023-09-03T17:29:43.153', '2023-09-19T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(387, '2023-09-03T17:29:43.153', '2023-09-21T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(387, '2023-09-03T17:29:43.153', '2023-09-21T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(388, '2023-09-03T17:29:43.153', '2023-09-18T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(388, '2023-09-03T17:29:43.153', '2023-09-18T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(389, '2023-09-03T17:29:43.153', '2023-09-19T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(389, '2023-09-03T17:29:43.153', '2023-09-19T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(390, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(390, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(391, '2023-09-03T17:29:43.153', '2023-09-09T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(391, '2023-09-03T17:29:43.153', '2023-09-09T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(392, '2023-09-03T17:29:43.153', '2023-09-12T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(392, '2023-09-03T17:29:43.153', '2023-09-12T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(393, '2023-09-03T17:29:43.153', '2023-09-08T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(393, '2023-09-03T17:29:43.153', '2023-09-08T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(394, '2023-09-03T17:29:43.153', '2023-09-12T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(394, '2023-09-03T17:29:43.153', '2023-09-12T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(395, '2023-09-03T17:29:43.153', '2023-09-19T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(395, '2023-09-03T17:29:43.153', '2023-09-19T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(396, '2023-09-03T17:29:43.153', '2023-09-11T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(396, '2023-09-03T17:29:43.153', '2023-09-11T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(397, '2023-09-03T17:29:43.153', '2023-09-14T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(397, '2023-09-03T17:29:43.153', '2023-09-14T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(398, '2023-09-03T17:29:43.153', '2023-09-20T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(398, '2023-09-03T17:29:43.153', '2023-09-20T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(399, '2023-09-03T17:29:43.153', '2023-09-22T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(399, '2023-09-03T17:29:43.153', '2023-09-22T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(400, '2023-09-03T17:29:43.153', '2023-09-13T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(400, '2023-09-03T17:29:43.153', '2023-09-13T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(401, '2023-09-03T17:29:43.153', '2023-09-13T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(401, '2023-09-03T17:29:43.153', '2023-09-13T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(402, '2023-09-03T17:29:43.153', '2023-09-12T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(402, '2023-09-03T17:29:43.153', '2023-09-12T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(403, '2023-09-03T17:29:43.153', '2023-09-21T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(403, '2023-09-03T17:29:43.153', '2023-09-21T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(404, '2023-09-03T17:29:43.153', '2023-09-18T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(404, '2023-09-03T17:29:43.153', '2023-09-18T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(405, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(405, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(406, '2023-09-03T17:29:43.153', '2023-09-14T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(406, '2023-09-03T17:29:43.153', '2023-09-14T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(407, '2023-09-03T17:29:43.153', '2023-09-20T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(407, '2023-09-03T17:29:43.153', '2023-09-20T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(408, '2023-09-03T17:29:43.153', '2023-09-22T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(408, '2023-09-03T17:29:43.153', '2023-09-22T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(409, '2023-09-03T17:29:43.153', '2023-09-11T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(409, '2023-09-03T17:29:43.153', '2023-09-11T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(410, '2023-09-03T17:29:43.153', '2023-09-09T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(410, '2023-09-03T17:29:43.153', '2023-09-09T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(411, '2023-09-03T17:29:43.153', '2023-09-15T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(411, '2023-09-03T17:29:43.153', '2023-09-15T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(412, '2023-09-03T17:29:43.153', '2023-09-19T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(412, '2023-09-03T17:29:43.153', '2023-09-19T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(413, '2023-09-03T17:29:43.153', '2023-09-09T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(413, '2023-09-03T17:29:43.153', '2023-09-09T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(414, '2023-09-03T17:29:43.153', '2023-09-08T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(414, '2023-09-03T17:29:43.153', '2023-09-08T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(415, '2023-09-03T17:29:43.153', '2023-09-18T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(415, '2023-09-03T17:29:43.153', '2023-09-18T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(416, '2023-09-03T17:29:43.153', '2023-09-10T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(416, '2023-09-03T17:29:43.153', '2023-09-10T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(417, '2023-09-03T17:29:43.153', '2023-09-10T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(417, '2023-09-03T17:29:43.153', '2023-09-10T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(418, '2023-09-03T17:29:43.153', '2023-09-09T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(418, '2023-09-03T17:29:43.153', '2023-09-09T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(419, '2023-09-03T17:29:43.153', '2023-09-09T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(419, '2023-09-03T17:29:43.153', '2023-09-09T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(420, '2023-09-03T17:29:43.153', '2023-09-15T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(420, '2023-09-03T17:29:43.153', '2023-09-15T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(421, '2023-09-03T17:29:43.153', '2023-09-20T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(421, '2023-09-03T17:29:43.153', '2023-09-20T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(422, '2023-09-03T17:29:43.153', '2023-09-20T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(422, '2023-09-03T17:29:43.153', '2023-09-20T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(423, '2023-09-03T17:29:43.153', '2023-09-13T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(423, '2023-09-03T17:29:43.153', '2023-09-13T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(424, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(424, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(425, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(425, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(426, '2023-09-03T17:29:43.153', '2023-09-14T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(426, '2023-09-03T17:29:43.153', '2023-09-14T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(427, '2023-09-03T17:29:43.153', '2023-09-11T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(427, '2023-09-03T17:29:43.153', '2023-09-11T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(428, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(428, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(429, '2023-09-03T17:29:43.153', '2023-09-19T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(429, '2023-09-03T17:29:43.153', '2023-09-19T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(430, '2023-09-03T17:29:43.153', '2023-09-08T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(430, '2023-09-03T17:29:43.153', '2023-09-08T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(431, '2023-09-03T17:29:43.153', '2023-09-16T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(431, '2023-09-03T17:29:43.153', '2023-09-16T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(432, '2023-09-03T17:29:43.153', '2023-09-11T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(432, '2023-09-03T17:29:43.153', '2023-09-11T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(433, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(433, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(434, '2023-09-03T17:29:43.153', '2023-09-09T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(434, '2023-09-03T17:29:43.153', '2023-09-09T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(435, '2023-09-03T17:29:43.153', '2023-09-19T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(435, '2023-09-03T17:29:43.153', '2023-09-19T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(436, '2023-09-03T17:29:43.153', '2023-09-15T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(436, '2023-09-03T17:29:43.153', '2023-09-15T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(437, '2023-09-03T17:29:43.153', '2023-09-10T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(437, '2023-09-03T17:29:43.153', '2023-09-10T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(438, '2023-09-03T17:29:43.153', '2023-09-15T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(438, '2023-09-03T17:29:43.153', '2023-09-15T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(439, '2023-09-03T17:29:43.153', '2023-09-14T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(439, '2023-09-03T17:29:43.153', '2023-09-14T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(440, '2023-09-03T17:29:43.153', '2023-09-18T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(440, '2023-09-03T17:29:43.153', '2023-09-18T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(441, '2023-09-03T17:29:43.153', '2023-09-12T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(441, '2023-09-03T17:29:43.153', '2023-09-12T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(442, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(442, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(443, '2023-09-03T17:29:43.153', '2023-09-13T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(443, '2023-09-03T17:29:43.153', '2023-09-13T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(444, '2023-09-03T17:29:43.153', '2023-09-20T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(444, '2023-09-03T17:29:43.153', '2023-09-20T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(445, '2023-09-03T17:29:43.153', '2023-09-11T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(445, '2023-09-03T17:29:43.153', '2023-09-11T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(446, '2023-09-03T17:29:43.153', '2023-09-10T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(446, '2023-09-03T17:29:43.153', '2023-09-10T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(447, '2023-09-03T17:29:43.153', '2023-09-22T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(447, '2023-09-03T17:29:43.153', '2023-09-22T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(448, '2023-09-03T17:29:43.153', '2023-09-09T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(448, '2023-09-03T17:29:43.153', '2023-09-09T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(449, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(449, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(450, '2023-09-03T17:29:43.153', '2023-09-19T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(450, '2023-09-03T17:29:43.153', '2023-09-19T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(451, '2023-09-03T17:29:43.153', '2023-09-14T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(451, '2023-09-03T17:29:43.153', '2023-09-14T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(452, '2023-09-03T17:29:43.153', '2023-09-10T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(452, '2023-09-03T17:29:43.153', '2023-09-10T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(453, '2023-09-03T17:29:43.153', '2023-09-14T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(453, '2023-09-03T17:29:43.153', '2023-09-14T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(454, '2023-09-03T17:29:43.153', '2023-09-20T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(454, '2023-09-03T17:29:43.153', '2023-09-20T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(455, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(455, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(456, '2023-09-03T17:29:43.153', '2023-09-08T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(456, '2023-09-03T17:29:43.153', '2023-09-08T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(457, '2023-09-03T17:29:43.153', '2023-09-22T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(457, '2023-09-03T17:29:43.153', '2023-09-22T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(458, '2023-09-03T17:29:43.153', '2023-09-12T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(458, '2023-09-03T17:29:43.153', '2023-09-12T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(459, '2023-09-03T17:29:43.153', '2023-09-10T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(459, '2023-09-03T17:29:43.153', '2023-09-10T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(460, '2023-09-03T17:29:43.153', '2023-09-15T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(460, '2023-09-03T17:29:43.153', '2023-09-15T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(461, '2023-09-03T17:29:43.153', '2023-09-20T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(461, '2023-09-03T17:29:43.153', '2023-09-20T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(462, '2023-09-03T17:29:43.153', '2023-09-20T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(462, '2023-09-03T17:29:43.153', '2023-09-20T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(463, '2023-09-03T17:29:43.153', '2023-09-18T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(463, '2023-09-03T17:29:43.153', '2023-09-18T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(464, '2023-09-03T17:29:43.153', '2023-09-22T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(464, '2023-09-03T17:29:43.153', '2023-09-22T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(465, '2023-09-03T17:29:43.153', '2023-09-20T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(465, '2023-09-03T17:29:43.153', '2023-09-20T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(466, '2023-09-03T17:29:43.153', '2023-09-21T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(466, '2023-09-03T17:29:43.153', '2023-09-21T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(467, '2023-09-03T17:29:43.153', '2023-09-08T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(467, '2023-09-03T17:29:43.153', '2023-09-08T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(468, '2023-09-03T17:29:43.153', '2023-09-14T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(468, '2023-09-03T17:29:43.153', '2023-09-14T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(469, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(469, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(470, '2023-09-03T17:29:43.153', '2023-09-11T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(470, '2023-09-03T17:29:43.153', '2023-09-11T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(471, '2023-09-03T17:29:43.153', '2023-09-18T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(471, '2023-09-03T17:29:43.153', '2023-09-18T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(472, '2023-09-03T17:29:43.153', '2023-09-21T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(472, '2023-09-03T17:29:43.153', '2023-09-21T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(473, '2023-09-03T17:29:43.153', '2023-09-12T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(473, '2023-09-03T17:29:43.153', '2023-09-12T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(474, '2023-09-03T17:29:43.153', '2023-09-13T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(474, '2023-09-03T17:29:43.153', '2023-09-13T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(475, '2023-09-03T17:29:43.153', '2023-09-09T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(475, '2023-09-03T17:29:43.153', '2023-09-09T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(476, '2023-09-03T17:29:43.153', '2023-09-10T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(476, '2023-09-03T17:29:43.153', '2023-09-10T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(477, '2023-09-03T17:29:43.153', '2023-09-15T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(477, '2023-09-03T17:29:43.153', '2023-09-15T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(478, '2023-09-03T17:29:43.153', '2023-09-10T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(478, '2023-09-03T17:29:43.153', '2023-09-10T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(479, '2023-09-03T17:29:43.153', '2023-09-09T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(479, '2023-09-03T17:29:43.153', '2023-09-09T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(480, '2023-09-03T17:29:43.153', '2023-09-08T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(480, '2023-09-03T17:29:43.153', '2023-09-08T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(481, '2023-09-03T17:29:43.153', '2023-09-22T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(481, '2023-09-03T17:29:43.153', '2023-09-22T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(482, '2023-09-03T17:29:43.153', '2023-09-10T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(482, '2023-09-03T17:29:43.153', '2023-09-10T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(483, '2023-09-03T17:29:43.153', '2023-09-12T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(483, '2023-09-03T17:29:43.153', '2023-09-12T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(484, '2023-09-03T17:29:43.153', '2023-09-11T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(484, '2023-09-03T17:29:43.153', '2023-09-11T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(485, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(485, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(486, '2023-09-03T17:29:43.153', '2023-09-14T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(486, '2023-09-03T17:29:43.153', '2023-09-14T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(487, '2023-09-03T17:29:43.153', '2023-09-18T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(487, '2023-09-03T17:29:43.153', '2023-09-18T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(488, '2023-09-03T17:29:43.153', '2023-09-19T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(488, '2023-09-03T17:29:43.153', '2023-09-19T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(489, '2023-09-03T17:29:43.153', '2023-09-13T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(489, '2023-09-03T17:29:43.153', '2023-09-13T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(490, '2023-09-03T17:29:43.153', '2023-09-21T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(490, '2023-09-03T17:29:43.153', '2023-09-21T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(491, '2023-09-03T17:29:43.153', '2023-09-19T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(491, '2023-09-03T17:29:43.153', '2023-09-19T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(492, '2023-09-03T17:29:43.153', '2023-09-14T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(492, '2023-09-03T17:29:43.153', '2023-09-14T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(493, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(493, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(494, '2023-09-03T17:29:43.153', '2023-09-12T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(494, '2023-09-03T17:29:43.153', '2023-09-12T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(495, '2023-09-03T17:29:43.153', '2023-09-13T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(495, '2023-09-03T17:29:43.153', '2023-09-13T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(496, '2023-09-03T17:29:43.153', '2023-09-10T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(496, '2023-09-03T17:29:43.153', '2023-09-10T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(497, '2023-09-03T17:29:43.153', '2023-09-15T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(497, '2023-09-03T17:29:43.153', '2023-09-15T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(498, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(498, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(499, '2023-09-03T17:29:43.153', '2023-09-22T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(499, '2023-09-03T17:29:43.153', '2023-09-22T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(500, '2023-09-03T17:29:43.153', '2023-09-19T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(500, '2023-09-03T17:29:43.153', '2023-09-19T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(501, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(501, '2023-09-03T17:29:43.153', '2023-09-17T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(502, '2023-09-03T17:29:43.153', '2023-09-21T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(502, '2023-09-03T17:29:43.153', '2023-09-21T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(503, '2023-09-03T17:29:43.153', '2023-09-19T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(503, '2023-09-03T17:29:43.153', '2023-09-19T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(504, '2023-09-03T17:29:43.153', '2023-09-20T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(504, '2023-09-03T17:29:43.153', '2023-09-20T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(505, '2023-09-03T17:29:43.153', '2023-09-11T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(505, '2023-09-03T17:29:43.153', '2023-09-11T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(506, '2023-09-03T17:29:43.153', '2023-09-14T17:29:43.153', 'ACTIVE');
+INSERT INTO purchase_data VALUES(506, '2023-09-03T17:29:43.153', '2023-09-14T17:29:43.153', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(507, '2023-09-03T17:29:43.154', '2023-09-10T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(507, '2023-09-03T17:29:43.154', '2023-09-10T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(508, '2023-09-03T17:29:43.154', '2023-09-12T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(508, '2023-09-03T17:29:43.154', '2023-09-12T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(509, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(509, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(510, '2023-09-03T17:29:43.154', '2023-09-12T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(510, '2023-09-03T17:29:43.154', '2023-09-12T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(511, '2023-09-03T17:29:43.154', '2023-09-18T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(511, '2023-09-03T17:29:43.154', '2023-09-18T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(512, '2023-09-03T17:29:43.154', '2023-09-11T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(512, '2023-09-03T17:29:43.154', '2023-09-11T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(513, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(513, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(514, '2023-09-03T17:29:43.154', '2023-09-14T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(514, '2023-09-03T17:29:43.154', '2023-09-14T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(515, '2023-09-03T17:29:43.154', '2023-09-22T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(515, '2023-09-03T17:29:43.154', '2023-09-22T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(516, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(516, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(517, '2023-09-03T17:29:43.154', '2023-09-21T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(517, '2023-09-03T17:29:43.154', '2023-09-21T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(518, '2023-09-03T17:29:43.154', '2023-09-19T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(518, '2023-09-03T17:29:43.154', '2023-09-19T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(519, '2023-09-03T17:29:43.154', '2023-09-10T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(519, '2023-09-03T17:29:43.154', '2023-09-10T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(520, '2023-09-03T17:29:43.154', '2023-09-13T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(520, '2023-09-03T17:29:43.154', '2023-09-13T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(521, '2023-09-03T17:29:43.154', '2023-09-12T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(521, '2023-09-03T17:29:43.154', '2023-09-12T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(522, '2023-09-03T17:29:43.154', '2023-09-10T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(522, '2023-09-03T17:29:43.154', '2023-09-10T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(523, '2023-09-03T17:29:43.154', '2023-09-11T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(523, '2023-09-03T17:29:43.154', '2023-09-11T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(524, '2023-09-03T17:29:43.154', '2023-09-19T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(524, '2023-09-03T17:29:43.154', '2023-09-19T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(525, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(525, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(526, '2023-09-03T17:29:43.154', '2023-09-13T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(526, '2023-09-03T17:29:43.154', '2023-09-13T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(527, '2023-09-03T17:29:43.154', '2023-09-18T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(527, '2023-09-03T17:29:43.154', '2023-09-18T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(528, '2023-09-03T17:29:43.154', '2023-09-12T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(528, '2023-09-03T17:29:43.154', '2023-09-12T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(529, '2023-09-03T17:29:43.154', '2023-09-18T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(529, '2023-09-03T17:29:43.154', '2023-09-18T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(530, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(530, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(531, '2023-09-03T17:29:43.154', '2023-09-22T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(531, '2023-09-03T17:29:43.154', '2023-09-22T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(532, '2023-09-03T17:29:43.154', '2023-09-19T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(532, '2023-09-03T17:29:43.154', '2023-09-19T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(533, '2023-09-03T17:29:43.154', '2023-09-12T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(533, '2023-09-03T17:29:43.154', '2023-09-12T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(534, '2023-09-03T17:29:43.154', '2023-09-08T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(534, '2023-09-03T17:29:43.154', '2023-09-08T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(535, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(535, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(536, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(536, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(537, '2023-09-03T17:29:43.154', '2023-09-08T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(537, '2023-09-03T17:29:43.154', '2023-09-08T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(538, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(538, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(539, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(539, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(540, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(540, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(541, '2023-09-03T17:29:43.154', '2023-09-22T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(541, '2023-09-03T17:29:43.154', '2023-09-22T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(542, '2023-09-03T17:29:43.154', '2023-09-19T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(542, '2023-09-03T17:29:43.154', '2023-09-19T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(543, '2023-09-03T17:29:43.154', '2023-09-13T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(543, '2023-09-03T17:29:43.154', '2023-09-13T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(544, '2023-09-03T17:29:43.154', '2023-09-08T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(544, '2023-09-03T17:29:43.154', '2023-09-08T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(545, '2023-09-03T17:29:43.154', '2023-09-15T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(545, '2023-09-03T17:29:43.154', '2023-09-15T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(546, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(546, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(547, '2023-09-03T17:29:43.154', '2023-09-11T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(547, '2023-09-03T17:29:43.154', '2023-09-11T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(548, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(548, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(549, '2023-09-03T17:29:43.154', '2023-09-13T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(549, '2023-09-03T17:29:43.154', '2023-09-13T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(550, '2023-09-03T17:29:43.154', '2023-09-13T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(550, '2023-09-03T17:29:43.154', '2023-09-13T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(551, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(551, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(552, '2023-09-03T17:29:43.154', '2023-09-18T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(552, '2023-09-03T17:29:43.154', '2023-09-18T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(553, '2023-09-03T17:29:43.154', '2023-09-21T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(553, '2023-09-03T17:29:43.154', '2023-09-21T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(554, '2023-09-03T17:29:43.154', '2023-09-11T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(554, '2023-09-03T17:29:43.154', '2023-09-11T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(555, '2023-09-03T17:29:43.154', '2023-09-21T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(555, '2023-09-03T17:29:43.154', '2023-09-21T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(556, '2023-09-03T17:29:43.154', '2023-09-12T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(556, '2023-09-03T17:29:43.154', '2023-09-12T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(557, '2023-09-03T17:29:43.154', '2023-09-08T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(557, '2023-09-03T17:29:43.154', '2023-09-08T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(558, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(558, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(559, '2023-09-03T17:29:43.154', '2023-09-19T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(559, '2023-09-03T17:29:43.154', '2023-09-19T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(560, '2023-09-03T17:29:43.154', '2023-09-21T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(560, '2023-09-03T17:29:43.154', '2023-09-21T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(561, '2023-09-03T17:29:43.154', '2023-09-21T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(561, '2023-09-03T17:29:43.154', '2023-09-21T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(562, '2023-09-03T17:29:43.154', '2023-09-08T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(562, '2023-09-03T17:29:43.154', '2023-09-08T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(563, '2023-09-03T17:29:43.154', '2023-09-08T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(563, '2023-09-03T17:29:43.154', '2023-09-08T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(564, '2023-09-03T17:29:43.154', '2023-09-22T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(564, '2023-09-03T17:29:43.154', '2023-09-22T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(565, '2023-09-03T17:29:43.154', '2023-09-12T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(565, '2023-09-03T17:29:43.154', '2023-09-12T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(566, '2023-09-03T17:29:43.154', '2023-09-08T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(566, '2023-09-03T17:29:43.154', '2023-09-08T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(567, '2023-09-03T17:29:43.154', '2023-09-19T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(567, '2023-09-03T17:29:43.154', '2023-09-19T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(568, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(568, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(569, '2023-09-03T17:29:43.154', '2023-09-16T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(569, '2023-09-03T17:29:43.154', '2023-09-16T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(570, '2023-09-03T17:29:43.154', '2023-09-21T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(570, '2023-09-03T17:29:43.154', '2023-09-21T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(571, '2023-09-03T17:29:43.154', '2023-09-15T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(571, '2023-09-03T17:29:43.154', '2023-09-15T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(572, '2023-09-03T17:29:43.154', '2023-09-08T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(572, '2023-09-03T17:29:43.154', '2023-09-08T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(573, '2023-09-03T17:29:43.154', '2023-09-15T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(573, '2023-09-03T17:29:43.154', '2023-09-15T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(574, '2023-09-03T17:29:43.154', '2023-09-15T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(574, '2023-09-03T17:29:43.154', '2023-09-15T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(575, '2023-09-03T17:29:43.154', '2023-09-10T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(575, '2023-09-03T17:29:43.154', '2023-09-10T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(576, '2023-09-03T17:29:43.154', '2023-09-18T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(576, '2023-09-03T17:29:43.154', '2023-09-18T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(577, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(577, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(578, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(578, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(579, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(579, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(580, '2023-09-03T17:29:43.154', '2023-09-11T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(580, '2023-09-03T17:29:43.154', '2023-09-11T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(581, '2023-09-03T17:29:43.154', '2023-09-08T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(581, '2023-09-03T17:29:43.154', '2023-09-08T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(582, '2023-09-03T17:29:43.154', '2023-09-12T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(582, '2023-09-03T17:29:43.154', '2023-09-12T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(583, '2023-09-03T17:29:43.154', '2023-09-15T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(583, '2023-09-03T17:29:43.154', '2023-09-15T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(584, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(584, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(585, '2023-09-03T17:29:43.154', '2023-09-12T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(585, '2023-09-03T17:29:43.154', '2023-09-12T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(586, '2023-09-03T17:29:43.154', '2023-09-22T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(586, '2023-09-03T17:29:43.154', '2023-09-22T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(587, '2023-09-03T17:29:43.154', '2023-09-10T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(587, '2023-09-03T17:29:43.154', '2023-09-10T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(588, '2023-09-03T17:29:43.154', '2023-09-10T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(588, '2023-09-03T17:29:43.154', '2023-09-10T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(589, '2023-09-03T17:29:43.154', '2023-09-14T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(589, '2023-09-03T17:29:43.154', '2023-09-14T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(590, '2023-09-03T17:29:43.154', '2023-09-18T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(590, '2023-09-03T17:29:43.154', '2023-09-18T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(591, '2023-09-03T17:29:43.154', '2023-09-22T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(591, '2023-09-03T17:29:43.154', '2023-09-22T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(592, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(592, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(593, '2023-09-03T17:29:43.154', '2023-09-22T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(593, '2023-09-03T17:29:43.154', '2023-09-22T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(594, '2023-09-03T17:29:43.154', '2023-09-14T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(594, '2023-09-03T17:29:43.154', '2023-09-14T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(595, '2023-09-03T17:29:43.154', '2023-09-18T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(595, '2023-09-03T17:29:43.154', '2023-09-18T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(596, '2023-09-03T17:29:43.154', '2023-09-21T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(596, '2023-09-03T17:29:43.154', '2023-09-21T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(597, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(597, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(598, '2023-09-03T17:29:43.154', '2023-09-15T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(598, '2023-09-03T17:29:43.154', '2023-09-15T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(599, '2023-09-03T17:29:43.154', '2023-09-13T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(599, '2023-09-03T17:29:43.154', '2023-09-13T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(600, '2023-09-03T17:29:43.154', '2023-09-12T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(600, '2023-09-03T17:29:43.154', '2023-09-12T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(601, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(601, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(602, '2023-09-03T17:29:43.154', '2023-09-10T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(602, '2023-09-03T17:29:43.154', '2023-09-10T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(603, '2023-09-03T17:29:43.154', '2023-09-14T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(603, '2023-09-03T17:29:43.154', '2023-09-14T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(604, '2023-09-03T17:29:43.154', '2023-09-19T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(604, '2023-09-03T17:29:43.154', '2023-09-19T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(605, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(605, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(606, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(606, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(607, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(607, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(608, '2023-09-03T17:29:43.154', '2023-09-11T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(608, '2023-09-03T17:29:43.154', '2023-09-11T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(609, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(609, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(610, '2023-09-03T17:29:43.154', '2023-09-08T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(610, '2023-09-03T17:29:43.154', '2023-09-08T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(611, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(611, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(612, '2023-09-03T17:29:43.154', '2023-09-19T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(612, '2023-09-03T17:29:43.154', '2023-09-19T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(613, '2023-09-03T17:29:43.154', '2023-09-10T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(613, '2023-09-03T17:29:43.154', '2023-09-10T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(614, '2023-09-03T17:29:43.154', '2023-09-21T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(614, '2023-09-03T17:29:43.154', '2023-09-21T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(615, '2023-09-03T17:29:43.154', '2023-09-11T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(615, '2023-09-03T17:29:43.154', '2023-09-11T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(616, '2023-09-03T17:29:43.154', '2023-09-08T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(616, '2023-09-03T17:29:43.154', '2023-09-08T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(617, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(617, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(618, '2023-09-03T17:29:43.154', '2023-09-13T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(618, '2023-09-03T17:29:43.154', '2023-09-13T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(619, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(619, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(620, '2023-09-03T17:29:43.154', '2023-09-13T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(620, '2023-09-03T17:29:43.154', '2023-09-13T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(621, '2023-09-03T17:29:43.154', '2023-09-15T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(621, '2023-09-03T17:29:43.154', '2023-09-15T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(622, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(622, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(623, '2023-09-03T17:29:43.154', '2023-09-10T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(623, '2023-09-03T17:29:43.154', '2023-09-10T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(624, '2023-09-03T17:29:43.154', '2023-09-19T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(624, '2023-09-03T17:29:43.154', '2023-09-19T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(625, '2023-09-03T17:29:43.154', '2023-09-14T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(625, '2023-09-03T17:29:43.154', '2023-09-14T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(626, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(626, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(627, '2023-09-03T17:29:43.154', '2023-09-11T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(627, '2023-09-03T17:29:43.154', '2023-09-11T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(628, '2023-09-03T17:29:43.154', '2023-09-11T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(628, '2023-09-03T17:29:43.154', '2023-09-11T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(629, '2023-09-03T17:29:43.154', '2023-09-19T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(629, '2023-09-03T17:29:43.154', '2023-09-19T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(630, '2023-09-03T17:29:43.154', '2023-09-14T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(630, '2023-09-03T17:29:43.154', '2023-09-14T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(631, '2023-09-03T17:29:43.154', '2023-09-21T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(631, '2023-09-03T17:29:43.154', '2023-09-21T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(632, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(632, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(633, '2023-09-03T17:29:43.154', '2023-09-11T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(633, '2023-09-03T17:29:43.154', '2023-09-11T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(634, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(634, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(635, '2023-09-03T17:29:43.154', '2023-09-08T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(635, '2023-09-03T17:29:43.154', '2023-09-08T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(636, '2023-09-03T17:29:43.154', '2023-09-21T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(636, '2023-09-03T17:29:43.154', '2023-09-21T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(637, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(637, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(638, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(638, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(639, '2023-09-03T17:29:43.154', '2023-09-11T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(639, '2023-09-03T17:29:43.154', '2023-09-11T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(640, '2023-09-03T17:29:43.154', '2023-09-08T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(640, '2023-09-03T17:29:43.154', '2023-09-08T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(641, '2023-09-03T17:29:43.154', '2023-09-16T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(641, '2023-09-03T17:29:43.154', '2023-09-16T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(642, '2023-09-03T17:29:43.154', '2023-09-12T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(642, '2023-09-03T17:29:43.154', '2023-09-12T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(643, '2023-09-03T17:29:43.154', '2023-09-13T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(643, '2023-09-03T17:29:43.154', '2023-09-13T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(644, '2023-09-03T17:29:43.154', '2023-09-19T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(644, '2023-09-03T17:29:43.154', '2023-09-19T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(645, '2023-09-03T17:29:43.154', '2023-09-22T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(645, '2023-09-03T17:29:43.154', '2023-09-22T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(646, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(646, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(647, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(647, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(648, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(648, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(649, '2023-09-03T17:29:43.154', '2023-09-21T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(649, '2023-09-03T17:29:43.154', '2023-09-21T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(650, '2023-09-03T17:29:43.154', '2023-09-14T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(650, '2023-09-03T17:29:43.154', '2023-09-14T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(651, '2023-09-03T17:29:43.154', '2023-09-14T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(651, '2023-09-03T17:29:43.154', '2023-09-14T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(652, '2023-09-03T17:29:43.154', '2023-09-10T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(652, '2023-09-03T17:29:43.154', '2023-09-10T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(653, '2023-09-03T17:29:43.154', '2023-09-13T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(653, '2023-09-03T17:29:43.154', '2023-09-13T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(654, '2023-09-03T17:29:43.154', '2023-09-18T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(654, '2023-09-03T17:29:43.154', '2023-09-18T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(655, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(655, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(656, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(656, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(657, '2023-09-03T17:29:43.154', '2023-09-12T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(657, '2023-09-03T17:29:43.154', '2023-09-12T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(658, '2023-09-03T17:29:43.154', '2023-09-13T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(658, '2023-09-03T17:29:43.154', '2023-09-13T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(659, '2023-09-03T17:29:43.154', '2023-09-16T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(659, '2023-09-03T17:29:43.154', '2023-09-16T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(660, '2023-09-03T17:29:43.154', '2023-09-08T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(660, '2023-09-03T17:29:43.154', '2023-09-08T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(661, '2023-09-03T17:29:43.154', '2023-09-10T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(661, '2023-09-03T17:29:43.154', '2023-09-10T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(662, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(662, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(663, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(663, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(664, '2023-09-03T17:29:43.154', '2023-09-15T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(664, '2023-09-03T17:29:43.154', '2023-09-15T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(665, '2023-09-03T17:29:43.154', '2023-09-21T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(665, '2023-09-03T17:29:43.154', '2023-09-21T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(666, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(666, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(667, '2023-09-03T17:29:43.154', '2023-09-22T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(667, '2023-09-03T17:29:43.154', '2023-09-22T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(668, '2023-09-03T17:29:43.154', '2023-09-14T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(668, '2023-09-03T17:29:43.154', '2023-09-14T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(669, '2023-09-03T17:29:43.154', '2023-09-14T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(669, '2023-09-03T17:29:43.154', '2023-09-14T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(670, '2023-09-03T17:29:43.154', '2023-09-19T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(670, '2023-09-03T17:29:43.154', '2023-09-19T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(671, '2023-09-03T17:29:43.154', '2023-09-11T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(671, '2023-09-03T17:29:43.154', '2023-09-11T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(672, '2023-09-03T17:29:43.154', '2023-09-13T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(672, '2023-09-03T17:29:43.154', '2023-09-13T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(673, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(673, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(674, '2023-09-03T17:29:43.154', '2023-09-11T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(674, '2023-09-03T17:29:43.154', '2023-09-11T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(675, '2023-09-03T17:29:43.154', '2023-09-11T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(675, '2023-09-03T17:29:43.154', '2023-09-11T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(676, '2023-09-03T17:29:43.154', '2023-09-19T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(676, '2023-09-03T17:29:43.154', '2023-09-19T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(677, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(677, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(678, '2023-09-03T17:29:43.154', '2023-09-22T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(678, '2023-09-03T17:29:43.154', '2023-09-22T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(679, '2023-09-03T17:29:43.154', '2023-09-19T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(679, '2023-09-03T17:29:43.154', '2023-09-19T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(680, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(680, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(681, '2023-09-03T17:29:43.154', '2023-09-11T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(681, '2023-09-03T17:29:43.154', '2023-09-11T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(682, '2023-09-03T17:29:43.154', '2023-09-22T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(682, '2023-09-03T17:29:43.154', '2023-09-22T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(683, '2023-09-03T17:29:43.154', '2023-09-16T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(683, '2023-09-03T17:29:43.154', '2023-09-16T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(684, '2023-09-03T17:29:43.154', '2023-09-15T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(684, '2023-09-03T17:29:43.154', '2023-09-15T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(685, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(685, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(686, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(686, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(687, '2023-09-03T17:29:43.154', '2023-09-10T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(687, '2023-09-03T17:29:43.154', '2023-09-10T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(688, '2023-09-03T17:29:43.154', '2023-09-19T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(688, '2023-09-03T17:29:43.154', '2023-09-19T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(689, '2023-09-03T17:29:43.154', '2023-09-12T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(689, '2023-09-03T17:29:43.154', '2023-09-12T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(690, '2023-09-03T17:29:43.154', '2023-09-11T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(690, '2023-09-03T17:29:43.154', '2023-09-11T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(691, '2023-09-03T17:29:43.154', '2023-09-18T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(691, '2023-09-03T17:29:43.154', '2023-09-18T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(692, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(692, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(693, '2023-09-03T17:29:43.154', '2023-09-22T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(693, '2023-09-03T17:29:43.154', '2023-09-22T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(694, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(694, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(695, '2023-09-03T17:29:43.154', '2023-09-19T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(695, '2023-09-03T17:29:43.154', '2023-09-19T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(696, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(696, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(697, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(697, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(698, '2023-09-03T17:29:43.154', '2023-09-21T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(698, '2023-09-03T17:29:43.154', '2023-09-21T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(699, '2023-09-03T17:29:43.154', '2023-09-21T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(699, '2023-09-03T17:29:43.154', '2023-09-21T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(700, '2023-09-03T17:29:43.154', '2023-09-14T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(700, '2023-09-03T17:29:43.154', '2023-09-14T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(701, '2023-09-03T17:29:43.154', '2023-09-19T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(701, '2023-09-03T17:29:43.154', '2023-09-19T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(702, '2023-09-03T17:29:43.154', '2023-09-21T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(702, '2023-09-03T17:29:43.154', '2023-09-21T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(703, '2023-09-03T17:29:43.154', '2023-09-22T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(703, '2023-09-03T17:29:43.154', '2023-09-22T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(704, '2023-09-03T17:29:43.154', '2023-09-15T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(704, '2023-09-03T17:29:43.154', '2023-09-15T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(705, '2023-09-03T17:29:43.154', '2023-09-10T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(705, '2023-09-03T17:29:43.154', '2023-09-10T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(706, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(706, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(707, '2023-09-03T17:29:43.154', '2023-09-21T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(707, '2023-09-03T17:29:43.154', '2023-09-21T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(708, '2023-09-03T17:29:43.154', '2023-09-14T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(708, '2023-09-03T17:29:43.154', '2023-09-14T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(709, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(709, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(710, '2023-09-03T17:29:43.154', '2023-09-13T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(710, '2023-09-03T17:29:43.154', '2023-09-13T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(711, '2023-09-03T17:29:43.154', '2023-09-08T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(711, '2023-09-03T17:29:43.154', '2023-09-08T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(712, '2023-09-03T17:29:43.154', '2023-09-14T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(712, '2023-09-03T17:29:43.154', '2023-09-14T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(713, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(713, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(714, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(714, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(715, '2023-09-03T17:29:43.154', '2023-09-12T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(715, '2023-09-03T17:29:43.154', '2023-09-12T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(716, '2023-09-03T17:29:43.154', '2023-09-10T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(716, '2023-09-03T17:29:43.154', '2023-09-10T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(717, '2023-09-03T17:29:43.154', '2023-09-08T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(717, '2023-09-03T17:29:43.154', '2023-09-08T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(718, '2023-09-03T17:29:43.154', '2023-09-11T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(718, '2023-09-03T17:29:43.154', '2023-09-11T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(719, '2023-09-03T17:29:43.154', '2023-09-08T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(719, '2023-09-03T17:29:43.154', '2023-09-08T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(720, '2023-09-03T17:29:43.154', '2023-09-13T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(720, '2023-09-03T17:29:43.154', '2023-09-13T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(721, '2023-09-03T17:29:43.154', '2023-09-14T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(721, '2023-09-03T17:29:43.154', '2023-09-14T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(722, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(722, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(723, '2023-09-03T17:29:43.154', '2023-09-21T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(723, '2023-09-03T17:29:43.154', '2023-09-21T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(724, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(724, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(725, '2023-09-03T17:29:43.154', '2023-09-13T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(725, '2023-09-03T17:29:43.154', '2023-09-13T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(726, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(726, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(727, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(727, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(728, '2023-09-03T17:29:43.154', '2023-09-12T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(728, '2023-09-03T17:29:43.154', '2023-09-12T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(729, '2023-09-03T17:29:43.154', '2023-09-11T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(729, '2023-09-03T17:29:43.154', '2023-09-11T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(730, '2023-09-03T17:29:43.154', '2023-09-11T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(730, '2023-09-03T17:29:43.154', '2023-09-11T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(731, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(731, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(732, '2023-09-03T17:29:43.154', '2023-09-15T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(732, '2023-09-03T17:29:43.154', '2023-09-15T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(733, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(733, '2023-09-03T17:29:43.154', '2023-09-17T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(734, '2023-09-03T17:29:43.154', '2023-09-08T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(734, '2023-09-03T17:29:43.154', '2023-09-08T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(735, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(735, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(736, '2023-09-03T17:29:43.154', '2023-09-19T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(736, '2023-09-03T17:29:43.154', '2023-09-19T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(737, '2023-09-03T17:29:43.154', '2023-09-08T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(737, '2023-09-03T17:29:43.154', '2023-09-08T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(738, '2023-09-03T17:29:43.154', '2023-09-19T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(738, '2023-09-03T17:29:43.154', '2023-09-19T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(739, '2023-09-03T17:29:43.154', '2023-09-14T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(739, '2023-09-03T17:29:43.154', '2023-09-14T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(740, '2023-09-03T17:29:43.154', '2023-09-15T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(740, '2023-09-03T17:29:43.154', '2023-09-15T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(741, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(741, '2023-09-03T17:29:43.154', '2023-09-20T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(742, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(742, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(743, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(743, '2023-09-03T17:29:43.154', '2023-09-09T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(744, '2023-09-03T17:29:43.154', '2023-09-15T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(744, '2023-09-03T17:29:43.154', '2023-09-15T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(745, '2023-09-03T17:29:43.154', '2023-09-16T17:29:43.154', 'ACTIVE');
+INSERT INTO purchase_data VALUES(745, '2023-09-03T17:29:43.154', '2023-09-16T17:29:43.154', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(746, '2023-09-03T17:29:43.155', '2023-09-10T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(746, '2023-09-03T17:29:43.155', '2023-09-10T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(747, '2023-09-03T17:29:43.155', '2023-09-22T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(747, '2023-09-03T17:29:43.155', '2023-09-22T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(748, '2023-09-03T17:29:43.155', '2023-09-11T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(748, '2023-09-03T17:29:43.155', '2023-09-11T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(749, '2023-09-03T17:29:43.155', '2023-09-15T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(749, '2023-09-03T17:29:43.155', '2023-09-15T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(750, '2023-09-03T17:29:43.155', '2023-09-21T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(750, '2023-09-03T17:29:43.155', '2023-09-21T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(751, '2023-09-03T17:29:43.155', '2023-09-10T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(751, '2023-09-03T17:29:43.155', '2023-09-10T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(752, '2023-09-03T17:29:43.155', '2023-09-21T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(752, '2023-09-03T17:29:43.155', '2023-09-21T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(753, '2023-09-03T17:29:43.155', '2023-09-12T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(753, '2023-09-03T17:29:43.155', '2023-09-12T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(754, '2023-09-03T17:29:43.155', '2023-09-18T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(754, '2023-09-03T17:29:43.155', '2023-09-18T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(755, '2023-09-03T17:29:43.155', '2023-09-11T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(755, '2023-09-03T17:29:43.155', '2023-09-11T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(756, '2023-09-03T17:29:43.155', '2023-09-14T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(756, '2023-09-03T17:29:43.155', '2023-09-14T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(757, '2023-09-03T17:29:43.155', '2023-09-20T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(757, '2023-09-03T17:29:43.155', '2023-09-20T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(758, '2023-09-03T17:29:43.155', '2023-09-10T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(758, '2023-09-03T17:29:43.155', '2023-09-10T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(759, '2023-09-03T17:29:43.155', '2023-09-21T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(759, '2023-09-03T17:29:43.155', '2023-09-21T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(760, '2023-09-03T17:29:43.155', '2023-09-19T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(760, '2023-09-03T17:29:43.155', '2023-09-19T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(761, '2023-09-03T17:29:43.155', '2023-09-21T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(761, '2023-09-03T17:29:43.155', '2023-09-21T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(762, '2023-09-03T17:29:43.155', '2023-09-11T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(762, '2023-09-03T17:29:43.155', '2023-09-11T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(763, '2023-09-03T17:29:43.155', '2023-09-19T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(763, '2023-09-03T17:29:43.155', '2023-09-19T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(764, '2023-09-03T17:29:43.155', '2023-09-21T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(764, '2023-09-03T17:29:43.155', '2023-09-21T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(765, '2023-09-03T17:29:43.155', '2023-09-21T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(765, '2023-09-03T17:29:43.155', '2023-09-21T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(766, '2023-09-03T17:29:43.155', '2023-09-10T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(766, '2023-09-03T17:29:43.155', '2023-09-10T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(767, '2023-09-03T17:29:43.155', '2023-09-18T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(767, '2023-09-03T17:29:43.155', '2023-09-18T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(768, '2023-09-03T17:29:43.155', '2023-09-13T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(768, '2023-09-03T17:29:43.155', '2023-09-13T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(769, '2023-09-03T17:29:43.155', '2023-09-19T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(769, '2023-09-03T17:29:43.155', '2023-09-19T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(770, '2023-09-03T17:29:43.155', '2023-09-13T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(770, '2023-09-03T17:29:43.155', '2023-09-13T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(771, '2023-09-03T17:29:43.155', '2023-09-21T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(771, '2023-09-03T17:29:43.155', '2023-09-21T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(772, '2023-09-03T17:29:43.155', '2023-09-22T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(772, '2023-09-03T17:29:43.155', '2023-09-22T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(773, '2023-09-03T17:29:43.155', '2023-09-17T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(773, '2023-09-03T17:29:43.155', '2023-09-17T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(774, '2023-09-03T17:29:43.155', '2023-09-13T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(774, '2023-09-03T17:29:43.155', '2023-09-13T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(775, '2023-09-03T17:29:43.155', '2023-09-08T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(775, '2023-09-03T17:29:43.155', '2023-09-08T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(776, '2023-09-03T17:29:43.155', '2023-09-22T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(776, '2023-09-03T17:29:43.155', '2023-09-22T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(777, '2023-09-03T17:29:43.155', '2023-09-19T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(777, '2023-09-03T17:29:43.155', '2023-09-19T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(778, '2023-09-03T17:29:43.155', '2023-09-10T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(778, '2023-09-03T17:29:43.155', '2023-09-10T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(779, '2023-09-03T17:29:43.155', '2023-09-18T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(779, '2023-09-03T17:29:43.155', '2023-09-18T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(780, '2023-09-03T17:29:43.155', '2023-09-19T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(780, '2023-09-03T17:29:43.155', '2023-09-19T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(781, '2023-09-03T17:29:43.155', '2023-09-21T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(781, '2023-09-03T17:29:43.155', '2023-09-21T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(782, '2023-09-03T17:29:43.155', '2023-09-14T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(782, '2023-09-03T17:29:43.155', '2023-09-14T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(783, '2023-09-03T17:29:43.155', '2023-09-08T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(783, '2023-09-03T17:29:43.155', '2023-09-08T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(784, '2023-09-03T17:29:43.155', '2023-09-22T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(784, '2023-09-03T17:29:43.155', '2023-09-22T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(785, '2023-09-03T17:29:43.155', '2023-09-18T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(785, '2023-09-03T17:29:43.155', '2023-09-18T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(786, '2023-09-03T17:29:43.155', '2023-09-11T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(786, '2023-09-03T17:29:43.155', '2023-09-11T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(787, '2023-09-03T17:29:43.155', '2023-09-18T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(787, '2023-09-03T17:29:43.155', '2023-09-18T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(788, '2023-09-03T17:29:43.155', '2023-09-18T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(788, '2023-09-03T17:29:43.155', '2023-09-18T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(789, '2023-09-03T17:29:43.155', '2023-09-13T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(789, '2023-09-03T17:29:43.155', '2023-09-13T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(790, '2023-09-03T17:29:43.155', '2023-09-13T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(790, '2023-09-03T17:29:43.155', '2023-09-13T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(791, '2023-09-03T17:29:43.155', '2023-09-14T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(791, '2023-09-03T17:29:43.155', '2023-09-14T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(792, '2023-09-03T17:29:43.155', '2023-09-19T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(792, '2023-09-03T17:29:43.155', '2023-09-19T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(793, '2023-09-03T17:29:43.155', '2023-09-15T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(793, '2023-09-03T17:29:43.155', '2023-09-15T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(794, '2023-09-03T17:29:43.155', '2023-09-19T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(794, '2023-09-03T17:29:43.155', '2023-09-19T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(795, '2023-09-03T17:29:43.155', '2023-09-22T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(795, '2023-09-03T17:29:43.155', '2023-09-22T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(796, '2023-09-03T17:29:43.155', '2023-09-11T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(796, '2023-09-03T17:29:43.155', '2023-09-11T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(797, '2023-09-03T17:29:43.155', '2023-09-09T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(797, '2023-09-03T17:29:43.155', '2023-09-09T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(798, '2023-09-03T17:29:43.155', '2023-09-09T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(798, '2023-09-03T17:29:43.155', '2023-09-09T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(799, '2023-09-03T17:29:43.155', '2023-09-09T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(799, '2023-09-03T17:29:43.155', '2023-09-09T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(800, '2023-09-03T17:29:43.155', '2023-09-13T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(800, '2023-09-03T17:29:43.155', '2023-09-13T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(801, '2023-09-03T17:29:43.155', '2023-09-19T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(801, '2023-09-03T17:29:43.155', '2023-09-19T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(802, '2023-09-03T17:29:43.155', '2023-09-20T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(802, '2023-09-03T17:29:43.155', '2023-09-20T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(803, '2023-09-03T17:29:43.155', '2023-09-22T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(803, '2023-09-03T17:29:43.155', '2023-09-22T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(804, '2023-09-03T17:29:43.155', '2023-09-08T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(804, '2023-09-03T17:29:43.155', '2023-09-08T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(805, '2023-09-03T17:29:43.155', '2023-09-19T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(805, '2023-09-03T17:29:43.155', '2023-09-19T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(806, '2023-09-03T17:29:43.155', '2023-09-11T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(806, '2023-09-03T17:29:43.155', '2023-09-11T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(807, '2023-09-03T17:29:43.155', '2023-09-10T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(807, '2023-09-03T17:29:43.155', '2023-09-10T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(808, '2023-09-03T17:29:43.155', '2023-09-10T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(808, '2023-09-03T17:29:43.155', '2023-09-10T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(809, '2023-09-03T17:29:43.155', '2023-09-21T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(809, '2023-09-03T17:29:43.155', '2023-09-21T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(810, '2023-09-03T17:29:43.155', '2023-09-13T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(810, '2023-09-03T17:29:43.155', '2023-09-13T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(811, '2023-09-03T17:29:43.155', '2023-09-17T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(811, '2023-09-03T17:29:43.155', '2023-09-17T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(812, '2023-09-03T17:29:43.155', '2023-09-13T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(812, '2023-09-03T17:29:43.155', '2023-09-13T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(813, '2023-09-03T17:29:43.155', '2023-09-20T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(813, '2023-09-03T17:29:43.155', '2023-09-20T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(814, '2023-09-03T17:29:43.155', '2023-09-13T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(814, '2023-09-03T17:29:43.155', '2023-09-13T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(815, '2023-09-03T17:29:43.155', '2023-09-08T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(815, '2023-09-03T17:29:43.155', '2023-09-08T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(816, '2023-09-03T17:29:43.155', '2023-09-22T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(816, '2023-09-03T17:29:43.155', '2023-09-22T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(817, '2023-09-03T17:29:43.155', '2023-09-13T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(817, '2023-09-03T17:29:43.155', '2023-09-13T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(818, '2023-09-03T17:29:43.155', '2023-09-13T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(818, '2023-09-03T17:29:43.155', '2023-09-13T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(819, '2023-09-03T17:29:43.155', '2023-09-21T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(819, '2023-09-03T17:29:43.155', '2023-09-21T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(820, '2023-09-03T17:29:43.155', '2023-09-09T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(820, '2023-09-03T17:29:43.155', '2023-09-09T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(821, '2023-09-03T17:29:43.155', '2023-09-16T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(821, '2023-09-03T17:29:43.155', '2023-09-16T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(822, '2023-09-03T17:29:43.155', '2023-09-09T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(822, '2023-09-03T17:29:43.155', '2023-09-09T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(823, '2023-09-03T17:29:43.155', '2023-09-17T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(823, '2023-09-03T17:29:43.155', '2023-09-17T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(824, '2023-09-03T17:29:43.155', '2023-09-19T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(824, '2023-09-03T17:29:43.155', '2023-09-19T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(825, '2023-09-03T17:29:43.155', '2023-09-10T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(825, '2023-09-03T17:29:43.155', '2023-09-10T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(826, '2023-09-03T17:29:43.155', '2023-09-11T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(826, '2023-09-03T17:29:43.155', '2023-09-11T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(827, '2023-09-03T17:29:43.155', '2023-09-13T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(827, '2023-09-03T17:29:43.155', '2023-09-13T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(828, '2023-09-03T17:29:43.155', '2023-09-10T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(828, '2023-09-03T17:29:43.155', '2023-09-10T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(829, '2023-09-03T17:29:43.155', '2023-09-12T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(829, '2023-09-03T17:29:43.155', '2023-09-12T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(830, '2023-09-03T17:29:43.155', '2023-09-17T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(830, '2023-09-03T17:29:43.155', '2023-09-17T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(831, '2023-09-03T17:29:43.155', '2023-09-19T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(831, '2023-09-03T17:29:43.155', '2023-09-19T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(832, '2023-09-03T17:29:43.155', '2023-09-19T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(832, '2023-09-03T17:29:43.155', '2023-09-19T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(833, '2023-09-03T17:29:43.155', '2023-09-11T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(833, '2023-09-03T17:29:43.155', '2023-09-11T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(834, '2023-09-03T17:29:43.155', '2023-09-12T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(834, '2023-09-03T17:29:43.155', '2023-09-12T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(835, '2023-09-03T17:29:43.155', '2023-09-19T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(835, '2023-09-03T17:29:43.155', '2023-09-19T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(836, '2023-09-03T17:29:43.155', '2023-09-08T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(836, '2023-09-03T17:29:43.155', '2023-09-08T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(837, '2023-09-03T17:29:43.155', '2023-09-22T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(837, '2023-09-03T17:29:43.155', '2023-09-22T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(838, '2023-09-03T17:29:43.155', '2023-09-16T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(838, '2023-09-03T17:29:43.155', '2023-09-16T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(839, '2023-09-03T17:29:43.155', '2023-09-11T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(839, '2023-09-03T17:29:43.155', '2023-09-11T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(840, '2023-09-03T17:29:43.155', '2023-09-20T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(840, '2023-09-03T17:29:43.155', '2023-09-20T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(841, '2023-09-03T17:29:43.155', '2023-09-10T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(841, '2023-09-03T17:29:43.155', '2023-09-10T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(842, '2023-09-03T17:29:43.155', '2023-09-09T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(842, '2023-09-03T17:29:43.155', '2023-09-09T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(843, '2023-09-03T17:29:43.155', '2023-09-21T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(843, '2023-09-03T17:29:43.155', '2023-09-21T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(844, '2023-09-03T17:29:43.155', '2023-09-12T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(844, '2023-09-03T17:29:43.155', '2023-09-12T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(845, '2023-09-03T17:29:43.155', '2023-09-21T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(845, '2023-09-03T17:29:43.155', '2023-09-21T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(846, '2023-09-03T17:29:43.155', '2023-09-19T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(846, '2023-09-03T17:29:43.155', '2023-09-19T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(847, '2023-09-03T17:29:43.155', '2023-09-21T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(847, '2023-09-03T17:29:43.155', '2023-09-21T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(848, '2023-09-03T17:29:43.155', '2023-09-20T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(848, '2023-09-03T17:29:43.155', '2023-09-20T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(849, '2023-09-03T17:29:43.155', '2023-09-12T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(849, '2023-09-03T17:29:43.155', '2023-09-12T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(850, '2023-09-03T17:29:43.155', '2023-09-22T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(850, '2023-09-03T17:29:43.155', '2023-09-22T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(851, '2023-09-03T17:29:43.155', '2023-09-17T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(851, '2023-09-03T17:29:43.155', '2023-09-17T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(852, '2023-09-03T17:29:43.155', '2023-09-19T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(852, '2023-09-03T17:29:43.155', '2023-09-19T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(853, '2023-09-03T17:29:43.155', '2023-09-20T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(853, '2023-09-03T17:29:43.155', '2023-09-20T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(854, '2023-09-03T17:29:43.155', '2023-09-13T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(854, '2023-09-03T17:29:43.155', '2023-09-13T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(855, '2023-09-03T17:29:43.155', '2023-09-12T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(855, '2023-09-03T17:29:43.155', '2023-09-12T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(856, '2023-09-03T17:29:43.155', '2023-09-09T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(856, '2023-09-03T17:29:43.155', '2023-09-09T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(857, '2023-09-03T17:29:43.155', '2023-09-19T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(857, '2023-09-03T17:29:43.155', '2023-09-19T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(858, '2023-09-03T17:29:43.155', '2023-09-21T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(858, '2023-09-03T17:29:43.155', '2023-09-21T17:29:43.155', 'ACTIVE', 0);
 
-INSERT INTO purchase_data VALUES(859, '2023-09-03T17:29:43.155', '2023-09-12T17:29:43.155', 'ACTIVE');
+INSERT INTO purchase_data VALUES(859, '2023-09-03T17:29:43.155', '2023-09-12T17:29:43.155', 'ACTIVE', 0);
 
 INSERT INTO purchase_data_gift_certificate VALUES(220, 238);
 
@@ -34,42 +34,57 @@ create table gift_certificate
     description      text           not null,
     price            decimal(10, 2) not null,
     duration         integer        not null,
-    create_date      nvarchar(23)   not null,
-    last_update_date nvarchar(23)   not null
+    create_date      datetime(3)    not null,
+    last_update_date datetime(3)    not null,
+    version          bigint         not null default 0,
+    KEY `idx_gift_certificate_create_date` (`create_date`),
+    KEY `idx_gift_certificate_last_update_date` (`last_update_date`),
+    FULLTEXT KEY `ft_gift_certificate_name` (`name`),
+    FULLTEXT KEY `ft_gift_certificate_description` (`description`)
 );
 
 create table tag
 (
-    id   BIGINT        not null auto_increment primary key,
-    name nvarchar(255) not null unique
+    id      BIGINT        not null auto_increment primary key,
+    name    nvarchar(255) not null unique,
+    version bigint        not null default 0,
+    FULLTEXT KEY `ft_tag_name` (`name`)
 );
 
 create table user
 (
     id       bigint        not null auto_increment primary key,
     username nvarchar(255) not null unique,
-    password nvarchar(255) not null
+    password nvarchar(255) not null,
+    version  bigint        not null default 0
 );
 
 create table roles
 (
-    id   BIGINT       not null auto_increment primary key,
-    name varchar(255) not null unique
+    id      BIGINT       not null auto_increment primary key,
+    name    varchar(255) not null unique,
+    version bigint       not null default 0
 );
 
 create table orders
 (
     id            bigint         not null auto_increment primary key,
     cost          decimal(10, 2) not null,
-    purchase_date datetime(3)    not null
+    purchase_date datetime(3)    not null,
+    version       bigint         not null default 0,
+    KEY `idx_orders_purchase_date` (`purchase_date`)
 );
 
 create table purchase_data
 (
-    id     bigint                     not null auto_increment primary key,
-    start  datetime(6)                not null,
-    end    datetime(6)                not null,
-    status enum ('ACTIVE', 'EXPIRED') not null
+    id      bigint                     not null auto_increment primary key,
+    start   datetime(6)                not null,
+    end     datetime(6)                not null,
+    status  enum ('ACTIVE', 'EXPIRED') not null,
+    version bigint                     not null default 0,
+    KEY `idx_purchase_data_status_end` (`status`, `end`),
+    KEY `idx_purchase_data_start` (`start`),
+    KEY `idx_purchase_data_end` (`end`)
 );
 
 create table gift_certificate_tag
@@ -77,6 +92,7 @@ create table gift_certificate_tag
     gift_certificate_id bigint not null,
     tag_id              bigint not null,
     UNIQUE KEY `uniq_id1` (`gift_certificate_id`, `tag_id`),
+    KEY `idx_gift_certificate_tag_tag` (`tag_id`, `gift_certificate_id`),
     foreign key (gift_certificate_id) references gift_certificate (id) ON DELETE CASCADE,
     foreign key (tag_id) references tag (id) ON DELETE CASCADE
 );
@@ -86,6 +102,7 @@ create table order_gift_certificate
     order_id            bigint not null,
     gift_certificate_id bigint not null,
     KEY `uniq_id2` (`order_id`, `gift_certificate_id`),
+    KEY `idx_order_gift_certificate_gift_certificate` (`gift_certificate_id`, `order_id`),
     foreign key (order_id) references orders (id) ON DELETE CASCADE,
     foreign key (gift_certificate_id) references gift_certificate (id) ON DELETE CASCADE
 );
@@ -95,6 +112,7 @@ create table purchase_data_gift_certificate
     purchase_data_id    bigint not null,
     gift_certificate_id bigint,
     KEY `uniq_id3` (`purchase_data_id`, `gift_certificate_id`),
+    KEY `idx_purchase_data_gift_certificate_gift_certificate` (`gift_certificate_id`, `purchase_data_id`),
     foreign key (purchase_data_id) references purchase_data (id) ON DELETE CASCADE,
     foreign key (gift_certificate_id) references gift_certificate (id) ON DELETE CASCADE
 );
@@ -114,6 +132,7 @@ create table user_orders
     user_id  bigint,
     order_id bigint not null,
     UNIQUE KEY `uniq_id5` (`user_id`, `order_id`),
+    KEY `idx_user_orders_order` (`order_id`, `user_id`),
     foreign key (user_id) references user (id) ON DELETE CASCADE,
     foreign key (order_id) references orders (id) ON DELETE CASCADE
 );
@@ -144,8 +163,8 @@ create table gift_certificate_audit
     description      varchar(255),
     price            decimal(10, 2),
     duration         integer,
-    create_date      varchar(255),
-    last_update_date varchar(255),
+    create_date      datetime(3),
+    last_update_date datetime(3),
     primary key (id, REV)
 );
 
@@ -0,0 +1,50 @@
+package epam.com.esm.config.execution;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+public class PinningMonitorTest {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withInitializer(c -> c.getBeanFactory().setConversionService(
+                    ApplicationConversionService.getSharedInstance()
+            ))
+            .withBean(PinningMonitor.class)
+            .withPropertyValues("execution.pinned-threshold=20");
+
+    @Test
+    public void willStayInactiveInPlatformMode() {
+        runner.withPropertyValues("execution.mode=platform").run(context -> {
+            PinningMonitor monitor = context.getBean(PinningMonitor.class);
+
+            Assertions.assertEquals(ExecutionMode.PLATFORM, monitor.getMode());
+            Assertions.assertFalse(monitor.isActive());
+            Assertions.assertEquals(0, monitor.getPinnedTotal());
+            Assertions.assertTrue(monitor.getSites().isEmpty());
+        });
+    }
+
+    @Test
+    public void willStreamPinnedEventsInVirtualMode() throws Exception {
+        Assumptions.assumeTrue(isStreamingSupported());
+        PinningMonitor monitor = new PinningMonitor(ExecutionMode.VIRTUAL, 20);
+
+        monitor.start();
+        Assertions.assertTrue(monitor.isActive());
+
+        monitor.stop();
+        Assertions.assertFalse(monitor.isActive());
+    }
+
+    private static boolean isStreamingSupported() {
+        try {
+            Class.forName("jdk.jfr.consumer.RecordingStream");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package epam.com.esm.config.schema;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class SchemaIndexTest {
+
+    private final SchemaIndex index = SchemaIndex.index("purchase_data", "idx_status_end", "status", "end");
+
+    private final SchemaIndex fullText = SchemaIndex.fullText("tag", "ft_tag_name", "name");
+
+    @Test
+    public void willBeSatisfiedByIndexWithSameColumns() {
+        Assertions.assertTrue(index.isSatisfiedBy("purchase_data", false, Arrays.asList("status", "end")));
+    }
+
+    @Test
+    public void willBeSatisfiedByIndexStartingWithSameColumns() {
+        Assertions.assertTrue(index.isSatisfiedBy("purchase_data", false, Arrays.asList("status", "end", "id")));
+    }
+
+    @Test
+    public void willBeSatisfiedIgnoringCase() {
+        Assertions.assertTrue(index.isSatisfiedBy("PURCHASE_DATA", false, Arrays.asList("STATUS", "End")));
+    }
+
+    @Test
+    public void willNotBeSatisfiedByIndexWithOtherColumnOrder() {
+        Assertions.assertFalse(index.isSatisfiedBy("purchase_data", false, Arrays.asList("end", "status")));
+    }
+
+    @Test
+    public void willNotBeSatisfiedByIndexWithFewerColumns() {
+        Assertions.assertFalse(index.isSatisfiedBy("purchase_data", false, Collections.singletonList("status")));
+    }
+
+    @Test
+    public void willNotBeSatisfiedByIndexOfOtherTable() {
+        Assertions.assertFalse(index.isSatisfiedBy("orders", false, Arrays.asList("status", "end")));
+    }
+
+    @Test
+    public void willNotBeSatisfiedByFullTextIndex() {
+        Assertions.assertFalse(index.isSatisfiedBy("purchase_data", true, Arrays.asList("status", "end")));
+    }
+
+    @Test
+    public void willBeSatisfiedByFullTextIndexWithSameColumnsOnly() {
+        Assertions.assertTrue(fullText.isSatisfiedBy("tag", true, Collections.singletonList("name")));
+        Assertions.assertFalse(fullText.isSatisfiedBy("tag", true, Arrays.asList("name", "id")));
+        Assertions.assertFalse(fullText.isSatisfiedBy("tag", false, Collections.singletonList("name")));
+    }
+
+    @Test
+    public void willGenerateCreateIndexStatements() {
+        Assertions.assertEquals("CREATE INDEX `idx_status_end` ON `purchase_data` (`status`, `end`)", index.toDdl());
+        Assertions.assertEquals("CREATE FULLTEXT INDEX `ft_tag_name` ON `tag` (`name`)", fullText.toDdl());
+    }
+}
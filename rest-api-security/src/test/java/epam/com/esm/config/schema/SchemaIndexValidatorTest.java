@@ -0,0 +1,71 @@
+package epam.com.esm.config.schema;
+
+import epam.com.esm.exception.types.UnexpectedException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class SchemaIndexValidatorTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Test
+    public void willSkipCheckIfDisabled() {
+        SchemaIndexValidator validator = new SchemaIndexValidator(dataSource, false);
+
+        validator.run(null);
+        verifyNoInteractions(dataSource);
+    }
+
+    @Test
+    public void willPassIfAllIndexesExist() throws SQLException {
+        //initial data
+        Connection c = SchemaIndexesTest.connectionWith(SchemaIndexesTest.rowsOf(SchemaIndexes.EXPECTED));
+        SchemaIndexValidator validator = new SchemaIndexValidator(dataSource, true);
+
+        when(dataSource.getConnection()).thenReturn(c);
+
+        Assertions.assertDoesNotThrow(() -> validator.run(null));
+        verify(c).close();
+    }
+
+    @Test
+    public void willFailIfIndexIsMissing() throws SQLException {
+        //initial data
+        List<SchemaIndex> existing = new ArrayList<>(SchemaIndexes.EXPECTED);
+        existing.remove(SchemaIndexesTest.find("idx_orders_purchase_date"));
+        Connection c = SchemaIndexesTest.connectionWith(SchemaIndexesTest.rowsOf(existing));
+        SchemaIndexValidator validator = new SchemaIndexValidator(dataSource, true);
+
+        when(dataSource.getConnection()).thenReturn(c);
+
+        UnexpectedException e = Assertions.assertThrows(UnexpectedException.class, () -> validator.run(null));
+        Assertions.assertEquals("Schema indexes are missing: orders.idx_orders_purchase_date[purchase_date]",
+                                e.getMessage());
+    }
+
+    @Test
+    public void willFailWithCauseIfIndexMetadataCantBeRead() throws SQLException {
+        //initial data
+        SchemaIndexValidator validator = new SchemaIndexValidator(dataSource, true);
+
+        when(dataSource.getConnection()).thenThrow(new SQLException("Access denied"));
+
+        UnexpectedException e = Assertions.assertThrows(UnexpectedException.class, () -> validator.run(null));
+        Assertions.assertEquals("Schema index check failed: Access denied", e.getMessage());
+    }
+}
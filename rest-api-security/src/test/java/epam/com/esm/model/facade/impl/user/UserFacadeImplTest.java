@@ -6,12 +6,15 @@ import epam.com.esm.persistence.entity.impl.products.Tag;
 import epam.com.esm.persistence.entity.impl.purchase.PurchaseData;
 import epam.com.esm.persistence.entity.impl.user.User;
 import epam.com.esm.utils.converters.dto.custom.DtoDataTagConverter;
+import epam.com.esm.utils.dashboard.facade.DtoUserDashboard;
+import epam.com.esm.utils.dashboard.service.ObjectUserDashboard;
 import epam.com.esm.utils.hateoas.wrappers.WrappedCollection;
 import epam.com.esm.utils.search.data.AbstractDataHandler;
 import epam.com.esm.utils.search.data.impl.action.OrderDataHandler;
 import epam.com.esm.utils.search.data.impl.products.TagDataHandler;
 import epam.com.esm.utils.search.data.impl.purchase.PurchaseDataHandler;
 import epam.com.esm.utils.search.data.impl.user.UserDataHandler;
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
 import epam.com.esm.utils.search.transport.response.PageDataResponse;
 import epam.com.esm.utils.search.transport.response.SearchParamResponse;
 import epam.com.esm.utils.statistics.facade.DtoDataTag;
@@ -28,6 +31,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.context.request.WebRequest;
 
@@ -51,6 +55,9 @@ public class UserFacadeImplTest {
     @Mock
     public OrderDtoVerifier orderDtoVerifier;
 
+    @Spy
+    public FilterMetadataRegistry registry = new FilterMetadataRegistry();
+
     @InjectMocks
     public UserFacadeImpl userFacade;
 
@@ -121,7 +128,7 @@ public class UserFacadeImplTest {
         WebRequest webRequest = mock(WebRequest.class);
 
         //initial data
-        AbstractDataHandler<User, UserDtoResponse> adh = new UserDataHandler();
+        AbstractDataHandler<User, UserDtoResponse> adh = new UserDataHandler(registry);
         SearchParamResponse<User> spResp = new SearchParamResponse<>();
 
         //find all
@@ -161,7 +168,7 @@ public class UserFacadeImplTest {
 
         //initial data
         User user = getProperUser();
-        AbstractDataHandler<Order, OrderDtoResponse> adh = new OrderDataHandler();
+        AbstractDataHandler<Order, OrderDtoResponse> adh = new OrderDataHandler(registry);
         SearchParamResponse<Order> spResp = new SearchParamResponse<>();
 
         //find orders
@@ -184,7 +191,7 @@ public class UserFacadeImplTest {
 
         //initial data
         User user = getProperUser();
-        AbstractDataHandler<PurchaseData, PurchaseDataDtoResponse> adh = new PurchaseDataHandler();
+        AbstractDataHandler<PurchaseData, PurchaseDataDtoResponse> adh = new PurchaseDataHandler(registry);
         SearchParamResponse<PurchaseData> spResp = new SearchParamResponse<>();
 
         //find gift certificates
@@ -207,7 +214,7 @@ public class UserFacadeImplTest {
 
         //initial data
         User user = getProperUser();
-        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler();
+        AbstractDataHandler<Tag, TagDtoResponse> adh = new TagDataHandler(registry);
         SearchParamResponse<Tag> spResp = new SearchParamResponse<>();
 
         //find tags
@@ -256,4 +263,32 @@ public class UserFacadeImplTest {
         WrappedCollection<DtoDataTag> wc = userFacade.findTagsWithMaxCount(user.getId());
         Assertions.assertEquals(resp, wc.getItems());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void willFindDashboard() {
+        //mock web request
+        WebRequest webRequest = mock(WebRequest.class);
+
+        //initial data
+        User user = getProperUser();
+        UserDtoResponse found = new UserDtoResponse(user);
+        found.setOrders(new ArrayList<>());
+        ObjectUserDashboard dashboard = new ObjectUserDashboard(new SearchParamResponse<>(),
+                                                                new SearchParamResponse<>(),
+                                                                new SearchParamResponse<>(), new ArrayList<>());
+
+        //find dashboard
+        when(userService.findDashboard(user.getId(), new OrderDataHandler(registry).processSearch(webRequest),
+                                       new PurchaseDataHandler(registry).processSearch(webRequest),
+                                       new TagDataHandler(registry).processSearch(webRequest))).thenReturn(dashboard);
+
+        //generate response
+        DtoUserDashboard resp = userFacade.findDashboard(webRequest, found);
+        Assertions.assertEquals(user.getUsername(), resp.getUser().getUsername());
+        Assertions.assertNull(resp.getUser().getOrders());
+        Assertions.assertEquals(0, resp.getOrdersFound());
+        Assertions.assertEquals(0, resp.getPurchasesFound());
+        Assertions.assertEquals(0, resp.getTagsFound());
+        Assertions.assertEquals(0, resp.getPopularTagsFound());
+    }
+}
@@ -9,6 +9,9 @@ import epam.com.esm.persistence.repository.BaseRepository;
 import epam.com.esm.persistence.repository.crud.BaseCrudRepository;
 import epam.com.esm.persistence.repository.impl.action.OrderRepository;
 import epam.com.esm.persistence.repository.impl.products.GiftCertificateRepository;
+import epam.com.esm.persistence.repository.scroll.ScrollRepository;
+import epam.com.esm.utils.batch.service.ObjectBatchItem;
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
 import epam.com.esm.utils.search.transport.request.SearchParamRequest;
 import epam.com.esm.utils.search.transport.response.SearchParamResponse;
 import org.junit.jupiter.api.Assertions;
@@ -23,10 +26,16 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static epam.com.esm.model.suppliers.service.action.OrderServiceSupplier.getProperOrder;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 
@@ -45,6 +54,12 @@ public class OrderServiceImplTest {
     @Mock
     private PurchaseService purchaseService;
 
+    @Mock
+    private ScrollRepository scrollRepo;
+
+    @Mock
+    private FilterMetadataRegistry registry;
+
     @InjectMocks
     private OrderServiceImpl oService;
 
@@ -61,6 +76,22 @@ public class OrderServiceImplTest {
         Assertions.assertEquals(o, created);
     }
 
+    @Test
+    public void willCreateAll() {
+        //initial data
+        Order o = getProperOrder();
+        List<ObjectBatchItem> items = Arrays.asList(new ObjectBatchItem(0, o), new ObjectBatchItem(1, "Rejected"));
+        List<Order> assembled = Collections.singletonList(o);
+
+        //assemble orders
+        when(purchaseService.assembleOrders(items)).thenReturn(assembled);
+
+        //generate response
+        List<ObjectBatchItem> created = oService.createAll(items);
+        verify(oRepo).batchInsert(assembled);
+        Assertions.assertEquals(items, created);
+    }
+
     @Test
     public void willFindById() {
         //initial data
@@ -139,13 +170,13 @@ public class OrderServiceImplTest {
         when(oRepo.existsById(o.getId())).thenReturn(true);
 
         //find all by id
-        when(gcRepo.findAll(ArgumentMatchers.<Specification<GiftCertificate>>any())).thenReturn(p.getContent());
         when(gcRepo.findAll(ArgumentMatchers.<Specification<GiftCertificate>>any(),
                             ArgumentMatchers.<PageRequest>any())).thenReturn(p);
 
         //generate response
         SearchParamResponse<GiftCertificate> oResp = oService.findGiftCertificates(o.getId(), spReq);
         Assertions.assertEquals(spResp.getItems(), oResp.getItems());
+        verify(gcRepo, never()).count(ArgumentMatchers.<Specification<GiftCertificate>>any());
     }
 
     @Test
@@ -158,4 +189,18 @@ public class OrderServiceImplTest {
         when(oRepo.existsById(o.getId())).thenReturn(false);
         Assertions.assertThrows(NotFoundException.class, () -> oService.findGiftCertificates(o.getId(), spReq));
     }
+
+    @Test
+    public void willExport() {
+        //initial data
+        SearchParamRequest spReq = new SearchParamRequest();
+        Consumer<Order> consumer = o -> {};
+
+        //scroll orders with fetched users
+        when(scrollRepo.scroll(eq(Order.class), ArgumentMatchers.<Specification<Order>>any(), eq(consumer),
+                               eq("user"))).thenReturn(2L);
+
+        //generate response
+        Assertions.assertEquals(2L, oService.export(spReq, consumer));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,119 @@
+package epam.com.esm.model.service.impl.products;
+
+import epam.com.esm.persistence.cache.CatalogCacheEvictor;
+import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
+import epam.com.esm.persistence.entity.impl.products.Tag;
+import epam.com.esm.persistence.repository.impl.products.GiftCertificateRepository;
+import epam.com.esm.persistence.repository.impl.products.TagRepository;
+import epam.com.esm.utils.imports.ImportLine;
+import epam.com.esm.utils.imports.ImportMode;
+import epam.com.esm.utils.imports.ImportReport;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CatalogImportServiceTest {
+
+    @Mock
+    private GiftCertificateRepository gcRepo;
+
+    @Mock
+    private TagRepository tRepo;
+
+    @Mock
+    private CatalogCacheEvictor cacheEvictor;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleTransactionStatus status;
+
+    private CatalogImportService importService;
+
+    @BeforeEach
+    public void init() {
+        status = new SimpleTransactionStatus();
+        importService = new CatalogImportService(gcRepo, tRepo, cacheEvictor, transactionManager, 2);
+        when(transactionManager.getTransaction(ArgumentMatchers.any())).thenReturn(status);
+    }
+
+    @Test
+    public void willImportInChunks() {
+        //initial data
+        List<ImportLine> lines = Arrays.asList(line(1, "first", "spa"), new ImportLine(2, "Price is empty"),
+                                               line(3, "second", "SPA"), line(4, "FIRST", "spa"),
+                                               line(5, "third", "food"));
+        Map<String, Long> ids = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        ids.put("spa", 1L);
+        ids.put("food", 2L);
+
+        //import lines
+        when(gcRepo.findExistingNames(ArgumentMatchers.any())).thenReturn(Collections.emptySet());
+        when(tRepo.upsertAll(ArgumentMatchers.any())).thenReturn(1);
+        when(tRepo.findIdsByName(ArgumentMatchers.any())).thenReturn(ids);
+
+        //generate response
+        ImportReport report = importService.importCatalog(lines.iterator(), ImportMode.CHUNK);
+        verify(gcRepo, times(3)).batchInsert(ArgumentMatchers.any());
+        verify(transactionManager, times(3)).commit(ArgumentMatchers.any());
+        Assertions.assertEquals(5, report.getRead());
+        Assertions.assertEquals(3, report.getImported());
+        Assertions.assertEquals(2, report.getRejected());
+        Assertions.assertEquals(3, report.getTagsCreated());
+        Assertions.assertEquals(Arrays.asList(2L, 4L), Arrays.asList(report.getErrors().get(0).getLine(),
+                                                                     report.getErrors().get(1).getLine()));
+        Assertions.assertEquals(1L, lines.get(2).getGiftCertificate().getTags().get(0).getId());
+        Assertions.assertEquals(3, importService.getImportedTotal());
+    }
+
+    @Test
+    public void willRollbackAllOnRejection() {
+        //initial data
+        List<ImportLine> lines = Arrays.asList(line(1, "first", "spa"), line(2, "second", "spa"),
+                                               line(3, "third", "spa"));
+        Set<String> existing = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        existing.add("second");
+
+        //import lines
+        when(gcRepo.findExistingNames(ArgumentMatchers.any())).thenReturn(existing);
+
+        //generate response
+        ImportReport report = importService.importCatalog(lines.iterator(), ImportMode.ALL);
+        verify(gcRepo, never()).batchInsert(ArgumentMatchers.any());
+        Assertions.assertTrue(status.isRollbackOnly());
+        Assertions.assertEquals(3, report.getRead());
+        Assertions.assertEquals(0, report.getImported());
+        Assertions.assertEquals(1, report.getRejected());
+        Assertions.assertEquals(2, report.getErrors().get(0).getLine());
+    }
+
+    private static ImportLine line(long line, String name, String tagName) {
+        Tag tag = new Tag();
+        tag.setName(tagName);
+        GiftCertificate gc = new GiftCertificate();
+        gc.setName(name);
+        gc.setTags(new ArrayList<>(Collections.singletonList(tag)));
+        return new ImportLine(line, gc);
+    }
+}
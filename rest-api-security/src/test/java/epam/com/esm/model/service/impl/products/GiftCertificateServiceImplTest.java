@@ -3,14 +3,19 @@ package epam.com.esm.model.service.impl.products;
 import epam.com.esm.exception.types.AlreadyExistsException;
 import epam.com.esm.exception.types.InputException;
 import epam.com.esm.exception.types.NotFoundException;
+import epam.com.esm.persistence.cache.CatalogCacheEvictor;
 import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
 import epam.com.esm.persistence.entity.impl.products.Tag;
 import epam.com.esm.persistence.repository.BaseRepository;
 import epam.com.esm.persistence.repository.crud.BaseCrudRepository;
 import epam.com.esm.persistence.repository.impl.products.GiftCertificateRepository;
 import epam.com.esm.persistence.repository.impl.products.TagRepository;
+import epam.com.esm.persistence.repository.scroll.ScrollRepository;
+import epam.com.esm.persistence.repository.version.VersionRepository;
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
 import epam.com.esm.utils.search.transport.request.SearchParamRequest;
 import epam.com.esm.utils.search.transport.response.SearchParamResponse;
+import epam.com.esm.utils.versions.VersionStamp;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -27,6 +32,7 @@ import java.util.Collections;
 import java.util.Optional;
 
 import static epam.com.esm.model.suppliers.service.products.GiftCertificateServiceSupplier.*;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +47,18 @@ public class GiftCertificateServiceImplTest {
     @Mock
     private BaseCrudRepository<GiftCertificate, BaseRepository<GiftCertificate>> baseRepo;
 
+    @Mock
+    private CatalogCacheEvictor cacheEvictor;
+
+    @Mock
+    private ScrollRepository scrollRepo;
+
+    @Mock
+    private VersionRepository versionRepo;
+
+    @Mock
+    private FilterMetadataRegistry registry;
+
     @InjectMocks
     private GiftCertificateServiceImpl gcService;
 
@@ -208,6 +226,7 @@ public class GiftCertificateServiceImplTest {
         //generate response
         GiftCertificate deleted = gcService.delete(gc.getId());
         Assertions.assertEquals(gc, deleted);
+        verify(cacheEvictor).evictTagGiftCertificates();
     }
 
     @Test
@@ -244,7 +263,6 @@ public class GiftCertificateServiceImplTest {
         Page<GiftCertificate> p = new PageImpl<>(Collections.emptyList());
 
         //find all
-        when(gcRepo.findAll(ArgumentMatchers.<Specification<GiftCertificate>>any())).thenReturn(p.getContent());
         when(gcRepo.findAll(ArgumentMatchers.<Specification<GiftCertificate>>any(),
                             ArgumentMatchers.<PageRequest>any())).thenReturn(p);
 
@@ -263,7 +281,6 @@ public class GiftCertificateServiceImplTest {
         Page<GiftCertificate> p = new PageImpl<>(Collections.emptyList());
 
         //find all
-        when(gcRepo.findAll(ArgumentMatchers.<Specification<GiftCertificate>>any())).thenReturn(p.getContent());
         when(gcRepo.findAll(ArgumentMatchers.<Specification<GiftCertificate>>any(),
                 ArgumentMatchers.<PageRequest>any())).thenReturn(p);
 
@@ -286,7 +303,6 @@ public class GiftCertificateServiceImplTest {
         when(gcRepo.existsById(gc.getId())).thenReturn(true);
 
         //find tags by id
-        when(tRepo.findAll(ArgumentMatchers.<Specification<Tag>>any())).thenReturn(p.getContent());
         when(tRepo.findAll(ArgumentMatchers.<Specification<Tag>>any(),
                 ArgumentMatchers.<PageRequest>any())).thenReturn(p);
 
@@ -412,4 +428,31 @@ public class GiftCertificateServiceImplTest {
         when(gcRepo.existsById(gc.getId())).thenReturn(false);
         Assertions.assertThrows(NotFoundException.class, () -> gcService.deleteTags(gc));
     }
+
+    @Test
+    public void willFindVersion() {
+        //initial data
+        GiftCertificate gc = getProperGiftCertificate();
+        VersionStamp stamp = new VersionStamp(1L, gc.getId(), 0L, 0L, null, null);
+
+        //probe versions
+        when(versionRepo.probe(ArgumentMatchers.eq(GiftCertificate.class), ArgumentMatchers.any(),
+                               ArgumentMatchers.eq("tags"))).thenReturn(stamp);
+
+        //generate response
+        VersionStamp found = gcService.findVersion(gc.getId());
+        Assertions.assertEquals(stamp, found);
+    }
+
+    @Test
+    public void willThrowNotFoundExceptionOnFindVersionWithNotExistingGiftCertificate() {
+        //initial data
+        GiftCertificate gc = getProperGiftCertificate();
+        VersionStamp stamp = new VersionStamp(0L, null, null, 0L, null, null);
+
+        //probe versions finds nothing
+        when(versionRepo.probe(ArgumentMatchers.eq(GiftCertificate.class), ArgumentMatchers.any(),
+                               ArgumentMatchers.eq("tags"))).thenReturn(stamp);
+        Assertions.assertThrows(NotFoundException.class, () -> gcService.findVersion(gc.getId()));
+    }
 }
\ No newline at end of file
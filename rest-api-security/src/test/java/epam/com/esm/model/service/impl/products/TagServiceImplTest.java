@@ -2,14 +2,18 @@ package epam.com.esm.model.service.impl.products;
 
 import epam.com.esm.exception.types.AlreadyExistsException;
 import epam.com.esm.exception.types.NotFoundException;
+import epam.com.esm.persistence.cache.CatalogCacheEvictor;
 import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
 import epam.com.esm.persistence.entity.impl.products.Tag;
 import epam.com.esm.persistence.repository.BaseRepository;
 import epam.com.esm.persistence.repository.crud.BaseCrudRepository;
 import epam.com.esm.persistence.repository.impl.products.GiftCertificateRepository;
 import epam.com.esm.persistence.repository.impl.products.TagRepository;
+import epam.com.esm.persistence.repository.version.VersionRepository;
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
 import epam.com.esm.utils.search.transport.request.SearchParamRequest;
 import epam.com.esm.utils.search.transport.response.SearchParamResponse;
+import epam.com.esm.utils.versions.VersionStamp;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -27,6 +31,7 @@ import java.util.Optional;
 
 import static epam.com.esm.model.suppliers.service.products.TagServiceSupplier.getProperTag;
 import static epam.com.esm.model.suppliers.service.products.TagServiceSupplier.getProperTagAnotherGiftCertificates;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +46,15 @@ public class TagServiceImplTest {
     @Mock
     private BaseCrudRepository<Tag, BaseRepository<Tag>> baseRepo;
 
+    @Mock
+    private CatalogCacheEvictor cacheEvictor;
+
+    @Mock
+    private VersionRepository versionRepo;
+
+    @Mock
+    private FilterMetadataRegistry registry;
+
     @InjectMocks
     private TagServiceImpl tagService;
 
@@ -125,6 +139,7 @@ public class TagServiceImplTest {
         //generate response
         Tag deleted = tagService.delete(t.getId());
         Assertions.assertEquals(t, deleted);
+        verify(cacheEvictor).evictGiftCertificateTags();
     }
 
     @Test
@@ -161,7 +176,6 @@ public class TagServiceImplTest {
         Page<Tag> p = new PageImpl<>(Collections.emptyList());
 
         //find all certificated
-        when(tRepo.findAll(ArgumentMatchers.<Specification<Tag>>any())).thenReturn(p.getContent());
         when(tRepo.findAll(ArgumentMatchers.<Specification<Tag>>any(),
                            ArgumentMatchers.<PageRequest>any())).thenReturn(p);
 
@@ -180,7 +194,6 @@ public class TagServiceImplTest {
         Page<Tag> p = new PageImpl<>(Collections.emptyList());
 
         //find all not certificated
-        when(tRepo.findAll(ArgumentMatchers.<Specification<Tag>>any())).thenReturn(p.getContent());
         when(tRepo.findAll(ArgumentMatchers.<Specification<Tag>>any(),
                 ArgumentMatchers.<PageRequest>any())).thenReturn(p);
 
@@ -203,7 +216,6 @@ public class TagServiceImplTest {
         when(tRepo.existsById(tag.getId())).thenReturn(true);
 
         //find gift certificate by id
-        when(gcRepo.findAll(ArgumentMatchers.<Specification<GiftCertificate>>any())).thenReturn(p.getContent());
         when(gcRepo.findAll(ArgumentMatchers.<Specification<GiftCertificate>>any(),
                             ArgumentMatchers.<PageRequest>any())).thenReturn(p);
 
@@ -303,4 +315,31 @@ public class TagServiceImplTest {
         when(tRepo.existsById(t.getId())).thenReturn(false);
         Assertions.assertThrows(NotFoundException.class, () -> tagService.deleteGiftCertificates(t));
     }
+
+    @Test
+    public void willFindVersion() {
+        //initial data
+        Tag t = getProperTag();
+        VersionStamp stamp = new VersionStamp(1L, t.getId(), 0L, 0L, null, null);
+
+        //probe versions
+        when(versionRepo.probe(ArgumentMatchers.eq(Tag.class), ArgumentMatchers.any(),
+                               ArgumentMatchers.eq("giftCertificates"))).thenReturn(stamp);
+
+        //generate response
+        VersionStamp found = tagService.findVersion(t.getId());
+        Assertions.assertEquals(stamp, found);
+    }
+
+    @Test
+    public void willThrowNotFoundExceptionOnFindVersionWithNotExistingTag() {
+        //initial data
+        Tag t = getProperTag();
+        VersionStamp stamp = new VersionStamp(0L, null, null, 0L, null, null);
+
+        //probe versions finds nothing
+        when(versionRepo.probe(ArgumentMatchers.eq(Tag.class), ArgumentMatchers.any(),
+                               ArgumentMatchers.eq("giftCertificates"))).thenReturn(stamp);
+        Assertions.assertThrows(NotFoundException.class, () -> tagService.findVersion(t.getId()));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package epam.com.esm.model.service.impl.purchase;
+
+import epam.com.esm.persistence.repository.impl.purchase.PurchaseDataRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class PurchaseExpiryServiceTest {
+
+    @Mock
+    private PurchaseDataRepository pdRepo;
+
+    private PurchaseExpiryService expiryService;
+
+    @BeforeEach
+    public void init() {
+        expiryService = new PurchaseExpiryService(pdRepo, 2);
+    }
+
+    @Test
+    public void willExpireInChunks() {
+        //initial data
+        LocalDateTime initial = expiryService.getWatermark();
+
+        //expire purchases
+        when(pdRepo.expireActive(ArgumentMatchers.eq(initial), ArgumentMatchers.any(), ArgumentMatchers.eq(2)))
+                .thenReturn(2, 2, 1);
+
+        //generate response
+        expiryService.expire();
+        verify(pdRepo, times(3)).expireActive(ArgumentMatchers.eq(initial), ArgumentMatchers.any(),
+                                              ArgumentMatchers.eq(2));
+        Assertions.assertEquals(5, expiryService.getExpiredTotal());
+        Assertions.assertEquals(5, expiryService.getLastRunExpired());
+        Assertions.assertEquals(1, expiryService.getRunsTotal());
+        Assertions.assertTrue(expiryService.getWatermark().isAfter(initial));
+    }
+
+    @Test
+    public void willMoveWatermark() {
+        //first run
+        when(pdRepo.expireActive(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.eq(2)))
+                .thenReturn(0);
+        expiryService.expire();
+        LocalDateTime watermark = expiryService.getWatermark();
+
+        //second run starts from watermark
+        expiryService.expire();
+        verify(pdRepo).expireActive(ArgumentMatchers.eq(watermark), ArgumentMatchers.any(), ArgumentMatchers.eq(2));
+        Assertions.assertEquals(0, expiryService.getExpiredTotal());
+        Assertions.assertEquals(2, expiryService.getRunsTotal());
+    }
+}
@@ -0,0 +1,137 @@
+package epam.com.esm.model.service.impl.purchase;
+
+import epam.com.esm.exception.types.InputException;
+import epam.com.esm.exception.types.NotFoundException;
+import epam.com.esm.model.suppliers.service.action.OrderServiceSupplier;
+import epam.com.esm.persistence.cache.UserStatisticsCache;
+import epam.com.esm.persistence.entity.impl.action.Order;
+import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
+import epam.com.esm.persistence.repository.impl.products.GiftCertificateRepository;
+import epam.com.esm.persistence.repository.impl.purchase.PurchaseDataRepository;
+import epam.com.esm.persistence.repository.impl.user.UserRepository;
+import epam.com.esm.utils.batch.service.ObjectBatchItem;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class PurchaseServiceTest {
+
+    @Mock
+    private GiftCertificateRepository gcRepo;
+
+    @Mock
+    private UserRepository uRepo;
+
+    @Mock
+    private PurchaseDataRepository pdRepo;
+
+    @Mock
+    private UserStatisticsCache statisticsCache;
+
+    @InjectMocks
+    private PurchaseService purchaseService;
+
+    private Order order;
+
+    @BeforeEach
+    public void init() {
+        order = OrderServiceSupplier.getProperOrder();
+    }
+
+    @Test
+    public void willAssembleOrderWithSingleLookup() {
+        //initial data
+        List<GiftCertificate> stored = OrderServiceSupplier.getGiftCertificates(1L, 2L, 3L);
+        order.getGiftCertificates().add(OrderServiceSupplier.getGiftCertificates(1L).get(0));
+
+        //resolve user and gift certificates
+        when(uRepo.findByUsername(order.getUser().getUsername())).thenReturn(Optional.of(order.getUser()));
+        when(gcRepo.findAllByNameIn(ArgumentMatchers.anyCollection())).thenReturn(stored);
+
+        //generate response
+        purchaseService.assembleOrder(order);
+        verify(gcRepo, times(1)).findAllByNameIn(ArgumentMatchers.anyCollection());
+        verify(pdRepo, times(1)).batchInsert(ArgumentMatchers.argThat(pd -> pd.size() == 4));
+        Assertions.assertEquals(4, order.getGiftCertificates().size());
+        Assertions.assertSame(stored.get(0), order.getGiftCertificates().get(3));
+        Assertions.assertEquals(new BigDecimal("400.00"), order.getCost());
+        verify(statisticsCache).evict(Collections.singletonList(order.getUser().getId()));
+    }
+
+    @Test
+    public void willReportAllMissingGiftCertificates() {
+        //resolve user and gift certificates
+        when(uRepo.findByUsername(order.getUser().getUsername())).thenReturn(Optional.of(order.getUser()));
+        when(gcRepo.findAllByNameIn(ArgumentMatchers.anyCollection()))
+                .thenReturn(OrderServiceSupplier.getGiftCertificates(1L));
+
+        //generate response
+        NotFoundException e = Assertions.assertThrows(NotFoundException.class,
+                                                       () -> purchaseService.assembleOrder(order));
+        Assertions.assertTrue(e.getMessage().contains("[giftCertificate2, giftCertificate3]"));
+        verify(pdRepo, never()).batchInsert(ArgumentMatchers.anyList());
+        verify(statisticsCache, never()).evict(ArgumentMatchers.anyCollection());
+    }
+
+    @Test
+    public void willAssembleOrdersAndRejectUnresolved() {
+        //initial data
+        Order unknownGc = OrderServiceSupplier.getProperOrder();
+        unknownGc.getGiftCertificates().add(OrderServiceSupplier.getGiftCertificates(9L).get(0));
+        Order unknownUser = OrderServiceSupplier.getProperOrder();
+        unknownUser.getUser().setId(null);
+        unknownUser.getUser().setUsername("unknown");
+        List<ObjectBatchItem> items = Arrays.asList(new ObjectBatchItem(0, order), new ObjectBatchItem(1, unknownGc),
+                                                    new ObjectBatchItem(2, unknownUser),
+                                                    new ObjectBatchItem(3, "Rejected"));
+
+        //resolve users and gift certificates
+        when(uRepo.findAllByUsernameIn(Collections.singleton("unknown"))).thenReturn(Collections.emptyList());
+        when(gcRepo.findAllByNameIn(ArgumentMatchers.anyCollection()))
+                .thenReturn(OrderServiceSupplier.getGiftCertificates(1L, 2L, 3L));
+
+        //generate response
+        List<Order> assembled = purchaseService.assembleOrders(items);
+        verify(gcRepo, times(1)).findAllByNameIn(ArgumentMatchers.anyCollection());
+        verify(pdRepo, times(1)).batchInsert(ArgumentMatchers.argThat(pd -> pd.size() == 3));
+        Assertions.assertEquals(1, assembled.size());
+        Assertions.assertSame(order, assembled.get(0));
+        Assertions.assertFalse(items.get(0).isRejected());
+        Assertions.assertEquals("Gift Certificates with (names = [giftCertificate9]) not found",
+                                items.get(1).getMessage());
+        Assertions.assertEquals("User with (username = unknown) not found", items.get(2).getMessage());
+        Assertions.assertEquals("Rejected", items.get(3).getMessage());
+        verify(statisticsCache).evict(Collections.singletonList(order.getUser().getId()));
+    }
+
+    @Test
+    public void willThrowOnNullGiftCertificate() {
+        //initial data
+        Order nullGcOrder = OrderServiceSupplier.getNullGiftCertificateOrder();
+
+        //resolve user
+        when(uRepo.findByUsername(nullGcOrder.getUser().getUsername()))
+                .thenReturn(Optional.of(nullGcOrder.getUser()));
+
+        //generate response
+        Assertions.assertThrows(InputException.class, () -> purchaseService.assembleOrder(nullGcOrder));
+        verify(gcRepo, never()).findAllByNameIn(ArgumentMatchers.anyCollection());
+    }
+}
@@ -1,9 +1,11 @@
 package epam.com.esm.model.service.impl.user;
 
+import epam.com.esm.config.execution.QueryExecutor;
 import epam.com.esm.exception.types.AlreadyExistsException;
 import epam.com.esm.exception.types.InputException;
 import epam.com.esm.exception.types.NotFoundException;
 import epam.com.esm.model.service.impl.purchase.PurchaseService;
+import epam.com.esm.persistence.cache.UserStatisticsCache;
 import epam.com.esm.persistence.entity.impl.action.Order;
 import epam.com.esm.persistence.entity.impl.products.Tag;
 import epam.com.esm.persistence.entity.impl.purchase.PurchaseData;
@@ -15,6 +17,10 @@ import epam.com.esm.persistence.repository.impl.products.TagRepository;
 import epam.com.esm.persistence.repository.impl.purchase.PurchaseDataRepository;
 import epam.com.esm.persistence.repository.impl.user.RoleRepository;
 import epam.com.esm.persistence.repository.impl.user.UserRepository;
+import epam.com.esm.persistence.repository.scroll.ScrollRepository;
+import epam.com.esm.utils.batch.service.ObjectBatchItem;
+import epam.com.esm.utils.dashboard.service.ObjectUserDashboard;
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
 import epam.com.esm.utils.search.transport.request.SearchParamRequest;
 import epam.com.esm.utils.search.transport.response.SearchParamResponse;
 import epam.com.esm.utils.statistics.repository.ResultTag;
@@ -26,18 +32,25 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 import static epam.com.esm.model.suppliers.service.user.UserServiceSupplier.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -67,6 +80,18 @@ public class UserServiceImplTest {
     @Mock
     private BCryptPasswordEncoder bCryptPasswordEncoder;
 
+    @Mock
+    private UserStatisticsCache statisticsCache;
+
+    @Mock
+    private ScrollRepository scrollRepo;
+
+    @Mock
+    private QueryExecutor queryExecutor;
+
+    @Mock
+    private FilterMetadataRegistry registry;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -240,6 +265,36 @@ public class UserServiceImplTest {
         Assertions.assertEquals(u, userWithCreateOrder);
     }
 
+    @Test
+    public void willMakeOrders() {
+        //initial data
+        User u = getProperUser();
+        Order o = getOrder();
+        List<ObjectBatchItem> items = Arrays.asList(new ObjectBatchItem(0, o), new ObjectBatchItem(1, "Rejected"));
+        List<Order> assembled = Collections.singletonList(o);
+
+        //find user and assemble orders
+        when(uRepo.findById(u.getId())).thenReturn(Optional.of(u));
+        when(pService.assembleOrders(items)).thenReturn(assembled);
+
+        //generate response
+        List<ObjectBatchItem> created = userService.makeOrders(u.getId(), items);
+        verify(oRepo).batchInsert(assembled);
+        Assertions.assertEquals(u, o.getUser());
+        Assertions.assertEquals(items, created);
+    }
+
+    @Test
+    public void willThrowNotFoundExceptionWithNotExistingUserOnMakeOrders() {
+        //initial data
+        User u = getProperUser();
+        List<ObjectBatchItem> items = Collections.singletonList(new ObjectBatchItem(0, getOrder()));
+
+        //find user
+        when(uRepo.findById(u.getId())).thenReturn(Optional.empty());
+        Assertions.assertThrows(NotFoundException.class, () -> userService.makeOrders(u.getId(), items));
+    }
+
     @Test
     public void willThrowNotFoundExceptionWithNotExistingUserOnMakeOrder() {
         //initial data
@@ -265,7 +320,6 @@ public class UserServiceImplTest {
         when(uRepo.existsById(u.getId())).thenReturn(true);
 
         //find all by id
-        when(oRepo.findAll(ArgumentMatchers.<Specification<Order>>any())).thenReturn(p.getContent());
         when(oRepo.findAll(ArgumentMatchers.<Specification<Order>>any(),
                 ArgumentMatchers.<PageRequest>any())).thenReturn(p);
 
@@ -299,7 +353,6 @@ public class UserServiceImplTest {
         when(uRepo.existsById(u.getId())).thenReturn(true);
 
         //find all by id
-        when(pdRepo.findAll(ArgumentMatchers.<Specification<PurchaseData>>any())).thenReturn(p.getContent());
         when(pdRepo.findAll(ArgumentMatchers.<Specification<PurchaseData>>any(),
                 ArgumentMatchers.<PageRequest>any())).thenReturn(p);
 
@@ -333,7 +386,6 @@ public class UserServiceImplTest {
         when(uRepo.existsById(u.getId())).thenReturn(true);
 
         //find all by id
-        when(tRepo.findAll(ArgumentMatchers.<Specification<Tag>>any())).thenReturn(p.getContent());
         when(tRepo.findAll(ArgumentMatchers.<Specification<Tag>>any(),
                            ArgumentMatchers.<PageRequest>any())).thenReturn(p);
 
@@ -371,6 +423,27 @@ public class UserServiceImplTest {
         Assertions.assertEquals(expected, res);
     }
 
+    @Test
+    public void willFindCachedTagsByPopularity() {
+        //initial data
+        User u = getProperUser();
+        List<ResultTag> tags = Collections.singletonList(new ResultTag(1L, "tag1", new BigDecimal("10.00"), 2L));
+
+        //user existence check by id
+        when(uRepo.existsById(u.getId())).thenReturn(true);
+
+        //find cached tags by popularity
+        when(statisticsCache.findTags(u.getId())).thenReturn(Optional.of(tags));
+
+        //generate response
+        List<ObjectDataTag> res = userService.findTagsByPopularity(u.getId());
+        verify(uRepo, never()).findTagsByPopularityAndMaxCost(u.getId());
+        verify(tRepo, never()).findByName(ArgumentMatchers.anyString());
+        Assertions.assertEquals(1, res.size());
+        Assertions.assertEquals(1L, res.get(0).getTag().getId());
+        Assertions.assertEquals("tag1", res.get(0).getTag().getName());
+    }
+
     @Test
     public void willThrowNotFoundExceptionWithNotExistingUserOnFindTagsByPopularity() {
         //initial data
@@ -399,6 +472,29 @@ public class UserServiceImplTest {
         Assertions.assertEquals(expected, res);
     }
 
+    @Test
+    public void willFindAllTagsWithMaxCountAndCost() {
+        //initial data
+        User u = getProperUser();
+        List<ResultTag> tags = Arrays.asList(new ResultTag(1L, "tag1", new BigDecimal("10.00"), 3L),
+                                             new ResultTag(2L, "tag2", new BigDecimal("20.00"), 3L),
+                                             new ResultTag(3L, "tag3", new BigDecimal("20.0"), 3L),
+                                             new ResultTag(4L, "tag4", new BigDecimal("50.00"), 1L));
+
+        //user existence check by id
+        when(uRepo.existsById(u.getId())).thenReturn(true);
+
+        //find tags by popularity and cache them
+        when(uRepo.findTagsByPopularityAndMaxCost(u.getId())).thenReturn(tags);
+
+        //generate response
+        List<ObjectDataTag> res = userService.findTagsWithMaxCount(u.getId());
+        verify(statisticsCache).putTags(u.getId(), tags);
+        Assertions.assertEquals(2, res.size());
+        Assertions.assertEquals(2L, res.get(0).getTag().getId());
+        Assertions.assertEquals(3L, res.get(1).getTag().getId());
+    }
+
     @Test
     public void willThrowNotFoundExceptionWithNotExistingUserOnFindTagsByMaxPopularity() {
         //initial data
@@ -408,4 +504,52 @@ public class UserServiceImplTest {
         when(uRepo.existsById(u.getId())).thenReturn(false);
         Assertions.assertThrows(NotFoundException.class, () -> userService.findTagsWithMaxCount(u.getId()));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void willFindDashboard() {
+        //initial data
+        User u = getProperUser();
+        SearchParamRequest spReq = new SearchParamRequest();
+        spReq.setPage(0);
+        spReq.setSize(10);
+        List<ResultTag> tags = Collections.singletonList(new ResultTag(1L, "tag1", new BigDecimal("10.00"), 2L));
+
+        //queries run on calling thread
+        when(queryExecutor.submit(ArgumentMatchers.any())).thenAnswer(runQuery());
+        when(queryExecutor.join(ArgumentMatchers.any())).thenCallRealMethod();
+
+        //find pages by id
+        when(oRepo.findAll(ArgumentMatchers.<Specification<Order>>any(),
+                           ArgumentMatchers.<PageRequest>any())).thenReturn(new PageImpl<>(Collections.emptyList()));
+        when(pdRepo.findAll(ArgumentMatchers.<Specification<PurchaseData>>any(),
+                            ArgumentMatchers.<PageRequest>any())).thenReturn(new PageImpl<>(Collections.emptyList()));
+        when(tRepo.findAll(ArgumentMatchers.<Specification<Tag>>any(),
+                           ArgumentMatchers.<PageRequest>any())).thenReturn(new PageImpl<>(Collections.emptyList()));
+
+        //find cached tags by popularity
+        when(statisticsCache.findTags(u.getId())).thenReturn(Optional.of(tags));
+
+        //generate response, user is found by caller, so user isn't queried again
+        ObjectUserDashboard res = userService.findDashboard(u.getId(), spReq, spReq, spReq);
+        verify(baseRepo, never()).findById(uRepo, u.getId());
+        verify(uRepo, never()).existsById(u.getId());
+        Assertions.assertEquals(0, res.getOrders().getFoundItems());
+        Assertions.assertEquals(0, res.getPurchases().getFoundItems());
+        Assertions.assertEquals(0, res.getTags().getFoundItems());
+        Assertions.assertEquals(1, res.getPopularTags().size());
+    }
+
+    private static Answer<CompletableFuture<Object>> runQuery() {
+        return invocation -> {
+            CompletableFuture<Object> future = new CompletableFuture<>();
+
+            try {
+                future.complete(invocation.<Supplier<?>>getArgument(0).get());
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+
+            return future;
+        };
+    }
+}
@@ -0,0 +1,97 @@
+package epam.com.esm.utils.hateoas.builder;
+
+import epam.com.esm.controller.MainController;
+import epam.com.esm.controller.products.TagController;
+import epam.com.esm.exception.types.BuildException;
+import epam.com.esm.persistence.entity.impl.products.Tag;
+import epam.com.esm.utils.hateoas.builder.components.ParamString;
+import epam.com.esm.utils.hateoas.wrappers.components.MenuDto;
+import epam.com.esm.utils.hateoas.wrappers.type.PageType;
+import epam.com.esm.utils.search.transport.response.PageDataResponse;
+import epam.com.esm.view.dto.response.impl.products.TagDtoResponse;
+import epam.com.esm.view.resources.data.Resources;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+public class LinkBuilderTest {
+
+    private LinkBuilder linkBuilder;
+
+    @BeforeEach
+    public void init() {
+        linkBuilder = new LinkBuilder();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setServerPort(8080);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    public void reset() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    public void willBuildLinksWithId() {
+        //initial data
+        Tag entity = new Tag();
+        entity.setId(7L);
+        TagDtoResponse tag = new TagDtoResponse(entity);
+
+        //generate response
+        linkBuilder.build(TagController.class, tag, tag.getId(), Resources.READ, Resources.UPDATE);
+        Assertions.assertEquals("http://localhost:8080/tags/7", tag.getRequiredLink("Tag Page").getHref());
+        Assertions.assertEquals("http://localhost:8080/tags/7/update", tag.getRequiredLink("Update Tag").getHref());
+    }
+
+    @Test
+    public void willBuildMainPageLinks() {
+        //initial data
+        MenuDto menuDto = new MenuDto();
+
+        //generate response
+        linkBuilder.build(MainController.class, menuDto, Resources.TAGS_ALL, Resources.MAIN);
+        Assertions.assertEquals("http://localhost:8080/tags/all", menuDto.getRequiredLink("All Tags").getHref());
+        Assertions.assertEquals("http://localhost:8080/", menuDto.getRequiredLink("Main Page").getHref());
+    }
+
+    @Test
+    public void willBuildPages() {
+        //initial data
+        PageDataResponse<TagDtoResponse> pdr = new PageDataResponse<>();
+        Map<PageType, String> pages = new EnumMap<>(PageType.class);
+        pages.put(PageType.CURRENT, "?page=2");
+        pages.put(PageType.NEXT, "?page=3");
+
+        //generate response
+        linkBuilder.buildPages(TagController.class, pdr, pages, Resources.FIND_ALL);
+        Assertions.assertEquals("http://localhost:8080/tags/all?page=2",
+                                pdr.getPaginationMenu().getRequiredLink("Current Page").getHref());
+        Assertions.assertEquals("http://localhost:8080/tags/all?page=3",
+                                pdr.getPaginationMenu().getRequiredLink("Next Page").getHref());
+        Assertions.assertFalse(pdr.getPaginationMenu().getLink("Previous Page").isPresent());
+    }
+
+    @Test
+    public void willCompileNotRegisteredResource() {
+        //initial data
+        TagDtoResponse tag = new TagDtoResponse(new Tag());
+
+        //generate response
+        linkBuilder.build(TagController.class, tag, 1L, new ParamString("/{id}/custom", "Custom ", ""));
+        Assertions.assertEquals("http://localhost:8080/tags/1/custom", tag.getRequiredLink("Custom Tag").getHref());
+    }
+
+    @Test
+    public void willThrowBuildExceptionWithNullModel() {
+        Assertions.assertThrows(BuildException.class,
+                                () -> linkBuilder.build(TagController.class, null, Resources.READ));
+    }
+}
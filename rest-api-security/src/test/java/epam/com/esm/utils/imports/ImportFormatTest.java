@@ -0,0 +1,104 @@
+package epam.com.esm.utils.imports;
+
+import epam.com.esm.exception.types.IncorrectUrlParameterException;
+import epam.com.esm.exception.types.InputException;
+import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
+import epam.com.esm.persistence.entity.impl.products.Tag;
+import epam.com.esm.utils.imports.readers.AbstractRowReader;
+import epam.com.esm.view.dto.request.impl.products.GiftCertificateDtoRequest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class ImportFormatTest {
+
+    @Test
+    public void willReadCsvWithQuotedValues() throws IOException {
+        //initial data
+        String csv = "Name,description,price,duration,tags\r\n" +
+                     "\"gift, \"\"new\"\"\",\"two\r\nlines\",10.50,30,spa;food\r\n" +
+                     "\r\n" +
+                     "gift,desc,ten,30,\r\n" +
+                     "gift,desc,10\r\n";
+
+        //generate response
+        List<ImportLine> lines = read(ImportFormat.CSV, csv);
+        Assertions.assertEquals(3, lines.size());
+        GiftCertificate gc = lines.get(0).getGiftCertificate();
+        Assertions.assertEquals(2, lines.get(0).getLine());
+        Assertions.assertEquals("gift, \"new\"", gc.getName());
+        Assertions.assertEquals("two\nlines", gc.getDescription());
+        Assertions.assertEquals(new BigDecimal("10.50"), gc.getPrice());
+        Assertions.assertEquals(30, gc.getDuration());
+        Assertions.assertEquals("[spa, food]", gc.getTags().stream().map(Tag::getName)
+                                                 .collect(Collectors.toList()).toString());
+        Assertions.assertEquals(5, lines.get(1).getLine());
+        Assertions.assertTrue(lines.get(1).isRejected());
+        Assertions.assertEquals(6, lines.get(2).getLine());
+        Assertions.assertTrue(lines.get(2).isRejected());
+    }
+
+    @Test
+    public void willReadNdjson() throws IOException {
+        //initial data
+        String ndjson = "{\"name\":\"gift\",\"price\":10.50,\"duration\":30,\"tags\":[{\"name\":\"spa\"}]}\n" +
+                        "\n" +
+                        "{\"name\":\n" +
+                        "null\n";
+
+        //generate response
+        List<ImportLine> lines = read(ImportFormat.NDJSON, ndjson);
+        Assertions.assertEquals(3, lines.size());
+        Assertions.assertEquals("gift", lines.get(0).getGiftCertificate().getName());
+        Assertions.assertEquals("spa", lines.get(0).getGiftCertificate().getTags().get(0).getName());
+        Assertions.assertEquals(3, lines.get(1).getLine());
+        Assertions.assertTrue(lines.get(1).isRejected());
+        Assertions.assertEquals(4, lines.get(2).getLine());
+        Assertions.assertTrue(lines.get(2).isRejected());
+    }
+
+    @Test
+    public void willThrowOnUnknownFormatOrHeader() {
+        Assertions.assertEquals(ImportFormat.CSV, ImportFormat.of("CSV"));
+        Assertions.assertEquals(ImportMode.ALL, ImportMode.of("all"));
+        Assertions.assertThrows(IncorrectUrlParameterException.class, () -> ImportFormat.of("xml"));
+        Assertions.assertThrows(IncorrectUrlParameterException.class, () -> ImportMode.of("none"));
+        Assertions.assertThrows(InputException.class, () -> read(ImportFormat.CSV, "name,price,duration\n"));
+    }
+
+    private static List<ImportLine> read(ImportFormat format, String content) throws IOException {
+        List<ImportLine> lines = new ArrayList<>();
+
+        try (AbstractRowReader reader = format.open(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)),
+                                                    ImportFormatTest::convert)) {
+            reader.forEachRemaining(lines::add);
+        }
+
+        return lines;
+    }
+
+    private static GiftCertificate convert(GiftCertificateDtoRequest dto) {
+        GiftCertificate gc = new GiftCertificate();
+        gc.setName(dto.getName());
+        gc.setDescription(dto.getDescription());
+        gc.setPrice(dto.getPrice());
+        gc.setDuration(dto.getDuration());
+
+        if (dto.getTags() != null) {
+            gc.setTags(dto.getTags().stream().map(t -> {
+                Tag tag = new Tag();
+                tag.setName(t.getName());
+                return tag;
+            }).collect(Collectors.toList()));
+        }
+
+        return gc;
+    }
+}
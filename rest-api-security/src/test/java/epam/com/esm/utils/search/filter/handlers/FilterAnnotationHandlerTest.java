@@ -0,0 +1,130 @@
+package epam.com.esm.utils.search.filter.handlers;
+
+import epam.com.esm.exception.types.BuildException;
+import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
+import epam.com.esm.persistence.entity.impl.products.Tag;
+import epam.com.esm.utils.search.filter.annotations.FilterObject;
+import epam.com.esm.utils.search.filter.annotations.FilterParameter;
+import epam.com.esm.utils.search.filter.annotations.FilterPrefix;
+import epam.com.esm.utils.search.filter.components.ClassDescription;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class FilterAnnotationHandlerTest {
+
+    @Test
+    public void willBuildMetadata() {
+        FilterAnnotationHandler fah = new FilterAnnotationHandler(Item.class);
+        Assertions.assertEquals("i.", fah.getPrefix());
+        Assertions.assertEquals("i.name", fah.getDictionary().get("iName"));
+        Assertions.assertEquals("l.title", fah.getDictionary().get("lTitle"));
+        Assertions.assertTrue(fah.getTextFields().contains("i.name"));
+        Assertions.assertEquals(String.class, fah.getFieldTypes().get("i.name"));
+        Assertions.assertEquals(new ClassDescription("l.", "labels"), fah.getClassMap().get(Label.class));
+    }
+
+    @Test
+    public void willRejectFieldNameNotMatchingField() {
+        Assertions.assertThrows(BuildException.class, () -> new FilterAnnotationHandler(MismatchedFieldName.class));
+    }
+
+    @Test
+    public void willRejectParameterWithoutAliases() {
+        Assertions.assertThrows(BuildException.class, () -> new FilterAnnotationHandler(MissingAliases.class));
+    }
+
+    @Test
+    public void willRejectAmbiguousAlias() {
+        Assertions.assertThrows(BuildException.class, () -> new FilterAnnotationHandler(AmbiguousAlias.class));
+    }
+
+    @Test
+    public void willRejectAliasAmbiguousWithJoinedClass() {
+        Assertions.assertThrows(BuildException.class, () -> new FilterAnnotationHandler(AmbiguousJoinedAlias.class));
+    }
+
+    @Test
+    public void willRejectObjectPathNotMatchingField() {
+        Assertions.assertThrows(BuildException.class, () -> new FilterAnnotationHandler(MismatchedObjectPath.class));
+    }
+
+    @Test
+    public void willRejectObjectWithoutPrefix() {
+        Assertions.assertThrows(BuildException.class, () -> new FilterAnnotationHandler(UnprefixedObject.class));
+    }
+
+    @Test
+    public void willRegisterFilterableEntities() {
+        FilterMetadataRegistry registry = new FilterMetadataRegistry();
+        Assertions.assertEquals("gc.", registry.get(GiftCertificate.class).getPrefix());
+        Assertions.assertEquals("t.", registry.get(Tag.class).getPrefix());
+        Assertions.assertThrows(BuildException.class, () -> registry.get(Item.class));
+    }
+
+    @FilterPrefix(prefix = "l.")
+    private static class Label {
+
+        @FilterParameter(fieldName = "title", alias = {"l.title", "lTitle"})
+        private String title;
+    }
+
+    @FilterPrefix(prefix = "i.")
+    private static class Item {
+
+        @FilterParameter(fieldName = "name", alias = {"i.name", "iName"}, fullText = true)
+        private String name;
+
+        @FilterObject(cls = Label.class, path = "labels")
+        private List<Label> labels;
+    }
+
+    @FilterPrefix(prefix = "i.")
+    private static class MismatchedFieldName {
+
+        @FilterParameter(fieldName = "title", alias = {"i.name", "iName"})
+        private String name;
+    }
+
+    @FilterPrefix(prefix = "i.")
+    private static class MissingAliases {
+
+        @FilterParameter(fieldName = "name", alias = {})
+        private String name;
+    }
+
+    @FilterPrefix(prefix = "i.")
+    private static class AmbiguousAlias {
+
+        @FilterParameter(fieldName = "name", alias = {"i.name", "name"})
+        private String name;
+
+        @FilterParameter(fieldName = "description", alias = {"i.description", "name"})
+        private String description;
+    }
+
+    @FilterPrefix(prefix = "i.")
+    private static class AmbiguousJoinedAlias {
+
+        @FilterParameter(fieldName = "name", alias = {"i.name", "lTitle"})
+        private String name;
+
+        @FilterObject(cls = Label.class, path = "labels")
+        private List<Label> labels;
+    }
+
+    @FilterPrefix(prefix = "i.")
+    private static class MismatchedObjectPath {
+
+        @FilterObject(cls = Label.class, path = "tags")
+        private List<Label> labels;
+    }
+
+    @FilterPrefix(prefix = "i.")
+    private static class UnprefixedObject {
+
+        @FilterObject(cls = String.class, path = "labels")
+        private List<String> labels;
+    }
+}
@@ -0,0 +1,108 @@
+package epam.com.esm.utils.search.request.handlers;
+
+import epam.com.esm.exception.types.IncorrectUrlParameterException;
+import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
+import epam.com.esm.persistence.entity.impl.purchase.type.Status;
+import epam.com.esm.utils.search.request.components.SeekCursor;
+import epam.com.esm.utils.search.transport.request.SearchParamRequest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+public class CursorHandlerTest {
+
+    @Test
+    public void willEncodeAndDecodeCursor() {
+        //initial data
+        GiftCertificate gc = new GiftCertificate();
+        gc.setId(5L);
+        gc.setPrice(new BigDecimal("10.50"));
+        gc.setCreate(LocalDateTime.of(2021, 6, 1, 10, 0, 30));
+
+        Assertions.assertEquals(new SeekCursor("price", "10.50", 5L),
+                                CursorHandler.decode(CursorHandler.encode(gc, "price"), "price"));
+        Assertions.assertEquals(new SeekCursor("create", "2021-06-01T10:00:30", 5L),
+                                CursorHandler.decode(CursorHandler.encode(gc, "create"), "create"));
+        Assertions.assertEquals(new SeekCursor("id", "5", 5L),
+                                CursorHandler.decode(CursorHandler.encode(gc, "id"), "id"));
+    }
+
+    @Test
+    public void willEncodeNullValueAsEmptyValue() {
+        //initial data
+        GiftCertificate gc = new GiftCertificate();
+        gc.setId(5L);
+
+        Assertions.assertEquals(new SeekCursor("name", "", 5L),
+                                CursorHandler.decode(CursorHandler.encode(gc, "name"), "name"));
+    }
+
+    @Test
+    public void willConvertSupportedTypes() {
+        Assertions.assertEquals("name:with:dividers", CursorHandler.convert("name:with:dividers", String.class));
+        Assertions.assertEquals(7L, CursorHandler.convert("7", Long.class));
+        Assertions.assertEquals(30, CursorHandler.convert("30", Integer.class));
+        Assertions.assertEquals(new BigDecimal("10.50"), CursorHandler.convert("10.50", BigDecimal.class));
+        Assertions.assertEquals(LocalDateTime.of(2021, 6, 1, 10, 0, 30),
+                                CursorHandler.convert("2021-06-01T10:00:30", LocalDateTime.class));
+        Assertions.assertEquals(Status.EXPIRED, CursorHandler.convert("EXPIRED", Status.class));
+    }
+
+    @Test
+    public void willThrowOnIncorrectValue() {
+        Assertions.assertThrows(IncorrectUrlParameterException.class,
+                                () -> CursorHandler.convert("ten", Integer.class));
+        Assertions.assertThrows(IncorrectUrlParameterException.class,
+                                () -> CursorHandler.convert("2021-13-01T10:00:00", LocalDateTime.class));
+        Assertions.assertThrows(IncorrectUrlParameterException.class,
+                                () -> CursorHandler.convert("UNKNOWN", Status.class));
+    }
+
+    @Test
+    public void willThrowOnUnsupportedType() {
+        Assertions.assertThrows(IncorrectUrlParameterException.class,
+                                () -> CursorHandler.convert("true", Boolean.class));
+    }
+
+    @Test
+    public void willRejectTamperedCursor() {
+        //initial data
+        GiftCertificate gc = new GiftCertificate();
+        gc.setId(5L);
+        gc.setPrice(new BigDecimal("10.50"));
+        String token = CursorHandler.encode(gc, "price");
+
+        Assertions.assertThrows(IncorrectUrlParameterException.class, () -> CursorHandler.decode("%%%", "price"));
+        Assertions.assertThrows(IncorrectUrlParameterException.class, () -> CursorHandler.decode(token, "name"));
+        Assertions.assertThrows(IncorrectUrlParameterException.class,
+                                () -> CursorHandler.decode(rawToken("five:price:10.50"), "price"));
+        Assertions.assertThrows(IncorrectUrlParameterException.class,
+                                () -> CursorHandler.decode(rawToken("5:price"), "price"));
+    }
+
+    @Test
+    public void willSkipOffsetOnlyInCursorMode() {
+        //initial data
+        SearchParamRequest spReq = new SearchParamRequest();
+        spReq.setPage(3);
+        spReq.setSize(10);
+
+        Assertions.assertEquals(PageRequest.of(3, 10), CursorHandler.toPageRequest(spReq));
+        Assertions.assertFalse(CursorHandler.isBackward(spReq));
+
+        spReq.setCursor(true);
+        spReq.setBefore("token");
+        Assertions.assertEquals(PageRequest.of(0, 10), CursorHandler.toPageRequest(spReq));
+        Assertions.assertTrue(CursorHandler.isBackward(spReq));
+        Assertions.assertEquals("token", CursorHandler.fetchToken(spReq));
+    }
+
+    private static String rawToken(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,57 @@
+package epam.com.esm.utils.search.request.handlers;
+
+import epam.com.esm.exception.types.IncorrectUrlParameterException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class FilterValueHandlerTest {
+
+    @Test
+    public void willConvertDateTime() {
+        Assertions.assertEquals(LocalDateTime.of(2021, 6, 1, 10, 0, 0, 500_000_000),
+                                FilterValueHandler.convert("2021-06-01T10:00:00.500", LocalDateTime.class));
+    }
+
+    @Test
+    public void willConvertDateToStartOfDay() {
+        Assertions.assertEquals(LocalDateTime.of(2021, 6, 1, 0, 0),
+                                FilterValueHandler.convert("2021-06-01", LocalDateTime.class));
+    }
+
+    @Test
+    public void willThrowOnIncorrectDate() {
+        Assertions.assertThrows(IncorrectUrlParameterException.class,
+                                () -> FilterValueHandler.convert("2021-13-01", LocalDateTime.class));
+    }
+
+    @Test
+    public void willConvertNumbers() {
+        Assertions.assertEquals(new BigDecimal("10.50"), FilterValueHandler.convert("10.50", BigDecimal.class));
+        Assertions.assertEquals(30, FilterValueHandler.convert("30", Integer.class));
+    }
+
+    @Test
+    public void willConvertBounds() {
+        Comparable<?>[] bounds = FilterValueHandler.convertBounds("10,20.5", BigDecimal.class);
+        Assertions.assertEquals(new BigDecimal("10"), bounds[0]);
+        Assertions.assertEquals(new BigDecimal("20.5"), bounds[1]);
+    }
+
+    @Test
+    public void willThrowOnIncorrectNumberOrBounds() {
+        Assertions.assertThrows(IncorrectUrlParameterException.class,
+                                () -> FilterValueHandler.convert("ten", Integer.class));
+        Assertions.assertThrows(IncorrectUrlParameterException.class,
+                                () -> FilterValueHandler.convertBounds("10", BigDecimal.class));
+    }
+
+    @Test
+    public void willThrowOnUnsupportedType() {
+        Assertions.assertFalse(FilterValueHandler.isRangeType(String.class));
+        Assertions.assertThrows(IncorrectUrlParameterException.class,
+                                () -> FilterValueHandler.convert("true", Boolean.class));
+    }
+}
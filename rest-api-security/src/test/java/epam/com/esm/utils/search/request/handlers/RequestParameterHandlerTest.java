@@ -0,0 +1,313 @@
+package epam.com.esm.utils.search.request.handlers;
+
+import epam.com.esm.persistence.entity.impl.products.GiftCertificate;
+import epam.com.esm.persistence.entity.impl.products.Tag;
+import epam.com.esm.utils.search.filter.handlers.FilterMetadataRegistry;
+import epam.com.esm.utils.search.request.components.type.Joining;
+import epam.com.esm.utils.search.transport.request.SearchParamRequest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class RequestParameterHandlerTest {
+
+    @Mock
+    private Root<GiftCertificate> root;
+
+    @Mock
+    private CriteriaBuilder cb;
+
+    @Mock
+    private Path<Long> id;
+
+    @Mock
+    private Path<BigDecimal> price;
+
+    private RequestParameterHandler rph;
+
+    private GiftCertificate boundary;
+
+    @BeforeEach
+    public void setUp() {
+        rph = new RequestParameterHandler(new FilterMetadataRegistry(), GiftCertificate.class);
+        boundary = new GiftCertificate();
+        boundary.setId(5L);
+        boundary.setPrice(new BigDecimal("10.50"));
+    }
+
+    @Test
+    public void willSeekAfterBoundaryWithTiesBrokenById() {
+        //initial data
+        SearchParamRequest spReq = cursorRequest("price");
+        spReq.setAfter(CursorHandler.encode(boundary, "price"));
+        BigDecimal value = new BigDecimal("10.50");
+        Predicate priceSeek = mock(Predicate.class);
+        Predicate priceTie = mock(Predicate.class);
+        Predicate idSeek = mock(Predicate.class);
+        Predicate tie = mock(Predicate.class);
+        Predicate seek = mock(Predicate.class);
+
+        //(price > 10.50) OR (price = 10.50 AND id > 5)
+        when(root.<Long>get("id")).thenReturn(id);
+        when(root.<BigDecimal>get("price")).thenReturn(price);
+        doReturn(BigDecimal.class).when(price).getJavaType();
+        when(cb.greaterThan(id, 5L)).thenReturn(idSeek);
+        when(cb.greaterThan(price, value)).thenReturn(priceSeek);
+        when(cb.equal(price, value)).thenReturn(priceTie);
+        when(cb.and(priceTie, idSeek)).thenReturn(tie);
+        when(cb.or(priceSeek, tie)).thenReturn(seek);
+
+        Assertions.assertSame(seek, rph.fetchSeekParams(spReq, root, cb));
+    }
+
+    @Test
+    public void willSeekBeforeBoundaryInReversedDirection() {
+        //initial data
+        SearchParamRequest spReq = cursorRequest("price");
+        spReq.setBefore(CursorHandler.encode(boundary, "price"));
+        BigDecimal value = new BigDecimal("10.50");
+        Predicate priceSeek = mock(Predicate.class);
+        Predicate priceTie = mock(Predicate.class);
+        Predicate idSeek = mock(Predicate.class);
+        Predicate tie = mock(Predicate.class);
+        Predicate seek = mock(Predicate.class);
+
+        //(price < 10.50) OR (price = 10.50 AND id < 5)
+        when(root.<Long>get("id")).thenReturn(id);
+        when(root.<BigDecimal>get("price")).thenReturn(price);
+        doReturn(BigDecimal.class).when(price).getJavaType();
+        when(cb.lessThan(id, 5L)).thenReturn(idSeek);
+        when(cb.lessThan(price, value)).thenReturn(priceSeek);
+        when(cb.equal(price, value)).thenReturn(priceTie);
+        when(cb.and(priceTie, idSeek)).thenReturn(tie);
+        when(cb.or(priceSeek, tie)).thenReturn(seek);
+
+        Assertions.assertSame(seek, rph.fetchSeekParams(spReq, root, cb));
+    }
+
+    @Test
+    public void willSeekAfterBoundaryInDescendingOrder() {
+        //initial data
+        SearchParamRequest spReq = cursorRequest("price");
+        spReq.getSortParams().put("gc.price", Collections.singletonList("desc"));
+        spReq.setAfter(CursorHandler.encode(boundary, "price"));
+        BigDecimal value = new BigDecimal("10.50");
+        Predicate priceSeek = mock(Predicate.class);
+        Predicate priceTie = mock(Predicate.class);
+        Predicate idSeek = mock(Predicate.class);
+        Predicate tie = mock(Predicate.class);
+        Predicate seek = mock(Predicate.class);
+
+        //(price < 10.50) OR (price = 10.50 AND id < 5)
+        when(root.<Long>get("id")).thenReturn(id);
+        when(root.<BigDecimal>get("price")).thenReturn(price);
+        doReturn(BigDecimal.class).when(price).getJavaType();
+        when(cb.lessThan(id, 5L)).thenReturn(idSeek);
+        when(cb.lessThan(price, value)).thenReturn(priceSeek);
+        when(cb.equal(price, value)).thenReturn(priceTie);
+        when(cb.and(priceTie, idSeek)).thenReturn(tie);
+        when(cb.or(priceSeek, tie)).thenReturn(seek);
+
+        Assertions.assertSame(seek, rph.fetchSeekParams(spReq, root, cb));
+    }
+
+    @Test
+    public void willSeekByIdOnlyWhenIdIsSeekField() {
+        //initial data
+        SearchParamRequest spReq = cursorRequest("id");
+        spReq.setAfter(CursorHandler.encode(boundary, "id"));
+        Predicate idSeek = mock(Predicate.class);
+
+        //id > 5
+        when(root.<Long>get("id")).thenReturn(id);
+        when(cb.greaterThan(id, 5L)).thenReturn(idSeek);
+
+        Assertions.assertSame(idSeek, rph.fetchSeekParams(spReq, root, cb));
+    }
+
+    @Test
+    public void willNotSeekWithoutCursor() {
+        Assertions.assertNull(rph.fetchSeekParams(cursorRequest("price"), root, cb));
+    }
+
+    @Test
+    public void willOrderBySeekFieldAndId() {
+        //initial data
+        SearchParamRequest spReq = cursorRequest("price");
+        Order byPrice = mock(Order.class);
+        Order byId = mock(Order.class);
+
+        //price ASC, id ASC
+        when(root.<Long>get("id")).thenReturn(id);
+        when(root.<BigDecimal>get("price")).thenReturn(price);
+        when(cb.asc(price)).thenReturn(byPrice);
+        when(cb.asc(id)).thenReturn(byId);
+
+        Assertions.assertEquals(Arrays.asList(byPrice, byId), rph.fetchSeekOrderBy(spReq, root, cb));
+    }
+
+    @Test
+    public void willReverseOrderForBackwardSeek() {
+        //initial data
+        SearchParamRequest spReq = cursorRequest("price");
+        spReq.setBefore(CursorHandler.encode(boundary, "price"));
+        Order byPrice = mock(Order.class);
+        Order byId = mock(Order.class);
+
+        //price DESC, id DESC
+        when(root.<Long>get("id")).thenReturn(id);
+        when(root.<BigDecimal>get("price")).thenReturn(price);
+        when(cb.desc(price)).thenReturn(byPrice);
+        when(cb.desc(id)).thenReturn(byId);
+
+        Assertions.assertEquals(Arrays.asList(byPrice, byId), rph.fetchSeekOrderBy(spReq, root, cb));
+    }
+
+    @Test
+    public void willRequireEveryTagToBeMatchedWithAndJoining() {
+        //initial data
+        SemiJoin semiJoin = new SemiJoin("food", "spa");
+        CriteriaBuilder.Case<Integer> foodCase = mockCase();
+        CriteriaBuilder.Case<Integer> spaCase = mockCase();
+        Expression<Integer> foodFlag = mockExpression();
+        Expression<Integer> spaFlag = mockExpression();
+        Expression<Integer> foodMax = mockExpression();
+        Expression<Integer> spaMax = mockExpression();
+        Predicate foodMatched = mock(Predicate.class);
+        Predicate spaMatched = mock(Predicate.class);
+
+        //id IN (SELECT s.id ... WHERE name LIKE 'food' OR name LIKE 'spa' GROUP BY s.id
+        //       HAVING MAX(CASE WHEN name LIKE 'food' THEN 1 ELSE 0 END) = 1
+        //          AND MAX(CASE WHEN name LIKE 'spa' THEN 1 ELSE 0 END) = 1)
+        when(cb.<Integer>selectCase()).thenReturn(foodCase, spaCase);
+        when(foodCase.when(semiJoin.matches.get(0), 1)).thenReturn(foodCase);
+        when(spaCase.when(semiJoin.matches.get(1), 1)).thenReturn(spaCase);
+        when(foodCase.otherwise(0)).thenReturn(foodFlag);
+        when(spaCase.otherwise(0)).thenReturn(spaFlag);
+        when(cb.max(foodFlag)).thenReturn(foodMax);
+        when(cb.max(spaFlag)).thenReturn(spaMax);
+        when(cb.equal(foodMax, 1)).thenReturn(foodMatched);
+        when(cb.equal(spaMax, 1)).thenReturn(spaMatched);
+        when(semiJoin.sq.groupBy(semiJoin.subId)).thenReturn(semiJoin.sq);
+
+        Assertions.assertSame(semiJoin.semi, semiJoin.fetch(Joining.AND));
+        verify(semiJoin.sq).having(foodMatched, spaMatched);
+    }
+
+    @Test
+    public void willRequireAnyTagToBeMatchedWithOrJoining() {
+        //initial data
+        SemiJoin semiJoin = new SemiJoin("food", "spa");
+
+        //id IN (SELECT s.id ... WHERE name LIKE 'food' OR name LIKE 'spa')
+        Assertions.assertSame(semiJoin.semi, semiJoin.fetch(Joining.OR));
+        verify(semiJoin.sq, never()).groupBy(semiJoin.subId);
+        verify(cb, never()).selectCase();
+    }
+
+    @Test
+    public void willNotGroupSingleTagWithAndJoining() {
+        //initial data
+        SemiJoin semiJoin = new SemiJoin("food");
+
+        //id IN (SELECT s.id ... WHERE name LIKE 'food')
+        Assertions.assertSame(semiJoin.semi, semiJoin.fetch(Joining.AND));
+        verify(semiJoin.sq, never()).groupBy(semiJoin.subId);
+        verify(cb, never()).selectCase();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CriteriaBuilder.Case<Integer> mockCase() {
+        return mock(CriteriaBuilder.Case.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Expression<T> mockExpression() {
+        return mock(Expression.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private class SemiJoin {
+
+        private final SearchParamRequest spReq = new SearchParamRequest();
+
+        private final CriteriaQuery<GiftCertificate> query = mock(CriteriaQuery.class);
+
+        private final Subquery<Long> sq = mock(Subquery.class);
+
+        private final Root<GiftCertificate> sub = mock(Root.class);
+
+        private final Join<GiftCertificate, Tag> join = mock(Join.class);
+
+        private final Path<String> name = mock(Path.class);
+
+        private final Path<Long> subId = mock(Path.class);
+
+        private final Predicate semi = mock(Predicate.class);
+
+        private final List<Predicate> matches = new ArrayList<>();
+
+        private SemiJoin(String ... tags) {
+            Predicate any = mock(Predicate.class);
+            spReq.getFullParams().put("t.name", Arrays.asList(tags));
+
+            doReturn(GiftCertificate.class).when(root).getJavaType();
+            when(query.subquery(Long.class)).thenReturn(sq);
+            when(sq.from(GiftCertificate.class)).thenReturn(sub);
+            doReturn(join).when(sub).join("tags");
+            doReturn(name).when(join).get("name");
+            doReturn(String.class).when(name).getJavaType();
+            doReturn(name).when(name).as(String.class);
+            doReturn(subId).when(sub).get("id");
+            when(root.<Long>get("id")).thenReturn(id);
+            when(id.in(sq)).thenReturn(semi);
+
+            for (String tag : tags) {
+                Predicate match = mock(Predicate.class);
+                when(cb.like(name, tag)).thenReturn(match);
+                matches.add(match);
+            }
+
+            when(cb.or(matches.toArray(new Predicate[0]))).thenReturn(any);
+            when(sq.select(subId)).thenReturn(sq);
+            when(sq.where(any)).thenReturn(sq);
+        }
+
+        private Predicate fetch(Joining joining) {
+            return rph.fetchJoinParams(spReq, root, query, cb, Tag.class, joining);
+        }
+    }
+
+    private static SearchParamRequest cursorRequest(String seekField) {
+        SearchParamRequest spReq = new SearchParamRequest();
+        spReq.setSize(10);
+        spReq.setCursor(true);
+        spReq.setSeekField(seekField);
+        return spReq;
+    }
+}
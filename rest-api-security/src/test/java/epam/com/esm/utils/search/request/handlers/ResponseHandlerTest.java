@@ -0,0 +1,153 @@
+package epam.com.esm.utils.search.request.handlers;
+
+import epam.com.esm.exception.types.IncorrectUrlParameterException;
+import epam.com.esm.persistence.entity.impl.products.Tag;
+import epam.com.esm.utils.hateoas.wrappers.type.PageType;
+import epam.com.esm.utils.search.request.components.type.Joining;
+import epam.com.esm.utils.search.transport.request.SearchParamRequest;
+import epam.com.esm.utils.search.transport.response.SearchParamResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class ResponseHandlerTest {
+
+    @Test
+    public void willCountPagesInOffsetMode() {
+        //initial data
+        SearchParamRequest spReq = new SearchParamRequest();
+        spReq.setPage(1);
+        spReq.setSize(10);
+
+        SearchParamResponse<Tag> spResp = ResponseHandler.initResponse(spReq, 25, tags(11L, 12L));
+        Assertions.assertEquals(25, spResp.getFoundItems());
+        Assertions.assertEquals(2, spResp.getCurrentPage());
+        Assertions.assertEquals(3, spResp.getTotalPages());
+        Assertions.assertTrue(spResp.getPages().containsKey(PageType.PREV));
+        Assertions.assertTrue(spResp.getPages().containsKey(PageType.NEXT));
+    }
+
+    @Test
+    public void willThrowOnPageOutOfRangeInOffsetMode() {
+        //initial data
+        SearchParamRequest spReq = new SearchParamRequest();
+        spReq.setPage(5);
+        spReq.setSize(10);
+
+        Assertions.assertThrows(IncorrectUrlParameterException.class,
+                                () -> ResponseHandler.initResponse(spReq, 25, tags(1L)));
+    }
+
+    @Test
+    public void willReverseBackwardPage() {
+        //initial data
+        SearchParamRequest spReq = cursorRequest();
+        spReq.setBefore(CursorHandler.encode(tags(4L).get(0), "id"));
+
+        SearchParamResponse<Tag> spResp = ResponseHandler.initResponse(spReq, tags(3L, 2L, 1L), true);
+        Assertions.assertEquals(tags(1L, 2L, 3L), spResp.getItems());
+        Assertions.assertEquals(ResponseHandler.NOT_COUNTED, spResp.getFoundItems());
+        Assertions.assertTrue(spResp.getPages().get(PageType.PREV)
+                                    .contains("before=" + CursorHandler.encode(tags(1L).get(0), "id")));
+        Assertions.assertTrue(spResp.getPages().get(PageType.NEXT)
+                                    .contains("after=" + CursorHandler.encode(tags(3L).get(0), "id")));
+    }
+
+    @Test
+    public void willNotLinkPreviousPageOnFirstBackwardPage() {
+        //initial data
+        SearchParamRequest spReq = cursorRequest();
+        spReq.setBefore(CursorHandler.encode(tags(4L).get(0), "id"));
+
+        SearchParamResponse<Tag> spResp = ResponseHandler.initResponse(spReq, tags(3L, 2L, 1L), false);
+        Assertions.assertEquals(tags(1L, 2L, 3L), spResp.getItems());
+        Assertions.assertFalse(spResp.getPages().containsKey(PageType.PREV));
+        Assertions.assertTrue(spResp.getPages().containsKey(PageType.NEXT));
+    }
+
+    @Test
+    public void willLinkNextPageByLookAheadInCursorMode() {
+        //initial data
+        SearchParamRequest spReq = cursorRequest();
+
+        SearchParamResponse<Tag> spResp = ResponseHandler.initResponse(spReq, tags(1L, 2L, 3L), true);
+        Assertions.assertEquals(tags(1L, 2L, 3L), spResp.getItems());
+        Assertions.assertEquals(2, spResp.getTotalPages());
+        Assertions.assertFalse(spResp.getPages().containsKey(PageType.PREV));
+        Assertions.assertTrue(spResp.getPages().get(PageType.NEXT)
+                                    .contains("after=" + CursorHandler.encode(tags(3L).get(0), "id")));
+    }
+
+    @Test
+    public void willNotLinkNextPageOnLastForwardPage() {
+        //initial data
+        SearchParamRequest spReq = cursorRequest();
+        spReq.setPage(4);
+        spReq.setAfter(CursorHandler.encode(tags(3L).get(0), "id"));
+
+        SearchParamResponse<Tag> spResp = ResponseHandler.initResponse(spReq, tags(4L), false);
+        Assertions.assertEquals(5, spResp.getCurrentPage());
+        Assertions.assertEquals(5, spResp.getTotalPages());
+        Assertions.assertTrue(spResp.getPages().containsKey(PageType.PREV));
+        Assertions.assertFalse(spResp.getPages().containsKey(PageType.NEXT));
+    }
+
+    @Test
+    public void willNotLinkPagesOnEmptyCursorPage() {
+        //initial data
+        SearchParamRequest spReq = cursorRequest();
+        spReq.setAfter(CursorHandler.encode(tags(3L).get(0), "id"));
+
+        SearchParamResponse<Tag> spResp = ResponseHandler.initResponse(spReq, Collections.emptyList(), false);
+        Assertions.assertFalse(spResp.getPages().containsKey(PageType.PREV));
+        Assertions.assertTrue(spResp.getPages().containsKey(PageType.CURRENT));
+        Assertions.assertFalse(spResp.getPages().containsKey(PageType.NEXT));
+    }
+
+    @Test
+    public void willKeepAnyJoiningInPageLinks() {
+        //initial data
+        SearchParamRequest spReq = new SearchParamRequest();
+        spReq.setPage(1);
+        spReq.setSize(10);
+        spReq.getFullParams().put("t.name", Arrays.asList("food", "spa"));
+        spReq.setJoining(Joining.OR);
+
+        SearchParamResponse<Tag> spResp = ResponseHandler.initResponse(spReq, 25, tags(11L, 12L));
+        Assertions.assertTrue(spResp.getPages().get(PageType.PREV).contains("join=any&"));
+        Assertions.assertTrue(spResp.getPages().get(PageType.NEXT).contains("join=any&"));
+        Assertions.assertTrue(spResp.getPages().get(PageType.NEXT).contains("f:t.name=food&f:t.name=spa&"));
+    }
+
+    @Test
+    public void willNotLinkDefaultJoining() {
+        //initial data
+        SearchParamRequest spReq = new SearchParamRequest();
+        spReq.setPage(1);
+        spReq.setSize(10);
+        spReq.getFullParams().put("t.name", Arrays.asList("food", "spa"));
+
+        SearchParamResponse<Tag> spResp = ResponseHandler.initResponse(spReq, 25, tags(11L, 12L));
+        Assertions.assertFalse(spResp.getPages().get(PageType.NEXT).contains("join="));
+    }
+
+    private static SearchParamRequest cursorRequest() {
+        SearchParamRequest spReq = new SearchParamRequest();
+        spReq.setSize(3);
+        spReq.setCursor(true);
+        spReq.setSeekField("id");
+        return spReq;
+    }
+
+    private static List<Tag> tags(Long ... ids) {
+        return Arrays.stream(ids).map(id -> {
+            Tag t = new Tag();
+            t.setId(id);
+            return t;
+        }).collect(Collectors.toList());
+    }
+}
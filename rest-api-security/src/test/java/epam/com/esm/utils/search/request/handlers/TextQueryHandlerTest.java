@@ -0,0 +1,29 @@
+package epam.com.esm.utils.search.request.handlers;
+
+import epam.com.esm.exception.types.IncorrectUrlParameterException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TextQueryHandlerTest {
+
+    @Test
+    public void willBuildRequiredPrefixTerms() {
+        Assertions.assertEquals("+gift* +card*", TextQueryHandler.toBooleanQuery("Gift card"));
+    }
+
+    @Test
+    public void willStripQueryOperators() {
+        Assertions.assertEquals("+spa* +day* +2*", TextQueryHandler.toBooleanQuery("-spa +\"day\"* (2)"));
+    }
+
+    @Test
+    public void willThrowOnValueWithoutWords() {
+        Assertions.assertThrows(IncorrectUrlParameterException.class, () -> TextQueryHandler.toBooleanQuery("*-+"));
+    }
+
+    @Test
+    public void willThrowOnTooManyWords() {
+        Assertions.assertThrows(IncorrectUrlParameterException.class,
+                                () -> TextQueryHandler.toBooleanQuery("a b c d e f g h i j k l m n o p q"));
+    }
+}